@@ -0,0 +1,82 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.api.kafka.model.status;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+import io.strimzi.api.kafka.model.Constants;
+import io.strimzi.api.kafka.model.UnknownPropertyPreserving;
+import io.strimzi.crdgenerator.annotations.Description;
+import io.sundr.builder.annotations.Buildable;
+import lombok.EqualsAndHashCode;
+import lombok.ToString;
+
+import java.io.Serializable;
+import java.util.HashMap;
+import java.util.Map;
+
+import static java.util.Collections.emptyMap;
+
+/**
+ * Represents the throughput and lag of the tasks of a connector, as collected from the metrics of the Connect workers
+ */
+@Buildable(
+        editableEnabled = false,
+        builderPackage = Constants.FABRIC8_KUBERNETES_API
+)
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@JsonPropertyOrder({ "tasks", "recordsPerSecond", "lag" })
+@EqualsAndHashCode
+@ToString
+public class KafkaConnectorMetricsStatus implements UnknownPropertyPreserving, Serializable {
+    private static final long serialVersionUID = 1L;
+
+    private Integer tasks;
+    private Long recordsPerSecond;
+    private Long lag;
+    private Map<String, Object> additionalProperties;
+
+    @Description("The number of tasks of the connector which reported metrics.")
+    public Integer getTasks() {
+        return tasks;
+    }
+
+    public void setTasks(Integer tasks) {
+        this.tasks = tasks;
+    }
+
+    @Description("The number of records per second which the tasks of the connector wrote to Kafka (source connectors) " +
+            "or sent to the sink (sink connectors), averaged since the metrics were last collected")
+    public Long getRecordsPerSecond() {
+        return recordsPerSecond;
+    }
+
+    public void setRecordsPerSecond(Long recordsPerSecond) {
+        this.recordsPerSecond = recordsPerSecond;
+    }
+
+    @Description("The number of records which the tasks of the connector polled but did not write to Kafka yet " +
+            "(source connectors) or the consumer lag of the tasks of the connector (sink connectors)")
+    public Long getLag() {
+        return lag;
+    }
+
+    public void setLag(Long lag) {
+        this.lag = lag;
+    }
+
+    @Override
+    public Map<String, Object> getAdditionalProperties() {
+        return this.additionalProperties != null ? this.additionalProperties : emptyMap();
+    }
+
+    @Override
+    public void setAdditionalProperty(String name, Object value) {
+        if (this.additionalProperties == null) {
+            this.additionalProperties = new HashMap<>();
+        }
+        this.additionalProperties.put(name, value);
+    }
+}
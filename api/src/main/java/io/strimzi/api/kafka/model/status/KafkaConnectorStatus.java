@@ -22,13 +22,15 @@ import java.util.Map;
         builderPackage = Constants.FABRIC8_KUBERNETES_API
 )
 @JsonInclude(JsonInclude.Include.NON_NULL)
-@JsonPropertyOrder({ "conditions", "observedGeneration", "url" })
+@JsonPropertyOrder({ "conditions", "observedGeneration", "url", "connectorStatus", "configHash", "metrics" })
 @EqualsAndHashCode
 @ToString(callSuper = true)
 public class KafkaConnectorStatus extends Status {
     private static final long serialVersionUID = 1L;
 
     private Map<String, Object> connectorStatus;
+    private String configHash;
+    private KafkaConnectorMetricsStatus metrics;
 
     @JsonInclude(JsonInclude.Include.NON_NULL)
     @Description("The connector status, as reported by the Kafka Connect REST API.")
@@ -39,4 +41,24 @@ public class KafkaConnectorStatus extends Status {
     public void setConnectorStatus(Map<String, Object> connectorStatus) {
         this.connectorStatus = connectorStatus;
     }
+
+    @Description("A digest of the connector configuration which was last applied through the Kafka Connect REST API, " +
+            "used by the operator to skip reading the configuration of connectors which didn't change")
+    public String getConfigHash() {
+        return configHash;
+    }
+
+    public void setConfigHash(String configHash) {
+        this.configHash = configHash;
+    }
+
+    @Description("The throughput and lag of the tasks of the connector, as collected from the metrics of the " +
+            "Kafka Connect workers when the Cluster Operator is configured to collect them")
+    public KafkaConnectorMetricsStatus getMetrics() {
+        return metrics;
+    }
+
+    public void setMetrics(KafkaConnectorMetricsStatus metrics) {
+        this.metrics = metrics;
+    }
 }
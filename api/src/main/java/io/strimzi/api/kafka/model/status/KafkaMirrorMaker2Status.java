@@ -32,6 +32,7 @@ public class KafkaMirrorMaker2Status extends KafkaConnectStatus {
     private static final long serialVersionUID = 1L;
 
     private List<Map<String, Object>> connectors = new ArrayList<>();
+    private List<KafkaMirrorMaker2MirrorStatus> mirrors = new ArrayList<>();
 
     @Description("List of MirrorMaker 2.0 connector statuses, as reported by the Kafka Connect REST API.")
     @JsonInclude(JsonInclude.Include.NON_EMPTY)
@@ -41,5 +42,15 @@ public class KafkaMirrorMaker2Status extends KafkaConnectStatus {
 
     public void setConnectors(List<Map<String, Object>> connectors) {
         this.connectors = connectors;
-    } 
-}
\ No newline at end of file
+    }
+
+    @Description("List of the statuses of the mirrors, with the result of the last reconciliation of their connectors.")
+    @JsonInclude(JsonInclude.Include.NON_EMPTY)
+    public List<KafkaMirrorMaker2MirrorStatus> getMirrors() {
+        return mirrors;
+    }
+
+    public void setMirrors(List<KafkaMirrorMaker2MirrorStatus> mirrors) {
+        this.mirrors = mirrors;
+    }
+}
@@ -20,7 +20,7 @@ import lombok.ToString;
         builderPackage = Constants.FABRIC8_KUBERNETES_API
 )
 @JsonInclude(JsonInclude.Include.NON_NULL)
-@JsonPropertyOrder({ "conditions", "observedGeneration", "username", "secret" })
+@JsonPropertyOrder({ "conditions", "observedGeneration", "username", "secret", "fingerprint" })
 @EqualsAndHashCode
 @ToString(callSuper = true)
 public class KafkaUserStatus extends Status {
@@ -28,6 +28,7 @@ public class KafkaUserStatus extends Status {
 
     private String username;
     private String secret;
+    private String fingerprint;
 
     @Description("Username")
     public String getUsername() {
@@ -46,4 +47,14 @@ public class KafkaUserStatus extends Status {
     public void setSecret(String secret) {
         this.secret = secret;
     }
+
+    @Description("A digest of the inputs of the last successful reconciliation, used by the operator to skip " +
+            "reconciliations which wouldn't change anything")
+    public String getFingerprint() {
+        return fingerprint;
+    }
+
+    public void setFingerprint(String fingerprint) {
+        this.fingerprint = fingerprint;
+    }
 }
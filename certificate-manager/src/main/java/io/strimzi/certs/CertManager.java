@@ -43,6 +43,27 @@ public interface CertManager {
      */
     void renewSelfSignedCert(File keyFile, File certFile, Subject sbj, int days) throws IOException;
 
+    /**
+     * Generate a self-signed certificate, in memory
+     *
+     * @param sbj subject information
+     * @param days certificate duration
+     * @return the new private key and the self signed certificate, in PEM format
+     * @throws IOException If the key or the certificate could not be generated.
+     */
+    CertAndKey generateSelfSignedCert(Subject sbj, int days) throws IOException;
+
+    /**
+     * Renew a self-signed certificate, in memory, keeping the existing private key
+     *
+     * @param key the existing private key, in PEM format
+     * @param sbj subject information
+     * @param days certificate duration
+     * @return the new self signed certificate, in PEM format
+     * @throws IOException If the key could not be read or the certificate could not be generated.
+     */
+    byte[] renewSelfSignedCert(byte[] key, Subject sbj, int days) throws IOException;
+
     /**
      * Add the provided certificate to the truststore which is created if it doesn't exist
      *
@@ -58,6 +79,18 @@ public interface CertManager {
     void addCertToTrustStore(File certFile, String certAlias, File trustStoreFile, String trustStorePassword)
             throws IOException, CertificateException, KeyStoreException, NoSuchAlgorithmException;
 
+    /**
+     * Add the provided certificate to the truststore, in memory
+     *
+     * @param cert the certificate to store, in PEM format
+     * @param certAlias certificate alias in the store
+     * @param trustStore the truststore, or null or empty to create a new one
+     * @param trustStorePassword password for protecting the truststore
+     * @return the truststore with the certificate
+     * @throws IOException If the certificate or the truststore could not be read/written.
+     */
+    byte[] addCertToTrustStore(byte[] cert, String certAlias, byte[] trustStore, String trustStorePassword) throws IOException;
+
     /**
      * Add the provided key and certificate to the keystore which is created if it doesn't exist
      *
@@ -70,6 +103,18 @@ public interface CertManager {
      */
     void addKeyAndCertToKeyStore(File keyFile, File certFile, String alias, File keyStoreFile, String keyStorePassword) throws IOException;
 
+    /**
+     * Create a keystore with the provided key and certificate, in memory
+     *
+     * @param key the private key, in PEM format
+     * @param cert the certificate, in PEM format
+     * @param alias key and certificate alias in the keystore
+     * @param keyStorePassword password for protecting the keystore
+     * @return the keystore
+     * @throws IOException If the key, the certificate or the keystore could not be read/written.
+     */
+    byte[] addKeyAndCertToKeyStore(byte[] key, byte[] cert, String alias, String keyStorePassword) throws IOException;
+
     /**
      * Remove entries with provided aliases from the truststore
      *
@@ -84,6 +129,17 @@ public interface CertManager {
     void deleteFromTrustStore(List<String> aliases, File trustStoreFile, String trustStorePassword)
             throws IOException, CertificateException, KeyStoreException, NoSuchAlgorithmException;
 
+    /**
+     * Remove entries with provided aliases from the truststore, in memory
+     *
+     * @param aliases aliases to remove
+     * @param trustStore the truststore
+     * @param trustStorePassword password for protecting the truststore
+     * @return the truststore without the entries
+     * @throws IOException If the truststore could not be read/written.
+     */
+    byte[] deleteFromTrustStore(List<String> aliases, byte[] trustStore, String trustStorePassword) throws IOException;
+
     /**
      * Generate a certificate sign request
      *
@@ -94,6 +150,16 @@ public interface CertManager {
      */
     void generateCsr(File keyFile, File csrFile, Subject sbj) throws IOException;
 
+    /**
+     * Generate a certificate sign request for an existing private key
+     *
+     * @param keyFile path to the file containing the existing private key
+     * @param csrFile path to the file which will contain the certificate sign request
+     * @param sbj subject information
+     * @throws IOException If an input or output file could not be read/written.
+     */
+    void generateCsrForKey(File keyFile, File csrFile, Subject sbj) throws IOException;
+
     /**
      * Generate a certificate signed by a Certificate Authority
      *
@@ -143,4 +209,29 @@ public interface CertManager {
      * @throws IOException If an input or output file could not be read/written.
      */
     void generateCert(File csrFile, byte[] caKey, byte[] caCert, File crtFile, Subject sbj, int days) throws IOException;
+
+    /**
+     * Generate a new private key and a certificate for it signed by a Certificate Authority, in memory
+     *
+     * @param sbj subject information
+     * @param caKey CA private key bytes
+     * @param caCert CA certificate bytes
+     * @param days certificate duration
+     * @return the new private key and the signed certificate, in PEM format
+     * @throws IOException If the key or the certificate could not be generated.
+     */
+    CertAndKey generateSignedCert(Subject sbj, byte[] caKey, byte[] caCert, int days) throws IOException;
+
+    /**
+     * Generate a certificate for an existing private key signed by a Certificate Authority, in memory
+     *
+     * @param key the existing private key, in PEM format
+     * @param sbj subject information
+     * @param caKey CA private key bytes
+     * @param caCert CA certificate bytes
+     * @param days certificate duration
+     * @return the signed certificate, in PEM format
+     * @throws IOException If the key could not be read or the certificate could not be generated.
+     */
+    byte[] generateSignedCertForKey(byte[] key, Subject sbj, byte[] caKey, byte[] caCert, int days) throws IOException;
 }
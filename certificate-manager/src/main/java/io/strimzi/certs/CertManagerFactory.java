@@ -0,0 +1,59 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.certs;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * Creates the certificates manager used by the operators.
+ */
+public class CertManagerFactory {
+    private static final Logger log = LogManager.getLogger(CertManagerFactory.class);
+
+    /**
+     * The implementations of the certificates manager.
+     */
+    public enum Type {
+        /** The {@link OpenSslCertManager}, which runs an {@code openssl} process per key, CSR and certificate. */
+        OPENSSL,
+        /** The in-process {@link JavaCertManager}. */
+        JAVA
+    }
+
+    private CertManagerFactory() {}
+
+    /**
+     * @param type The implementation of the certificates manager.
+     * @param keyPoolSize The number of pre-generated keys, or 0 to generate the keys when they are needed.
+     * @param keyAlgorithm The algorithm of the pre-generated keys.
+     * @param keySize The size in bits of the pre-generated keys.
+     * @return The certificates manager, which should be {@linkplain #close(CertManager) closed} when it is no longer used.
+     * @throws IllegalArgumentException If the key algorithm or size is not supported.
+     */
+    public static CertManager create(Type type, int keyPoolSize, String keyAlgorithm, int keySize) {
+        CertManager certManager = type == Type.JAVA ? new JavaCertManager() : new OpenSslCertManager();
+
+        if (keyPoolSize > 0) {
+            log.info("Using the {} certificate manager with a pool of {} {} {} bit keys",
+                    certManager.getClass().getSimpleName(), keyPoolSize, keyAlgorithm, keySize);
+            return new PooledKeysCertManager(certManager, new KeyPairPool(keyAlgorithm, keySize, keyPoolSize));
+        } else {
+            log.info("Using the {} certificate manager", certManager.getClass().getSimpleName());
+            return certManager;
+        }
+    }
+
+    /**
+     * Stops the background work of a certificates manager created by {@link #create(Type, int, String, int)}.
+     *
+     * @param certManager The certificates manager.
+     */
+    public static void close(CertManager certManager) {
+        if (certManager instanceof PooledKeysCertManager) {
+            ((PooledKeysCertManager) certManager).close();
+        }
+    }
+}
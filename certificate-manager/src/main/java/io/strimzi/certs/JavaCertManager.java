@@ -0,0 +1,401 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.certs;
+
+import org.bouncycastle.asn1.x500.X500Name;
+import org.bouncycastle.asn1.x500.X500NameBuilder;
+import org.bouncycastle.asn1.x500.style.BCStyle;
+import org.bouncycastle.asn1.x509.BasicConstraints;
+import org.bouncycastle.asn1.x509.Extension;
+import org.bouncycastle.asn1.x509.ExtensionsGenerator;
+import org.bouncycastle.asn1.x509.GeneralName;
+import org.bouncycastle.asn1.x509.GeneralNames;
+import org.bouncycastle.asn1.pkcs.PKCSObjectIdentifiers;
+import org.bouncycastle.cert.X509CertificateHolder;
+import org.bouncycastle.cert.X509v3CertificateBuilder;
+import org.bouncycastle.cert.jcajce.JcaX509CertificateConverter;
+import org.bouncycastle.cert.jcajce.JcaX509ExtensionUtils;
+import org.bouncycastle.cert.jcajce.JcaX509v3CertificateBuilder;
+import org.bouncycastle.jcajce.provider.asymmetric.util.EC5Util;
+import org.bouncycastle.math.ec.ECCurve;
+import org.bouncycastle.openssl.jcajce.JcaPEMKeyConverter;
+import org.bouncycastle.openssl.jcajce.JcaPEMWriter;
+import org.bouncycastle.openssl.jcajce.JcaPKCS8Generator;
+import org.bouncycastle.operator.ContentSigner;
+import org.bouncycastle.operator.OperatorCreationException;
+import org.bouncycastle.operator.jcajce.JcaContentSignerBuilder;
+import org.bouncycastle.pkcs.PKCS10CertificationRequest;
+import org.bouncycastle.pkcs.jcajce.JcaPKCS10CertificationRequestBuilder;
+import org.bouncycastle.util.IPAddress;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.security.GeneralSecurityException;
+import java.security.KeyFactory;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.KeyStore;
+import java.security.NoSuchAlgorithmException;
+import java.security.PrivateKey;
+import java.security.PublicKey;
+import java.security.SecureRandom;
+import java.security.cert.CertificateException;
+import java.security.cert.X509Certificate;
+import java.security.interfaces.ECPrivateKey;
+import java.security.interfaces.RSAPrivateCrtKey;
+import java.security.spec.ECParameterSpec;
+import java.security.spec.ECPoint;
+import java.security.spec.ECPublicKeySpec;
+import java.security.spec.RSAPublicKeySpec;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * <p>A certificates manager which works in the JVM, instead of running {@code openssl} commands like
+ * {@link OpenSslCertManager}. Keys, certificate sign requests and certificates are generated in memory and
+ * keystores are built with {@link KeyStore}, so the only file I/O is reading the inputs and writing the outputs
+ * of the {@link CertManager} methods.</p>
+ *
+ * <p>It produces the same certificates as {@link OpenSslCertManager}: 2048 bit RSA keys in PKCS#8 PEM format,
+ * SHA-256 signatures, random serial numbers and the subject alternative names of the given {@link Subject}.
+ * Self-signed certificates without subject alternative names are CA certificates.</p>
+ */
+@SuppressWarnings({"checkstyle:ClassDataAbstractionCoupling", "checkstyle:ClassFanOutComplexity"})
+public class JavaCertManager implements CertManager {
+
+    private static final int KEY_SIZE = 2048;
+    private static final int SERIAL_NUMBER_BITS = 159;
+
+    private final SecureRandom random = new SecureRandom();
+
+    public JavaCertManager() {}
+
+    @Override
+    public void generateSelfSignedCert(File keyFile, File certFile, int days) throws IOException {
+        generateSelfSignedCert(keyFile, certFile, null, days);
+    }
+
+    @Override
+    public void generateSelfSignedCert(File keyFile, File certFile, Subject sbj, int days) throws IOException {
+        KeyPair keyPair = generateKeyPair();
+        X509Certificate cert = selfSignedCert(keyPair, sbj, days);
+        Files.write(keyFile.toPath(), toPem(new JcaPKCS8Generator(keyPair.getPrivate(), null)));
+        Files.write(certFile.toPath(), toPem(cert));
+    }
+
+    @Override
+    public void renewSelfSignedCert(File keyFile, File certFile, Subject sbj, int days) throws IOException {
+        KeyPair keyPair = readKeyPair(Files.readAllBytes(keyFile.toPath()));
+        Files.write(certFile.toPath(), toPem(selfSignedCert(keyPair, sbj, days)));
+    }
+
+    @Override
+    public CertAndKey generateSelfSignedCert(Subject sbj, int days) throws IOException {
+        KeyPair keyPair = generateKeyPair();
+        return new CertAndKey(toPem(new JcaPKCS8Generator(keyPair.getPrivate(), null)), toPem(selfSignedCert(keyPair, sbj, days)));
+    }
+
+    @Override
+    public byte[] renewSelfSignedCert(byte[] key, Subject sbj, int days) throws IOException {
+        return toPem(selfSignedCert(readKeyPair(key), sbj, days));
+    }
+
+    @Override
+    public void addCertToTrustStore(File certFile, String certAlias, File trustStoreFile, String trustStorePassword) throws IOException {
+        // the truststore is created if the file is empty or doesn't exist
+        byte[] trustStore = trustStoreFile.length() > 0 ? Files.readAllBytes(trustStoreFile.toPath()) : null;
+        Files.write(trustStoreFile.toPath(), addCertToTrustStore(Files.readAllBytes(certFile.toPath()), certAlias,
+                trustStore, trustStorePassword));
+    }
+
+    @Override
+    public byte[] addCertToTrustStore(byte[] cert, String certAlias, byte[] trustStore, String trustStorePassword) throws IOException {
+        return KeyStores.addCertToTrustStore(cert, certAlias, trustStore, trustStorePassword);
+    }
+
+    @Override
+    public void addKeyAndCertToKeyStore(File keyFile, File certFile, String alias, File keyStoreFile, String keyStorePassword) throws IOException {
+        Files.write(keyStoreFile.toPath(), addKeyAndCertToKeyStore(Files.readAllBytes(keyFile.toPath()),
+                Files.readAllBytes(certFile.toPath()), alias, keyStorePassword));
+    }
+
+    @Override
+    public byte[] addKeyAndCertToKeyStore(byte[] key, byte[] cert, String alias, String keyStorePassword) throws IOException {
+        return KeyStores.keyStore(key, cert, alias, keyStorePassword);
+    }
+
+    @Override
+    public void deleteFromTrustStore(List<String> aliases, File trustStoreFile, String trustStorePassword) throws IOException {
+        Files.write(trustStoreFile.toPath(), deleteFromTrustStore(aliases, Files.readAllBytes(trustStoreFile.toPath()), trustStorePassword));
+    }
+
+    @Override
+    public byte[] deleteFromTrustStore(List<String> aliases, byte[] trustStore, String trustStorePassword) throws IOException {
+        return KeyStores.deleteFromTrustStore(aliases, trustStore, trustStorePassword);
+    }
+
+    @Override
+    public void generateCsr(File keyFile, File csrFile, Subject sbj) throws IOException {
+        KeyPair keyPair = generateKeyPair();
+        PKCS10CertificationRequest csr = csr(keyPair, sbj);
+        Files.write(keyFile.toPath(), toPem(new JcaPKCS8Generator(keyPair.getPrivate(), null)));
+        Files.write(csrFile.toPath(), toPem(csr));
+    }
+
+    @Override
+    public void generateCsrForKey(File keyFile, File csrFile, Subject sbj) throws IOException {
+        KeyPair keyPair = readKeyPair(Files.readAllBytes(keyFile.toPath()));
+        Files.write(csrFile.toPath(), toPem(csr(keyPair, sbj)));
+    }
+
+    @Override
+    public void generateCert(File csrFile, File caKey, File caCert, File crtFile, int days) throws IOException {
+        generateCert(csrFile, caKey, caCert, crtFile, null, days);
+    }
+
+    @Override
+    public void generateCert(File csrFile, File caKey, File caCert, File crtFile, Subject sbj, int days) throws IOException {
+        generateCert(csrFile, Files.readAllBytes(caKey.toPath()), Files.readAllBytes(caCert.toPath()), crtFile, sbj, days);
+    }
+
+    @Override
+    public void generateCert(File csrFile, byte[] caKey, byte[] caCert, File crtFile, int days) throws IOException {
+        generateCert(csrFile, caKey, caCert, crtFile, null, days);
+    }
+
+    @Override
+    public void generateCert(File csrFile, byte[] caKey, byte[] caCert, File crtFile, Subject sbj, int days) throws IOException {
+        PKCS10CertificationRequest csr = readCsr(Files.readAllBytes(csrFile.toPath()));
+        X509Certificate cert = signedCert(csr, KeyStores.readPrivateKey(caKey), KeyStores.readCert(caCert), sbj, days);
+        Files.write(crtFile.toPath(), toPem(cert));
+    }
+
+    @Override
+    public CertAndKey generateSignedCert(Subject sbj, byte[] caKey, byte[] caCert, int days) throws IOException {
+        KeyPair keyPair = generateKeyPair();
+        X509Certificate cert = signedCert(csr(keyPair, sbj), KeyStores.readPrivateKey(caKey), KeyStores.readCert(caCert), sbj, days);
+        return new CertAndKey(toPem(new JcaPKCS8Generator(keyPair.getPrivate(), null)), toPem(cert));
+    }
+
+    @Override
+    public byte[] generateSignedCertForKey(byte[] key, Subject sbj, byte[] caKey, byte[] caCert, int days) throws IOException {
+        X509Certificate cert = signedCert(csr(readKeyPair(key), sbj), KeyStores.readPrivateKey(caKey), KeyStores.readCert(caCert), sbj, days);
+        return toPem(cert);
+    }
+
+    private KeyPair generateKeyPair() {
+        try {
+            KeyPairGenerator generator = KeyPairGenerator.getInstance("RSA");
+            generator.initialize(KEY_SIZE, random);
+            return generator.generateKeyPair();
+        } catch (NoSuchAlgorithmException e) {
+            throw new RuntimeException("Failed to create RSA KeyPairGenerator instance", e);
+        }
+    }
+
+    private X509Certificate selfSignedCert(KeyPair keyPair, Subject sbj, int days) throws IOException {
+        X500Name name = x500Name(sbj);
+        X509v3CertificateBuilder builder = certBuilder(name, name, keyPair.getPublic(), days);
+        try {
+            JcaX509ExtensionUtils extensionUtils = new JcaX509ExtensionUtils();
+            builder.addExtension(Extension.subjectKeyIdentifier, false, extensionUtils.createSubjectKeyIdentifier(keyPair.getPublic()));
+            builder.addExtension(Extension.authorityKeyIdentifier, false, extensionUtils.createAuthorityKeyIdentifier(keyPair.getPublic()));
+            GeneralNames subjectAltNames = subjectAltNames(sbj);
+            if (subjectAltNames != null) {
+                builder.addExtension(Extension.subjectAlternativeName, false, subjectAltNames);
+            } else {
+                builder.addExtension(Extension.basicConstraints, true, new BasicConstraints(true));
+            }
+        } catch (NoSuchAlgorithmException e) {
+            throw new RuntimeException("Failed to create the key identifiers", e);
+        }
+        return sign(builder, keyPair.getPrivate());
+    }
+
+    private X509Certificate signedCert(PKCS10CertificationRequest csr, PrivateKey caKey, X509Certificate caCert, Subject sbj, int days) throws IOException {
+        try {
+            PublicKey publicKey = new JcaPEMKeyConverter().getPublicKey(csr.getSubjectPublicKeyInfo());
+            X509v3CertificateBuilder builder = certBuilder(X500Name.getInstance(caCert.getSubjectX500Principal().getEncoded()),
+                    csr.getSubject(), publicKey, days);
+            JcaX509ExtensionUtils extensionUtils = new JcaX509ExtensionUtils();
+            builder.addExtension(Extension.subjectKeyIdentifier, false, extensionUtils.createSubjectKeyIdentifier(publicKey));
+            builder.addExtension(Extension.authorityKeyIdentifier, false, extensionUtils.createAuthorityKeyIdentifier(caCert.getPublicKey()));
+            GeneralNames subjectAltNames = subjectAltNames(sbj);
+            if (subjectAltNames != null) {
+                builder.addExtension(Extension.subjectAlternativeName, false, subjectAltNames);
+            }
+            return sign(builder, caKey);
+        } catch (NoSuchAlgorithmException e) {
+            throw new RuntimeException("Failed to create the key identifiers", e);
+        }
+    }
+
+    private X509v3CertificateBuilder certBuilder(X500Name issuer, X500Name subject, PublicKey publicKey, int days) {
+        Instant notBefore = Instant.now();
+        Instant notAfter = notBefore.plus(days, ChronoUnit.DAYS);
+        return new JcaX509v3CertificateBuilder(issuer, new BigInteger(SERIAL_NUMBER_BITS, random),
+                Date.from(notBefore), Date.from(notAfter), subject, publicKey);
+    }
+
+    private PKCS10CertificationRequest csr(KeyPair keyPair, Subject sbj) throws IOException {
+        JcaPKCS10CertificationRequestBuilder builder = new JcaPKCS10CertificationRequestBuilder(x500Name(sbj), keyPair.getPublic());
+        GeneralNames subjectAltNames = subjectAltNames(sbj);
+        if (subjectAltNames != null) {
+            ExtensionsGenerator extensions = new ExtensionsGenerator();
+            extensions.addExtension(Extension.subjectAlternativeName, false, subjectAltNames);
+            builder.addAttribute(PKCSObjectIdentifiers.pkcs_9_at_extensionRequest, extensions.generate());
+        }
+        return builder.build(signer(keyPair.getPrivate()));
+    }
+
+    private X509Certificate sign(X509v3CertificateBuilder builder, PrivateKey key) throws IOException {
+        X509CertificateHolder holder = builder.build(signer(key));
+        try {
+            return new JcaX509CertificateConverter().getCertificate(holder);
+        } catch (CertificateException e) {
+            throw new IOException("Failed to sign the certificate", e);
+        }
+    }
+
+    private static ContentSigner signer(PrivateKey key) throws IOException {
+        String algorithm;
+        switch (key.getAlgorithm()) {
+            case "RSA":
+                algorithm = "SHA256withRSA";
+                break;
+            case "EC":
+                algorithm = "SHA256withECDSA";
+                break;
+            case "DSA":
+                algorithm = "SHA256withDSA";
+                break;
+            default:
+                throw new IOException("Unsupported key algorithm " + key.getAlgorithm());
+        }
+        try {
+            return new JcaContentSignerBuilder(algorithm).build(key);
+        } catch (OperatorCreationException e) {
+            throw new IOException("Failed to create a " + algorithm + " signer", e);
+        }
+    }
+
+    /**
+     * The same distinguished name as {@code openssl -subj} with {@link Subject#toString()}. Without a subject,
+     * it's the default distinguished name of the stock OpenSSL configuration, because certificates can't have an
+     * empty issuer.
+     */
+    private static X500Name x500Name(Subject sbj) {
+        X500NameBuilder builder = new X500NameBuilder(BCStyle.INSTANCE);
+        if (sbj == null) {
+            builder.addRDN(BCStyle.C, "AU");
+            builder.addRDN(BCStyle.ST, "Some-State");
+            builder.addRDN(BCStyle.O, "Internet Widgits Pty Ltd");
+        } else {
+            if (sbj.organizationName() != null) {
+                builder.addRDN(BCStyle.O, sbj.organizationName());
+            }
+            if (sbj.commonName() != null) {
+                builder.addRDN(BCStyle.CN, sbj.commonName());
+            }
+        }
+        return builder.build();
+    }
+
+    /**
+     * Converts the subject alternative names, given as in the {@code [alt_names]} section of an OpenSSL
+     * configuration file (e.g. {@code DNS.1 = example.com}), to GeneralNames.
+     *
+     * @return The GeneralNames or null if the subject has no alternative names.
+     */
+    private static GeneralNames subjectAltNames(Subject sbj) throws IOException {
+        if (sbj == null || sbj.subjectAltNames() == null || sbj.subjectAltNames().isEmpty()) {
+            return null;
+        }
+        GeneralName[] names = new GeneralName[sbj.subjectAltNames().size()];
+        int i = 0;
+        for (Map.Entry<String, String> entry : sbj.subjectAltNames().entrySet()) {
+            String type = entry.getKey().contains(".") ? entry.getKey().substring(0, entry.getKey().indexOf('.')) : entry.getKey();
+            String value = entry.getValue();
+            switch (type) {
+                case "DNS":
+                    names[i++] = new GeneralName(GeneralName.dNSName, value);
+                    break;
+                case "IP":
+                    if (!IPAddress.isValid(value)) {
+                        throw new IOException("Invalid IP address " + value + " in the subject alternative names");
+                    }
+                    names[i++] = new GeneralName(GeneralName.iPAddress, value);
+                    break;
+                case "email":
+                    names[i++] = new GeneralName(GeneralName.rfc822Name, value);
+                    break;
+                case "URI":
+                    names[i++] = new GeneralName(GeneralName.uniformResourceIdentifier, value);
+                    break;
+                default:
+                    throw new IOException("Unsupported subject alternative name type " + entry.getKey());
+            }
+        }
+        return new GeneralNames(names);
+    }
+
+    /**
+     * Reads a PEM private key and derives its public key.
+     */
+    private static KeyPair readKeyPair(byte[] pem) throws IOException {
+        PrivateKey privateKey = KeyStores.readPrivateKey(pem);
+        return new KeyPair(publicKey(privateKey), privateKey);
+    }
+
+    /**
+     * Derives the public key from a private key, because PKCS#8 private keys don't always include it.
+     * This is supported for RSA and EC keys.
+     */
+    private static PublicKey publicKey(PrivateKey privateKey) throws IOException {
+        try {
+            if (privateKey instanceof RSAPrivateCrtKey) {
+                RSAPrivateCrtKey rsaKey = (RSAPrivateCrtKey) privateKey;
+                return KeyFactory.getInstance("RSA").generatePublic(new RSAPublicKeySpec(rsaKey.getModulus(), rsaKey.getPublicExponent()));
+            } else if (privateKey instanceof ECPrivateKey) {
+                ECParameterSpec params = ((ECPrivateKey) privateKey).getParams();
+                ECCurve curve = EC5Util.convertCurve(params.getCurve());
+                ECPoint q = EC5Util.convertPoint(EC5Util.convertPoint(curve, params.getGenerator(), false)
+                        .multiply(((ECPrivateKey) privateKey).getS()));
+                return KeyFactory.getInstance("EC").generatePublic(new ECPublicKeySpec(q, params));
+            } else {
+                throw new IOException("Unsupported private key " + privateKey.getAlgorithm() + ", the public key can't be derived from it");
+            }
+        } catch (GeneralSecurityException e) {
+            throw new IOException("Failed to derive the public key", e);
+        }
+    }
+
+    private static PKCS10CertificationRequest readCsr(byte[] pem) throws IOException {
+        Object object = KeyStores.readPem(pem);
+        if (object instanceof PKCS10CertificationRequest) {
+            return (PKCS10CertificationRequest) object;
+        } else {
+            throw new IOException("No certificate sign request found in the PEM data");
+        }
+    }
+
+    private static byte[] toPem(Object object) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (Writer writer = new OutputStreamWriter(out, StandardCharsets.US_ASCII);
+             JcaPEMWriter pemWriter = new JcaPEMWriter(writer)) {
+            pemWriter.writeObject(object);
+        }
+        return out.toByteArray();
+    }
+}
@@ -0,0 +1,141 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.certs;
+
+import org.bouncycastle.asn1.pkcs.PrivateKeyInfo;
+import org.bouncycastle.openssl.PEMKeyPair;
+import org.bouncycastle.openssl.PEMParser;
+import org.bouncycastle.openssl.jcajce.JcaPEMKeyConverter;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.KeyStore;
+import java.security.PrivateKey;
+import java.security.cert.Certificate;
+import java.security.cert.CertificateException;
+import java.security.cert.CertificateFactory;
+import java.security.cert.X509Certificate;
+import java.util.List;
+
+/**
+ * Builds and updates PKCS#12 keystores and truststores in memory, from PEM keys and certificates.
+ */
+final class KeyStores {
+
+    private static final String PKCS12 = "PKCS12";
+
+    private KeyStores() {}
+
+    /**
+     * @param key The private key in PEM format.
+     * @param cert The certificate in PEM format.
+     * @param alias The alias of the key and certificate.
+     * @param password The password of the keystore.
+     * @return A new keystore with the key and certificate.
+     * @throws IOException If the key or certificate could not be read, or the keystore written.
+     */
+    static byte[] keyStore(byte[] key, byte[] cert, String alias, String password) throws IOException {
+        return keyStore(readPrivateKey(key), readCert(cert), alias, password);
+    }
+
+    static byte[] keyStore(PrivateKey key, X509Certificate cert, String alias, String password) throws IOException {
+        try {
+            KeyStore keyStore = load(null, password);
+            keyStore.setKeyEntry(alias, key, password.toCharArray(), new Certificate[] {cert});
+            return store(keyStore, password);
+        } catch (GeneralSecurityException e) {
+            throw new IOException("Failed to create the keystore", e);
+        }
+    }
+
+    /**
+     * @param cert The certificate in PEM format.
+     * @param alias The alias of the certificate.
+     * @param trustStore The truststore, or null or empty for a new truststore.
+     * @param password The password of the truststore.
+     * @return The truststore with the certificate added to it.
+     * @throws IOException If the certificate or truststore could not be read, or the truststore written.
+     */
+    static byte[] addCertToTrustStore(byte[] cert, String alias, byte[] trustStore, String password) throws IOException {
+        try {
+            KeyStore store = load(trustStore != null && trustStore.length > 0 ? trustStore : null, password);
+            store.setEntry(alias, new KeyStore.TrustedCertificateEntry(readCert(cert)), null);
+            return store(store, password);
+        } catch (GeneralSecurityException e) {
+            throw new IOException("Failed to add the certificate to the truststore", e);
+        }
+    }
+
+    /**
+     * @param aliases The aliases of the certificates to remove.
+     * @param trustStore The truststore.
+     * @param password The password of the truststore.
+     * @return The truststore without the certificates.
+     * @throws IOException If the truststore could not be read or written.
+     */
+    static byte[] deleteFromTrustStore(List<String> aliases, byte[] trustStore, String password) throws IOException {
+        try {
+            KeyStore store = load(trustStore, password);
+            for (String alias : aliases) {
+                store.deleteEntry(alias);
+            }
+            return store(store, password);
+        } catch (GeneralSecurityException e) {
+            throw new IOException("Failed to remove certificates from the truststore", e);
+        }
+    }
+
+    private static KeyStore load(byte[] bytes, String password) throws IOException, GeneralSecurityException {
+        KeyStore store = KeyStore.getInstance(PKCS12);
+        store.load(bytes != null ? new ByteArrayInputStream(bytes) : null, password.toCharArray());
+        return store;
+    }
+
+    static byte[] store(KeyStore store, String password) throws IOException {
+        try {
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            store.store(out, password.toCharArray());
+            return out.toByteArray();
+        } catch (GeneralSecurityException e) {
+            throw new IOException("Failed to write the store", e);
+        }
+    }
+
+    /**
+     * Reads a PEM private key, which can be in PKCS#8 format (as generated by {@link JavaCertManager} and OpenSSL 1.1
+     * and newer) or in the traditional OpenSSL format (e.g. {@code BEGIN RSA PRIVATE KEY}, as in some user provided CAs).
+     */
+    static PrivateKey readPrivateKey(byte[] pem) throws IOException {
+        Object object = readPem(pem);
+        JcaPEMKeyConverter converter = new JcaPEMKeyConverter();
+        if (object instanceof PEMKeyPair) {
+            return converter.getPrivateKey(((PEMKeyPair) object).getPrivateKeyInfo());
+        } else if (object instanceof PrivateKeyInfo) {
+            return converter.getPrivateKey((PrivateKeyInfo) object);
+        } else {
+            throw new IOException("No private key found in the PEM data");
+        }
+    }
+
+    static X509Certificate readCert(byte[] pem) throws IOException {
+        try {
+            return (X509Certificate) CertificateFactory.getInstance("X.509").generateCertificate(new ByteArrayInputStream(pem));
+        } catch (CertificateException e) {
+            throw new IOException("Failed to read the certificate", e);
+        }
+    }
+
+    static Object readPem(byte[] pem) throws IOException {
+        try (Reader reader = new InputStreamReader(new ByteArrayInputStream(pem), StandardCharsets.US_ASCII);
+             PEMParser parser = new PEMParser(reader)) {
+            return parser.readObject();
+        }
+    }
+}
@@ -9,7 +9,6 @@ import org.apache.logging.log4j.Logger;
 
 import java.io.BufferedWriter;
 import java.io.File;
-import java.io.FileInputStream;
 import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
@@ -19,12 +18,6 @@ import java.nio.charset.Charset;
 import java.nio.file.Files;
 import java.nio.file.Paths;
 import java.nio.file.StandardCopyOption;
-import java.security.KeyStore;
-import java.security.KeyStoreException;
-import java.security.NoSuchAlgorithmException;
-import java.security.cert.CertificateException;
-import java.security.cert.CertificateFactory;
-import java.security.cert.X509Certificate;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
@@ -85,51 +78,17 @@ public class OpenSslCertManager implements CertManager {
     }
 
     @Override
-    public void addCertToTrustStore(File certFile, String certAlias, File trustStoreFile, String trustStorePassword)
-            throws IOException, CertificateException, KeyStoreException, NoSuchAlgorithmException {
-
-        try {
-            FileInputStream isTrustStore = null;
-            try {
-                // check if the truststore file is empty or not, for loading its content eventually
-                // the KeyStore class is able to create an empty store if the input stream is null
-                if (trustStoreFile.length() > 0) {
-                    isTrustStore = new FileInputStream(trustStoreFile);
-                }
+    public void addCertToTrustStore(File certFile, String certAlias, File trustStoreFile, String trustStorePassword) throws IOException {
+        // the truststore is created if the file is empty or doesn't exist
+        byte[] trustStore = trustStoreFile.length() > 0 ? Files.readAllBytes(trustStoreFile.toPath()) : null;
+        Files.write(trustStoreFile.toPath(), addCertToTrustStore(Files.readAllBytes(certFile.toPath()), certAlias,
+                trustStore, trustStorePassword));
+    }
 
-                FileInputStream isCertificate = null;
-                try {
-                    isCertificate = new FileInputStream(certFile);
-
-                    CertificateFactory certFactory = CertificateFactory.getInstance("X.509");
-                    X509Certificate certificate = (X509Certificate) certFactory.generateCertificate(isCertificate);
-
-                    KeyStore trustStore = KeyStore.getInstance("PKCS12");
-                    trustStore.load(isTrustStore, trustStorePassword.toCharArray());
-                    trustStore.setEntry(certAlias, new KeyStore.TrustedCertificateEntry(certificate), null);
-
-                    FileOutputStream osTrustStore = null;
-                    try {
-                        osTrustStore = new FileOutputStream(trustStoreFile);
-                        trustStore.store(osTrustStore, trustStorePassword.toCharArray());
-                    } finally {
-                        if (osTrustStore != null) {
-                            osTrustStore.close();
-                        }
-                    }
-                } finally {
-                    if (isCertificate != null) {
-                        isCertificate.close();
-                    }
-                }
-            } finally {
-                if (isTrustStore != null) {
-                    isTrustStore.close();
-                }
-            }
-        } catch (IOException | CertificateException | KeyStoreException | NoSuchAlgorithmException e) {
-            throw e;
-        }
+    @Override
+    public byte[] addCertToTrustStore(byte[] cert, String certAlias, byte[] trustStore, String trustStorePassword) throws IOException {
+        // the truststore is built in memory, there's no need for a round trip through openssl
+        return KeyStores.addCertToTrustStore(cert, certAlias, trustStore, trustStorePassword);
     }
 
     @Override
@@ -143,35 +102,18 @@ public class OpenSslCertManager implements CertManager {
     }
 
     @Override
-    public void deleteFromTrustStore(List<String> aliases, File trustStoreFile, String trustStorePassword)
-            throws IOException, CertificateException, KeyStoreException, NoSuchAlgorithmException {
+    public byte[] addKeyAndCertToKeyStore(byte[] key, byte[] cert, String alias, String keyStorePassword) throws IOException {
+        return KeyStores.keyStore(key, cert, alias, keyStorePassword);
+    }
 
-        try {
-            FileInputStream isTrustStore = null;
-            try {
-                isTrustStore = new FileInputStream(trustStoreFile);
-                KeyStore trustStore = KeyStore.getInstance("PKCS12");
-                trustStore.load(isTrustStore, trustStorePassword.toCharArray());
-                for (String alias : aliases) {
-                    trustStore.deleteEntry(alias);
-                }
-                FileOutputStream osTrustStore = null;
-                try {
-                    osTrustStore = new FileOutputStream(trustStoreFile);
-                    trustStore.store(osTrustStore, trustStorePassword.toCharArray());
-                } finally {
-                    if (osTrustStore != null) {
-                        osTrustStore.close();
-                    }
-                }
-            } finally {
-                if (isTrustStore != null) {
-                    isTrustStore.close();
-                }
-            }
-        } catch (IOException | CertificateException | KeyStoreException | NoSuchAlgorithmException e) {
-            throw e;
-        }
+    @Override
+    public void deleteFromTrustStore(List<String> aliases, File trustStoreFile, String trustStorePassword) throws IOException {
+        Files.write(trustStoreFile.toPath(), deleteFromTrustStore(aliases, Files.readAllBytes(trustStoreFile.toPath()), trustStorePassword));
+    }
+
+    @Override
+    public byte[] deleteFromTrustStore(List<String> aliases, byte[] trustStore, String trustStorePassword) throws IOException {
+        return KeyStores.deleteFromTrustStore(aliases, trustStore, trustStorePassword);
     }
 
     @Override
@@ -269,6 +211,19 @@ public class OpenSslCertManager implements CertManager {
         List<String> cmd = new ArrayList<>(asList("openssl", "req", "-new", "-batch", "-nodes",
                 "-keyout", keyFile.getAbsolutePath(), "-out", csrFile.getAbsolutePath()));
 
+        generateCsr(cmd, sbj);
+    }
+
+    @Override
+    public void generateCsrForKey(File keyFile, File csrFile, Subject sbj) throws IOException {
+
+        List<String> cmd = new ArrayList<>(asList("openssl", "req", "-new", "-batch",
+                "-key", keyFile.getAbsolutePath(), "-out", csrFile.getAbsolutePath()));
+
+        generateCsr(cmd, sbj);
+    }
+
+    private void generateCsr(List<String> cmd, Subject sbj) throws IOException {
         File sna = null;
         File openSslConf = null;
         if (sbj != null) {
@@ -370,6 +325,75 @@ public class OpenSslCertManager implements CertManager {
         }
     }
 
+    /**
+     * The openssl process reads and writes files, so the in memory variants go through temporary files.
+     */
+    @Override
+    public CertAndKey generateSelfSignedCert(Subject sbj, int days) throws IOException {
+        File keyFile = File.createTempFile("tls", "-key");
+        File certFile = File.createTempFile("tls", "-cert");
+        try {
+            generateSelfSignedCert(keyFile, certFile, sbj, days);
+            return new CertAndKey(Files.readAllBytes(keyFile.toPath()), Files.readAllBytes(certFile.toPath()));
+        } finally {
+            delete(keyFile);
+            delete(certFile);
+        }
+    }
+
+    @Override
+    public byte[] renewSelfSignedCert(byte[] key, Subject sbj, int days) throws IOException {
+        File keyFile = File.createTempFile("tls", "-key");
+        File certFile = File.createTempFile("tls", "-cert");
+        try {
+            Files.write(keyFile.toPath(), key);
+            renewSelfSignedCert(keyFile, certFile, sbj, days);
+            return Files.readAllBytes(certFile.toPath());
+        } finally {
+            delete(keyFile);
+            delete(certFile);
+        }
+    }
+
+    @Override
+    public CertAndKey generateSignedCert(Subject sbj, byte[] caKey, byte[] caCert, int days) throws IOException {
+        File keyFile = File.createTempFile("tls", "-key");
+        File csrFile = File.createTempFile("tls", "-csr");
+        File certFile = File.createTempFile("tls", "-cert");
+        try {
+            generateCsr(keyFile, csrFile, sbj);
+            generateCert(csrFile, caKey, caCert, certFile, sbj, days);
+            return new CertAndKey(Files.readAllBytes(keyFile.toPath()), Files.readAllBytes(certFile.toPath()));
+        } finally {
+            delete(keyFile);
+            delete(csrFile);
+            delete(certFile);
+        }
+    }
+
+    @Override
+    public byte[] generateSignedCertForKey(byte[] key, Subject sbj, byte[] caKey, byte[] caCert, int days) throws IOException {
+        File keyFile = File.createTempFile("tls", "-key");
+        File csrFile = File.createTempFile("tls", "-csr");
+        File certFile = File.createTempFile("tls", "-cert");
+        try {
+            Files.write(keyFile.toPath(), key);
+            generateCsrForKey(keyFile, csrFile, sbj);
+            generateCert(csrFile, caKey, caCert, certFile, sbj, days);
+            return Files.readAllBytes(certFile.toPath());
+        } finally {
+            delete(keyFile);
+            delete(csrFile);
+            delete(certFile);
+        }
+    }
+
+    private static void delete(File file) {
+        if (!file.delete()) {
+            log.warn("{} cannot be deleted", file.getName());
+        }
+    }
+
     private void exec(List<String> cmd) throws IOException {
         File out = null;
 
@@ -0,0 +1,139 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.certs;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.security.KeyStoreException;
+import java.security.NoSuchAlgorithmException;
+import java.security.cert.CertificateException;
+import java.util.List;
+
+/**
+ * A certificates manager which generates certificate sign requests for keys taken from a {@link KeyPairPool},
+ * instead of generating a new key for each of them. Everything else is done by the delegate manager.
+ */
+public class PooledKeysCertManager implements CertManager, AutoCloseable {
+
+    private final CertManager delegate;
+    private final KeyPairPool pool;
+
+    /**
+     * @param delegate The certificates manager doing the work.
+     * @param pool The pool of keys.
+     */
+    public PooledKeysCertManager(CertManager delegate, KeyPairPool pool) {
+        this.delegate = delegate;
+        this.pool = pool;
+    }
+
+    @Override
+    public void generateCsr(File keyFile, File csrFile, Subject sbj) throws IOException {
+        Files.write(keyFile.toPath(), pool.takeKey());
+        delegate.generateCsrForKey(keyFile, csrFile, sbj);
+    }
+
+    @Override
+    public void generateCsrForKey(File keyFile, File csrFile, Subject sbj) throws IOException {
+        delegate.generateCsrForKey(keyFile, csrFile, sbj);
+    }
+
+    @Override
+    public void generateSelfSignedCert(File keyFile, File certFile, Subject sbj, int days) throws IOException {
+        delegate.generateSelfSignedCert(keyFile, certFile, sbj, days);
+    }
+
+    @Override
+    public void generateSelfSignedCert(File keyFile, File certFile, int days) throws IOException {
+        delegate.generateSelfSignedCert(keyFile, certFile, days);
+    }
+
+    @Override
+    public void renewSelfSignedCert(File keyFile, File certFile, Subject sbj, int days) throws IOException {
+        delegate.renewSelfSignedCert(keyFile, certFile, sbj, days);
+    }
+
+    @Override
+    public CertAndKey generateSelfSignedCert(Subject sbj, int days) throws IOException {
+        return delegate.generateSelfSignedCert(sbj, days);
+    }
+
+    @Override
+    public byte[] renewSelfSignedCert(byte[] key, Subject sbj, int days) throws IOException {
+        return delegate.renewSelfSignedCert(key, sbj, days);
+    }
+
+    @Override
+    public void addCertToTrustStore(File certFile, String certAlias, File trustStoreFile, String trustStorePassword)
+            throws IOException, CertificateException, KeyStoreException, NoSuchAlgorithmException {
+        delegate.addCertToTrustStore(certFile, certAlias, trustStoreFile, trustStorePassword);
+    }
+
+    @Override
+    public byte[] addCertToTrustStore(byte[] cert, String certAlias, byte[] trustStore, String trustStorePassword) throws IOException {
+        return delegate.addCertToTrustStore(cert, certAlias, trustStore, trustStorePassword);
+    }
+
+    @Override
+    public void addKeyAndCertToKeyStore(File keyFile, File certFile, String alias, File keyStoreFile, String keyStorePassword) throws IOException {
+        delegate.addKeyAndCertToKeyStore(keyFile, certFile, alias, keyStoreFile, keyStorePassword);
+    }
+
+    @Override
+    public byte[] addKeyAndCertToKeyStore(byte[] key, byte[] cert, String alias, String keyStorePassword) throws IOException {
+        return delegate.addKeyAndCertToKeyStore(key, cert, alias, keyStorePassword);
+    }
+
+    @Override
+    public void deleteFromTrustStore(List<String> aliases, File trustStoreFile, String trustStorePassword)
+            throws IOException, CertificateException, KeyStoreException, NoSuchAlgorithmException {
+        delegate.deleteFromTrustStore(aliases, trustStoreFile, trustStorePassword);
+    }
+
+    @Override
+    public byte[] deleteFromTrustStore(List<String> aliases, byte[] trustStore, String trustStorePassword) throws IOException {
+        return delegate.deleteFromTrustStore(aliases, trustStore, trustStorePassword);
+    }
+
+    @Override
+    public void generateCert(File csrFile, File caKey, File caCert, File crtFile, int days) throws IOException {
+        delegate.generateCert(csrFile, caKey, caCert, crtFile, days);
+    }
+
+    @Override
+    public void generateCert(File csrFile, File caKey, File caCert, File crtFile, Subject sbj, int days) throws IOException {
+        delegate.generateCert(csrFile, caKey, caCert, crtFile, sbj, days);
+    }
+
+    @Override
+    public void generateCert(File csrFile, byte[] caKey, byte[] caCert, File crtFile, int days) throws IOException {
+        delegate.generateCert(csrFile, caKey, caCert, crtFile, days);
+    }
+
+    @Override
+    public void generateCert(File csrFile, byte[] caKey, byte[] caCert, File crtFile, Subject sbj, int days) throws IOException {
+        delegate.generateCert(csrFile, caKey, caCert, crtFile, sbj, days);
+    }
+
+    @Override
+    public CertAndKey generateSignedCert(Subject sbj, byte[] caKey, byte[] caCert, int days) throws IOException {
+        byte[] key = pool.takeKey();
+        return new CertAndKey(key, delegate.generateSignedCertForKey(key, sbj, caKey, caCert, days));
+    }
+
+    @Override
+    public byte[] generateSignedCertForKey(byte[] key, Subject sbj, byte[] caKey, byte[] caCert, int days) throws IOException {
+        return delegate.generateSignedCertForKey(key, sbj, caKey, caCert, days);
+    }
+
+    /**
+     * Stops refilling the pool of keys.
+     */
+    @Override
+    public void close() {
+        pool.close();
+    }
+}
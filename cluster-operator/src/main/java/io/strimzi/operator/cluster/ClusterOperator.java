@@ -7,6 +7,7 @@ package io.strimzi.operator.cluster;
 import io.fabric8.kubernetes.client.KubernetesClient;
 import io.fabric8.kubernetes.client.Watch;
 import io.micrometer.core.instrument.MeterRegistry;
+import io.strimzi.api.kafka.model.KafkaConnector;
 import io.strimzi.operator.cluster.operator.assembly.AbstractConnectOperator;
 import io.strimzi.operator.cluster.operator.assembly.KafkaAssemblyOperator;
 import io.strimzi.operator.cluster.operator.assembly.KafkaBridgeAssemblyOperator;
@@ -16,6 +17,7 @@ import io.strimzi.operator.cluster.operator.assembly.KafkaMirrorMakerAssemblyOpe
 import io.strimzi.operator.common.AbstractOperator;
 import io.strimzi.operator.cluster.operator.assembly.KafkaMirrorMaker2AssemblyOperator;
 import io.strimzi.operator.common.MetricsProvider;
+import io.strimzi.operator.common.WorkerPools;
 import io.vertx.core.AbstractVerticle;
 import io.vertx.core.AsyncResult;
 import io.vertx.core.CompositeFuture;
@@ -29,10 +31,11 @@ import org.apache.logging.log4j.Logger;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.TimeUnit;
 
 import static java.util.Arrays.asList;
+import static java.util.Collections.singleton;
 import io.micrometer.prometheus.PrometheusMeterRegistry;
 import io.micrometer.core.instrument.binder.jvm.ClassLoaderMetrics;
 import io.micrometer.core.instrument.binder.jvm.JvmMemoryMetrics;
@@ -43,7 +46,8 @@ import io.micrometer.core.instrument.binder.jvm.JvmThreadMetrics;
 /**
  * An "operator" for managing assemblies of various types <em>in a particular namespace</em>.
  * The Cluster Operator's multiple namespace support is achieved by deploying multiple
- * {@link ClusterOperator}'s in Vertx.
+ * {@link ClusterOperator}'s in Vertx, or a single {@link ClusterOperator} for all the namespaces, which watches and
+ * lists the resources across all namespaces at once and ignores those which are not in one of its namespaces.
  */
 public class ClusterOperator extends AbstractVerticle {
 
@@ -59,6 +63,7 @@ public class ClusterOperator extends AbstractVerticle {
 
     private final KubernetesClient client;
     private final String namespace;
+    private final Set<String> namespaces;
     private final long reconciliationInterval;
 
     private final Map<String, Watch> watchByKind = new ConcurrentHashMap<>();
@@ -81,8 +86,28 @@ public class ClusterOperator extends AbstractVerticle {
                            KafkaMirrorMaker2AssemblyOperator kafkaMirrorMaker2AssemblyOperator,
                            KafkaBridgeAssemblyOperator kafkaBridgeAssemblyOperator,
                            MetricsProvider metricsProvider) {
+        this(singleton(namespace), reconciliationInterval, client, kafkaAssemblyOperator, kafkaConnectAssemblyOperator,
+                kafkaConnectS2IAssemblyOperator, kafkaMirrorMakerAssemblyOperator, kafkaMirrorMaker2AssemblyOperator,
+                kafkaBridgeAssemblyOperator, metricsProvider);
+    }
+
+    /**
+     * @param namespaces The namespaces of the operator. When there is more than one, the resources are watched and
+     *                   listed across all namespaces at once, and filtered by namespace.
+     */
+    public ClusterOperator(Set<String> namespaces,
+                           long reconciliationInterval,
+                           KubernetesClient client,
+                           KafkaAssemblyOperator kafkaAssemblyOperator,
+                           KafkaConnectAssemblyOperator kafkaConnectAssemblyOperator,
+                           KafkaConnectS2IAssemblyOperator kafkaConnectS2IAssemblyOperator,
+                           KafkaMirrorMakerAssemblyOperator kafkaMirrorMakerAssemblyOperator,
+                           KafkaMirrorMaker2AssemblyOperator kafkaMirrorMaker2AssemblyOperator,
+                           KafkaBridgeAssemblyOperator kafkaBridgeAssemblyOperator,
+                           MetricsProvider metricsProvider) {
+        this.namespace = String.join(",", namespaces);
+        this.namespaces = namespaces.size() > 1 ? namespaces : null;
         log.info("Creating ClusterOperator for namespace {}", namespace);
-        this.namespace = namespace;
         this.reconciliationInterval = reconciliationInterval;
         this.client = client;
         this.kafkaAssemblyOperator = kafkaAssemblyOperator;
@@ -100,25 +125,28 @@ public class ClusterOperator extends AbstractVerticle {
     public void start(Promise<Void> start) {
         log.info("Starting ClusterOperator for namespace {}", namespace);
 
-        // Configure the executor here, but it is used only in other places
-        getVertx().createSharedWorkerExecutor("kubernetes-ops-pool", 10, TimeUnit.SECONDS.toNanos(120));
+        // Create the worker pools here, but they are used only in other places
+        WorkerPools.get(getVertx());
 
         List<Future> watchFutures = new ArrayList<>();
-        List<AbstractOperator<?, ?>> operators = new ArrayList<>(asList(
-                kafkaAssemblyOperator, kafkaMirrorMakerAssemblyOperator,
-                kafkaConnectAssemblyOperator, kafkaBridgeAssemblyOperator, kafkaMirrorMaker2AssemblyOperator));
-        if (kafkaConnectS2IAssemblyOperator != null) {
-            operators.add(kafkaConnectS2IAssemblyOperator);
-        }
-        for (AbstractOperator<?, ?> operator : operators) {
-            watchFutures.add(operator.createWatch(namespace, operator.recreateWatch(namespace)).compose(w -> {
+        for (AbstractOperator<?, ?> operator : operators()) {
+            Future<Watch> watch = namespaces != null
+                    ? operator.createWatch(namespaces, operator.recreateWatch(namespaces))
+                    : operator.createWatch(namespace, operator.recreateWatch(namespace));
+            watchFutures.add(watch.compose(w -> {
                 log.info("Opened watch for {} operator", operator.kind());
                 watchByKind.put(operator.kind(), w);
                 return Future.succeededFuture();
             }));
         }
 
-        watchFutures.add(AbstractConnectOperator.createConnectorWatch(kafkaConnectAssemblyOperator, kafkaConnectS2IAssemblyOperator, namespace));
+        Future<Watch> connectorWatch = namespaces != null
+                ? AbstractConnectOperator.createConnectorWatch(kafkaConnectAssemblyOperator, kafkaConnectS2IAssemblyOperator, namespaces)
+                : AbstractConnectOperator.createConnectorWatch(kafkaConnectAssemblyOperator, kafkaConnectS2IAssemblyOperator, namespace);
+        watchFutures.add(connectorWatch.compose(w -> {
+            watchByKind.put(KafkaConnector.RESOURCE_KIND, w);
+            return Future.succeededFuture();
+        }));
 
         CompositeFuture.join(watchFutures)
                 .compose(f -> {
@@ -147,19 +175,27 @@ public class ClusterOperator extends AbstractVerticle {
         stop.complete();
     }
 
+    private List<AbstractOperator<?, ?>> operators() {
+        List<AbstractOperator<?, ?>> operators = new ArrayList<>(asList(
+                kafkaAssemblyOperator, kafkaMirrorMakerAssemblyOperator,
+                kafkaConnectAssemblyOperator, kafkaBridgeAssemblyOperator, kafkaMirrorMaker2AssemblyOperator));
+        if (kafkaConnectS2IAssemblyOperator != null) {
+            operators.add(kafkaConnectS2IAssemblyOperator);
+        }
+        return operators;
+    }
+
     /**
       Periodical reconciliation (in case we lost some event)
      */
     private void reconcileAll(String trigger) {
         Handler<AsyncResult<Void>> ignore = ignored -> { };
-        kafkaAssemblyOperator.reconcileAll(trigger, namespace, ignore);
-        kafkaMirrorMakerAssemblyOperator.reconcileAll(trigger, namespace, ignore);
-        kafkaConnectAssemblyOperator.reconcileAll(trigger, namespace, ignore);
-        kafkaMirrorMaker2AssemblyOperator.reconcileAll(trigger, namespace, ignore);
-        kafkaBridgeAssemblyOperator.reconcileAll(trigger, namespace, ignore);
-
-        if (kafkaConnectS2IAssemblyOperator != null) {
-            kafkaConnectS2IAssemblyOperator.reconcileAll(trigger, namespace, ignore);
+        for (AbstractOperator<?, ?> operator : operators()) {
+            if (namespaces != null) {
+                operator.reconcileAll(trigger, namespaces, ignore);
+            } else {
+                operator.reconcileAll(trigger, namespace, ignore);
+            }
         }
     }
 
@@ -6,6 +6,8 @@ package io.strimzi.operator.cluster;
 
 import io.fabric8.kubernetes.api.model.LocalObjectReference;
 import io.fabric8.kubernetes.api.model.LocalObjectReferenceBuilder;
+import io.strimzi.certs.CertManagerFactory;
+import io.strimzi.certs.KeyPairPool;
 import io.strimzi.operator.cluster.model.ImagePullPolicy;
 import io.strimzi.operator.cluster.model.KafkaVersion;
 import io.strimzi.operator.cluster.model.NoImageException;
@@ -35,6 +37,13 @@ public class ClusterOperatorConfig {
     public static final String STRIMZI_CREATE_CLUSTER_ROLES = "STRIMZI_CREATE_CLUSTER_ROLES";
     public static final String STRIMZI_IMAGE_PULL_POLICY = "STRIMZI_IMAGE_PULL_POLICY";
     public static final String STRIMZI_IMAGE_PULL_SECRETS = "STRIMZI_IMAGE_PULL_SECRETS";
+    public static final String STRIMZI_CONNECTOR_METRICS_INTERVAL_MS = "STRIMZI_CONNECTOR_METRICS_INTERVAL_MS";
+    public static final String STRIMZI_SHARED_WATCHES = "STRIMZI_SHARED_WATCHES";
+    public static final String STRIMZI_EVENT_LOOP_BLOCKED_THRESHOLD_MS = "STRIMZI_EVENT_LOOP_BLOCKED_THRESHOLD_MS";
+    public static final String STRIMZI_CERT_MANAGER = "STRIMZI_CERT_MANAGER";
+    public static final String STRIMZI_KEY_POOL_SIZE = "STRIMZI_KEY_POOL_SIZE";
+    public static final String STRIMZI_KEY_ALGORITHM = "STRIMZI_KEY_ALGORITHM";
+    public static final String STRIMZI_KEY_SIZE = "STRIMZI_KEY_SIZE";
 
     // Env vars for configuring images
     public static final String STRIMZI_KAFKA_IMAGES = "STRIMZI_KAFKA_IMAGES";
@@ -55,6 +64,12 @@ public class ClusterOperatorConfig {
     public static final long DEFAULT_FULL_RECONCILIATION_INTERVAL_MS = 120_000;
     public static final long DEFAULT_OPERATION_TIMEOUT_MS = 300_000;
     public static final boolean DEFAULT_CREATE_CLUSTER_ROLES = false;
+    public static final long DEFAULT_CONNECTOR_METRICS_INTERVAL_MS = 0;
+    public static final boolean DEFAULT_SHARED_WATCHES = false;
+    public static final long DEFAULT_EVENT_LOOP_BLOCKED_THRESHOLD_MS = 0;
+    public static final CertManagerFactory.Type DEFAULT_CERT_MANAGER = CertManagerFactory.Type.OPENSSL;
+    public static final int DEFAULT_KEY_POOL_SIZE = 0;
+    public static final String DEFAULT_KEY_ALGORITHM = KeyPairPool.DEFAULT_ALGORITHM;
 
     private final Set<String> namespaces;
     private final long reconciliationIntervalMs;
@@ -63,6 +78,13 @@ public class ClusterOperatorConfig {
     private final KafkaVersion.Lookup versions;
     private final ImagePullPolicy imagePullPolicy;
     private final List<LocalObjectReference> imagePullSecrets;
+    private final long connectorMetricsIntervalMs;
+    private final boolean sharedWatches;
+    private final long eventLoopBlockedThresholdMs;
+    private final CertManagerFactory.Type certManager;
+    private final int keyPoolSize;
+    private final String keyAlgorithm;
+    private final int keySize;
 
     /**
      * Constructor
@@ -76,6 +98,51 @@ public class ClusterOperatorConfig {
      * @param imagePullSecrets Set of secrets for pulling container images from secured repositories
      */
     public ClusterOperatorConfig(Set<String> namespaces, long reconciliationIntervalMs, long operationTimeoutMs, boolean createClusterRoles, KafkaVersion.Lookup versions, ImagePullPolicy imagePullPolicy, List<LocalObjectReference> imagePullSecrets) {
+        this(namespaces, reconciliationIntervalMs, operationTimeoutMs, createClusterRoles, versions, imagePullPolicy, imagePullSecrets, DEFAULT_CONNECTOR_METRICS_INTERVAL_MS, DEFAULT_SHARED_WATCHES, DEFAULT_EVENT_LOOP_BLOCKED_THRESHOLD_MS);
+    }
+
+    /**
+     * Constructor
+     *
+     * @param namespaces namespace in which the operator will run and create resources
+     * @param reconciliationIntervalMs    specify every how many milliseconds the reconciliation runs
+     * @param operationTimeoutMs    timeout for internal operations specified in milliseconds
+     * @param createClusterRoles true to create the cluster roles
+     * @param versions The configured Kafka versions
+     * @param imagePullPolicy Image pull policy configured by the user
+     * @param imagePullSecrets Set of secrets for pulling container images from secured repositories
+     * @param connectorMetricsIntervalMs The minimum interval between collections of the connector metrics from the
+     *                                   Kafka Connect workers, or 0 if they are not collected
+     * @param sharedWatches true to watch and list the resources of all the namespaces at once, rather than per namespace
+     * @param eventLoopBlockedThresholdMs The time in milliseconds after which an event loop thread which is still
+     *                                    running the same task is reported as blocked, or 0 if it is not checked
+     */
+    public ClusterOperatorConfig(Set<String> namespaces, long reconciliationIntervalMs, long operationTimeoutMs, boolean createClusterRoles, KafkaVersion.Lookup versions, ImagePullPolicy imagePullPolicy, List<LocalObjectReference> imagePullSecrets, long connectorMetricsIntervalMs, boolean sharedWatches, long eventLoopBlockedThresholdMs) {
+        this(namespaces, reconciliationIntervalMs, operationTimeoutMs, createClusterRoles, versions, imagePullPolicy, imagePullSecrets, connectorMetricsIntervalMs, sharedWatches, eventLoopBlockedThresholdMs, DEFAULT_CERT_MANAGER, DEFAULT_KEY_POOL_SIZE, DEFAULT_KEY_ALGORITHM, KeyPairPool.defaultKeySize(DEFAULT_KEY_ALGORITHM));
+    }
+
+    /**
+     * Constructor
+     *
+     * @param namespaces namespace in which the operator will run and create resources
+     * @param reconciliationIntervalMs    specify every how many milliseconds the reconciliation runs
+     * @param operationTimeoutMs    timeout for internal operations specified in milliseconds
+     * @param createClusterRoles true to create the cluster roles
+     * @param versions The configured Kafka versions
+     * @param imagePullPolicy Image pull policy configured by the user
+     * @param imagePullSecrets Set of secrets for pulling container images from secured repositories
+     * @param connectorMetricsIntervalMs The minimum interval between collections of the connector metrics from the
+     *                                   Kafka Connect workers, or 0 if they are not collected
+     * @param sharedWatches true to watch and list the resources of all the namespaces at once, rather than per namespace
+     * @param eventLoopBlockedThresholdMs The time in milliseconds after which an event loop thread which is still
+     *                                    running the same task is reported as blocked, or 0 if it is not checked
+     * @param certManager The implementation of the certificates manager
+     * @param keyPoolSize The number of keys generated in advance, or 0 if they are generated when they are needed
+     * @param keyAlgorithm The algorithm of the keys generated in advance
+     * @param keySize The size in bits of the keys generated in advance
+     */
+    @SuppressWarnings({"checkstyle:ParameterNumber"})
+    public ClusterOperatorConfig(Set<String> namespaces, long reconciliationIntervalMs, long operationTimeoutMs, boolean createClusterRoles, KafkaVersion.Lookup versions, ImagePullPolicy imagePullPolicy, List<LocalObjectReference> imagePullSecrets, long connectorMetricsIntervalMs, boolean sharedWatches, long eventLoopBlockedThresholdMs, CertManagerFactory.Type certManager, int keyPoolSize, String keyAlgorithm, int keySize) {
         this.namespaces = unmodifiableSet(new HashSet<>(namespaces));
         this.reconciliationIntervalMs = reconciliationIntervalMs;
         this.operationTimeoutMs = operationTimeoutMs;
@@ -83,6 +150,13 @@ public class ClusterOperatorConfig {
         this.versions = versions;
         this.imagePullPolicy = imagePullPolicy;
         this.imagePullSecrets = imagePullSecrets;
+        this.connectorMetricsIntervalMs = connectorMetricsIntervalMs;
+        this.sharedWatches = sharedWatches;
+        this.eventLoopBlockedThresholdMs = eventLoopBlockedThresholdMs;
+        this.certManager = certManager;
+        this.keyPoolSize = keyPoolSize;
+        this.keyAlgorithm = keyAlgorithm;
+        this.keySize = keySize;
     }
 
     /**
@@ -111,7 +185,14 @@ public class ClusterOperatorConfig {
         boolean createClusterRoles = parseCreateClusterRoles(map.get(ClusterOperatorConfig.STRIMZI_CREATE_CLUSTER_ROLES));
         ImagePullPolicy imagePullPolicy = parseImagePullPolicy(map.get(ClusterOperatorConfig.STRIMZI_IMAGE_PULL_POLICY));
         List<LocalObjectReference> imagePullSecrets = parseImagePullSecrets(map.get(ClusterOperatorConfig.STRIMZI_IMAGE_PULL_SECRETS));
-        return new ClusterOperatorConfig(namespaces, reconciliationInterval, operationTimeout, createClusterRoles, lookup, imagePullPolicy, imagePullSecrets);
+        long connectorMetricsInterval = parseConnectorMetricsInterval(map.get(ClusterOperatorConfig.STRIMZI_CONNECTOR_METRICS_INTERVAL_MS));
+        boolean sharedWatches = parseSharedWatches(map.get(ClusterOperatorConfig.STRIMZI_SHARED_WATCHES));
+        long eventLoopBlockedThreshold = parseEventLoopBlockedThreshold(map.get(ClusterOperatorConfig.STRIMZI_EVENT_LOOP_BLOCKED_THRESHOLD_MS));
+        CertManagerFactory.Type certManager = parseCertManager(map.get(ClusterOperatorConfig.STRIMZI_CERT_MANAGER));
+        int keyPoolSize = parseKeyPoolSize(map.get(ClusterOperatorConfig.STRIMZI_KEY_POOL_SIZE));
+        String keyAlgorithm = parseKeyAlgorithm(map.get(ClusterOperatorConfig.STRIMZI_KEY_ALGORITHM));
+        int keySize = parseKeySize(map.get(ClusterOperatorConfig.STRIMZI_KEY_SIZE), keyAlgorithm);
+        return new ClusterOperatorConfig(namespaces, reconciliationInterval, operationTimeout, createClusterRoles, lookup, imagePullPolicy, imagePullSecrets, connectorMetricsInterval, sharedWatches, eventLoopBlockedThreshold, certManager, keyPoolSize, keyAlgorithm, keySize);
 
     }
 
@@ -154,6 +235,97 @@ public class ClusterOperatorConfig {
         return operationTimeout;
     }
 
+    private static long parseConnectorMetricsInterval(String connectorMetricsIntervalEnvVar) {
+        long connectorMetricsInterval = DEFAULT_CONNECTOR_METRICS_INTERVAL_MS;
+
+        if (connectorMetricsIntervalEnvVar != null) {
+            connectorMetricsInterval = Long.parseLong(connectorMetricsIntervalEnvVar);
+        }
+
+        return connectorMetricsInterval;
+    }
+
+    private static boolean parseSharedWatches(String sharedWatchesEnvVar) {
+        boolean sharedWatches = DEFAULT_SHARED_WATCHES;
+
+        if (sharedWatchesEnvVar != null) {
+            sharedWatches = Boolean.parseBoolean(sharedWatchesEnvVar);
+        }
+
+        return sharedWatches;
+    }
+
+    private static long parseEventLoopBlockedThreshold(String eventLoopBlockedThresholdEnvVar) {
+        long eventLoopBlockedThreshold = DEFAULT_EVENT_LOOP_BLOCKED_THRESHOLD_MS;
+
+        if (eventLoopBlockedThresholdEnvVar != null) {
+            eventLoopBlockedThreshold = Long.parseLong(eventLoopBlockedThresholdEnvVar);
+        }
+
+        return eventLoopBlockedThreshold;
+    }
+
+    private static CertManagerFactory.Type parseCertManager(String certManagerEnvVar) {
+        CertManagerFactory.Type certManager = DEFAULT_CERT_MANAGER;
+
+        if (certManagerEnvVar != null) {
+            switch (certManagerEnvVar.trim().toLowerCase(Locale.ENGLISH)) {
+                case "openssl":
+                    certManager = CertManagerFactory.Type.OPENSSL;
+                    break;
+                case "java":
+                    certManager = CertManagerFactory.Type.JAVA;
+                    break;
+                default:
+                    throw new InvalidConfigurationException(certManagerEnvVar
+                            + " is not a valid " + ClusterOperatorConfig.STRIMZI_CERT_MANAGER + " value. " +
+                            ClusterOperatorConfig.STRIMZI_CERT_MANAGER + " can have one of the following values: openssl, java.");
+            }
+        }
+
+        return certManager;
+    }
+
+    private static int parseKeyPoolSize(String keyPoolSizeEnvVar) {
+        int keyPoolSize = DEFAULT_KEY_POOL_SIZE;
+
+        if (keyPoolSizeEnvVar != null) {
+            keyPoolSize = Integer.parseInt(keyPoolSizeEnvVar);
+            if (keyPoolSize < 0) {
+                throw new InvalidConfigurationException(ClusterOperatorConfig.STRIMZI_KEY_POOL_SIZE + " cannot be negative");
+            }
+        }
+
+        return keyPoolSize;
+    }
+
+    private static String parseKeyAlgorithm(String keyAlgorithmEnvVar) {
+        String keyAlgorithm = DEFAULT_KEY_ALGORITHM;
+
+        if (keyAlgorithmEnvVar != null) {
+            keyAlgorithm = keyAlgorithmEnvVar.trim().toUpperCase(Locale.ENGLISH);
+        }
+
+        return keyAlgorithm;
+    }
+
+    private static int parseKeySize(String keySizeEnvVar, String keyAlgorithm) {
+        int keySize = KeyPairPool.defaultKeySize(keyAlgorithm);
+
+        if (keySizeEnvVar != null) {
+            keySize = Integer.parseInt(keySizeEnvVar);
+        }
+
+        try {
+            KeyPairPool.validate(keyAlgorithm, keySize);
+        } catch (IllegalArgumentException e) {
+            throw new InvalidConfigurationException(e.getMessage() + ", check " + ClusterOperatorConfig.STRIMZI_KEY_ALGORITHM
+                    + " and " + ClusterOperatorConfig.STRIMZI_KEY_SIZE, e);
+        }
+
+        return keySize;
+    }
+
     private static boolean parseCreateClusterRoles(String createClusterRolesEnvVar) {
         boolean createClusterRoles = DEFAULT_CREATE_CLUSTER_ROLES;
 
@@ -286,6 +458,58 @@ public class ClusterOperatorConfig {
         return imagePullSecrets;
     }
 
+    /**
+     * @return  The minimum interval between collections of the connector metrics from the Kafka Connect workers in
+     *          milliseconds. 0 if they are not collected.
+     */
+    public long getConnectorMetricsIntervalMs() {
+        return connectorMetricsIntervalMs;
+    }
+
+    /**
+     * @return  Indicates whether the resources of all the namespaces should be watched and listed at once, and
+     *          filtered by namespace, rather than per namespace
+     */
+    public boolean isSharedWatches() {
+        return sharedWatches;
+    }
+
+    /**
+     * @return  The time in milliseconds after which an event loop thread which is still running the same task is
+     *          reported as blocked. 0 if the event loop threads are not checked.
+     */
+    public long getEventLoopBlockedThresholdMs() {
+        return eventLoopBlockedThresholdMs;
+    }
+
+    /**
+     * @return  The implementation of the certificates manager
+     */
+    public CertManagerFactory.Type getCertManager() {
+        return certManager;
+    }
+
+    /**
+     * @return  The number of keys generated in advance. 0 if the keys are generated when they are needed.
+     */
+    public int getKeyPoolSize() {
+        return keyPoolSize;
+    }
+
+    /**
+     * @return  The algorithm of the keys generated in advance
+     */
+    public String getKeyAlgorithm() {
+        return keyAlgorithm;
+    }
+
+    /**
+     * @return  The size in bits of the keys generated in advance
+     */
+    public int getKeySize() {
+        return keySize;
+    }
+
     @Override
     public String toString() {
         return "ClusterOperatorConfig(" +
@@ -296,6 +520,13 @@ public class ClusterOperatorConfig {
                 ",versions=" + versions +
                 ",imagePullPolicy=" + imagePullPolicy +
                 ",imagePullSecrets=" + imagePullSecrets +
+                ",connectorMetricsIntervalMs=" + connectorMetricsIntervalMs +
+                ",sharedWatches=" + sharedWatches +
+                ",eventLoopBlockedThresholdMs=" + eventLoopBlockedThresholdMs +
+                ",certManager=" + certManager +
+                ",keyPoolSize=" + keyPoolSize +
+                ",keyAlgorithm=" + keyAlgorithm +
+                ",keySize=" + keySize +
                 ")";
     }
 }
@@ -9,7 +9,8 @@ import io.fabric8.kubernetes.api.model.rbac.ClusterRole;
 import io.fabric8.kubernetes.client.DefaultKubernetesClient;
 import io.fabric8.kubernetes.client.KubernetesClient;
 import io.strimzi.api.kafka.Crds;
-import io.strimzi.certs.OpenSslCertManager;
+import io.strimzi.certs.CertManager;
+import io.strimzi.certs.CertManagerFactory;
 import io.strimzi.operator.PlatformFeaturesAvailability;
 import io.strimzi.operator.cluster.operator.assembly.KafkaAssemblyOperator;
 import io.strimzi.operator.cluster.operator.assembly.KafkaBridgeAssemblyOperator;
@@ -18,6 +19,7 @@ import io.strimzi.operator.cluster.operator.assembly.KafkaConnectS2IAssemblyOper
 import io.strimzi.operator.cluster.operator.assembly.KafkaMirrorMakerAssemblyOperator;
 import io.strimzi.operator.cluster.operator.assembly.KafkaMirrorMaker2AssemblyOperator;
 import io.strimzi.operator.cluster.operator.resource.ResourceOperatorSupplier;
+import io.strimzi.operator.common.EventLoopBlockingDetector;
 import io.strimzi.operator.common.PasswordGenerator;
 import io.strimzi.operator.common.Util;
 import io.strimzi.operator.common.operator.resource.ClusterRoleOperator;
@@ -37,12 +39,15 @@ import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 import io.vertx.core.VertxOptions;
 import io.vertx.micrometer.MicrometerMetricsOptions;
 import io.vertx.micrometer.VertxPrometheusOptions;
 
+import static java.util.Collections.singleton;
+
 @SuppressFBWarnings("DM_EXIT")
 public class Main {
     private static final Logger log = LogManager.getLogger(Main.class.getName());
@@ -99,7 +104,15 @@ public class Main {
 
         ResourceOperatorSupplier resourceOperatorSupplier = new ResourceOperatorSupplier(vertx, client, pfa, config.getOperationTimeoutMs());
 
-        OpenSslCertManager certManager = new OpenSslCertManager();
+        if (config.getEventLoopBlockedThresholdMs() > 0) {
+            new EventLoopBlockingDetector(vertx, resourceOperatorSupplier.metricsProvider,
+                    config.getEventLoopBlockedThresholdMs()).start();
+        }
+
+        CertManager certManager = CertManagerFactory.create(config.getCertManager(),
+                config.getKeyPoolSize(), config.getKeyAlgorithm(), config.getKeySize());
+        // Stops generating the pooled keys on shutdown
+        Runtime.getRuntime().addShutdownHook(new Thread(() -> CertManagerFactory.close(certManager), "cert-manager-close"));
         PasswordGenerator passwordGenerator = new PasswordGenerator(12,
                 "abcdefghijklmnopqrstuvwxyz" +
                         "ABCDEFGHIJKLMNOPQRSTUVWXYZ",
@@ -127,11 +140,22 @@ public class Main {
         KafkaBridgeAssemblyOperator kafkaBridgeAssemblyOperator =
                 new KafkaBridgeAssemblyOperator(vertx, pfa, certManager, passwordGenerator, resourceOperatorSupplier, config);
 
+        // With shared watches a single verticle watches and lists the resources of all the namespaces at once
+        List<Set<String>> namespaceGroups = new ArrayList<>();
+        if (config.isSharedWatches() && config.getNamespaces().size() > 1) {
+            namespaceGroups.add(config.getNamespaces());
+        } else {
+            for (String namespace : config.getNamespaces()) {
+                namespaceGroups.add(singleton(namespace));
+            }
+        }
+
         List<Future> futures = new ArrayList<>();
-        for (String namespace : config.getNamespaces()) {
+        for (Set<String> namespaces : namespaceGroups) {
+            String namespace = String.join(",", namespaces);
             Promise<String> prom = Promise.promise();
             futures.add(prom.future());
-            ClusterOperator operator = new ClusterOperator(namespace,
+            ClusterOperator operator = new ClusterOperator(namespaces,
                     config.getReconciliationIntervalMs(),
                     client,
                     kafkaClusterOperations,
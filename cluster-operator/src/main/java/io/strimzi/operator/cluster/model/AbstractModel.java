@@ -73,6 +73,7 @@ import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 
 public abstract class AbstractModel {
@@ -85,6 +86,7 @@ public abstract class AbstractModel {
     protected static final boolean DEFAULT_JVM_GC_LOGGING_ENABLED = false;
 
     private static final Long DEFAULT_FS_GROUPID = 0L;
+    private static final Map<String, OrderedProperties> CLASSPATH_PROPERTIES = new ConcurrentHashMap<>();
 
     public static final String ANCILLARY_CM_KEY_METRICS = "metrics-config.yml";
     public static final String ANCILLARY_CM_KEY_LOG_CONFIG = "log4j.properties";
@@ -122,7 +124,7 @@ public abstract class AbstractModel {
     protected String headlessServiceName;
     protected String name;
 
-    protected static final int METRICS_PORT = 9404;
+    public static final int METRICS_PORT = 9404;
     protected static final String METRICS_PORT_NAME = "tcp-prometheus";
     protected boolean isMetricsEnabled;
 
@@ -304,26 +306,35 @@ public abstract class AbstractModel {
     public static OrderedProperties getOrderedProperties(String configFileName) {
         OrderedProperties properties = new OrderedProperties();
         if (configFileName != null && !configFileName.isEmpty()) {
-            InputStream is = AbstractModel.class.getResourceAsStream("/" + configFileName);
-            if (is == null) {
-                log.warn("Cannot find resource '{}'", configFileName);
-            } else {
-                try {
-                    properties.addStringPairs(is);
-                } catch (IOException e) {
-                    log.warn("Unable to read default log config from '{}'", configFileName);
-                } finally {
-                    try {
-                        is.close();
-                    } catch (IOException e) {
-                        log.error("Failed to close stream. Reason: " + e.getMessage());
-                    }
-                }
+            // The files are classpath resources, so each one is only read once
+            OrderedProperties read = CLASSPATH_PROPERTIES.computeIfAbsent(configFileName, AbstractModel::readOrderedProperties);
+            if (read != null) {
+                properties.addMapPairs(read.asMap());
             }
         }
         return properties;
     }
 
+    private static OrderedProperties readOrderedProperties(String configFileName) {
+        InputStream is = AbstractModel.class.getResourceAsStream("/" + configFileName);
+        if (is == null) {
+            log.warn("Cannot find resource '{}'", configFileName);
+            return null;
+        }
+        try {
+            return new OrderedProperties().addStringPairs(is);
+        } catch (IOException e) {
+            log.warn("Unable to read default log config from '{}'", configFileName);
+            return null;
+        } finally {
+            try {
+                is.close();
+            } catch (IOException e) {
+                log.error("Failed to close stream. Reason: " + e.getMessage());
+            }
+        }
+    }
+
     /**
      * Transforms map to log4j properties file format
      * @param properties map with properties
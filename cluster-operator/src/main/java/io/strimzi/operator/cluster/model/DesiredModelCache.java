@@ -0,0 +1,178 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.cluster.model;
+
+import io.fabric8.kubernetes.api.model.HasMetadata;
+import io.fabric8.kubernetes.api.model.ObjectMeta;
+import io.micrometer.core.instrument.Tags;
+import io.strimzi.operator.common.AbstractOperator;
+import io.strimzi.operator.common.MetricsProvider;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * <p>A cache of the models built from a custom resource, such as the {@link KafkaCluster} and {@link ZookeeperCluster}
+ * of a {@code Kafka}, so that the periodic reconciliations of an unchanged resource don't build them again.</p>
+ *
+ * <p>The models of a resource are keyed by its UID and are reused while its {@code metadata.generation}, labels and
+ * annotations are unchanged (the labels and annotations are not covered by the generation) and the model was built
+ * from the same inputs, such as the storage and number of replicas of the existing {@code StatefulSet}.</p>
+ *
+ * <p>The models are shared by the reconciliations of the resource, so a reconciliation which changes a model after
+ * getting it must {@link #evict(HasMetadata, String) evict} it. Only the resources read from Kubernetes are cached:
+ * those built by the operator or the tests have neither a UID nor a generation. When the cache is full the least
+ * recently used resource is evicted.</p>
+ *
+ * <p>The number of requests is counted in the {@value #REQUESTS_METRIC} counter, tagged with the model and whether
+ * the model was cached, and the number of cached resources is the {@value #RESOURCES_METRIC} gauge.</p>
+ */
+public class DesiredModelCache {
+
+    public static final int DEFAULT_MAX_RESOURCES = 1000;
+
+    public static final String REQUESTS_METRIC = AbstractOperator.METRICS_PREFIX + "desired.model.cache.requests";
+    public static final String RESOURCES_METRIC = AbstractOperator.METRICS_PREFIX + "desired.model.cache.resources";
+
+    /**
+     * A model and the inputs it was built from.
+     */
+    private static class CachedModel {
+        private final List<?> inputs;
+        private final Object model;
+
+        CachedModel(List<?> inputs, Object model) {
+            this.inputs = inputs;
+            this.model = model;
+        }
+    }
+
+    /**
+     * The models of one generation of a resource.
+     */
+    private static class ResourceModels {
+        private final long generation;
+        private final Map<String, String> labels;
+        private final Map<String, String> annotations;
+        private final Map<String, CachedModel> models = new HashMap<>();
+
+        ResourceModels(long generation, Map<String, String> labels, Map<String, String> annotations) {
+            this.generation = generation;
+            this.labels = labels;
+            this.annotations = annotations;
+        }
+
+        boolean isFor(ObjectMeta metadata) {
+            return generation == metadata.getGeneration()
+                    && Objects.equals(labels, metadata.getLabels())
+                    && Objects.equals(annotations, metadata.getAnnotations());
+        }
+    }
+
+    private final Map<String, ResourceModels> resources;
+    private final MetricsProvider metrics;
+    private final AtomicInteger cachedResources;
+
+    /**
+     * @param maxResources The maximum number of resources whose models are cached.
+     * @param metrics The metrics provider.
+     */
+    public DesiredModelCache(int maxResources, MetricsProvider metrics) {
+        this.resources = new LinkedHashMap<String, ResourceModels>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, ResourceModels> eldest) {
+                return size() > maxResources;
+            }
+        };
+        this.metrics = metrics;
+        this.cachedResources = metrics.gauge(RESOURCES_METRIC, "Number of resources whose desired models are cached", Tags.empty());
+    }
+
+    /**
+     * Returns the given {@code model} of the given {@code resource}, building it with the given {@code factory} only
+     * if it's not already cached for the current generation of the {@code resource} and the given {@code inputs}.
+     *
+     * @param resource The custom resource the model is built from.
+     * @param model The name of the model.
+     * @param inputs The other inputs the model is built from, which are compared using {@link Object#equals(Object)}.
+     * @param factory Builds the model.
+     * @param <T> The type of the model.
+     * @return The model, which may be null when the {@code factory} returns null.
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T get(HasMetadata resource, String model, List<?> inputs, Supplier<T> factory) {
+        ObjectMeta metadata = resource.getMetadata();
+        String uid = metadata != null ? metadata.getUid() : null;
+        boolean cacheable = uid != null && metadata.getGeneration() != null;
+
+        if (cacheable) {
+            synchronized (this) {
+                ResourceModels cached = resources.get(uid);
+                if (cached != null && cached.isFor(metadata)) {
+                    CachedModel cachedModel = cached.models.get(model);
+                    if (cachedModel != null && cachedModel.inputs.equals(inputs)) {
+                        count(model, "hit");
+                        return (T) cachedModel.model;
+                    }
+                }
+            }
+        }
+        count(model, "miss");
+
+        // Build outside of the lock, the reconciliations of a resource don't run at the same time
+        T built = factory.get();
+
+        if (cacheable) {
+            synchronized (this) {
+                ResourceModels cached = resources.get(uid);
+                if (cached == null || !cached.isFor(metadata)) {
+                    cached = new ResourceModels(metadata.getGeneration(), copy(metadata.getLabels()), copy(metadata.getAnnotations()));
+                    resources.put(uid, cached);
+                    cachedResources.set(resources.size());
+                }
+                cached.models.put(model, new CachedModel(inputs, built));
+            }
+        }
+        return built;
+    }
+
+    private static Map<String, String> copy(Map<String, String> map) {
+        return map != null ? new HashMap<>(map) : null;
+    }
+
+    private void count(String model, String result) {
+        metrics.counter(REQUESTS_METRIC, "Number of requests for the desired model of a resource",
+                Tags.of("model", model, "result", result)).increment();
+    }
+
+    /**
+     * Removes the given {@code model} of the given {@code resource} from the cache,
+     * so that the next reconciliation builds it again.
+     *
+     * @param resource The custom resource the model is built from.
+     * @param model The name of the model.
+     */
+    public synchronized void evict(HasMetadata resource, String model) {
+        ObjectMeta metadata = resource.getMetadata();
+        if (metadata != null && metadata.getUid() != null) {
+            ResourceModels cached = resources.get(metadata.getUid());
+            if (cached != null) {
+                cached.models.remove(model);
+            }
+        }
+    }
+
+    /**
+     * @return The number of resources whose models are cached.
+     */
+    public synchronized int size() {
+        return resources.size();
+    }
+}
@@ -8,10 +8,12 @@ import io.fabric8.kubernetes.api.model.Doneable;
 import io.fabric8.kubernetes.api.model.HasMetadata;
 import io.fabric8.kubernetes.api.model.LabelSelectorBuilder;
 import io.fabric8.kubernetes.api.model.LocalObjectReference;
+import io.fabric8.kubernetes.api.model.apps.Deployment;
 import io.fabric8.kubernetes.client.CustomResource;
 import io.fabric8.kubernetes.client.CustomResourceList;
 import io.fabric8.kubernetes.client.KubernetesClient;
 import io.fabric8.kubernetes.client.KubernetesClientException;
+import io.fabric8.kubernetes.client.Watch;
 import io.fabric8.kubernetes.client.Watcher;
 import io.fabric8.kubernetes.client.dsl.Resource;
 import io.fabric8.openshift.client.OpenShiftClient;
@@ -28,6 +30,7 @@ import io.strimzi.api.kafka.model.DoneableKafkaConnector;
 import io.strimzi.api.kafka.model.KafkaConnect;
 import io.strimzi.api.kafka.model.KafkaConnectResources;
 import io.strimzi.api.kafka.model.KafkaConnectS2I;
+import io.strimzi.api.kafka.model.KafkaConnectSpec;
 import io.strimzi.api.kafka.model.KafkaConnector;
 import io.strimzi.api.kafka.model.KafkaConnectorBuilder;
 import io.strimzi.api.kafka.model.KafkaConnectorSpec;
@@ -40,6 +43,7 @@ import io.strimzi.api.kafka.model.status.KafkaConnectorStatus;
 import io.strimzi.api.kafka.model.status.Status;
 import io.strimzi.operator.PlatformFeaturesAvailability;
 import io.strimzi.operator.cluster.ClusterOperatorConfig;
+import io.strimzi.operator.cluster.model.AbstractModel;
 import io.strimzi.operator.cluster.model.ImagePullPolicy;
 import io.strimzi.operator.cluster.model.InvalidResourceException;
 import io.strimzi.operator.cluster.model.NoSuchResourceException;
@@ -48,11 +52,16 @@ import io.strimzi.operator.cluster.operator.resource.ResourceOperatorSupplier;
 import io.strimzi.operator.common.AbstractOperator;
 import io.strimzi.operator.common.Annotations;
 import io.strimzi.operator.common.BackOff;
+import io.strimzi.operator.common.ConcurrencyLimiter;
 import io.strimzi.operator.common.Reconciliation;
+import io.strimzi.operator.common.Tracing;
 import io.strimzi.operator.common.Util;
 import io.strimzi.operator.common.model.Labels;
+import io.strimzi.operator.common.model.NamespaceAndName;
+import io.strimzi.operator.common.operator.resource.AbstractWatchableResourceOperator;
 import io.strimzi.operator.common.operator.resource.ConfigMapOperator;
 import io.strimzi.operator.common.operator.resource.CrdOperator;
+import io.strimzi.operator.common.operator.resource.DeploymentOperator;
 import io.strimzi.operator.common.operator.resource.PodDisruptionBudgetOperator;
 import io.strimzi.operator.common.operator.resource.ServiceAccountOperator;
 import io.strimzi.operator.common.operator.resource.ServiceOperator;
@@ -65,17 +74,26 @@ import io.vertx.core.json.JsonObject;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
 import java.util.TreeMap;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.BiFunction;
 import java.util.function.Function;
+import java.util.function.Predicate;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -105,6 +123,21 @@ public abstract class AbstractConnectOperator<C extends KubernetesClient, T exte
     private final Counter connectorsSuccessfulReconciliationsCounter;
     private final AtomicInteger connectorsResourceCounter;
     private final Timer connectorsReconciliationsTimer;
+    private final Timer rollTaskDowntimeTimer;
+    private final KafkaConnectorMetricsCollector connectorMetricsCollector;
+
+    /**
+     * The maximum number of connectors of a Connect cluster which are reconciled at the same time, so that the
+     * Connect REST API (and the leader of the Connect cluster in particular) is not overwhelmed.
+     */
+    public static final int MAX_CONCURRENT_CONNECTOR_RECONCILIATIONS = 10;
+    private final Map<String, ConcurrencyLimiter> connectorLimiters = new ConcurrentHashMap<>();
+
+    /**
+     * How long the {@code KafkaConnector} watch waits for more events of a Connect cluster before reconciling them.
+     */
+    public static final long CONNECTOR_EVENT_DEBOUNCE_MS = 500;
+    private final Map<String, Future<T>> connectClusters = new ConcurrentHashMap<>();
 
     public AbstractConnectOperator(Vertx vertx, PlatformFeaturesAvailability pfa, String kind,
                                    CrdOperator<C, T, L, D> resourceOperator,
@@ -146,29 +179,68 @@ public abstract class AbstractConnectOperator<C extends KubernetesClient, T exte
         connectorsReconciliationsTimer = metrics.timer(METRICS_PREFIX + "reconciliations.duration",
                 "The time the reconciliation takes to complete",
                 metricTags);
+
+        rollTaskDowntimeTimer = metrics.timer(METRICS_PREFIX + "connect.roll.task.downtime",
+                "The time the connectors and tasks take to be running again after a Connect worker was rolled",
+                Tags.of(Tag.of("kind", kind)));
+
+        connectorMetricsCollector = config.getConnectorMetricsIntervalMs() > 0
+                ? new KafkaConnectorMetricsCollector(vertx, supplier.podOperations, metrics, AbstractModel.METRICS_PORT,
+                        config.getConnectorMetricsIntervalMs(), 10_000)
+                : null;
+    }
+
+    /**
+     * Reconciles the Deployment of the Connect workers. When its pod template changes, the workers are rolled one at
+     * a time and the connectors and tasks are given time to be running again before the next one, see
+     * {@link KafkaConnectRoller}.
+     *
+     * @param reconciliation The reconciliation.
+     * @param deploymentOperations The Deployment operator.
+     * @param host The host of the Connect REST API.
+     * @param desired The desired Deployment.
+     * @return A future which completes when the Deployment was reconciled and, if needed, its workers were rolled.
+     */
+    protected Future<Void> reconcileDeployment(Reconciliation reconciliation, DeploymentOperator deploymentOperations,
+                                               String host, Deployment desired) {
+        return new KafkaConnectRoller(reconciliation, vertx, deploymentOperations, connectClientProvider.apply(vertx),
+                host, port, 1_000, operationTimeoutMs, rollTaskDowntimeTimer)
+                .reconcile(desired.getMetadata().getName(), desired);
     }
 
     @Override
     protected Future<Boolean> delete(Reconciliation reconciliation) {
+        connectClusters.remove(reconciliation.namespace() + "/" + reconciliation.name());
         // When deleting KafkaConnect we need to update the status of all selected KafkaConnector
-        return connectorOperator.listAsync(reconciliation.namespace(), Labels.forStrimziCluster(reconciliation.name())).compose(connectors -> {
-            List<Future> connectorFutures = new ArrayList<>();
-            for (KafkaConnector connector : connectors) {
-                connectorFutures.add(maybeUpdateConnectorStatus(reconciliation, connector, null,
-                        noConnectCluster(reconciliation.namespace(), reconciliation.name())));
+        return withConnectorsLock(reconciliation, operationTimeoutMs, () ->
+            connectorOperator.listAsync(reconciliation.namespace(), Labels.forStrimziCluster(reconciliation.name())).compose(connectors -> {
+                List<Future> connectorFutures = new ArrayList<>();
+                for (KafkaConnector connector : connectors) {
+                    connectorFutures.add(maybeUpdateConnectorStatus(reconciliation, connector, null,
+                            noConnectCluster(reconciliation.namespace(), reconciliation.name())));
+                }
+                return CompositeFuture.join(connectorFutures);
+            })
+        ).map(ignored -> {
+            connectorLimiters.remove(connectorLimiterKey(reconciliation));
+            if (connectorMetricsCollector != null) {
+                connectorMetricsCollector.remove(reconciliation.namespace(), reconciliation.name());
             }
-            return CompositeFuture.join(connectorFutures);
-        }).map(ignored -> Boolean.FALSE);
+            return Boolean.FALSE;
+        });
     }
 
     /**
      * Create a watch on {@code KafkaConnector} in the given {@code namespace}.
      * The watcher will:
      * <ul>
-     * <li>{@link #reconcileConnectors(Reconciliation, CustomResource, KafkaConnectStatus)} on the KafkaConnect or KafkaConnectS2I
-     * identified by {@code KafkaConnector.metadata.labels[strimzi.io/cluster]}.</li>
-     * <li>If there is a Connect and ConnectS2I cluster with the given name then the plain Connect one is used
-     * (and an error is logged about the ambiguity).</li>
+     * <li>Debounce the events of each {@code KafkaConnector} for {@link #CONNECTOR_EVENT_DEBOUNCE_MS}, so that only its
+     * latest state is reconciled, and merge them into one batch for the KafkaConnect or KafkaConnectS2I identified by
+     * {@code KafkaConnector.metadata.labels[strimzi.io/cluster]}.</li>
+     * <li>Reconcile the connectors of the batch (and only those) through the REST API of that Connect cluster. This
+     * takes the lock of the connectors of the Connect cluster rather than the lock of the Connect cluster, so that the
+     * connectors are not held up by a rolling update of the Connect cluster.</li>
+     * <li>If there is a Connect and ConnectS2I cluster with the given name then the older one is used.</li>
      * <li>The {@code KafkaConnector} status is updated with the result.</li>
      * </ul>
      * @param connectOperator The operator for {@code KafkaConnect}.
@@ -176,72 +248,50 @@ public abstract class AbstractConnectOperator<C extends KubernetesClient, T exte
      * @param watchNamespaceOrWildcard The namespace to watch.
      * @return A future which completes when the watch has been set up.
      */
-    public static Future<Void> createConnectorWatch(AbstractConnectOperator<KubernetesClient, KafkaConnect, KafkaConnectList, DoneableKafkaConnect, Resource<KafkaConnect, DoneableKafkaConnect>, KafkaConnectStatus> connectOperator,
+    public static Future<Watch> createConnectorWatch(AbstractConnectOperator<KubernetesClient, KafkaConnect, KafkaConnectList, DoneableKafkaConnect, Resource<KafkaConnect, DoneableKafkaConnect>, KafkaConnectStatus> connectOperator,
             AbstractConnectOperator<OpenShiftClient, KafkaConnectS2I, KafkaConnectS2IList, DoneableKafkaConnectS2I, Resource<KafkaConnectS2I, DoneableKafkaConnectS2I>, KafkaConnectS2IStatus> connectS2IOperator,
             String watchNamespaceOrWildcard) {
-        return Util.async(connectOperator.vertx, () -> {
+        return createConnectorWatch(connectOperator, connectS2IOperator, watchNamespaceOrWildcard, namespace -> true);
+    }
+
+    /**
+     * Create a single watch on {@code KafkaConnector} across all namespaces, which ignores the connectors which are not
+     * in the given {@code namespaces}, and otherwise behaves as
+     * {@link #createConnectorWatch(AbstractConnectOperator, AbstractConnectOperator, String)}.
+     * @param connectOperator The operator for {@code KafkaConnect}.
+     * @param connectS2IOperator The operator for {@code KafkaConnectS2I}.
+     * @param namespaces The namespaces to watch.
+     * @return A future which completes when the watch has been set up.
+     */
+    public static Future<Watch> createConnectorWatch(AbstractConnectOperator<KubernetesClient, KafkaConnect, KafkaConnectList, DoneableKafkaConnect, Resource<KafkaConnect, DoneableKafkaConnect>, KafkaConnectStatus> connectOperator,
+            AbstractConnectOperator<OpenShiftClient, KafkaConnectS2I, KafkaConnectS2IList, DoneableKafkaConnectS2I, Resource<KafkaConnectS2I, DoneableKafkaConnectS2I>, KafkaConnectS2IStatus> connectS2IOperator,
+            Set<String> namespaces) {
+        return createConnectorWatch(connectOperator, connectS2IOperator, AbstractWatchableResourceOperator.ANY_NAMESPACE, namespaces::contains);
+    }
+
+    private static Future<Watch> createConnectorWatch(AbstractConnectOperator<KubernetesClient, KafkaConnect, KafkaConnectList, DoneableKafkaConnect, Resource<KafkaConnect, DoneableKafkaConnect>, KafkaConnectStatus> connectOperator,
+            AbstractConnectOperator<OpenShiftClient, KafkaConnectS2I, KafkaConnectS2IList, DoneableKafkaConnectS2I, Resource<KafkaConnectS2I, DoneableKafkaConnectS2I>, KafkaConnectS2IStatus> connectS2IOperator,
+            String watchNamespaceOrWildcard, Predicate<String> inNamespaces) {
+        ConnectorEventBatcher batcher = new ConnectorEventBatcher(connectOperator, connectS2IOperator, CONNECTOR_EVENT_DEBOUNCE_MS);
+        return Util.async(connectOperator.vertx, () ->
             connectOperator.connectorOperator.watch(watchNamespaceOrWildcard, new Watcher<KafkaConnector>() {
                 @Override
                 public void eventReceived(Action action, KafkaConnector kafkaConnector) {
                     String connectorName = kafkaConnector.getMetadata().getName();
                     String connectorNamespace = kafkaConnector.getMetadata().getNamespace();
+                    if (!inNamespaces.test(connectorNamespace)) {
+                        return;
+                    }
                     String connectorKind = kafkaConnector.getKind();
                     String connectName = kafkaConnector.getMetadata().getLabels() == null ? null : kafkaConnector.getMetadata().getLabels().get(Labels.STRIMZI_CLUSTER_LABEL);
-                    String connectNamespace = connectorNamespace;
 
                     switch (action) {
                         case ADDED:
                         case DELETED:
                         case MODIFIED:
-                            Future<Void> f;
                             if (connectName != null) {
-                                // Check whether a KafkaConnect/S2I exists
-                                CompositeFuture.join(connectOperator.resourceOperator.getAsync(connectNamespace, connectName),
-                                        connectOperator.pfa.supportsS2I() ?
-                                                connectS2IOperator.resourceOperator.getAsync(connectNamespace, connectName) :
-                                                Future.succeededFuture())
-                                        .compose(cf -> {
-                                            KafkaConnect connect = cf.resultAt(0);
-                                            KafkaConnectS2I connectS2i = cf.resultAt(1);
-                                            KafkaConnectApi apiClient = connectOperator.connectClientProvider.apply(connectOperator.vertx);
-                                            if (connect == null && connectS2i == null) {
-                                                log.info("{} {} in namespace {} was {}, but Connect cluster {} does not exist", connectorKind, connectorName, connectorNamespace, action, connectName);
-                                                updateStatus(noConnectCluster(connectNamespace, connectName), kafkaConnector, connectOperator.connectorOperator);
-                                                return Future.succeededFuture();
-                                            } else if (connect != null && isOlderOrAlone(connect.getMetadata().getCreationTimestamp(), connectS2i)) {
-                                                // grab the lock and call reconcileConnectors()
-                                                // (i.e. short circuit doing a whole KafkaConnect reconciliation).
-                                                Reconciliation reconciliation = new Reconciliation("connector-watch", connectOperator.kind(),
-                                                        kafkaConnector.getMetadata().getNamespace(), connectName);
-                                                log.info("{}: {} {} in namespace {} was {}", reconciliation, connectorKind, connectorName, connectorNamespace, action);
-
-                                                return connectOperator.withLock(reconciliation, LOCK_TIMEOUT_MS,
-                                                    () -> connectOperator.reconcileConnectorAndHandleResult(reconciliation,
-                                                                KafkaConnectResources.qualifiedServiceName(connectName, connectNamespace), apiClient,
-                                                                isUseResources(connect),
-                                                                kafkaConnector.getMetadata().getName(), action == Action.DELETED ? null : kafkaConnector)
-                                                            .compose(reconcileResult -> {
-                                                                log.info("{}: reconciled", reconciliation);
-                                                                return Future.succeededFuture(reconcileResult);
-                                                            }));
-                                            } else {
-                                                // grab the lock and call reconcileConnectors()
-                                                // (i.e. short circuit doing a whole KafkaConnect reconciliation).
-                                                Reconciliation reconciliation = new Reconciliation("connector-watch", connectS2IOperator.kind(),
-                                                        kafkaConnector.getMetadata().getNamespace(), connectName);
-                                                log.info("{}: {} {} in namespace {} was {}", reconciliation, connectorKind, connectorName, connectorNamespace, action);
-
-                                                return connectS2IOperator.withLock(reconciliation, LOCK_TIMEOUT_MS,
-                                                    () -> connectS2IOperator.reconcileConnectorAndHandleResult(reconciliation,
-                                                                KafkaConnectResources.qualifiedServiceName(connectName, connectNamespace), apiClient,
-                                                                isUseResources(connectS2i),
-                                                                kafkaConnector.getMetadata().getName(), action == Action.DELETED ? null : kafkaConnector)
-                                                            .compose(reconcileResult -> {
-                                                                log.info("{}: reconciled", reconciliation);
-                                                                return Future.succeededFuture(reconcileResult);
-                                                            }));
-                                            }
-                                        });
+                                log.debug("{} {} in namespace {} was {}", connectorKind, connectorName, connectorNamespace, action);
+                                batcher.add(action, connectName, kafkaConnector);
                             } else {
                                 updateStatus(new InvalidResourceException("Resource lacks label '"
                                                 + Labels.STRIMZI_CLUSTER_LABEL
@@ -264,9 +314,215 @@ public abstract class AbstractConnectOperator<C extends KubernetesClient, T exte
                         throw e;
                     }
                 }
+            }));
+    }
+
+    /**
+     * Collects the {@code KafkaConnector} watch events into one batch per Connect cluster. The batch of a Connect
+     * cluster is reconciled {@code debounceMs} after its first event, keeping only the latest state of each connector.
+     * The events which arrive while a batch is being reconciled go into the next batch, so that the batches of a
+     * Connect cluster never overlap. The events which only change the status of a connector, such as those caused by
+     * the operator updating the status, are ignored.
+     */
+    static class ConnectorEventBatcher {
+        private final AbstractConnectOperator<KubernetesClient, KafkaConnect, KafkaConnectList, DoneableKafkaConnect, Resource<KafkaConnect, DoneableKafkaConnect>, KafkaConnectStatus> connectOperator;
+        private final AbstractConnectOperator<OpenShiftClient, KafkaConnectS2I, KafkaConnectS2IList, DoneableKafkaConnectS2I, Resource<KafkaConnectS2I, DoneableKafkaConnectS2I>, KafkaConnectS2IStatus> connectS2IOperator;
+        private final long debounceMs;
+        /** Guarded by {@code this}. */
+        private final Map<NamespaceAndName, Batch> batches = new HashMap<>();
+        /** The last seen state of each connector, by namespace and name. Guarded by {@code this}. */
+        private final Map<NamespaceAndName, KafkaConnector> lastSeen = new HashMap<>();
+
+        private static class Batch {
+            /** The latest state of each changed connector, by name, with null for a deleted connector. */
+            private Map<String, KafkaConnector> connectors = new LinkedHashMap<>();
+            private boolean scheduled;
+            private boolean running;
+        }
+
+        ConnectorEventBatcher(AbstractConnectOperator<KubernetesClient, KafkaConnect, KafkaConnectList, DoneableKafkaConnect, Resource<KafkaConnect, DoneableKafkaConnect>, KafkaConnectStatus> connectOperator,
+                      AbstractConnectOperator<OpenShiftClient, KafkaConnectS2I, KafkaConnectS2IList, DoneableKafkaConnectS2I, Resource<KafkaConnectS2I, DoneableKafkaConnectS2I>, KafkaConnectS2IStatus> connectS2IOperator,
+                      long debounceMs) {
+            this.connectOperator = connectOperator;
+            this.connectS2IOperator = connectS2IOperator;
+            this.debounceMs = debounceMs;
+        }
+
+        /**
+         * @param action The action of the watch event.
+         * @param connectName The name of the Connect cluster of the connector.
+         * @param connector The connector.
+         */
+        synchronized void add(Watcher.Action action, String connectName, KafkaConnector connector) {
+            String namespace = connector.getMetadata().getNamespace();
+            String connectorName = connector.getMetadata().getName();
+            NamespaceAndName key = new NamespaceAndName(namespace, connectorName);
+            if (action == Watcher.Action.DELETED) {
+                lastSeen.remove(key);
+            } else {
+                KafkaConnector previous = lastSeen.put(key, connector);
+                if (previous != null && !isChanged(previous, connector)) {
+                    log.debug("Ignoring status change of {} {} in namespace {}", connector.getKind(), connectorName, namespace);
+                    return;
+                }
+            }
+
+            NamespaceAndName connect = new NamespaceAndName(namespace, connectName);
+            Batch batch = batches.computeIfAbsent(connect, ignored -> new Batch());
+            batch.connectors.put(connectorName, action == Watcher.Action.DELETED ? null : connector);
+            schedule(connect, batch);
+        }
+
+        private static boolean isChanged(KafkaConnector previous, KafkaConnector connector) {
+            return !Objects.equals(previous.getSpec(), connector.getSpec())
+                    || !Objects.equals(previous.getMetadata().getLabels(), connector.getMetadata().getLabels())
+                    || !Objects.equals(previous.getMetadata().getAnnotations(), connector.getMetadata().getAnnotations());
+        }
+
+        /** Guarded by {@code this}. */
+        private void schedule(NamespaceAndName connect, Batch batch) {
+            if (!batch.scheduled && !batch.running) {
+                batch.scheduled = true;
+                connectOperator.vertx.setTimer(debounceMs, ignored -> run(connect));
+            }
+        }
+
+        private void run(NamespaceAndName connect) {
+            Map<String, KafkaConnector> connectors;
+            synchronized (this) {
+                Batch batch = batches.get(connect);
+                batch.scheduled = false;
+                batch.running = true;
+                connectors = batch.connectors;
+                batch.connectors = new LinkedHashMap<>();
+            }
+
+            reconcile(connect, connectors).setHandler(result -> {
+                synchronized (this) {
+                    Batch batch = batches.get(connect);
+                    batch.running = false;
+                    if (result.failed()) {
+                        // Retry the connectors whose events were not superseded in the meantime
+                        log.warn("Failed to reconcile KafkaConnectors {} of Connect cluster {} in namespace {}, retrying",
+                                connectors.keySet(), connect.getName(), connect.getNamespace(), result.cause());
+                        Map<String, KafkaConnector> retried = new LinkedHashMap<>(connectors);
+                        retried.keySet().removeAll(batch.connectors.keySet());
+                        retried.putAll(batch.connectors);
+                        batch.connectors = retried;
+                    }
+                    if (batch.connectors.isEmpty()) {
+                        batches.remove(connect);
+                    } else {
+                        schedule(connect, batch);
+                    }
+                }
             });
-            return null;
+        }
+
+        /**
+         * @return A future which is failed if the connectors could not be reconciled and should be retried. The
+         * connectors which failed to reconcile just have their status updated.
+         */
+        private Future<Void> reconcile(NamespaceAndName connect, Map<String, KafkaConnector> connectors) {
+            String connectNamespace = connect.getNamespace();
+            String connectName = connect.getName();
+            Reconciliation reconciliation = new Reconciliation("connector-watch", KafkaConnector.RESOURCE_KIND, connectNamespace, connectName);
+            return connectOperator.withConnectorsLock(reconciliation, LOCK_TIMEOUT_MS, () -> CompositeFuture.join(
+                    connectOperator.connectCluster(connectNamespace, connectName),
+                    connectOperator.pfa.supportsS2I() ?
+                            connectS2IOperator.connectCluster(connectNamespace, connectName) :
+                            Future.succeededFuture())
+                    .compose(cf -> {
+                        KafkaConnect kafkaConnect = cf.resultAt(0);
+                        KafkaConnectS2I kafkaConnectS2I = cf.resultAt(1);
+                        if (kafkaConnect == null && kafkaConnectS2I == null) {
+                            log.info("KafkaConnectors {} in namespace {} were changed, but Connect cluster {} does not exist", connectors.keySet(), connectNamespace, connectName);
+                            connectors.values().stream()
+                                    .filter(Objects::nonNull)
+                                    .forEach(connector -> updateStatus(noConnectCluster(connectNamespace, connectName), connector, connectOperator.connectorOperator));
+                            return Future.succeededFuture();
+                        } else if (kafkaConnect != null && isOlderOrAlone(kafkaConnect.getMetadata().getCreationTimestamp(), kafkaConnectS2I)) {
+                            return connectOperator.reconcileChangedConnectors(reconciliation, isUseResources(kafkaConnect), connectors);
+                        } else {
+                            return connectS2IOperator.reconcileChangedConnectors(reconciliation, isUseResources(kafkaConnectS2I), connectors);
+                        }
+                    }));
+        }
+    }
+
+    /**
+     * Reconciles the given connectors of a Connect cluster, with the deleted connectors going first.
+     *
+     * @param reconciliation The reconciliation of the connectors of the Connect cluster.
+     * @param useResources Whether the Connect cluster is configured to use {@code KafkaConnector} resources.
+     * @param connectors The changed connectors, by name, with null for a deleted connector.
+     * @return A future which completes when all the connectors have been reconciled, even if some of them failed.
+     */
+    private Future<Void> reconcileChangedConnectors(Reconciliation reconciliation, boolean useResources,
+                                                    Map<String, KafkaConnector> connectors) {
+        log.info("{}: {} {} were changed", reconciliation, KafkaConnector.RESOURCE_KIND, connectors.keySet());
+
+        String host = KafkaConnectResources.qualifiedServiceName(reconciliation.name(), reconciliation.namespace());
+        KafkaConnectApi apiClient = connectClientProvider.apply(vertx);
+        List<Future> futures = new ArrayList<>(connectors.size());
+        connectors.entrySet().stream()
+                .sorted(Comparator.comparing(entry -> entry.getValue() != null))
+                .forEach(entry -> futures.add(
+                        reconcileConnectorAndHandleResult(reconciliation, host, apiClient, useResources, entry.getKey(), entry.getValue())));
+        Promise<Void> result = Promise.promise();
+        CompositeFuture.join(futures).setHandler(ignored -> {
+            log.info("{}: reconciled", reconciliation);
+            result.complete();
         });
+        return result.future();
+    }
+
+    /**
+     * Calls the given {@code callable} with the lock of the connectors of the Connect cluster of the
+     * {@code reconciliation} held. This lock is separate from the lock of the Connect cluster, so that the connectors
+     * can be reconciled while the deployment of the Connect cluster is being reconciled.
+     */
+    private <X> Future<X> withConnectorsLock(Reconciliation reconciliation, long lockTimeoutMs, Callable<Future<X>> callable) {
+        return withLock(reconciliation, "lock::" + reconciliation.namespace() + "::" + KafkaConnector.RESOURCE_KIND + "::" + reconciliation.name(),
+                lockTimeoutMs, callable);
+    }
+
+    /**
+     * Returns the Connect cluster with the given name. The existing Connect clusters are cached, and the cache is
+     * updated by every reconciliation of the Connect cluster, so that the {@code KafkaConnector} watch events don't
+     * each need to read the Connect cluster from Kubernetes.
+     *
+     * @param namespace The namespace of the Connect cluster.
+     * @param name The name of the Connect cluster.
+     * @return A future with the Connect cluster, or with null if it does not exist.
+     */
+    private Future<T> connectCluster(String namespace, String name) {
+        String key = namespace + "/" + name;
+        Future<T> cached = connectClusters.get(key);
+        if (cached == null) {
+            Future<T> lookup = resourceOperator.getAsync(namespace, name);
+            cached = connectClusters.putIfAbsent(key, lookup);
+            if (cached == null) {
+                cached = lookup;
+                lookup.setHandler(result -> {
+                    // Only the existing Connect clusters are cached, so that a Connect cluster which gets created is seen
+                    if (result.failed() || result.result() == null) {
+                        connectClusters.remove(key, lookup);
+                    }
+                });
+            }
+        }
+        return cached;
+    }
+
+    /**
+     * Updates the cache of Connect clusters used by the {@code KafkaConnector} watch with the Connect cluster being
+     * reconciled.
+     *
+     * @param connect The Connect cluster.
+     */
+    protected void cacheConnectCluster(T connect) {
+        connectClusters.put(connect.getMetadata().getNamespace() + "/" + connect.getMetadata().getName(), Future.succeededFuture(connect));
     }
 
     /**
@@ -308,12 +564,12 @@ public abstract class AbstractConnectOperator<C extends KubernetesClient, T exte
 
         KafkaConnectApi apiClient = connectClientProvider.apply(vertx);
 
-        return CompositeFuture.join(
-                apiClient.list(host, port),
+        return withConnectorsLock(reconciliation, operationTimeoutMs, () -> maybeCollectConnectorMetrics(connect).compose(Tracing.withParent(reconciliation.span(), ignored -> CompositeFuture.join(
+                apiClient.listWithStatusAndInfo(host, port),
                 connectorOperator.listAsync(namespace, Optional.of(new LabelSelectorBuilder().addToMatchLabels(Labels.STRIMZI_CLUSTER_LABEL, connectName).build())),
                 apiClient.listConnectorPlugins(host, port)
-        ).compose(cf -> {
-            List<String> runningConnectorNames = cf.resultAt(0);
+        ).compose(Tracing.withParent(reconciliation.span(), cf -> {
+            Map<String, Map<String, Object>> runningConnectors = cf.resultAt(0);
             List<KafkaConnector> desiredConnectors = cf.resultAt(1);
             List<ConnectorPlugin> connectorPlugins = cf.resultAt(2);
 
@@ -324,33 +580,103 @@ public abstract class AbstractConnectOperator<C extends KubernetesClient, T exte
                 connectorsResourceCounter.set(desiredConnectors.size());
             }
 
-            Set<String> deleteConnectorNames = new HashSet<>(runningConnectorNames);
+            Set<String> deleteConnectorNames = new HashSet<>(runningConnectors.keySet());
             deleteConnectorNames.removeAll(desiredConnectors.stream().map(c -> c.getMetadata().getName()).collect(Collectors.toSet()));
             log.debug("{}: {} cluster: delete connectors: {}", reconciliation, kind(), deleteConnectorNames);
-            Stream<Future<Void>> deletionFutures = deleteConnectorNames.stream().map(connectorName ->
-                    reconcileConnectorAndHandleResult(reconciliation, host, apiClient, true, connectorName, null)
-            );
 
-            log.debug("{}: {} cluster: required connectors: {}", reconciliation, kind(), desiredConnectors);
-            Stream<Future<Void>> createUpdateFutures = desiredConnectors.stream()
-                    .map(connector -> reconcileConnectorAndHandleResult(reconciliation, host, apiClient, true, connector.getMetadata().getName(), connector));
+            // The connectors whose config was applied before only need their status refreshing
+            Map<Boolean, List<KafkaConnector>> connectorsByUnchanged = desiredConnectors.stream()
+                    .collect(Collectors.partitioningBy(connector -> runningConnectors.containsKey(connector.getMetadata().getName())
+                            && isConfigApplied(host, connector)));
+            log.debug("{}: {} cluster: changed connectors: {}", reconciliation, kind(), connectorsByUnchanged.get(false));
+            log.debug("{}: {} cluster: unchanged connectors: {}", reconciliation, kind(), connectorsByUnchanged.get(true));
 
-            return CompositeFuture.join(Stream.concat(deletionFutures, createUpdateFutures).collect(Collectors.toList())).map((Void) null);
-        });
+            // Deletions go first, then the changed connectors, so that they are not held up by refreshing unchanged ones
+            ConcurrencyLimiter limiter = connectorLimiter(host);
+            List<Future> futures = new ArrayList<>(deleteConnectorNames.size() + desiredConnectors.size());
+            for (String connectorName : deleteConnectorNames) {
+                futures.add(limiter.submit(() ->
+                        reconcileConnectorAndHandleResult(reconciliation, host, apiClient, true, connectorName, null, null)));
+            }
+            for (KafkaConnector connector : Stream.concat(connectorsByUnchanged.get(false).stream(), connectorsByUnchanged.get(true).stream())
+                    .collect(Collectors.toList())) {
+                String connectorName = connector.getMetadata().getName();
+                futures.add(limiter.submit(() ->
+                        reconcileConnectorAndHandleResult(reconciliation, host, apiClient, true, connectorName, connector, runningConnectors.get(connectorName))));
+            }
+
+            return CompositeFuture.join(futures).map((Void) null);
+        })))));
+    }
+
+    /**
+     * Collects the throughput and lag of the connectors from the metrics of the Connect workers, when the operator is
+     * configured to and the Connect cluster has metrics enabled, so that they can be set in the connector statuses.
+     *
+     * @param connect The Connect cluster.
+     * @return A future which completes when the metrics were collected. It never fails.
+     */
+    private Future<Void> maybeCollectConnectorMetrics(T connect) {
+        KafkaConnectSpec spec = connect instanceof KafkaConnect ? ((KafkaConnect) connect).getSpec()
+                : connect instanceof KafkaConnectS2I ? ((KafkaConnectS2I) connect).getSpec() : null;
+        if (connectorMetricsCollector == null || spec == null || spec.getMetrics() == null) {
+            return Future.succeededFuture();
+        }
+        return connectorMetricsCollector.maybeCollect(connect.getMetadata().getNamespace(), connect.getMetadata().getName());
+    }
+
+    /**
+     * @param vertx The Vertx instance.
+     * @return A provider which always returns the same {@link KafkaConnectApiImpl}, so that its pooled connections
+     * to the Connect REST APIs are reused across reconciliations.
+     */
+    protected static Function<Vertx, KafkaConnectApi> sharedConnectClientProvider(Vertx vertx) {
+        KafkaConnectApi client = new KafkaConnectApiImpl(vertx);
+        return ignored -> client;
     }
 
     protected KafkaConnectApi getKafkaConnectApi() {
         return connectClientProvider.apply(vertx);
     }
 
-    /*test*/ Future<Void> reconcileConnectorAndHandleResult(Reconciliation reconciliation, String host, KafkaConnectApi apiClient,
-                                             boolean useResources, String connectorName, KafkaConnector connector) {
+    /**
+     * @param host The host of the Connect REST API.
+     * @return The limiter of the number of connectors of the Connect cluster which are reconciled at the same time.
+     */
+    protected ConcurrencyLimiter connectorLimiter(String host) {
+        return connectorLimiters.computeIfAbsent(host, ignored -> new ConcurrencyLimiter(MAX_CONCURRENT_CONNECTOR_RECONCILIATIONS));
+    }
+
+    /**
+     * @param reconciliation The reconciliation of the Connect cluster.
+     * @return The host of the Connect REST API of the cluster, which its {@link #connectorLimiter(String) limiter}
+     *         is keyed by.
+     */
+    protected String connectorLimiterKey(Reconciliation reconciliation) {
+        return KafkaConnectResources.qualifiedServiceName(reconciliation.name(), reconciliation.namespace());
+    }
+
+    Future<Void> reconcileConnectorAndHandleResult(Reconciliation reconciliation, String host, KafkaConnectApi apiClient,
+                                                   boolean useResources, String connectorName, KafkaConnector connector) {
+        return connectorLimiter(host).submit(() ->
+                reconcileConnectorAndHandleResult(reconciliation, host, apiClient, useResources, connectorName, connector, null));
+    }
+
+    /**
+     * @param current The status and info of the connector from {@link KafkaConnectApi#listWithStatusAndInfo(String, int)},
+     *                or null if they are not known and need to be read from the REST API.
+     */
+    private Future<Void> reconcileConnectorAndHandleResult(Reconciliation reconciliation, String host, KafkaConnectApi apiClient,
+                                                           boolean useResources, String connectorName, KafkaConnector connector,
+                                                           Map<String, Object> current) {
         Promise<Void> reconciliationResult = Promise.promise();
 
         connectorsReconciliationsCounter.increment();
         Timer.Sample connectorsReconciliationsTimerSample = Timer.start(metrics.meterRegistry());
 
-        reconcileConnector(reconciliation, host, apiClient, useResources, connectorName, connector)
+        // The connector is reconciled when the limiter allows, in a callback, so the span of the reconciliation is its explicit parent
+        Tracing.traced(Tracing.startSpan("reconcileConnector", reconciliation.span(), KafkaConnector.RESOURCE_KIND, reconciliation.namespace(), connectorName),
+            () -> reconcileConnector(reconciliation, host, apiClient, useResources, connectorName, connector, current))
                 .setHandler(result -> {
                     connectorsReconciliationsTimerSample.stop(connectorsReconciliationsTimer);
 
@@ -367,7 +693,8 @@ public abstract class AbstractConnectOperator<C extends KubernetesClient, T exte
     }
 
     private Future<Void> reconcileConnector(Reconciliation reconciliation, String host, KafkaConnectApi apiClient,
-                                             boolean useResources, String connectorName, KafkaConnector connector) {
+                                             boolean useResources, String connectorName, KafkaConnector connector,
+                                             Map<String, Object> current) {
         if (connector == null) {
             if (useResources) {
                 log.info("{}: deleting connector: {}", reconciliation, connectorName);
@@ -383,19 +710,22 @@ public abstract class AbstractConnectOperator<C extends KubernetesClient, T exte
             }
             if (!useResources) {
                 return maybeUpdateConnectorStatus(reconciliation, connector, null,
-                        new NoSuchResourceException(reconciliation.kind() + " " + reconciliation.name() + " is not configured with annotation " + Annotations.STRIMZI_IO_USE_CONNECTOR_RESOURCES));
+                        new NoSuchResourceException(kind() + " " + reconciliation.name() + " is not configured with annotation " + Annotations.STRIMZI_IO_USE_CONNECTOR_RESOURCES));
             } else {
                 Promise<Void> promise = Promise.promise();
-                maybeCreateOrUpdateConnector(reconciliation, host, apiClient, connectorName, connector.getSpec())
-                        .setHandler(result -> {
-                            if (result.succeeded()) {
-                                maybeUpdateConnectorStatus(reconciliation, connector, result.result(), null)
-                                    .setHandler(promise);
-                            } else {
-                                maybeUpdateConnectorStatus(reconciliation, connector, result.result(), result.cause())
-                                    .setHandler(promise);
-                            }
-                        });
+                Future<Map<String, Object>> connectorState = !(current != null && current.get("info") instanceof Map) && isConfigApplied(host, connector)
+                        ? refreshConnector(reconciliation, host, apiClient, connectorName, connector.getSpec(), current)
+                        : maybeCreateOrUpdateConnector(reconciliation, host, apiClient, connectorName, connector.getSpec(), current);
+                connectorState.setHandler(result -> {
+                    if (result.succeeded()) {
+                        maybeUpdateConnectorStatus(reconciliation, connector, result.result(), null,
+                                configHash(host, connectorName, connector.getSpec()))
+                            .setHandler(promise);
+                    } else {
+                        maybeUpdateConnectorStatus(reconciliation, connector, result.result(), result.cause())
+                            .setHandler(promise);
+                    }
+                });
                 return promise.future();
             }
         }
@@ -415,20 +745,55 @@ public abstract class AbstractConnectOperator<C extends KubernetesClient, T exte
      */
     protected Future<Map<String, Object>> maybeCreateOrUpdateConnector(Reconciliation reconciliation, String host, KafkaConnectApi apiClient,
                                                                        String connectorName, KafkaConnectorSpec connectorSpec) {
+        return maybeCreateOrUpdateConnector(reconciliation, host, apiClient, connectorName, connectorSpec, null);
+    }
+
+    /**
+     * Like {@link #maybeCreateOrUpdateConnector(Reconciliation, String, KafkaConnectApi, String, KafkaConnectorSpec)},
+     * but using the config and status in {@code current}, when they are known, rather than reading them again
+     * from the REST API.
+     * @param reconciliation The reconciliation.
+     * @param host The REST API host.
+     * @param apiClient The client instance.
+     * @param connectorName The connector name.
+     * @param connectorSpec The desired connector spec.
+     * @param current The status and info of the connector from {@link KafkaConnectApi#listWithStatusAndInfo(String, int)},
+     *                or null.
+     * @return A Future whose result, when successfully completed, is a map of the current connector state.
+     */
+    @SuppressWarnings("unchecked")
+    protected Future<Map<String, Object>> maybeCreateOrUpdateConnector(Reconciliation reconciliation, String host, KafkaConnectApi apiClient,
+                                                                       String connectorName, KafkaConnectorSpec connectorSpec,
+                                                                       Map<String, Object> current) {
+        Object info = current != null ? current.get("info") : null;
+        Object currentStatus = current != null ? current.get("status") : null;
+        if (info instanceof Map && ((Map<String, Object>) info).get("config") instanceof Map && currentStatus instanceof Map) {
+            Map<String, String> config = new HashMap<>();
+            for (Map.Entry<String, Object> entry : ((Map<String, Object>) ((Map<String, Object>) info).get("config")).entrySet()) {
+                config.put(entry.getKey(), entry.getValue() != null ? entry.getValue().toString() : null);
+            }
+            if (!needsReconfiguring(reconciliation, connectorName, connectorSpec, config)) {
+                log.debug("{}: Connector {} exists and has desired config, {}=={}", reconciliation, connectorName, connectorSpec.getConfig(), config);
+                return pauseResume(reconciliation, host, apiClient, connectorName, connectorSpec, (Map<String, Object>) currentStatus);
+            } else {
+                log.debug("{}: Connector {} exists but does not have desired config, {}!={}", reconciliation, connectorName, connectorSpec.getConfig(), config);
+                return createOrUpdateConnector(reconciliation, host, apiClient, connectorName, connectorSpec);
+            }
+        }
         return apiClient.getConnectorConfig(new BackOff(200L, 2, 6), host, port, connectorName).compose(
-            config -> {
+            Tracing.withParent(reconciliation.span(), config -> {
                 if (!needsReconfiguring(reconciliation, connectorName, connectorSpec, config)) {
                     log.debug("{}: Connector {} exists and has desired config, {}=={}", reconciliation, connectorName, connectorSpec.getConfig(), config);
                     return apiClient.status(host, port, connectorName)
-                        .compose(status -> {
+                        .compose(Tracing.withParent(reconciliation.span(), status -> {
                             return pauseResume(reconciliation, host, apiClient, connectorName, connectorSpec, status);
-                        });
+                        }));
                 } else {
                     log.debug("{}: Connector {} exists but does not have desired config, {}!={}", reconciliation, connectorName, connectorSpec.getConfig(), config);
                     return createOrUpdateConnector(reconciliation, host, apiClient, connectorName, connectorSpec);
                 }
-            },
-            error -> {
+            }),
+            Tracing.withParent(reconciliation.span(), error -> {
                 if (error instanceof ConnectRestException
                         && ((ConnectRestException) error).getStatusCode() == 404) {
                     log.debug("{}: Connector {} does not exist", reconciliation, connectorName);
@@ -436,13 +801,22 @@ public abstract class AbstractConnectOperator<C extends KubernetesClient, T exte
                 } else {
                     return Future.failedFuture(error);
                 }
-            });
+            }));
     }
 
     private boolean needsReconfiguring(Reconciliation reconciliation, String connectorName,
                                        KafkaConnectorSpec connectorSpec,
                                        Map<String, String> actual) {
-        Map<String, String> desired = new HashMap<>(connectorSpec.getConfig().size());
+        Map<String, String> desired = desiredConfig(connectorName, connectorSpec);
+        if (log.isDebugEnabled()) {
+            log.debug("{}: Desired: {}", reconciliation, new TreeMap<>(desired));
+            log.debug("{}: Actual:  {}", reconciliation, new TreeMap<>(actual));
+        }
+        return !desired.equals(actual);
+    }
+
+    private static Map<String, String> desiredConfig(String connectorName, KafkaConnectorSpec connectorSpec) {
+        Map<String, String> desired = new HashMap<>(connectorSpec.getConfig() != null ? connectorSpec.getConfig().size() : 3);
         // The actual which comes from Connect API includes tasks.max, connector.class and name,
         // which connectorSpec.getConfig() does not
         if (connectorSpec.getTasksMax() != null) {
@@ -450,24 +824,112 @@ public abstract class AbstractConnectOperator<C extends KubernetesClient, T exte
         }
         desired.put("name", connectorName);
         desired.put("connector.class", connectorSpec.getClassName());
-        for (Map.Entry<String, Object> entry : connectorSpec.getConfig().entrySet()) {
-            desired.put(entry.getKey(), entry.getValue() != null ? entry.getValue().toString() : null);
+        if (connectorSpec.getConfig() != null) {
+            for (Map.Entry<String, Object> entry : connectorSpec.getConfig().entrySet()) {
+                desired.put(entry.getKey(), entry.getValue() != null ? entry.getValue().toString() : null);
+            }
         }
-        if (log.isDebugEnabled()) {
-            log.debug("{}: Desired: {}", reconciliation, new TreeMap<>(desired));
-            log.debug("{}: Actual:  {}", reconciliation, new TreeMap<>(actual));
+        return desired;
+    }
+
+    /**
+     * Computes the hash of the config of the connector, which is recorded in its status once the config has been applied.
+     * @param host The host of the Connect REST API the config is applied through.
+     * @param connectorName The connector name.
+     * @param connectorSpec The connector spec.
+     * @return The hash.
+     */
+    /*test*/ static String configHash(String host, String connectorName, KafkaConnectorSpec connectorSpec) {
+        return sha256(host + "\n" + new TreeMap<>(desiredConfig(connectorName, connectorSpec)));
+    }
+
+    /**
+     * Computes the hash of the config of several connectors, such as those of a MirrorMaker 2.0 mirror.
+     * @param host The host of the Connect REST API the config is applied through.
+     * @param connectorSpecs The connector specs, by connector name.
+     * @return The hash.
+     */
+    /*test*/ static String configHash(String host, Map<String, KafkaConnectorSpec> connectorSpecs) {
+        StringBuilder config = new StringBuilder(host);
+        for (Map.Entry<String, KafkaConnectorSpec> connector : new TreeMap<>(connectorSpecs).entrySet()) {
+            config.append('\n').append(new TreeMap<>(desiredConfig(connector.getKey(), connector.getValue())));
         }
-        return !desired.equals(actual);
+        return sha256(config.toString());
+    }
+
+    private static String sha256(String value) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(value.getBytes(StandardCharsets.UTF_8));
+            StringBuilder result = new StringBuilder();
+            for (byte b : hash) {
+                result.append(String.format("%02x", b));
+            }
+            return result.toString();
+        } catch (NoSuchAlgorithmException e) {
+            throw new RuntimeException("Failed to create SHA-256 MessageDigest instance", e);
+        }
+    }
+
+    /**
+     * Checks whether the last reconciliation of the connector succeeded for the current generation of the
+     * {@code KafkaConnector} and applied its current config to the given Connect cluster (as recorded by the config
+     * hash in its status).
+     */
+    /*test*/ static boolean isConfigApplied(String host, KafkaConnector connector) {
+        KafkaConnectorStatus status = connector.getStatus();
+        if (connector.getSpec() == null
+                || status == null
+                || status.getConfigHash() == null
+                || !Objects.equals(status.getObservedGeneration(), connector.getMetadata().getGeneration())
+                || status.getConditions() == null
+                || status.getConditions().stream().noneMatch(condition -> "Ready".equals(condition.getType()) && "True".equals(condition.getStatus()))) {
+            return false;
+        }
+        return status.getConfigHash().equals(configHash(host, connector.getMetadata().getName(), connector.getSpec()));
+    }
+
+    /**
+     * Gets the status of a connector whose config was already applied, without reading its config, and pauses or
+     * resumes it if needed. If the connector no longer exists then it is created again.
+     * @param reconciliation The reconciliation.
+     * @param host The REST API host.
+     * @param apiClient The client instance.
+     * @param connectorName The connector name.
+     * @param connectorSpec The desired connector spec.
+     * @param current The status and info of the connector from {@link KafkaConnectApi#listWithStatusAndInfo(String, int)},
+     *                or null. When it includes the status, the status isn't read again from the REST API.
+     * @return A Future whose result, when successfully completed, is a map of the current connector state.
+     */
+    @SuppressWarnings("unchecked")
+    protected Future<Map<String, Object>> refreshConnector(Reconciliation reconciliation, String host, KafkaConnectApi apiClient,
+                                                           String connectorName, KafkaConnectorSpec connectorSpec,
+                                                           Map<String, Object> current) {
+        log.debug("{}: Connector {} did not change since its config was last applied", reconciliation, connectorName);
+        Object currentStatus = current != null ? current.get("status") : null;
+        if (currentStatus instanceof Map) {
+            return pauseResume(reconciliation, host, apiClient, connectorName, connectorSpec, (Map<String, Object>) currentStatus);
+        }
+        return apiClient.status(host, port, connectorName).compose(
+            Tracing.withParent(reconciliation.span(), status -> pauseResume(reconciliation, host, apiClient, connectorName, connectorSpec, status)),
+            Tracing.withParent(reconciliation.span(), error -> {
+                if (error instanceof ConnectRestException
+                        && ((ConnectRestException) error).getStatusCode() == 404) {
+                    log.debug("{}: Connector {} does not exist", reconciliation, connectorName);
+                    return createOrUpdateConnector(reconciliation, host, apiClient, connectorName, connectorSpec);
+                } else {
+                    return Future.failedFuture(error);
+                }
+            }));
     }
 
     protected Future<Map<String, Object>> createOrUpdateConnector(Reconciliation reconciliation, String host, KafkaConnectApi apiClient,
                                                                   String connectorName, KafkaConnectorSpec connectorSpec) {
         return apiClient.createOrUpdatePutRequest(host, port, connectorName, asJson(connectorSpec))
-            .compose(ignored -> apiClient.statusWithBackOff(new BackOff(200L, 2, 10), host, port,
-                    connectorName))
-            .compose(status -> {
+            .compose(Tracing.withParent(reconciliation.span(), ignored -> apiClient.statusWithBackOff(new BackOff(200L, 2, 10), host, port,
+                    connectorName)))
+            .compose(Tracing.withParent(reconciliation.span(), status -> {
                 return pauseResume(reconciliation, host, apiClient, connectorName, connectorSpec, status);
-            });
+            }));
     }
 
     private Future<Map<String, Object>> pauseResume(Reconciliation reconciliation, String host, KafkaConnectApi apiClient, String connectorName, KafkaConnectorSpec connectorSpec, Map<String, Object> status) {
@@ -481,16 +943,16 @@ public abstract class AbstractConnectOperator<C extends KubernetesClient, T exte
                 log.debug("{}: Pausing connector {}", reconciliation, connectorName);
                 return apiClient.pause(host, port,
                         connectorName)
-                        .compose(ignored ->
+                        .compose(Tracing.withParent(reconciliation.span(), ignored ->
                                 apiClient.status(host, port,
-                                        connectorName));
+                                        connectorName)));
             } else if ("PAUSED".equals(state) && !shouldPause) {
                 log.debug("{}: Resuming connector {}", reconciliation, connectorName);
                 return apiClient.resume(host, port,
                         connectorName)
-                        .compose(ignored ->
+                        .compose(Tracing.withParent(reconciliation.span(), ignored ->
                                 apiClient.status(host, port,
-                                        connectorName));
+                                        connectorName)));
 
             } else {
                 return Future.succeededFuture(status);
@@ -511,12 +973,22 @@ public abstract class AbstractConnectOperator<C extends KubernetesClient, T exte
     }
 
     Future<Void> maybeUpdateConnectorStatus(Reconciliation reconciliation, KafkaConnector connector, Map<String, Object> statusResult, Throwable error) {
+        return maybeUpdateConnectorStatus(reconciliation, connector, statusResult, error, null);
+    }
+
+    private Future<Void> maybeUpdateConnectorStatus(Reconciliation reconciliation, KafkaConnector connector, Map<String, Object> statusResult,
+                                                    Throwable error, String configHash) {
         KafkaConnectorStatus status = new KafkaConnectorStatus();
         if (error != null) {
             log.warn("{}: Error reconciling connector {}", reconciliation, connector.getMetadata().getName(), error);
         }
         StatusUtils.setStatusConditionAndObservedGeneration(connector, status, error != null ? Future.failedFuture(error) : Future.succeededFuture());
         status.setConnectorStatus(statusResult);
+        status.setConfigHash(configHash);
+        if (connectorMetricsCollector != null && connector.getMetadata().getLabels() != null) {
+            status.setMetrics(connectorMetricsCollector.metrics(connector.getMetadata().getNamespace(),
+                    connector.getMetadata().getLabels().get(Labels.STRIMZI_CLUSTER_LABEL), connector.getMetadata().getName()));
+        }
 
         return maybeUpdateStatusCommon(connectorOperator, connector, reconciliation, status,
             (connector1, status1) -> {
@@ -54,8 +54,10 @@ import io.strimzi.operator.cluster.KafkaUpgradeException;
 import io.strimzi.operator.cluster.model.AbstractModel;
 import io.strimzi.operator.cluster.model.Ca;
 import io.strimzi.operator.cluster.model.ClientsCa;
+import io.strimzi.operator.cluster.model.CertGenerationExecutor;
 import io.strimzi.operator.cluster.model.ClusterCa;
 import io.strimzi.operator.cluster.model.CruiseControl;
+import io.strimzi.operator.cluster.model.DesiredModelCache;
 import io.strimzi.operator.cluster.model.EntityOperator;
 import io.strimzi.operator.cluster.model.EntityTopicOperator;
 import io.strimzi.operator.cluster.model.EntityUserOperator;
@@ -83,7 +85,9 @@ import io.strimzi.operator.common.Annotations;
 import io.strimzi.operator.common.InvalidConfigurationException;
 import io.strimzi.operator.common.PasswordGenerator;
 import io.strimzi.operator.common.Reconciliation;
+import io.strimzi.operator.common.Tracing;
 import io.strimzi.operator.common.Util;
+import io.strimzi.operator.common.WorkerPools;
 import io.strimzi.operator.common.model.Labels;
 import io.strimzi.operator.common.operator.resource.AbstractScalableResourceOperator;
 import io.strimzi.operator.common.operator.resource.CrdOperator;
@@ -110,6 +114,8 @@ import java.security.NoSuchAlgorithmException;
 import java.security.cert.CertificateEncodingException;
 import java.security.cert.X509Certificate;
 import java.text.ParseException;
+import java.time.Duration;
+import java.time.Instant;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Base64;
@@ -124,6 +130,7 @@ import java.util.Set;
 import java.util.TimeZone;
 import java.util.function.Function;
 import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
@@ -148,6 +155,15 @@ import static io.strimzi.operator.cluster.model.KafkaVersion.compareDottedVersio
 public class KafkaAssemblyOperator extends AbstractAssemblyOperator<KubernetesClient, Kafka, KafkaList, DoneableKafka, Resource<Kafka, DoneableKafka>> {
     private static final Logger log = LogManager.getLogger(KafkaAssemblyOperator.class.getName());
 
+    // The names of the desired models in the DesiredModelCache
+    private static final String MODEL_ZOOKEEPER = "zookeeper";
+    private static final String MODEL_KAFKA = "kafka";
+    private static final String MODEL_TOPIC_OPERATOR = "topic-operator";
+    private static final String MODEL_ENTITY_OPERATOR = "entity-operator";
+    private static final String MODEL_CRUISE_CONTROL = "cruise-control";
+    private static final String MODEL_KAFKA_EXPORTER = "kafka-exporter";
+    private static final String MODEL_JMX_TRANS = "jmx-trans";
+
     private final long operationTimeoutMs;
 
     private final ZookeeperSetOperator zkSetOperations;
@@ -162,6 +178,9 @@ public class KafkaAssemblyOperator extends AbstractAssemblyOperator<KubernetesCl
     private final NodeOperator nodeOperator;
     private final CrdOperator<KubernetesClient, Kafka, KafkaList, DoneableKafka> crdOperator;
     private final ZookeeperScalerProvider zkScalerProvider;
+    private final CertGenerationExecutor certGenerationExecutor;
+    private final DesiredModelCache modelCache;
+    private final Map<String, Long> certificateRenewalTimers = new ConcurrentHashMap<>();
 
     /**
      * @param vertx The Vertx instance
@@ -190,6 +209,8 @@ public class KafkaAssemblyOperator extends AbstractAssemblyOperator<KubernetesCl
         this.crdOperator = supplier.kafkaOperator;
         this.nodeOperator = supplier.nodeOperator;
         this.zkScalerProvider = supplier.zkScalerProvider;
+        this.certGenerationExecutor = new CertGenerationExecutor(Runtime.getRuntime().availableProcessors(), supplier.metricsProvider);
+        this.modelCache = new DesiredModelCache(DesiredModelCache.DEFAULT_MAX_RESOURCES, supplier.metricsProvider);
     }
 
     @Override
@@ -211,6 +232,7 @@ public class KafkaAssemblyOperator extends AbstractAssemblyOperator<KubernetesCl
             }
 
             if (reconcileResult.succeeded())    {
+                scheduleCertificateRenewal(reconciliation, reconcileState.clusterCa, reconcileState.clientsCa);
                 readyCondition = new ConditionBuilder()
                         .withLastTransitionTime(ModelUtils.formatTimestamp(dateSupplier()))
                         .withType("Ready")
@@ -249,116 +271,178 @@ public class KafkaAssemblyOperator extends AbstractAssemblyOperator<KubernetesCl
         return createOrUpdatePromise.future();
     }
 
+    /**
+     * Schedules a reconciliation for when the renewal period of the next certificate signed by the cluster or clients
+     * CA opens, so that the certificate is renewed then rather than by the next periodic reconciliation.
+     */
+    private void scheduleCertificateRenewal(Reconciliation reconciliation, ClusterCa clusterCa, ClientsCa clientsCa) {
+        String namespace = reconciliation.namespace();
+        String name = reconciliation.name();
+        cancelCertificateRenewal(namespace, name);
+        if (clusterCa == null || clientsCa == null) {
+            return;
+        }
+
+        Set<String> clusterCaSecrets = new HashSet<>(Arrays.asList(
+                AbstractModel.clusterCaCertSecretName(name),
+                KafkaCluster.brokersSecretName(name),
+                ZookeeperCluster.nodesSecretName(name),
+                EntityOperator.secretName(name),
+                CruiseControl.secretName(name),
+                KafkaExporter.secretName(name),
+                ClusterOperator.secretName(name)));
+        Instant next = clusterCa.nextRenewalPeriodStart(namespace, clusterCaSecrets);
+        Instant nextClients = clientsCa.nextRenewalPeriodStart(namespace, Collections.singleton(KafkaCluster.clientsCaCertSecretName(name)));
+        if (next == null || nextClients != null && nextClients.isBefore(next)) {
+            next = nextClients;
+        }
+
+        if (next != null) {
+            String key = namespace + "/" + name;
+            long delayMs = Math.max(1, Duration.between(Instant.now(), next).toMillis());
+            log.debug("{}: Scheduling a reconciliation for the renewal of a certificate at {}", reconciliation, next);
+            certificateRenewalTimers.put(key, vertx.setTimer(delayMs, timerId -> {
+                if (certificateRenewalTimers.remove(key, timerId)) {
+                    reconcile(new Reconciliation("certificate-renewal", kind(), namespace, name));
+                }
+            }));
+        }
+    }
+
+    private void cancelCertificateRenewal(String namespace, String name) {
+        Long timerId = certificateRenewalTimers.remove(namespace + "/" + name);
+        if (timerId != null) {
+            vertx.cancelTimer(timerId);
+        }
+    }
+
+    @Override
+    protected Future<Boolean> delete(Reconciliation reconciliation) {
+        cancelCertificateRenewal(reconciliation.namespace(), reconciliation.name());
+        return super.delete(reconciliation);
+    }
+
+    /**
+     * Traces the given step of a reconciliation with a child span of the span of the reconciliation.
+     *
+     * @param step The name of the step.
+     * @param work The step.
+     * @return The traced step.
+     */
+    private static Function<ReconciliationState, Future<ReconciliationState>> step(String step, Function<ReconciliationState, Future<ReconciliationState>> work) {
+        return state -> Tracing.step(state.reconciliation, step, work).apply(state);
+    }
+
     Future<Void> reconcile(ReconciliationState reconcileState)  {
         Promise<Void> chainPromise = Promise.promise();
 
         reconcileState.initialStatus()
-                .compose(state -> state.reconcileCas(this::dateSupplier))
-                .compose(state -> state.clusterOperatorSecret(this::dateSupplier))
+                .compose(step("reconcileCas", state -> state.reconcileCas(this::dateSupplier)))
+                .compose(step("clusterOperatorSecret", state -> state.clusterOperatorSecret(this::dateSupplier)))
                 // Roll everything if a new CA is added to the trust store.
-                .compose(state -> state.rollingUpdateForNewCaKey())
-                .compose(state -> state.getZookeeperDescription())
-                .compose(state -> state.zkModelWarnings())
-                .compose(state -> state.zkManualPodCleaning())
-                .compose(state -> state.zkNetPolicy())
-                .compose(state -> state.zkManualRollingUpdate())
-                .compose(state -> state.zkVersionChange())
-                .compose(state -> state.zookeeperServiceAccount())
-                .compose(state -> state.zkPvcs())
-                .compose(state -> state.zkService())
-                .compose(state -> state.zkHeadlessService())
-                .compose(state -> state.zkAncillaryCm())
-                .compose(state -> state.zkNodesSecret(this::dateSupplier))
-                .compose(state -> state.zkPodDisruptionBudget())
-                .compose(state -> state.zkStatefulSet())
-                .compose(state -> state.zkScalingDown())
-                .compose(state -> state.zkRollingUpdate())
-                .compose(state -> state.zkPodsReady())
-                .compose(state -> state.zkScalingUp())
-                .compose(state -> state.zkScalingCheck())
-                .compose(state -> state.zkServiceEndpointReadiness())
-                .compose(state -> state.zkHeadlessServiceEndpointReadiness())
-                .compose(state -> state.zkPersistentClaimDeletion())
-
-                .compose(state -> state.getKafkaClusterDescription())
-                .compose(state -> state.checkKafkaSpec())
-                .compose(state -> state.kafkaModelWarnings())
-                .compose(state -> state.kafkaManualPodCleaning())
-                .compose(state -> state.kafkaNetPolicy())
-                .compose(state -> state.kafkaManualRollingUpdate())
-                .compose(state -> state.kafkaVersionChange())
-                .compose(state -> state.kafkaPvcs())
-                .compose(state -> state.kafkaInitServiceAccount())
-                .compose(state -> state.kafkaInitClusterRoleBinding())
-                .compose(state -> state.kafkaScaleDown())
-                .compose(state -> state.kafkaService())
-                .compose(state -> state.kafkaHeadlessService())
-                .compose(state -> state.kafkaExternalBootstrapService())
-                .compose(state -> state.kafkaReplicaServices())
-                .compose(state -> state.kafkaBootstrapRoute())
-                .compose(state -> state.kafkaReplicaRoutes())
-                .compose(state -> state.kafkaBootstrapIngress())
-                .compose(state -> state.kafkaReplicaIngress())
-                .compose(state -> state.kafkaExternalBootstrapServiceReady())
-                .compose(state -> state.kafkaReplicaServicesReady())
-                .compose(state -> state.kafkaBootstrapRouteReady())
-                .compose(state -> state.kafkaReplicaRoutesReady())
-                .compose(state -> state.kafkaGenerateCertificates(this::dateSupplier))
-                .compose(state -> state.customTlsListenerCertificate())
-                .compose(state -> state.customExternalListenerCertificate())
-                .compose(state -> state.kafkaAncillaryCm())
-                .compose(state -> state.kafkaBrokersSecret())
-                .compose(state -> state.kafkaJmxSecret())
-                .compose(state -> state.kafkaPodDisruptionBudget())
-                .compose(state -> state.kafkaStatefulSet())
-                .compose(state -> state.kafkaRollingUpdate())
-                .compose(state -> state.kafkaScaleUp())
-                .compose(state -> state.kafkaPodsReady())
-                .compose(state -> state.kafkaServiceEndpointReady())
-                .compose(state -> state.kafkaHeadlessServiceEndpointReady())
-                .compose(state -> state.kafkaNodePortExternalListenerStatus())
-                .compose(state -> state.kafkaPersistentClaimDeletion())
-                .compose(state -> state.kafkaTlsListenerCertificatesToStatus())
-                .compose(state -> state.kafkaExternalListenerCertificatesToStatus())
-
-                .compose(state -> state.getTopicOperatorDescription())
-                .compose(state -> state.topicOperatorServiceAccount())
-                .compose(state -> state.topicOperatorRoleBinding())
-                .compose(state -> state.topicOperatorAncillaryCm())
-                .compose(state -> state.topicOperatorSecret(this::dateSupplier))
-                .compose(state -> state.topicOperatorDeployment())
-
-                .compose(state -> state.getEntityOperatorDescription())
-                .compose(state -> state.entityOperatorServiceAccount())
-                .compose(state -> state.entityOperatorTopicOpRoleBinding())
-                .compose(state -> state.entityOperatorUserOpRoleBinding())
-                .compose(state -> state.entityOperatorTopicOpAncillaryCm())
-                .compose(state -> state.entityOperatorUserOpAncillaryCm())
-                .compose(state -> state.entityOperatorSecret(this::dateSupplier))
-                .compose(state -> state.entityOperatorDeployment())
-                .compose(state -> state.entityOperatorReady())
-
-                .compose(state -> state.getCruiseControlDescription())
-                .compose(state -> state.cruiseControlNetPolicy())
-                .compose(state -> state.cruiseControlServiceAccount())
-                .compose(state -> state.cruiseControlAncillaryCm())
-                .compose(state -> state.cruiseControlSecret(this::dateSupplier))
-                .compose(state -> state.cruiseControlDeployment())
-                .compose(state -> state.cruiseControlService())
-                .compose(state -> state.cruiseControlReady())
-
-                .compose(state -> state.getKafkaExporterDescription())
-                .compose(state -> state.kafkaExporterServiceAccount())
-                .compose(state -> state.kafkaExporterSecret(this::dateSupplier))
-                .compose(state -> state.kafkaExporterService())
-                .compose(state -> state.kafkaExporterDeployment())
-                .compose(state -> state.kafkaExporterReady())
-
-                .compose(state -> state.getJmxTransDescription())
-                .compose(state -> state.jmxTransServiceAccount())
-                .compose(state -> state.jmxTransConfigMap())
-                .compose(state -> state.jmxTransDeployment())
-                .compose(state -> state.jmxTransDeploymentReady())
+                .compose(step("rollingUpdateForNewCaKey", state -> state.rollingUpdateForNewCaKey()))
+                .compose(step("getZookeeperDescription", state -> state.getZookeeperDescription()))
+                .compose(step("zkModelWarnings", state -> state.zkModelWarnings()))
+                .compose(step("zkManualPodCleaning", state -> state.zkManualPodCleaning()))
+                .compose(step("zkNetPolicy", state -> state.zkNetPolicy()))
+                .compose(step("zkManualRollingUpdate", state -> state.zkManualRollingUpdate()))
+                .compose(step("zkVersionChange", state -> state.zkVersionChange()))
+                .compose(step("zookeeperServiceAccount", state -> state.zookeeperServiceAccount()))
+                .compose(step("zkPvcs", state -> state.zkPvcs()))
+                .compose(step("zkService", state -> state.zkService()))
+                .compose(step("zkHeadlessService", state -> state.zkHeadlessService()))
+                .compose(step("zkAncillaryCm", state -> state.zkAncillaryCm()))
+                .compose(step("zkNodesSecret", state -> state.zkNodesSecret(this::dateSupplier)))
+                .compose(step("zkPodDisruptionBudget", state -> state.zkPodDisruptionBudget()))
+                .compose(step("zkStatefulSet", state -> state.zkStatefulSet()))
+                .compose(step("zkScalingDown", state -> state.zkScalingDown()))
+                .compose(step("zkRollingUpdate", state -> state.zkRollingUpdate()))
+                .compose(step("zkPodsReady", state -> state.zkPodsReady()))
+                .compose(step("zkScalingUp", state -> state.zkScalingUp()))
+                .compose(step("zkScalingCheck", state -> state.zkScalingCheck()))
+                .compose(step("zkServiceEndpointReadiness", state -> state.zkServiceEndpointReadiness()))
+                .compose(step("zkHeadlessServiceEndpointReadiness", state -> state.zkHeadlessServiceEndpointReadiness()))
+                .compose(step("zkPersistentClaimDeletion", state -> state.zkPersistentClaimDeletion()))
+
+                .compose(step("getKafkaClusterDescription", state -> state.getKafkaClusterDescription()))
+                .compose(step("checkKafkaSpec", state -> state.checkKafkaSpec()))
+                .compose(step("kafkaModelWarnings", state -> state.kafkaModelWarnings()))
+                .compose(step("kafkaManualPodCleaning", state -> state.kafkaManualPodCleaning()))
+                .compose(step("kafkaNetPolicy", state -> state.kafkaNetPolicy()))
+                .compose(step("kafkaManualRollingUpdate", state -> state.kafkaManualRollingUpdate()))
+                .compose(step("kafkaVersionChange", state -> state.kafkaVersionChange()))
+                .compose(step("kafkaPvcs", state -> state.kafkaPvcs()))
+                .compose(step("kafkaInitServiceAccount", state -> state.kafkaInitServiceAccount()))
+                .compose(step("kafkaInitClusterRoleBinding", state -> state.kafkaInitClusterRoleBinding()))
+                .compose(step("kafkaScaleDown", state -> state.kafkaScaleDown()))
+                .compose(step("kafkaService", state -> state.kafkaService()))
+                .compose(step("kafkaHeadlessService", state -> state.kafkaHeadlessService()))
+                .compose(step("kafkaExternalBootstrapService", state -> state.kafkaExternalBootstrapService()))
+                .compose(step("kafkaReplicaServices", state -> state.kafkaReplicaServices()))
+                .compose(step("kafkaBootstrapRoute", state -> state.kafkaBootstrapRoute()))
+                .compose(step("kafkaReplicaRoutes", state -> state.kafkaReplicaRoutes()))
+                .compose(step("kafkaBootstrapIngress", state -> state.kafkaBootstrapIngress()))
+                .compose(step("kafkaReplicaIngress", state -> state.kafkaReplicaIngress()))
+                .compose(step("kafkaExternalBootstrapServiceReady", state -> state.kafkaExternalBootstrapServiceReady()))
+                .compose(step("kafkaReplicaServicesReady", state -> state.kafkaReplicaServicesReady()))
+                .compose(step("kafkaBootstrapRouteReady", state -> state.kafkaBootstrapRouteReady()))
+                .compose(step("kafkaReplicaRoutesReady", state -> state.kafkaReplicaRoutesReady()))
+                .compose(step("kafkaGenerateCertificates", state -> state.kafkaGenerateCertificates(this::dateSupplier)))
+                .compose(step("customTlsListenerCertificate", state -> state.customTlsListenerCertificate()))
+                .compose(step("customExternalListenerCertificate", state -> state.customExternalListenerCertificate()))
+                .compose(step("kafkaAncillaryCm", state -> state.kafkaAncillaryCm()))
+                .compose(step("kafkaBrokersSecret", state -> state.kafkaBrokersSecret()))
+                .compose(step("kafkaJmxSecret", state -> state.kafkaJmxSecret()))
+                .compose(step("kafkaPodDisruptionBudget", state -> state.kafkaPodDisruptionBudget()))
+                .compose(step("kafkaStatefulSet", state -> state.kafkaStatefulSet()))
+                .compose(step("kafkaRollingUpdate", state -> state.kafkaRollingUpdate()))
+                .compose(step("kafkaScaleUp", state -> state.kafkaScaleUp()))
+                .compose(step("kafkaPodsReady", state -> state.kafkaPodsReady()))
+                .compose(step("kafkaServiceEndpointReady", state -> state.kafkaServiceEndpointReady()))
+                .compose(step("kafkaHeadlessServiceEndpointReady", state -> state.kafkaHeadlessServiceEndpointReady()))
+                .compose(step("kafkaNodePortExternalListenerStatus", state -> state.kafkaNodePortExternalListenerStatus()))
+                .compose(step("kafkaPersistentClaimDeletion", state -> state.kafkaPersistentClaimDeletion()))
+                .compose(step("kafkaTlsListenerCertificatesToStatus", state -> state.kafkaTlsListenerCertificatesToStatus()))
+                .compose(step("kafkaExternalListenerCertificatesToStatus", state -> state.kafkaExternalListenerCertificatesToStatus()))
+
+                .compose(step("getTopicOperatorDescription", state -> state.getTopicOperatorDescription()))
+                .compose(step("topicOperatorServiceAccount", state -> state.topicOperatorServiceAccount()))
+                .compose(step("topicOperatorRoleBinding", state -> state.topicOperatorRoleBinding()))
+                .compose(step("topicOperatorAncillaryCm", state -> state.topicOperatorAncillaryCm()))
+                .compose(step("topicOperatorSecret", state -> state.topicOperatorSecret(this::dateSupplier)))
+                .compose(step("topicOperatorDeployment", state -> state.topicOperatorDeployment()))
+
+                .compose(step("getEntityOperatorDescription", state -> state.getEntityOperatorDescription()))
+                .compose(step("entityOperatorServiceAccount", state -> state.entityOperatorServiceAccount()))
+                .compose(step("entityOperatorTopicOpRoleBinding", state -> state.entityOperatorTopicOpRoleBinding()))
+                .compose(step("entityOperatorUserOpRoleBinding", state -> state.entityOperatorUserOpRoleBinding()))
+                .compose(step("entityOperatorTopicOpAncillaryCm", state -> state.entityOperatorTopicOpAncillaryCm()))
+                .compose(step("entityOperatorUserOpAncillaryCm", state -> state.entityOperatorUserOpAncillaryCm()))
+                .compose(step("entityOperatorSecret", state -> state.entityOperatorSecret(this::dateSupplier)))
+                .compose(step("entityOperatorDeployment", state -> state.entityOperatorDeployment()))
+                .compose(step("entityOperatorReady", state -> state.entityOperatorReady()))
+
+                .compose(step("getCruiseControlDescription", state -> state.getCruiseControlDescription()))
+                .compose(step("cruiseControlNetPolicy", state -> state.cruiseControlNetPolicy()))
+                .compose(step("cruiseControlServiceAccount", state -> state.cruiseControlServiceAccount()))
+                .compose(step("cruiseControlAncillaryCm", state -> state.cruiseControlAncillaryCm()))
+                .compose(step("cruiseControlSecret", state -> state.cruiseControlSecret(this::dateSupplier)))
+                .compose(step("cruiseControlDeployment", state -> state.cruiseControlDeployment()))
+                .compose(step("cruiseControlService", state -> state.cruiseControlService()))
+                .compose(step("cruiseControlReady", state -> state.cruiseControlReady()))
+
+                .compose(step("getKafkaExporterDescription", state -> state.getKafkaExporterDescription()))
+                .compose(step("kafkaExporterServiceAccount", state -> state.kafkaExporterServiceAccount()))
+                .compose(step("kafkaExporterSecret", state -> state.kafkaExporterSecret(this::dateSupplier)))
+                .compose(step("kafkaExporterService", state -> state.kafkaExporterService()))
+                .compose(step("kafkaExporterDeployment", state -> state.kafkaExporterDeployment()))
+                .compose(step("kafkaExporterReady", state -> state.kafkaExporterReady()))
+
+                .compose(step("getJmxTransDescription", state -> state.getJmxTransDescription()))
+                .compose(step("jmxTransServiceAccount", state -> state.jmxTransServiceAccount()))
+                .compose(step("jmxTransConfigMap", state -> state.jmxTransConfigMap()))
+                .compose(step("jmxTransDeployment", state -> state.jmxTransDeployment()))
+                .compose(step("jmxTransDeploymentReady", state -> state.jmxTransDeploymentReady()))
 
                 .map((Void) null)
                 .setHandler(chainPromise);
@@ -585,7 +669,7 @@ public class KafkaAssemblyOperator extends AbstractAssemblyOperator<KubernetesCl
             Labels selectorLabels = Labels.EMPTY.withStrimziKind(reconciliation.kind()).withStrimziCluster(reconciliation.name());
             Labels caLabels = Labels.generateDefaultLabels(kafkaAssembly, Labels.APPLICATION_NAME, AbstractModel.STRIMZI_CLUSTER_OPERATOR_NAME);
             Promise<ReconciliationState> resultPromise = Promise.promise();
-            vertx.createSharedWorkerExecutor("kubernetes-ops-pool").<ReconciliationState>executeBlocking(
+            WorkerPools.get(vertx).<ReconciliationState>executeBlocking(WorkerPools.Kind.LONG_RUNNING,
                 future -> {
                     try {
                         String clusterCaCertName = AbstractModel.clusterCaCertSecretName(name);
@@ -628,6 +712,7 @@ public class KafkaAssemblyOperator extends AbstractAssemblyOperator<KubernetesCl
                                 ModelUtils.getRenewalDays(clusterCaConfig),
                                 clusterCaConfig == null || clusterCaConfig.isGenerateCertificateAuthority(),
                                 clusterCaConfig != null ? clusterCaConfig.getCertificateExpirationPolicy() : null);
+                        this.clusterCa.setCertGenerationExecutor(certGenerationExecutor);
                         clusterCa.createRenewOrReplace(
                                 reconciliation.namespace(), reconciliation.name(), caLabels.toMap(),
                                 ownerRef, isMaintenanceTimeWindowsSatisfied(dateSupplier));
@@ -673,7 +758,7 @@ public class KafkaAssemblyOperator extends AbstractAssemblyOperator<KubernetesCl
                     } catch (Throwable e) {
                         future.fail(e);
                     }
-                }, true,
+                }, false,
                 resultPromise
             );
             return resultPromise.future();
@@ -845,6 +930,7 @@ public class KafkaAssemblyOperator extends AbstractAssemblyOperator<KubernetesCl
 
                         log.debug("Setting new Zookeeper image: " + newZkImage);
                         this.zkCluster.setImage(newZkImage);
+                        modelCache.evict(kafkaAssembly, MODEL_ZOOKEEPER);
 
                         return Future.succeededFuture(this);
                     }
@@ -930,7 +1016,7 @@ public class KafkaAssemblyOperator extends AbstractAssemblyOperator<KubernetesCl
                         KafkaVersion currentVersion = versions.version(Annotations.annotations(oldSts).get(ANNO_STRIMZI_IO_KAFKA_VERSION));
 
                         StatefulSet sts;
-                        ConfigMap cm;
+                        Future<ConfigMap> cmFuture;
 
                         // When Kafka upgrade is done together with broker upgrade (when `version: X.Y.Z` is missing in
                         // the CRD), the broker configuration file introduced in 0.16.0 might not be there yet (if
@@ -939,18 +1025,20 @@ public class KafkaAssemblyOperator extends AbstractAssemblyOperator<KubernetesCl
                         boolean certificatesHaveToBeUpgraded;
                         if (oldCm.getData().get("server.config") == null)  {
                             certificatesHaveToBeUpgraded = true;
-                            cm = getKafkaAncialiaryCm();
+                            cmFuture = getKafkaAncialiaryCm();
                             sts = getKafkaStatefulSet();
                         } else {
                             sts = oldSts;
-                            cm = oldCm;
+                            cmFuture = Future.succeededFuture(oldCm);
                             certificatesHaveToBeUpgraded = false;
                         }
 
-                        if (versionChange.isNoop()) {
-                            log.debug("Kafka.spec.kafka.version unchanged");
-                            return Future.succeededFuture(this);
-                        } else {
+                        return cmFuture.compose(cm -> {
+                            if (versionChange.isNoop()) {
+                                log.debug("Kafka.spec.kafka.version unchanged");
+                                return Future.succeededFuture(this);
+                            }
+
                             // Wait until the STS is not being updated (it shouldn't be, but there's no harm in checking)
                             return waitForQuiescence(oldSts).compose(v -> {
                                 // Get the image currently set in the Kafka CR or, if that is not set, the image from the version we are changing to.
@@ -973,7 +1061,7 @@ public class KafkaAssemblyOperator extends AbstractAssemblyOperator<KubernetesCl
                                 }
                                 return result.map(this);
                             });
-                        }
+                        });
                     });
         }
 
@@ -1313,7 +1401,9 @@ public class KafkaAssemblyOperator extends AbstractAssemblyOperator<KubernetesCl
                             this.zkCurrentReplicas = sts.getSpec().getReplicas();
                         }
 
-                        this.zkCluster = ZookeeperCluster.fromCrd(kafkaAssembly, versions, oldStorage, zkCurrentReplicas != null ? zkCurrentReplicas : 0);
+                        int oldReplicas = zkCurrentReplicas != null ? zkCurrentReplicas : 0;
+                        this.zkCluster = modelCache.get(kafkaAssembly, MODEL_ZOOKEEPER, Arrays.asList(versions, oldStorage, oldReplicas),
+                            () -> ZookeeperCluster.fromCrd(kafkaAssembly, versions, oldStorage, oldReplicas));
                         this.zkService = zkCluster.generateService();
                         this.zkHeadlessService = zkCluster.generateHeadlessService();
 
@@ -1329,6 +1419,8 @@ public class KafkaAssemblyOperator extends AbstractAssemblyOperator<KubernetesCl
                                 && sts.getSpec().getTemplate().getSpec().getContainers().size() > 1)   {
                             zkCluster.getConfiguration().setConfigOption("ssl.protocol", "TLS");
                             zkCluster.getConfiguration().setConfigOption("ssl.enabledProtocols", "TLSv1.2,TLSv1.1,TLSv1");
+                            // The model was changed, so it must not be reused by the next reconciliation
+                            modelCache.evict(kafkaAssembly, MODEL_ZOOKEEPER);
                         }
 
                         if (zkCluster.getLogging() instanceof  ExternalLogging) {
@@ -1523,7 +1615,7 @@ public class KafkaAssemblyOperator extends AbstractAssemblyOperator<KubernetesCl
             if (current < desired) {
                 return zkSetOperations.scaleUp(namespace, zkCluster.getName(), current + 1)
                         .compose(ignore -> podOperations.readiness(namespace, zkCluster.getPodName(current), 1_000, operationTimeoutMs))
-                        .compose(ignore -> zkScaler.scale(current + 1))
+                        .compose(ignore -> zkScaler.scale(current + 1, reconciliation.span()))
                         .compose(ignore -> zkScalingUpByOne(zkScaler, current + 1, desired));
             } else {
                 return Future.succeededFuture(this);
@@ -1566,7 +1658,7 @@ public class KafkaAssemblyOperator extends AbstractAssemblyOperator<KubernetesCl
         Future<ReconciliationState> zkScalingDownByOne(ZookeeperScaler zkScaler, int current, int desired) {
             if (current > desired) {
                 return podsReady(zkCluster, current - 1)
-                        .compose(ignore -> zkScaler.scale(current - 1))
+                        .compose(ignore -> zkScaler.scale(current - 1, reconciliation.span()))
                         .compose(ignore -> zkSetOperations.scaleDown(namespace, zkCluster.getName(), current - 1))
                         .compose(ignore -> zkScalingDownByOne(zkScaler, current - 1, desired));
             } else {
@@ -1585,7 +1677,7 @@ public class KafkaAssemblyOperator extends AbstractAssemblyOperator<KubernetesCl
                     .compose(zkScaler -> {
                         Promise<ReconciliationState> scalingPromise = Promise.promise();
 
-                        zkScaler.scale(zkCluster.getReplicas()).setHandler(res -> {
+                        zkScaler.scale(zkCluster.getReplicas(), reconciliation.span()).setHandler(res -> {
                             zkScaler.close();
 
                             if (res.succeeded())    {
@@ -1613,12 +1705,10 @@ public class KafkaAssemblyOperator extends AbstractAssemblyOperator<KubernetesCl
                     .compose(sts -> {
                         Storage oldStorage = getOldStorage(sts);
 
-                        int oldReplicas = 0;
-                        if (sts != null && sts.getSpec() != null)   {
-                            oldReplicas = sts.getSpec().getReplicas();
-                        }
+                        int oldReplicas = sts != null && sts.getSpec() != null ? sts.getSpec().getReplicas() : 0;
 
-                        this.kafkaCluster = KafkaCluster.fromCrd(kafkaAssembly, versions, oldStorage, oldReplicas);
+                        this.kafkaCluster = modelCache.get(kafkaAssembly, MODEL_KAFKA, Arrays.asList(versions, oldStorage, oldReplicas),
+                            () -> KafkaCluster.fromCrd(kafkaAssembly, versions, oldStorage, oldReplicas));
                         this.kafkaService = kafkaCluster.generateService();
                         this.kafkaHeadlessService = kafkaCluster.generateHeadlessService();
 
@@ -1786,7 +1876,7 @@ public class KafkaAssemblyOperator extends AbstractAssemblyOperator<KubernetesCl
 
             Promise blockingPromise = Promise.promise();
 
-            vertx.createSharedWorkerExecutor("kubernetes-ops-pool").executeBlocking(
+            WorkerPools.get(vertx).executeBlocking(WorkerPools.Kind.LONG_RUNNING,
                 future -> {
                     String serviceName = KafkaCluster.externalBootstrapServiceName(name);
                     Future<Void> address = null;
@@ -1907,7 +1997,7 @@ public class KafkaAssemblyOperator extends AbstractAssemblyOperator<KubernetesCl
 
             Promise blockingPromise = Promise.promise();
 
-            vertx.createSharedWorkerExecutor("kubernetes-ops-pool").executeBlocking(
+            WorkerPools.get(vertx).executeBlocking(WorkerPools.Kind.LONG_RUNNING,
                 future -> {
                     int replicas = kafkaCluster.getReplicas();
                     List<Future> serviceFutures = new ArrayList<>(replicas);
@@ -2024,7 +2114,7 @@ public class KafkaAssemblyOperator extends AbstractAssemblyOperator<KubernetesCl
 
             Promise blockingPromise = Promise.promise();
 
-            vertx.createSharedWorkerExecutor("kubernetes-ops-pool").executeBlocking(
+            WorkerPools.get(vertx).executeBlocking(WorkerPools.Kind.LONG_RUNNING,
                 future -> {
                     String routeName = KafkaCluster.serviceName(name);
                     //Future future = Future.future();
@@ -2068,7 +2158,7 @@ public class KafkaAssemblyOperator extends AbstractAssemblyOperator<KubernetesCl
 
             Promise blockingPromise = Promise.promise();
 
-            vertx.createSharedWorkerExecutor("kubernetes-ops-pool").executeBlocking(
+            WorkerPools.get(vertx).executeBlocking(WorkerPools.Kind.LONG_RUNNING,
                 future -> {
                     int replicas = kafkaCluster.getReplicas();
                     List<Future> routeFutures = new ArrayList<>(replicas);
@@ -2136,7 +2226,7 @@ public class KafkaAssemblyOperator extends AbstractAssemblyOperator<KubernetesCl
 
         Future<ReconciliationState> kafkaGenerateCertificates(Supplier<Date> dateSupplier) {
             Promise<ReconciliationState> resultPromise = Promise.promise();
-            vertx.createSharedWorkerExecutor("kubernetes-ops-pool").<ReconciliationState>executeBlocking(
+            WorkerPools.get(vertx).<ReconciliationState>executeBlocking(WorkerPools.Kind.LONG_RUNNING,
                 future -> {
                     try {
                         kafkaCluster.generateCertificates(kafkaAssembly,
@@ -2147,7 +2237,7 @@ public class KafkaAssemblyOperator extends AbstractAssemblyOperator<KubernetesCl
                         future.fail(e);
                     }
                 },
-                true,
+                false,
                 resultPromise);
             return resultPromise.future();
         }
@@ -2225,28 +2315,32 @@ public class KafkaAssemblyOperator extends AbstractAssemblyOperator<KubernetesCl
             }
         }
 
-        ConfigMap getKafkaAncialiaryCm()    {
-            ConfigMap loggingCm = null;
+        Future<ConfigMap> getKafkaAncialiaryCm()    {
+            Future<ConfigMap> loggingCmFuture;
 
             if (kafkaCluster.getLogging() instanceof ExternalLogging) {
-                loggingCm = configMapOperations.get(kafkaAssembly.getMetadata().getNamespace(), ((ExternalLogging) kafkaCluster.getLogging()).getName());
+                loggingCmFuture = configMapOperations.getAsync(kafkaAssembly.getMetadata().getNamespace(), ((ExternalLogging) kafkaCluster.getLogging()).getName());
+            } else {
+                loggingCmFuture = Future.succeededFuture(null);
             }
 
-            ConfigMap brokerCm = kafkaCluster.generateAncillaryConfigMap(loggingCm, kafkaExternalAdvertisedHostnames, kafkaExternalAdvertisedPorts);
+            return loggingCmFuture.map(loggingCm -> {
+                ConfigMap brokerCm = kafkaCluster.generateAncillaryConfigMap(loggingCm, kafkaExternalAdvertisedHostnames, kafkaExternalAdvertisedPorts);
 
-            String brokerConfiguration = brokerCm.getData().get(KafkaCluster.BROKER_CONFIGURATION_FILENAME);
-            brokerConfiguration += brokerCm.getData().getOrDefault(KafkaCluster.BROKER_ADVERTISED_PORTS_FILENAME, "");
-            brokerConfiguration += brokerCm.getData().getOrDefault(KafkaCluster.BROKER_ADVERTISED_HOSTNAMES_FILENAME, "");
-            this.kafkaBrokerConfigurationHash = getStringHash(brokerConfiguration);
+                String brokerConfiguration = brokerCm.getData().get(KafkaCluster.BROKER_CONFIGURATION_FILENAME);
+                brokerConfiguration += brokerCm.getData().getOrDefault(KafkaCluster.BROKER_ADVERTISED_PORTS_FILENAME, "");
+                brokerConfiguration += brokerCm.getData().getOrDefault(KafkaCluster.BROKER_ADVERTISED_HOSTNAMES_FILENAME, "");
+                this.kafkaBrokerConfigurationHash = getStringHash(brokerConfiguration);
 
-            String loggingConfiguration = brokerCm.getData().get(AbstractModel.ANCILLARY_CM_KEY_LOG_CONFIG);
-            this.kafkaLoggingHash = getStringHash(loggingConfiguration);
+                String loggingConfiguration = brokerCm.getData().get(AbstractModel.ANCILLARY_CM_KEY_LOG_CONFIG);
+                this.kafkaLoggingHash = getStringHash(loggingConfiguration);
 
-            return brokerCm;
+                return brokerCm;
+            });
         }
 
         Future<ReconciliationState> kafkaAncillaryCm() {
-            return withVoid(configMapOperations.reconcile(namespace, kafkaCluster.getAncillaryConfigName(), getKafkaAncialiaryCm()));
+            return withVoid(getKafkaAncialiaryCm().compose(cm -> configMapOperations.reconcile(namespace, kafkaCluster.getAncillaryConfigName(), cm)));
         }
 
         Future<ReconciliationState> kafkaBrokersSecret() {
@@ -2557,43 +2651,55 @@ public class KafkaAssemblyOperator extends AbstractAssemblyOperator<KubernetesCl
             if (sts != null) {
                 log.debug("{}: Considering manual cleaning of Pods for StatefulSet {}", reconciliation, sts.getMetadata().getName());
 
-                String stsName = sts.getMetadata().getName();
+                return maybeCleanPodAndPvc(stsOperator, sts, desiredPvcs, existingPvcsFuture, 0);
+            }
 
-                for (int i = 0; i < sts.getSpec().getReplicas(); i++) {
-                    String podName = stsName + "-" + i;
-                    Pod pod = podOperations.get(namespace, podName);
+            return Future.succeededFuture();
+        }
 
-                    if (pod != null) {
-                        if (Annotations.booleanAnnotation(pod, AbstractScalableResourceOperator.ANNO_STRIMZI_IO_DELETE_POD_AND_PVC,
-                                false, AbstractScalableResourceOperator.ANNO_OP_STRIMZI_IO_DELETE_POD_AND_PVC)) {
-                            log.debug("{}: Pod and PVCs for {} should be deleted based on annotation", reconciliation, podName);
+        /**
+         * Checks the Pods of the StatefulSet one after another, starting from the Pod with the given index, and cleans
+         * the first one annotated for deletion.
+         */
+        @SuppressWarnings("deprecation")
+        private Future<Void> maybeCleanPodAndPvc(StatefulSetOperator stsOperator, StatefulSet sts, List<PersistentVolumeClaim> desiredPvcs, Future<List<PersistentVolumeClaim>> existingPvcsFuture, int podIndex)  {
+            if (podIndex >= sts.getSpec().getReplicas()) {
+                return Future.succeededFuture();
+            }
 
-                            return existingPvcsFuture
-                                    .compose(existingPvcs -> {
-                                        List<PersistentVolumeClaim> deletePvcs;
+            String podName = sts.getMetadata().getName() + "-" + podIndex;
 
-                                        if (existingPvcs != null) {
-                                            deletePvcs = existingPvcs
-                                                    .stream()
-                                                    .filter(pvc -> pvc.getMetadata().getName().endsWith(podName))
-                                                    .collect(Collectors.toList());
-                                        } else {
-                                            deletePvcs = new ArrayList<>();
-                                        }
+            return podOperations.getAsync(namespace, podName).compose(pod -> {
+                if (pod != null) {
+                    if (Annotations.booleanAnnotation(pod, AbstractScalableResourceOperator.ANNO_STRIMZI_IO_DELETE_POD_AND_PVC,
+                            false, AbstractScalableResourceOperator.ANNO_OP_STRIMZI_IO_DELETE_POD_AND_PVC)) {
+                        log.debug("{}: Pod and PVCs for {} should be deleted based on annotation", reconciliation, podName);
 
-                                        List<PersistentVolumeClaim> createPvcs = desiredPvcs
+                        return existingPvcsFuture
+                                .compose(existingPvcs -> {
+                                    List<PersistentVolumeClaim> deletePvcs;
+
+                                    if (existingPvcs != null) {
+                                        deletePvcs = existingPvcs
                                                 .stream()
                                                 .filter(pvc -> pvc.getMetadata().getName().endsWith(podName))
                                                 .collect(Collectors.toList());
+                                    } else {
+                                        deletePvcs = new ArrayList<>();
+                                    }
 
-                                        return cleanPodAndPvc(stsOperator, sts, podName, deletePvcs, createPvcs);
-                                    });
-                        }
+                                    List<PersistentVolumeClaim> createPvcs = desiredPvcs
+                                            .stream()
+                                            .filter(pvc -> pvc.getMetadata().getName().endsWith(podName))
+                                            .collect(Collectors.toList());
+
+                                    return cleanPodAndPvc(stsOperator, sts, podName, deletePvcs, createPvcs);
+                                });
                     }
                 }
-            }
 
-            return Future.succeededFuture();
+                return maybeCleanPodAndPvc(stsOperator, sts, desiredPvcs, existingPvcsFuture, podIndex + 1);
+            });
         }
 
         /**
@@ -2789,7 +2895,8 @@ public class KafkaAssemblyOperator extends AbstractAssemblyOperator<KubernetesCl
 
         @SuppressWarnings("deprecation")
         private final Future<ReconciliationState> getTopicOperatorDescription() {
-            this.topicOperator = io.strimzi.operator.cluster.model.TopicOperator.fromCrd(kafkaAssembly, versions);
+            this.topicOperator = modelCache.get(kafkaAssembly, MODEL_TOPIC_OPERATOR, Collections.singletonList(versions),
+                () -> io.strimzi.operator.cluster.model.TopicOperator.fromCrd(kafkaAssembly, versions));
 
             if (topicOperator != null) {
                 this.toDeployment = topicOperator.generateDeployment(pfa.isOpenshift(), imagePullPolicy, imagePullSecrets);
@@ -2867,7 +2974,8 @@ public class KafkaAssemblyOperator extends AbstractAssemblyOperator<KubernetesCl
 
         @SuppressWarnings("deprecation")
         private final Future<ReconciliationState> getEntityOperatorDescription() {
-            this.entityOperator = EntityOperator.fromCrd(kafkaAssembly, versions);
+            this.entityOperator = modelCache.get(kafkaAssembly, MODEL_ENTITY_OPERATOR, Collections.singletonList(versions),
+                () -> EntityOperator.fromCrd(kafkaAssembly, versions));
 
             if (entityOperator != null) {
                 EntityTopicOperator topicOperator = entityOperator.getTopicOperator();
@@ -3047,18 +3155,22 @@ public class KafkaAssemblyOperator extends AbstractAssemblyOperator<KubernetesCl
         }
 
         private final Future<ReconciliationState> getCruiseControlDescription() {
-            CruiseControl cruiseControl = CruiseControl.fromCrd(kafkaAssembly, versions);
+            CruiseControl cruiseControl = modelCache.get(kafkaAssembly, MODEL_CRUISE_CONTROL, Collections.singletonList(versions),
+                () -> CruiseControl.fromCrd(kafkaAssembly, versions));
             if (cruiseControl != null) {
-                ConfigMap logAndMetricsConfigMap = cruiseControl.generateMetricsAndLogConfigMap(
-                        cruiseControl.getLogging() instanceof ExternalLogging ?
-                                configMapOperations.get(kafkaAssembly.getMetadata().getNamespace(), ((ExternalLogging) cruiseControl.getLogging()).getName()) :
-                                null);
-                Map<String, String> annotations = Collections.singletonMap(CruiseControl.ANNO_STRIMZI_IO_LOGGING, logAndMetricsConfigMap.getData().get(ANCILLARY_CM_KEY_LOG_CONFIG));
-
-                this.cruiseControlMetricsAndLogsConfigMap = logAndMetricsConfigMap;
-                this.cruiseControl = cruiseControl;
-
-                this.ccDeployment = cruiseControl.generateDeployment(pfa.isOpenshift(), annotations, imagePullPolicy, imagePullSecrets);
+                Future<ConfigMap> loggingCmFuture = cruiseControl.getLogging() instanceof ExternalLogging ?
+                        configMapOperations.getAsync(kafkaAssembly.getMetadata().getNamespace(), ((ExternalLogging) cruiseControl.getLogging()).getName()) :
+                        Future.succeededFuture(null);
+                return loggingCmFuture.map(loggingCm -> {
+                    ConfigMap logAndMetricsConfigMap = cruiseControl.generateMetricsAndLogConfigMap(loggingCm);
+                    Map<String, String> annotations = Collections.singletonMap(CruiseControl.ANNO_STRIMZI_IO_LOGGING, logAndMetricsConfigMap.getData().get(ANCILLARY_CM_KEY_LOG_CONFIG));
+
+                    this.cruiseControlMetricsAndLogsConfigMap = logAndMetricsConfigMap;
+                    this.cruiseControl = cruiseControl;
+
+                    this.ccDeployment = cruiseControl.generateDeployment(pfa.isOpenshift(), annotations, imagePullPolicy, imagePullSecrets);
+                    return this;
+                });
             }
             return withVoid(Future.succeededFuture());
         }
@@ -3384,7 +3496,8 @@ public class KafkaAssemblyOperator extends AbstractAssemblyOperator<KubernetesCl
         }
 
         private final Future<ReconciliationState> getKafkaExporterDescription() {
-            this.kafkaExporter = KafkaExporter.fromCrd(kafkaAssembly, versions);
+            this.kafkaExporter = modelCache.get(kafkaAssembly, MODEL_KAFKA_EXPORTER, Collections.singletonList(versions),
+                () -> KafkaExporter.fromCrd(kafkaAssembly, versions));
             this.exporterDeployment = kafkaExporter.generateDeployment(pfa.isOpenshift(), imagePullPolicy, imagePullSecrets);
             return Future.succeededFuture(this);
         }
@@ -3452,7 +3565,8 @@ public class KafkaAssemblyOperator extends AbstractAssemblyOperator<KubernetesCl
         Future<ReconciliationState> getJmxTransDescription() {
             try {
                 int numOfBrokers = kafkaCluster.getReplicas();
-                this.jmxTrans = JmxTrans.fromCrd(kafkaAssembly, versions);
+                this.jmxTrans = modelCache.get(kafkaAssembly, MODEL_JMX_TRANS, Collections.singletonList(versions),
+                    () -> JmxTrans.fromCrd(kafkaAssembly, versions));
                 if (this.jmxTrans != null) {
                     this.jmxTransConfigMap = jmxTrans.generateJmxTransConfigMap(kafkaAssembly.getSpec().getJmxTrans(), numOfBrokers);
                     this.jmxTransDeployment = jmxTrans.generateDeployment(imagePullPolicy, imagePullSecrets);
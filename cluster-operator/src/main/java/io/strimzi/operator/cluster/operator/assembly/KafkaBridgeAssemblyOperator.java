@@ -25,6 +25,7 @@ import io.strimzi.operator.cluster.operator.resource.ResourceOperatorSupplier;
 import io.strimzi.operator.common.Annotations;
 import io.strimzi.operator.common.PasswordGenerator;
 import io.strimzi.operator.common.Reconciliation;
+import io.strimzi.operator.common.Tracing;
 import io.strimzi.operator.common.operator.resource.CrdOperator;
 import io.strimzi.operator.common.operator.resource.DeploymentOperator;
 import io.strimzi.operator.common.operator.resource.ReconcileResult;
@@ -84,23 +85,25 @@ public class KafkaBridgeAssemblyOperator extends AbstractAssemblyOperator<Kubern
             return updateStatus(assemblyResource, reconciliation, kafkaBridgeStatus);
         }
 
-        ConfigMap logAndMetricsConfigMap = bridge.generateMetricsAndLogConfigMap(bridge.getLogging() instanceof ExternalLogging ?
-                configMapOperations.get(namespace, ((ExternalLogging) bridge.getLogging()).getName()) :
-                null);
-
         Map<String, String> annotations = new HashMap<>();
-        annotations.put(Annotations.STRIMZI_LOGGING_ANNOTATION, logAndMetricsConfigMap.getData().get(bridge.ANCILLARY_CM_KEY_LOG_CONFIG));
 
         log.debug("{}: Updating Kafka Bridge cluster", reconciliation);
         kafkaBridgeServiceAccount(namespace, bridge)
-            .compose(i -> deploymentOperations.scaleDown(namespace, bridge.getName(), bridge.getReplicas()))
-            .compose(scale -> serviceOperations.reconcile(namespace, bridge.getServiceName(), bridge.generateService()))
-            .compose(i -> configMapOperations.reconcile(namespace, bridge.getAncillaryConfigName(), logAndMetricsConfigMap))
-            .compose(i -> podDisruptionBudgetOperator.reconcile(namespace, bridge.getName(), bridge.generatePodDisruptionBudget()))
-            .compose(i -> deploymentOperations.reconcile(namespace, bridge.getName(), bridge.generateDeployment(annotations, pfa.isOpenshift(), imagePullPolicy, imagePullSecrets)))
-            .compose(i -> deploymentOperations.scaleUp(namespace, bridge.getName(), bridge.getReplicas()))
-            .compose(i -> deploymentOperations.waitForObserved(namespace, bridge.getName(), 1_000, operationTimeoutMs))
-            .compose(i -> deploymentOperations.readiness(namespace, bridge.getName(), 1_000, operationTimeoutMs))
+            .compose(Tracing.withParent(reconciliation.span(), i -> deploymentOperations.scaleDown(namespace, bridge.getName(), bridge.getReplicas())))
+            .compose(Tracing.withParent(reconciliation.span(), scale -> serviceOperations.reconcile(namespace, bridge.getServiceName(), bridge.generateService())))
+            .compose(Tracing.withParent(reconciliation.span(), i -> bridge.getLogging() instanceof ExternalLogging ?
+                    configMapOperations.getAsync(namespace, ((ExternalLogging) bridge.getLogging()).getName()) :
+                    Future.<ConfigMap>succeededFuture(null)))
+            .compose(Tracing.withParent(reconciliation.span(), loggingCm -> {
+                ConfigMap logAndMetricsConfigMap = bridge.generateMetricsAndLogConfigMap(loggingCm);
+                annotations.put(Annotations.STRIMZI_LOGGING_ANNOTATION, logAndMetricsConfigMap.getData().get(bridge.ANCILLARY_CM_KEY_LOG_CONFIG));
+                return configMapOperations.reconcile(namespace, bridge.getAncillaryConfigName(), logAndMetricsConfigMap);
+            }))
+            .compose(Tracing.withParent(reconciliation.span(), i -> podDisruptionBudgetOperator.reconcile(namespace, bridge.getName(), bridge.generatePodDisruptionBudget())))
+            .compose(Tracing.withParent(reconciliation.span(), i -> deploymentOperations.reconcile(namespace, bridge.getName(), bridge.generateDeployment(annotations, pfa.isOpenshift(), imagePullPolicy, imagePullSecrets))))
+            .compose(Tracing.withParent(reconciliation.span(), i -> deploymentOperations.scaleUp(namespace, bridge.getName(), bridge.getReplicas())))
+            .compose(Tracing.withParent(reconciliation.span(), i -> deploymentOperations.waitForObserved(namespace, bridge.getName(), 1_000, operationTimeoutMs)))
+            .compose(Tracing.withParent(reconciliation.span(), i -> deploymentOperations.readiness(namespace, bridge.getName(), 1_000, operationTimeoutMs)))
             .setHandler(reconciliationResult -> {
                 StatusUtils.setStatusConditionAndObservedGeneration(assemblyResource, kafkaBridgeStatus, reconciliationResult.mapEmpty());
                 int port = KafkaBridgeCluster.DEFAULT_REST_API_PORT;
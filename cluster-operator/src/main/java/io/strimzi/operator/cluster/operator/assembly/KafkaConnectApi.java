@@ -6,13 +6,17 @@ package io.strimzi.operator.cluster.operator.assembly;
 
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import io.opentracing.Span;
+import io.opentracing.tag.Tags;
 import io.strimzi.api.kafka.model.connect.ConnectorPlugin;
 import io.strimzi.operator.common.BackOff;
+import io.strimzi.operator.common.Tracing;
 import io.vertx.core.Future;
 import io.vertx.core.Handler;
 import io.vertx.core.Promise;
 import io.vertx.core.Vertx;
 import io.vertx.core.buffer.Buffer;
+import io.vertx.core.http.HttpClient;
 import io.vertx.core.http.HttpClientOptions;
 import io.vertx.core.http.HttpClientResponse;
 import io.vertx.core.json.JsonArray;
@@ -24,12 +28,15 @@ import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
 import java.util.Set;
 import java.util.function.Supplier;
 
 import static java.util.Arrays.asList;
+import static java.util.Collections.emptyMap;
 
 /**
  * A Java client for the Kafka Connect REST API.
@@ -125,6 +132,18 @@ public interface KafkaConnectApi {
      */
     Future<List<String>> list(String host, int port);
 
+    /**
+     * Make a {@code GET} request to {@code /connectors?expand=status&expand=info}, which returns the status,
+     * config and tasks of all the connectors in a single request.
+     * @param host The host to make the request to.
+     * @param port The port to make the request to.
+     * @return A Future which completes with the result of the request. If the request was successful,
+     * this returns a map from the connector names to the {@code status} and {@code info} of the connectors.
+     * Connect versions older than 2.3 don't support {@code expand} and return only the connector names,
+     * in which case the maps of the connectors are empty.
+     */
+    Future<Map<String, Map<String, Object>>> listWithStatusAndInfo(String host, int port);
+
     /**
      * Make a {@code GET} request to {@code /connector-plugins}.
      * @param host The host to make the request to.
@@ -168,10 +187,49 @@ class KafkaConnectApiImpl implements KafkaConnectApi {
     };
     public static final TypeReference<Map<String, String>> MAP_OF_STRINGS = new TypeReference<Map<String, String>>() {
     };
+    /**
+     * The maximum number of connections to each Connect cluster.
+     */
+    public static final int MAX_POOL_SIZE = 5;
+    /**
+     * How long idle connections are kept open, which is shorter than the 30s idle timeout of the Connect REST server,
+     * so that requests are not sent on connections which the server is about to close.
+     */
+    public static final int KEEP_ALIVE_TIMEOUT_SECONDS = 20;
+
     private final Vertx vertx;
+    private final HttpClient httpClient;
 
+    /**
+     * Creates a client with a pool of keep-alive connections for each Connect cluster (i.e. for each host and port)
+     * it makes requests to. The client should be reused across reconciliations, so that the connections are too.
+     *
+     * @param vertx The Vertx instance.
+     */
     public KafkaConnectApiImpl(Vertx vertx) {
         this.vertx = vertx;
+        this.httpClient = vertx.createHttpClient(new HttpClientOptions()
+                .setLogActivity(true)
+                .setKeepAlive(true)
+                .setKeepAliveTimeout(KEEP_ALIVE_TIMEOUT_SECONDS)
+                .setPipelining(true)
+                .setMaxPoolSize(MAX_POOL_SIZE));
+    }
+
+    /**
+     * Starts the span of a request to the Connect REST API, which is a child of the active span, if there is one.
+     *
+     * @param method The HTTP method.
+     * @param host The host of the Connect REST API.
+     * @param port The port of the Connect REST API.
+     * @param path The path of the request.
+     * @return The started span.
+     */
+    private static Span startSpan(String method, String host, int port, String path) {
+        Span span = Tracing.startSpan("connect." + method.toLowerCase(Locale.ENGLISH), null, null, null);
+        Tags.HTTP_METHOD.set(span, method);
+        Tags.HTTP_URL.set(span, "http://" + host + ":" + port + path);
+        return span;
     }
 
     @Override
@@ -180,11 +238,11 @@ class KafkaConnectApiImpl implements KafkaConnectApi {
             String host, int port,
             String connectorName, JsonObject configJson) {
         Future<Map<String, Object>> result = Future.future();
-        HttpClientOptions options = new HttpClientOptions().setLogActivity(true);
         Buffer data = configJson.toBuffer();
         String path = "/connectors/" + connectorName + "/config";
+        Span span = startSpan("PUT", host, port, path);
         log.debug("Making PUT request to {} with body {}", path, configJson);
-        vertx.createHttpClient(options)
+        httpClient
                 .put(port, host, path, response -> {
                     response.exceptionHandler(error -> {
                         result.fail(error);
@@ -216,7 +274,7 @@ class KafkaConnectApiImpl implements KafkaConnectApi {
                 .putHeader("Content-Length", String.valueOf(data.length()))
                 .write(data)
                 .end();
-        return result;
+        return Tracing.finishOnComplete(span, result);
     }
 
     @Override
@@ -231,9 +289,9 @@ class KafkaConnectApiImpl implements KafkaConnectApi {
     @SuppressWarnings("unchecked")
     private <T> Future<T> doGet(String host, int port, String path, Set<Integer> okStatusCodes, TypeReference<T> type) {
         Future<T> result = Future.future();
-        HttpClientOptions options = new HttpClientOptions().setLogActivity(true);
+        Span span = startSpan("GET", host, port, path);
         log.debug("Making GET request to {}", path);
-        vertx.createHttpClient(options)
+        httpClient
                 .get(port, host, path, response -> {
                     response.exceptionHandler(error -> {
                         result.fail(error);
@@ -262,7 +320,7 @@ class KafkaConnectApiImpl implements KafkaConnectApi {
                 .setFollowRedirects(true)
                 .putHeader("Accept", "application/json")
                 .end();
-        return result;
+        return Tracing.finishOnComplete(span, result);
     }
 
     @Override
@@ -283,9 +341,9 @@ class KafkaConnectApiImpl implements KafkaConnectApi {
     @Override
     public Future<Void> delete(String host, int port, String connectorName) {
         Future<Void> result = Future.future();
-        HttpClientOptions options = new HttpClientOptions().setLogActivity(true);
         String path = "/connectors/" + connectorName;
-        vertx.createHttpClient(options)
+        Span span = startSpan("DELETE", host, port, path);
+        httpClient
                 .delete(port, host, path, response -> {
                     if (response.statusCode() == 204) {
                         result.complete();
@@ -302,7 +360,7 @@ class KafkaConnectApiImpl implements KafkaConnectApi {
                 .putHeader("Accept", "application/json")
                 .putHeader("Content-Type", "application/json")
                 .end();
-        return result;
+        return Tracing.finishOnComplete(span, result);
     }
 
     @Override
@@ -383,8 +441,8 @@ class KafkaConnectApiImpl implements KafkaConnectApi {
 
     private Future<Void> pauseResume(String host, int port, String path) {
         Future<Void> result = Future.future();
-        HttpClientOptions options = new HttpClientOptions().setLogActivity(true);
-        vertx.createHttpClient(options)
+        Span span = startSpan("PUT", host, port, path);
+        httpClient
                 .put(port, host, path, response -> {
                     response.exceptionHandler(error -> {
                         result.fail(error);
@@ -400,16 +458,16 @@ class KafkaConnectApiImpl implements KafkaConnectApi {
                 .setFollowRedirects(true)
                 .putHeader("Accept", "application/json")
                 .end();
-        return result;
+        return Tracing.finishOnComplete(span, result);
     }
 
     @Override
     public Future<List<String>> list(String host, int port) {
         String path = "/connectors";
         Future<List<String>> result = Future.future();
-        HttpClientOptions options = new HttpClientOptions().setLogActivity(true);
+        Span span = startSpan("GET", host, port, path);
 
-        vertx.createHttpClient(options)
+        httpClient
                 .get(port, host, path, response -> {
                     response.exceptionHandler(error -> {
                         result.fail(error);
@@ -435,15 +493,59 @@ class KafkaConnectApiImpl implements KafkaConnectApi {
                 .setFollowRedirects(true)
                 .putHeader("Accept", "application/json")
                 .end();
-        return result;
+        return Tracing.finishOnComplete(span, result);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public Future<Map<String, Map<String, Object>>> listWithStatusAndInfo(String host, int port) {
+        String path = "/connectors?expand=status&expand=info";
+        Promise<Map<String, Map<String, Object>>> result = Promise.promise();
+        Span span = startSpan("GET", host, port, path);
+        httpClient
+                .get(port, host, path, response -> {
+                    response.exceptionHandler(result::tryFail);
+                    if (response.statusCode() == 200) {
+                        response.bodyHandler(buffer -> {
+                            ObjectMapper mapper = new ObjectMapper();
+                            try {
+                                Object body = mapper.readValue(buffer.getBytes(), Object.class);
+                                Map<String, Map<String, Object>> connectors = new LinkedHashMap<>();
+                                if (body instanceof Map) {
+                                    for (Map.Entry<String, Object> entry : ((Map<String, Object>) body).entrySet()) {
+                                        connectors.put(entry.getKey(), entry.getValue() instanceof Map ? (Map<String, Object>) entry.getValue() : emptyMap());
+                                    }
+                                } else if (body instanceof List) {
+                                    // Older Connect versions ignore expand and return just the names
+                                    for (Object name : (List<Object>) body) {
+                                        connectors.put(String.valueOf(name), emptyMap());
+                                    }
+                                } else {
+                                    throw new IOException("Unexpected JSON " + (body == null ? "null" : body.getClass().getName()));
+                                }
+                                log.debug("Got {} response to GET request to {}: {}", response.statusCode(), path, connectors.keySet());
+                                result.complete(connectors);
+                            } catch (IOException e) {
+                                result.fail(new ConnectRestException(response, "Could not deserialize response: " + e));
+                            }
+                        });
+                    } else {
+                        result.fail(new ConnectRestException(response, "Unexpected status code"));
+                    }
+                })
+                .exceptionHandler(result::tryFail)
+                .setFollowRedirects(true)
+                .putHeader("Accept", "application/json")
+                .end();
+        return Tracing.finishOnComplete(span, result.future());
     }
 
     @Override
     public Future<List<ConnectorPlugin>> listConnectorPlugins(String host, int port) {
         Future<List<ConnectorPlugin>> result = Future.future();
-        HttpClientOptions options = new HttpClientOptions().setLogActivity(true);
         String path = "/connector-plugins";
-        vertx.createHttpClient(options)
+        Span span = startSpan("GET", host, port, path);
+        httpClient
                 .get(port, host, path, response -> {
                     response.exceptionHandler(error -> {
                         result.fail(error);
@@ -467,6 +569,6 @@ class KafkaConnectApiImpl implements KafkaConnectApi {
                 .setFollowRedirects(true)
                 .putHeader("Accept", "application/json")
                 .end();
-        return result;
+        return Tracing.finishOnComplete(span, result);
     }
 }
@@ -27,6 +27,7 @@ import io.strimzi.operator.cluster.model.KafkaVersion;
 import io.strimzi.operator.cluster.operator.resource.ResourceOperatorSupplier;
 import io.strimzi.operator.common.Annotations;
 import io.strimzi.operator.common.Reconciliation;
+import io.strimzi.operator.common.Tracing;
 import io.strimzi.operator.common.operator.resource.CrdOperator;
 import io.strimzi.operator.common.operator.resource.DeploymentOperator;
 import io.strimzi.operator.common.operator.resource.NetworkPolicyOperator;
@@ -65,7 +66,7 @@ public class KafkaConnectAssemblyOperator extends AbstractConnectOperator<Kubern
     public KafkaConnectAssemblyOperator(Vertx vertx, PlatformFeaturesAvailability pfa,
                                         ResourceOperatorSupplier supplier,
                                         ClusterOperatorConfig config) {
-        this(vertx, pfa, supplier, config, connect -> new KafkaConnectApiImpl(vertx));
+        this(vertx, pfa, supplier, config, sharedConnectClientProvider(vertx));
     }
 
     public KafkaConnectAssemblyOperator(Vertx vertx, PlatformFeaturesAvailability pfa,
@@ -92,6 +93,7 @@ public class KafkaConnectAssemblyOperator extends AbstractConnectOperator<Kubern
         String namespace = reconciliation.namespace();
         KafkaConnectCluster connect;
         KafkaConnectStatus kafkaConnectStatus = new KafkaConnectStatus();
+        cacheConnectCluster(kafkaConnect);
         try {
             if (kafkaConnect.getSpec() == null) {
                 log.error("{}: Resource lacks spec property", reconciliation, kafkaConnect.getMetadata().getName());
@@ -107,12 +109,7 @@ public class KafkaConnectAssemblyOperator extends AbstractConnectOperator<Kubern
                 });
         }
 
-        ConfigMap logAndMetricsConfigMap = connect.generateMetricsAndLogConfigMap(connect.getLogging() instanceof ExternalLogging ?
-                configMapOperations.get(namespace, ((ExternalLogging) connect.getLogging()).getName()) :
-                null);
-
         Map<String, String> annotations = new HashMap<>();
-        annotations.put(Annotations.STRIMZI_LOGGING_ANNOTATION, logAndMetricsConfigMap.getData().get(connect.ANCILLARY_CM_KEY_LOG_CONFIG));
 
         log.debug("{}: Updating Kafka Connect cluster", reconciliation);
 
@@ -124,7 +121,7 @@ public class KafkaConnectAssemblyOperator extends AbstractConnectOperator<Kubern
         }
 
         connectS2ICheck
-                .compose(otherConnect -> {
+                .compose(Tracing.withParent(reconciliation.span(), otherConnect -> {
                     if (otherConnect != null
                             // There is a KafkaConnectS2I with the same name which is older than this KafkaConnect
                             && kafkaConnect.getMetadata().getCreationTimestamp().compareTo(otherConnect.getMetadata().getCreationTimestamp()) > 0)    {
@@ -133,18 +130,26 @@ public class KafkaConnectAssemblyOperator extends AbstractConnectOperator<Kubern
                     } else {
                         return Future.succeededFuture();
                     }
-                })
-                .compose(i -> connectServiceAccount(namespace, connect))
-                .compose(i -> networkPolicyOperator.reconcile(namespace, connect.getName(), connect.generateNetworkPolicy(pfa.isNamespaceAndPodSelectorNetworkPolicySupported(), isUseResources(kafkaConnect))))
-                .compose(i -> deploymentOperations.scaleDown(namespace, connect.getName(), connect.getReplicas()))
-                .compose(scale -> serviceOperations.reconcile(namespace, connect.getServiceName(), connect.generateService()))
-                .compose(i -> configMapOperations.reconcile(namespace, connect.getAncillaryConfigName(), logAndMetricsConfigMap))
-                .compose(i -> podDisruptionBudgetOperator.reconcile(namespace, connect.getName(), connect.generatePodDisruptionBudget()))
-                .compose(i -> deploymentOperations.reconcile(namespace, connect.getName(), connect.generateDeployment(annotations, pfa.isOpenshift(), imagePullPolicy, imagePullSecrets)))
-                .compose(i -> deploymentOperations.scaleUp(namespace, connect.getName(), connect.getReplicas()))
-                .compose(i -> deploymentOperations.waitForObserved(namespace, connect.getName(), 1_000, operationTimeoutMs))
-                .compose(i -> deploymentOperations.readiness(namespace, connect.getName(), 1_000, operationTimeoutMs))
-                .compose(i -> reconcileConnectors(reconciliation, kafkaConnect, kafkaConnectStatus))
+                }))
+                .compose(Tracing.withParent(reconciliation.span(), i -> connectServiceAccount(namespace, connect)))
+                .compose(Tracing.withParent(reconciliation.span(), i -> networkPolicyOperator.reconcile(namespace, connect.getName(), connect.generateNetworkPolicy(pfa.isNamespaceAndPodSelectorNetworkPolicySupported(), isUseResources(kafkaConnect)))))
+                .compose(Tracing.withParent(reconciliation.span(), i -> deploymentOperations.scaleDown(namespace, connect.getName(), connect.getReplicas())))
+                .compose(Tracing.withParent(reconciliation.span(), scale -> serviceOperations.reconcile(namespace, connect.getServiceName(), connect.generateService())))
+                .compose(Tracing.withParent(reconciliation.span(), i -> connect.getLogging() instanceof ExternalLogging ?
+                        configMapOperations.getAsync(namespace, ((ExternalLogging) connect.getLogging()).getName()) :
+                        Future.<ConfigMap>succeededFuture(null)))
+                .compose(Tracing.withParent(reconciliation.span(), loggingCm -> {
+                    ConfigMap logAndMetricsConfigMap = connect.generateMetricsAndLogConfigMap(loggingCm);
+                    annotations.put(Annotations.STRIMZI_LOGGING_ANNOTATION, logAndMetricsConfigMap.getData().get(connect.ANCILLARY_CM_KEY_LOG_CONFIG));
+                    return configMapOperations.reconcile(namespace, connect.getAncillaryConfigName(), logAndMetricsConfigMap);
+                }))
+                .compose(Tracing.withParent(reconciliation.span(), i -> podDisruptionBudgetOperator.reconcile(namespace, connect.getName(), connect.generatePodDisruptionBudget())))
+                .compose(Tracing.withParent(reconciliation.span(), i -> reconcileDeployment(reconciliation, deploymentOperations, KafkaConnectResources.qualifiedServiceName(connect.getCluster(), namespace),
+                        connect.generateDeployment(annotations, pfa.isOpenshift(), imagePullPolicy, imagePullSecrets))))
+                .compose(Tracing.withParent(reconciliation.span(), i -> deploymentOperations.scaleUp(namespace, connect.getName(), connect.getReplicas())))
+                .compose(Tracing.withParent(reconciliation.span(), i -> deploymentOperations.waitForObserved(namespace, connect.getName(), 1_000, operationTimeoutMs)))
+                .compose(Tracing.withParent(reconciliation.span(), i -> deploymentOperations.readiness(namespace, connect.getName(), 1_000, operationTimeoutMs)))
+                .compose(Tracing.withParent(reconciliation.span(), i -> reconcileConnectors(reconciliation, kafkaConnect, kafkaConnectStatus)))
                 .setHandler(reconciliationResult -> {
                     StatusUtils.setStatusConditionAndObservedGeneration(kafkaConnect, kafkaConnectStatus, reconciliationResult);
                     kafkaConnectStatus.setUrl(KafkaConnectResources.url(connect.getCluster(), namespace, KafkaConnectCluster.REST_API_PORT));
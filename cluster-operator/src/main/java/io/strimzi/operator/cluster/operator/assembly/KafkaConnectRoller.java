@@ -0,0 +1,347 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.cluster.operator.assembly;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import io.fabric8.kubernetes.api.model.apps.Deployment;
+import io.fabric8.kubernetes.api.model.apps.DeploymentBuilder;
+import io.fabric8.kubernetes.api.model.apps.DeploymentStatus;
+import io.fabric8.zjsonpatch.JsonDiff;
+import io.micrometer.core.instrument.Timer;
+import io.strimzi.operator.common.Annotations;
+import io.strimzi.operator.common.Reconciliation;
+import io.strimzi.operator.common.operator.resource.DeploymentOperator;
+import io.vertx.core.CompositeFuture;
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import io.vertx.core.Vertx;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Predicate;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+import static io.fabric8.kubernetes.client.internal.PatchUtils.patchMapper;
+
+/**
+ * <p>Rolls the workers of a Kafka Connect (or Kafka MirrorMaker 2.0) {@code Deployment} one at a time, waiting for
+ * the Connect group to settle in between.</p>
+ *
+ * <p>Kubernetes moves on to the next worker as soon as the new one is ready, long before the Connect group has
+ * rebalanced its connectors and tasks, so rolling all the workers causes one rebalance after the other. When the pod
+ * template changes, the roller instead patches the {@code Deployment} paused and then resumes it just long enough for
+ * Kubernetes to replace one worker. After each worker it waits until the connectors and tasks which were
+ * {@code RUNNING} (or {@code PAUSED}) before the roll, according to the Connect REST API, are running again, and
+ * records the time this took as the task downtime of that worker. Those which had already failed or were not
+ * assigned before the roll are not waited for.</p>
+ *
+ * <p>When the roll fails the {@code Deployment} is resumed, so that Kubernetes completes the rollout on its own.
+ * Kubernetes also rolls the workers on its own when the status of the connectors can't be read before the roll.</p>
+ */
+class KafkaConnectRoller {
+
+    private static final Logger log = LogManager.getLogger(KafkaConnectRoller.class.getName());
+
+    private static final String SHORTENED_STRIMZI_DOMAIN = Annotations.STRIMZI_DOMAIN.substring(0, Annotations.STRIMZI_DOMAIN.length() - 1);
+
+    /**
+     * The paths of the pod template which are defaulted by Kubernetes, or which don't cause a rollout.
+     */
+    private static final Pattern IGNORABLE_TEMPLATE_PATHS = Pattern.compile(
+        "^(/metadata/annotations/" + SHORTENED_STRIMZI_DOMAIN + "~1generation"
+        + "|/spec/containers/[0-9]+/env/[0-9]+/valueFrom/fieldRef/apiVersion"
+        + "|/spec/containers/[0-9]+/livenessProbe/failureThreshold"
+        + "|/spec/containers/[0-9]+/livenessProbe/periodSeconds"
+        + "|/spec/containers/[0-9]+/livenessProbe/successThreshold"
+        + "|/spec/containers/[0-9]+/readinessProbe/failureThreshold"
+        + "|/spec/containers/[0-9]+/readinessProbe/periodSeconds"
+        + "|/spec/containers/[0-9]+/readinessProbe/successThreshold"
+        + "|/spec/containers/[0-9]+/terminationMessagePath"
+        + "|/spec/containers/[0-9]+/terminationMessagePolicy"
+        + "|/spec/dnsPolicy"
+        + "|/spec/restartPolicy"
+        + "|/spec/schedulerName"
+        + "|/spec/securityContext"
+        + "|/spec/serviceAccount"
+        + "|/spec/volumes/[0-9]+/configMap/defaultMode"
+        + "|/spec/volumes/[0-9]+/secret/defaultMode)$");
+
+    private final Reconciliation reconciliation;
+    private final Vertx vertx;
+    private final DeploymentOperator deploymentOperations;
+    private final KafkaConnectApi apiClient;
+    private final String host;
+    private final int port;
+    private final long pollIntervalMs;
+    private final long operationTimeoutMs;
+    private final Timer taskDowntimeTimer;
+
+    /**
+     * @param reconciliation The reconciliation.
+     * @param vertx The Vertx instance.
+     * @param deploymentOperations The Deployment operator.
+     * @param apiClient The Connect REST API client.
+     * @param host The host of the Connect REST API.
+     * @param port The port of the Connect REST API.
+     * @param pollIntervalMs The interval between polls of the Deployment and of the Connect REST API.
+     * @param operationTimeoutMs The timeout of each step of the roll.
+     * @param taskDowntimeTimer The timer recording the task downtime of each rolled worker.
+     */
+    KafkaConnectRoller(Reconciliation reconciliation, Vertx vertx, DeploymentOperator deploymentOperations,
+                       KafkaConnectApi apiClient, String host, int port,
+                       long pollIntervalMs, long operationTimeoutMs, Timer taskDowntimeTimer) {
+        this.reconciliation = reconciliation;
+        this.vertx = vertx;
+        this.deploymentOperations = deploymentOperations;
+        this.apiClient = apiClient;
+        this.host = host;
+        this.port = port;
+        this.pollIntervalMs = pollIntervalMs;
+        this.operationTimeoutMs = operationTimeoutMs;
+        this.taskDowntimeTimer = taskDowntimeTimer;
+    }
+
+    /**
+     * Reconciles the {@code Deployment} with the given {@code name} to the {@code desired} one, rolling its workers
+     * one at a time if the pod template changed.
+     *
+     * @param name The name of the Deployment.
+     * @param desired The desired Deployment.
+     * @return A future which completes when the Deployment was reconciled and, if needed, all its workers were rolled.
+     */
+    Future<Void> reconcile(String name, Deployment desired) {
+        String namespace = reconciliation.namespace();
+        return deploymentOperations.getAsync(namespace, name).compose(current -> {
+            if (current == null
+                    || current.getStatus() == null
+                    || !changesPodTemplate(current, desired)) {
+                return deploymentOperations.reconcile(namespace, name, desired).map((Void) null);
+            }
+
+            return runningConnectorsAndTasks().compose(
+                running -> roll(name, desired, running),
+                error -> {
+                    log.warn("{}: Could not get the status of the connectors of {}, letting Kubernetes roll the workers of Deployment {}: {}",
+                            reconciliation, host, name, error.getMessage());
+                    return deploymentOperations.reconcile(namespace, name, desired).map((Void) null);
+                });
+        });
+    }
+
+    /**
+     * Rolls the workers one at a time, waiting for the given connectors and tasks to be running after each of them.
+     */
+    private Future<Void> roll(String name, Deployment desired, Set<String> running) {
+        String namespace = reconciliation.namespace();
+        log.info("{}: Rolling the workers of Deployment {} one at a time", reconciliation, name);
+        Deployment paused = new DeploymentBuilder(desired)
+                .editSpec()
+                    .withPaused(true)
+                .endSpec()
+                .build();
+        Promise<Void> result = Promise.promise();
+        deploymentOperations.reconcile(namespace, name, paused)
+                .compose(i -> waitForDeployment(name, "paused", status -> true))
+                .compose(i -> rollNextWorker(name, paused, desired, running))
+                .setHandler(rollResult -> {
+                    if (rollResult.succeeded()) {
+                        log.info("{}: All workers of Deployment {} were rolled", reconciliation, name);
+                        result.complete();
+                    } else {
+                        log.warn("{}: Failed to roll the workers of Deployment {}, resuming its rollout", reconciliation, name, rollResult.cause());
+                        deploymentOperations.reconcile(namespace, name, desired)
+                                .setHandler(ignored -> result.fail(rollResult.cause()));
+                    }
+                });
+        return result.future();
+    }
+
+    /**
+     * Resumes the Deployment until Kubernetes replaced one more worker and then waits for the given connectors and
+     * tasks to be running again. The Deployment is left resumed once the last worker was replaced.
+     */
+    private Future<Void> rollNextWorker(String name, Deployment paused, Deployment resumed, Set<String> running) {
+        String namespace = reconciliation.namespace();
+        return deploymentOperations.getAsync(namespace, name).compose(deployment -> {
+            int replicas = deployment.getSpec().getReplicas() != null ? deployment.getSpec().getReplicas() : 0;
+            int updated = intValue(deployment.getStatus() != null ? deployment.getStatus().getUpdatedReplicas() : null);
+            boolean last = updated + 1 >= replicas;
+            long start = System.nanoTime();
+
+            Future<Void> replaced;
+            if (last) {
+                // Let Kubernetes replace the last worker and remove the old ReplicaSet
+                replaced = deploymentOperations.reconcile(namespace, name, resumed)
+                        .compose(i -> waitForDeployment(name, "rolled", status ->
+                                intValue(status.getUpdatedReplicas()) >= replicas
+                                        && intValue(status.getReplicas()) == intValue(status.getUpdatedReplicas())
+                                        && intValue(status.getReadyReplicas()) >= replicas));
+            } else {
+                replaced = deploymentOperations.reconcile(namespace, name, resumed)
+                        .compose(i -> waitForDeployment(name, "replacing a worker", status -> intValue(status.getUpdatedReplicas()) > updated))
+                        .compose(i -> deploymentOperations.reconcile(namespace, name, paused))
+                        .compose(i -> waitForDeployment(name, "ready", status -> intValue(status.getReadyReplicas()) >= intValue(status.getReplicas())));
+            }
+
+            return replaced
+                    .compose(i -> waitForConnectorsAndTasksRunning(running))
+                    .compose(i -> {
+                        long downtime = System.nanoTime() - start;
+                        taskDowntimeTimer.record(downtime, TimeUnit.NANOSECONDS);
+                        log.info("{}: Worker {}/{} of Deployment {} was rolled, the connectors and tasks were not all running for {}ms",
+                                reconciliation, Math.min(updated + 1, replicas), replicas, name, TimeUnit.NANOSECONDS.toMillis(downtime));
+                        return last ? Future.succeededFuture() : rollNextWorker(name, paused, resumed, running);
+                    });
+        });
+    }
+
+    private Future<Void> waitForDeployment(String name, String logState, Predicate<DeploymentStatus> predicate) {
+        return deploymentOperations.waitFor(reconciliation.namespace(), name, logState, pollIntervalMs, operationTimeoutMs, (namespace, n) -> {
+            Deployment deployment = deploymentOperations.get(namespace, n);
+            return deployment != null
+                    && deployment.getStatus() != null
+                    && deployment.getMetadata().getGeneration() != null
+                    && deployment.getMetadata().getGeneration().equals(deployment.getStatus().getObservedGeneration())
+                    && predicate.test(deployment.getStatus());
+        });
+    }
+
+    /**
+     * @return A future which completes with the ids of the connectors and tasks which are running (or paused),
+     *         as returned by {@link #states(Map)}.
+     */
+    Future<Set<String>> runningConnectorsAndTasks() {
+        return statuses().map(statuses -> states(statuses).entrySet().stream()
+                .filter(Map.Entry::getValue)
+                .map(Map.Entry::getKey)
+                .collect(Collectors.toSet()));
+    }
+
+    /**
+     * Polls the Connect REST API until the given connectors and tasks are running (or paused). Those which no longer
+     * exist, such as the tasks of a connector which was deleted or reconfigured with fewer tasks, are not waited for.
+     * Errors of the REST API, such as during a rebalance, are retried until the timeout.
+     *
+     * @param running The ids of the connectors and tasks, as returned by {@link #runningConnectorsAndTasks()}.
+     * @return A future which completes when the connectors and tasks are running.
+     */
+    Future<Void> waitForConnectorsAndTasksRunning(Set<String> running) {
+        Promise<Void> result = Promise.promise();
+        long deadline = System.currentTimeMillis() + operationTimeoutMs;
+        pollConnectors(running, result, deadline);
+        return result.future();
+    }
+
+    private void pollConnectors(Set<String> running, Promise<Void> result, long deadline) {
+        statuses()
+                .map(statuses -> {
+                    Map<String, Boolean> states = states(statuses);
+                    return running.stream().allMatch(id -> states.getOrDefault(id, true));
+                })
+                .setHandler(poll -> {
+                    if (poll.succeeded() && poll.result()) {
+                        result.complete();
+                    } else if (System.currentTimeMillis() >= deadline) {
+                        String message = String.format("Exceeded timeout of %dms while waiting for the connectors and tasks of %s to be running",
+                                operationTimeoutMs, host);
+                        result.fail(new TimeoutException(poll.failed() ? message + ": " + poll.cause().getMessage() : message));
+                    } else {
+                        if (poll.failed()) {
+                            log.debug("{}: Could not get the status of the connectors of {}: {}", reconciliation, host, poll.cause().getMessage());
+                        }
+                        vertx.setTimer(pollIntervalMs, ignored -> pollConnectors(running, result, deadline));
+                    }
+                });
+    }
+
+    /**
+     * @return A future which completes with the status of each connector, as returned by {@link KafkaConnectApi#status(String, int, String)}.
+     */
+    @SuppressWarnings("unchecked")
+    private Future<Map<String, Object>> statuses() {
+        return apiClient.listWithStatusAndInfo(host, port).compose(connectors -> {
+            Map<String, Object> statuses = new HashMap<>(connectors.size());
+            Map<String, Future<Map<String, Object>>> pending = new HashMap<>();
+            for (Map.Entry<String, Map<String, Object>> connector : connectors.entrySet()) {
+                Object status = connector.getValue().get("status");
+                if (status instanceof Map) {
+                    statuses.put(connector.getKey(), status);
+                } else {
+                    // Older Connect versions don't return the status with the list of connectors
+                    pending.put(connector.getKey(), apiClient.status(host, port, connector.getKey()));
+                }
+            }
+            return CompositeFuture.join(new ArrayList<>(pending.values())).map(ignored -> {
+                pending.forEach((connector, status) -> statuses.put(connector, status.result()));
+                return statuses;
+            });
+        });
+    }
+
+    /**
+     * @param statuses The status of each connector.
+     * @return Whether each connector and task is running (or paused), keyed by the name of the connector and by
+     *         {@code <connector>/<task id>} for the tasks.
+     */
+    @SuppressWarnings("unchecked")
+    static Map<String, Boolean> states(Map<String, Object> statuses) {
+        Map<String, Boolean> states = new HashMap<>();
+        for (Map.Entry<String, Object> status : statuses.entrySet()) {
+            String connectorName = status.getKey();
+            if (!(status.getValue() instanceof Map)) {
+                states.put(connectorName, false);
+                continue;
+            }
+            Map<String, Object> connectorStatus = (Map<String, Object>) status.getValue();
+            Object connector = connectorStatus.get("connector");
+            states.put(connectorName, connector instanceof Map && isRunningState(((Map<String, Object>) connector).get("state")));
+            Object tasks = connectorStatus.get("tasks");
+            if (tasks instanceof List) {
+                List<Object> taskList = (List<Object>) tasks;
+                for (int i = 0; i < taskList.size(); i++) {
+                    Object task = taskList.get(i);
+                    Object id = task instanceof Map ? ((Map<String, Object>) task).get("id") : null;
+                    states.put(connectorName + "/" + (id != null ? id : i),
+                            task instanceof Map && isRunningState(((Map<String, Object>) task).get("state")));
+                }
+            }
+        }
+        return states;
+    }
+
+    private static boolean isRunningState(Object state) {
+        return "RUNNING".equals(state) || "PAUSED".equals(state);
+    }
+
+    private static int intValue(Integer value) {
+        return value != null ? value : 0;
+    }
+
+    /**
+     * @param current The current Deployment.
+     * @param desired The desired Deployment.
+     * @return Whether applying the {@code desired} Deployment would cause Kubernetes to roll the pods.
+     */
+    static boolean changesPodTemplate(Deployment current, Deployment desired) {
+        JsonNode source = patchMapper().valueToTree(current.getSpec().getTemplate());
+        JsonNode target = patchMapper().valueToTree(desired.getSpec().getTemplate());
+        for (JsonNode d : JsonDiff.asJson(source, target)) {
+            String path = d.get("path").asText();
+            if (!IGNORABLE_TEMPLATE_PATHS.matcher(path).matches()) {
+                log.debug("Pod template of Deployment {}/{} differs: {}", current.getMetadata().getNamespace(), current.getMetadata().getName(), d);
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -29,6 +29,7 @@ import io.strimzi.operator.cluster.model.StatusDiff;
 import io.strimzi.operator.cluster.operator.resource.ResourceOperatorSupplier;
 import io.strimzi.operator.common.Annotations;
 import io.strimzi.operator.common.Reconciliation;
+import io.strimzi.operator.common.Tracing;
 import io.strimzi.operator.common.operator.resource.BuildConfigOperator;
 import io.strimzi.operator.common.operator.resource.CrdOperator;
 import io.strimzi.operator.common.operator.resource.DeploymentConfigOperator;
@@ -75,7 +76,7 @@ public class KafkaConnectS2IAssemblyOperator extends AbstractConnectOperator<Ope
 
                                            ResourceOperatorSupplier supplier,
                                            ClusterOperatorConfig config) {
-        this(vertx, pfa, supplier, config, connect -> new KafkaConnectApiImpl(vertx));
+        this(vertx, pfa, supplier, config, sharedConnectClientProvider(vertx));
     }
 
     public KafkaConnectS2IAssemblyOperator(Vertx vertx, PlatformFeaturesAvailability pfa,
@@ -98,6 +99,7 @@ public class KafkaConnectS2IAssemblyOperator extends AbstractConnectOperator<Ope
         String namespace = reconciliation.namespace();
         KafkaConnectS2ICluster connect;
         KafkaConnectS2IStatus kafkaConnectS2Istatus = new KafkaConnectS2IStatus();
+        cacheConnectCluster(kafkaConnectS2I);
 
         try {
             if (kafkaConnectS2I.getSpec() == null) {
@@ -112,17 +114,12 @@ public class KafkaConnectS2IAssemblyOperator extends AbstractConnectOperator<Ope
         }
 
         connect.generateBuildConfig();
-        ConfigMap logAndMetricsConfigMap = connect.generateMetricsAndLogConfigMap(connect.getLogging() instanceof ExternalLogging ?
-                configMapOperations.get(namespace, ((ExternalLogging) connect.getLogging()).getName()) :
-                null);
-
         HashMap<String, String> annotations = new HashMap<>();
-        annotations.put(Annotations.STRIMZI_LOGGING_ANNOTATION, logAndMetricsConfigMap.getData().get(connect.ANCILLARY_CM_KEY_LOG_CONFIG));
 
         log.debug("{}: Updating Kafka Connect S2I cluster", reconciliation);
 
         connectOperations.getAsync(kafkaConnectS2I.getMetadata().getNamespace(), kafkaConnectS2I.getMetadata().getName())
-                .compose(otherConnect -> {
+                .compose(Tracing.withParent(reconciliation.span(), otherConnect -> {
                     if (otherConnect != null
                             // There is a KafkaConnect with the same name which is older than  or equally old as this KafkaConnectS2I
                             && kafkaConnectS2I.getMetadata().getCreationTimestamp().compareTo(otherConnect.getMetadata().getCreationTimestamp()) >= 0)    {
@@ -131,29 +128,36 @@ public class KafkaConnectS2IAssemblyOperator extends AbstractConnectOperator<Ope
                     } else {
                         return Future.succeededFuture();
                     }
-                })
-                .compose(i -> {
+                }))
+                .compose(Tracing.withParent(reconciliation.span(), i -> {
                     if (pfa.hasImages() && pfa.hasApps() && pfa.hasBuilds()) {
                         return Future.succeededFuture();
                     } else {
                         return Future.failedFuture("The OpenShift build, image or apps APIs are not available in this Kubernetes cluster. " +
                                 "Kafka Connect S2I deployment cannot be enabled.");
                     }
-                })
-                .compose(i -> connectServiceAccount(namespace, connect))
-                .compose(i -> networkPolicyOperator.reconcile(namespace, connect.getName(), connect.generateNetworkPolicy(pfa.isNamespaceAndPodSelectorNetworkPolicySupported(), isUseResources(kafkaConnectS2I))))
-                .compose(i -> deploymentConfigOperations.scaleDown(namespace, connect.getName(), connect.getReplicas()))
-                .compose(scale -> serviceOperations.reconcile(namespace, connect.getServiceName(), connect.generateService()))
-                .compose(i -> configMapOperations.reconcile(namespace, connect.getAncillaryConfigName(), logAndMetricsConfigMap))
-                .compose(i -> deploymentConfigOperations.reconcile(namespace, connect.getName(), connect.generateDeploymentConfig(annotations, pfa.isOpenshift(), imagePullPolicy, imagePullSecrets)))
-                .compose(i -> imagesStreamOperations.reconcile(namespace, KafkaConnectS2IResources.sourceImageStreamName(connect.getCluster()), connect.generateSourceImageStream()))
-                .compose(i -> imagesStreamOperations.reconcile(namespace, KafkaConnectS2IResources.targetImageStreamName(connect.getCluster()), connect.generateTargetImageStream()))
-                .compose(i -> podDisruptionBudgetOperator.reconcile(namespace, connect.getName(), connect.generatePodDisruptionBudget()))
-                .compose(i -> buildConfigOperations.reconcile(namespace, KafkaConnectS2IResources.buildConfigName(connect.getCluster()), connect.generateBuildConfig()))
-                .compose(i -> deploymentConfigOperations.scaleUp(namespace, connect.getName(), connect.getReplicas()))
-                .compose(i -> deploymentConfigOperations.waitForObserved(namespace, connect.getName(), 1_000, operationTimeoutMs))
-                .compose(i -> deploymentConfigOperations.readiness(namespace, connect.getName(), 1_000, operationTimeoutMs))
-                .compose(i -> reconcileConnectors(reconciliation, kafkaConnectS2I, kafkaConnectS2Istatus))
+                }))
+                .compose(Tracing.withParent(reconciliation.span(), i -> connectServiceAccount(namespace, connect)))
+                .compose(Tracing.withParent(reconciliation.span(), i -> networkPolicyOperator.reconcile(namespace, connect.getName(), connect.generateNetworkPolicy(pfa.isNamespaceAndPodSelectorNetworkPolicySupported(), isUseResources(kafkaConnectS2I)))))
+                .compose(Tracing.withParent(reconciliation.span(), i -> deploymentConfigOperations.scaleDown(namespace, connect.getName(), connect.getReplicas())))
+                .compose(Tracing.withParent(reconciliation.span(), scale -> serviceOperations.reconcile(namespace, connect.getServiceName(), connect.generateService())))
+                .compose(Tracing.withParent(reconciliation.span(), i -> connect.getLogging() instanceof ExternalLogging ?
+                        configMapOperations.getAsync(namespace, ((ExternalLogging) connect.getLogging()).getName()) :
+                        Future.<ConfigMap>succeededFuture(null)))
+                .compose(Tracing.withParent(reconciliation.span(), loggingCm -> {
+                    ConfigMap logAndMetricsConfigMap = connect.generateMetricsAndLogConfigMap(loggingCm);
+                    annotations.put(Annotations.STRIMZI_LOGGING_ANNOTATION, logAndMetricsConfigMap.getData().get(connect.ANCILLARY_CM_KEY_LOG_CONFIG));
+                    return configMapOperations.reconcile(namespace, connect.getAncillaryConfigName(), logAndMetricsConfigMap);
+                }))
+                .compose(Tracing.withParent(reconciliation.span(), i -> deploymentConfigOperations.reconcile(namespace, connect.getName(), connect.generateDeploymentConfig(annotations, pfa.isOpenshift(), imagePullPolicy, imagePullSecrets))))
+                .compose(Tracing.withParent(reconciliation.span(), i -> imagesStreamOperations.reconcile(namespace, KafkaConnectS2IResources.sourceImageStreamName(connect.getCluster()), connect.generateSourceImageStream())))
+                .compose(Tracing.withParent(reconciliation.span(), i -> imagesStreamOperations.reconcile(namespace, KafkaConnectS2IResources.targetImageStreamName(connect.getCluster()), connect.generateTargetImageStream())))
+                .compose(Tracing.withParent(reconciliation.span(), i -> podDisruptionBudgetOperator.reconcile(namespace, connect.getName(), connect.generatePodDisruptionBudget())))
+                .compose(Tracing.withParent(reconciliation.span(), i -> buildConfigOperations.reconcile(namespace, KafkaConnectS2IResources.buildConfigName(connect.getCluster()), connect.generateBuildConfig())))
+                .compose(Tracing.withParent(reconciliation.span(), i -> deploymentConfigOperations.scaleUp(namespace, connect.getName(), connect.getReplicas())))
+                .compose(Tracing.withParent(reconciliation.span(), i -> deploymentConfigOperations.waitForObserved(namespace, connect.getName(), 1_000, operationTimeoutMs)))
+                .compose(Tracing.withParent(reconciliation.span(), i -> deploymentConfigOperations.readiness(namespace, connect.getName(), 1_000, operationTimeoutMs)))
+                .compose(Tracing.withParent(reconciliation.span(), i -> reconcileConnectors(reconciliation, kafkaConnectS2I, kafkaConnectS2Istatus)))
                 .setHandler(reconciliationResult -> {
                     StatusUtils.setStatusConditionAndObservedGeneration(kafkaConnectS2I, kafkaConnectS2Istatus, reconciliationResult);
                     kafkaConnectS2Istatus.setUrl(KafkaConnectS2IResources.url(connect.getCluster(), namespace, KafkaConnectS2ICluster.REST_API_PORT));
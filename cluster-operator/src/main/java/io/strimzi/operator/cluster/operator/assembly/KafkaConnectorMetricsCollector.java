@@ -0,0 +1,385 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.cluster.operator.assembly;
+
+import io.fabric8.kubernetes.api.model.Pod;
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.Tags;
+import io.strimzi.api.kafka.model.KafkaConnectResources;
+import io.strimzi.api.kafka.model.KafkaConnector;
+import io.strimzi.api.kafka.model.status.KafkaConnectorMetricsStatus;
+import io.strimzi.operator.common.AbstractOperator;
+import io.strimzi.operator.common.MetricsProvider;
+import io.strimzi.operator.common.model.Labels;
+import io.strimzi.operator.common.operator.resource.PodOperator;
+import io.vertx.core.CompositeFuture;
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import io.vertx.core.Vertx;
+import io.vertx.core.http.HttpClient;
+import io.vertx.core.http.HttpClientOptions;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+import static java.util.Arrays.asList;
+import static java.util.Collections.emptyMap;
+
+/**
+ * Collects the throughput and lag of the connectors of Kafka Connect clusters from the Prometheus metrics endpoints
+ * of their workers, which exist when the Connect cluster has {@code metrics} configured. The metric names are the
+ * ones produced by the rules of the example Kafka Connect metrics configuration.
+ *
+ * The metrics of a Connect cluster are collected at most once per interval, with one request to each worker. The
+ * figures of the last collection are kept for the statuses of the {@code KafkaConnector}s and are published as
+ * gauges in the metrics of the operator.
+ */
+@SuppressWarnings({"deprecation"})
+class KafkaConnectorMetricsCollector {
+    private static final Logger log = LogManager.getLogger(KafkaConnectorMetricsCollector.class.getName());
+
+    /*test*/ static final String SOURCE_RECORDS_TOTAL = "kafka_connect_source_task_source_record_write_total";
+    /*test*/ static final String SINK_RECORDS_TOTAL = "kafka_connect_sink_task_sink_record_send_total";
+    /*test*/ static final String SOURCE_RECORDS_ACTIVE = "kafka_connect_source_task_source_record_active_count";
+    /*test*/ static final String CONSUMER_RECORDS_LAG = "kafka_consumer_fetch_manager_records_lag";
+    private static final Set<String> METRIC_NAMES = new HashSet<>(asList(SOURCE_RECORDS_TOTAL, SINK_RECORDS_TOTAL,
+            SOURCE_RECORDS_ACTIVE, CONSUMER_RECORDS_LAG));
+
+    private static final Pattern SAMPLE = Pattern.compile("^([a-zA-Z_:][a-zA-Z0-9_:]*)(?:\\{(.*)\\})?\\s+(\\S+)(?:\\s+\\S+)?$");
+    private static final Pattern LABEL = Pattern.compile("([a-zA-Z_][a-zA-Z0-9_]*)=\"((?:[^\"\\\\]|\\\\.)*)\"");
+    /**
+     * The client id of the consumer of a sink task is {@code connector-consumer-<connector>-<task>}.
+     */
+    private static final Pattern SINK_TASK_CLIENT_ID = Pattern.compile("connector-consumer-(.+)-([0-9]+)");
+
+    private static final String RECORDS_PER_SECOND = AbstractOperator.METRICS_PREFIX + "connector.records.per.second";
+    private static final String LAG = AbstractOperator.METRICS_PREFIX + "connector.lag";
+
+    private final PodOperator podOperations;
+    private final MetricsProvider metrics;
+    private final HttpClient httpClient;
+    private final int metricsPort;
+    private final long intervalMs;
+    private final long timeoutMs;
+
+    private final Map<String, Collection> collections = new ConcurrentHashMap<>();
+    private final Set<String> inProgress = ConcurrentHashMap.newKeySet();
+    private final Map<String, AtomicInteger> gauges = new ConcurrentHashMap<>();
+
+    /**
+     * The metrics of the tasks of one Connect cluster, collected at the same time.
+     */
+    private static class Collection {
+        private final long timestampMs;
+        private final Map<String, TaskMetrics> tasks;
+        private final Map<String, KafkaConnectorMetricsStatus> connectors;
+
+        Collection(long timestampMs, Map<String, TaskMetrics> tasks, Map<String, KafkaConnectorMetricsStatus> connectors) {
+            this.timestampMs = timestampMs;
+            this.tasks = tasks;
+            this.connectors = connectors;
+        }
+    }
+
+    /**
+     * The metrics of a single task of a connector.
+     */
+    /*test*/ static class TaskMetrics {
+        /*test*/ final String connector;
+        /*test*/ Double recordsTotal;
+        /*test*/ Long lag;
+
+        TaskMetrics(String connector) {
+            this.connector = connector;
+        }
+
+        private void addLag(double value) {
+            lag = (lag != null ? lag : 0L) + (long) value;
+        }
+    }
+
+    /**
+     * @param vertx The Vertx instance.
+     * @param podOperations The Pod operator, used to find the workers of the Connect clusters.
+     * @param metrics The metrics provider, in which the gauges of the connectors are registered.
+     * @param metricsPort The port of the Prometheus metrics endpoint of the workers.
+     * @param intervalMs The minimum interval between two collections from the same Connect cluster.
+     * @param timeoutMs The timeout of the requests to the workers.
+     */
+    KafkaConnectorMetricsCollector(Vertx vertx, PodOperator podOperations, MetricsProvider metrics,
+                                   int metricsPort, long intervalMs, long timeoutMs) {
+        this.podOperations = podOperations;
+        this.metrics = metrics;
+        this.metricsPort = metricsPort;
+        this.intervalMs = intervalMs;
+        this.timeoutMs = timeoutMs;
+        this.httpClient = vertx.createHttpClient(new HttpClientOptions()
+                .setKeepAlive(false));
+    }
+
+    private static String key(String namespace, String name) {
+        return namespace + "/" + name;
+    }
+
+    /**
+     * Collects the metrics of the connectors of a Connect cluster, unless they were collected less than the interval
+     * ago or are being collected already. Workers which cannot be reached are skipped.
+     *
+     * @param namespace The namespace of the Connect cluster.
+     * @param connectName The name of the Connect cluster.
+     * @return A future which completes when the metrics were collected. It never fails.
+     */
+    Future<Void> maybeCollect(String namespace, String connectName) {
+        String key = key(namespace, connectName);
+        Collection previous = collections.get(key);
+        long now = System.currentTimeMillis();
+        if (previous != null && now - previous.timestampMs < intervalMs
+                || !inProgress.add(key)) {
+            return Future.succeededFuture();
+        }
+
+        Promise<Void> result = Promise.promise();
+        Labels selector = Labels.forStrimziCluster(connectName).withStrimziName(KafkaConnectResources.deploymentName(connectName));
+        podOperations.listAsync(namespace, selector)
+                .compose(pods -> {
+                    List<Future> scrapes = pods.stream()
+                            .filter(pod -> pod.getStatus() != null && pod.getStatus().getPodIP() != null)
+                            .map(this::scrape)
+                            .collect(Collectors.toList());
+                    return CompositeFuture.join(scrapes);
+                })
+                .setHandler(scrapes -> {
+                    if (scrapes.succeeded()) {
+                        Map<String, TaskMetrics> tasks = new HashMap<>();
+                        for (int i = 0; i < scrapes.result().size(); i++) {
+                            tasks.putAll(scrapes.result().resultAt(i));
+                        }
+                        Map<String, KafkaConnectorMetricsStatus> connectors = connectorMetrics(tasks,
+                                previous != null ? previous.tasks : null, previous != null ? now - previous.timestampMs : 0);
+                        log.debug("{}/{}: collected metrics of connectors {}", namespace, connectName, connectors);
+
+                        collections.put(key, new Collection(now, tasks, connectors));
+                        updateGauges(namespace, previous != null ? previous.connectors : emptyMap(), connectors);
+                    } else {
+                        log.warn("{}/{}: failed to collect the metrics of the connectors", namespace, connectName, scrapes.cause());
+                    }
+                    inProgress.remove(key);
+                    result.complete();
+                });
+        return result.future();
+    }
+
+    /**
+     * @param namespace The namespace of the Connect cluster.
+     * @param connectName The name of the Connect cluster.
+     * @param connectorName The name of the connector.
+     * @return The metrics of the connector from the last collection, or null if none were collected.
+     */
+    KafkaConnectorMetricsStatus metrics(String namespace, String connectName, String connectorName) {
+        Collection collection = collections.get(key(namespace, connectName));
+        return collection != null ? collection.connectors.get(connectorName) : null;
+    }
+
+    /**
+     * Forgets the metrics of a Connect cluster which was deleted.
+     *
+     * @param namespace The namespace of the Connect cluster.
+     * @param connectName The name of the Connect cluster.
+     */
+    void remove(String namespace, String connectName) {
+        Collection collection = collections.remove(key(namespace, connectName));
+        if (collection != null) {
+            updateGauges(namespace, collection.connectors, emptyMap());
+        }
+    }
+
+    /**
+     * Reads the metrics of a worker. Failures are logged and result in no metrics, so that one unreachable worker
+     * does not prevent the metrics of the others from being collected.
+     */
+    private Future<Map<String, TaskMetrics>> scrape(Pod pod) {
+        Promise<Map<String, TaskMetrics>> result = Promise.promise();
+        String podIp = pod.getStatus().getPodIP();
+        httpClient.get(metricsPort, podIp, "/metrics", response -> {
+            response.exceptionHandler(result::tryFail);
+            if (response.statusCode() == 200) {
+                response.bodyHandler(buffer -> result.tryComplete(parse(buffer.toString())));
+            } else {
+                result.tryFail(new RuntimeException("Unexpected status code " + response.statusCode()));
+            }
+        })
+                .exceptionHandler(result::tryFail)
+                .setTimeout(timeoutMs)
+                .end();
+
+        return result.future().recover(error -> {
+            log.debug("Failed to read the metrics of Connect worker {} at {}:{}", pod.getMetadata().getName(), podIp, metricsPort, error);
+            return Future.succeededFuture(emptyMap());
+        });
+    }
+
+    /**
+     * Parses the metrics of the tasks from the Prometheus text format.
+     *
+     * @param body The metrics, as returned by the Prometheus metrics endpoint of a worker.
+     * @return The metrics of the tasks of the worker, keyed by connector and task.
+     */
+    /*test*/ static Map<String, TaskMetrics> parse(String body) {
+        Map<String, TaskMetrics> tasks = new HashMap<>();
+        for (String line : body.split("\n")) {
+            line = line.trim();
+            if (line.isEmpty() || line.startsWith("#")) {
+                continue;
+            }
+            Matcher sample = SAMPLE.matcher(line);
+            if (!sample.matches()) {
+                continue;
+            }
+            String name = sample.group(1);
+            Double value = value(sample.group(3));
+            if (!METRIC_NAMES.contains(name) || value == null) {
+                continue;
+            }
+
+            Map<String, String> labels = labels(sample.group(2));
+            String connector = labels.get("connector");
+            String task = labels.get("task");
+            if (CONSUMER_RECORDS_LAG.equals(name)) {
+                Matcher clientId = SINK_TASK_CLIENT_ID.matcher(labels.getOrDefault("clientid", ""));
+                if (!clientId.matches()) {
+                    continue;
+                }
+                connector = clientId.group(1);
+                task = clientId.group(2);
+            }
+            if (connector == null || task == null) {
+                continue;
+            }
+
+            String connectorName = connector;
+            TaskMetrics taskMetrics = tasks.computeIfAbsent(connector + "/" + task, ignored -> new TaskMetrics(connectorName));
+            if (SOURCE_RECORDS_TOTAL.equals(name) || SINK_RECORDS_TOTAL.equals(name)) {
+                taskMetrics.recordsTotal = value;
+            } else {
+                taskMetrics.addLag(value);
+            }
+        }
+        return tasks;
+    }
+
+    /**
+     * @return The value of a sample, or null if it is not a number of records.
+     */
+    private static Double value(String value) {
+        try {
+            double result = Double.parseDouble(value);
+            return Double.isNaN(result) || Double.isInfinite(result) || result < 0 ? null : result;
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    private static Map<String, String> labels(String labels) {
+        if (labels == null) {
+            return emptyMap();
+        }
+        Map<String, String> result = new HashMap<>();
+        Matcher label = LABEL.matcher(labels);
+        while (label.find()) {
+            result.put(label.group(1).toLowerCase(Locale.ENGLISH), label.group(2));
+        }
+        return result;
+    }
+
+    /**
+     * Aggregates the metrics of the tasks per connector. The throughput is the number of records the tasks processed
+     * since the previous collection, divided by the time since then. Tasks which were restarted since then (and whose
+     * totals were reset) contribute their current totals.
+     *
+     * @param tasks The metrics of the tasks.
+     * @param previousTasks The metrics of the tasks in the previous collection, or null if there was none.
+     * @param elapsedMs The time since the previous collection.
+     * @return The metrics of the connectors, keyed by connector.
+     */
+    /*test*/ static Map<String, KafkaConnectorMetricsStatus> connectorMetrics(Map<String, TaskMetrics> tasks,
+                                                                            Map<String, TaskMetrics> previousTasks,
+                                                                            long elapsedMs) {
+        Map<String, KafkaConnectorMetricsStatus> connectors = new HashMap<>();
+        Map<String, Double> records = new HashMap<>();
+        for (Map.Entry<String, TaskMetrics> entry : tasks.entrySet()) {
+            TaskMetrics task = entry.getValue();
+            KafkaConnectorMetricsStatus connector = connectors.computeIfAbsent(task.connector, ignored -> {
+                KafkaConnectorMetricsStatus status = new KafkaConnectorMetricsStatus();
+                status.setTasks(0);
+                return status;
+            });
+            connector.setTasks(connector.getTasks() + 1);
+            if (task.lag != null) {
+                connector.setLag((connector.getLag() != null ? connector.getLag() : 0L) + task.lag);
+            }
+
+            TaskMetrics previous = previousTasks != null ? previousTasks.get(entry.getKey()) : null;
+            if (elapsedMs > 0 && task.recordsTotal != null && previous != null && previous.recordsTotal != null) {
+                double delta = task.recordsTotal >= previous.recordsTotal ? task.recordsTotal - previous.recordsTotal : task.recordsTotal;
+                records.merge(task.connector, delta, Double::sum);
+            }
+        }
+        for (Map.Entry<String, Double> entry : records.entrySet()) {
+            connectors.get(entry.getKey()).setRecordsPerSecond(Math.round(entry.getValue() * 1_000 / elapsedMs));
+        }
+        return connectors;
+    }
+
+    /**
+     * Updates the gauges of the connectors, and removes the ones of the connectors which no longer have metrics.
+     */
+    private void updateGauges(String namespace, Map<String, KafkaConnectorMetricsStatus> previous,
+                              Map<String, KafkaConnectorMetricsStatus> current) {
+        for (Map.Entry<String, KafkaConnectorMetricsStatus> entry : current.entrySet()) {
+            KafkaConnectorMetricsStatus connector = entry.getValue();
+            Tags tags = tags(namespace, entry.getKey());
+            if (connector.getRecordsPerSecond() != null) {
+                gauge(RECORDS_PER_SECOND, "The number of records per second processed by the tasks of the connector", tags)
+                        .set((int) Math.min(connector.getRecordsPerSecond(), Integer.MAX_VALUE));
+            }
+            if (connector.getLag() != null) {
+                gauge(LAG, "The number of records not yet processed by the tasks of the connector", tags)
+                        .set((int) Math.min(connector.getLag(), Integer.MAX_VALUE));
+            }
+        }
+        for (String connectorName : previous.keySet()) {
+            if (!current.containsKey(connectorName)) {
+                Tags tags = tags(namespace, connectorName);
+                for (String name : asList(RECORDS_PER_SECOND, LAG)) {
+                    gauges.remove(name + tags);
+                    metrics.meterRegistry().find(name).tags(tags).meters().forEach(metrics.meterRegistry()::remove);
+                }
+            }
+        }
+    }
+
+    private static Tags tags(String namespace, String connectorName) {
+        return Tags.of(Tag.of("kind", KafkaConnector.RESOURCE_KIND), Tag.of("namespace", namespace), Tag.of("name", connectorName));
+    }
+
+    /**
+     * The gauges are registered once, because registering the same gauge again would leave the registry reading
+     * the first value holder.
+     */
+    private AtomicInteger gauge(String name, String description, Tags tags) {
+        return gauges.computeIfAbsent(name + tags, ignored -> metrics.gauge(name, description, tags));
+    }
+}
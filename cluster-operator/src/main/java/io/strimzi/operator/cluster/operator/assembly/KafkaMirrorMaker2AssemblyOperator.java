@@ -5,10 +5,15 @@
 package io.strimzi.operator.cluster.operator.assembly;
 
 import java.io.Serializable;
+import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeMap;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -41,6 +46,8 @@ import io.strimzi.api.kafka.model.authentication.KafkaClientAuthenticationOAuth;
 import io.strimzi.api.kafka.model.authentication.KafkaClientAuthenticationPlain;
 import io.strimzi.api.kafka.model.authentication.KafkaClientAuthenticationScramSha512;
 import io.strimzi.api.kafka.model.authentication.KafkaClientAuthenticationTls;
+import io.strimzi.api.kafka.model.status.KafkaMirrorMaker2MirrorStatus;
+import io.strimzi.api.kafka.model.status.KafkaMirrorMaker2MirrorStatusBuilder;
 import io.strimzi.api.kafka.model.status.KafkaMirrorMaker2Status;
 import io.strimzi.operator.PlatformFeaturesAvailability;
 import io.strimzi.operator.cluster.ClusterOperatorConfig;
@@ -51,7 +58,9 @@ import io.strimzi.operator.cluster.model.KafkaMirrorMaker2Cluster;
 import io.strimzi.operator.cluster.model.KafkaVersion;
 import io.strimzi.operator.cluster.model.ModelUtils;
 import io.strimzi.operator.cluster.operator.resource.ResourceOperatorSupplier;
+import io.strimzi.operator.common.ConcurrencyLimiter;
 import io.strimzi.operator.common.Reconciliation;
+import io.strimzi.operator.common.Tracing;
 import io.strimzi.operator.common.operator.resource.DeploymentOperator;
 import io.strimzi.operator.common.operator.resource.ReconcileResult;
 import io.strimzi.operator.common.operator.resource.StatusUtils;
@@ -102,7 +111,7 @@ public class KafkaMirrorMaker2AssemblyOperator extends AbstractConnectOperator<K
     public KafkaMirrorMaker2AssemblyOperator(Vertx vertx, PlatformFeaturesAvailability pfa,
                                         ResourceOperatorSupplier supplier,
                                         ClusterOperatorConfig config) {
-        this(vertx, pfa, supplier, config, connect -> new KafkaConnectApiImpl(vertx));
+        this(vertx, pfa, supplier, config, sharedConnectClientProvider(vertx));
     }
 
     public KafkaMirrorMaker2AssemblyOperator(Vertx vertx, PlatformFeaturesAvailability pfa,
@@ -136,25 +145,28 @@ public class KafkaMirrorMaker2AssemblyOperator extends AbstractConnectOperator<K
             return Future.failedFuture(e);
         }
 
-        ConfigMap logAndMetricsConfigMap = mirrorMaker2Cluster.generateMetricsAndLogConfigMap(mirrorMaker2Cluster.getLogging() instanceof ExternalLogging ?
-                configMapOperations.get(namespace, ((ExternalLogging) mirrorMaker2Cluster.getLogging()).getName()) :
-                null);
-
         Map<String, String> annotations = new HashMap<>();
-        annotations.put(Annotations.STRIMZI_LOGGING_ANNOTATION, logAndMetricsConfigMap.getData().get(mirrorMaker2Cluster.ANCILLARY_CM_KEY_LOG_CONFIG));
 
         log.debug("{}: Updating Kafka MirrorMaker 2.0 cluster", reconciliation);
         mirrorMaker2ServiceAccount(namespace, mirrorMaker2Cluster)
-                .compose(i -> networkPolicyOperator.reconcile(namespace, mirrorMaker2Cluster.getName(), mirrorMaker2Cluster.generateNetworkPolicy(pfa.isNamespaceAndPodSelectorNetworkPolicySupported(), true)))
-                .compose(i -> deploymentOperations.scaleDown(namespace, mirrorMaker2Cluster.getName(), mirrorMaker2Cluster.getReplicas()))
-                .compose(scale -> serviceOperations.reconcile(namespace, mirrorMaker2Cluster.getServiceName(), mirrorMaker2Cluster.generateService()))
-                .compose(i -> configMapOperations.reconcile(namespace, mirrorMaker2Cluster.getAncillaryConfigName(), logAndMetricsConfigMap))
-                .compose(i -> podDisruptionBudgetOperator.reconcile(namespace, mirrorMaker2Cluster.getName(), mirrorMaker2Cluster.generatePodDisruptionBudget()))
-                .compose(i -> deploymentOperations.reconcile(namespace, mirrorMaker2Cluster.getName(), mirrorMaker2Cluster.generateDeployment(annotations, pfa.isOpenshift(), imagePullPolicy, imagePullSecrets)))
-                .compose(i -> deploymentOperations.scaleUp(namespace, mirrorMaker2Cluster.getName(), mirrorMaker2Cluster.getReplicas()))
-                .compose(i -> deploymentOperations.waitForObserved(namespace, mirrorMaker2Cluster.getName(), 1_000, operationTimeoutMs))
-                .compose(i -> deploymentOperations.readiness(namespace, mirrorMaker2Cluster.getName(), 1_000, operationTimeoutMs))
-                .compose(i -> reconcileConnectors(reconciliation, kafkaMirrorMaker2, mirrorMaker2Cluster, kafkaMirrorMaker2Status))
+                .compose(Tracing.withParent(reconciliation.span(), i -> networkPolicyOperator.reconcile(namespace, mirrorMaker2Cluster.getName(), mirrorMaker2Cluster.generateNetworkPolicy(pfa.isNamespaceAndPodSelectorNetworkPolicySupported(), true))))
+                .compose(Tracing.withParent(reconciliation.span(), i -> deploymentOperations.scaleDown(namespace, mirrorMaker2Cluster.getName(), mirrorMaker2Cluster.getReplicas())))
+                .compose(Tracing.withParent(reconciliation.span(), scale -> serviceOperations.reconcile(namespace, mirrorMaker2Cluster.getServiceName(), mirrorMaker2Cluster.generateService())))
+                .compose(Tracing.withParent(reconciliation.span(), i -> mirrorMaker2Cluster.getLogging() instanceof ExternalLogging ?
+                        configMapOperations.getAsync(namespace, ((ExternalLogging) mirrorMaker2Cluster.getLogging()).getName()) :
+                        Future.<ConfigMap>succeededFuture(null)))
+                .compose(Tracing.withParent(reconciliation.span(), loggingCm -> {
+                    ConfigMap logAndMetricsConfigMap = mirrorMaker2Cluster.generateMetricsAndLogConfigMap(loggingCm);
+                    annotations.put(Annotations.STRIMZI_LOGGING_ANNOTATION, logAndMetricsConfigMap.getData().get(mirrorMaker2Cluster.ANCILLARY_CM_KEY_LOG_CONFIG));
+                    return configMapOperations.reconcile(namespace, mirrorMaker2Cluster.getAncillaryConfigName(), logAndMetricsConfigMap);
+                }))
+                .compose(Tracing.withParent(reconciliation.span(), i -> podDisruptionBudgetOperator.reconcile(namespace, mirrorMaker2Cluster.getName(), mirrorMaker2Cluster.generatePodDisruptionBudget())))
+                .compose(Tracing.withParent(reconciliation.span(), i -> reconcileDeployment(reconciliation, deploymentOperations, KafkaMirrorMaker2Resources.qualifiedServiceName(mirrorMaker2Cluster.getCluster(), namespace),
+                        mirrorMaker2Cluster.generateDeployment(annotations, pfa.isOpenshift(), imagePullPolicy, imagePullSecrets))))
+                .compose(Tracing.withParent(reconciliation.span(), i -> deploymentOperations.scaleUp(namespace, mirrorMaker2Cluster.getName(), mirrorMaker2Cluster.getReplicas())))
+                .compose(Tracing.withParent(reconciliation.span(), i -> deploymentOperations.waitForObserved(namespace, mirrorMaker2Cluster.getName(), 1_000, operationTimeoutMs)))
+                .compose(Tracing.withParent(reconciliation.span(), i -> deploymentOperations.readiness(namespace, mirrorMaker2Cluster.getName(), 1_000, operationTimeoutMs)))
+                .compose(Tracing.withParent(reconciliation.span(), i -> reconcileConnectors(reconciliation, kafkaMirrorMaker2, mirrorMaker2Cluster, kafkaMirrorMaker2Status)))
                 .map((Void) null)
                 .setHandler(reconciliationResult -> {
                     StatusUtils.setStatusConditionAndObservedGeneration(kafkaMirrorMaker2, kafkaMirrorMaker2Status, reconciliationResult);
@@ -182,8 +194,15 @@ public class KafkaMirrorMaker2AssemblyOperator extends AbstractConnectOperator<K
                 mirrorMaker2Cluster.generateServiceAccount());
     }
 
+    @Override
+    protected String connectorLimiterKey(Reconciliation reconciliation) {
+        return KafkaMirrorMaker2Resources.qualifiedServiceName(reconciliation.name(), reconciliation.namespace());
+    }
+
     /**
      * Reconcile all the MirrorMaker 2.0 connectors selected by the given MirrorMaker 2.0 instance.
+     * The connectors of the mirrors whose config didn't change since it was last applied (as recorded by the config
+     * hash in the status of the mirror) only have their status refreshed.
      * @param reconciliation The reconciliation
      * @param kafkaMirrorMaker2 The MirrorMaker 2.0
      * @return A future, failed if any of the connectors could not be reconciled.
@@ -197,8 +216,8 @@ public class KafkaMirrorMaker2AssemblyOperator extends AbstractConnectOperator<K
         List<KafkaMirrorMaker2MirrorSpec> mirrors = ModelUtils.asListOrEmptyList(kafkaMirrorMaker2.getSpec().getMirrors());
         String host = KafkaMirrorMaker2Resources.qualifiedServiceName(mirrorMaker2Name, reconciliation.namespace());
         KafkaConnectApi apiClient = getKafkaConnectApi();
-        return apiClient.list(host, KafkaConnectCluster.REST_API_PORT).compose(deleteMirrorMaker2ConnectorNames -> {
-
+        return apiClient.listWithStatusAndInfo(host, KafkaConnectCluster.REST_API_PORT).compose(Tracing.withParent(reconciliation.span(), runningConnectors -> {
+            Set<String> deleteMirrorMaker2ConnectorNames = new HashSet<>(runningConnectors.keySet());
             for (Map.Entry<String, Function<KafkaMirrorMaker2MirrorSpec, KafkaMirrorMaker2ConnectorSpec>> connectorEntry : MIRRORMAKER2_CONNECTORS.entrySet()) {
                 deleteMirrorMaker2ConnectorNames.removeAll(mirrors.stream()
                         .filter(mirror -> connectorEntry.getValue().apply(mirror) != null) // filter out non-existent connectors
@@ -206,22 +225,24 @@ public class KafkaMirrorMaker2AssemblyOperator extends AbstractConnectOperator<K
                         .collect(Collectors.toSet()));
             }
             log.debug("{}: delete MirrorMaker 2.0 connectors: {}", reconciliation, deleteMirrorMaker2ConnectorNames);
+            ConcurrencyLimiter limiter = connectorLimiter(host);
             Stream<Future<Void>> deletionFutures = deleteMirrorMaker2ConnectorNames.stream()
-                    .map(connectorName -> apiClient.delete(host, KafkaConnectCluster.REST_API_PORT, connectorName));
+                    .map(connectorName -> limiter.submit(() -> apiClient.delete(host, KafkaConnectCluster.REST_API_PORT, connectorName)));
             Stream<Future<Void>> createUpdateFutures = mirrors.stream()
-                    .map(mirror -> reconcileMirrorMaker2Connectors(reconciliation, host, apiClient, kafkaMirrorMaker2, mirror, mirrorMaker2Cluster, mirrorMaker2Status));
+                    .map(mirror -> reconcileMirrorMaker2Connectors(reconciliation, host, apiClient, kafkaMirrorMaker2, mirror, mirrorMaker2Cluster, mirrorMaker2Status, runningConnectors));
             return CompositeFuture.join(Stream.concat(deletionFutures, createUpdateFutures).collect(Collectors.toList())).map((Void) null);
-        });
+        }));
     }
 
-    private Future<Void> reconcileMirrorMaker2Connectors(Reconciliation reconciliation, String host, KafkaConnectApi apiClient, KafkaMirrorMaker2 mirrorMaker2, KafkaMirrorMaker2MirrorSpec mirror, KafkaMirrorMaker2Cluster mirrorMaker2Cluster, KafkaMirrorMaker2Status mirrorMaker2Status) {
+    private Future<Void> reconcileMirrorMaker2Connectors(Reconciliation reconciliation, String host, KafkaConnectApi apiClient, KafkaMirrorMaker2 mirrorMaker2, KafkaMirrorMaker2MirrorSpec mirror,
+                                                         KafkaMirrorMaker2Cluster mirrorMaker2Cluster, KafkaMirrorMaker2Status mirrorMaker2Status, Map<String, Map<String, Object>> runningConnectors) {
         String targetClusterAlias = mirror.getTargetCluster();
         String sourceClusterAlias = mirror.getSourceCluster();
         if (targetClusterAlias == null) {
-            return maybeUpdateMirrorMaker2Status(reconciliation, mirrorMaker2,
+            return invalidMirror(reconciliation, mirrorMaker2, mirror, mirrorMaker2Status,
                     new InvalidResourceException("targetCluster property is required"));
         } else if (sourceClusterAlias == null) {
-            return maybeUpdateMirrorMaker2Status(reconciliation, mirrorMaker2,
+            return invalidMirror(reconciliation, mirrorMaker2, mirror, mirrorMaker2Status,
                     new InvalidResourceException("sourceCluster property is required"));
         }
         List<KafkaMirrorMaker2ClusterSpec> clusters = ModelUtils.asListOrEmptyList(mirrorMaker2.getSpec().getClusters());
@@ -230,34 +251,93 @@ public class KafkaMirrorMaker2AssemblyOperator extends AbstractConnectOperator<K
             .collect(Collectors.toMap(KafkaMirrorMaker2ClusterSpec::getAlias, Function.identity()));
 
         if (!clusterMap.containsKey(targetClusterAlias)) {
-            return maybeUpdateMirrorMaker2Status(reconciliation, mirrorMaker2,
+            return invalidMirror(reconciliation, mirrorMaker2, mirror, mirrorMaker2Status,
                     new InvalidResourceException("targetCluster with alias " + mirror.getTargetCluster() + " cannot be found in the list of clusters at spec.clusters"));
         } else if (!clusterMap.containsKey(sourceClusterAlias)) {
-            return maybeUpdateMirrorMaker2Status(reconciliation, mirrorMaker2,
+            return invalidMirror(reconciliation, mirrorMaker2, mirror, mirrorMaker2Status,
                     new InvalidResourceException("sourceCluster with alias " + mirror.getSourceCluster() + " cannot be found in the list of clusters at spec.clusters"));
         }
-        
-        return CompositeFuture.join(MIRRORMAKER2_CONNECTORS.entrySet().stream()
-                    .filter(entry -> entry.getValue().apply(mirror) != null) // filter out non-existent connectors
-                    .map(entry -> {
-                        String connectorName = sourceClusterAlias + "->" + targetClusterAlias + entry.getKey();
-                        String className = MIRRORMAKER2_CONNECTOR_PACKAGE + entry.getKey();
-                        
-                        KafkaMirrorMaker2ConnectorSpec mm2ConnectorSpec = entry.getValue().apply(mirror);
-                        KafkaConnectorSpec connectorSpec = new KafkaConnectorSpecBuilder()
-                                .withClassName(className)
-                                .withConfig(mm2ConnectorSpec.getConfig())
-                                .withPause(mm2ConnectorSpec.getPause())
-                                .withTasksMax(mm2ConnectorSpec.getTasksMax())
-                                .build();                      
-
-                        prepareMirrorMaker2ConnectorConfig(mirror, clusterMap.get(sourceClusterAlias), clusterMap.get(targetClusterAlias), connectorSpec, mirrorMaker2Cluster);
-                        log.debug("{}: creating/updating connector {} config: {}", reconciliation, connectorName, asJson(connectorSpec).toString());
-                        return reconcileMirrorMaker2Connector(reconciliation, mirrorMaker2, apiClient, host, connectorName, connectorSpec, mirrorMaker2Status);
-                    })                            
-                    .collect(Collectors.toList()))
-                    .map((Void) null);
-    }    
+
+        Map<String, KafkaConnectorSpec> connectorSpecs = new TreeMap<>();
+        MIRRORMAKER2_CONNECTORS.entrySet().stream()
+                .filter(entry -> entry.getValue().apply(mirror) != null) // filter out non-existent connectors
+                .forEach(entry -> {
+                    String connectorName = sourceClusterAlias + "->" + targetClusterAlias + entry.getKey();
+                    String className = MIRRORMAKER2_CONNECTOR_PACKAGE + entry.getKey();
+
+                    KafkaMirrorMaker2ConnectorSpec mm2ConnectorSpec = entry.getValue().apply(mirror);
+                    KafkaConnectorSpec connectorSpec = new KafkaConnectorSpecBuilder()
+                            .withClassName(className)
+                            .withConfig(mm2ConnectorSpec.getConfig())
+                            .withPause(mm2ConnectorSpec.getPause())
+                            .withTasksMax(mm2ConnectorSpec.getTasksMax())
+                            .build();
+
+                    prepareMirrorMaker2ConnectorConfig(mirror, clusterMap.get(sourceClusterAlias), clusterMap.get(targetClusterAlias), connectorSpec, mirrorMaker2Cluster);
+                    connectorSpecs.put(connectorName, connectorSpec);
+                });
+
+        // When the config of the mirror was applied before, its connectors (if they still exist) only need their status refreshing
+        String configHash = configHash(host, connectorSpecs);
+        boolean unchanged = configHash.equals(appliedConfigHash(mirrorMaker2, mirror))
+                && runningConnectors.keySet().containsAll(connectorSpecs.keySet());
+        log.debug("{}: MirrorMaker 2.0 mirror {}->{} {}", reconciliation, sourceClusterAlias, targetClusterAlias, unchanged ? "did not change" : "changed");
+
+        ConcurrencyLimiter limiter = connectorLimiter(host);
+        List<Future> futures = new ArrayList<>(connectorSpecs.size());
+        for (Map.Entry<String, KafkaConnectorSpec> connector : connectorSpecs.entrySet()) {
+            String connectorName = connector.getKey();
+            KafkaConnectorSpec connectorSpec = connector.getValue();
+            Map<String, Object> current = runningConnectors.get(connectorName);
+            futures.add(limiter.submit(() -> {
+                if (unchanged) {
+                    return reconcileMirrorMaker2Connector(reconciliation, mirrorMaker2, mirrorMaker2Status,
+                            refreshConnector(reconciliation, host, apiClient, connectorName, connectorSpec, current));
+                } else {
+                    log.debug("{}: creating/updating connector {} config: {}", reconciliation, connectorName, asJson(connectorSpec).toString());
+                    return reconcileMirrorMaker2Connector(reconciliation, mirrorMaker2, mirrorMaker2Status,
+                            maybeCreateOrUpdateConnector(reconciliation, host, apiClient, connectorName, connectorSpec, current));
+                }
+            }));
+        }
+        return CompositeFuture.join(futures)
+                .setHandler(result -> addMirrorStatus(mirrorMaker2Status, mirror, result.cause(), result.succeeded() ? configHash : null))
+                .map((Void) null);
+    }
+
+    /**
+     * @return The config hash of the given mirror as last applied and recorded in the status of the MirrorMaker 2.0, or null.
+     */
+    private static String appliedConfigHash(KafkaMirrorMaker2 mirrorMaker2, KafkaMirrorMaker2MirrorSpec mirror) {
+        if (mirrorMaker2.getStatus() == null || mirrorMaker2.getStatus().getMirrors() == null) {
+            return null;
+        }
+        return mirrorMaker2.getStatus().getMirrors().stream()
+                .filter(status -> Objects.equals(status.getSourceCluster(), mirror.getSourceCluster())
+                        && Objects.equals(status.getTargetCluster(), mirror.getTargetCluster()))
+                .map(KafkaMirrorMaker2MirrorStatus::getConfigHash)
+                .filter(Objects::nonNull)
+                .findFirst()
+                .orElse(null);
+    }
+
+    private Future<Void> invalidMirror(Reconciliation reconciliation, KafkaMirrorMaker2 mirrorMaker2, KafkaMirrorMaker2MirrorSpec mirror,
+                                       KafkaMirrorMaker2Status mirrorMaker2Status, InvalidResourceException error) {
+        addMirrorStatus(mirrorMaker2Status, mirror, error, null);
+        return maybeUpdateMirrorMaker2Status(reconciliation, mirrorMaker2, error);
+    }
+
+    private static void addMirrorStatus(KafkaMirrorMaker2Status mirrorMaker2Status, KafkaMirrorMaker2MirrorSpec mirror, Throwable error, String configHash) {
+        KafkaMirrorMaker2MirrorStatus mirrorStatus = new KafkaMirrorMaker2MirrorStatusBuilder()
+                .withSourceCluster(mirror.getSourceCluster())
+                .withTargetCluster(mirror.getTargetCluster())
+                .withConditions(StatusUtils.buildConditionFromException(error))
+                .withConfigHash(configHash)
+                .build();
+        mirrorMaker2Status.getMirrors().add(mirrorStatus);
+        mirrorMaker2Status.getMirrors().sort(Comparator.comparing((KafkaMirrorMaker2MirrorStatus status) -> String.valueOf(status.getSourceCluster()))
+                .thenComparing(status -> String.valueOf(status.getTargetCluster())));
+    }
 
     private static void prepareMirrorMaker2ConnectorConfig(KafkaMirrorMaker2MirrorSpec mirror, KafkaMirrorMaker2ClusterSpec sourceCluster, KafkaMirrorMaker2ClusterSpec targetCluster, KafkaConnectorSpec connectorSpec, KafkaMirrorMaker2Cluster mirrorMaker2Cluster) {
         Map<String, Object> config = connectorSpec.getConfig();
@@ -373,8 +453,9 @@ public class KafkaMirrorMaker2AssemblyOperator extends AbstractConnectOperator<K
         return securityProtocol;
     }
 
-    private Future<Map<String, Object>> reconcileMirrorMaker2Connector(Reconciliation reconciliation, KafkaMirrorMaker2 mirrorMaker2, KafkaConnectApi apiClient, String host, String connectorName, KafkaConnectorSpec connectorSpec, KafkaMirrorMaker2Status mirrorMaker2Status) {
-        return maybeCreateOrUpdateConnector(reconciliation, host, apiClient, connectorName, connectorSpec)
+    private Future<Map<String, Object>> reconcileMirrorMaker2Connector(Reconciliation reconciliation, KafkaMirrorMaker2 mirrorMaker2, KafkaMirrorMaker2Status mirrorMaker2Status,
+                                                                       Future<Map<String, Object>> connectorState) {
+        return connectorState
                 .setHandler(result -> {
                     if (result.succeeded()) {
                         mirrorMaker2Status.getConnectors().add(result.result());
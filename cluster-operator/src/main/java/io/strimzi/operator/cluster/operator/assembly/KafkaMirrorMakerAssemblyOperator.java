@@ -25,6 +25,7 @@ import io.strimzi.operator.cluster.operator.resource.ResourceOperatorSupplier;
 import io.strimzi.operator.common.Annotations;
 import io.strimzi.operator.common.PasswordGenerator;
 import io.strimzi.operator.common.Reconciliation;
+import io.strimzi.operator.common.Tracing;
 import io.strimzi.operator.common.operator.resource.CrdOperator;
 import io.strimzi.operator.common.operator.resource.DeploymentOperator;
 import io.strimzi.operator.common.operator.resource.ReconcileResult;
@@ -87,22 +88,24 @@ public class KafkaMirrorMakerAssemblyOperator extends AbstractAssemblyOperator<K
             return Future.failedFuture(e);
         }
 
-        ConfigMap logAndMetricsConfigMap = mirror.generateMetricsAndLogConfigMap(mirror.getLogging() instanceof ExternalLogging ?
-                configMapOperations.get(namespace, ((ExternalLogging) mirror.getLogging()).getName()) :
-                null);
-
         Map<String, String> annotations = new HashMap<>();
-        annotations.put(Annotations.STRIMZI_LOGGING_ANNOTATION, logAndMetricsConfigMap.getData().get(mirror.ANCILLARY_CM_KEY_LOG_CONFIG));
 
         log.debug("{}: Updating Kafka Mirror Maker cluster", reconciliation);
         mirrorMakerServiceAccount(namespace, mirror)
-                .compose(i -> deploymentOperations.scaleDown(namespace, mirror.getName(), mirror.getReplicas()))
-                .compose(i -> configMapOperations.reconcile(namespace, mirror.getAncillaryConfigName(), logAndMetricsConfigMap))
-                .compose(i -> podDisruptionBudgetOperator.reconcile(namespace, mirror.getName(), mirror.generatePodDisruptionBudget()))
-                .compose(i -> deploymentOperations.reconcile(namespace, mirror.getName(), mirror.generateDeployment(annotations, pfa.isOpenshift(), imagePullPolicy, imagePullSecrets)))
-                .compose(i -> deploymentOperations.scaleUp(namespace, mirror.getName(), mirror.getReplicas()))
-                .compose(i -> deploymentOperations.waitForObserved(namespace, mirror.getName(), 1_000, operationTimeoutMs))
-                .compose(i -> deploymentOperations.readiness(namespace, mirror.getName(), 1_000, operationTimeoutMs))
+                .compose(Tracing.withParent(reconciliation.span(), i -> deploymentOperations.scaleDown(namespace, mirror.getName(), mirror.getReplicas())))
+                .compose(Tracing.withParent(reconciliation.span(), i -> mirror.getLogging() instanceof ExternalLogging ?
+                        configMapOperations.getAsync(namespace, ((ExternalLogging) mirror.getLogging()).getName()) :
+                        Future.<ConfigMap>succeededFuture(null)))
+                .compose(Tracing.withParent(reconciliation.span(), loggingCm -> {
+                    ConfigMap logAndMetricsConfigMap = mirror.generateMetricsAndLogConfigMap(loggingCm);
+                    annotations.put(Annotations.STRIMZI_LOGGING_ANNOTATION, logAndMetricsConfigMap.getData().get(mirror.ANCILLARY_CM_KEY_LOG_CONFIG));
+                    return configMapOperations.reconcile(namespace, mirror.getAncillaryConfigName(), logAndMetricsConfigMap);
+                }))
+                .compose(Tracing.withParent(reconciliation.span(), i -> podDisruptionBudgetOperator.reconcile(namespace, mirror.getName(), mirror.generatePodDisruptionBudget())))
+                .compose(Tracing.withParent(reconciliation.span(), i -> deploymentOperations.reconcile(namespace, mirror.getName(), mirror.generateDeployment(annotations, pfa.isOpenshift(), imagePullPolicy, imagePullSecrets))))
+                .compose(Tracing.withParent(reconciliation.span(), i -> deploymentOperations.scaleUp(namespace, mirror.getName(), mirror.getReplicas())))
+                .compose(Tracing.withParent(reconciliation.span(), i -> deploymentOperations.waitForObserved(namespace, mirror.getName(), 1_000, operationTimeoutMs)))
+                .compose(Tracing.withParent(reconciliation.span(), i -> deploymentOperations.readiness(namespace, mirror.getName(), 1_000, operationTimeoutMs)))
                 .setHandler(reconciliationResult -> {
                         StatusUtils.setStatusConditionAndObservedGeneration(assemblyResource, kafkaMirrorMakerStatus, reconciliationResult);
 
@@ -140,21 +140,29 @@ public class KafkaRoller {
      */
     Future<Void> rollingRestart(Function<Pod, String> podNeedsRestart) {
         this.podNeedsRestart = podNeedsRestart;
-        List<Future> futures = new ArrayList<>(numPods);
-        List<Integer> podIds = new ArrayList<>(numPods);
+        List<Future> readiness = new ArrayList<>(numPods);
         for (int podId = 0; podId < numPods; podId++) {
-            // Order the podIds unready first otherwise repeated reconciliations might each restart a pod
-            // only for it not to become ready and thus drive the cluster to a worse state.
-            podIds.add(podOperations.isReady(namespace, podName(podId)) ? podIds.size() : 0, podId);
-        }
-        log.debug("Initial order for rolling restart {}", podIds);
-        for (Integer podId: podIds) {
-            futures.add(schedule(podId, 0, TimeUnit.MILLISECONDS));
+            readiness.add(podOperations.isReadyAsync(namespace, podName(podId)));
         }
         Promise<Void> result = Promise.promise();
-        CompositeFuture.join(futures).setHandler(ar -> {
-            singleExecutor.shutdown();
-            vertx.runOnContext(ignored -> result.handle(ar.map((Void) null)));
+        CompositeFuture.join(readiness).setHandler(readinessResult -> {
+            List<Future> futures = new ArrayList<>(numPods);
+            List<Integer> podIds = new ArrayList<>(numPods);
+            for (int podId = 0; podId < numPods; podId++) {
+                // Order the podIds unready first otherwise repeated reconciliations might each restart a pod
+                // only for it not to become ready and thus drive the cluster to a worse state.
+                // A pod whose readiness could not be checked is treated as unready.
+                Future<?> ready = readiness.get(podId);
+                podIds.add(ready.succeeded() && Boolean.TRUE.equals(ready.result()) ? podIds.size() : 0, podId);
+            }
+            log.debug("Initial order for rolling restart {}", podIds);
+            for (Integer podId: podIds) {
+                futures.add(schedule(podId, 0, TimeUnit.MILLISECONDS));
+            }
+            CompositeFuture.join(futures).setHandler(ar -> {
+                singleExecutor.shutdown();
+                vertx.runOnContext(ignored -> result.handle(ar.map((Void) null)));
+            });
         });
         return result.future();
     }
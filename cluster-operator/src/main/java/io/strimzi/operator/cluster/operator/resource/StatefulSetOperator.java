@@ -19,6 +19,7 @@ import io.strimzi.operator.cluster.ClusterOperator;
 import io.strimzi.operator.cluster.model.KafkaCluster;
 import io.strimzi.operator.common.Annotations;
 import io.strimzi.operator.common.Util;
+import io.strimzi.operator.common.WorkerPools;
 import io.strimzi.operator.common.model.Labels;
 import io.strimzi.operator.common.operator.resource.AbstractScalableResourceOperator;
 import io.strimzi.operator.common.operator.resource.PodOperator;
@@ -359,7 +360,7 @@ public abstract class StatefulSetOperator extends AbstractScalableResourceOperat
      */
     public Future<Void> deleteAsync(String namespace, String name, boolean cascading) {
         Promise<Void> result = Promise.promise();
-        vertx.createSharedWorkerExecutor("kubernetes-ops-tool").executeBlocking(
+        WorkerPools.get(vertx).executeBlocking(WorkerPools.Kind.KUBERNETES_WRITE,
             future -> {
                 try {
                     Boolean deleted = operation().inNamespace(namespace).withName(name).cascading(cascading).withGracePeriod(-1L).delete();
@@ -375,7 +376,7 @@ public abstract class StatefulSetOperator extends AbstractScalableResourceOperat
                     log.debug("Caught exception while deleting {} {} in namespace {}", resourceKind, name, namespace, e);
                     future.fail(e);
                 }
-            }, true, result
+            }, false, result
         );
         return result.future();
     }
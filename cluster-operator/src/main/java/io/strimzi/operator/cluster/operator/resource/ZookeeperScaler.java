@@ -5,10 +5,13 @@
 package io.strimzi.operator.cluster.operator.resource;
 
 import io.fabric8.kubernetes.api.model.Secret;
+import io.opentracing.Span;
 import io.strimzi.operator.cluster.model.Ca;
 import io.strimzi.operator.cluster.model.ZookeeperCluster;
 import io.strimzi.operator.common.PasswordGenerator;
+import io.strimzi.operator.common.Tracing;
 import io.strimzi.operator.common.Util;
+import io.strimzi.operator.common.WorkerPools;
 import io.vertx.core.Future;
 import io.vertx.core.Promise;
 import io.vertx.core.Vertx;
@@ -85,16 +88,18 @@ public class ZookeeperScaler implements AutoCloseable {
      * It generates new configuration according to the desired number of nodes and updates Zookeeper configuration.
      *
      * @param scaleTo   Number of Zookeeper nodes which should be used by the cluster
+     * @param parent    The parent of the span of the scaling, usually the span of the reconciliation, or null
      *
      * @return          Future which succeeds / fails when the scaling is finished
      */
-    public Future<Void> scale(int scaleTo) {
-        return connect()
+    public Future<Void> scale(int scaleTo, Span parent) {
+        Span span = Tracing.startSpan("zookeeper.scale", parent, null, null, null);
+        return Tracing.finishOnComplete(span, connect()
                 .compose(zkAdmin -> {
                     Promise<Void> scalePromise = Promise.promise();
 
-                    getCurrentConfig(zkAdmin)
-                            .compose(servers -> scaleTo(zkAdmin, servers, scaleTo))
+                    getCurrentConfig(zkAdmin, span)
+                            .compose(servers -> scaleTo(zkAdmin, servers, scaleTo, span))
                             .setHandler(res -> {
                                 closeConnection(zkAdmin);
 
@@ -106,7 +111,7 @@ public class ZookeeperScaler implements AutoCloseable {
                             });
 
                     return scalePromise.future();
-                });
+                }));
     }
 
     /**
@@ -173,14 +178,15 @@ public class ZookeeperScaler implements AutoCloseable {
      *
      * @param currentServers    Current list of servers from Zookeeper cluster
      * @param scaleTo           Desired scale
+     * @param span              The span of the scaling
      * @return                  Future indicating success or failure
      */
-    private Future<Void> scaleTo(ZooKeeperAdmin zkAdmin, Map<String, String> currentServers, int scaleTo) {
+    private Future<Void> scaleTo(ZooKeeperAdmin zkAdmin, Map<String, String> currentServers, int scaleTo, Span span) {
         Map<String, String> desiredServers = generateConfig(scaleTo, zkNodeAddress);
 
         if (isDifferent(currentServers, desiredServers))    {
             log.debug("The Zookeeper server configuration needs to be updated");
-            return updateConfig(zkAdmin, desiredServers).map((Void) null);
+            return updateConfig(zkAdmin, desiredServers, span).map((Void) null);
         } else {
             log.debug("The Zookeeper server configuration is already up to date");
             return Future.succeededFuture();
@@ -190,12 +196,14 @@ public class ZookeeperScaler implements AutoCloseable {
     /**
      * Gets the current configuration from Zookeeper.
      *
+     * @param parent    The span of the scaling
      * @return  Future containing Map with the current Zookeeper configuration
      */
-    private Future<Map<String, String>> getCurrentConfig(ZooKeeperAdmin zkAdmin)    {
+    private Future<Map<String, String>> getCurrentConfig(ZooKeeperAdmin zkAdmin, Span parent)    {
+        Span span = Tracing.startSpan("zookeeper.getConfig", parent, null, null, null);
         Promise<Map<String, String>> configPromise = Promise.promise();
 
-        vertx.executeBlocking(promise -> {
+        WorkerPools.get(vertx).executeBlocking(WorkerPools.Kind.ZOOKEEPER, promise -> {
             try {
                 byte[] config = zkAdmin.getConfig(false, null);
                 Map<String, String> servers = parseConfig(config);
@@ -207,19 +215,21 @@ public class ZookeeperScaler implements AutoCloseable {
             }
         }, false, configPromise);
 
-        return configPromise.future();
+        return Tracing.finishOnComplete(span, configPromise.future());
     }
 
     /**
      * Updates the configuration in the Zookeeper cluster
      *
      * @param newServers    New configuration which will be used for the update
+     * @param parent        The span of the scaling
      * @return              Future with the updated configuration
      */
-    private Future<Map<String, String>> updateConfig(ZooKeeperAdmin zkAdmin, Map<String, String> newServers)    {
+    private Future<Map<String, String>> updateConfig(ZooKeeperAdmin zkAdmin, Map<String, String> newServers, Span parent)    {
+        Span span = Tracing.startSpan("zookeeper.reconfigure", parent, null, null, null);
         Promise<Map<String, String>> configPromise = Promise.promise();
 
-        vertx.executeBlocking(promise -> {
+        WorkerPools.get(vertx).executeBlocking(WorkerPools.Kind.ZOOKEEPER, promise -> {
             try {
                 log.debug("Updating Zookeeper configuration to {}", newServers);
                 byte[] newConfig = zkAdmin.reconfigure(null, null, serversMapToList(newServers), -1, null);
@@ -233,7 +243,7 @@ public class ZookeeperScaler implements AutoCloseable {
             }
         }, false, configPromise);
 
-        return configPromise.future();
+        return Tracing.finishOnComplete(span, configPromise.future());
     }
 
     /**
@@ -6,6 +6,7 @@ package io.strimzi.operator.cluster;
 
 import io.fabric8.kubernetes.api.model.LocalObjectReference;
 import io.fabric8.kubernetes.api.model.LocalObjectReferenceBuilder;
+import io.strimzi.certs.CertManagerFactory;
 import io.strimzi.operator.cluster.model.ImagePullPolicy;
 import io.strimzi.operator.cluster.model.KafkaVersion;
 import io.strimzi.operator.common.InvalidConfigurationException;
@@ -35,6 +36,9 @@ public class ClusterOperatorConfigTest {
         envVars.put(ClusterOperatorConfig.STRIMZI_NAMESPACE, "namespace");
         envVars.put(ClusterOperatorConfig.STRIMZI_FULL_RECONCILIATION_INTERVAL_MS, "30000");
         envVars.put(ClusterOperatorConfig.STRIMZI_OPERATION_TIMEOUT_MS, "30000");
+        envVars.put(ClusterOperatorConfig.STRIMZI_CONNECTOR_METRICS_INTERVAL_MS, "60000");
+        envVars.put(ClusterOperatorConfig.STRIMZI_SHARED_WATCHES, "true");
+        envVars.put(ClusterOperatorConfig.STRIMZI_EVENT_LOOP_BLOCKED_THRESHOLD_MS, "500");
         envVars.put(ClusterOperatorConfig.STRIMZI_KAFKA_IMAGES, KafkaVersionTestUtils.getKafkaImagesEnvVarString());
         envVars.put(ClusterOperatorConfig.STRIMZI_KAFKA_CONNECT_IMAGES, KafkaVersionTestUtils.getKafkaConnectImagesEnvVarString());
         envVars.put(ClusterOperatorConfig.STRIMZI_KAFKA_CONNECT_S2I_IMAGES, KafkaVersionTestUtils.getKafkaConnectS2iImagesEnvVarString());
@@ -74,6 +78,9 @@ public class ClusterOperatorConfigTest {
         assertThat(config.getNamespaces(), is(singleton("namespace")));
         assertThat(config.getReconciliationIntervalMs(), is(30_000L));
         assertThat(config.getOperationTimeoutMs(), is(30_000L));
+        assertThat(config.getConnectorMetricsIntervalMs(), is(60_000L));
+        assertThat(config.isSharedWatches(), is(true));
+        assertThat(config.getEventLoopBlockedThresholdMs(), is(500L));
     }
 
     @Test
@@ -87,6 +94,13 @@ public class ClusterOperatorConfigTest {
         assertThat(config.getNamespaces(), is(singleton("namespace")));
         assertThat(config.getReconciliationIntervalMs(), is(ClusterOperatorConfig.DEFAULT_FULL_RECONCILIATION_INTERVAL_MS));
         assertThat(config.getOperationTimeoutMs(), is(ClusterOperatorConfig.DEFAULT_OPERATION_TIMEOUT_MS));
+        assertThat(config.getConnectorMetricsIntervalMs(), is(ClusterOperatorConfig.DEFAULT_CONNECTOR_METRICS_INTERVAL_MS));
+        assertThat(config.isSharedWatches(), is(ClusterOperatorConfig.DEFAULT_SHARED_WATCHES));
+        assertThat(config.getEventLoopBlockedThresholdMs(), is(ClusterOperatorConfig.DEFAULT_EVENT_LOOP_BLOCKED_THRESHOLD_MS));
+        assertThat(config.getCertManager(), is(ClusterOperatorConfig.DEFAULT_CERT_MANAGER));
+        assertThat(config.getKeyPoolSize(), is(ClusterOperatorConfig.DEFAULT_KEY_POOL_SIZE));
+        assertThat(config.getKeyAlgorithm(), is("RSA"));
+        assertThat(config.getKeySize(), is(2048));
     }
 
     private Map<String, String> envWithImages() {
@@ -233,6 +247,60 @@ public class ClusterOperatorConfigTest {
         });
     }
 
+    @Test
+    public void testCertManager() {
+        Map<String, String> envVars = new HashMap<>(ClusterOperatorConfigTest.envVars);
+
+        envVars.put(ClusterOperatorConfig.STRIMZI_CERT_MANAGER, "java");
+        assertThat(ClusterOperatorConfig.fromMap(envVars, KafkaVersionTestUtils.getKafkaVersionLookup()).getCertManager(), is(CertManagerFactory.Type.JAVA));
+
+        envVars.put(ClusterOperatorConfig.STRIMZI_CERT_MANAGER, " OpenSSL ");
+        assertThat(ClusterOperatorConfig.fromMap(envVars, KafkaVersionTestUtils.getKafkaVersionLookup()).getCertManager(), is(CertManagerFactory.Type.OPENSSL));
+    }
+
+    @Test
+    public void testInvalidCertManagerThrows() {
+        Map<String, String> envVars = new HashMap<>(ClusterOperatorConfigTest.envVars);
+        envVars.put(ClusterOperatorConfig.STRIMZI_CERT_MANAGER, "bouncycastle");
+
+        InvalidConfigurationException e = assertThrows(InvalidConfigurationException.class, () -> {
+            ClusterOperatorConfig.fromMap(envVars, KafkaVersionTestUtils.getKafkaVersionLookup());
+        });
+        assertThat(e.getMessage(), containsString(ClusterOperatorConfig.STRIMZI_CERT_MANAGER));
+    }
+
+    @Test
+    public void testKeyPool() {
+        Map<String, String> envVars = new HashMap<>(ClusterOperatorConfigTest.envVars);
+        envVars.put(ClusterOperatorConfig.STRIMZI_KEY_POOL_SIZE, "5");
+        envVars.put(ClusterOperatorConfig.STRIMZI_KEY_ALGORITHM, "ec");
+
+        ClusterOperatorConfig config = ClusterOperatorConfig.fromMap(envVars, KafkaVersionTestUtils.getKafkaVersionLookup());
+        assertThat(config.getKeyPoolSize(), is(5));
+        assertThat(config.getKeyAlgorithm(), is("EC"));
+        assertThat(config.getKeySize(), is(256));
+
+        envVars.put(ClusterOperatorConfig.STRIMZI_KEY_SIZE, "384");
+        config = ClusterOperatorConfig.fromMap(envVars, KafkaVersionTestUtils.getKafkaVersionLookup());
+        assertThat(config.getKeySize(), is(384));
+    }
+
+    @Test
+    public void testInvalidKeyPoolThrows() {
+        Map<String, String> negativeSize = new HashMap<>(ClusterOperatorConfigTest.envVars);
+        negativeSize.put(ClusterOperatorConfig.STRIMZI_KEY_POOL_SIZE, "-1");
+        assertThrows(InvalidConfigurationException.class, () -> ClusterOperatorConfig.fromMap(negativeSize, KafkaVersionTestUtils.getKafkaVersionLookup()));
+
+        Map<String, String> invalidAlgorithm = new HashMap<>(ClusterOperatorConfigTest.envVars);
+        invalidAlgorithm.put(ClusterOperatorConfig.STRIMZI_KEY_ALGORITHM, "DSA");
+        assertThrows(InvalidConfigurationException.class, () -> ClusterOperatorConfig.fromMap(invalidAlgorithm, KafkaVersionTestUtils.getKafkaVersionLookup()));
+
+        Map<String, String> invalidKeySize = new HashMap<>(ClusterOperatorConfigTest.envVars);
+        invalidKeySize.put(ClusterOperatorConfig.STRIMZI_KEY_ALGORITHM, "EC");
+        invalidKeySize.put(ClusterOperatorConfig.STRIMZI_KEY_SIZE, "2048");
+        assertThrows(InvalidConfigurationException.class, () -> ClusterOperatorConfig.fromMap(invalidKeySize, KafkaVersionTestUtils.getKafkaVersionLookup()));
+    }
+
     @Test
     public void testConfigParsingWithAllVersionEnvVars() {
         Map<String, String> envVars = new HashMap<>(5);
@@ -0,0 +1,234 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.cluster;
+
+import io.fabric8.kubernetes.client.KubernetesClient;
+import io.strimzi.api.kafka.Crds;
+import io.strimzi.api.kafka.KafkaBridgeList;
+import io.strimzi.api.kafka.KafkaConnectList;
+import io.strimzi.api.kafka.KafkaConnectorList;
+import io.strimzi.api.kafka.KafkaList;
+import io.strimzi.api.kafka.KafkaMirrorMaker2List;
+import io.strimzi.api.kafka.KafkaMirrorMakerList;
+import io.strimzi.api.kafka.model.DoneableKafka;
+import io.strimzi.api.kafka.model.DoneableKafkaBridge;
+import io.strimzi.api.kafka.model.DoneableKafkaConnect;
+import io.strimzi.api.kafka.model.DoneableKafkaConnector;
+import io.strimzi.api.kafka.model.DoneableKafkaMirrorMaker;
+import io.strimzi.api.kafka.model.DoneableKafkaMirrorMaker2;
+import io.strimzi.api.kafka.model.Kafka;
+import io.strimzi.api.kafka.model.KafkaBridge;
+import io.strimzi.api.kafka.model.KafkaBridgeBuilder;
+import io.strimzi.api.kafka.model.KafkaConnect;
+import io.strimzi.api.kafka.model.KafkaConnector;
+import io.strimzi.api.kafka.model.KafkaConnectorBuilder;
+import io.strimzi.api.kafka.model.KafkaMirrorMaker;
+import io.strimzi.api.kafka.model.KafkaMirrorMaker2;
+import io.strimzi.operator.KubernetesVersion;
+import io.strimzi.operator.PlatformFeaturesAvailability;
+import io.strimzi.test.mockkube.MockKube;
+import io.vertx.core.CompositeFuture;
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import io.vertx.core.Vertx;
+import io.vertx.core.VertxOptions;
+import io.vertx.junit5.Checkpoint;
+import io.vertx.junit5.VertxExtension;
+import io.vertx.junit5.VertxTestContext;
+import io.vertx.micrometer.MicrometerMetricsOptions;
+import io.vertx.micrometer.VertxPrometheusOptions;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+import static org.mockito.Mockito.doNothing;
+
+/**
+ * Compares the number of watches and lists which the Cluster Operator makes against {@link MockKube} when it runs a
+ * verticle per namespace and when it shares the watches and lists across all its namespaces, and checks that the shared
+ * watches and lists ignore the resources in the other namespaces.
+ */
+@ExtendWith(VertxExtension.class)
+public class ClusterOperatorSharedWatchesMockTest {
+    private static final Logger log = LogManager.getLogger(ClusterOperatorSharedWatchesMockTest.class);
+
+    private static final int NAMESPACES = 20;
+    // The Kafka, KafkaConnect, KafkaMirrorMaker, KafkaBridge, KafkaMirrorMaker2 and KafkaConnector watches
+    private static final int WATCHES_PER_NAMESPACE = 6;
+    // The Kafka, KafkaConnect, KafkaMirrorMaker, KafkaBridge and KafkaMirrorMaker2 lists
+    private static final int LISTS_PER_NAMESPACE = 5;
+    private static final long RECONCILIATION_INTERVAL_MS = 2_000;
+
+    private static Vertx vertx;
+    private MockKube mockKube;
+    private KubernetesClient client;
+
+    @BeforeAll
+    public static void before() {
+        vertx = Vertx.vertx(new VertxOptions().setMetricsOptions(
+                new MicrometerMetricsOptions()
+                        .setPrometheusOptions(new VertxPrometheusOptions().setEnabled(true))
+                        .setEnabled(true)));
+    }
+
+    @AfterAll
+    public static void after(VertxTestContext context) {
+        // Wait for the metrics registry to be closed, so that it is not closed while the next test uses it
+        vertx.close(context.succeeding(v -> context.completeNow()));
+    }
+
+    @BeforeEach
+    public void setup() {
+        mockKube = new MockKube()
+                .withCustomResourceDefinition(Crds.kafka(), Kafka.class, KafkaList.class, DoneableKafka.class,
+                        Kafka::getStatus, Kafka::setStatus).end()
+                .withCustomResourceDefinition(Crds.kafkaConnect(), KafkaConnect.class, KafkaConnectList.class, DoneableKafkaConnect.class,
+                        KafkaConnect::getStatus, KafkaConnect::setStatus).end()
+                .withCustomResourceDefinition(Crds.kafkaMirrorMaker(), KafkaMirrorMaker.class, KafkaMirrorMakerList.class, DoneableKafkaMirrorMaker.class,
+                        KafkaMirrorMaker::getStatus, KafkaMirrorMaker::setStatus).end()
+                .withCustomResourceDefinition(Crds.kafkaBridge(), KafkaBridge.class, KafkaBridgeList.class, DoneableKafkaBridge.class,
+                        KafkaBridge::getStatus, KafkaBridge::setStatus).end()
+                .withCustomResourceDefinition(Crds.kafkaMirrorMaker2(), KafkaMirrorMaker2.class, KafkaMirrorMaker2List.class, DoneableKafkaMirrorMaker2.class,
+                        KafkaMirrorMaker2::getStatus, KafkaMirrorMaker2::setStatus).end()
+                .withCustomResourceDefinition(Crds.kafkaConnector(), KafkaConnector.class, KafkaConnectorList.class, DoneableKafkaConnector.class,
+                        KafkaConnector::getStatus, KafkaConnector::setStatus).end();
+        client = mockKube.build();
+        // Every verticle closes the shared client when it is stopped, while the other verticles can still be watching
+        doNothing().when(client).close();
+    }
+
+    private static ClusterOperatorConfig config(boolean sharedWatches) {
+        Map<String, String> env = new HashMap<>();
+        env.put(ClusterOperatorConfig.STRIMZI_KAFKA_IMAGES, KafkaVersionTestUtils.getKafkaImagesEnvVarString());
+        env.put(ClusterOperatorConfig.STRIMZI_KAFKA_CONNECT_IMAGES, KafkaVersionTestUtils.getKafkaConnectImagesEnvVarString());
+        env.put(ClusterOperatorConfig.STRIMZI_KAFKA_CONNECT_S2I_IMAGES, KafkaVersionTestUtils.getKafkaConnectS2iImagesEnvVarString());
+        env.put(ClusterOperatorConfig.STRIMZI_KAFKA_MIRROR_MAKER_IMAGES, KafkaVersionTestUtils.getKafkaMirrorMakerImagesEnvVarString());
+        env.put(ClusterOperatorConfig.STRIMZI_KAFKA_MIRROR_MAKER_2_IMAGES, KafkaVersionTestUtils.getKafkaMirrorMaker2ImagesEnvVarString());
+        env.put(ClusterOperatorConfig.STRIMZI_NAMESPACE, IntStream.range(0, NAMESPACES)
+                .mapToObj(i -> "namespace" + i)
+                .collect(Collectors.joining(",")));
+        env.put(ClusterOperatorConfig.STRIMZI_FULL_RECONCILIATION_INTERVAL_MS, Long.toString(RECONCILIATION_INTERVAL_MS));
+        env.put(ClusterOperatorConfig.STRIMZI_SHARED_WATCHES, Boolean.toString(sharedWatches));
+        return ClusterOperatorConfig.fromMap(env, KafkaVersionTestUtils.getKafkaVersionLookup());
+    }
+
+    private static void undeployAll(VertxTestContext context, Checkpoint async) {
+        CompositeFuture.join(vertx.deploymentIDs().stream().map(id -> {
+            Promise<Void> undeployed = Promise.promise();
+            vertx.undeploy(id, undeployed);
+            return (Future) undeployed.future();
+        }).collect(Collectors.toList())).setHandler(context.succeeding(v -> async.flag()));
+    }
+
+    @Test
+    public void testWatchesAndListsPerNamespace(VertxTestContext context) {
+        Checkpoint async = context.checkpoint();
+        Main.run(vertx, client, new PlatformFeaturesAvailability(false, KubernetesVersion.V1_11), config(false))
+            .setHandler(context.succeeding(v -> context.verify(() -> {
+                assertThat(vertx.deploymentIDs(), hasSize(NAMESPACES));
+                assertThat(mockKube.getNumWatches(), is(WATCHES_PER_NAMESPACE * NAMESPACES));
+
+                vertx.setTimer(RECONCILIATION_INTERVAL_MS * 3 / 2, timer -> context.verify(() -> {
+                    log.info("A verticle per namespace made {} watches and {} lists", mockKube.getNumWatches(), mockKube.getNumLists());
+                    // Every namespace lists every kind
+                    assertThat(mockKube.getNumLists(), greaterThanOrEqualTo(LISTS_PER_NAMESPACE * NAMESPACES));
+                    undeployAll(context, async);
+                }));
+            })));
+    }
+
+    @Test
+    public void testWatchesAndListsAreSharedAcrossNamespaces(VertxTestContext context) {
+        Checkpoint async = context.checkpoint();
+        Main.run(vertx, client, new PlatformFeaturesAvailability(false, KubernetesVersion.V1_11), config(true))
+            .setHandler(context.succeeding(v -> context.verify(() -> {
+                assertThat(vertx.deploymentIDs(), hasSize(1));
+                assertThat(mockKube.getNumWatches(), is(WATCHES_PER_NAMESPACE));
+
+                vertx.setTimer(RECONCILIATION_INTERVAL_MS * 3 / 2, timer -> context.verify(() -> {
+                    log.info("A verticle shared by {} namespaces made {} watches and {} lists", NAMESPACES, mockKube.getNumWatches(), mockKube.getNumLists());
+                    // A single list per kind and periodic reconciliation, rather than one per kind and namespace
+                    assertThat(mockKube.getNumLists(), greaterThanOrEqualTo(LISTS_PER_NAMESPACE));
+                    assertThat(mockKube.getNumLists(), lessThanOrEqualTo(2 * LISTS_PER_NAMESPACE));
+                    undeployAll(context, async);
+                }));
+            })));
+    }
+
+    private void createBridge(String namespace, String name) {
+        Crds.kafkaBridgeOperation(client).inNamespace(namespace).create(new KafkaBridgeBuilder()
+                .withNewMetadata()
+                    .withName(name)
+                    .withNamespace(namespace)
+                .endMetadata()
+                .withNewSpec()
+                    .withReplicas(1)
+                    .withBootstrapServers("my-cluster-kafka-bootstrap:9092")
+                .endSpec()
+                .build());
+    }
+
+    private boolean bridgeReconciled(String namespace, String name) {
+        return Crds.kafkaBridgeOperation(client).inNamespace(namespace).withName(name).get().getStatus() != null;
+    }
+
+    private void createConnector(String namespace, String name) {
+        // Without the strimzi.io/cluster label, so that the connector watch just reports the missing label in its status
+        Crds.kafkaConnectorOperation(client).inNamespace(namespace).create(new KafkaConnectorBuilder()
+                .withNewMetadata()
+                    .withName(name)
+                    .withNamespace(namespace)
+                .endMetadata()
+                .withNewSpec()
+                .endSpec()
+                .build());
+    }
+
+    private boolean connectorReconciled(String namespace, String name) {
+        return Crds.kafkaConnectorOperation(client).inNamespace(namespace).withName(name).get().getStatus() != null;
+    }
+
+    @Test
+    public void testResourcesOutsideTheNamespacesAreIgnored(VertxTestContext context) {
+        // Created before the watches are opened, so that only the periodic reconciliation sees them
+        createBridge("namespace0", "listed-periodic");
+        createBridge("other-namespace", "unlisted-periodic");
+
+        Checkpoint async = context.checkpoint();
+        Main.run(vertx, client, new PlatformFeaturesAvailability(false, KubernetesVersion.V1_11), config(true))
+            .setHandler(context.succeeding(v -> {
+                // Created once the watches are open, so that the watches see them first
+                createBridge("namespace1", "listed-watched");
+                createBridge("other-namespace", "unlisted-watched");
+                createConnector("namespace2", "listed-connector");
+                createConnector("other-namespace", "unlisted-connector");
+
+                vertx.setTimer(RECONCILIATION_INTERVAL_MS * 3 / 2, timer -> context.verify(() -> {
+                    assertThat(bridgeReconciled("namespace0", "listed-periodic"), is(true));
+                    assertThat(bridgeReconciled("namespace1", "listed-watched"), is(true));
+                    assertThat(connectorReconciled("namespace2", "listed-connector"), is(true));
+
+                    assertThat(bridgeReconciled("other-namespace", "unlisted-periodic"), is(false));
+                    assertThat(bridgeReconciled("other-namespace", "unlisted-watched"), is(false));
+                    assertThat(connectorReconciled("other-namespace", "unlisted-connector"), is(false));
+                    undeployAll(context, async);
+                }));
+            }));
+    }
+}
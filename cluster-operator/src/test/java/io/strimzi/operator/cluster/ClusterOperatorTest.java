@@ -75,8 +75,9 @@ public class ClusterOperatorTest {
     }
 
     @AfterAll
-    public static void after() {
-        vertx.close();
+    public static void after(VertxTestContext context) {
+        // Wait for the metrics registry to be closed, so that it is not closed while the next test uses it
+        vertx.close(context.succeeding(v -> context.completeNow()));
     }
 
     @Test
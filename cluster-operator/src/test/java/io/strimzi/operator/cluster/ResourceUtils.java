@@ -648,7 +648,7 @@ public class ResourceUtils {
             @Override
             public ZookeeperScaler createZookeeperScaler(Vertx vertx, String zookeeperConnectionString, Function<Integer, String> zkNodeAddress, Secret clusterCaCertSecret, Secret coKeySecret, long operationTimeoutMs) {
                 ZookeeperScaler mockZooScaler = mock(ZookeeperScaler.class);
-                when(mockZooScaler.scale(anyInt())).thenReturn(Future.succeededFuture());
+                when(mockZooScaler.scale(anyInt(), any())).thenReturn(Future.succeededFuture());
                 return mockZooScaler;
             }
         };
@@ -6,20 +6,27 @@ package io.strimzi.operator.cluster.model;
 
 import io.fabric8.kubernetes.api.model.Secret;
 import io.fabric8.kubernetes.api.model.SecretBuilder;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import io.strimzi.certs.CertAndKey;
 import io.strimzi.certs.Subject;
+import io.strimzi.operator.cluster.ResourceUtils;
+import io.strimzi.operator.common.MicrometerMetricsProvider;
 import io.vertx.junit5.VertxExtension;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 
-import java.io.File;
 import java.io.IOException;
 import java.security.cert.X509Certificate;
+import java.util.ArrayList;
 import java.util.Base64;
 import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Function;
 
+import static java.util.Arrays.asList;
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
 
@@ -41,8 +48,7 @@ public class CaRenewalTest {
             }
 
             @Override
-            protected CertAndKey generateSignedCert(Subject subject,
-                                                    File csrFile, File keyFile, File certFile, File keyStoreFile) throws IOException {
+            protected CertAndKey generateSignedCert(Subject subject) throws IOException {
                 int index = invocationCount.getAndIncrement();
 
                 return new CertAndKey(
@@ -98,8 +104,7 @@ public class CaRenewalTest {
             }
 
             @Override
-            protected CertAndKey generateSignedCert(Subject subject,
-                                                    File csrFile, File keyFile, File certFile, File keyStoreFile) throws IOException {
+            protected CertAndKey generateSignedCert(Subject subject) throws IOException {
                 int index = invocationCount.getAndIncrement();
 
                 return new CertAndKey(
@@ -173,7 +178,7 @@ public class CaRenewalTest {
             }
 
             @Override
-            protected boolean certSubjectChanged(CertAndKey certAndKey, Subject desiredSubject, String podName)    {
+            protected boolean certSubjectChanged(Secret secret, CertAndKey certAndKey, Subject desiredSubject, String podName)    {
                 return false;
             }
 
@@ -183,8 +188,7 @@ public class CaRenewalTest {
             }
 
             @Override
-            protected CertAndKey generateSignedCert(Subject subject,
-                                                    File csrFile, File keyFile, File certFile, File keyStoreFile) throws IOException {
+            protected CertAndKey generateSignedCert(Subject subject) throws IOException {
                 int index = invocationCount.getAndIncrement();
 
                 return new CertAndKey(
@@ -258,7 +262,7 @@ public class CaRenewalTest {
             }
 
             @Override
-            protected boolean certSubjectChanged(CertAndKey certAndKey, Subject desiredSubject, String podName)    {
+            protected boolean certSubjectChanged(Secret secret, CertAndKey certAndKey, Subject desiredSubject, String podName)    {
                 return false;
             }
 
@@ -268,8 +272,7 @@ public class CaRenewalTest {
             }
 
             @Override
-            protected CertAndKey generateSignedCert(Subject subject,
-                                                    File csrFile, File keyFile, File certFile, File keyStoreFile) throws IOException {
+            protected CertAndKey generateSignedCert(Subject subject) throws IOException {
                 int index = invocationCount.getAndIncrement();
 
                 return new CertAndKey(
@@ -326,4 +329,109 @@ public class CaRenewalTest {
         assertThat(new String(newCerts.get("pod2").keyStore()), is("old-keystore"));
         assertThat(newCerts.get("pod2").storePassword(), is("old-password"));
     }
-}
\ No newline at end of file
+
+    @Test
+    public void generationOfStatefulSetCertificatesInParallel() throws IOException {
+        // Each certificate waits for another one to be generated at the same time
+        CountDownLatch latch = new CountDownLatch(2);
+        Ca mockedCa = new Ca(null, null, null, null, null, null, null, 2, 1, true, null) {
+            @Override
+            public boolean certRenewed() {
+                return false;
+            }
+
+            @Override
+            public boolean isExpiring(Secret secret, String certKey)  {
+                return false;
+            }
+
+            @Override
+            protected CertAndKey generateSignedCert(Subject subject) throws IOException {
+                latch.countDown();
+                try {
+                    if (!latch.await(30, TimeUnit.SECONDS)) {
+                        throw new IOException("Certificates are not generated in parallel");
+                    }
+                } catch (InterruptedException e) {
+                    throw new IOException(e);
+                }
+
+                String name = subject.commonName();
+                return new CertAndKey(
+                        ("new-key-" + name).getBytes(),
+                        ("new-cert-" + name).getBytes(),
+                        ("new-truststore-" + name).getBytes(),
+                        ("new-keystore-" + name).getBytes(),
+                        "new-password-" + name
+                );
+            }
+        };
+
+        try (CertGenerationExecutor executor = new CertGenerationExecutor(2, ResourceUtils.metricsProvider())) {
+            mockedCa.setCertGenerationExecutor(executor);
+
+            int replicas = 5;
+            Function<Integer, Subject> subjectFn = i -> {
+                Subject subject = new Subject();
+                subject.setCommonName("pod" + i);
+                return subject;
+            };
+            Function<Integer, String> podNameFn = i -> "pod" + i;
+
+            Map<String, CertAndKey> newCerts = mockedCa.maybeCopyOrGenerateCerts(replicas,
+                    subjectFn,
+                    null,
+                    podNameFn,
+                    true);
+
+            assertThat(new ArrayList<>(newCerts.keySet()), is(asList("pod0", "pod1", "pod2", "pod3", "pod4")));
+            for (int i = 0; i < replicas; i++) {
+                assertThat(new String(newCerts.get("pod" + i).cert()), is("new-cert-pod" + i));
+                assertThat(new String(newCerts.get("pod" + i).key()), is("new-key-pod" + i));
+                assertThat(newCerts.get("pod" + i).storePassword(), is("new-password-pod" + i));
+            }
+        }
+    }
+
+    @Test
+    public void generationOfSingleCertificateIsTimedOnTheCallingThread() throws IOException {
+        Thread caller = Thread.currentThread();
+        Ca mockedCa = new Ca(null, null, null, null, null, null, null, 2, 1, true, null) {
+            @Override
+            public boolean certRenewed() {
+                return false;
+            }
+
+            @Override
+            public boolean isExpiring(Secret secret, String certKey)  {
+                return false;
+            }
+
+            @Override
+            protected CertAndKey generateSignedCert(Subject subject) throws IOException {
+                if (Thread.currentThread() != caller) {
+                    throw new IOException("A single certificate is not generated on the calling thread");
+                }
+                return new CertAndKey("new-key".getBytes(), "new-cert".getBytes(), "new-truststore".getBytes(), "new-keystore".getBytes(), "new-password");
+            }
+        };
+
+        MeterRegistry registry = new SimpleMeterRegistry();
+        try (CertGenerationExecutor executor = new CertGenerationExecutor(2, new MicrometerMetricsProvider(registry))) {
+            mockedCa.setCertGenerationExecutor(executor);
+
+            Map<String, CertAndKey> newCerts = mockedCa.maybeCopyOrGenerateCerts(1,
+                i -> {
+                    Subject subject = new Subject();
+                    subject.setCommonName("pod" + i);
+                    return subject;
+                },
+                null,
+                i -> "pod" + i,
+                true);
+
+            assertThat(new String(newCerts.get("pod0").cert()), is("new-cert"));
+            assertThat(registry.get(CertGenerationExecutor.ISSUANCE_METRIC).timer().count(), is(1L));
+        }
+    }
+}
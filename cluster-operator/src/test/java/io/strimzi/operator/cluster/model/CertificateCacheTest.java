@@ -0,0 +1,141 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.cluster.model;
+
+import io.fabric8.kubernetes.api.model.Secret;
+import io.fabric8.kubernetes.api.model.SecretBuilder;
+import io.strimzi.certs.OpenSslCertManager;
+import io.strimzi.certs.Subject;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+import static java.util.Arrays.asList;
+import static java.util.Collections.singleton;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+public class CertificateCacheTest {
+
+    private static String cert30Days;
+    private static String cert60Days;
+
+    @BeforeAll
+    public static void generateCerts() throws IOException {
+        cert30Days = generateCert(30, "broker-0.example.com", "broker-0.cluster.local");
+        cert60Days = generateCert(60);
+    }
+
+    private static String generateCert(int days, String... dnsNames) throws IOException {
+        File key = File.createTempFile("cache-test", ".key");
+        File cert = File.createTempFile("cache-test", ".crt");
+        try {
+            Subject sbj = new Subject();
+            sbj.setCommonName("my-cluster");
+            if (dnsNames.length > 0) {
+                Map<String, String> sans = new HashMap<>();
+                for (int i = 0; i < dnsNames.length; i++) {
+                    sans.put("DNS." + (i + 1), dnsNames[i]);
+                }
+                sbj.setSubjectAltNames(sans);
+            }
+            new OpenSslCertManager().generateSelfSignedCert(key, cert, sbj, days);
+            return Base64.getEncoder().encodeToString(Files.readAllBytes(cert.toPath()));
+        } finally {
+            key.delete();
+            cert.delete();
+        }
+    }
+
+    private static Secret secret(String name, String uid, String resourceVersion, String... certs) {
+        SecretBuilder builder = new SecretBuilder()
+                .withNewMetadata()
+                    .withNamespace("my-ns")
+                    .withName(name)
+                    .withUid(uid)
+                    .withResourceVersion(resourceVersion)
+                .endMetadata();
+        for (int i = 0; i < certs.length; i++) {
+            builder.addToData("pod" + i + ".crt", certs[i]);
+        }
+        return builder.build();
+    }
+
+    @Test
+    public void testCertificatesAreCachedPerResourceVersion() throws Exception {
+        CertificateCache cache = new CertificateCache(10);
+        Secret secret = secret("my-secret", "uid-1", "1", cert30Days);
+
+        CertificateCache.CachedCertificate cert = cache.get(secret, "pod0.crt");
+        assertThat(cert.subjectAltNames(), is(new HashSet<>(asList("broker-0.example.com", "broker-0.cluster.local"))));
+        assertThat(cert.notAfter(), is(cert.certificate().getNotAfter().toInstant()));
+        assertThat(cache.get(secret, "pod0.crt"), is(sameInstance(cert)));
+        assertThat(cache.get(secret, "pod1.crt"), is(nullValue()));
+
+        // A new version of the Secret is parsed again
+        Secret updated = secret("my-secret", "uid-1", "2", cert60Days);
+        CertificateCache.CachedCertificate updatedCert = cache.get(updated, "pod0.crt");
+        assertThat(updatedCert, is(not(sameInstance(cert))));
+        assertThat(updatedCert.subjectAltNames().isEmpty(), is(true));
+        assertThat(cache.size(), is(1));
+
+        // Secrets built by the operator are not cached
+        Secret built = secret("my-secret", null, null, cert30Days);
+        assertThat(cache.get(built, "pod0.crt"), is(not(sameInstance(cache.get(built, "pod0.crt")))));
+        assertThat(cache.size(), is(1));
+    }
+
+    @Test
+    public void testExpiryIndex() throws Exception {
+        CertificateCache cache = new CertificateCache(10);
+        Set<String> names = new HashSet<>(asList("brokers", "nodes"));
+        cache.get(secret("nodes", "uid-1", "1", cert60Days), "pod0.crt");
+        cache.get(secret("brokers", "uid-2", "1", cert60Days, cert30Days), "pod0.crt");
+        cache.get(secret("brokers", "uid-2", "1", cert60Days, cert30Days), "pod1.crt");
+        cache.get(secret("other", "uid-3", "1", cert30Days), "pod0.crt");
+
+        Instant now = Instant.now();
+        CertificateCache.Expiry first = cache.firstExpiryAfter(now, "my-ns", names);
+        assertThat(first.secretName(), is("brokers"));
+        assertThat(first.key(), is("pod1.crt"));
+        assertThat(first.notAfter().isBefore(now.plus(31, ChronoUnit.DAYS)), is(true));
+
+        // Certificates expiring sooner are skipped
+        CertificateCache.Expiry next = cache.firstExpiryAfter(now.plus(45, ChronoUnit.DAYS), "my-ns", names);
+        assertThat(next.notAfter().isAfter(now.plus(59, ChronoUnit.DAYS)), is(true));
+        assertThat(cache.firstExpiryAfter(now, "other-ns", names), is(nullValue()));
+
+        // A new version of the Secret replaces its certificates in the index
+        cache.get(secret("brokers", "uid-2", "2", cert60Days), "pod0.crt");
+        assertThat(cache.firstExpiryAfter(now, "my-ns", singleton("brokers")).key(), is("pod0.crt"));
+    }
+
+    @Test
+    public void testLeastRecentlyUsedSecretsAreEvicted() throws Exception {
+        CertificateCache cache = new CertificateCache(2);
+        cache.get(secret("a", "uid-a", "1", cert30Days), "pod0.crt");
+        cache.get(secret("b", "uid-b", "1", cert60Days), "pod0.crt");
+        cache.get(secret("a", "uid-a", "1", cert30Days), "pod0.crt");
+        cache.get(secret("c", "uid-c", "1", cert60Days), "pod0.crt");
+
+        assertThat(cache.size(), is(2));
+        Instant now = Instant.now();
+        assertThat(cache.firstExpiryAfter(now, "my-ns", singleton("b")), is(nullValue()));
+        assertThat(cache.firstExpiryAfter(now, "my-ns", singleton("a")).secretName(), is("a"));
+    }
+}
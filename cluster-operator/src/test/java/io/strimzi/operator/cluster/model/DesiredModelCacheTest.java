@@ -0,0 +1,136 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.cluster.model;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.strimzi.api.kafka.model.Kafka;
+import io.strimzi.api.kafka.model.KafkaBuilder;
+import io.strimzi.operator.common.MicrometerMetricsProvider;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static java.util.Arrays.asList;
+import static java.util.Collections.singletonList;
+import static java.util.Collections.singletonMap;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+public class DesiredModelCacheTest {
+
+    private MeterRegistry registry;
+    private DesiredModelCache cache;
+    private AtomicInteger built;
+
+    @BeforeEach
+    public void before() {
+        registry = new SimpleMeterRegistry();
+        cache = new DesiredModelCache(2, new MicrometerMetricsProvider(registry));
+        built = new AtomicInteger();
+    }
+
+    private static Kafka kafka(String uid, Long generation) {
+        return new KafkaBuilder()
+                .withNewMetadata()
+                    .withNamespace("my-ns")
+                    .withName("my-cluster")
+                    .withUid(uid)
+                    .withGeneration(generation)
+                .endMetadata()
+                .build();
+    }
+
+    private Object model(Kafka kafka, Object... inputs) {
+        return cache.get(kafka, "kafka", asList(inputs), () -> {
+            built.incrementAndGet();
+            return new Object();
+        });
+    }
+
+    private double requests(String result) {
+        return registry.get(DesiredModelCache.REQUESTS_METRIC).tags("model", "kafka", "result", result).counter().count();
+    }
+
+    @Test
+    public void testModelIsReusedForTheSameGenerationAndInputs() {
+        Object first = model(kafka("uid-1", 1L), 3);
+        Object second = model(kafka("uid-1", 1L), 3);
+
+        assertThat(second, is(sameInstance(first)));
+        assertThat(built.get(), is(1));
+        assertThat(requests("hit"), is(1.0));
+        assertThat(requests("miss"), is(1.0));
+        assertThat(registry.get(DesiredModelCache.RESOURCES_METRIC).gauge().value(), is(1.0));
+    }
+
+    @Test
+    public void testModelIsRebuiltWhenTheResourceOrInputsChange() {
+        Object first = model(kafka("uid-1", 1L), 3);
+
+        assertThat(model(kafka("uid-1", 2L), 3), is(not(sameInstance(first))));
+        assertThat(model(kafka("uid-1", 2L), 4), is(not(sameInstance(first))));
+
+        Kafka labelled = kafka("uid-1", 2L);
+        labelled.getMetadata().setLabels(singletonMap("my-label", "my-value"));
+        model(labelled, 4);
+
+        assertThat(built.get(), is(4));
+        assertThat(requests("miss"), is(4.0));
+    }
+
+    @Test
+    public void testEvictedModelIsRebuilt() {
+        Kafka kafka = kafka("uid-1", 1L);
+        Object first = model(kafka, 3);
+        cache.evict(kafka, "kafka");
+
+        assertThat(model(kafka, 3), is(not(sameInstance(first))));
+        assertThat(built.get(), is(2));
+    }
+
+    @Test
+    public void testResourcesWithoutUidAreNotCached() {
+        model(kafka(null, 1L), 3);
+        model(kafka(null, 1L), 3);
+
+        assertThat(built.get(), is(2));
+        assertThat(cache.size(), is(0));
+    }
+
+    @Test
+    public void testLeastRecentlyUsedResourceIsEvicted() {
+        model(kafka("uid-1", 1L), 3);
+        model(kafka("uid-2", 1L), 3);
+        model(kafka("uid-1", 1L), 3);
+        model(kafka("uid-3", 1L), 3);
+
+        assertThat(cache.size(), is(2));
+        assertThat(built.get(), is(3));
+
+        // uid-2 was the least recently used
+        model(kafka("uid-1", 1L), 3);
+        model(kafka("uid-2", 1L), 3);
+        assertThat(built.get(), is(4));
+    }
+
+    @Test
+    public void testNullModelIsCached() {
+        Kafka kafka = kafka("uid-1", 1L);
+        cache.get(kafka, "jmx-trans", singletonList(3), () -> {
+            built.incrementAndGet();
+            return null;
+        });
+        cache.get(kafka, "jmx-trans", singletonList(3), () -> {
+            built.incrementAndGet();
+            return null;
+        });
+
+        assertThat(built.get(), is(1));
+    }
+}
@@ -61,10 +61,10 @@ import java.util.Objects;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
 import java.util.function.Predicate;
-import java.util.stream.Collectors;
 
 import static io.strimzi.test.TestUtils.map;
 import static io.strimzi.test.TestUtils.waitFor;
+import static java.util.Arrays.asList;
 import static java.util.Collections.emptyMap;
 import static java.util.Collections.singletonList;
 import static org.hamcrest.CoreMatchers.is;
@@ -113,6 +113,9 @@ public class ConnectorMockTest {
 
     private Future<Map<String, Object>> kafkaConnectApiStatusMock(String host, String connectorName)   {
         ConnectorState connectorState = runningConnectors.get(key(host, connectorName));
+        if (connectorState == null) {
+            return Future.failedFuture(new ConnectRestException("GET", String.format("/connectors/%s/status", connectorName), 404, "Not Found", ""));
+        }
         Map<String, Object> statusNode = new HashMap<>();
         statusNode.put("name", connectorName);
         Map<String, Object> connector = new HashMap<>();
@@ -126,7 +129,29 @@ public class ConnectorMockTest {
         List<Map> tasks = singletonList(task);
         statusNode.put("tasks", tasks);
 
-        return connectorState != null ? Future.succeededFuture(statusNode) : Future.failedFuture("No such connector " + connectorName);
+        return Future.succeededFuture(statusNode);
+    }
+
+    private Future<Map<String, Map<String, Object>>> kafkaConnectApiListMock(String host) {
+        String matchingKeyPrefix = host + "##";
+        Map<String, Map<String, Object>> connectors = new HashMap<>();
+        for (String key : runningConnectors.keySet()) {
+            if (key.startsWith(matchingKeyPrefix)) {
+                String connectorName = key.substring(matchingKeyPrefix.length());
+                Map<String, Object> config = new HashMap<>();
+                for (Map.Entry<String, Object> entry : runningConnectors.get(key).config) {
+                    config.put(entry.getKey(), entry.getValue());
+                }
+                Map<String, Object> info = new HashMap<>();
+                info.put("name", connectorName);
+                info.put("config", config);
+                Map<String, Object> connector = new HashMap<>();
+                connector.put("status", kafkaConnectApiStatusMock(host, connectorName).result());
+                connector.put("info", info);
+                connectors.put(connectorName, connector);
+            }
+        }
+        return Future.succeededFuture(connectors);
     }
 
     @BeforeAll
@@ -155,14 +180,7 @@ public class ConnectorMockTest {
         api = mock(KafkaConnectApi.class);
         runningConnectors = new HashMap<>();
 
-        when(api.list(any(), anyInt())).thenAnswer(i -> {
-            String host = i.getArgument(0);
-            String matchingKeyPrefix = host + "##";
-            return Future.succeededFuture(runningConnectors.keySet().stream()
-                    .filter(s -> s.startsWith(matchingKeyPrefix))
-                    .map(s -> s.substring(matchingKeyPrefix.length()))
-                    .collect(Collectors.toList()));
-        });
+        when(api.listWithStatusAndInfo(any(), anyInt())).thenAnswer(i -> kafkaConnectApiListMock(i.getArgument(0)));
         when(api.listConnectorPlugins(any(), anyInt())).thenAnswer(i -> {
             ConnectorPlugin connectorPlugin = new ConnectorPluginBuilder()
                     .withConnectorClass("io.strimzi.MyClass")
@@ -491,7 +509,7 @@ public class ConnectorMockTest {
         waitForConnectReady(connectName);
 
         // triggered twice (creation followed by status update)
-        verify(api, times(2)).list(
+        verify(api, times(2)).listWithStatusAndInfo(
                 eq(KafkaConnectResources.qualifiedServiceName(connectName, NAMESPACE)), eq(KafkaConnectCluster.REST_API_PORT));
 
         verify(api, never()).createOrUpdatePutRequest(
@@ -512,9 +530,10 @@ public class ConnectorMockTest {
             .done();
         waitForConnectorReady(connectorName);
 
-        verify(api, times(2)).list(
+        verify(api, times(2)).listWithStatusAndInfo(
                 eq(KafkaConnectResources.qualifiedServiceName(connectName, NAMESPACE)), eq(KafkaConnectCluster.REST_API_PORT));
-        verify(api, times(2)).createOrUpdatePutRequest(
+        // the Connector Status update only refreshes the status of the connector, whose config was applied
+        verify(api, times(1)).createOrUpdatePutRequest(
                 eq(KafkaConnectResources.qualifiedServiceName(connectName, NAMESPACE)), eq(KafkaConnectCluster.REST_API_PORT),
                 eq(connectorName), any());
         assertThat(runningConnectors.keySet(), is(Collections.singleton(key("cluster-connect-api.ns.svc", connectorName))));
@@ -551,7 +570,7 @@ public class ConnectorMockTest {
         waitForConnectorNotReady(connectorName, "NoSuchResourceException",
             "KafkaConnect resource 'cluster' identified by label '" + Labels.STRIMZI_CLUSTER_LABEL + "' does not exist in namespace ns.");
 
-        verify(api, never()).list(
+        verify(api, never()).listWithStatusAndInfo(
                 eq(KafkaConnectResources.qualifiedServiceName(connectName, NAMESPACE)), eq(KafkaConnectCluster.REST_API_PORT));
         verify(api, never()).createOrUpdatePutRequest(
                 eq(KafkaConnectResources.qualifiedServiceName(connectName, NAMESPACE)), eq(KafkaConnectCluster.REST_API_PORT),
@@ -570,10 +589,10 @@ public class ConnectorMockTest {
                 .done();
         waitForConnectReady(connectName);
         // triggered twice (creation followed by status update)
-        verify(api, times(2)).list(
+        verify(api, times(2)).listWithStatusAndInfo(
                 eq(KafkaConnectResources.qualifiedServiceName(connectName, NAMESPACE)), eq(KafkaConnectCluster.REST_API_PORT));
-        // triggered three times (Connect creation, Connector Status update, Connect Status update)
-        verify(api, times(3)).createOrUpdatePutRequest(
+        // triggered twice (Connect creation, Connect Status update), the Connector Status update only refreshes the status
+        verify(api, times(2)).createOrUpdatePutRequest(
                 eq(KafkaConnectResources.qualifiedServiceName(connectName, NAMESPACE)), eq(KafkaConnectCluster.REST_API_PORT),
                 eq(connectorName), any());
         assertThat(runningConnectors.keySet(), is(Collections.singleton(key("cluster-connect-api.ns.svc", connectorName))));
@@ -590,6 +609,51 @@ public class ConnectorMockTest {
         assertThat(connectDeleted, is(true));
     }
 
+    /** Create connect, create several connectors at once */
+    @Test
+    public void testConnectorEventsAreReconciledWithoutFullConnectReconciliation() {
+        String connectName = "cluster";
+
+        Crds.kafkaConnectOperation(client).inNamespace(NAMESPACE).createNew()
+                .withNewMetadata()
+                    .withNamespace(NAMESPACE)
+                    .withName(connectName)
+                    .addToAnnotations(Annotations.STRIMZI_IO_USE_CONNECTOR_RESOURCES, "true")
+                .endMetadata()
+                .withNewSpec()
+                .endSpec()
+                .done();
+        waitForConnectReady(connectName);
+
+        List<String> connectorNames = asList("connector-a", "connector-b", "connector-c");
+        for (String connectorName : connectorNames) {
+            Crds.kafkaConnectorOperation(client).inNamespace(NAMESPACE).createNew()
+                    .withNewMetadata()
+                        .withName(connectorName)
+                        .withNamespace(NAMESPACE)
+                        .addToLabels(Labels.STRIMZI_CLUSTER_LABEL, connectName)
+                    .endMetadata()
+                    .withNewSpec()
+                        .withTasksMax(1)
+                        .withClassName("Dummy")
+                    .endSpec()
+                    .done();
+        }
+        for (String connectorName : connectorNames) {
+            waitForConnectorReady(connectorName);
+        }
+
+        // Only the two full reconciliations (Connect creation and Connect status update) list the connectors
+        verify(api, times(2)).listWithStatusAndInfo(
+                eq(KafkaConnectResources.qualifiedServiceName(connectName, NAMESPACE)), eq(KafkaConnectCluster.REST_API_PORT));
+        for (String connectorName : connectorNames) {
+            // Each connector is created once, the Connector Status updates are not reconciled
+            verify(api, times(1)).createOrUpdatePutRequest(
+                    eq(KafkaConnectResources.qualifiedServiceName(connectName, NAMESPACE)), eq(KafkaConnectCluster.REST_API_PORT),
+                    eq(connectorName), any());
+        }
+    }
+
     /** Create connect, create connector, delete connect, delete connector */
     @Test
     public void testConnectConnectorConnectConnector() {
@@ -609,7 +673,7 @@ public class ConnectorMockTest {
         waitForConnectReady(connectName);
 
         // triggered twice (creation followed by status update)
-        verify(api, times(2)).list(
+        verify(api, times(2)).listWithStatusAndInfo(
                 eq(KafkaConnectResources.qualifiedServiceName(connectName, NAMESPACE)), eq(KafkaConnectCluster.REST_API_PORT));
         verify(api, never()).createOrUpdatePutRequest(
                 eq(KafkaConnectResources.qualifiedServiceName(connectName, NAMESPACE)), eq(KafkaConnectCluster.REST_API_PORT),
@@ -630,10 +694,10 @@ public class ConnectorMockTest {
         waitForConnectorReady(connectorName);
 
         // triggered twice (creation followed by status update)
-        verify(api, times(2)).list(
+        verify(api, times(2)).listWithStatusAndInfo(
                 eq(KafkaConnectResources.qualifiedServiceName(connectName, NAMESPACE)), eq(KafkaConnectCluster.REST_API_PORT));
-        // triggered twice (Connect creation, Connector Status update)
-        verify(api, times(2)).createOrUpdatePutRequest(
+        // triggered once (Connect creation), the Connector Status update only refreshes the status
+        verify(api, times(1)).createOrUpdatePutRequest(
                 eq(KafkaConnectResources.qualifiedServiceName(connectName, NAMESPACE)), eq(KafkaConnectCluster.REST_API_PORT),
                 eq(connectorName), any());
         assertThat(runningConnectors.keySet(), is(Collections.singleton(key("cluster-connect-api.ns.svc", connectorName))));
@@ -670,7 +734,7 @@ public class ConnectorMockTest {
         waitForConnectorNotReady(connectorName, "NoSuchResourceException",
                 "KafkaConnect resource 'cluster' identified by label '" + Labels.STRIMZI_CLUSTER_LABEL + "' does not exist in namespace ns.");
 
-        verify(api, never()).list(
+        verify(api, never()).listWithStatusAndInfo(
                 eq(KafkaConnectResources.qualifiedServiceName(connectName, NAMESPACE)), eq(KafkaConnectCluster.REST_API_PORT));
         verify(api, never()).createOrUpdatePutRequest(
                 eq(KafkaConnectResources.qualifiedServiceName(connectName, NAMESPACE)), eq(KafkaConnectCluster.REST_API_PORT),
@@ -690,7 +754,7 @@ public class ConnectorMockTest {
         waitForConnectReady(connectName);
 
         // triggered twice (creation followed by status update)
-        verify(api, times(2)).list(
+        verify(api, times(2)).listWithStatusAndInfo(
                 eq(KafkaConnectResources.qualifiedServiceName(connectName, NAMESPACE)), eq(KafkaConnectCluster.REST_API_PORT));
         // triggered at least two times (Connect creation, Connector Status update)
         verify(api, atLeast(2)).createOrUpdatePutRequest(
@@ -758,8 +822,8 @@ public class ConnectorMockTest {
                 .done();
         waitForConnectorReady(connectorName);
 
-        // triggered twice (Connect creation, Connector Status update) for the first cluster
-        verify(api, times(2)).createOrUpdatePutRequest(
+        // triggered once (Connect creation) for the first cluster, the Connector Status update only refreshes the status
+        verify(api, times(1)).createOrUpdatePutRequest(
                 eq(KafkaConnectResources.qualifiedServiceName(oldConnectClusterName, NAMESPACE)), eq(KafkaConnectCluster.REST_API_PORT),
                 eq(connectorName), any());
         // never triggered for the second cluster as connector's Strimzi cluster label does not match cluster 2
@@ -786,7 +850,8 @@ public class ConnectorMockTest {
         verify(api, never()).delete(
                 eq(KafkaConnectResources.qualifiedServiceName(oldConnectClusterName, NAMESPACE)), eq(KafkaConnectCluster.REST_API_PORT),
                 eq(connectorName));
-        verify(api, times(2)).createOrUpdatePutRequest(
+        // the config applied to the first cluster does not count for the second one, so it is applied once
+        verify(api, times(1)).createOrUpdatePutRequest(
                 eq(KafkaConnectResources.qualifiedServiceName(newConnectClusterName, NAMESPACE)), eq(KafkaConnectCluster.REST_API_PORT),
                 eq(connectorName), any());
 
@@ -826,7 +891,7 @@ public class ConnectorMockTest {
         waitForConnectReady(connectName);
 
         // triggered atleast once (Connect creation)
-        verify(api, atLeastOnce()).list(
+        verify(api, atLeastOnce()).listWithStatusAndInfo(
                 eq(KafkaConnectResources.qualifiedServiceName(connectName, NAMESPACE)), eq(KafkaConnectCluster.REST_API_PORT));
         verify(api, never()).createOrUpdatePutRequest(
                 eq(KafkaConnectResources.qualifiedServiceName(connectName, NAMESPACE)), eq(KafkaConnectCluster.REST_API_PORT),
@@ -845,9 +910,10 @@ public class ConnectorMockTest {
         waitForConnectorNotReady(connectorName,
                 "ConnectRestException", "GET /foo returned 500 (Internal server error): Bad stuff happened");
 
-        verify(api, times(2)).list(
+        verify(api, times(2)).listWithStatusAndInfo(
                 eq(KafkaConnectResources.qualifiedServiceName(connectName, NAMESPACE)), eq(KafkaConnectCluster.REST_API_PORT));
-        verify(api, times(2)).createOrUpdatePutRequest(
+        // triggered once (Connector creation), the Connector Status update is not reconciled
+        verify(api, times(1)).createOrUpdatePutRequest(
                 eq(KafkaConnectResources.qualifiedServiceName(connectName, NAMESPACE)), eq(KafkaConnectCluster.REST_API_PORT),
                 eq(connectorName), any());
         assertThat(runningConnectors.keySet(), is(empty()));
@@ -872,7 +938,7 @@ public class ConnectorMockTest {
         waitForConnectReady(connectName);
 
         // triggered twice (Connect creation, Connector Status update)
-        verify(api, times(2)).list(
+        verify(api, times(2)).listWithStatusAndInfo(
                 eq(KafkaConnectResources.qualifiedServiceName(connectName, NAMESPACE)), eq(KafkaConnectCluster.REST_API_PORT));
         verify(api, never()).createOrUpdatePutRequest(
                 eq(KafkaConnectResources.qualifiedServiceName(connectName, NAMESPACE)), eq(KafkaConnectCluster.REST_API_PORT),
@@ -893,9 +959,10 @@ public class ConnectorMockTest {
         waitForConnectorReady(connectorName);
         waitForConnectorState(connectorName, "RUNNING");
 
-        verify(api, times(2)).list(
+        verify(api, times(2)).listWithStatusAndInfo(
                 eq(KafkaConnectResources.qualifiedServiceName(connectName, NAMESPACE)), eq(KafkaConnectCluster.REST_API_PORT));
-        verify(api, times(2)).createOrUpdatePutRequest(
+        // the Connector Status update only refreshes the status of the connector, whose config was applied
+        verify(api, times(1)).createOrUpdatePutRequest(
                 eq(KafkaConnectResources.qualifiedServiceName(connectName, NAMESPACE)), eq(KafkaConnectCluster.REST_API_PORT),
                 eq(connectorName), any());
         assertThat(runningConnectors.keySet(), is(Collections.singleton(key("cluster-connect-api.ns.svc", connectorName))));
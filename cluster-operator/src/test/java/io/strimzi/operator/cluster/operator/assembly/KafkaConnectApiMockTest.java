@@ -6,7 +6,9 @@ package io.strimzi.operator.cluster.operator.assembly;
 
 import io.strimzi.operator.common.BackOff;
 import io.vertx.core.Future;
+import io.vertx.core.Promise;
 import io.vertx.core.Vertx;
+import io.vertx.core.http.HttpServer;
 import io.vertx.junit5.Checkpoint;
 import io.vertx.junit5.VertxExtension;
 import io.vertx.junit5.VertxTestContext;
@@ -16,9 +18,15 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 
 import java.util.Collections;
+import java.util.HashSet;
 import java.util.Map;
 import java.util.Queue;
 import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static java.util.Arrays.asList;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
 
 @ExtendWith(VertxExtension.class)
 public class KafkaConnectApiMockTest {
@@ -108,6 +116,53 @@ public class KafkaConnectApiMockTest {
         });
     }
 
+    private Future<HttpServer> startServer(String body, AtomicInteger connections) {
+        Promise<HttpServer> server = Promise.promise();
+        vertx.createHttpServer()
+                .connectionHandler(connection -> connections.incrementAndGet())
+                .requestHandler(request -> request.response()
+                        .putHeader("Content-Type", "application/json")
+                        .end(body))
+                .listen(0, server);
+        return server.future();
+    }
+
+    @Test
+    public void testListWithStatusAndInfoReusesConnection(VertxTestContext context) {
+        AtomicInteger connections = new AtomicInteger();
+        KafkaConnectApi api = new KafkaConnectApiImpl(vertx);
+        Checkpoint async = context.checkpoint();
+
+        startServer("{\"my-connector\":{\"status\":{\"connector\":{\"state\":\"RUNNING\"}},"
+                + "\"info\":{\"name\":\"my-connector\",\"config\":{\"tasks.max\":\"1\"}}}}", connections)
+            .compose(server -> api.listWithStatusAndInfo("localhost", server.actualPort())
+                .compose(ignored -> api.listWithStatusAndInfo("localhost", server.actualPort()))
+                .compose(ignored -> api.listWithStatusAndInfo("localhost", server.actualPort())))
+            .setHandler(context.succeeding(connectors -> context.verify(() -> {
+                assertThat(connectors.keySet(), is(Collections.singleton("my-connector")));
+                assertThat(((Map) connectors.get("my-connector").get("status")).get("connector"),
+                        is(Collections.singletonMap("state", "RUNNING")));
+                assertThat(((Map) connectors.get("my-connector").get("info")).get("config"),
+                        is(Collections.singletonMap("tasks.max", "1")));
+                assertThat(connections.get(), is(1));
+                async.flag();
+            })));
+    }
+
+    @Test
+    public void testListWithStatusAndInfoWithoutExpandSupport(VertxTestContext context) {
+        KafkaConnectApi api = new KafkaConnectApiImpl(vertx);
+        Checkpoint async = context.checkpoint();
+
+        startServer("[\"a\",\"b\"]", new AtomicInteger())
+            .compose(server -> api.listWithStatusAndInfo("localhost", server.actualPort()))
+            .setHandler(context.succeeding(connectors -> context.verify(() -> {
+                assertThat(connectors.keySet(), is(new HashSet<>(asList("a", "b"))));
+                assertThat(connectors.get("a"), is(Collections.emptyMap()));
+                async.flag();
+            })));
+    }
+
     class MockKafkaConnectApi extends KafkaConnectApiImpl   {
         private final Queue<Future<Map<String, Object>>> statusResults;
 
@@ -0,0 +1,304 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.cluster.operator.assembly;
+
+import io.fabric8.kubernetes.api.model.apps.Deployment;
+import io.fabric8.kubernetes.api.model.apps.DeploymentBuilder;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.strimzi.operator.common.Reconciliation;
+import io.strimzi.operator.common.operator.resource.DeploymentOperator;
+import io.strimzi.operator.common.operator.resource.ReconcileResult;
+import io.vertx.core.Future;
+import io.vertx.core.Vertx;
+import io.vertx.junit5.Checkpoint;
+import io.vertx.junit5.VertxExtension;
+import io.vertx.junit5.VertxTestContext;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiPredicate;
+
+import static java.util.Arrays.asList;
+import static java.util.Collections.singletonMap;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(VertxExtension.class)
+public class KafkaConnectRollerTest {
+
+    private static final String NAMESPACE = "my-namespace";
+    private static final String NAME = "my-connect-connect";
+    private static final String HOST = "my-connect-connect-api.my-namespace.svc";
+
+    private static Vertx vertx;
+
+    @BeforeAll
+    public static void before() {
+        vertx = Vertx.vertx();
+    }
+
+    @AfterAll
+    public static void after() {
+        vertx.close();
+    }
+
+    private static Deployment deployment(String image) {
+        return new DeploymentBuilder()
+                .withNewMetadata()
+                    .withNamespace(NAMESPACE)
+                    .withName(NAME)
+                .endMetadata()
+                .withNewSpec()
+                    .withReplicas(3)
+                    .withNewTemplate()
+                        .withNewSpec()
+                            .addNewContainer()
+                                .withName("connect")
+                                .withImage(image)
+                            .endContainer()
+                        .endSpec()
+                    .endTemplate()
+                .endSpec()
+                .build();
+    }
+
+    /**
+     * Simulates the Deployment controller: every time the Deployment is resumed Kubernetes replaces one more worker.
+     */
+    private static class FakeDeployment {
+        private final Deployment current;
+        private final List<Boolean> patches = new ArrayList<>();
+        private int generation = 1;
+        private int updated = 0;
+
+        FakeDeployment(Deployment current) {
+            this.current = current;
+        }
+
+        synchronized Future<ReconcileResult<Deployment>> reconcile(Deployment desired) {
+            boolean paused = Boolean.TRUE.equals(desired.getSpec().getPaused());
+            patches.add(paused);
+            generation++;
+            if (!paused) {
+                updated = Math.min(updated + 1, desired.getSpec().getReplicas());
+            }
+            return Future.succeededFuture();
+        }
+
+        synchronized Deployment get() {
+            int replicas = current.getSpec().getReplicas();
+            int pods = updated == 0 || updated == replicas ? replicas : replicas + 1;
+            return new DeploymentBuilder(current)
+                    .editMetadata()
+                        .withGeneration((long) generation)
+                    .endMetadata()
+                    .withNewStatus()
+                        .withObservedGeneration((long) generation)
+                        .withReplicas(pods)
+                        .withReadyReplicas(pods)
+                        .withUpdatedReplicas(updated)
+                    .endStatus()
+                    .build();
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static DeploymentOperator mockDeploymentOperator(FakeDeployment fake) {
+        DeploymentOperator mockDepOps = mock(DeploymentOperator.class);
+        when(mockDepOps.getAsync(anyString(), anyString())).thenAnswer(invocation -> Future.succeededFuture(fake.get()));
+        when(mockDepOps.get(anyString(), anyString())).thenAnswer(invocation -> fake.get());
+        when(mockDepOps.reconcile(anyString(), anyString(), any())).thenAnswer(invocation -> fake.reconcile(invocation.getArgument(2)));
+        when(mockDepOps.waitFor(anyString(), anyString(), anyString(), anyLong(), anyLong(), any())).thenAnswer(invocation -> {
+            BiPredicate<String, String> predicate = invocation.getArgument(5);
+            return predicate.test(invocation.getArgument(0), invocation.getArgument(1))
+                    ? Future.succeededFuture()
+                    : Future.failedFuture("Not ready");
+        });
+        return mockDepOps;
+    }
+
+    private static Map<String, Object> connectorStatus(String connectorState, String... taskStates) {
+        List<Map<String, Object>> tasks = new ArrayList<>();
+        for (int id = 0; id < taskStates.length; id++) {
+            Map<String, Object> task = new HashMap<>();
+            task.put("id", id);
+            task.put("state", taskStates[id]);
+            tasks.add(task);
+        }
+        Map<String, Object> status = new HashMap<>();
+        status.put("connector", singletonMap("state", connectorState));
+        status.put("tasks", tasks);
+        return singletonMap("status", status);
+    }
+
+    @Test
+    public void testWorkersAreRolledOneAtATime(VertxTestContext context) {
+        FakeDeployment fake = new FakeDeployment(deployment("connect:1"));
+        DeploymentOperator mockDepOps = mockDeploymentOperator(fake);
+
+        // Every worker causes a rebalance, during which one of the tasks is not running
+        AtomicInteger polls = new AtomicInteger();
+        KafkaConnectApi mockConnectApi = mock(KafkaConnectApi.class);
+        when(mockConnectApi.listWithStatusAndInfo(anyString(), anyInt())).thenAnswer(invocation -> {
+            Map<String, Map<String, Object>> connectors = new HashMap<>();
+            connectors.put("paused-connector", connectorStatus("PAUSED", "PAUSED"));
+            connectors.put("connector", polls.getAndIncrement() % 2 == 1
+                    ? connectorStatus("RUNNING", "RUNNING", "UNASSIGNED")
+                    : connectorStatus("RUNNING", "RUNNING", "RUNNING"));
+            return Future.succeededFuture(connectors);
+        });
+
+        Timer timer = new SimpleMeterRegistry().timer("downtime");
+        KafkaConnectRoller roller = new KafkaConnectRoller(new Reconciliation("test", "KafkaConnect", NAMESPACE, "my-connect"),
+                vertx, mockDepOps, mockConnectApi, HOST, 8083, 10, 10_000, timer);
+
+        Checkpoint async = context.checkpoint();
+        roller.reconcile(NAME, deployment("connect:2")).setHandler(context.succeeding(v -> context.verify(() -> {
+            // Paused first, then resumed once per worker and paused again until the last one
+            assertThat(fake.patches, is(asList(true, false, true, false, true, false)));
+            assertThat(timer.count(), is(3L));
+            // The status before the roll, then twice per worker
+            assertThat(polls.get(), is(7));
+            async.flag();
+        })));
+    }
+
+    @Test
+    public void testDeploymentIsResumedWhenTheConnectorsDoNotRecover(VertxTestContext context) {
+        FakeDeployment fake = new FakeDeployment(deployment("connect:1"));
+        DeploymentOperator mockDepOps = mockDeploymentOperator(fake);
+
+        // The task which was running before the roll fails after the first worker
+        KafkaConnectApi mockConnectApi = mock(KafkaConnectApi.class);
+        when(mockConnectApi.listWithStatusAndInfo(anyString(), anyInt())).thenReturn(
+                Future.succeededFuture(singletonMap("connector", connectorStatus("RUNNING", "RUNNING"))),
+                Future.succeededFuture(singletonMap("connector", connectorStatus("RUNNING", "FAILED"))));
+
+        Timer timer = new SimpleMeterRegistry().timer("downtime");
+        KafkaConnectRoller roller = new KafkaConnectRoller(new Reconciliation("test", "KafkaConnect", NAMESPACE, "my-connect"),
+                vertx, mockDepOps, mockConnectApi, HOST, 8083, 10, 100, timer);
+
+        Checkpoint async = context.checkpoint();
+        roller.reconcile(NAME, deployment("connect:2")).setHandler(context.failing(e -> context.verify(() -> {
+            assertThat(fake.patches, is(asList(true, false, true, false)));
+            assertThat(timer.count(), is(0L));
+            async.flag();
+        })));
+    }
+
+    @Test
+    public void testConnectorsAndTasksWhichWereNotRunningBeforeTheRollAreNotWaitedFor(VertxTestContext context) {
+        FakeDeployment fake = new FakeDeployment(deployment("connect:1"));
+        DeploymentOperator mockDepOps = mockDeploymentOperator(fake);
+
+        KafkaConnectApi mockConnectApi = mock(KafkaConnectApi.class);
+        when(mockConnectApi.listWithStatusAndInfo(anyString(), anyInt())).thenAnswer(invocation -> {
+            Map<String, Map<String, Object>> connectors = new HashMap<>();
+            connectors.put("failed-connector", connectorStatus("FAILED", "FAILED"));
+            connectors.put("connector", connectorStatus("RUNNING", "RUNNING", "UNASSIGNED"));
+            return Future.succeededFuture(connectors);
+        });
+
+        Timer timer = new SimpleMeterRegistry().timer("downtime");
+        KafkaConnectRoller roller = new KafkaConnectRoller(new Reconciliation("test", "KafkaConnect", NAMESPACE, "my-connect"),
+                vertx, mockDepOps, mockConnectApi, HOST, 8083, 10, 10_000, timer);
+
+        Checkpoint async = context.checkpoint();
+        roller.reconcile(NAME, deployment("connect:2")).setHandler(context.succeeding(v -> context.verify(() -> {
+            assertThat(fake.patches, is(asList(true, false, true, false, true, false)));
+            assertThat(timer.count(), is(3L));
+            async.flag();
+        })));
+    }
+
+    @Test
+    public void testWorkersAreRolledByKubernetesWhenTheConnectorsCannotBeRead(VertxTestContext context) {
+        FakeDeployment fake = new FakeDeployment(deployment("connect:1"));
+        DeploymentOperator mockDepOps = mockDeploymentOperator(fake);
+
+        KafkaConnectApi mockConnectApi = mock(KafkaConnectApi.class);
+        when(mockConnectApi.listWithStatusAndInfo(anyString(), anyInt())).thenReturn(Future.failedFuture("Connection refused"));
+
+        Timer timer = new SimpleMeterRegistry().timer("downtime");
+        KafkaConnectRoller roller = new KafkaConnectRoller(new Reconciliation("test", "KafkaConnect", NAMESPACE, "my-connect"),
+                vertx, mockDepOps, mockConnectApi, HOST, 8083, 10, 10_000, timer);
+
+        Checkpoint async = context.checkpoint();
+        roller.reconcile(NAME, deployment("connect:2")).setHandler(context.succeeding(v -> context.verify(() -> {
+            assertThat(fake.patches, is(asList(false)));
+            assertThat(timer.count(), is(0L));
+            async.flag();
+        })));
+    }
+
+    @Test
+    public void testStates() {
+        Map<String, Object> statuses = new HashMap<>();
+        statuses.put("connector", connectorStatus("RUNNING", "RUNNING", "FAILED").get("status"));
+        statuses.put("paused-connector", connectorStatus("PAUSED").get("status"));
+        statuses.put("unknown-connector", null);
+
+        Map<String, Boolean> expected = new HashMap<>();
+        expected.put("connector", true);
+        expected.put("connector/0", true);
+        expected.put("connector/1", false);
+        expected.put("paused-connector", true);
+        expected.put("unknown-connector", false);
+        assertThat(KafkaConnectRoller.states(statuses), is(expected));
+    }
+
+    @Test
+    public void testDeploymentIsReconciledWhenThePodTemplateDoesNotChange(VertxTestContext context) {
+        FakeDeployment fake = new FakeDeployment(deployment("connect:1"));
+        DeploymentOperator mockDepOps = mockDeploymentOperator(fake);
+        KafkaConnectApi mockConnectApi = mock(KafkaConnectApi.class);
+
+        KafkaConnectRoller roller = new KafkaConnectRoller(new Reconciliation("test", "KafkaConnect", NAMESPACE, "my-connect"),
+                vertx, mockDepOps, mockConnectApi, HOST, 8083, 10, 10_000, new SimpleMeterRegistry().timer("downtime"));
+
+        Checkpoint async = context.checkpoint();
+        Deployment desired = new DeploymentBuilder(deployment("connect:1")).editSpec().withReplicas(4).endSpec().build();
+        roller.reconcile(NAME, desired).setHandler(context.succeeding(v -> context.verify(() -> {
+            assertThat(fake.patches, is(asList(false)));
+            verify(mockConnectApi, never()).listWithStatusAndInfo(anyString(), anyInt());
+            async.flag();
+        })));
+    }
+
+    @Test
+    public void testChangesPodTemplate() {
+        Deployment current = new DeploymentBuilder(deployment("connect:1"))
+                .editSpec()
+                    .editTemplate()
+                        .editSpec()
+                            .withDnsPolicy("ClusterFirst")
+                            .withRestartPolicy("Always")
+                        .endSpec()
+                    .endTemplate()
+                .endSpec()
+                .build();
+
+        assertThat(KafkaConnectRoller.changesPodTemplate(current, deployment("connect:1")), is(false));
+        assertThat(KafkaConnectRoller.changesPodTemplate(current, deployment("connect:2")), is(true));
+        assertThat(KafkaConnectRoller.changesPodTemplate(current,
+                new DeploymentBuilder(deployment("connect:1")).editSpec().withReplicas(1).endSpec().build()), is(false));
+    }
+}
@@ -0,0 +1,73 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.cluster.operator.assembly;
+
+import io.strimzi.api.kafka.model.status.KafkaConnectorMetricsStatus;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+public class KafkaConnectorMetricsCollectorTest {
+
+    private static String metrics(long sourceTotal, long sinkTotal) {
+        return "# HELP kafka_connect_source_task_source_record_write_total Kafka Connect JMX metric type source_task\n" +
+                "# TYPE kafka_connect_source_task_source_record_write_total gauge\n" +
+                "kafka_connect_source_task_source_record_write_total{connector=\"my-source\",task=\"0\",} " + sourceTotal + ".0\n" +
+                "kafka_connect_source_task_source_record_write_total{connector=\"my-source\",task=\"1\",} " + sourceTotal + ".0\n" +
+                "kafka_connect_source_task_source_record_active_count{connector=\"my-source\",task=\"0\",} 5.0\n" +
+                "kafka_connect_source_task_source_record_active_count{connector=\"my-source\",task=\"1\",} 7.0\n" +
+                "kafka_connect_source_task_source_record_poll_total{connector=\"my-source\",task=\"0\",} 1000000.0\n" +
+                "kafka_connect_sink_task_sink_record_send_total{connector=\"my-sink\",task=\"0\",} " + sinkTotal + ".0\n" +
+                "kafka_consumer_fetch_manager_records_lag{clientid=\"connector-consumer-my-sink-0\",topic=\"my-topic\",partition=\"0\",} 10.0\n" +
+                "kafka_consumer_fetch_manager_records_lag{clientid=\"connector-consumer-my-sink-0\",topic=\"my-topic\",partition=\"1\",} 20.0\n" +
+                "kafka_consumer_fetch_manager_records_lag{clientid=\"connect-cluster-offsets\",topic=\"connect-offsets\",partition=\"0\",} 30.0\n" +
+                "kafka_consumer_fetch_manager_records_lag{clientid=\"connector-consumer-my-sink-1\",topic=\"my-topic\",partition=\"2\",} NaN\n" +
+                "kafka_connect_connector_status{connector=\"my-sink\",task=\"0\",status=\"running\",} 1.0\n";
+    }
+
+    @Test
+    public void testParse() {
+        Map<String, KafkaConnectorMetricsCollector.TaskMetrics> tasks = KafkaConnectorMetricsCollector.parse(metrics(100, 200));
+
+        assertThat(tasks.size(), is(3));
+        assertThat(tasks.get("my-source/0").connector, is("my-source"));
+        assertThat(tasks.get("my-source/0").recordsTotal, is(100.0));
+        assertThat(tasks.get("my-source/0").lag, is(5L));
+        assertThat(tasks.get("my-source/1").lag, is(7L));
+        assertThat(tasks.get("my-sink/0").connector, is("my-sink"));
+        assertThat(tasks.get("my-sink/0").recordsTotal, is(200.0));
+        assertThat(tasks.get("my-sink/0").lag, is(30L));
+    }
+
+    @Test
+    public void testConnectorMetricsWithoutPreviousCollection() {
+        Map<String, KafkaConnectorMetricsStatus> connectors = KafkaConnectorMetricsCollector.connectorMetrics(
+                KafkaConnectorMetricsCollector.parse(metrics(100, 200)), null, 0);
+
+        assertThat(connectors.size(), is(2));
+        assertThat(connectors.get("my-source").getTasks(), is(2));
+        assertThat(connectors.get("my-source").getLag(), is(12L));
+        assertThat(connectors.get("my-source").getRecordsPerSecond(), is(nullValue()));
+        assertThat(connectors.get("my-sink").getTasks(), is(1));
+        assertThat(connectors.get("my-sink").getLag(), is(30L));
+    }
+
+    @Test
+    public void testConnectorMetricsThroughput() {
+        Map<String, KafkaConnectorMetricsCollector.TaskMetrics> previous = KafkaConnectorMetricsCollector.parse(metrics(100, 200));
+        Map<String, KafkaConnectorMetricsCollector.TaskMetrics> current = KafkaConnectorMetricsCollector.parse(metrics(1_100, 50));
+
+        Map<String, KafkaConnectorMetricsStatus> connectors = KafkaConnectorMetricsCollector.connectorMetrics(current, previous, 10_000);
+
+        // Two tasks which wrote 1000 records each in 10 seconds
+        assertThat(connectors.get("my-source").getRecordsPerSecond(), is(200L));
+        // The sink task was restarted, so its total was reset and only its current total counts
+        assertThat(connectors.get("my-sink").getRecordsPerSecond(), is(5L));
+    }
+}
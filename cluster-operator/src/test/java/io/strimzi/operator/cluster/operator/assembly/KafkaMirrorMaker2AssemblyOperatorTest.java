@@ -12,6 +12,9 @@ import io.fabric8.kubernetes.api.model.networking.NetworkPolicy;
 import io.fabric8.kubernetes.api.model.policy.PodDisruptionBudget;
 import io.strimzi.api.kafka.model.KafkaMirrorMaker2Resources;
 import io.strimzi.api.kafka.model.KafkaMirrorMaker2;
+import io.strimzi.api.kafka.model.KafkaMirrorMaker2ClusterSpecBuilder;
+import io.strimzi.api.kafka.model.KafkaMirrorMaker2MirrorSpecBuilder;
+import io.strimzi.api.kafka.model.status.KafkaMirrorMaker2Status;
 import io.strimzi.operator.KubernetesVersion;
 import io.strimzi.operator.PlatformFeaturesAvailability;
 import io.strimzi.operator.cluster.KafkaVersionTestUtils;
@@ -21,6 +24,7 @@ import io.strimzi.operator.cluster.model.KafkaMirrorMaker2Cluster;
 import io.strimzi.operator.cluster.model.KafkaVersion;
 import io.strimzi.operator.cluster.operator.resource.ResourceOperatorSupplier;
 import io.strimzi.operator.common.Annotations;
+import io.strimzi.operator.common.ConcurrencyLimiter;
 import io.strimzi.operator.common.Reconciliation;
 import io.strimzi.operator.common.model.Labels;
 import io.strimzi.operator.common.operator.resource.ConfigMapOperator;
@@ -57,8 +61,11 @@ import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
 
 import static java.util.Arrays.asList;
-import static java.util.Collections.emptyList;
+import static java.util.Collections.emptyMap;
 import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.notNullValue;
+import static org.hamcrest.CoreMatchers.sameInstance;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyInt;
@@ -68,6 +75,7 @@ import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -113,6 +121,7 @@ public class KafkaMirrorMaker2AssemblyOperatorTest {
         when(mockServiceOps.reconcile(anyString(), anyString(), serviceCaptor.capture())).thenReturn(Future.succeededFuture());
 
         ArgumentCaptor<Deployment> dcCaptor = ArgumentCaptor.forClass(Deployment.class);
+        when(mockDcOps.getAsync(anyString(), anyString())).thenReturn(Future.succeededFuture());
         when(mockDcOps.reconcile(anyString(), anyString(), dcCaptor.capture())).thenReturn(Future.succeededFuture());
         when(mockDcOps.scaleUp(anyString(), anyString(), anyInt())).thenReturn(Future.succeededFuture(42));
         when(mockDcOps.scaleDown(anyString(), anyString(), anyInt())).thenReturn(Future.succeededFuture(42));
@@ -128,7 +137,7 @@ public class KafkaMirrorMaker2AssemblyOperatorTest {
         when(mockMirrorMaker2Ops.updateStatusAsync(mirrorMaker2Captor.capture())).thenReturn(Future.succeededFuture());
 
         KafkaConnectApi mockConnectClient = mock(KafkaConnectApi.class);
-        when(mockConnectClient.list(anyString(), anyInt())).thenReturn(Future.succeededFuture(emptyList()));
+        when(mockConnectClient.listWithStatusAndInfo(anyString(), anyInt())).thenReturn(Future.succeededFuture(emptyMap()));
 
         KafkaMirrorMaker2AssemblyOperator ops = new KafkaMirrorMaker2AssemblyOperator(vertx, new PlatformFeaturesAvailability(true, kubernetesVersion),
                 supplier, ResourceUtils.dummyClusterOperatorConfig(VERSIONS), x -> mockConnectClient);
@@ -206,6 +215,7 @@ public class KafkaMirrorMaker2AssemblyOperatorTest {
 
         ArgumentCaptor<String> dcNameCaptor = ArgumentCaptor.forClass(String.class);
         ArgumentCaptor<Deployment> dcCaptor = ArgumentCaptor.forClass(Deployment.class);
+        when(mockDcOps.getAsync(anyString(), anyString())).thenReturn(Future.succeededFuture());
         when(mockDcOps.reconcile(eq(clusterCmNamespace), dcNameCaptor.capture(), dcCaptor.capture())).thenReturn(Future.succeededFuture());
 
         ArgumentCaptor<String> dcScaleUpNameCaptor = ArgumentCaptor.forClass(String.class);
@@ -223,7 +233,7 @@ public class KafkaMirrorMaker2AssemblyOperatorTest {
         when(mockPdbOps.reconcile(anyString(), any(), pdbCaptor.capture())).thenReturn(Future.succeededFuture());
 
         KafkaConnectApi mockConnectClient = mock(KafkaConnectApi.class);
-        when(mockConnectClient.list(anyString(), anyInt())).thenReturn(Future.succeededFuture(emptyList()));
+        when(mockConnectClient.listWithStatusAndInfo(anyString(), anyInt())).thenReturn(Future.succeededFuture(emptyMap()));
 
         KafkaMirrorMaker2AssemblyOperator ops = new KafkaMirrorMaker2AssemblyOperator(vertx, new PlatformFeaturesAvailability(true, kubernetesVersion),
                 supplier, ResourceUtils.dummyClusterOperatorConfig(VERSIONS), x -> mockConnectClient);
@@ -285,6 +295,7 @@ public class KafkaMirrorMaker2AssemblyOperatorTest {
 
         ArgumentCaptor<String> dcNameCaptor = ArgumentCaptor.forClass(String.class);
         ArgumentCaptor<Deployment> dcCaptor = ArgumentCaptor.forClass(Deployment.class);
+        when(mockDcOps.getAsync(anyString(), anyString())).thenReturn(Future.succeededFuture());
         when(mockDcOps.reconcile(eq(clusterCmNamespace), dcNameCaptor.capture(), dcCaptor.capture())).thenReturn(Future.succeededFuture());
 
         ArgumentCaptor<String> dcScaleUpNameCaptor = ArgumentCaptor.forClass(String.class);
@@ -328,7 +339,7 @@ public class KafkaMirrorMaker2AssemblyOperatorTest {
         }).when(mockCmOps).reconcile(eq(clusterCmNamespace), anyString(), any());
 
         KafkaConnectApi mockConnectClient = mock(KafkaConnectApi.class);
-        when(mockConnectClient.list(anyString(), anyInt())).thenReturn(Future.succeededFuture(emptyList()));
+        when(mockConnectClient.listWithStatusAndInfo(anyString(), anyInt())).thenReturn(Future.succeededFuture(emptyMap()));
 
         KafkaMirrorMaker2AssemblyOperator ops = new KafkaMirrorMaker2AssemblyOperator(vertx, new PlatformFeaturesAvailability(true, kubernetesVersion),
                 supplier, ResourceUtils.dummyClusterOperatorConfig(VERSIONS), x -> mockConnectClient);
@@ -405,6 +416,7 @@ public class KafkaMirrorMaker2AssemblyOperatorTest {
         ArgumentCaptor<String> dcNamespaceCaptor = ArgumentCaptor.forClass(String.class);
         ArgumentCaptor<String> dcNameCaptor = ArgumentCaptor.forClass(String.class);
         ArgumentCaptor<Deployment> dcCaptor = ArgumentCaptor.forClass(Deployment.class);
+        when(mockDcOps.getAsync(anyString(), anyString())).thenReturn(Future.succeededFuture());
         when(mockDcOps.reconcile(dcNamespaceCaptor.capture(), dcNameCaptor.capture(), dcCaptor.capture())).thenReturn(Future.failedFuture("Failed"));
 
         ArgumentCaptor<String> dcScaleUpNamespaceCaptor = ArgumentCaptor.forClass(String.class);
@@ -462,6 +474,7 @@ public class KafkaMirrorMaker2AssemblyOperatorTest {
 
         when(mockServiceOps.reconcile(eq(clusterCmNamespace), any(), any())).thenReturn(Future.succeededFuture());
 
+        when(mockDcOps.getAsync(anyString(), anyString())).thenReturn(Future.succeededFuture());
         when(mockDcOps.reconcile(eq(clusterCmNamespace), any(), any())).thenReturn(Future.succeededFuture());
 
         doAnswer(i -> Future.succeededFuture(scaleTo))
@@ -476,7 +489,7 @@ public class KafkaMirrorMaker2AssemblyOperatorTest {
         when(mockNetPolOps.reconcile(eq(clusterCm.getMetadata().getNamespace()), eq(KafkaMirrorMaker2Resources.deploymentName(clusterCm.getMetadata().getName())), any())).thenReturn(Future.succeededFuture(ReconcileResult.created(new NetworkPolicy())));
 
         KafkaConnectApi mockConnectClient = mock(KafkaConnectApi.class);
-        when(mockConnectClient.list(anyString(), anyInt())).thenReturn(Future.succeededFuture(emptyList()));
+        when(mockConnectClient.listWithStatusAndInfo(anyString(), anyInt())).thenReturn(Future.succeededFuture(emptyMap()));
 
         KafkaMirrorMaker2AssemblyOperator ops = new KafkaMirrorMaker2AssemblyOperator(vertx, new PlatformFeaturesAvailability(true, kubernetesVersion),
                 supplier, ResourceUtils.dummyClusterOperatorConfig(VERSIONS), x -> mockConnectClient);
@@ -520,6 +533,7 @@ public class KafkaMirrorMaker2AssemblyOperatorTest {
 
         when(mockServiceOps.reconcile(eq(clusterCmNamespace), any(), any())).thenReturn(Future.succeededFuture());
 
+        when(mockDcOps.getAsync(anyString(), anyString())).thenReturn(Future.succeededFuture());
         when(mockDcOps.reconcile(eq(clusterCmNamespace), any(), any())).thenReturn(Future.succeededFuture());
 
         doAnswer(i -> Future.succeededFuture(scaleTo))
@@ -534,7 +548,7 @@ public class KafkaMirrorMaker2AssemblyOperatorTest {
         when(mockNetPolOps.reconcile(eq(clusterCm.getMetadata().getNamespace()), eq(KafkaMirrorMaker2Resources.deploymentName(clusterCm.getMetadata().getName())), any())).thenReturn(Future.succeededFuture(ReconcileResult.created(new NetworkPolicy())));
 
         KafkaConnectApi mockConnectClient = mock(KafkaConnectApi.class);
-        when(mockConnectClient.list(anyString(), anyInt())).thenReturn(Future.succeededFuture(emptyList()));
+        when(mockConnectClient.listWithStatusAndInfo(anyString(), anyInt())).thenReturn(Future.succeededFuture(emptyMap()));
 
         KafkaMirrorMaker2AssemblyOperator ops = new KafkaMirrorMaker2AssemblyOperator(vertx, new PlatformFeaturesAvailability(true, kubernetesVersion),
                 supplier, ResourceUtils.dummyClusterOperatorConfig(VERSIONS), x -> mockConnectClient);
@@ -565,6 +579,8 @@ public class KafkaMirrorMaker2AssemblyOperatorTest {
         // when requested ConfigMap for a specific Kafka MirrorMaker 2.0 cluster
         when(mockMirrorMaker2Ops.get(eq(clusterCmNamespace), eq("foo"))).thenReturn(foo);
         when(mockMirrorMaker2Ops.get(eq(clusterCmNamespace), eq("bar"))).thenReturn(bar);
+        when(mockMirrorMaker2Ops.getAsync(eq(clusterCmNamespace), eq("foo"))).thenReturn(Future.succeededFuture(foo));
+        when(mockMirrorMaker2Ops.getAsync(eq(clusterCmNamespace), eq("bar"))).thenReturn(Future.succeededFuture(bar));
 
         // providing the list of ALL Deployments for all the Kafka MirrorMaker 2.0 clusters
         Labels newLabels = Labels.forStrimziKind(KafkaMirrorMaker2.RESOURCE_KIND);
@@ -622,6 +638,7 @@ public class KafkaMirrorMaker2AssemblyOperatorTest {
         when(mockMirrorMaker2Ops.get(clusterCmNamespace, clusterCmName)).thenReturn(clusterCm);
         when(mockMirrorMaker2Ops.getAsync(anyString(), anyString())).thenReturn(Future.succeededFuture(clusterCm));
         when(mockServiceOps.reconcile(anyString(), anyString(), any())).thenReturn(Future.succeededFuture());
+        when(mockDcOps.getAsync(anyString(), anyString())).thenReturn(Future.succeededFuture());
         when(mockDcOps.reconcile(anyString(), anyString(), any())).thenReturn(Future.succeededFuture());
         when(mockDcOps.scaleUp(anyString(), anyString(), anyInt())).thenReturn(Future.succeededFuture(42));
         when(mockDcOps.scaleDown(anyString(), anyString(), anyInt())).thenReturn(Future.failedFuture(failureMsg));
@@ -651,4 +668,109 @@ public class KafkaMirrorMaker2AssemblyOperatorTest {
         });
     }
 
+    private static KafkaMirrorMaker2 mirrorMaker2WithMirrors(String namespace, String name, String topicsPattern) {
+        KafkaMirrorMaker2 mirrorMaker2 = ResourceUtils.createEmptyKafkaMirrorMaker2Cluster(namespace, name);
+        mirrorMaker2.getSpec().setClusters(asList(
+                new KafkaMirrorMaker2ClusterSpecBuilder().withAlias("a").withBootstrapServers("a:9092").build(),
+                new KafkaMirrorMaker2ClusterSpecBuilder().withAlias("b").withBootstrapServers("b:9092").build(),
+                new KafkaMirrorMaker2ClusterSpecBuilder().withAlias("target").withBootstrapServers("target:9092").build()));
+        mirrorMaker2.getSpec().setConnectCluster("target");
+        mirrorMaker2.getSpec().setMirrors(asList(
+                new KafkaMirrorMaker2MirrorSpecBuilder()
+                        .withSourceCluster("a")
+                        .withTargetCluster("target")
+                        .withTopicsPattern(topicsPattern)
+                        .withNewSourceConnector().withTasksMax(1).endSourceConnector()
+                        .withNewCheckpointConnector().withTasksMax(1).endCheckpointConnector()
+                        .build(),
+                new KafkaMirrorMaker2MirrorSpecBuilder()
+                        .withSourceCluster("b")
+                        .withTargetCluster("target")
+                        .withNewSourceConnector().withTasksMax(1).endSourceConnector()
+                        .build()));
+        return mirrorMaker2;
+    }
+
+    @Test
+    public void testReconcileConnectorsOnlyUpdatesChangedMirrors(VertxTestContext context) {
+        ResourceOperatorSupplier supplier = ResourceUtils.supplierWithMocks(true);
+        CrdOperator mockMirrorMaker2Ops = supplier.mirrorMaker2Operator;
+        when(mockMirrorMaker2Ops.getAsync(anyString(), anyString())).thenReturn(Future.succeededFuture());
+
+        String namespace = "test";
+        String host = KafkaMirrorMaker2Resources.qualifiedServiceName("foo", namespace);
+        Map<String, Object> runningStatus = Collections.singletonMap("connector", Collections.singletonMap("state", "RUNNING"));
+
+        // A Connect version without support for expand, so there are no configs in the list
+        Map<String, Map<String, Object>> running = new HashMap<>();
+        KafkaConnectApi mockConnectClient = mock(KafkaConnectApi.class);
+        when(mockConnectClient.listWithStatusAndInfo(anyString(), anyInt())).thenAnswer(i -> Future.succeededFuture(new HashMap<>(running)));
+        when(mockConnectClient.getConnectorConfig(any(), anyString(), anyInt(), anyString()))
+                .thenReturn(Future.failedFuture(new ConnectRestException("GET", "/connectors/config", 404, "Not Found", "")));
+        when(mockConnectClient.createOrUpdatePutRequest(anyString(), anyInt(), anyString(), any())).thenAnswer(i -> {
+            running.put(i.getArgument(2), Collections.emptyMap());
+            return Future.succeededFuture();
+        });
+        when(mockConnectClient.statusWithBackOff(any(), anyString(), anyInt(), anyString())).thenReturn(Future.succeededFuture(runningStatus));
+        when(mockConnectClient.status(anyString(), anyInt(), anyString())).thenReturn(Future.succeededFuture(runningStatus));
+
+        KafkaMirrorMaker2AssemblyOperator ops = new KafkaMirrorMaker2AssemblyOperator(vertx, new PlatformFeaturesAvailability(true, kubernetesVersion),
+                supplier, ResourceUtils.dummyClusterOperatorConfig(VERSIONS), x -> mockConnectClient);
+        Reconciliation reconciliation = new Reconciliation("test", KafkaMirrorMaker2.RESOURCE_KIND, namespace, "foo");
+
+        KafkaMirrorMaker2 mirrorMaker2 = mirrorMaker2WithMirrors(namespace, "foo", "topic-.*");
+        KafkaMirrorMaker2Status firstStatus = new KafkaMirrorMaker2Status();
+        KafkaMirrorMaker2Status secondStatus = new KafkaMirrorMaker2Status();
+
+        Checkpoint async = context.checkpoint();
+        ops.reconcileConnectors(reconciliation, mirrorMaker2, KafkaMirrorMaker2Cluster.fromCrd(mirrorMaker2, VERSIONS), firstStatus)
+            .compose(v -> {
+                context.verify(() -> {
+                    verify(mockConnectClient, times(3)).createOrUpdatePutRequest(anyString(), anyInt(), anyString(), any());
+                    assertThat(firstStatus.getConnectors().size(), is(3));
+                    assertThat(firstStatus.getMirrors().size(), is(2));
+                    assertThat(firstStatus.getMirrors().get(0).getSourceCluster(), is("a"));
+                    assertThat(firstStatus.getMirrors().get(0).getConditions().get(0).getType(), is("Ready"));
+                    assertThat(firstStatus.getMirrors().get(1).getSourceCluster(), is("b"));
+                    assertThat(firstStatus.getMirrors().get(1).getConfigHash(), is(notNullValue()));
+                });
+
+                // Only the connectors of the mirror whose config changed are reconfigured
+                KafkaMirrorMaker2 updated = mirrorMaker2WithMirrors(namespace, "foo", "other-.*");
+                updated.setStatus(firstStatus);
+                return ops.reconcileConnectors(reconciliation, updated, KafkaMirrorMaker2Cluster.fromCrd(updated, VERSIONS), secondStatus);
+            })
+            .setHandler(context.succeeding(v -> context.verify(() -> {
+                verify(mockConnectClient, times(5)).createOrUpdatePutRequest(anyString(), anyInt(), anyString(), any());
+                verify(mockConnectClient, times(2)).createOrUpdatePutRequest(eq(host), anyInt(), eq("a->target.MirrorSourceConnector"), any());
+                verify(mockConnectClient, times(1)).createOrUpdatePutRequest(eq(host), anyInt(), eq("b->target.MirrorSourceConnector"), any());
+                verify(mockConnectClient, times(1)).getConnectorConfig(any(), anyString(), anyInt(), eq("b->target.MirrorSourceConnector"));
+                verify(mockConnectClient, never()).delete(anyString(), anyInt(), anyString());
+
+                assertThat(secondStatus.getConnectors().size(), is(3));
+                assertThat(secondStatus.getMirrors().get(0).getConfigHash(), is(not(firstStatus.getMirrors().get(0).getConfigHash())));
+                assertThat(secondStatus.getMirrors().get(1).getConfigHash(), is(firstStatus.getMirrors().get(1).getConfigHash()));
+                async.flag();
+            })));
+    }
+
+    @Test
+    public void testDeleteRemovesTheConnectorLimiter(VertxTestContext context) {
+        ResourceOperatorSupplier supplier = ResourceUtils.supplierWithMocks(true);
+        when(supplier.kafkaConnectorOperator.listAsync(anyString(), any(Labels.class))).thenReturn(Future.succeededFuture(Collections.emptyList()));
+
+        String namespace = "test";
+        String host = KafkaMirrorMaker2Resources.qualifiedServiceName("foo", namespace);
+
+        KafkaMirrorMaker2AssemblyOperator ops = new KafkaMirrorMaker2AssemblyOperator(vertx, new PlatformFeaturesAvailability(true, kubernetesVersion),
+                supplier, ResourceUtils.dummyClusterOperatorConfig(VERSIONS), x -> mock(KafkaConnectApi.class));
+        Reconciliation reconciliation = new Reconciliation("test", KafkaMirrorMaker2.RESOURCE_KIND, namespace, "foo");
+        ConcurrencyLimiter limiter = ops.connectorLimiter(host);
+
+        Checkpoint async = context.checkpoint();
+        ops.delete(reconciliation).setHandler(context.succeeding(v -> context.verify(() -> {
+            assertThat(ops.connectorLimiter(host), is(not(sameInstance(limiter))));
+            async.flag();
+        })));
+    }
 }
@@ -420,16 +420,16 @@ public class KafkaRollerTest {
             String podName = invocationOnMock.getArgument(1);
             return readiness.apply(podName2Number(podName));
         });
-        when(podOps.isReady(anyString(), anyString())).thenAnswer(invocationOnMock ->  {
+        when(podOps.isReadyAsync(anyString(), anyString())).thenAnswer(invocationOnMock ->  {
             String podName = invocationOnMock.getArgument(1);
             Future<Void> ready = readiness.apply(podName2Number(podName));
             if (ready.succeeded()) {
-                return true;
+                return Future.succeededFuture(true);
             } else {
                 if (ready.cause() instanceof TimeoutException) {
-                    return false;
+                    return Future.succeededFuture(false);
                 } else {
-                    throw ready.cause();
+                    return Future.failedFuture(ready.cause());
                 }
             }
         });
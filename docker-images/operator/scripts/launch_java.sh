@@ -26,4 +26,9 @@ JAVA_OPTS="${JAVA_OPTS} -Dvertx.cacheDirBase=/tmp -Djava.security.egd=file:/dev/
 # Enable GC logging for memory tracking
 JAVA_OPTS="${JAVA_OPTS} $(get_gc_opts)"
 
+# Enable the tracing agent, which registers a Jaeger tracer configured by the JAEGER_* environment variables
+if [ "$STRIMZI_TRACING" = "jaeger" ]; then
+  JAVA_OPTS="${JAVA_OPTS} -javaagent:$(ls ${STRIMZI_HOME}/lib/io.strimzi.tracing-agent*.jar)=jaeger"
+fi
+
 exec /usr/bin/tini -w -e 143 -- java $JAVA_OPTS -classpath $JAVA_CLASSPATH $JAVA_MAIN $@
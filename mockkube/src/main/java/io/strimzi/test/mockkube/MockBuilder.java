@@ -31,6 +31,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Predicate;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
@@ -81,6 +82,9 @@ class MockBuilder<T extends HasMetadata,
     protected final String resourceType;
     protected final Collection<PredicatedWatcher<T>> watchers = Collections.synchronizedList(new ArrayList<>(2));
     private List<Observer<T>> observers = null;
+    /** The number of watches opened and of lists performed, for counting the calls made to the API server */
+    private final AtomicInteger numWatches = new AtomicInteger();
+    private final AtomicInteger numLists = new AtomicInteger();
 
     public void assertNumWatchers(int expectedNumWatchers) {
         if (watchers.size() != expectedNumWatchers) {
@@ -92,6 +96,14 @@ class MockBuilder<T extends HasMetadata,
         assertNumWatchers(0);
     }
 
+    public int getNumWatches() {
+        return numWatches.get();
+    }
+
+    public int getNumLists() {
+        return numLists.get();
+    }
+
     public MockBuilder(Class<T> resourceTypeClass, Class<L> listClass, Class<D> doneableClass,
                        Class<R> resourceClass, Map<String, T> db) {
         this.resourceTypeClass = resourceTypeClass;
@@ -132,6 +144,7 @@ class MockBuilder<T extends HasMetadata,
         MixedOperation<T, L, D, R> mixed = mock(MixedOperation.class);
 
         when(mixed.inNamespace(any())).thenReturn(mixed);
+        when(mixed.inAnyNamespace()).thenReturn(mixed);
         when(mixed.list()).thenAnswer(i -> mockList(p -> true));
         when(mixed.withLabels(any())).thenAnswer(i -> {
             MixedOperation<T, L, D, R> mixedWithLabels = mock(MixedOperation.class);
@@ -258,6 +271,7 @@ class MockBuilder<T extends HasMetadata,
 
     @SuppressWarnings("unchecked")
     private KubernetesResourceList<T> mockList(Predicate<? super T> predicate) {
+        numLists.incrementAndGet();
         KubernetesResourceList<T> l = mock(listClass);
         Collection<T> values;
         synchronized (db) {
@@ -411,6 +425,7 @@ class MockBuilder<T extends HasMetadata,
     }
 
     private Watch addWatcher(PredicatedWatcher<T> predicatedWatcher) {
+        numWatches.incrementAndGet();
         watchers.add(predicatedWatcher);
         return () -> {
             watchers.remove(predicatedWatcher);
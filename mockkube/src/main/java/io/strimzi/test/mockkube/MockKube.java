@@ -356,6 +356,20 @@ public class MockKube {
         return mockClient;
     }
 
+    /**
+     * @return The number of watches which were opened on all the mocked resources.
+     */
+    public int getNumWatches() {
+        return mockBuilders.values().stream().mapToInt(MockBuilder::getNumWatches).sum();
+    }
+
+    /**
+     * @return The number of lists which were performed on all the mocked resources.
+     */
+    public int getNumLists() {
+        return mockBuilders.values().stream().mapToInt(MockBuilder::getNumLists).sum();
+    }
+
     public String crdKey(CustomResourceDefinition crd) {
         return crd.getSpec().getGroup() + "##" + crd.getSpec().getVersion() + "##" + crd.getSpec().getNames().getKind();
     }
@@ -19,16 +19,13 @@ import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
 import java.io.ByteArrayInputStream;
-import java.io.File;
 import java.io.IOException;
 import java.nio.charset.StandardCharsets;
-import java.nio.file.Files;
-import java.security.KeyStoreException;
-import java.security.NoSuchAlgorithmException;
 import java.security.cert.Certificate;
 import java.security.cert.CertificateException;
 import java.security.cert.CertificateFactory;
 import java.security.cert.X509Certificate;
+import java.time.Duration;
 import java.time.Instant;
 import java.time.ZoneId;
 import java.time.chrono.IsoChronology;
@@ -41,8 +38,11 @@ import java.util.Collection;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Callable;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
@@ -64,6 +64,8 @@ public abstract class Ca {
 
     protected static final Logger log = LogManager.getLogger(Ca.class);
 
+    private static final CertificateCache CERTIFICATES = new CertificateCache(CertificateCache.DEFAULT_MAX_SECRETS);
+
     private static final DateTimeFormatter DATE_TIME_FORMATTER = new DateTimeFormatterBuilder()
             .appendValue(YEAR, 4, 10, SignStyle.EXCEEDS_PAD)
             .appendLiteral('-')
@@ -189,6 +191,7 @@ public abstract class Ca {
     private RenewalType renewalType;
     private boolean caCertsRemoved;
     private final CertificateExpirationPolicy policy;
+    private CertGenerationExecutor certGenerationExecutor;
 
     public Ca(CertManager certManager, PasswordGenerator passwordGenerator, String commonName,
               String caCertSecretName, Secret caCertSecret,
@@ -208,10 +211,14 @@ public abstract class Ca {
         this.renewalType = RenewalType.NOOP;
     }
 
-    private static void delete(File file) {
-        if (!file.delete()) {
-            log.warn("{} cannot be deleted", file.getName());
-        }
+    /**
+     * Sets the executor used to generate the certificates of the pods of a cluster in parallel, which also times
+     * the issuance of each of them. Without one, the certificates are generated one after another on the calling thread
+     * and, as there is then no metrics provider to record it to, their issuance is not timed.
+     * @param certGenerationExecutor The executor, or null.
+     */
+    public void setCertGenerationExecutor(CertGenerationExecutor certGenerationExecutor) {
+        this.certGenerationExecutor = certGenerationExecutor;
     }
 
     /**
@@ -249,48 +256,9 @@ public abstract class Ca {
     }
 
     public CertAndKey addKeyAndCertToKeyStore(String alias, byte[] key, byte[] cert) throws IOException {
-
-        File keyFile = File.createTempFile("tls", "key");
-        File certFile = File.createTempFile("tls", "cert");
-        File keyStoreFile = File.createTempFile("tls", "p12");
-
-        Files.write(keyFile.toPath(), key);
-        Files.write(certFile.toPath(), cert);
-
         String keyStorePassword = passwordGenerator.generate();
-        certManager.addKeyAndCertToKeyStore(keyFile, certFile, alias, keyStoreFile, keyStorePassword);
-
-        CertAndKey result = new CertAndKey(
-                Files.readAllBytes(keyFile.toPath()),
-                Files.readAllBytes(certFile.toPath()),
-                null,
-                Files.readAllBytes(keyStoreFile.toPath()),
-                keyStorePassword);
-
-        delete(keyFile);
-        delete(certFile);
-        delete(keyStoreFile);
-
-        return result;
-    }
-
-    /*test*/ CertAndKey generateSignedCert(Subject subject,
-                                            File csrFile, File keyFile, File certFile, File keyStoreFile) throws IOException {
-        log.debug("Generating certificate {} with SAN {}, signed by CA {}", subject, subject.subjectAltNames(), this);
-
-        certManager.generateCsr(keyFile, csrFile, subject);
-        certManager.generateCert(csrFile, currentCaKey(), currentCaCertBytes(),
-                certFile, subject, validityDays);
-
-        String keyStorePassword = passwordGenerator.generate();
-        certManager.addKeyAndCertToKeyStore(keyFile, certFile, subject.commonName(), keyStoreFile, keyStorePassword);
-
-        return new CertAndKey(
-                Files.readAllBytes(keyFile.toPath()),
-                Files.readAllBytes(certFile.toPath()),
-                null,
-                Files.readAllBytes(keyStoreFile.toPath()),
-                keyStorePassword);
+        byte[] keyStore = certManager.addKeyAndCertToKeyStore(key, cert, alias, keyStorePassword);
+        return new CertAndKey(key, cert, null, keyStore, keyStorePassword);
     }
 
     /**
@@ -311,11 +279,6 @@ public abstract class Ca {
      * @throws IOException If the cert could not be generated.
      */
     public CertAndKey generateSignedCert(String commonName, String organization) throws IOException {
-        File csrFile = File.createTempFile("tls", "csr");
-        File keyFile = File.createTempFile("tls", "key");
-        File certFile = File.createTempFile("tls", "cert");
-        File keyStoreFile = File.createTempFile("tls", "p12");
-
         Subject subject = new Subject();
 
         if (organization != null) {
@@ -324,14 +287,20 @@ public abstract class Ca {
 
         subject.setCommonName(commonName);
 
-        CertAndKey result = generateSignedCert(subject,
-                csrFile, keyFile, certFile, keyStoreFile);
+        return generateSignedCert(subject);
+    }
 
-        delete(csrFile);
-        delete(keyFile);
-        delete(certFile);
-        delete(keyStoreFile);
-        return result;
+    /**
+     * Generates a certificate signed by this CA, in memory, so that several certificates can be generated at the same time.
+     * @param subject The subject of the certificate to be generated.
+     * @return The CertAndKey
+     * @throws IOException If the cert could not be generated.
+     */
+    /*test*/ CertAndKey generateSignedCert(Subject subject) throws IOException {
+        log.debug("Generating certificate {} with SAN {}, signed by CA {}", subject, subject.subjectAltNames(), this);
+
+        CertAndKey certAndKey = certManager.generateSignedCert(subject, currentCaKey(), currentCaCertBytes(), validityDays);
+        return addKeyAndCertToKeyStore(subject.commonName(), certAndKey.key(), certAndKey.cert());
     }
 
     /**
@@ -347,12 +316,8 @@ public abstract class Ca {
         int replicasInSecret = secret == null || this.certRenewed() ? 0 :
                 (int) secret.getData().keySet().stream().filter(k -> k.contains(".crt")).count();
 
-        File brokerCsrFile = File.createTempFile("tls", "broker-csr");
-        File brokerKeyFile = File.createTempFile("tls", "broker-key");
-        File brokerCertFile = File.createTempFile("tls", "broker-cert");
-        File brokerKeyStoreFile = File.createTempFile("tls", "broker-p12");
-
-        Map<String, CertAndKey> certs = new HashMap<>();
+        Map<String, CertAndKey> certs = new LinkedHashMap<>();
+        Map<String, Subject> toGenerate = new LinkedHashMap<>();
         // copying the minimum number of certificates already existing in the secret
         // scale up -> it will copy all certificates
         // scale down -> it will copy just the requested number of replicas
@@ -379,7 +344,7 @@ public abstract class Ca {
 
             List<String> reasons = new ArrayList<>(2);
 
-            if (certSubjectChanged(certAndKey, subject, podName))   {
+            if (certSubjectChanged(secret, certAndKey, subject, podName))   {
                 reasons.add("DNS names changed");
             }
 
@@ -394,8 +359,9 @@ public abstract class Ca {
             if (!reasons.isEmpty())  {
                 log.debug("Certificate for pod {} need to be regenerated because: {}", podName, String.join(", ", reasons));
 
-                CertAndKey newCertAndKey = generateSignedCert(subject, brokerCsrFile, brokerKeyFile, brokerCertFile, brokerKeyStoreFile);
-                certs.put(podName, newCertAndKey);
+                // keep the position of the pod in the map, the new certificate replaces it below
+                certs.put(podName, null);
+                toGenerate.put(podName, subject);
             }   else {
                 certs.put(podName, certAndKey);
             }
@@ -408,18 +374,40 @@ public abstract class Ca {
             String podName = podNameFn.apply(i);
 
             log.debug("Certificate for {} to generate", podName);
-            CertAndKey k = generateSignedCert(subjectFn.apply(i),
-                    brokerCsrFile, brokerKeyFile, brokerCertFile, brokerKeyStoreFile);
-            certs.put(podName, k);
+            certs.put(podName, null);
+            toGenerate.put(podName, subjectFn.apply(i));
         }
-        delete(brokerCsrFile);
-        delete(brokerKeyFile);
-        delete(brokerCertFile);
-        delete(brokerKeyStoreFile);
+
+        certs.putAll(generateSignedCerts(toGenerate));
 
         return certs;
     }
 
+    /**
+     * Generates a certificate signed by this CA for each of the given subjects, in parallel and timed when
+     * a {@link CertGenerationExecutor} has been set, otherwise one after another.
+     *
+     * @param subjects The subjects of the certificates, keyed by the name of the pod they are for.
+     * @return The certificates, keyed by the name of the pod they are for.
+     * @throws IOException If any of the certificates could not be generated.
+     */
+    private Map<String, CertAndKey> generateSignedCerts(Map<String, Subject> subjects) throws IOException {
+        if (certGenerationExecutor == null) {
+            Map<String, CertAndKey> certs = new LinkedHashMap<>(subjects.size());
+            for (Map.Entry<String, Subject> entry : subjects.entrySet()) {
+                certs.put(entry.getKey(), generateSignedCert(entry.getValue()));
+            }
+            return certs;
+        }
+
+        Map<String, Callable<CertAndKey>> tasks = new LinkedHashMap<>(subjects.size());
+        for (Map.Entry<String, Subject> entry : subjects.entrySet()) {
+            Subject subject = entry.getValue();
+            tasks.put(entry.getKey(), () -> generateSignedCert(subject));
+        }
+        return certGenerationExecutor.generate(tasks);
+    }
+
     /**
      * Returns whether the certificate is expiring or not
      *
@@ -444,14 +432,24 @@ public abstract class Ca {
     /**
      * Checks whether subject alternate names changed and certificate needs a renewal
      *
+     * @param secret    Secret with the current certificate
      * @param certAndKey    Current certificate
      * @param desiredSubject    Desired subject alternate names
      * @param podName   Name of the pod to which this certificate belongs (used for log messages)
      * @return  True if the subjects are different, false otherwise
      */
-    /*test*/ boolean certSubjectChanged(CertAndKey certAndKey, Subject desiredSubject, String podName)    {
+    /*test*/ boolean certSubjectChanged(Secret secret, CertAndKey certAndKey, Subject desiredSubject, String podName)    {
         Collection<String> desiredAltNames = desiredSubject.subjectAltNames().values();
-        Collection<String> currentAltNames = getSubjectAltNames(certAndKey.cert());
+        Collection<String> currentAltNames;
+        try {
+            // certAndKey holds the certificate of the pod in the secret, whose alternate names are cached
+            CertificateCache.CachedCertificate cert = CERTIFICATES.get(secret, podName + ".crt");
+            currentAltNames = cert != null && !cert.subjectAltNames().isEmpty() ? cert.subjectAltNames() : getSubjectAltNames(certAndKey.cert());
+        } catch (CertificateException | RuntimeException e) {
+            // TODO: We should mock the certificates properly so that this doesn't fail in tests (not now => long term :-o)
+            log.debug("Failed to parse existing certificate", e);
+            currentAltNames = null;
+        }
 
         if (currentAltNames != null && desiredAltNames.containsAll(currentAltNames) && currentAltNames.containsAll(desiredAltNames))   {
             log.trace("Alternate subjects match. No need to refresh cert for pod {}.", podName);
@@ -781,16 +779,10 @@ public abstract class Ca {
         if (removed.size() > 0) {
             // the certificates removed from the Secret data has tobe removed from the store as well
             try {
-                File trustStoreFile = File.createTempFile("tls", "-truststore");
-                Files.write(trustStoreFile.toPath(), Base64.getDecoder().decode(newData.get(CA_STORE)));
-                try {
-                    String trustStorePassword = new String(Base64.getDecoder().decode(newData.get(CA_STORE_PASSWORD)), StandardCharsets.US_ASCII);
-                    certManager.deleteFromTrustStore(removed, trustStoreFile, trustStorePassword);
-                    newData.put(CA_STORE, Base64.getEncoder().encodeToString(Files.readAllBytes(trustStoreFile.toPath())));
-                } finally {
-                    delete(trustStoreFile);
-                }
-            } catch (IOException | CertificateException | KeyStoreException | NoSuchAlgorithmException e) {
+                String trustStorePassword = new String(Base64.getDecoder().decode(newData.get(CA_STORE_PASSWORD)), StandardCharsets.US_ASCII);
+                byte[] trustStore = certManager.deleteFromTrustStore(removed, Base64.getDecoder().decode(newData.get(CA_STORE)), trustStorePassword);
+                newData.put(CA_STORE, Base64.getEncoder().encodeToString(trustStore));
+            } catch (IOException e) {
                 throw new RuntimeException(e);
             }
         }
@@ -798,6 +790,31 @@ public abstract class Ca {
         return removed.size();
     }
 
+    /**
+     * Returns when the renewal period of the next certificate in the given {@code Secrets} opens, according to the
+     * certificates which have been read from them. Certificates already within their renewal period are ignored.
+     *
+     * @param namespace The namespace of the Secrets.
+     * @param secretNames The names of the Secrets with certificates signed by this CA.
+     * @return When the renewal period opens, or null if there's no such certificate.
+     */
+    public Instant nextRenewalPeriodStart(String namespace, Set<String> secretNames) {
+        Duration renewalPeriod = Duration.ofDays(renewalDays);
+        CertificateCache.Expiry expiry = CERTIFICATES.firstExpiryAfter(Instant.now().plus(renewalPeriod), namespace, secretNames);
+        if (expiry == null) {
+            return null;
+        }
+        log.debug("{}: Next certificate to renew is {}", this, expiry);
+        return expiry.notAfter().minus(renewalPeriod);
+    }
+
+    /**
+     * @return The cache of the certificates parsed out of Secrets.
+     */
+    public static CertificateCache certificateCache() {
+        return CERTIFICATES;
+    }
+
     public boolean certNeedsRenewal(X509Certificate cert)  {
         Date notAfter = cert.getNotAfter();
         log.trace("Certificate {} expires on {}", cert.getSubjectDN(), notAfter);
@@ -817,13 +834,20 @@ public abstract class Ca {
     }
 
     public static X509Certificate cert(Secret secret, String key)  {
-        if (secret == null || secret.getData() == null || secret.getData().get(key) == null) {
-            return null;
-        }
-        Base64.Decoder decoder = Base64.getDecoder();
-        byte[] bytes = decoder.decode(secret.getData().get(key));
+        CertificateCache.CachedCertificate cert = cachedCert(secret, key);
+        return cert != null ? cert.certificate() : null;
+    }
+
+    /**
+     * Returns the certificate in the given {@code key} of the given {@code secret} from the {@link #certificateCache()}.
+     *
+     * @param secret    Secret with a certificates
+     * @param key   Key under which the certificate is stored
+     * @return  The certificate, or null if the {@code secret} doesn't have the given {@code key}
+     */
+    private static CertificateCache.CachedCertificate cachedCert(Secret secret, String key)  {
         try {
-            return x509Certificate(bytes);
+            return CERTIFICATES.get(secret, key);
         } catch (CertificateException e) {
             throw new RuntimeException("Failed to decode certificate in data." + key.replace(".", "\\.") + " of Secret " + secret.getMetadata().getName(), e);
         }
@@ -855,28 +879,15 @@ public abstract class Ca {
 
     private void addCertCaToTrustStore(String alias, Map<String, String> certData) {
         try {
-            File certFile = File.createTempFile("tls", "-cert");
-            Files.write(certFile.toPath(), Base64.getDecoder().decode(certData.get(CA_CRT)));
-            try {
-                File trustStoreFile = File.createTempFile("tls", "-truststore");
-                if (certData.containsKey(CA_STORE)) {
-                    Files.write(trustStoreFile.toPath(), Base64.getDecoder().decode(certData.get(CA_STORE)));
-                }
-                try {
-                    String trustStorePassword = certData.containsKey(CA_STORE_PASSWORD) ?
-                            new String(Base64.getDecoder().decode(certData.get(CA_STORE_PASSWORD)), StandardCharsets.US_ASCII) :
-                            passwordGenerator.generate();
-                    certManager.addCertToTrustStore(certFile, alias, trustStoreFile, trustStorePassword);
-                    certData.put(CA_STORE, Base64.getEncoder().encodeToString(Files.readAllBytes(trustStoreFile.toPath())));
-                    certData.put(CA_STORE_PASSWORD, Base64.getEncoder().encodeToString(trustStorePassword.getBytes(StandardCharsets.US_ASCII)));
-                } finally {
-                    delete(trustStoreFile);
-                }
-            } finally {
-                delete(certFile);
-            }
-
-        } catch (IOException | CertificateException | KeyStoreException | NoSuchAlgorithmException e) {
+            String trustStorePassword = certData.containsKey(CA_STORE_PASSWORD) ?
+                    new String(Base64.getDecoder().decode(certData.get(CA_STORE_PASSWORD)), StandardCharsets.US_ASCII) :
+                    passwordGenerator.generate();
+            byte[] trustStore = certManager.addCertToTrustStore(Base64.getDecoder().decode(certData.get(CA_CRT)), alias,
+                    certData.containsKey(CA_STORE) ? Base64.getDecoder().decode(certData.get(CA_STORE)) : null,
+                    trustStorePassword);
+            certData.put(CA_STORE, Base64.getEncoder().encodeToString(trustStore));
+            certData.put(CA_STORE_PASSWORD, Base64.getEncoder().encodeToString(trustStorePassword.getBytes(StandardCharsets.US_ASCII)));
+        } catch (IOException e) {
             throw new RuntimeException(e);
         }
     }
@@ -884,42 +895,27 @@ public abstract class Ca {
     private void generateCaKeyAndCert(Subject subject, Map<String, String> keyData, Map<String, String> certData) {
         try {
             log.debug("Generating CA with subject={}", subject);
-            File keyFile = File.createTempFile("tls", subject.commonName() + "-key");
-            try {
-                File certFile = File.createTempFile("tls", subject.commonName() + "-cert");
-                try {
-                    File trustStoreFile = File.createTempFile("tls", subject.commonName() + "-truststore");
-                    String trustStorePassword;
-                    // if secret already contains the truststore, we have to reuse it without changing password
-                    if (certData.containsKey(CA_STORE)) {
-                        Files.write(trustStoreFile.toPath(), Base64.getDecoder().decode(certData.get(CA_STORE)));
-                        trustStorePassword = new String(Base64.getDecoder().decode(certData.get(CA_STORE_PASSWORD)), StandardCharsets.US_ASCII);
-                    } else {
-                        trustStorePassword = passwordGenerator.generate();
-                    }
-                    try {
-                        certManager.generateSelfSignedCert(keyFile, certFile, subject, validityDays);
-                        certManager.addCertToTrustStore(certFile, CA_CRT, trustStoreFile, trustStorePassword);
-                        CertAndKey ca = new CertAndKey(
-                                Files.readAllBytes(keyFile.toPath()),
-                                Files.readAllBytes(certFile.toPath()),
-                                Files.readAllBytes(trustStoreFile.toPath()),
-                                null,
-                                trustStorePassword);
-                        certData.put(CA_CRT, ca.certAsBase64String());
-                        keyData.put(CA_KEY, ca.keyAsBase64String());
-                        certData.put(CA_STORE, ca.trustStoreAsBase64String());
-                        certData.put(CA_STORE_PASSWORD, ca.storePasswordAsBase64String());
-                    } finally {
-                        delete(trustStoreFile);
-                    }
-                } finally {
-                    delete(certFile);
-                }
-            } finally {
-                delete(keyFile);
+            byte[] trustStore = null;
+            String trustStorePassword;
+            // if secret already contains the truststore, we have to reuse it without changing password
+            if (certData.containsKey(CA_STORE)) {
+                trustStore = Base64.getDecoder().decode(certData.get(CA_STORE));
+                trustStorePassword = new String(Base64.getDecoder().decode(certData.get(CA_STORE_PASSWORD)), StandardCharsets.US_ASCII);
+            } else {
+                trustStorePassword = passwordGenerator.generate();
             }
-        } catch (IOException | CertificateException | KeyStoreException | NoSuchAlgorithmException e) {
+            CertAndKey keyAndCert = certManager.generateSelfSignedCert(subject, validityDays);
+            CertAndKey ca = new CertAndKey(
+                    keyAndCert.key(),
+                    keyAndCert.cert(),
+                    certManager.addCertToTrustStore(keyAndCert.cert(), CA_CRT, trustStore, trustStorePassword),
+                    null,
+                    trustStorePassword);
+            certData.put(CA_CRT, ca.certAsBase64String());
+            keyData.put(CA_KEY, ca.keyAsBase64String());
+            certData.put(CA_STORE, ca.trustStoreAsBase64String());
+            certData.put(CA_STORE_PASSWORD, ca.storePasswordAsBase64String());
+        } catch (IOException e) {
             throw new RuntimeException(e);
         }
     }
@@ -930,35 +926,18 @@ public abstract class Ca {
 
             Base64.Decoder decoder = Base64.getDecoder();
             byte[] bytes = decoder.decode(caKeySecret.getData().get(CA_KEY));
-            File keyFile = File.createTempFile("tls", subject.commonName() + "-key");
-            try {
-                Files.write(keyFile.toPath(), bytes);
-                File certFile = File.createTempFile("tls", subject.commonName() + "-cert");
-                try {
-                    File trustStoreFile = File.createTempFile("tls", subject.commonName() + "-truststore");
-                    try {
-                        String trustStorePassword = passwordGenerator.generate();
-                        certManager.renewSelfSignedCert(keyFile, certFile, subject, validityDays);
-                        certManager.addCertToTrustStore(certFile, CA_CRT, trustStoreFile, trustStorePassword);
-                        CertAndKey ca = new CertAndKey(
-                                bytes,
-                                Files.readAllBytes(certFile.toPath()),
-                                Files.readAllBytes(trustStoreFile.toPath()),
-                                null,
-                                trustStorePassword);
-                        certData.put(CA_CRT, ca.certAsBase64String());
-                        certData.put(CA_STORE, ca.trustStoreAsBase64String());
-                        certData.put(CA_STORE_PASSWORD, ca.storePasswordAsBase64String());
-                    } finally {
-                        delete(trustStoreFile);
-                    }
-                } finally {
-                    delete(certFile);
-                }
-            } finally {
-                delete(keyFile);
-            }
-        } catch (IOException | CertificateException | KeyStoreException | NoSuchAlgorithmException e) {
+            String trustStorePassword = passwordGenerator.generate();
+            byte[] cert = certManager.renewSelfSignedCert(bytes, subject, validityDays);
+            CertAndKey ca = new CertAndKey(
+                    bytes,
+                    cert,
+                    certManager.addCertToTrustStore(cert, CA_CRT, null, trustStorePassword),
+                    null,
+                    trustStorePassword);
+            certData.put(CA_CRT, ca.certAsBase64String());
+            certData.put(CA_STORE, ca.trustStoreAsBase64String());
+            certData.put(CA_STORE_PASSWORD, ca.storePasswordAsBase64String());
+        } catch (IOException e) {
             throw new RuntimeException(e);
         }
     }
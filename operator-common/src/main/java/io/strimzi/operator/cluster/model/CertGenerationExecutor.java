@@ -0,0 +1,130 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.cluster.model;
+
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import io.strimzi.certs.CertAndKey;
+import io.strimzi.operator.common.AbstractOperator;
+import io.strimzi.operator.common.MetricsProvider;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * <p>A bounded pool of threads on which a {@link Ca} generates the certificates of the pods of a cluster
+ * in parallel, rather than one after another on the thread reconciling the cluster.</p>
+ *
+ * <p>The time taken to issue each certificate is recorded in the {@value #ISSUANCE_METRIC} timer.</p>
+ */
+public class CertGenerationExecutor implements AutoCloseable {
+
+    public static final String ISSUANCE_METRIC = AbstractOperator.METRICS_PREFIX + "certificate.issuance";
+
+    private final ExecutorService executor;
+    private final Timer issuanceTimer;
+
+    /**
+     * @param threads The maximum number of certificates generated at the same time.
+     * @param metrics The metrics provider.
+     */
+    public CertGenerationExecutor(int threads, MetricsProvider metrics) {
+        if (threads <= 0) {
+            throw new IllegalArgumentException("The number of threads must be greater than zero");
+        }
+        AtomicInteger count = new AtomicInteger();
+        this.executor = Executors.newFixedThreadPool(threads, runnable -> {
+            Thread thread = new Thread(runnable, "cert-generation-" + count.getAndIncrement());
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.issuanceTimer = metrics.timer(ISSUANCE_METRIC,
+                "The time taken to generate a key, certificate and keystore signed by a CA",
+                Tags.empty());
+    }
+
+    /**
+     * Generates the certificates in parallel and waits until all of them have been generated.
+     * A single certificate is generated on the calling thread, which saves handing it over to the pool.
+     *
+     * @param tasks The tasks generating each certificate, keyed by the name of the pod they are for.
+     * @param <K> The type of the keys.
+     * @return The certificates, in the iteration order of the given {@code tasks}.
+     * @throws IOException If any of the certificates could not be generated.
+     */
+    public <K> Map<K, CertAndKey> generate(Map<K, Callable<CertAndKey>> tasks) throws IOException {
+        if (tasks.size() <= 1) {
+            Map<K, CertAndKey> certs = new LinkedHashMap<>(tasks.size());
+            try {
+                for (Map.Entry<K, Callable<CertAndKey>> task : tasks.entrySet()) {
+                    certs.put(task.getKey(), timed(task.getValue()).call());
+                }
+            } catch (IOException | RuntimeException e) {
+                throw e;
+            } catch (Exception e) {
+                throw new IOException("Failed to generate certificates", e);
+            }
+            return certs;
+        }
+
+        List<Future<CertAndKey>> futures = new ArrayList<>(tasks.size());
+        for (Callable<CertAndKey> task : tasks.values()) {
+            futures.add(executor.submit(timed(task)));
+        }
+
+        Map<K, CertAndKey> certs = new LinkedHashMap<>(tasks.size());
+        int i = 0;
+        try {
+            for (K key : tasks.keySet()) {
+                certs.put(key, futures.get(i++).get());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while generating certificates", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof IOException) {
+                throw (IOException) e.getCause();
+            }
+            throw new IOException("Failed to generate certificates", e.getCause());
+        } finally {
+            // Don't keep generating certificates nobody is waiting for
+            futures.forEach(future -> future.cancel(true));
+        }
+        return certs;
+    }
+
+    /**
+     * @param task The task generating a certificate.
+     * @return A task which records the time taken by the given {@code task} in the {@value #ISSUANCE_METRIC} timer.
+     */
+    private Callable<CertAndKey> timed(Callable<CertAndKey> task) {
+        return () -> {
+            long start = System.nanoTime();
+            try {
+                return task.call();
+            } finally {
+                issuanceTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            }
+        };
+    }
+
+    /**
+     * Stops the threads.
+     */
+    @Override
+    public void close() {
+        executor.shutdownNow();
+    }
+}
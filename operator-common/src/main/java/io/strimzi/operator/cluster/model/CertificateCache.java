@@ -0,0 +1,267 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.cluster.model;
+
+import io.fabric8.kubernetes.api.model.ObjectMeta;
+import io.fabric8.kubernetes.api.model.Secret;
+
+import java.security.cert.CertificateException;
+import java.security.cert.CertificateParsingException;
+import java.security.cert.X509Certificate;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * <p>A cache of the certificates parsed out of {@code Secrets}, keyed by the UID and {@code resourceVersion} of
+ * the {@code Secret}, so that the same certificates aren't decoded and parsed again in every reconciliation.</p>
+ *
+ * <p>It also keeps an index of the cached certificates ordered by expiry, so that the operator can find out
+ * when the renewal period of the next certificate opens.</p>
+ *
+ * <p>Only the {@code Secrets} read from Kubernetes are cached: those built by the operator have neither a UID nor a
+ * {@code resourceVersion}. When the cache is full the least recently used {@code Secret} is evicted.</p>
+ */
+public class CertificateCache {
+
+    public static final int DEFAULT_MAX_SECRETS = 1000;
+
+    /**
+     * A parsed certificate, with its expiry and subject alternative names.
+     */
+    public static class CachedCertificate {
+        private final X509Certificate certificate;
+        private final Instant notAfter;
+        private final Set<String> subjectAltNames;
+
+        CachedCertificate(X509Certificate certificate) throws CertificateParsingException {
+            this.certificate = certificate;
+            this.notAfter = certificate.getNotAfter().toInstant();
+            Collection<List<?>> altNames = certificate.getSubjectAlternativeNames();
+            Set<String> names = new HashSet<>();
+            if (altNames != null) {
+                for (List<?> altName : altNames) {
+                    if (altName.get(1) instanceof String) {
+                        names.add((String) altName.get(1));
+                    }
+                }
+            }
+            this.subjectAltNames = Collections.unmodifiableSet(names);
+        }
+
+        public X509Certificate certificate() {
+            return certificate;
+        }
+
+        public Instant notAfter() {
+            return notAfter;
+        }
+
+        /**
+         * @return The subject alternative names, which is empty when the certificate doesn't have any.
+         */
+        public Set<String> subjectAltNames() {
+            return subjectAltNames;
+        }
+    }
+
+    /**
+     * The expiry of a certificate in the index.
+     */
+    public static class Expiry implements Comparable<Expiry> {
+        private final Instant notAfter;
+        private final String namespace;
+        private final String secretName;
+        private final String key;
+
+        Expiry(Instant notAfter, String namespace, String secretName, String key) {
+            this.notAfter = notAfter;
+            this.namespace = namespace;
+            this.secretName = secretName;
+            this.key = key;
+        }
+
+        public Instant notAfter() {
+            return notAfter;
+        }
+
+        public String namespace() {
+            return namespace;
+        }
+
+        public String secretName() {
+            return secretName;
+        }
+
+        public String key() {
+            return key;
+        }
+
+        @Override
+        public int compareTo(Expiry other) {
+            int cmp = notAfter.compareTo(other.notAfter);
+            if (cmp == 0) {
+                cmp = namespace.compareTo(other.namespace);
+            }
+            if (cmp == 0) {
+                cmp = secretName.compareTo(other.secretName);
+            }
+            if (cmp == 0) {
+                cmp = key.compareTo(other.key);
+            }
+            return cmp;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            Expiry expiry = (Expiry) o;
+            return notAfter.equals(expiry.notAfter)
+                    && namespace.equals(expiry.namespace)
+                    && secretName.equals(expiry.secretName)
+                    && key.equals(expiry.key);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(notAfter, namespace, secretName, key);
+        }
+
+        @Override
+        public String toString() {
+            return "data." + key + " of Secret " + namespace + "/" + secretName + " expires on " + notAfter;
+        }
+    }
+
+    /**
+     * The certificates of one version of a Secret.
+     */
+    private static class SecretCertificates {
+        private final String resourceVersion;
+        private final Map<String, CachedCertificate> certificates = new HashMap<>();
+        private final List<Expiry> expiries = new ArrayList<>();
+
+        SecretCertificates(String resourceVersion) {
+            this.resourceVersion = resourceVersion;
+        }
+    }
+
+    private final Map<String, SecretCertificates> secrets;
+    private final TreeSet<Expiry> expiryIndex = new TreeSet<>();
+
+    /**
+     * @param maxSecrets The maximum number of {@code Secrets} whose certificates are cached.
+     */
+    public CertificateCache(int maxSecrets) {
+        this.secrets = new LinkedHashMap<String, SecretCertificates>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, SecretCertificates> eldest) {
+                if (size() > maxSecrets) {
+                    unindex(eldest.getValue());
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    /**
+     * Returns the certificate in the given {@code key} of the given {@code secret}, parsing it only if it's not
+     * already cached for the current version of the {@code secret}.
+     *
+     * @param secret The Secret.
+     * @param key The key of the certificate in the data of the Secret.
+     * @return The certificate, or null if the {@code secret} doesn't have the given {@code key}.
+     * @throws CertificateException If the certificate could not be parsed.
+     */
+    public CachedCertificate get(Secret secret, String key) throws CertificateException {
+        if (secret == null || secret.getData() == null || secret.getData().get(key) == null) {
+            return null;
+        }
+        ObjectMeta metadata = secret.getMetadata();
+        String uid = metadata != null ? metadata.getUid() : null;
+        String resourceVersion = metadata != null ? metadata.getResourceVersion() : null;
+
+        if (uid != null && resourceVersion != null) {
+            synchronized (this) {
+                SecretCertificates cached = secrets.get(uid);
+                if (cached != null && cached.resourceVersion.equals(resourceVersion)) {
+                    CachedCertificate certificate = cached.certificates.get(key);
+                    if (certificate != null) {
+                        return certificate;
+                    }
+                }
+            }
+        }
+
+        // Parse outside of the lock, parsing the same certificate twice is harmless
+        CachedCertificate certificate = new CachedCertificate(
+                Ca.x509Certificate(Base64.getDecoder().decode(secret.getData().get(key))));
+
+        if (uid != null && resourceVersion != null) {
+            synchronized (this) {
+                SecretCertificates cached = secrets.get(uid);
+                if (cached == null || !cached.resourceVersion.equals(resourceVersion)) {
+                    if (cached != null) {
+                        unindex(cached);
+                    }
+                    cached = new SecretCertificates(resourceVersion);
+                    secrets.put(uid, cached);
+                }
+                if (cached.certificates.put(key, certificate) == null) {
+                    Expiry expiry = new Expiry(certificate.notAfter(),
+                            metadata.getNamespace() != null ? metadata.getNamespace() : "", metadata.getName(), key);
+                    cached.expiries.add(expiry);
+                    expiryIndex.add(expiry);
+                }
+            }
+        }
+        return certificate;
+    }
+
+    /** Guarded by {@code this}. */
+    private void unindex(SecretCertificates cached) {
+        cached.expiries.forEach(expiryIndex::remove);
+    }
+
+    /**
+     * Returns the first certificate of the given {@code Secrets} which expires after the given instant.
+     *
+     * @param after The instant.
+     * @param namespace The namespace of the Secrets.
+     * @param secretNames The names of the Secrets.
+     * @return The expiry of the certificate, or null if none of the cached certificates of the Secrets expires after the instant.
+     */
+    public synchronized Expiry firstExpiryAfter(Instant after, String namespace, Set<String> secretNames) {
+        for (Expiry expiry : expiryIndex.tailSet(new Expiry(after, "", "", ""), false)) {
+            if (expiry.namespace().equals(namespace) && secretNames.contains(expiry.secretName())) {
+                return expiry;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * @return The number of Secrets whose certificates are cached.
+     */
+    public synchronized int size() {
+        return secrets.size();
+    }
+}
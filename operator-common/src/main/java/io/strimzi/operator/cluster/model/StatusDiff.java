@@ -20,7 +20,8 @@ public class StatusDiff extends AbstractResourceDiff {
     private static final Logger log = LogManager.getLogger(StatusDiff.class.getName());
 
     private static final Pattern IGNORABLE_PATHS = Pattern.compile(
-            "^(/conditions/[0-9]+/lastTransitionTime)$");
+            "^(/conditions/[0-9]+/lastTransitionTime"
+            + "|/mirrors/[0-9]+/conditions/[0-9]+/lastTransitionTime)$");
 
     private final boolean isEmpty;
 
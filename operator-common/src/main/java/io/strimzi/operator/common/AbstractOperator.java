@@ -12,6 +12,8 @@ import io.micrometer.core.instrument.Counter;
 import io.micrometer.core.instrument.Tag;
 import io.micrometer.core.instrument.Tags;
 import io.micrometer.core.instrument.Timer;
+import io.opentracing.Scope;
+import io.opentracing.Span;
 import io.strimzi.operator.cluster.model.InvalidResourceException;
 import io.strimzi.operator.common.model.NamespaceAndName;
 import io.strimzi.operator.common.model.ResourceVisitor;
@@ -166,27 +168,35 @@ public abstract class AbstractOperator<
         reconciliationsCounter.increment();
         Timer.Sample reconciliationTimerSample = Timer.start(metrics.meterRegistry());
 
+        Span span = Tracing.startSpan("reconcile", kind, namespace, name);
+        reconciliation.span(span);
+
         Future<Void> handler = withLock(reconciliation, LOCK_TIMEOUT_MS, () -> {
-            T cr = resourceOperator.get(namespace, name);
-            if (cr != null) {
-                validate(cr);
-                log.info("{}: {} {} should be created or updated", reconciliation, kind, name);
-                return createOrUpdate(reconciliation, cr).recover(createResult -> {
-                    log.error("{}: createOrUpdate failed", reconciliation, createResult);
-                    return Future.failedFuture(createResult);
-                });
-            } else {
-                log.info("{}: {} {} should be deleted", reconciliation, kind, name);
-                return delete(reconciliation).map(deleteResult -> {
-                    if (deleteResult) {
-                        log.info("{}: {} {} deleted", reconciliation, kind, name);
+            try (Scope scope = Tracing.tracer().activateSpan(span)) {
+                return resourceOperator.getAsync(namespace, name).compose(cr -> {
+                    if (cr != null) {
+                        validate(cr);
+                        log.info("{}: {} {} should be created or updated", reconciliation, kind, name);
+                        return Tracing.traced(Tracing.startSpan("createOrUpdate", span, kind, namespace, name),
+                            () -> createOrUpdate(reconciliation, cr)).recover(createResult -> {
+                                log.error("{}: createOrUpdate failed", reconciliation, createResult);
+                                return Future.failedFuture(createResult);
+                            });
                     } else {
-                        log.info("{}: Assembly {} should be deleted by garbage collection", reconciliation, name);
+                        log.info("{}: {} {} should be deleted", reconciliation, kind, name);
+                        return Tracing.traced(Tracing.startSpan("delete", span, kind, namespace, name),
+                            () -> delete(reconciliation)).map(deleteResult -> {
+                                if (deleteResult) {
+                                    log.info("{}: {} {} deleted", reconciliation, kind, name);
+                                } else {
+                                    log.info("{}: Assembly {} should be deleted by garbage collection", reconciliation, name);
+                                }
+                                return (Void) null;
+                            }).recover(deleteResult -> {
+                                log.error("{}: Deletion of {} {} failed", reconciliation, kind, name, deleteResult);
+                                return Future.failedFuture(deleteResult);
+                            });
                     }
-                    return (Void) null;
-                }).recover(deleteResult -> {
-                    log.error("{}: Deletion of {} {} failed", reconciliation, kind, name, deleteResult);
-                    return Future.failedFuture(deleteResult);
                 });
             }
         });
@@ -194,6 +204,7 @@ public abstract class AbstractOperator<
         Promise<Void> result = Promise.promise();
         handler.setHandler(reconcileResult -> {
             handleResult(reconciliation, reconcileResult, reconciliationTimerSample);
+            Tracing.finish(span, reconcileResult);
             result.handle(reconcileResult);
         });
 
@@ -217,10 +228,21 @@ public abstract class AbstractOperator<
      * @return
      */
     protected final <T> Future<T> withLock(Reconciliation reconciliation, long lockTimeoutMs, Callable<Future<T>> callable) {
+        return withLock(reconciliation, getLockName(reconciliation.namespace(), reconciliation.name()), lockTimeoutMs, callable);
+    }
+
+    /**
+     * Like {@link #withLock(Reconciliation, long, Callable)}, but with the lock of the given name, for the operators
+     * which guard a part of a resource with a lock of its own.
+     * @param reconciliation The reconciliation
+     * @param lockName The name of the lock
+     * @param lockTimeoutMs The timeout for acquiring the lock
+     * @param callable The callable to call with the lock held
+     * @param <T> The type of the result of the callable
+     * @return A Future which is completed with the result of the callable.
+     */
+    protected final <T> Future<T> withLock(Reconciliation reconciliation, String lockName, long lockTimeoutMs, Callable<Future<T>> callable) {
         Promise<T> handler = Promise.promise();
-        String namespace = reconciliation.namespace();
-        String name = reconciliation.name();
-        final String lockName = getLockName(namespace, name);
         vertx.sharedData().getLockWithTimeout(lockName, lockTimeoutMs, res -> {
             if (res.succeeded()) {
                 log.debug("{}: Lock {} acquired", reconciliation, lockName);
@@ -292,6 +314,20 @@ public abstract class AbstractOperator<
         return async(vertx, () -> resourceOperator.watch(namespace, selector(), new OperatorWatcher<>(this, namespace, onClose)));
     }
 
+    /**
+     * Create a single Kubernetes watch across all namespaces, which only reconciles the resources in the given
+     * namespaces. This is used instead of one watch per namespace when the operator watches many namespaces.
+     *
+     * @param namespaces Namespaces where to watch for resources.
+     * @param onClose Callback called when the watch is closed.
+     *
+     * @return A future which completes when the watcher has been created.
+     */
+    public Future<Watch> createWatch(Set<String> namespaces, Consumer<KubernetesClientException> onClose) {
+        return async(vertx, () -> resourceOperator.watch(AbstractWatchableResourceOperator.ANY_NAMESPACE, selector(),
+                new OperatorWatcher<>(this, namespaces, onClose)));
+    }
+
     public Consumer<KubernetesClientException> recreateWatch(String namespace) {
         Consumer<KubernetesClientException> kubernetesClientExceptionConsumer = new Consumer<KubernetesClientException>() {
             @Override
@@ -307,6 +343,20 @@ public abstract class AbstractOperator<
         return kubernetesClientExceptionConsumer;
     }
 
+    public Consumer<KubernetesClientException> recreateWatch(Set<String> namespaces) {
+        return new Consumer<KubernetesClientException>() {
+            @Override
+            public void accept(KubernetesClientException e) {
+                if (e != null) {
+                    log.error("Watcher closed with exception in namespaces {}", namespaces, e);
+                    createWatch(namespaces, this);
+                } else {
+                    log.info("Watcher closed in namespaces {}", namespaces);
+                }
+            }
+        };
+    }
+
     /**
      * Log the reconciliation outcome.
      */
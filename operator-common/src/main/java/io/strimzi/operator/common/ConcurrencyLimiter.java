@@ -0,0 +1,95 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.common;
+
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.function.Supplier;
+
+/**
+ * <p>Limits the number of asynchronous tasks which are running at the same time.</p>
+ * <p>Tasks submitted while the limit is reached wait, in submission order, until one of the running tasks completes.
+ * A task is started on the thread which submits it, or on the thread which completes the task it's waiting for.</p>
+ */
+public class ConcurrencyLimiter {
+
+    private final int limit;
+
+    /** Guarded by {@code this}. */
+    private int running = 0;
+    private final Deque<Runnable> waiting = new ArrayDeque<>();
+
+    /**
+     * @param limit The maximum number of tasks running at the same time.
+     */
+    public ConcurrencyLimiter(int limit) {
+        if (limit <= 0) {
+            throw new IllegalArgumentException("The limit must be greater than zero");
+        }
+        this.limit = limit;
+    }
+
+    /**
+     * Submit the given task, which is started immediately if fewer than the limit of tasks are running,
+     * otherwise when enough of the running tasks have completed.
+     * @param task The task.
+     * @param <T> The type of the result of the task.
+     * @return A future which completes with the result of the task.
+     */
+    public <T> Future<T> submit(Supplier<Future<T>> task) {
+        Promise<T> result = Promise.promise();
+        Runnable start = () -> {
+            Future<T> taskFuture;
+            try {
+                taskFuture = task.get();
+            } catch (Throwable t) {
+                taskFuture = Future.failedFuture(t);
+            }
+            taskFuture.setHandler(ar -> {
+                Runnable next;
+                synchronized (this) {
+                    next = waiting.pollFirst();
+                    if (next == null) {
+                        running--;
+                    }
+                }
+                result.handle(ar);
+                if (next != null) {
+                    next.run();
+                }
+            });
+        };
+        boolean startNow;
+        synchronized (this) {
+            startNow = running < limit;
+            if (startNow) {
+                running++;
+            } else {
+                waiting.addLast(start);
+            }
+        }
+        if (startNow) {
+            start.run();
+        }
+        return result.future();
+    }
+
+    /**
+     * @return The number of tasks which are currently running.
+     */
+    public synchronized int running() {
+        return running;
+    }
+
+    /**
+     * @return The number of tasks waiting to be started.
+     */
+    public synchronized int waiting() {
+        return waiting.size();
+    }
+}
@@ -0,0 +1,162 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.common;
+
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import io.netty.util.concurrent.EventExecutor;
+import io.vertx.core.Vertx;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * <p>Detects event loop threads which run the same task for longer than a threshold, such as a call to the Kubernetes
+ * API server which was made on the event loop rather than in a worker pool.</p>
+ * <p>A separate thread periodically submits a probe task to each event loop of Vertx. The time each probe waited
+ * before it ran is recorded in the {@code strimzi.event.loop.delay} timer. When a probe has been waiting for longer
+ * than the threshold, the stack trace of the event loop thread is logged and the {@code strimzi.event.loop.blocked}
+ * counter is incremented, tagged with the location in the operator code which was blocking the event loop.</p>
+ */
+public class EventLoopBlockingDetector {
+    private static final Logger log = LogManager.getLogger(EventLoopBlockingDetector.class);
+
+    private static final String METRICS_BLOCKED = AbstractOperator.METRICS_PREFIX + "event.loop.blocked";
+    private static final String METRICS_DELAY = AbstractOperator.METRICS_PREFIX + "event.loop.delay";
+
+    private final Vertx vertx;
+    private final MetricsProvider metrics;
+    private final long thresholdMs;
+    private final Timer delay;
+    private final Map<EventExecutor, Probe> probes = new ConcurrentHashMap<>();
+    private ScheduledExecutorService scheduler;
+
+    /**
+     * The last probe submitted to an event loop
+     */
+    private static class Probe {
+        // The event loop thread, known once the first probe has run on it
+        private volatile Thread thread;
+        // When the pending probe was submitted, or -1 when it has run
+        private volatile long submittedNs = -1;
+        // Whether the pending probe was already reported as blocked
+        private boolean reported;
+    }
+
+    /**
+     * Constructor
+     *
+     * @param vertx The Vertx instance whose event loops are checked.
+     * @param metrics The metrics provider.
+     * @param thresholdMs The time in milliseconds after which an event loop which did not run a probe is reported as blocked.
+     */
+    public EventLoopBlockingDetector(Vertx vertx, MetricsProvider metrics, long thresholdMs) {
+        if (thresholdMs <= 0) {
+            throw new IllegalArgumentException("The threshold must be positive");
+        }
+        this.vertx = vertx;
+        this.metrics = metrics;
+        this.thresholdMs = thresholdMs;
+        this.delay = metrics.timer(METRICS_DELAY, "The time tasks waited for an event loop thread", Tags.empty());
+    }
+
+    /**
+     * Starts checking the event loops.
+     */
+    public synchronized void start() {
+        if (scheduler == null) {
+            log.info("Reporting event loops blocked for longer than {}ms", thresholdMs);
+            scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "event-loop-blocking-detector");
+                thread.setDaemon(true);
+                return thread;
+            });
+            long periodMs = Math.max(1, thresholdMs / 4);
+            scheduler.scheduleAtFixedRate(this::check, 0, periodMs, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /**
+     * Stops checking the event loops.
+     */
+    public synchronized void stop() {
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+            scheduler = null;
+        }
+    }
+
+    /*test*/ void check() {
+        long now = System.nanoTime();
+        for (EventExecutor loop : vertx.nettyEventLoopGroup()) {
+            Probe probe = probes.computeIfAbsent(loop, l -> new Probe());
+            long submittedNs = probe.submittedNs;
+            if (submittedNs < 0) {
+                submit(loop, probe, now);
+            } else if (!probe.reported
+                    && probe.thread != null
+                    && TimeUnit.NANOSECONDS.toMillis(now - submittedNs) > thresholdMs) {
+                probe.reported = true;
+                report(probe.thread, TimeUnit.NANOSECONDS.toMillis(now - submittedNs));
+            }
+        }
+    }
+
+    private void submit(EventExecutor loop, Probe probe, long now) {
+        probe.submittedNs = now;
+        probe.reported = false;
+        try {
+            loop.execute(() -> {
+                probe.thread = Thread.currentThread();
+                delay.record(System.nanoTime() - now, TimeUnit.NANOSECONDS);
+                probe.submittedNs = -1;
+            });
+        } catch (RejectedExecutionException e) {
+            // Vertx is being closed
+            probe.submittedNs = -1;
+        }
+    }
+
+    private void report(Thread thread, long blockedMs) {
+        StackTraceElement[] stackTrace = thread.getStackTrace();
+        String location = location(stackTrace);
+        metrics.counter(METRICS_BLOCKED, "Number of times an event loop thread was blocked for longer than the threshold",
+                Tags.of("location", location)).increment();
+
+        StringBuilder trace = new StringBuilder();
+        for (StackTraceElement element : stackTrace) {
+            trace.append(System.lineSeparator()).append("\tat ").append(element);
+        }
+        log.warn("Thread {} has been blocked for {}ms at {}{}", thread.getName(), blockedMs, location, trace);
+    }
+
+    /**
+     * Returns the location which is reported for a blocked event loop: the innermost frame of the operator code,
+     * or the innermost frame if no frame is in the operator code.
+     *
+     * @param stackTrace The stack trace of the blocked thread.
+     * @return The location, as the class name, method name and line number.
+     */
+    /*test*/ static String location(StackTraceElement[] stackTrace) {
+        if (stackTrace.length == 0) {
+            return "unknown";
+        }
+        StackTraceElement location = stackTrace[0];
+        for (StackTraceElement element : stackTrace) {
+            if (element.getClassName().startsWith("io.strimzi.")
+                    && !element.getClassName().equals(EventLoopBlockingDetector.class.getName())) {
+                location = element;
+                break;
+            }
+        }
+        return location.getClassName() + "." + location.getMethodName() + ":" + location.getLineNumber();
+    }
+}
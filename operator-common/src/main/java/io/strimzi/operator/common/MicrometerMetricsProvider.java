@@ -26,6 +26,15 @@ public class MicrometerMetricsProvider implements MetricsProvider {
         this.metrics = BackendRegistries.getDefaultNow();
     }
 
+    /**
+     * Constructor of the Micrometer metrics provider
+     *
+     * @param metrics   The MeterRegistry to create the metrics in
+     */
+    public MicrometerMetricsProvider(MeterRegistry metrics) {
+        this.metrics = metrics;
+    }
+
     /**
      * Returns the Micrometer MeterRegistry with all metrics
      *
@@ -7,6 +7,7 @@ package io.strimzi.operator.common;
 import io.fabric8.kubernetes.api.model.LabelSelector;
 import io.micrometer.core.instrument.Counter;
 import io.strimzi.operator.common.model.NamespaceAndName;
+import io.strimzi.operator.common.operator.resource.AbstractWatchableResourceOperator;
 import io.vertx.core.AsyncResult;
 import io.vertx.core.CompositeFuture;
 import io.vertx.core.Future;
@@ -17,6 +18,7 @@ import java.util.List;
 import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
 
 /**
  * Abstraction of an operator which is driven by resources of a given {@link #kind()}.
@@ -60,6 +62,27 @@ public interface Operator {
         });
     }
 
+    /**
+     * Triggers the asynchronous reconciliation of all resources in the given namespaces which this operator consumes.
+     * The resources are identified by a single {@link #allResourceNames(String)} across all namespaces, which is
+     * filtered by namespace, rather than one per namespace.
+     * @param trigger The cause of this reconciliation (for logging).
+     * @param namespaces The namespaces to reconcile.
+     * @param handler Handler called on completion.
+     */
+    default void reconcileAll(String trigger, Set<String> namespaces, Handler<AsyncResult<Void>> handler) {
+        allResourceNames(AbstractWatchableResourceOperator.ANY_NAMESPACE).setHandler(ar -> {
+            if (ar.succeeded()) {
+                reconcileThese(trigger, ar.result().stream()
+                        .filter(resource -> namespaces.contains(resource.getNamespace()))
+                        .collect(Collectors.toSet()), handler);
+                getPeriodicReconciliationsCounter().increment();
+            } else {
+                handler.handle(ar.map((Void) null));
+            }
+        });
+    }
+
     default void reconcileThese(String trigger, Set<NamespaceAndName> desiredNames, Handler<AsyncResult<Void>> handler) {
         if (desiredNames.size() > 0) {
             List<Future> futures = new ArrayList<>();
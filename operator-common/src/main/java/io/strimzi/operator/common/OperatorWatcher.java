@@ -10,20 +10,32 @@ import io.fabric8.kubernetes.client.Watcher;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
+import java.util.Set;
 import java.util.function.Consumer;
 
 /**
  * The fabric8 Watcher used to trigger reconciliation of an {@link Operator}.
+ * When it is given a set of namespaces, it watches across all namespaces and ignores the events of resources which
+ * are not in one of them.
  * @param <T> The resource type
  */
 class OperatorWatcher<T extends HasMetadata> implements Watcher<T> {
     private final String namespace;
+    private final Set<String> namespaces;
     private final Consumer<KubernetesClientException> onClose;
     private Operator operator;
     private static final Logger log = LogManager.getLogger(OperatorWatcher.class);
 
     OperatorWatcher(Operator operator, String namespace, Consumer<KubernetesClientException> onClose) {
         this.namespace = namespace;
+        this.namespaces = null;
+        this.onClose = onClose;
+        this.operator = operator;
+    }
+
+    OperatorWatcher(Operator operator, Set<String> namespaces, Consumer<KubernetesClientException> onClose) {
+        this.namespace = null;
+        this.namespaces = namespaces;
         this.onClose = onClose;
         this.operator = operator;
     }
@@ -32,6 +44,9 @@ class OperatorWatcher<T extends HasMetadata> implements Watcher<T> {
     public void eventReceived(Action action, T resource) {
         String name = resource.getMetadata().getName();
         String namespace = resource.getMetadata().getNamespace();
+        if (namespaces != null && !namespaces.contains(namespace)) {
+            return;
+        }
         switch (action) {
             case ADDED:
             case DELETED:
@@ -42,11 +57,19 @@ class OperatorWatcher<T extends HasMetadata> implements Watcher<T> {
                 break;
             case ERROR:
                 log.error("Failed {} {} in namespace{} ", operator.kind(), name, namespace);
-                operator.reconcileAll("watch error", namespace, ignored -> { });
+                reconcileAll("watch error", namespace);
                 break;
             default:
                 log.error("Unknown action: {} in namespace {}", name, namespace);
-                operator.reconcileAll("watch unknown", namespace, ignored -> { });
+                reconcileAll("watch unknown", namespace);
+        }
+    }
+
+    private void reconcileAll(String trigger, String namespace) {
+        if (namespaces != null) {
+            operator.reconcileAll(trigger, namespaces, ignored -> { });
+        } else {
+            operator.reconcileAll(trigger, namespace, ignored -> { });
         }
     }
 
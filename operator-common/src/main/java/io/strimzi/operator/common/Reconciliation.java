@@ -4,6 +4,8 @@
  */
 package io.strimzi.operator.common;
 
+import io.opentracing.Span;
+
 import java.util.concurrent.atomic.AtomicInteger;
 
 /**
@@ -22,6 +24,7 @@ public class Reconciliation {
     private final String namespace;
     private final String name;
     private final int id;
+    private volatile Span span;
 
     public Reconciliation(String trigger, String kind, String namespace, String assemblyName) {
         this.trigger = trigger;
@@ -43,6 +46,18 @@ public class Reconciliation {
         return name;
     }
 
+    /**
+     * @return The tracing span of this reconciliation, or null if it has not been started by
+     * {@link AbstractOperator#reconcile(Reconciliation)}.
+     */
+    public Span span() {
+        return span;
+    }
+
+    void span(Span span) {
+        this.span = span;
+    }
+
     public String toString() {
         return "Reconciliation #" + id + "(" + trigger + ") " + kind() + "(" + namespace() + "/" + name() + ")";
     }
@@ -0,0 +1,197 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.common;
+
+import io.opentracing.Scope;
+import io.opentracing.Span;
+import io.opentracing.Tracer;
+import io.opentracing.log.Fields;
+import io.opentracing.tag.Tags;
+import io.opentracing.util.GlobalTracer;
+import io.vertx.core.AsyncResult;
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * <p>Creates the OpenTracing spans of the operators, using the tracer registered as the {@link GlobalTracer}.
+ * The tracer is registered by the tracing agent when the operator is run with {@code STRIMZI_TRACING=jaeger};
+ * otherwise the spans are not recorded.</p>
+ *
+ * <p>Each reconciliation has a span (see {@link Reconciliation#span()}), with a child span for each of its steps and
+ * for each call it makes to Kubernetes, Kafka, ZooKeeper or Kafka Connect. The parent of a span started without an
+ * explicit parent is the span which is active on the thread which starts it, as set by {@link #traced(Span, Supplier)}
+ * while the synchronous part of a step runs. Callbacks which run later, once the Future they were composed with
+ * completes, have no active span, so they pass the span of the reconciliation explicitly, using
+ * {@link #withParent(Span, Function)}.</p>
+ */
+public class Tracing {
+    /** The tag of the kind of the resource which a span is about */
+    public static final String TAG_KIND = "kind";
+    /** The tag of the namespace of the resource which a span is about */
+    public static final String TAG_NAMESPACE = "namespace";
+    /** The tag of the name of the resource which a span is about */
+    public static final String TAG_NAME = "name";
+
+    private Tracing() { }
+
+    /**
+     * @return The tracer.
+     */
+    public static Tracer tracer() {
+        return GlobalTracer.get();
+    }
+
+    /**
+     * Starts a span for the given operation on the given resource, which is a child of the active span, if there is one.
+     *
+     * @param operationName The name of the operation.
+     * @param kind The kind of the resource, or null.
+     * @param namespace The namespace of the resource, or null.
+     * @param name The name of the resource, or null.
+     * @return The started span.
+     */
+    public static Span startSpan(String operationName, String kind, String namespace, String name) {
+        return startSpan(operationName, null, kind, namespace, name);
+    }
+
+    /**
+     * Starts a span for the given operation on the given resource.
+     *
+     * @param operationName The name of the operation.
+     * @param parent The parent of the span. When null the active span, if there is one, is the parent.
+     * @param kind The kind of the resource, or null.
+     * @param namespace The namespace of the resource, or null.
+     * @param name The name of the resource, or null.
+     * @return The started span.
+     */
+    public static Span startSpan(String operationName, Span parent, String kind, String namespace, String name) {
+        Tracer.SpanBuilder builder = tracer().buildSpan(operationName);
+        if (parent != null) {
+            builder.asChildOf(parent);
+        }
+        if (kind != null) {
+            builder.withTag(TAG_KIND, kind);
+        }
+        if (namespace != null) {
+            builder.withTag(TAG_NAMESPACE, namespace);
+        }
+        if (name != null) {
+            builder.withTag(TAG_NAME, name);
+        }
+        return builder.start();
+    }
+
+    /**
+     * Finishes the given span, marking it as failed when the given result failed.
+     *
+     * @param span The span.
+     * @param result The result of the operation of the span.
+     */
+    public static void finish(Span span, AsyncResult<?> result) {
+        if (result.failed()) {
+            Tags.ERROR.set(span, true);
+            Map<String, Object> fields = new HashMap<>(2);
+            fields.put(Fields.EVENT, "error");
+            fields.put(Fields.ERROR_OBJECT, result.cause());
+            span.log(fields);
+        }
+        span.finish();
+    }
+
+    /**
+     * Calls the given {@code work} with the given span active, and finishes the span when the Future returned by
+     * the {@code work} completes.
+     *
+     * @param span The span.
+     * @param work The work, which starts the asynchronous operation of the span.
+     * @param <T> The type of the result.
+     * @return A Future which completes with the result of the {@code work}, after the span is finished.
+     */
+    public static <T> Future<T> traced(Span span, Supplier<Future<T>> work) {
+        Future<T> future;
+        try (Scope scope = tracer().activateSpan(span)) {
+            future = work.get();
+        } catch (RuntimeException e) {
+            future = Future.failedFuture(e);
+        }
+        return finishOnComplete(span, future);
+    }
+
+    /**
+     * Finishes the given span when the given Future completes.
+     *
+     * @param span The span.
+     * @param future The Future of the operation of the span.
+     * @param <T> The type of the result.
+     * @return A Future which completes with the result of the given Future, after the span is finished.
+     */
+    public static <T> Future<T> finishOnComplete(Span span, Future<T> future) {
+        Promise<T> result = Promise.promise();
+        future.setHandler(ar -> {
+            finish(span, ar);
+            result.handle(ar);
+        });
+        return result.future();
+    }
+
+    /**
+     * Traces the given operation on the given resource with a child span of the active span, if there is one.
+     *
+     * @param operationName The name of the operation.
+     * @param kind The kind of the resource, or null.
+     * @param namespace The namespace of the resource, or null.
+     * @param name The name of the resource, or null.
+     * @param work The work, which starts the asynchronous operation.
+     * @param <T> The type of the result.
+     * @return A Future which completes with the result of the {@code work}.
+     */
+    public static <T> Future<T> traced(String operationName, String kind, String namespace, String name, Supplier<Future<T>> work) {
+        return traced(startSpan(operationName, kind, namespace, name), work);
+    }
+
+    /**
+     * Returns a function for {@link Future#compose(Function)} which calls the given {@code work} with the given span
+     * active, so that the spans started by its synchronous part are children of the given span, rather than new traces.
+     *
+     * @param parent The parent of the spans started by the {@code work}, usually the span of the reconciliation.
+     *               When null the {@code work} is called without changing the active span.
+     * @param work The work.
+     * @param <T> The type of the input of the work.
+     * @param <U> The type of the result of the work.
+     * @return The function.
+     */
+    public static <T, U> Function<T, Future<U>> withParent(Span parent, Function<T, Future<U>> work) {
+        return input -> {
+            if (parent == null) {
+                return work.apply(input);
+            }
+            try (Scope scope = tracer().activateSpan(parent)) {
+                return work.apply(input);
+            }
+        };
+    }
+
+    /**
+     * Returns a function for {@link Future#compose(Function)} which traces the given step of the given
+     * reconciliation with a child span of the span of the reconciliation.
+     *
+     * @param reconciliation The reconciliation.
+     * @param step The name of the step.
+     * @param work The step.
+     * @param <T> The type of the input of the step.
+     * @param <U> The type of the result of the step.
+     * @return The traced step.
+     */
+    public static <T, U> Function<T, Future<U>> step(Reconciliation reconciliation, String step, Function<T, Future<U>> work) {
+        return input -> traced(
+            startSpan(step, reconciliation.span(), reconciliation.kind(), reconciliation.namespace(), reconciliation.name()),
+            () -> work.apply(input));
+    }
+}
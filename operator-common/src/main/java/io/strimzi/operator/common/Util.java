@@ -64,7 +64,7 @@ public class Util {
         Handler<Long> handler = new Handler<Long>() {
             @Override
             public void handle(Long timerId) {
-                vertx.createSharedWorkerExecutor("kubernetes-ops-pool").executeBlocking(
+                WorkerPools.get(vertx).executeBlocking(WorkerPools.Kind.LONG_RUNNING,
                     future -> {
                         try {
                             if (completed.getAsBoolean())   {
@@ -78,7 +78,7 @@ public class Util {
                             future.fail(e);
                         }
                     },
-                    true,
+                    false,
                     res -> {
                         if (res.succeeded()) {
                             LOGGER.debug("{} is {}", logContext, logState);
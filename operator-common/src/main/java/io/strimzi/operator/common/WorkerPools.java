@@ -0,0 +1,182 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.common;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.vertx.core.AsyncResult;
+import io.vertx.core.Closeable;
+import io.vertx.core.Context;
+import io.vertx.core.Handler;
+import io.vertx.core.Promise;
+import io.vertx.core.Vertx;
+import io.vertx.core.WorkerExecutor;
+import io.vertx.core.shareddata.LocalMap;
+import io.vertx.core.shareddata.Shareable;
+import io.vertx.micrometer.backends.BackendRegistries;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * <p>The worker pools which run the blocking work of an operator, created once for each {@link Vertx} instance.</p>
+ * <p>Each {@link Kind} of blocking work runs in a separately sized pool, so that, for example, waiting for a rolling
+ * update does not hold up short reads from Kubernetes. For each pool the number of queued tasks, the number of
+ * active threads and the time the tasks waited in the queue and ran for are exported as metrics.</p>
+ * <p>Vert.x runs the ordered tasks of a context one after the other whatever the pool they were submitted to, so the
+ * tasks run unordered unless they are explicitly ordered.</p>
+ */
+public class WorkerPools implements Shareable {
+    private static final String LOCAL_MAP_NAME = "strimzi.worker-pools";
+    private static final String LOCAL_MAP_KEY = "pools";
+    private static final long MAX_EXECUTE_TIME_NS = TimeUnit.SECONDS.toNanos(120);
+
+    /**
+     * The kinds of blocking work, each of which runs in its own pool.
+     */
+    public enum Kind {
+        /** Reads from the Kubernetes API server, such as gets and lists */
+        KUBERNETES_READ("kubernetes-read-pool", 10),
+        /** Writes to the Kubernetes API server, such as creates, patches, scaling and deletes */
+        KUBERNETES_WRITE("kubernetes-write-pool", 10),
+        /** Long-running work, such as waiting for resources to get ready and generating certificates */
+        LONG_RUNNING("long-running-pool", 10),
+        /** Operations on ZooKeeper */
+        ZOOKEEPER("zookeeper-ops-pool", 5),
+        /** Administrative operations on the Kafka cluster, such as managing ACLs */
+        ADMIN("kafka-admin-pool", 5);
+
+        private final String poolName;
+        private final int poolSize;
+
+        Kind(String poolName, int poolSize) {
+            this.poolName = poolName;
+            this.poolSize = poolSize;
+        }
+
+        /**
+         * @return The name of the pool of this kind of work.
+         */
+        public String poolName() {
+            return poolName;
+        }
+
+        /**
+         * @return The number of threads of the pool of this kind of work.
+         */
+        public int poolSize() {
+            return poolSize;
+        }
+    }
+
+    private static class Pool {
+        private final WorkerExecutor executor;
+        private final AtomicInteger queued;
+        private final AtomicInteger active;
+        private final Timer waitTime;
+        private final Timer runTime;
+
+        Pool(WorkerExecutor executor, Kind kind, MetricsProvider metrics) {
+            this.executor = executor;
+            Tags tags = Tags.of("pool", kind.poolName());
+            this.queued = metrics.gauge(AbstractOperator.METRICS_PREFIX + "worker.pool.queue.size",
+                    "Number of tasks waiting for a thread of the worker pool", tags);
+            this.active = metrics.gauge(AbstractOperator.METRICS_PREFIX + "worker.pool.active.threads",
+                    "Number of threads of the worker pool which are running a task", tags);
+            this.waitTime = metrics.timer(AbstractOperator.METRICS_PREFIX + "worker.pool.wait.time",
+                    "The time tasks waited for a thread of the worker pool", tags);
+            this.runTime = metrics.timer(AbstractOperator.METRICS_PREFIX + "worker.pool.run.time",
+                    "The time tasks occupied a thread of the worker pool", tags);
+        }
+    }
+
+    private final Map<Kind, Pool> pools = new EnumMap<>(Kind.class);
+
+    /*test*/ WorkerPools(Vertx vertx, MetricsProvider metrics) {
+        for (Kind kind : Kind.values()) {
+            pools.put(kind, new Pool(createExecutor(vertx, kind), kind, metrics));
+        }
+    }
+
+    /**
+     * Creates the worker executor of the given kind of work. Vert.x closes a worker executor together with the
+     * context which created it, such as the context of a verticle, but the executors are shared by all the
+     * verticles of the Vertx instance, so they are detached from the current context.
+     */
+    private static WorkerExecutor createExecutor(Vertx vertx, Kind kind) {
+        WorkerExecutor executor = vertx.createSharedWorkerExecutor(kind.poolName(), kind.poolSize(), MAX_EXECUTE_TIME_NS);
+        Context context = Vertx.currentContext();
+        if (context != null && executor instanceof Closeable) {
+            context.removeCloseHook((Closeable) executor);
+        }
+        return executor;
+    }
+
+    /**
+     * Returns the worker pools of the given Vertx instance, creating them the first time.
+     * The metrics of the pools are created in the default registry of Vertx, if there is one.
+     *
+     * @param vertx The Vertx instance.
+     * @return The worker pools.
+     */
+    public static WorkerPools get(Vertx vertx) {
+        LocalMap<String, WorkerPools> map = vertx.sharedData().getLocalMap(LOCAL_MAP_NAME);
+        synchronized (WorkerPools.class) {
+            WorkerPools pools = map.get(LOCAL_MAP_KEY);
+            if (pools == null) {
+                MeterRegistry registry = BackendRegistries.getDefaultNow();
+                pools = new WorkerPools(vertx, new MicrometerMetricsProvider(registry != null ? registry : new SimpleMeterRegistry()));
+                map.put(LOCAL_MAP_KEY, pools);
+            }
+            return pools;
+        }
+    }
+
+    /**
+     * Runs the given blocking code in the pool of the given kind of work.
+     * Like {@link WorkerExecutor#executeBlocking(Handler, boolean, Handler)}, when {@code ordered} is true the tasks
+     * submitted from the same context run one after the other. The ordered tasks of a context share a single queue
+     * across all the pools, so a long-running ordered task holds up the ordered tasks of the other pools too.
+     *
+     * @param kind The kind of work.
+     * @param blockingCodeHandler The blocking code.
+     * @param ordered Whether the tasks submitted from the same context should run in order.
+     * @param resultHandler The handler of the result of the blocking code.
+     * @param <T> The type of the result.
+     */
+    public <T> void executeBlocking(Kind kind, Handler<Promise<T>> blockingCodeHandler, boolean ordered, Handler<AsyncResult<T>> resultHandler) {
+        Pool pool = pools.get(kind);
+        long submitted = System.nanoTime();
+        pool.queued.incrementAndGet();
+        pool.executor.executeBlocking(promise -> {
+            long started = System.nanoTime();
+            pool.queued.decrementAndGet();
+            pool.active.incrementAndGet();
+            pool.waitTime.record(started - submitted, TimeUnit.NANOSECONDS);
+            try {
+                blockingCodeHandler.handle(promise);
+            } finally {
+                pool.active.decrementAndGet();
+                pool.runTime.record(System.nanoTime() - started, TimeUnit.NANOSECONDS);
+            }
+        }, ordered, resultHandler);
+    }
+
+    /**
+     * Runs the given blocking code in the pool of the given kind of work, independently of the other tasks.
+     *
+     * @param kind The kind of work.
+     * @param blockingCodeHandler The blocking code.
+     * @param resultHandler The handler of the result of the blocking code.
+     * @param <T> The type of the result.
+     */
+    public <T> void executeBlocking(Kind kind, Handler<Promise<T>> blockingCodeHandler, Handler<AsyncResult<T>> resultHandler) {
+        executeBlocking(kind, blockingCodeHandler, false, resultHandler);
+    }
+}
@@ -13,6 +13,7 @@ import io.fabric8.kubernetes.client.dsl.FilterWatchListMultiDeletable;
 import io.fabric8.kubernetes.client.dsl.NonNamespaceOperation;
 import io.fabric8.kubernetes.client.dsl.Resource;
 import io.strimzi.operator.common.Util;
+import io.strimzi.operator.common.WorkerPools;
 import io.strimzi.operator.common.model.Labels;
 import io.vertx.core.CompositeFuture;
 import io.vertx.core.Future;
@@ -90,7 +91,7 @@ public abstract class AbstractNonNamespacedResourceOperator<C extends Kubernetes
         }
 
         Promise<ReconcileResult<T>> promise = Promise.promise();
-        vertx.createSharedWorkerExecutor("kubernetes-ops-pool").executeBlocking(
+        WorkerPools.get(vertx).executeBlocking(WorkerPools.Kind.KUBERNETES_WRITE,
             future -> {
                 T current = operation().withName(name).get();
                 if (desired != null) {
@@ -145,7 +146,7 @@ public abstract class AbstractNonNamespacedResourceOperator<C extends Kubernetes
 
     private Future<Void> deleteAsync(String name) {
         Promise<Void> deletePromise = Promise.promise();
-        vertx.executeBlocking(
+        WorkerPools.get(vertx).executeBlocking(WorkerPools.Kind.KUBERNETES_WRITE,
             f -> {
                 try {
                     Boolean delete = operation().withName(name).withGracePeriod(-1L).delete();
@@ -158,7 +159,7 @@ public abstract class AbstractNonNamespacedResourceOperator<C extends Kubernetes
                     f.fail(t);
                 }
             },
-            true,
+            false,
             deletePromise);
         return deletePromise.future();
     }
@@ -226,11 +227,11 @@ public abstract class AbstractNonNamespacedResourceOperator<C extends Kubernetes
      */
     public Future<T> getAsync(String name) {
         Promise<T> result = Promise.promise();
-        vertx.createSharedWorkerExecutor("kubernetes-ops-tool").executeBlocking(
+        WorkerPools.get(vertx).executeBlocking(WorkerPools.Kind.KUBERNETES_READ,
             future -> {
                 T resource = get(name);
                 future.complete(resource);
-            }, true, result
+            }, false, result
         );
         return result.future();
     }
@@ -251,11 +252,11 @@ public abstract class AbstractNonNamespacedResourceOperator<C extends Kubernetes
      */
     public Future<List<T>> listAsync(Labels selector) {
         Promise<List<T>> result = Promise.promise();
-        vertx.createSharedWorkerExecutor("kubernetes-ops-tool").executeBlocking(
+        WorkerPools.get(vertx).executeBlocking(WorkerPools.Kind.KUBERNETES_READ,
             future -> {
                 List<T> resource = list(selector);
                 future.complete(resource);
-            }, true, result
+            }, false, result
         );
         return result.future();
     }
@@ -10,7 +10,9 @@ import io.fabric8.kubernetes.api.model.KubernetesResourceList;
 import io.fabric8.kubernetes.client.KubernetesClient;
 import io.fabric8.kubernetes.client.dsl.Resource;
 import io.fabric8.kubernetes.client.internal.readiness.Readiness;
+import io.strimzi.operator.common.WorkerPools;
 import io.vertx.core.Future;
+import io.vertx.core.Promise;
 import io.vertx.core.Vertx;
 
 /**
@@ -64,4 +66,18 @@ public abstract class AbstractReadyResourceOperator<C extends KubernetesClient,
             return false;
         }
     }
+
+    /**
+     * Asynchronously check if a resource is in the Ready state.
+     *
+     * @param namespace The namespace.
+     * @param name The resource name.
+     * @return A Future completed with whether the resource in in the Ready state.
+     */
+    public Future<Boolean> isReadyAsync(String namespace, String name) {
+        Promise<Boolean> result = Promise.promise();
+        WorkerPools.get(vertx).executeBlocking(WorkerPools.Kind.KUBERNETES_READ,
+            future -> future.complete(isReady(namespace, name)), false, result);
+        return result.future();
+    }
 }
@@ -15,7 +15,10 @@ import io.fabric8.kubernetes.client.dsl.FilterWatchListMultiDeletable;
 import io.fabric8.kubernetes.client.dsl.MixedOperation;
 import io.fabric8.kubernetes.client.dsl.NonNamespaceOperation;
 import io.fabric8.kubernetes.client.dsl.Resource;
+import io.opentracing.Span;
+import io.strimzi.operator.common.Tracing;
 import io.strimzi.operator.common.Util;
+import io.strimzi.operator.common.WorkerPools;
 import io.strimzi.operator.common.model.Labels;
 import io.vertx.core.Future;
 import io.vertx.core.Promise;
@@ -90,8 +93,9 @@ public abstract class AbstractResourceOperator<C extends KubernetesClient, T ext
             return Future.failedFuture("Given name " + name + " incompatible with desired name " + desired.getMetadata().getName());
         }
 
+        Span span = Tracing.startSpan("kubernetes.reconcile", resourceKind, namespace, name);
         Promise<ReconcileResult<T>> promise = Promise.promise();
-        vertx.createSharedWorkerExecutor("kubernetes-ops-pool").executeBlocking(
+        WorkerPools.get(vertx).executeBlocking(WorkerPools.Kind.KUBERNETES_WRITE,
             future -> {
                 T current = operation().inNamespace(namespace).withName(name).get();
                 if (desired != null) {
@@ -117,7 +121,7 @@ public abstract class AbstractResourceOperator<C extends KubernetesClient, T ext
             false,
             promise
         );
-        return promise.future();
+        return Tracing.finishOnComplete(span, promise.future());
     }
 
     /**
@@ -217,14 +221,15 @@ public abstract class AbstractResourceOperator<C extends KubernetesClient, T ext
      * @return A Future for the result.
      */
     public Future<T> getAsync(String namespace, String name) {
+        Span span = Tracing.startSpan("kubernetes.get", resourceKind, namespace, name);
         Promise<T> result = Promise.promise();
-        vertx.createSharedWorkerExecutor("kubernetes-ops-tool").executeBlocking(
+        WorkerPools.get(vertx).executeBlocking(WorkerPools.Kind.KUBERNETES_READ,
             future -> {
                 T resource = get(namespace, name);
                 future.complete(resource);
-            }, true, result
+            }, false, result
         );
-        return result.future();
+        return Tracing.finishOnComplete(span, result.future());
     }
 
     /**
@@ -283,8 +288,9 @@ public abstract class AbstractResourceOperator<C extends KubernetesClient, T ext
      * @return A Future with a list of matching resources.
      */
     public Future<List<T>> listAsync(String namespace, Labels selector) {
+        Span span = Tracing.startSpan("kubernetes.list", resourceKind, namespace, null);
         Promise<List<T>> result = Promise.promise();
-        vertx.createSharedWorkerExecutor("kubernetes-ops-tool").executeBlocking(
+        WorkerPools.get(vertx).executeBlocking(WorkerPools.Kind.KUBERNETES_READ,
             future -> {
                 List<T> resources;
 
@@ -295,15 +301,16 @@ public abstract class AbstractResourceOperator<C extends KubernetesClient, T ext
                 }
 
                 future.complete(resources);
-            }, true, result
+            }, false, result
         );
-        return result.future();
+        return Tracing.finishOnComplete(span, result.future());
     }
 
     @SuppressWarnings("unchecked")
     public Future<List<T>> listAsync(String namespace, Optional<LabelSelector> selector) {
+        Span span = Tracing.startSpan("kubernetes.list", resourceKind, namespace, null);
         Promise<List<T>> result = Promise.promise();
-        vertx.createSharedWorkerExecutor("kubernetes-ops-tool").executeBlocking(
+        WorkerPools.get(vertx).executeBlocking(WorkerPools.Kind.KUBERNETES_READ,
             future -> {
                 FilterWatchListDeletable<T, L, Boolean, Watch, Watcher<T>> operation;
                 if (AbstractWatchableResourceOperator.ANY_NAMESPACE.equals(namespace))  {
@@ -315,9 +322,9 @@ public abstract class AbstractResourceOperator<C extends KubernetesClient, T ext
                     operation = operation.withLabelSelector(selector.get());
                 }
                 future.complete(operation.list().getItems());
-            }, true, result
+            }, false, result
         );
-        return result.future();
+        return Tracing.finishOnComplete(span, result.future());
     }
 
     /**
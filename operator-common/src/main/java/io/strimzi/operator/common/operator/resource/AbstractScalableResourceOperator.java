@@ -9,7 +9,10 @@ import io.fabric8.kubernetes.api.model.HasMetadata;
 import io.fabric8.kubernetes.api.model.KubernetesResourceList;
 import io.fabric8.kubernetes.client.KubernetesClient;
 import io.fabric8.kubernetes.client.dsl.ScalableResource;
+import io.opentracing.Span;
 import io.strimzi.operator.common.Annotations;
+import io.strimzi.operator.common.Tracing;
+import io.strimzi.operator.common.WorkerPools;
 import io.vertx.core.Future;
 import io.vertx.core.Promise;
 import io.vertx.core.Vertx;
@@ -67,8 +70,9 @@ public abstract class AbstractScalableResourceOperator<C extends KubernetesClien
      * The value will be null if the resource didn't exist (hence no scaling occurred).
      */
     public Future<Integer> scaleUp(String namespace, String name, int scaleTo) {
+        Span span = Tracing.startSpan("kubernetes.scale", resourceKind, namespace, name);
         Promise<Integer> promise = Promise.promise();
-        vertx.createSharedWorkerExecutor("kubernetes-ops-pool").executeBlocking(
+        WorkerPools.get(vertx).executeBlocking(WorkerPools.Kind.KUBERNETES_WRITE,
             future -> {
                 try {
                     Integer currentScale = currentScale(namespace, name);
@@ -86,7 +90,7 @@ public abstract class AbstractScalableResourceOperator<C extends KubernetesClien
             false,
             promise
         );
-        return promise.future();
+        return Tracing.finishOnComplete(span, promise.future());
     }
 
     protected abstract Integer currentScale(String namespace, String name);
@@ -103,8 +107,9 @@ public abstract class AbstractScalableResourceOperator<C extends KubernetesClien
      * The value will be null if the resource didn't exist (hence no scaling occurred).
      */
     public Future<Integer> scaleDown(String namespace, String name, int scaleTo) {
+        Span span = Tracing.startSpan("kubernetes.scale", resourceKind, namespace, name);
         Promise<Integer> promise = Promise.promise();
-        vertx.createSharedWorkerExecutor("kubernetes-ops-pool").executeBlocking(
+        WorkerPools.get(vertx).executeBlocking(WorkerPools.Kind.KUBERNETES_WRITE,
             future -> {
                 try {
                     Integer nextReplicas = currentScale(namespace, name);
@@ -124,6 +129,6 @@ public abstract class AbstractScalableResourceOperator<C extends KubernetesClien
             false,
             promise
         );
-        return promise.future();
+        return Tracing.finishOnComplete(span, promise.future());
     }
 }
@@ -16,6 +16,9 @@ import io.fabric8.kubernetes.client.dsl.MixedOperation;
 import io.fabric8.kubernetes.client.dsl.Resource;
 import io.fabric8.kubernetes.client.dsl.base.OperationSupport;
 import io.fabric8.kubernetes.client.utils.Serialization;
+import io.opentracing.Span;
+import io.strimzi.operator.common.Tracing;
+import io.strimzi.operator.common.WorkerPools;
 import io.vertx.core.Future;
 import io.vertx.core.Promise;
 import io.vertx.core.Vertx;
@@ -67,9 +70,10 @@ public class CrdOperator<C extends KubernetesClient,
     }
 
     public Future<T> updateStatusAsync(T resource) {
+        Span span = Tracing.startSpan("kubernetes.updateStatus", resource.getKind(), resource.getMetadata().getNamespace(), resource.getMetadata().getName());
         Promise<T> blockingPromise = Promise.promise();
 
-        vertx.createSharedWorkerExecutor("kubernetes-ops-pool").executeBlocking(future -> {
+        WorkerPools.get(vertx).executeBlocking(WorkerPools.Kind.KUBERNETES_WRITE, future -> {
             try {
 
                 OkHttpClient client = this.client.adapt(OkHttpClient.class);
@@ -122,8 +126,8 @@ public class CrdOperator<C extends KubernetesClient,
                 log.debug("Updating status failed", e);
                 future.fail(e);
             }
-        }, true, blockingPromise);
+        }, false, blockingPromise);
 
-        return blockingPromise.future();
+        return Tracing.finishOnComplete(span, blockingPromise.future());
     }
 }
@@ -0,0 +1,69 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.common;
+
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class ConcurrencyLimiterTest {
+
+    @Test
+    public void testLimit() {
+        ConcurrencyLimiter limiter = new ConcurrencyLimiter(2);
+        List<Promise<Integer>> promises = new ArrayList<>();
+        List<Future<Integer>> results = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            results.add(limiter.submit(() -> {
+                Promise<Integer> promise = Promise.promise();
+                promises.add(promise);
+                return promise.future();
+            }));
+        }
+        assertThat(promises.size(), is(2));
+        assertThat(limiter.running(), is(2));
+        assertThat(limiter.waiting(), is(3));
+
+        promises.get(0).complete(0);
+        assertThat(results.get(0).result(), is(0));
+        assertThat(promises.size(), is(3));
+        assertThat(limiter.running(), is(2));
+
+        promises.get(1).fail("boom");
+        promises.get(2).complete(2);
+        assertThat(results.get(1).failed(), is(true));
+        assertThat(results.get(2).result(), is(2));
+        assertThat(promises.size(), is(5));
+        assertThat(limiter.waiting(), is(0));
+
+        promises.get(3).complete(3);
+        promises.get(4).complete(4);
+        assertThat(limiter.running(), is(0));
+        assertThat(results.get(4).result(), is(4));
+    }
+
+    @Test
+    public void testThrowingTask() {
+        ConcurrencyLimiter limiter = new ConcurrencyLimiter(1);
+        Future<Void> failed = limiter.submit(() -> {
+            throw new RuntimeException("boom");
+        });
+        assertThat(failed.failed(), is(true));
+        assertThat(limiter.running(), is(0));
+        assertThat(limiter.submit(() -> Future.succeededFuture("ok")).result(), is("ok"));
+    }
+
+    @Test
+    public void testInvalidLimit() {
+        assertThrows(IllegalArgumentException.class, () -> new ConcurrencyLimiter(0));
+    }
+}
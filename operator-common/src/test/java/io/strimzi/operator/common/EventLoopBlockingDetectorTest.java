@@ -0,0 +1,85 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.common;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.vertx.core.Vertx;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.startsWith;
+
+public class EventLoopBlockingDetectorTest {
+    private static final long THRESHOLD_MS = 200;
+
+    private Vertx vertx;
+    private MeterRegistry registry;
+    private EventLoopBlockingDetector detector;
+
+    @BeforeEach
+    public void before() {
+        vertx = Vertx.vertx();
+        registry = new SimpleMeterRegistry();
+        detector = new EventLoopBlockingDetector(vertx, new MicrometerMetricsProvider(registry), THRESHOLD_MS);
+    }
+
+    @AfterEach
+    public void after() {
+        detector.stop();
+        vertx.close();
+    }
+
+    private void blockEventLoop(CountDownLatch release) {
+        try {
+            release.await(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private Counter blocked() {
+        return registry.find(AbstractOperator.METRICS_PREFIX + "event.loop.blocked").counter();
+    }
+
+    @Test
+    public void testBlockedEventLoopIsReportedOnce() throws InterruptedException {
+        detector.start();
+        // Let the probes learn the event loop threads
+        Thread.sleep(THRESHOLD_MS);
+        assertThat(blocked(), is(nullValue()));
+
+        CountDownLatch release = new CountDownLatch(1);
+        vertx.runOnContext(v -> blockEventLoop(release));
+        Thread.sleep(THRESHOLD_MS * 4);
+        release.countDown();
+
+        Counter blocked = blocked();
+        assertThat(blocked.count(), is(1.0));
+        assertThat(blocked.getId().getTag("location"),
+                startsWith(EventLoopBlockingDetectorTest.class.getName() + ".blockEventLoop:"));
+        assertThat(registry.find(AbstractOperator.METRICS_PREFIX + "event.loop.delay").timer().count(), is(greaterThan(0L)));
+    }
+
+    @Test
+    public void testLocationIsInnermostOperatorFrame() {
+        StackTraceElement[] stackTrace = new StackTraceElement[] {
+            new StackTraceElement("java.lang.Thread", "sleep", "Thread.java", 10),
+            new StackTraceElement("io.strimzi.operator.common.Util", "waitFor", "Util.java", 20),
+            new StackTraceElement("io.strimzi.operator.cluster.Main", "run", "Main.java", 30)
+        };
+        assertThat(EventLoopBlockingDetector.location(stackTrace), is("io.strimzi.operator.common.Util.waitFor:20"));
+        assertThat(EventLoopBlockingDetector.location(new StackTraceElement[] {stackTrace[0]}), is("java.lang.Thread.sleep:10"));
+    }
+}
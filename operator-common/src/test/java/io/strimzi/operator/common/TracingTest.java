@@ -0,0 +1,172 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.common;
+
+import io.fabric8.kubernetes.api.model.ConfigMapBuilder;
+import io.fabric8.kubernetes.api.model.HasMetadata;
+import io.fabric8.kubernetes.client.dsl.MixedOperation;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.opentracing.mock.MockSpan;
+import io.opentracing.mock.MockTracer;
+import io.opentracing.tag.Tags;
+import io.opentracing.util.GlobalTracer;
+import io.strimzi.operator.common.operator.resource.AbstractWatchableResourceOperator;
+import io.vertx.core.Future;
+import io.vertx.core.Vertx;
+import io.vertx.junit5.Checkpoint;
+import io.vertx.junit5.VertxExtension;
+import io.vertx.junit5.VertxTestContext;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+
+@ExtendWith(VertxExtension.class)
+public class TracingTest {
+    private static final MockTracer TRACER = new MockTracer();
+
+    private static Vertx vertx;
+
+    @BeforeAll
+    public static void before() {
+        GlobalTracer.registerIfAbsent(TRACER);
+        vertx = Vertx.vertx();
+    }
+
+    @AfterAll
+    public static void after() {
+        vertx.close();
+    }
+
+    @BeforeEach
+    public void reset() {
+        TRACER.reset();
+    }
+
+    private static MockSpan finishedSpan(String operationName) {
+        return TRACER.finishedSpans().stream().filter(span -> operationName.equals(span.operationName())).findFirst().get();
+    }
+
+    @Test
+    public void testReconciliationSpans(VertxTestContext context) {
+        AbstractWatchableResourceOperator<?, HasMetadata, ?, ?, ?> resourceOperator = new AbstractWatchableResourceOperator(vertx, null, "TestResource") {
+            @Override
+            protected MixedOperation operation() {
+                return null;
+            }
+
+            @Override
+            public HasMetadata get(String namespace, String name) {
+                return new ConfigMapBuilder().withNewMetadata().withNamespace(namespace).withName(name).endMetadata().build();
+            }
+        };
+
+        AbstractOperator<HasMetadata, ?> operator = new AbstractOperator(vertx, "TestResource", resourceOperator,
+                new MicrometerMetricsProvider(new SimpleMeterRegistry())) {
+            @Override
+            protected Future<Void> createOrUpdate(Reconciliation reconciliation, HasMetadata resource) {
+                return resourceOperator.getAsync("my-namespace", "my-resource-config").map((Void) null);
+            }
+
+            @Override
+            protected Future<Boolean> delete(Reconciliation reconciliation) {
+                return Future.succeededFuture(Boolean.TRUE);
+            }
+        };
+
+        Checkpoint async = context.checkpoint();
+        operator.reconcile(new Reconciliation("test", "TestResource", "my-namespace", "my-resource"))
+            .setHandler(context.succeeding(v -> context.verify(() -> {
+                List<MockSpan> spans = TRACER.finishedSpans();
+                assertThat(spans.stream().map(MockSpan::operationName).collect(Collectors.toList()),
+                        containsInAnyOrder("reconcile", "createOrUpdate", "kubernetes.get", "kubernetes.get"));
+
+                MockSpan reconcile = finishedSpan("reconcile");
+                assertThat(reconcile.parentId(), is(0L));
+                assertThat(reconcile.tags().get(Tracing.TAG_KIND), is("TestResource"));
+                assertThat(reconcile.tags().get(Tracing.TAG_NAMESPACE), is("my-namespace"));
+                assertThat(reconcile.tags().get(Tracing.TAG_NAME), is("my-resource"));
+                assertThat(reconcile.tags().get(Tags.ERROR.getKey()), is(nullValue()));
+
+                MockSpan createOrUpdate = finishedSpan("createOrUpdate");
+                assertThat(createOrUpdate.parentId(), is(reconcile.context().spanId()));
+
+                // The resource is got within the reconciliation, the other one within its createOrUpdate step
+                Map<String, Long> getParents = spans.stream()
+                        .filter(span -> "kubernetes.get".equals(span.operationName()))
+                        .collect(Collectors.toMap(span -> (String) span.tags().get(Tracing.TAG_NAME), MockSpan::parentId));
+                assertThat(getParents.get("my-resource"), is(reconcile.context().spanId()));
+                assertThat(getParents.get("my-resource-config"), is(createOrUpdate.context().spanId()));
+                async.flag();
+            })));
+    }
+
+    @Test
+    public void testCallbacksWithParentAreChildrenOfTheReconciliation(VertxTestContext context) {
+        AbstractWatchableResourceOperator<?, HasMetadata, ?, ?, ?> resourceOperator = new AbstractWatchableResourceOperator(vertx, null, "TestResource") {
+            @Override
+            protected MixedOperation operation() {
+                return null;
+            }
+
+            @Override
+            public HasMetadata get(String namespace, String name) {
+                return new ConfigMapBuilder().withNewMetadata().withNamespace(namespace).withName(name).endMetadata().build();
+            }
+        };
+
+        AbstractOperator<HasMetadata, ?> operator = new AbstractOperator(vertx, "TestResource", resourceOperator,
+                new MicrometerMetricsProvider(new SimpleMeterRegistry())) {
+            @Override
+            protected Future<Void> createOrUpdate(Reconciliation reconciliation, HasMetadata resource) {
+                // The second get runs in a callback, once the first one completed, when no span is active
+                return resourceOperator.getAsync("my-namespace", "my-resource-config")
+                        .compose(Tracing.withParent(reconciliation.span(), config -> resourceOperator.getAsync("my-namespace", "my-resource-secret")))
+                        .map((Void) null);
+            }
+
+            @Override
+            protected Future<Boolean> delete(Reconciliation reconciliation) {
+                return Future.succeededFuture(Boolean.TRUE);
+            }
+        };
+
+        Checkpoint async = context.checkpoint();
+        operator.reconcile(new Reconciliation("test", "TestResource", "my-namespace", "my-resource"))
+            .setHandler(context.succeeding(v -> context.verify(() -> {
+                MockSpan reconcile = finishedSpan("reconcile");
+                Map<String, Long> getParents = TRACER.finishedSpans().stream()
+                        .filter(span -> "kubernetes.get".equals(span.operationName()))
+                        .collect(Collectors.toMap(span -> (String) span.tags().get(Tracing.TAG_NAME), MockSpan::parentId));
+                assertThat(getParents.get("my-resource-config"), is(finishedSpan("createOrUpdate").context().spanId()));
+                assertThat(getParents.get("my-resource-secret"), is(reconcile.context().spanId()));
+                assertThat(TRACER.activeSpan(), is(nullValue()));
+                async.flag();
+            })));
+    }
+
+    @Test
+    public void testFailedOperationIsMarkedAsError(VertxTestContext context) {
+        Checkpoint async = context.checkpoint();
+        Tracing.traced("zookeeper.scale", "Kafka", "my-namespace", "my-cluster",
+            () -> Future.failedFuture(new RuntimeException("Test failure")))
+            .setHandler(context.failing(e -> context.verify(() -> {
+                MockSpan span = finishedSpan("zookeeper.scale");
+                assertThat(span.tags().get(Tags.ERROR.getKey()), is(true));
+                assertThat(span.logEntries().get(0).fields().get("error.object"), is(e));
+                async.flag();
+            })));
+    }
+}
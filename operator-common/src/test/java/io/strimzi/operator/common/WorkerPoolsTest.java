@@ -0,0 +1,148 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.common;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.vertx.core.AbstractVerticle;
+import io.vertx.core.CompositeFuture;
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import io.vertx.core.Vertx;
+import io.vertx.junit5.Checkpoint;
+import io.vertx.junit5.VertxExtension;
+import io.vertx.junit5.VertxTestContext;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+@ExtendWith(VertxExtension.class)
+public class WorkerPoolsTest {
+    private Vertx vertx;
+
+    @BeforeEach
+    public void before() {
+        vertx = Vertx.vertx();
+    }
+
+    @AfterEach
+    public void after() {
+        vertx.close();
+    }
+
+    private static double gauge(MeterRegistry registry, String name, WorkerPools.Kind kind) {
+        Gauge gauge = registry.find(AbstractOperator.METRICS_PREFIX + name).tag("pool", kind.poolName()).gauge();
+        return gauge.value();
+    }
+
+    private static Timer timer(MeterRegistry registry, String name, WorkerPools.Kind kind) {
+        return registry.find(AbstractOperator.METRICS_PREFIX + name).tag("pool", kind.poolName()).timer();
+    }
+
+    @Test
+    public void testPoolsAreCreatedOncePerVertx() {
+        assertThat(WorkerPools.get(vertx), is(sameInstance(WorkerPools.get(vertx))));
+    }
+
+    @Test
+    public void testQueuedAndActiveTasksAreExported(VertxTestContext context) throws InterruptedException {
+        MeterRegistry registry = new SimpleMeterRegistry();
+        WorkerPools pools = new WorkerPools(vertx, new MicrometerMetricsProvider(registry));
+        WorkerPools.Kind kind = WorkerPools.Kind.ZOOKEEPER;
+        int tasks = kind.poolSize() + 2;
+
+        CountDownLatch started = new CountDownLatch(kind.poolSize());
+        CountDownLatch release = new CountDownLatch(1);
+        List<Future> results = new ArrayList<>();
+        for (int i = 0; i < tasks; i++) {
+            Promise<Void> result = Promise.promise();
+            results.add(result.future());
+            pools.executeBlocking(kind, promise -> {
+                started.countDown();
+                try {
+                    release.await();
+                    promise.complete();
+                } catch (InterruptedException e) {
+                    promise.fail(e);
+                }
+            }, false, result);
+        }
+
+        assertThat(started.await(10, TimeUnit.SECONDS), is(true));
+        // All the threads of the pool are busy, so the other tasks wait in the queue
+        assertThat(gauge(registry, "worker.pool.active.threads", kind), is((double) kind.poolSize()));
+        assertThat(gauge(registry, "worker.pool.queue.size", kind), is(2.0));
+        // The other pools are not affected
+        assertThat(gauge(registry, "worker.pool.active.threads", WorkerPools.Kind.KUBERNETES_READ), is(0.0));
+
+        release.countDown();
+
+        Checkpoint async = context.checkpoint();
+        CompositeFuture.join(results).setHandler(context.succeeding(v -> context.verify(() -> {
+            assertThat(gauge(registry, "worker.pool.active.threads", kind), is(0.0));
+            assertThat(gauge(registry, "worker.pool.queue.size", kind), is(0.0));
+            assertThat(timer(registry, "worker.pool.wait.time", kind).count(), is((long) tasks));
+            assertThat(timer(registry, "worker.pool.run.time", kind).count(), is((long) tasks));
+            async.flag();
+        })));
+    }
+
+    @Test
+    public void testLongRunningTaskDoesNotDelayReads(VertxTestContext context) {
+        WorkerPools pools = new WorkerPools(vertx, new MicrometerMetricsProvider(new SimpleMeterRegistry()));
+        CountDownLatch release = new CountDownLatch(1);
+
+        Checkpoint async = context.checkpoint();
+        // Both tasks are submitted from the same context
+        vertx.runOnContext(ignored -> {
+            pools.executeBlocking(WorkerPools.Kind.LONG_RUNNING, promise -> {
+                try {
+                    release.await();
+                    promise.complete();
+                } catch (InterruptedException e) {
+                    promise.fail(e);
+                }
+            }, context.succeeding(v -> async.flag()));
+            pools.<Void>executeBlocking(WorkerPools.Kind.KUBERNETES_READ, Promise::complete, context.succeeding(v -> release.countDown()));
+        });
+    }
+
+    @Test
+    public void testPoolsOutliveTheVerticleWhichCreatedThem(VertxTestContext context) {
+        Promise<String> deployed = Promise.promise();
+        vertx.deployVerticle(new AbstractVerticle() {
+            @Override
+            public void start() {
+                WorkerPools.get(vertx);
+            }
+        }, deployed);
+
+        Checkpoint async = context.checkpoint();
+        deployed.future()
+            .compose(id -> {
+                Promise<Void> undeployed = Promise.promise();
+                vertx.undeploy(id, undeployed);
+                return undeployed.future();
+            })
+            .compose(ignored -> {
+                Promise<Void> result = Promise.promise();
+                WorkerPools.get(vertx).executeBlocking(WorkerPools.Kind.KUBERNETES_READ, Promise::complete, result);
+                return result.future();
+            })
+            .setHandler(context.succeeding(v -> async.flag()));
+    }
+}
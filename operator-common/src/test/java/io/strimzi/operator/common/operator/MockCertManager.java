@@ -4,6 +4,7 @@
  */
 package io.strimzi.operator.common.operator;
 
+import io.strimzi.certs.CertAndKey;
 import io.strimzi.certs.CertManager;
 import io.strimzi.certs.Subject;
 
@@ -13,6 +14,7 @@ import java.io.FileWriter;
 import java.io.IOException;
 import java.io.InputStream;
 import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.security.KeyStoreException;
 import java.security.NoSuchAlgorithmException;
@@ -218,6 +220,16 @@ public class MockCertManager implements CertManager {
         generateSelfSignedCert(keyFile, certFile, sbj, days);
     }
 
+    @Override
+    public CertAndKey generateSelfSignedCert(Subject sbj, int days) throws IOException {
+        return new CertAndKey(CLUSTER_KEY.getBytes(StandardCharsets.US_ASCII), CLUSTER_CERT.getBytes(StandardCharsets.US_ASCII));
+    }
+
+    @Override
+    public byte[] renewSelfSignedCert(byte[] key, Subject sbj, int days) throws IOException {
+        return CLUSTER_CERT.getBytes(StandardCharsets.US_ASCII);
+    }
+
     @Override
     public void addCertToTrustStore(File certFile, String certAlias, File trustStoreFile, String trustStorePassword)
             throws IOException, CertificateException, KeyStoreException, NoSuchAlgorithmException {
@@ -228,18 +240,40 @@ public class MockCertManager implements CertManager {
         }
     }
 
+    @Override
+    public byte[] addCertToTrustStore(byte[] cert, String certAlias, byte[] trustStore, String trustStorePassword) throws IOException {
+        String certString = new String(cert, Charset.defaultCharset());
+        if (CLUSTER_CERT.equals(certString)) {
+            return CLUSTER_CERT_STORE;
+        } else if (CLIENTS_CERT.equals(certString)) {
+            return CLIENTS_CERT_STORE;
+        } else {
+            return trustStore != null ? trustStore : new byte[0];
+        }
+    }
+
     @Override
     public void addKeyAndCertToKeyStore(File keyFile, File certFile, String alias, File keyStoreFile, String keyStorePassword) throws IOException {
         // never called during the tests which use this MockCertManager
         write(keyStoreFile, "key store");
     }
 
+    @Override
+    public byte[] addKeyAndCertToKeyStore(byte[] key, byte[] cert, String alias, String keyStorePassword) throws IOException {
+        return "key store".getBytes(Charset.defaultCharset());
+    }
+
     @Override
     public void deleteFromTrustStore(List<String> aliases, File trustStoreFile, String trustStorePassword)
             throws IOException, CertificateException, KeyStoreException, NoSuchAlgorithmException {
         // never called during the tests which use this MockCertManager
     }
 
+    @Override
+    public byte[] deleteFromTrustStore(List<String> aliases, byte[] trustStore, String trustStorePassword) throws IOException {
+        return trustStore;
+    }
+
     /**
      * Generate a certificate sign request
      *
@@ -253,6 +287,18 @@ public class MockCertManager implements CertManager {
         write(csrFile, "csr file");
     }
 
+    /**
+     * Generate a certificate sign request for an existing private key
+     *
+     * @param keyFile path to the file containing the existing private key
+     * @param csrFile path to the file which will contain the certificate sign request
+     * @param sbj     subject information
+     */
+    @Override
+    public void generateCsrForKey(File keyFile, File csrFile, Subject sbj) throws IOException {
+        write(csrFile, "csr file");
+    }
+
     /**
      * Generate a certificate signed by a Certificate Authority
      *
@@ -292,4 +338,14 @@ public class MockCertManager implements CertManager {
     public void generateCert(File csrFile, byte[] caKey, byte[] caCert, File crtFile, Subject sbj, int days) throws IOException {
         write(crtFile, "crt file");
     }
+
+    @Override
+    public CertAndKey generateSignedCert(Subject sbj, byte[] caKey, byte[] caCert, int days) throws IOException {
+        return new CertAndKey("key file".getBytes(StandardCharsets.US_ASCII), "crt file".getBytes(StandardCharsets.US_ASCII));
+    }
+
+    @Override
+    public byte[] generateSignedCertForKey(byte[] key, Subject sbj, byte[] caKey, byte[] caCert, int days) throws IOException {
+        return "crt file".getBytes(StandardCharsets.US_ASCII);
+    }
 }
@@ -4,6 +4,7 @@
  */
 package io.strimzi.operator.common.operator.resource;
 
+import io.strimzi.operator.common.WorkerPools;
 import io.strimzi.operator.common.model.Labels;
 
 import io.fabric8.kubernetes.api.model.DoneablePod;
@@ -47,7 +48,7 @@ public class PodOperatorTest extends
 
     @Test
     public void testCreateReadUpdate(VertxTestContext context) {
-        vertx.createSharedWorkerExecutor("kubernetes-ops-pool", 10);
+        WorkerPools.get(vertx);
         KubernetesClient client = server.getKubernetesClient();
         PodOperator pr = new PodOperator(vertx, client);
 
@@ -253,6 +253,7 @@ public class MetricsST extends BaseST {
     @Test
     void testTopicOperatorMetrics() {
         assertCoMetricNotNull("strimzi_reconciliations_locked_total", "KafkaTopic");
+        assertCoMetricNotNull("strimzi_reconciliations_merged_total", "KafkaTopic");
         assertCoMetricNotNull("strimzi_reconciliations_successful_total", "KafkaTopic");
         assertCoMetricNotNull("strimzi_reconciliations_duration_seconds_count", "KafkaTopic");
         assertCoMetricNotNull("strimzi_reconciliations_duration_seconds_sum", "KafkaTopic");
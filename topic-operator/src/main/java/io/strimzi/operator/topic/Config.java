@@ -98,8 +98,11 @@ public class Config {
     public static final String TC_PERIODIC_INTERVAL_MS = "STRIMZI_FULL_RECONCILIATION_INTERVAL_MS";
     public static final String TC_REASSIGN_THROTTLE = "STRIMZI_REASSIGN_THROTTLE";
     public static final String TC_REASSIGN_VERIFY_INTERVAL_MS = "STRIMZI_REASSIGN_VERIFY_INTERVAL_MS";
+    public static final String TC_REASSIGN_BATCH_SIZE = "STRIMZI_REASSIGN_BATCH_SIZE";
     public static final String TC_TOPIC_METADATA_MAX_ATTEMPTS = "STRIMZI_TOPIC_METADATA_MAX_ATTEMPTS";
     public static final String TC_TOPICS_PATH = "STRIMZI_TOPICS_PATH";
+    public static final String TC_FULL_RECONCILIATION_PARALLELISM = "STRIMZI_FULL_RECONCILIATION_PARALLELISM";
+    public static final String TC_STATUS_UPDATE_PARALLELISM = "STRIMZI_STATUS_UPDATE_PARALLELISM";
 
     public static final String TC_TLS_ENABLED = "STRIMZI_TLS_ENABLED";
     public static final String TC_TLS_TRUSTSTORE_LOCATION = "STRIMZI_TRUSTSTORE_LOCATION";
@@ -131,8 +134,11 @@ public class Config {
     /** The period between full reconciliations. */
     public static final Value<Long> FULL_RECONCILIATION_INTERVAL_MS = new Value<>(TC_PERIODIC_INTERVAL_MS, DURATION, "900000");
 
-    /** The interbroker throttled rate to use when a topic change requires partition reassignment. */
-    public static final Value<Long> REASSIGN_THROTTLE = new Value<>(TC_REASSIGN_THROTTLE, LONG, Long.toString(Long.MAX_VALUE));
+    /**
+     * The interbroker throttled rate, in bytes/second, to use when a topic change requires partition reassignment.
+     * {@link Long#MAX_VALUE} disables the throttling.
+     */
+    public static final Value<Long> REASSIGN_THROTTLE = new Value<>(TC_REASSIGN_THROTTLE, LONG, "10485760");
 
     /**
      * The interval between verification executions (as in {@code kafka-reassign-partitions.sh --verify ...})
@@ -140,12 +146,21 @@ public class Config {
      */
     public static final Value<Long> REASSIGN_VERIFY_INTERVAL_MS = new Value<>(TC_REASSIGN_VERIFY_INTERVAL_MS, DURATION, "120000");
 
+    /** The maximum number of partitions of a topic which are reassigned at the same time when its replication factor changes. */
+    public static final Value<Integer> REASSIGN_BATCH_SIZE = new Value<>(TC_REASSIGN_BATCH_SIZE, POSITIVE_INTEGER, "10");
+
     /** The maximum number of retries for getting topic metadata from the Kafka cluster */
     public static final Value<Integer> TOPIC_METADATA_MAX_ATTEMPTS = new Value<>(TC_TOPIC_METADATA_MAX_ATTEMPTS, POSITIVE_INTEGER, "6");
 
     /** The path to the Zookeeper node that stores the topic state in ZooKeeper. */
     public static final Value<String> TOPICS_PATH = new Value<>(TC_TOPICS_PATH, STRING, "/strimzi/topics");
 
+    /** The maximum number of topics reconciled at the same time during a full (initial or periodic) reconciliation. */
+    public static final Value<Integer> FULL_RECONCILIATION_PARALLELISM = new Value<>(TC_FULL_RECONCILIATION_PARALLELISM, POSITIVE_INTEGER, "20");
+
+    /** The maximum number of KafkaTopic status updates in flight at the same time. */
+    public static final Value<Integer> STATUS_UPDATE_PARALLELISM = new Value<>(TC_STATUS_UPDATE_PARALLELISM, POSITIVE_INTEGER, "10");
+
     /** If the connection with Kafka has to be encrypted by TLS protocol */
     public static final Value<String> TLS_ENABLED = new Value<>(TC_TLS_ENABLED, STRING, "false");
     /** The truststore with CA certificate for Kafka broker/server authentication */
@@ -170,8 +185,11 @@ public class Config {
         addConfigValue(configValues, FULL_RECONCILIATION_INTERVAL_MS);
         addConfigValue(configValues, REASSIGN_THROTTLE);
         addConfigValue(configValues, REASSIGN_VERIFY_INTERVAL_MS);
+        addConfigValue(configValues, REASSIGN_BATCH_SIZE);
         addConfigValue(configValues, TOPIC_METADATA_MAX_ATTEMPTS);
         addConfigValue(configValues, TOPICS_PATH);
+        addConfigValue(configValues, FULL_RECONCILIATION_PARALLELISM);
+        addConfigValue(configValues, STATUS_UPDATE_PARALLELISM);
         addConfigValue(configValues, TLS_ENABLED);
         addConfigValue(configValues, TLS_TRUSTSTORE_LOCATION);
         addConfigValue(configValues, TLS_TRUSTSTORE_PASSWORD);
@@ -5,7 +5,11 @@
 package io.strimzi.operator.topic;
 
 import io.vertx.core.Future;
+import org.apache.kafka.common.Node;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 /**
@@ -74,5 +78,76 @@ public interface Kafka {
      */
     Future<Set<String>> listTopics();
 
-}
+    /**
+     * Asynchronously describe the brokers of the Kafka cluster,
+     * completing the returned Future with the brokers (including their racks).
+     * If the operation fails the returned Future will be failed with the
+     * KafkaException (not an ExecutionException).
+     * @return A future which is completed with the brokers.
+     */
+    Future<Collection<Node>> describeBrokers();
+
+    /**
+     * Asynchronously start the reassignment of the given partitions of the given topic,
+     * completing the returned Future when the reassignment has been started (not when it has finished).
+     * If the operation fails the returned Future will be failed with the
+     * KafkaException (not an ExecutionException).
+     * @param topicName The name of the topic.
+     * @param assignment The new replicas of each of the partitions to be reassigned, keyed by partition.
+     * @return A future which is completed once the reassignment has been started.
+     */
+    Future<Void> reassignPartitions(TopicName topicName, Map<Integer, List<Integer>> assignment);
+
+    /**
+     * Asynchronously list the partitions of the given topic which are being reassigned.
+     * If the operation fails the returned Future will be failed with the
+     * KafkaException (not an ExecutionException).
+     * @param topicName The name of the topic.
+     * @return A future which is completed with the partitions being reassigned.
+     */
+    Future<Set<Integer>> partitionsBeingReassigned(TopicName topicName);
+
+    /**
+     * Asynchronously list the topics with partitions which are being reassigned.
+     * If the operation fails the returned Future will be failed with the
+     * KafkaException (not an ExecutionException).
+     * @return A future which is completed with the topics being reassigned.
+     */
+    Future<Set<TopicName>> topicsBeingReassigned();
+
+    /**
+     * Asynchronously find which of the given brokers have a replication throttled rate.
+     * If the operation fails the returned Future will be failed with the
+     * KafkaException (not an ExecutionException).
+     * @param brokers The brokers.
+     * @return A future which is completed with those of the given brokers which have a throttled rate.
+     */
+    Future<Set<Integer>> brokersWithReplicationThrottles(Set<Integer> brokers);
+
+    /**
+     * Asynchronously throttle the replication of the given replicas of the given topic
+     * and set the throttled rate of the given brokers.
+     * If the operation fails the returned Future will be failed with the
+     * KafkaException (not an ExecutionException).
+     * @param topicName The name of the topic.
+     * @param leaderReplicas The replicas (keyed by partition) which lead the throttled replication.
+     * @param followerReplicas The replicas (keyed by partition) which follow the throttled replication.
+     * @param brokers The brokers whose throttled rate is to be set.
+     * @param rate The throttled rate, in bytes/second.
+     * @return A future which is completed once the throttles have been set.
+     */
+    Future<Void> setReplicationThrottles(TopicName topicName, Map<Integer, List<Integer>> leaderReplicas,
+                                         Map<Integer, List<Integer>> followerReplicas, Set<Integer> brokers, long rate);
 
+    /**
+     * Asynchronously remove the replication throttles of the given topic
+     * and the throttled rate of the given brokers.
+     * If the operation fails the returned Future will be failed with the
+     * KafkaException (not an ExecutionException).
+     * @param topicName The name of the topic, or null to only remove the throttled rate of the brokers.
+     * @param brokers The brokers whose throttled rate is to be removed.
+     * @return A future which is completed once the throttles have been removed.
+     */
+    Future<Void> removeReplicationThrottles(TopicName topicName, Set<Integer> brokers);
+
+}
@@ -4,6 +4,9 @@
  */
 package io.strimzi.operator.topic;
 
+import io.opentracing.Span;
+import io.strimzi.api.kafka.model.KafkaTopic;
+import io.strimzi.operator.common.Tracing;
 import io.strimzi.operator.common.Util;
 import io.vertx.core.AsyncResult;
 import io.vertx.core.Future;
@@ -11,23 +14,37 @@ import io.vertx.core.Handler;
 import io.vertx.core.Promise;
 import io.vertx.core.Vertx;
 import org.apache.kafka.clients.admin.AdminClient;
+import org.apache.kafka.clients.admin.AlterConfigOp;
 import org.apache.kafka.clients.admin.Config;
+import org.apache.kafka.clients.admin.ConfigEntry;
 import org.apache.kafka.clients.admin.ListTopicsOptions;
 import org.apache.kafka.clients.admin.ListTopicsResult;
+import org.apache.kafka.clients.admin.NewPartitionReassignment;
 import org.apache.kafka.clients.admin.NewPartitions;
 import org.apache.kafka.clients.admin.NewTopic;
 import org.apache.kafka.clients.admin.TopicDescription;
 import org.apache.kafka.common.KafkaFuture;
+import org.apache.kafka.common.Node;
+import org.apache.kafka.common.TopicPartition;
 import org.apache.kafka.common.config.ConfigResource;
 import org.apache.kafka.common.errors.UnknownTopicOrPartitionException;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.ExecutionException;
 
+import static java.util.Arrays.asList;
+import static java.util.Collections.emptySet;
+
 /**
  * Partial implementation of {@link Kafka} omitting those methods which imply a partition assignment.
  * Subclasses will need to implement those method according to their own semantics.
@@ -69,13 +86,27 @@ public class KafkaImpl implements Kafka {
         protected abstract boolean complete();
     }
 
+    /**
+     * Wraps the handler of some work so that the work is traced with a span, which is a child of the active span.
+     * The span is about the given topic, or about the cluster when the topic is null.
+     */
+    private static <T> Handler<AsyncResult<T>> traced(String name, TopicName topicName, Handler<AsyncResult<T>> handler) {
+        Span span = topicName != null
+                ? Tracing.startSpan("kafka.admin." + name, KafkaTopic.RESOURCE_KIND, null, topicName.toString())
+                : Tracing.startSpan("kafka.admin." + name, null, null, null);
+        return result -> {
+            Tracing.finish(span, result);
+            handler.handle(result);
+        };
+    }
+
     /** Some work that depends on a single future */
     class UniWork<T> extends Work {
         private final KafkaFuture<T> future;
         private final Handler<AsyncResult<T>> handler;
         private final String name;
 
-        public UniWork(String name, KafkaFuture<T> future, Handler<AsyncResult<T>> handler) {
+        public UniWork(String name, TopicName topicName, KafkaFuture<T> future, Handler<AsyncResult<T>> handler) {
             if (future == null) {
                 throw new NullPointerException();
             }
@@ -83,7 +114,7 @@ public class KafkaImpl implements Kafka {
                 throw new NullPointerException();
             }
             this.future = future;
-            this.handler = handler;
+            this.handler = traced(name, topicName, handler);
             this.name = name;
         }
 
@@ -131,7 +162,7 @@ public class KafkaImpl implements Kafka {
         private final Handler<AsyncResult<TopicMetadata>> handler;
         private boolean handled = false;
 
-        public MetadataWork(KafkaFuture<TopicDescription> descFuture,
+        public MetadataWork(TopicName topicName, KafkaFuture<TopicDescription> descFuture,
                             KafkaFuture<Config> configFuture, Handler<AsyncResult<TopicMetadata>> handler) {
             if (descFuture == null) {
                 throw new NullPointerException();
@@ -144,7 +175,7 @@ public class KafkaImpl implements Kafka {
             }
             this.descFuture = descFuture;
             this.configFuture = configFuture;
-            this.handler = handler;
+            this.handler = traced("topicMetadata", topicName, handler);
         }
 
 
@@ -223,7 +254,7 @@ public class KafkaImpl implements Kafka {
         LOGGER.debug("Deleting topic {}", topicName);
         KafkaFuture<Void> future = adminClient.deleteTopics(
                 Collections.singleton(topicName.toString())).values().get(topicName.toString());
-        queueWork(new UniWork<>("deleteTopic", future, handler));
+        queueWork(new UniWork<>("deleteTopic", topicName, future, handler));
         return handler.future().compose(ig ->
                 Util.waitFor(vertx, "deleted sync " + topicName, "deleted", 1000, 120_000, () -> {
                     try {
@@ -246,7 +277,7 @@ public class KafkaImpl implements Kafka {
         Promise<Void> handler = Promise.promise();
         Map<ConfigResource, Config> configs = TopicSerialization.toTopicConfig(topic);
         KafkaFuture<Void> future = adminClient.alterConfigs(configs).values().get(configs.keySet().iterator().next());
-        queueWork(new UniWork<>("updateTopicConfig", future, handler));
+        queueWork(new UniWork<>("updateTopicConfig", topic.getTopicName(), future, handler));
         return handler.future();
     }
 
@@ -263,7 +294,7 @@ public class KafkaImpl implements Kafka {
                 Collections.singleton(topicName.toString())).values().get(topicName.toString());
         KafkaFuture<Config> configFuture = adminClient.describeConfigs(
                 Collections.singleton(resource)).values().get(resource);
-        queueWork(new MetadataWork(descriptionFuture,
+        queueWork(new MetadataWork(topicName, descriptionFuture,
             configFuture,
             result -> handler.handle(result)));
         return handler.future();
@@ -278,7 +309,7 @@ public class KafkaImpl implements Kafka {
         listOptions.listInternal(true);
 
         ListTopicsResult future = adminClient.listTopics(listOptions);
-        queueWork(new UniWork<>("listTopics", future.names(), handler));
+        queueWork(new UniWork<>("listTopics", null, future.names(), handler));
         return handler.future();
     }
 
@@ -289,7 +320,7 @@ public class KafkaImpl implements Kafka {
         final NewPartitions newPartitions = NewPartitions.increaseTo(topic.getNumPartitions());
         final Map<String, NewPartitions> request = Collections.singletonMap(topic.getTopicName().toString(), newPartitions);
         KafkaFuture<Void> future = adminClient.createPartitions(request).values().get(topic.getTopicName().toString());
-        queueWork(new UniWork<>("increasePartitions", future, handler));
+        queueWork(new UniWork<>("increasePartitions", topic.getTopicName(), future, handler));
         return handler.future();
     }
 
@@ -305,8 +336,152 @@ public class KafkaImpl implements Kafka {
         LOGGER.debug("Creating topic {}", newTopic);
         KafkaFuture<Void> future = adminClient.createTopics(
                 Collections.singleton(newTopic)).values().get(newTopic.name());
-        queueWork(new UniWork<>("createTopic", future, handler));
+        queueWork(new UniWork<>("createTopic", topic.getTopicName(), future, handler));
+        return handler.future();
+    }
+
+    @Override
+    public Future<Collection<Node>> describeBrokers() {
+        Promise<Collection<Node>> handler = Promise.promise();
+        LOGGER.debug("Describing brokers");
+        queueWork(new UniWork<>("describeBrokers", null, adminClient.describeCluster().nodes(), handler));
+        return handler.future();
+    }
+
+    @Override
+    public Future<Void> reassignPartitions(TopicName topicName, Map<Integer, List<Integer>> assignment) {
+        Promise<Void> handler = Promise.promise();
+        LOGGER.debug("Reassigning partitions of topic {} to {}", topicName, assignment);
+        Map<TopicPartition, Optional<NewPartitionReassignment>> reassignments = new HashMap<>(assignment.size());
+        for (Map.Entry<Integer, List<Integer>> entry : assignment.entrySet()) {
+            reassignments.put(new TopicPartition(topicName.toString(), entry.getKey()),
+                    Optional.of(new NewPartitionReassignment(entry.getValue())));
+        }
+        queueWork(new UniWork<>("reassignPartitions", topicName, adminClient.alterPartitionReassignments(reassignments).all(), handler));
+        return handler.future();
+    }
+
+    @Override
+    public Future<Set<Integer>> partitionsBeingReassigned(TopicName topicName) {
+        Promise<Set<Integer>> handler = Promise.promise();
+        LOGGER.debug("Listing the partitions of topic {} being reassigned", topicName);
+        KafkaFuture<Set<Integer>> future = adminClient.listPartitionReassignments().reassignments().thenApply(reassignments -> {
+            Set<Integer> partitions = new HashSet<>();
+            for (TopicPartition partition : reassignments.keySet()) {
+                if (partition.topic().equals(topicName.toString())) {
+                    partitions.add(partition.partition());
+                }
+            }
+            return partitions;
+        });
+        queueWork(new UniWork<>("partitionsBeingReassigned", topicName, future, handler));
+        return handler.future();
+    }
+
+    @Override
+    public Future<Set<TopicName>> topicsBeingReassigned() {
+        Promise<Set<TopicName>> handler = Promise.promise();
+        LOGGER.debug("Listing the topics being reassigned");
+        KafkaFuture<Set<TopicName>> future = adminClient.listPartitionReassignments().reassignments().thenApply(reassignments -> {
+            Set<TopicName> topics = new HashSet<>();
+            for (TopicPartition partition : reassignments.keySet()) {
+                topics.add(new TopicName(partition.topic()));
+            }
+            return topics;
+        });
+        queueWork(new UniWork<>("topicsBeingReassigned", null, future, handler));
+        return handler.future();
+    }
+
+    @Override
+    public Future<Set<Integer>> brokersWithReplicationThrottles(Set<Integer> brokers) {
+        if (brokers.isEmpty()) {
+            return Future.succeededFuture(emptySet());
+        }
+        Promise<Set<Integer>> handler = Promise.promise();
+        LOGGER.debug("Describing the replication throttles of brokers {}", brokers);
+        List<ConfigResource> resources = new ArrayList<>(brokers.size());
+        for (Integer broker : brokers) {
+            resources.add(new ConfigResource(ConfigResource.Type.BROKER, broker.toString()));
+        }
+        KafkaFuture<Set<Integer>> future = adminClient.describeConfigs(resources).all().thenApply(configs -> {
+            Set<Integer> throttled = new HashSet<>();
+            for (Map.Entry<ConfigResource, Config> entry : configs.entrySet()) {
+                if (isSet(entry.getValue().get(PartitionReassigner.LEADER_THROTTLED_RATE))
+                        || isSet(entry.getValue().get(PartitionReassigner.FOLLOWER_THROTTLED_RATE))) {
+                    throttled.add(Integer.valueOf(entry.getKey().name()));
+                }
+            }
+            return throttled;
+        });
+        queueWork(new UniWork<>("brokersWithReplicationThrottles", null, future, handler));
+        return handler.future();
+    }
+
+    /**
+     * @return Whether the given broker config was set, either for the broker or as the default of all the brokers.
+     */
+    private static boolean isSet(ConfigEntry entry) {
+        return entry != null
+                && (entry.source() == ConfigEntry.ConfigSource.DYNAMIC_BROKER_CONFIG
+                    || entry.source() == ConfigEntry.ConfigSource.DYNAMIC_DEFAULT_BROKER_CONFIG);
+    }
+
+    @Override
+    public Future<Void> setReplicationThrottles(TopicName topicName, Map<Integer, List<Integer>> leaderReplicas,
+                                                Map<Integer, List<Integer>> followerReplicas, Set<Integer> brokers, long rate) {
+        Promise<Void> handler = Promise.promise();
+        LOGGER.debug("Throttling replication of topic {} to {} bytes/s on brokers {}", topicName, rate, brokers);
+        Map<ConfigResource, Collection<AlterConfigOp>> configs = new HashMap<>();
+        configs.put(new ConfigResource(ConfigResource.Type.TOPIC, topicName.toString()), asList(
+                set(PartitionReassigner.LEADER_THROTTLED_REPLICAS, throttledReplicas(leaderReplicas)),
+                set(PartitionReassigner.FOLLOWER_THROTTLED_REPLICAS, throttledReplicas(followerReplicas))));
+        for (Integer broker : brokers) {
+            configs.put(new ConfigResource(ConfigResource.Type.BROKER, broker.toString()), asList(
+                    set(PartitionReassigner.LEADER_THROTTLED_RATE, Long.toString(rate)),
+                    set(PartitionReassigner.FOLLOWER_THROTTLED_RATE, Long.toString(rate))));
+        }
+        queueWork(new UniWork<>("setReplicationThrottles", topicName, adminClient.incrementalAlterConfigs(configs).all(), handler));
+        return handler.future();
+    }
+
+    @Override
+    public Future<Void> removeReplicationThrottles(TopicName topicName, Set<Integer> brokers) {
+        Promise<Void> handler = Promise.promise();
+        LOGGER.debug("Removing replication throttles of topic {} and brokers {}", topicName, brokers);
+        Map<ConfigResource, Collection<AlterConfigOp>> configs = new HashMap<>();
+        if (topicName != null) {
+            configs.put(new ConfigResource(ConfigResource.Type.TOPIC, topicName.toString()), asList(
+                    delete(PartitionReassigner.LEADER_THROTTLED_REPLICAS),
+                    delete(PartitionReassigner.FOLLOWER_THROTTLED_REPLICAS)));
+        }
+        for (Integer broker : brokers) {
+            configs.put(new ConfigResource(ConfigResource.Type.BROKER, broker.toString()), asList(
+                    delete(PartitionReassigner.LEADER_THROTTLED_RATE),
+                    delete(PartitionReassigner.FOLLOWER_THROTTLED_RATE)));
+        }
+        queueWork(new UniWork<>("removeReplicationThrottles", topicName, adminClient.incrementalAlterConfigs(configs).all(), handler));
         return handler.future();
     }
 
+    private static AlterConfigOp set(String name, String value) {
+        return new AlterConfigOp(new ConfigEntry(name, value), AlterConfigOp.OpType.SET);
+    }
+
+    private static AlterConfigOp delete(String name) {
+        return new AlterConfigOp(new ConfigEntry(name, null), AlterConfigOp.OpType.DELETE);
+    }
+
+    /**
+     * @return The given replicas in the {@code <partition>:<broker>,...} format of the throttled replicas topic configs.
+     */
+    private static String throttledReplicas(Map<Integer, List<Integer>> replicas) {
+        List<String> result = new ArrayList<>();
+        for (Map.Entry<Integer, List<Integer>> entry : replicas.entrySet()) {
+            for (Integer broker : entry.getValue()) {
+                result.add(entry.getKey() + ":" + broker);
+            }
+        }
+        return String.join(",", result);
+    }
 }
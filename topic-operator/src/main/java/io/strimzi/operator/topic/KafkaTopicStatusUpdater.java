@@ -0,0 +1,115 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.topic;
+
+import io.strimzi.api.kafka.model.KafkaTopic;
+import io.strimzi.api.kafka.model.KafkaTopicBuilder;
+import io.strimzi.api.kafka.model.status.KafkaTopicStatus;
+import io.strimzi.operator.cluster.model.StatusDiff;
+import io.strimzi.operator.common.ConcurrencyLimiter;
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * <p>Writes the status of {@code KafkaTopic}s, independently of the actions which compute them.</p>
+ *
+ * <p>At most one status write per resource is in flight. While it is, further statuses for the same resource are
+ * coalesced, so only the last of them is written once the write in flight has completed.
+ * The number of writes in flight over all resources is bounded.
+ * A status is not written if it's the same as the resource's current status. It is compared with that status
+ * rather than the one last written by the operator, since the status might have been changed since.</p>
+ */
+class KafkaTopicStatusUpdater {
+
+    private final static Logger LOGGER = LogManager.getLogger(KafkaTopicStatusUpdater.class);
+
+    private static class Update {
+        private final Promise<KafkaTopic> promise = Promise.promise();
+        private LogContext logContext;
+        private KafkaTopic topic;
+        private KafkaTopicStatus status;
+    }
+
+    private final K8s k8s;
+    private final ConcurrencyLimiter limiter;
+
+    /** The updates which are waiting for the in flight update of the same resource. Guarded by {@code this}. */
+    private final Map<String, Update> waiting = new HashMap<>();
+    /** The resources with an update in flight. Guarded by {@code this}. */
+    private final Set<String> inFlight = new HashSet<>();
+
+    KafkaTopicStatusUpdater(K8s k8s, int maxInFlight) {
+        this.k8s = k8s;
+        this.limiter = new ConcurrencyLimiter(maxInFlight);
+    }
+
+    /**
+     * Write the given status to the given resource, unless a later status for the same resource
+     * is submitted before the write starts.
+     * @param logContext The log context.
+     * @param topic The resource.
+     * @param status The status.
+     * @return A future which completes with the updated resource, or with null if no write was necessary.
+     */
+    Future<KafkaTopic> update(LogContext logContext, KafkaTopic topic, KafkaTopicStatus status) {
+        String name = topic.getMetadata().getName();
+        Update update;
+        boolean start;
+        synchronized (this) {
+            update = waiting.get(name);
+            if (update != null) {
+                LOGGER.debug("{}: Coalescing status update of {} with the waiting one", logContext, name);
+            } else {
+                update = new Update();
+                waiting.put(name, update);
+            }
+            update.logContext = logContext;
+            update.topic = topic;
+            update.status = status;
+            start = !inFlight.contains(name);
+        }
+        if (start) {
+            startNext(name);
+        }
+        return update.promise.future();
+    }
+
+    private void startNext(String name) {
+        Update update;
+        synchronized (this) {
+            update = waiting.remove(name);
+            if (update == null) {
+                return;
+            }
+            inFlight.add(name);
+        }
+        limiter.submit(() -> write(name, update)).setHandler(ar -> {
+            boolean next;
+            synchronized (this) {
+                inFlight.remove(name);
+                next = waiting.containsKey(name);
+            }
+            update.promise.handle(ar);
+            if (next) {
+                startNext(name);
+            }
+        });
+    }
+
+    private Future<KafkaTopic> write(String name, Update update) {
+        if (new StatusDiff(update.topic.getStatus(), update.status).isEmpty()) {
+            LOGGER.debug("{}: Status of {} is unchanged", update.logContext, name);
+            return Future.succeededFuture();
+        }
+        return k8s.updateResourceStatus(new KafkaTopicBuilder(update.topic).withStatus(update.status).build());
+    }
+}
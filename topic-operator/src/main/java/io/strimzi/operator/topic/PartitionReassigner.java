@@ -0,0 +1,514 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.topic;
+
+import io.vertx.core.CompositeFuture;
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import io.vertx.core.Vertx;
+import org.apache.kafka.clients.admin.ConfigEntry;
+import org.apache.kafka.common.Node;
+import org.apache.kafka.common.TopicPartitionInfo;
+import org.apache.kafka.common.errors.InvalidReplicationFactorException;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+
+import static java.util.Arrays.asList;
+import static java.util.Collections.disjoint;
+import static java.util.Collections.emptySet;
+
+/**
+ * <p>Changes the replication factor of topics by reassigning their partitions.</p>
+ *
+ * <p>The new assignment is rack-aware: replicas are added on the least loaded brokers in racks which don't already
+ * host a replica of the partition, and are removed from the end of the replica list (so the preferred leader
+ * doesn't change), preferring replicas in racks which host more than one replica of the partition.</p>
+ *
+ * <p>The partitions are reassigned in batches of at most {@code batchSize} partitions. Unless the throttle is
+ * {@link Long#MAX_VALUE}, the replication of each batch is throttled and the throttles are removed once all
+ * the partitions of the topic have been reassigned. The throttles which the operator sets are recorded in the
+ * {@link ThrottleStore} before they're set, and only those are ever removed: the throttled rate of a broker which
+ * already has one, and the throttled replicas of a topic which already has some, for example set by an administrator
+ * or by Cruise Control, are neither changed nor removed. Because the throttled replicas are topic configs which the
+ * Topic Operator sets itself, {@link #withoutThrottles(Topic)} hides them from the reconciliation. Throttles left
+ * behind by a restart of the operator, or which could not be removed, are removed by
+ * {@link #removeStaleThrottles(LogContext)}.</p>
+ *
+ * <p>The {@code progressListener} is called with the topic name each time a batch has completed, and once the
+ * reassignment has finished or failed, so that the topic can be reconciled and its status updated.</p>
+ */
+class PartitionReassigner {
+
+    private final static Logger LOGGER = LogManager.getLogger(PartitionReassigner.class);
+
+    static final String LEADER_THROTTLED_REPLICAS = "leader.replication.throttled.replicas";
+    static final String FOLLOWER_THROTTLED_REPLICAS = "follower.replication.throttled.replicas";
+    static final String LEADER_THROTTLED_RATE = "leader.replication.throttled.rate";
+    static final String FOLLOWER_THROTTLED_RATE = "follower.replication.throttled.rate";
+
+    /**
+     * The progress of the reassignment of a topic.
+     */
+    static class Reassignment {
+        private final TopicName topicName;
+        private final int replicationFactor;
+        private final Map<Integer, List<Integer>> current;
+        private final Map<Integer, List<Integer>> target;
+        private final List<Integer> pending;
+        private final Set<Integer> throttledBrokers = new HashSet<>();
+        private final boolean externallyThrottled;
+        private volatile int reassigned = 0;
+        private volatile boolean throttled = false;
+        private volatile Throwable failure;
+
+        Reassignment(TopicName topicName, int replicationFactor, Map<Integer, List<Integer>> current, Map<Integer, List<Integer>> target,
+                     boolean externallyThrottled) {
+            this.topicName = topicName;
+            this.externallyThrottled = externallyThrottled;
+            this.replicationFactor = replicationFactor;
+            this.current = current;
+            this.target = target;
+            this.pending = new ArrayList<>(target.keySet());
+        }
+
+        int replicationFactor() {
+            return replicationFactor;
+        }
+
+        int reassignedPartitions() {
+            return reassigned;
+        }
+
+        int totalPartitions() {
+            return target.size();
+        }
+
+        @Override
+        public String toString() {
+            return "Reassigned " + reassigned + " of " + target.size() + " partitions of topic " + topicName
+                    + " to " + replicationFactor + " replicas";
+        }
+    }
+
+    private final Vertx vertx;
+    private final Kafka kafka;
+    private final ThrottleStore throttleStore;
+    private final long throttle;
+    private final long verifyIntervalMs;
+    private final int batchSize;
+    private final Consumer<TopicName> progressListener;
+
+    private final ConcurrentHashMap<TopicName, Reassignment> reassignments = new ConcurrentHashMap<>();
+    /** The topics whose throttled replicas were set by the operator. Guarded by {@code this}. */
+    private final Set<TopicName> throttledTopics = new HashSet<>();
+    /** The number of reassignments using the throttled rate of each broker. Guarded by {@code this}. */
+    private final Map<Integer, Integer> throttledBrokers = new HashMap<>();
+    /** The brokers whose throttled rate was set by the operator, but which no reassignment uses. Guarded by {@code this}. */
+    private final Set<Integer> staleBrokers = new HashSet<>();
+    /** The last write to the throttle store, which the next write follows. Guarded by {@code this}. */
+    private Future<Void> lastWrite;
+
+    PartitionReassigner(Vertx vertx, Kafka kafka, ThrottleStore throttleStore, long throttle, long verifyIntervalMs, int batchSize,
+                        Consumer<TopicName> progressListener) {
+        this.vertx = vertx;
+        this.kafka = kafka;
+        this.throttleStore = throttleStore;
+        this.throttle = throttle;
+        this.verifyIntervalMs = verifyIntervalMs;
+        this.batchSize = batchSize;
+        this.progressListener = progressListener;
+        // The throttles set before a restart are stale, until they're used by a reassignment again
+        this.lastWrite = throttleStore.read().map(throttles -> {
+            synchronized (this) {
+                throttledTopics.addAll(throttles.topics());
+                staleBrokers.addAll(throttles.brokers());
+            }
+            return (Void) null;
+        }).recover(error -> {
+            LOGGER.warn("Error reading the replication throttles set by the operator", error);
+            return Future.succeededFuture();
+        });
+    }
+
+    /**
+     * Ensure all the partitions of the given topic have the given number of replicas, starting a reassignment
+     * if they don't. This is idempotent: While a reassignment to the same replication factor is in progress
+     * it is returned rather than started again.
+     * @param logContext The log context.
+     * @param topicName The name of the topic.
+     * @param replicationFactor The desired replication factor.
+     * @return A future which completes with null if all the partitions already have the given number of replicas,
+     * or with the reassignment in progress.
+     * The future fails if the reassignment is not possible, or if the last attempt at it failed.
+     */
+    Future<Reassignment> ensureReplicationFactor(LogContext logContext, TopicName topicName, int replicationFactor) {
+        Reassignment inProgress = reassignments.get(topicName);
+        if (inProgress != null) {
+            if (inProgress.failure != null) {
+                // Report the failure once, the next reconciliation will try again
+                reassignments.remove(topicName, inProgress);
+                return Future.failedFuture(inProgress.failure);
+            } else if (inProgress.replicationFactor == replicationFactor) {
+                return Future.succeededFuture(inProgress);
+            } else {
+                return Future.failedFuture(new InvalidReplicationFactorException("The replicas of the topic are still being changed to "
+                        + inProgress.replicationFactor + ", the replicas can be changed to " + replicationFactor + " once that has finished"));
+            }
+        }
+        return CompositeFuture.all(kafka.topicMetadata(topicName), kafka.describeBrokers()).compose(results -> {
+            TopicMetadata metadata = results.resultAt(0);
+            if (metadata == null) {
+                return Future.succeededFuture();
+            }
+            Map<Integer, List<Integer>> current = new TreeMap<>();
+            for (TopicPartitionInfo partition : metadata.getDescription().partitions()) {
+                List<Integer> replicas = new ArrayList<>(partition.replicas().size());
+                for (Node replica : partition.replicas()) {
+                    replicas.add(replica.id());
+                }
+                current.put(partition.partition(), replicas);
+            }
+            Map<Integer, List<Integer>> target = assignment(current, replicationFactor, results.resultAt(1));
+            if (target.isEmpty()) {
+                return Future.succeededFuture();
+            }
+            Reassignment reassignment = new Reassignment(topicName, replicationFactor, current, target,
+                    isExternallyThrottled(topicName, metadata));
+            reassignments.put(topicName, reassignment);
+            LOGGER.info("{}: Changing the replicas of {} partitions of topic {} to {}", logContext, target.size(), topicName, replicationFactor);
+            reassignNextBatch(logContext, reassignment);
+            return Future.succeededFuture(reassignment);
+        });
+    }
+
+    /**
+     * @return Whether the given topic has throttled replicas which were not set by the operator.
+     */
+    private boolean isExternallyThrottled(TopicName topicName, TopicMetadata metadata) {
+        synchronized (this) {
+            if (throttledTopics.contains(topicName)) {
+                return false;
+            }
+        }
+        for (String key : asList(LEADER_THROTTLED_REPLICAS, FOLLOWER_THROTTLED_REPLICAS)) {
+            ConfigEntry entry = metadata.getConfig().get(key);
+            if (entry != null && entry.value() != null && !entry.value().isEmpty()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns the given topic without the throttled replicas configs, if they were set by the Topic Operator,
+     * so that they're not copied to the {@code KafkaTopic}.
+     * @param kafkaTopic A topic as read from Kafka.
+     * @return The given topic without the throttled replicas configs set by the operator.
+     */
+    Topic withoutThrottles(Topic kafkaTopic) {
+        synchronized (this) {
+            if (!throttledTopics.contains(kafkaTopic.getTopicName())) {
+                return kafkaTopic;
+            }
+        }
+        Map<String, String> config = new HashMap<>(kafkaTopic.getConfig());
+        config.remove(LEADER_THROTTLED_REPLICAS);
+        config.remove(FOLLOWER_THROTTLED_REPLICAS);
+        return new Topic.Builder(kafkaTopic).withConfig(config).build();
+    }
+
+    /**
+     * Removes the throttles set by the operator which are no longer used by a reassignment, such as those left
+     * behind by a restart of the operator while a throttled reassignment was in progress. The throttles of a topic
+     * which Kafka is still reassigning, and the throttled rate of the brokers while there's such a topic, are kept.
+     * @param logContext The log context.
+     * @return A future which completes once the stale throttles have been removed. It never fails.
+     */
+    Future<Void> removeStaleThrottles(LogContext logContext) {
+        Future<Void> loaded;
+        synchronized (this) {
+            loaded = lastWrite;
+        }
+        return loaded.recover(ignored -> Future.succeededFuture()).compose(ignored -> {
+            Set<TopicName> topics;
+            Set<Integer> brokers;
+            synchronized (this) {
+                topics = new HashSet<>(throttledTopics);
+                topics.removeAll(reassignments.keySet());
+                brokers = new HashSet<>(staleBrokers);
+            }
+            if (topics.isEmpty() && brokers.isEmpty()) {
+                return Future.<Void>succeededFuture();
+            }
+            return kafka.topicsBeingReassigned().compose(beingReassigned -> {
+                List<Future> removals = new ArrayList<>();
+                for (TopicName topicName : topics) {
+                    if (beingReassigned.contains(topicName)) {
+                        LOGGER.debug("{}: Topic {} is still being reassigned, keeping its replication throttles", logContext, topicName);
+                        continue;
+                    }
+                    LOGGER.info("{}: Removing the stale replication throttles of topic {}", logContext, topicName);
+                    removals.add(kafka.removeReplicationThrottles(topicName, emptySet()).map(removed -> {
+                        synchronized (this) {
+                            if (!reassignments.containsKey(topicName)) {
+                                throttledTopics.remove(topicName);
+                            }
+                        }
+                        return null;
+                    }));
+                }
+                if (!brokers.isEmpty() && disjoint(topics, beingReassigned)) {
+                    LOGGER.info("{}: Removing the stale replication throttles of brokers {}", logContext, brokers);
+                    removals.add(kafka.removeReplicationThrottles(null, brokers).map(removed -> {
+                        synchronized (this) {
+                            staleBrokers.removeAll(brokers);
+                        }
+                        return null;
+                    }));
+                }
+                return CompositeFuture.join(removals).compose(removed -> storeThrottles(), error -> storeThrottles()
+                        .compose(stored -> Future.failedFuture(error)));
+            });
+        }).recover(error -> {
+            LOGGER.warn("{}: Error removing stale replication throttles", logContext, error);
+            return Future.succeededFuture();
+        });
+    }
+
+    /**
+     * Records the throttles currently set by the operator in the throttle store, after any previous write.
+     */
+    private synchronized Future<Void> storeThrottles() {
+        Set<Integer> brokers = new HashSet<>(throttledBrokers.keySet());
+        brokers.addAll(staleBrokers);
+        ThrottleStore.Throttles throttles = new ThrottleStore.Throttles(throttledTopics, brokers);
+        lastWrite = lastWrite.recover(ignored -> Future.succeededFuture()).compose(ignored -> throttleStore.write(throttles));
+        return lastWrite;
+    }
+
+    private void reassignNextBatch(LogContext logContext, Reassignment reassignment) {
+        List<Integer> batch = new ArrayList<>(reassignment.pending.subList(0, Math.min(batchSize, reassignment.pending.size())));
+        if (batch.isEmpty()) {
+            removeThrottles(logContext, reassignment).setHandler(ignored -> {
+                LOGGER.info("{}: {}", logContext, reassignment);
+                reassignments.remove(reassignment.topicName, reassignment);
+                progressListener.accept(reassignment.topicName);
+            });
+            return;
+        }
+        Map<Integer, List<Integer>> assignment = new LinkedHashMap<>();
+        for (Integer partition : batch) {
+            assignment.put(partition, reassignment.target.get(partition));
+        }
+        setThrottles(logContext, reassignment, batch)
+            .compose(ignored -> kafka.reassignPartitions(reassignment.topicName, assignment))
+            .compose(ignored -> awaitReassigned(reassignment.topicName, batch))
+            .setHandler(ar -> {
+                if (ar.succeeded()) {
+                    reassignment.pending.removeAll(batch);
+                    reassignment.reassigned += batch.size();
+                    LOGGER.debug("{}: {}", logContext, reassignment);
+                    if (!reassignment.pending.isEmpty()) {
+                        progressListener.accept(reassignment.topicName);
+                    }
+                    reassignNextBatch(logContext, reassignment);
+                } else {
+                    LOGGER.error("{}: Error reassigning partitions {} of topic {}", logContext, batch, reassignment.topicName, ar.cause());
+                    removeThrottles(logContext, reassignment).setHandler(ignored -> {
+                        reassignment.failure = ar.cause();
+                        progressListener.accept(reassignment.topicName);
+                    });
+                }
+            });
+    }
+
+    private Future<Void> awaitReassigned(TopicName topicName, List<Integer> batch) {
+        Promise<Void> result = Promise.promise();
+        vertx.setTimer(verifyIntervalMs, timerId ->
+            kafka.partitionsBeingReassigned(topicName).setHandler(ar -> {
+                if (ar.failed()) {
+                    result.fail(ar.cause());
+                } else if (batch.stream().anyMatch(ar.result()::contains)) {
+                    awaitReassigned(topicName, batch).setHandler(result);
+                } else {
+                    result.complete();
+                }
+            }));
+        return result.future();
+    }
+
+    private Future<Void> setThrottles(LogContext logContext, Reassignment reassignment, List<Integer> batch) {
+        Map<Integer, List<Integer>> leaderReplicas = new LinkedHashMap<>();
+        Map<Integer, List<Integer>> followerReplicas = new LinkedHashMap<>();
+        for (Integer partition : batch) {
+            List<Integer> added = new ArrayList<>(reassignment.target.get(partition));
+            added.removeAll(reassignment.current.get(partition));
+            if (!added.isEmpty()) {
+                leaderReplicas.put(partition, reassignment.current.get(partition));
+                followerReplicas.put(partition, added);
+            }
+        }
+        if (throttle == Long.MAX_VALUE || followerReplicas.isEmpty()) {
+            // Unthrottled, or nothing to replicate (e.g. when the replicas are only being decreased)
+            return Future.succeededFuture();
+        }
+        if (reassignment.externallyThrottled) {
+            LOGGER.info("{}: Topic {} already has replication throttles, which are left as they are", logContext, reassignment.topicName);
+            return Future.succeededFuture();
+        }
+        Set<Integer> brokers = new HashSet<>();
+        leaderReplicas.values().forEach(brokers::addAll);
+        followerReplicas.values().forEach(brokers::addAll);
+        Set<Integer> unknown = new HashSet<>(brokers);
+        synchronized (this) {
+            unknown.removeAll(throttledBrokers.keySet());
+            unknown.removeAll(staleBrokers);
+        }
+        // The throttled rate of the brokers which have one which the operator didn't set is left as it is
+        return kafka.brokersWithReplicationThrottles(unknown).compose(externallyThrottled -> {
+            Set<Integer> newlyThrottled = new HashSet<>();
+            synchronized (this) {
+                for (Integer broker : brokers) {
+                    if (externallyThrottled.contains(broker) && !throttledBrokers.containsKey(broker) && !staleBrokers.contains(broker)) {
+                        continue;
+                    }
+                    if (reassignment.throttledBrokers.add(broker)
+                            && throttledBrokers.merge(broker, 1, Integer::sum) == 1) {
+                        staleBrokers.remove(broker);
+                        newlyThrottled.add(broker);
+                    }
+                }
+                throttledTopics.add(reassignment.topicName);
+            }
+            reassignment.throttled = true;
+            LOGGER.debug("{}: Throttling replication of partitions {} of topic {} to {} bytes/s", logContext, followerReplicas.keySet(), reassignment.topicName, throttle);
+            return storeThrottles().compose(ignored ->
+                    kafka.setReplicationThrottles(reassignment.topicName, leaderReplicas, followerReplicas, newlyThrottled, throttle));
+        });
+    }
+
+    private Future<Void> removeThrottles(LogContext logContext, Reassignment reassignment) {
+        if (!reassignment.throttled) {
+            return Future.succeededFuture();
+        }
+        Set<Integer> unthrottled = new HashSet<>();
+        synchronized (this) {
+            // Other topics might still be being reassigned using the throttled rate of some of the brokers
+            for (Integer broker : reassignment.throttledBrokers) {
+                if (throttledBrokers.merge(broker, -1, Integer::sum) == 0) {
+                    throttledBrokers.remove(broker);
+                    unthrottled.add(broker);
+                }
+            }
+            reassignment.throttledBrokers.clear();
+        }
+        Promise<Void> removed = Promise.promise();
+        kafka.removeReplicationThrottles(reassignment.topicName, unthrottled).setHandler(ar -> {
+            synchronized (this) {
+                if (ar.succeeded()) {
+                    throttledTopics.remove(reassignment.topicName);
+                } else {
+                    LOGGER.warn("{}: Error removing the replication throttles of topic {} and brokers {}, they will be removed later",
+                            logContext, reassignment.topicName, unthrottled, ar.cause());
+                    staleBrokers.addAll(unthrottled);
+                }
+            }
+            removed.complete();
+        });
+        return removed.future().compose(ignored -> storeThrottles()).recover(error -> {
+            LOGGER.warn("{}: Error storing the replication throttles", logContext, error);
+            return Future.succeededFuture();
+        }).map(ignored -> {
+            reassignment.throttled = false;
+            return null;
+        });
+    }
+
+    /**
+     * Compute a rack-aware assignment of the given partitions to the given number of replicas.
+     * @param current The current replicas of each partition.
+     * @param replicationFactor The desired number of replicas.
+     * @param brokers The brokers of the cluster.
+     * @return The new replicas of those partitions which don't have the desired number of replicas.
+     * @throws InvalidReplicationFactorException If there are not enough brokers.
+     */
+    static Map<Integer, List<Integer>> assignment(Map<Integer, List<Integer>> current, int replicationFactor, Collection<Node> brokers) {
+        if (replicationFactor > brokers.size()) {
+            throw new InvalidReplicationFactorException("Replication factor: " + replicationFactor
+                    + " larger than available brokers: " + brokers.size());
+        }
+        Map<Integer, String> racks = new HashMap<>();
+        Map<Integer, Integer> load = new HashMap<>();
+        for (Node broker : brokers) {
+            racks.put(broker.id(), broker.rack());
+            load.put(broker.id(), 0);
+        }
+        for (List<Integer> replicas : current.values()) {
+            for (Integer replica : replicas) {
+                load.merge(replica, 1, Integer::sum);
+            }
+        }
+        Map<Integer, List<Integer>> result = new TreeMap<>();
+        for (Map.Entry<Integer, List<Integer>> entry : new TreeMap<>(current).entrySet()) {
+            List<Integer> replicas = new ArrayList<>(entry.getValue());
+            while (replicas.size() > replicationFactor) {
+                Integer removed = replicaToRemove(replicas, racks);
+                replicas.remove(removed);
+                load.merge(removed, -1, Integer::sum);
+            }
+            while (replicas.size() < replicationFactor) {
+                Set<String> usedRacks = new HashSet<>();
+                for (Integer replica : replicas) {
+                    usedRacks.add(racks.get(replica));
+                }
+                Integer added = brokers.stream()
+                        .map(Node::id)
+                        .filter(broker -> !replicas.contains(broker))
+                        .min(Comparator.<Integer, Boolean>comparing(broker -> racks.get(broker) != null && usedRacks.contains(racks.get(broker)))
+                                .thenComparing(load::get)
+                                .thenComparing(broker -> broker))
+                        .get();
+                replicas.add(added);
+                load.merge(added, 1, Integer::sum);
+            }
+            if (!replicas.equals(entry.getValue())) {
+                result.put(entry.getKey(), replicas);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * @return The last replica which shares its rack with another of the replicas, or the last replica if none do.
+     * The first (preferred leader) replica is never chosen.
+     */
+    private static Integer replicaToRemove(List<Integer> replicas, Map<Integer, String> racks) {
+        for (int i = replicas.size() - 1; i > 0; i--) {
+            String rack = racks.get(replicas.get(i));
+            if (rack != null) {
+                for (int j = 0; j < i; j++) {
+                    if (Objects.equals(rack, racks.get(replicas.get(j)))) {
+                        return replicas.get(i);
+                    }
+                }
+            }
+        }
+        return replicas.get(replicas.size() - 1);
+    }
+}
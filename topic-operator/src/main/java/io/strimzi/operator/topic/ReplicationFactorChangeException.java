@@ -7,10 +7,10 @@ package io.strimzi.operator.topic;
 import io.fabric8.kubernetes.api.model.HasMetadata;
 
 /**
- * Thrown when the operator detects an attempt to change the
+ * Thrown when the operator cannot change the
  * replication factor of a topic
- * (something which the operator does not currently support because
- * it requires replica placement decisions).
+ * (for example because there are not enough brokers, or because the
+ * reassignment of its partitions failed).
  */
 public class ReplicationFactorChangeException extends OperatorException {
     public ReplicationFactorChangeException(HasMetadata resource, String message) {
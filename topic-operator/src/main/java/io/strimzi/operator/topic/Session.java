@@ -18,6 +18,7 @@ import io.vertx.core.Future;
 import io.vertx.core.Handler;
 import io.vertx.core.Promise;
 import io.vertx.core.http.HttpServer;
+import io.vertx.core.json.JsonObject;
 import org.apache.kafka.clients.admin.AdminClient;
 import org.apache.kafka.clients.admin.AdminClientConfig;
 import org.apache.kafka.common.config.SslConfigs;
@@ -62,6 +63,16 @@ public class Session extends AbstractVerticle {
     private Zk zk;
     private volatile HttpServer healthServer;
 
+    /** The lifecycle phases of the operator, as reported by the readiness endpoint. */
+    enum Phase {
+        STARTING,
+        INITIAL_RECONCILIATION,
+        RUNNING,
+        STOPPING
+    }
+
+    private volatile Phase phase = Phase.STARTING;
+
     public Session(KubernetesClient kubeClient, Config config) {
         this.kubeClient = kubeClient;
         this.config = config;
@@ -79,6 +90,7 @@ public class Session extends AbstractVerticle {
     @Override
     public void stop(Promise<Void> stop) throws Exception {
         this.stopped = true;
+        this.phase = Phase.STOPPING;
         Long timerId = this.timerId;
         if (timerId != null) {
             vertx.cancelTimer(timerId);
@@ -183,7 +195,8 @@ public class Session extends AbstractVerticle {
 
                 LOGGER.debug("Using TopicStore {}", topicStore);
 
-                this.topicOperator = new TopicOperator(vertx, kafka, k8s, topicStore, labels, namespace, config, new MicrometerMetricsProvider());
+                this.topicOperator = new TopicOperator(vertx, kafka, k8s, topicStore, labels, namespace, config, new MicrometerMetricsProvider(),
+                        TopicMarkers.zkReader(zk, topicsPath), ThrottleStore.zk(zk, topicsPath));
                 LOGGER.debug("Using Operator {}", topicOperator);
 
                 this.topicConfigsWatcher = new TopicConfigsWatcher(topicOperator);
@@ -223,9 +236,15 @@ public class Session extends AbstractVerticle {
                         if (!stopped) {
                             timerId = null;
                             boolean isInitialReconcile = oldTimerId == null;
-                            topicOperator.reconcileAllTopics(isInitialReconcile ? "initial " : "periodic ").setHandler(result -> {
+                            if (isInitialReconcile) {
+                                phase = Phase.INITIAL_RECONCILIATION;
+                            }
+                            topicOperator.removeStaleReplicationThrottles().compose(ignored -> topicOperator.reconcileAllTopics(isInitialReconcile ? "initial " : "periodic ")).setHandler(result -> {
                                 topicOperator.getPeriodicReconciliationsCounter().increment();
                                 if (isInitialReconcile) {
+                                    LOGGER.info("Initial reconciliation of {} topics finished",
+                                            topicOperator.getReconciliationProgressTotal());
+                                    phase = Phase.RUNNING;
                                     initReconcilePromise.complete();
                                 }
                                 if (!stopped) {
@@ -260,11 +279,27 @@ public class Session extends AbstractVerticle {
                     if (request.path().equals("/healthy")) {
                         request.response().setStatusCode(200).end();
                     } else if (request.path().equals("/ready")) {
-                        request.response().setStatusCode(200).end();
+                        // Always ready, so a long initial reconciliation doesn't fail the deployment, but report the progress
+                        request.response().setStatusCode(200)
+                                .putHeader("Content-Type", "application/json")
+                                .end(readiness(phase, this.topicOperator).encode());
                     } else if (request.path().equals("/metrics")) {
                         request.response().setStatusCode(200).end(METRICS_REGISTRY.scrape());
                     }
                 })
                 .listen(HEALTH_SERVER_PORT);
     }
+
+    /**
+     * @return The body of the readiness endpoint: the phase of the operator and,
+     * once it has a topic operator, the progress of the current (or last) full reconciliation.
+     */
+    static JsonObject readiness(Phase phase, TopicOperator topicOperator) {
+        JsonObject body = new JsonObject().put("phase", phase.toString());
+        if (topicOperator != null) {
+            body.put("reconciledTopics", topicOperator.getReconciliationProgressDone())
+                .put("totalTopics", topicOperator.getReconciliationProgressTotal());
+        }
+        return body;
+    }
 }
@@ -0,0 +1,158 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.topic;
+
+import io.strimzi.operator.topic.zk.AclBuilder;
+import io.strimzi.operator.topic.zk.Zk;
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import io.vertx.core.json.JsonArray;
+import io.vertx.core.json.JsonObject;
+import org.I0Itec.zkclient.exception.ZkNoNodeException;
+import org.apache.zookeeper.CreateMode;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Stores which replication throttles the Topic Operator has set, so that after a restart it removes only the
+ * throttles it set itself, and never those set by an administrator or by another tool, such as Cruise Control.
+ */
+interface ThrottleStore {
+
+    /**
+     * The topics whose throttled replicas configs and the brokers whose throttled rate were set by the operator.
+     */
+    class Throttles {
+        static final Throttles NONE = new Throttles(Collections.emptySet(), Collections.emptySet());
+
+        private final Set<TopicName> topics;
+        private final Set<Integer> brokers;
+
+        Throttles(Set<TopicName> topics, Set<Integer> brokers) {
+            this.topics = Collections.unmodifiableSet(new HashSet<>(topics));
+            this.brokers = Collections.unmodifiableSet(new HashSet<>(brokers));
+        }
+
+        Set<TopicName> topics() {
+            return topics;
+        }
+
+        Set<Integer> brokers() {
+            return brokers;
+        }
+
+        byte[] toJson() {
+            JsonArray topics = new JsonArray();
+            this.topics.forEach(topic -> topics.add(topic.toString()));
+            return new JsonObject()
+                    .put("topics", topics)
+                    .put("brokers", new JsonArray(new ArrayList<>(brokers)))
+                    .encode().getBytes(StandardCharsets.UTF_8);
+        }
+
+        static Throttles fromJson(byte[] json) {
+            JsonObject object = new JsonObject(new String(json, StandardCharsets.UTF_8));
+            Set<TopicName> topics = new HashSet<>();
+            for (Object topic : object.getJsonArray("topics", new JsonArray())) {
+                topics.add(new TopicName((String) topic));
+            }
+            Set<Integer> brokers = new HashSet<>();
+            for (Object broker : object.getJsonArray("brokers", new JsonArray())) {
+                brokers.add((Integer) broker);
+            }
+            return new Throttles(topics, brokers);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (o == null || getClass() != o.getClass()) return false;
+            Throttles that = (Throttles) o;
+            return topics.equals(that.topics) && brokers.equals(that.brokers);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(topics, brokers);
+        }
+
+        @Override
+        public String toString() {
+            return "Throttles(topics=" + topics + ", brokers=" + brokers + ")";
+        }
+    }
+
+    /**
+     * @return A future which completes with the stored throttles, which are {@link Throttles#NONE} if none were stored.
+     */
+    Future<Throttles> read();
+
+    /**
+     * Replaces the stored throttles with the given ones.
+     * @param throttles The throttles.
+     * @return A future which completes once the throttles have been stored.
+     */
+    Future<Void> write(Throttles throttles);
+
+    /**
+     * @return A ThrottleStore which keeps the throttles in memory, so that they are forgotten by a restart.
+     */
+    static ThrottleStore inMemory() {
+        return new ThrottleStore() {
+            private volatile Throttles throttles = Throttles.NONE;
+
+            @Override
+            public Future<Throttles> read() {
+                return Future.succeededFuture(throttles);
+            }
+
+            @Override
+            public Future<Void> write(Throttles throttles) {
+                this.throttles = throttles;
+                return Future.succeededFuture();
+            }
+        };
+    }
+
+    /**
+     * @param zk The ZooKeeper client.
+     * @param topicsPath The path of the topic store's znode.
+     * @return A ThrottleStore which stores the throttles as JSON in the {@code reassignment-throttles} znode
+     * next to the topic store's znode, which is not one of the topics of the store.
+     */
+    static ThrottleStore zk(Zk zk, String topicsPath) {
+        String path = topicsPath.substring(0, topicsPath.lastIndexOf('/') + 1) + "reassignment-throttles";
+        return new ThrottleStore() {
+            @Override
+            public Future<Throttles> read() {
+                Promise<byte[]> result = Promise.promise();
+                zk.getData(path, result);
+                return result.future()
+                    .map(data -> data != null && data.length > 0 ? Throttles.fromJson(data) : Throttles.NONE)
+                    .recover(error -> error instanceof ZkNoNodeException ? Future.succeededFuture(Throttles.NONE) : Future.failedFuture(error));
+            }
+
+            @Override
+            public Future<Void> write(Throttles throttles) {
+                byte[] data = throttles.toJson();
+                Promise<Void> result = Promise.promise();
+                zk.setData(path, data, -1, result);
+                return result.future().recover(error -> {
+                    if (!(error instanceof ZkNoNodeException)) {
+                        return Future.failedFuture(error);
+                    }
+                    Promise<Void> created = Promise.promise();
+                    zk.create(path, data, new AclBuilder().setWorld(AclBuilder.Permission.values()).build(), CreateMode.PERSISTENT, created);
+                    return created.future();
+                });
+            }
+        };
+    }
+}
@@ -0,0 +1,268 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.topic;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.Tags;
+import io.strimzi.operator.common.MetricsProvider;
+import io.vertx.core.Context;
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import io.vertx.core.Vertx;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static java.util.Arrays.asList;
+
+/**
+ * A per-topic serial queue of actions.
+ * Actions for the same topic run one at a time, in submission order, on the operator's context.
+ * Actions for different topics run independently of each other.
+ * Unlike a lock with a timeout, work is never dropped: an action waits in its topic's queue
+ * for as long as it takes the preceding actions to complete.
+ * An action submitted with a non-null merge key is merged into an action with an equal merge key
+ * which is already waiting (but not yet running) in the same topic's queue,
+ * so that bursts of redundant reconciliations of a topic only cause a single execution.
+ * The per-topic metrics of a deleted topic are removed once its queue drains.
+ */
+class TopicActionQueue {
+
+    private final static Logger LOGGER = LogManager.getLogger(TopicActionQueue.class);
+
+    private final Vertx vertx;
+    private volatile Context context;
+    private final MetricsProvider metrics;
+    private final Counter mergedCounter;
+
+    /** Guarded by {@code this}. */
+    private final Map<TopicName, TopicQueue> queues = new HashMap<>();
+    private final ConcurrentHashMap<TopicName, AtomicInteger> queueLengthGauges = new ConcurrentHashMap<>();
+    /** The deleted topics whose queue has not drained yet. Guarded by {@code this}. */
+    private final Set<TopicName> deleted = new HashSet<>();
+
+    private static class TopicQueue {
+        private final Deque<QueuedAction> waiting = new ArrayDeque<>();
+        private QueuedAction running;
+    }
+
+    private static class QueuedAction {
+        private final LogContext logContext;
+        private final String description;
+        private final Object mergeKey;
+        private final Supplier<Future<Void>> action;
+        private final List<Promise<Void>> promises = new ArrayList<>(1);
+        private final long enqueuedNanos = System.nanoTime();
+
+        QueuedAction(LogContext logContext, String description, Object mergeKey, Supplier<Future<Void>> action) {
+            this.logContext = logContext;
+            this.description = description;
+            this.mergeKey = mergeKey;
+            this.action = action;
+        }
+
+        @Override
+        public String toString() {
+            return description;
+        }
+    }
+
+    TopicActionQueue(Vertx vertx, MetricsProvider metrics, Counter mergedCounter) {
+        this.vertx = vertx;
+        this.metrics = metrics;
+        this.mergedCounter = mergedCounter;
+    }
+
+    /**
+     * Submit the given {@code action} for execution once all the previously submitted actions for the
+     * given {@code topicName} have completed.
+     * @param logContext The log context.
+     * @param topicName The topic to which the action pertains.
+     * @param mergeKey If not null, the key used to merge this action into an equivalent action
+     *                 that is already waiting in the queue.
+     * @param description A description of the action, for logging.
+     * @param action The action.
+     * @return A future which completes with the result of the action
+     * (or of the queued action it was merged into).
+     */
+    Future<Void> submit(LogContext logContext, TopicName topicName, Object mergeKey, String description,
+                        Supplier<Future<Void>> action) {
+        Promise<Void> result = Promise.promise();
+        boolean startNow = false;
+        QueuedAction queued;
+        synchronized (this) {
+            TopicQueue queue = queues.computeIfAbsent(topicName, k -> new TopicQueue());
+            // A topic which is recreated keeps its metrics
+            deleted.remove(topicName);
+            queued = mergeKey != null ? findMergeable(queue, mergeKey) : null;
+            if (queued != null) {
+                LOGGER.debug("{}: Merging action {} on topic {} into already queued {}", logContext, description, topicName, queued);
+                queued.promises.add(result);
+                if (mergedCounter != null) {
+                    mergedCounter.increment();
+                }
+            } else {
+                queued = new QueuedAction(logContext, description, mergeKey, action);
+                queued.promises.add(result);
+                if (queue.running == null) {
+                    queue.running = queued;
+                    startNow = true;
+                } else {
+                    LOGGER.debug("{}: Queuing action {} on topic {} behind {} waiting actions", logContext, description, topicName, queue.waiting.size());
+                    queue.waiting.addLast(queued);
+                }
+                queueLengthGauge(topicName).incrementAndGet();
+            }
+        }
+        if (startNow) {
+            start(topicName, queued);
+        }
+        return result.future();
+    }
+
+    private QueuedAction findMergeable(TopicQueue queue, Object mergeKey) {
+        for (QueuedAction waiting : queue.waiting) {
+            if (Objects.equals(mergeKey, waiting.mergeKey)) {
+                return waiting;
+            }
+        }
+        return null;
+    }
+
+    private void start(TopicName topicName, QueuedAction queued) {
+        LogContext logContext = queued.logContext;
+        if (metrics != null) {
+            metrics.timer(TopicOperator.METRICS_PREFIX + "reconciliations.queue.wait",
+                    "The time reconciliations wait in the per-topic queue before they are executed",
+                    topicTags(topicName)).record(System.nanoTime() - queued.enqueuedNanos, TimeUnit.NANOSECONDS);
+        }
+        context().runOnContext(v -> {
+            LOGGER.debug("{}: Executing action {} on topic {}", logContext, queued, topicName);
+            Future<Void> actionFuture;
+            try {
+                actionFuture = queued.action.get();
+            } catch (Throwable t) {
+                actionFuture = Future.failedFuture(t);
+            }
+            actionFuture.setHandler(ar -> {
+                LOGGER.debug("{}: Completed action {} on topic {}", logContext, queued, topicName);
+                QueuedAction next;
+                synchronized (this) {
+                    TopicQueue queue = queues.get(topicName);
+                    next = queue.waiting.pollFirst();
+                    queue.running = next;
+                    queueLengthGauge(topicName).decrementAndGet();
+                    if (next == null) {
+                        queues.remove(topicName);
+                        if (deleted.remove(topicName)) {
+                            removeMetrics(topicName);
+                        }
+                    }
+                }
+                for (Promise<Void> promise : queued.promises) {
+                    try {
+                        promise.handle(ar);
+                    } catch (Throwable t) {
+                        LOGGER.error("{}: Error completing action {} on topic {}", logContext, queued, topicName, t);
+                    }
+                }
+                if (next != null) {
+                    start(topicName, next);
+                }
+            });
+        });
+    }
+
+    private Context context() {
+        Context context = this.context;
+        if (context == null) {
+            synchronized (this) {
+                context = this.context;
+                if (context == null) {
+                    context = vertx.getOrCreateContext();
+                    this.context = context;
+                }
+            }
+        }
+        return context;
+    }
+
+    private Tags topicTags(TopicName topicName) {
+        return Tags.of(Tag.of("kind", "KafkaTopic"), Tag.of("topic", topicName.toString()));
+    }
+
+    private AtomicInteger queueLengthGauge(TopicName topicName) {
+        return queueLengthGauges.computeIfAbsent(topicName, k -> metrics != null ?
+                metrics.gauge(TopicOperator.METRICS_PREFIX + "reconciliations.queue.length",
+                    "Number of reconciliations running or waiting in the per-topic queue",
+                    topicTags(topicName)) : new AtomicInteger());
+    }
+
+    /**
+     * Records that the given topic was deleted, so that its metrics are removed once its queue drains.
+     * @param topicName The topic.
+     */
+    synchronized void topicDeleted(TopicName topicName) {
+        if (queues.containsKey(topicName)) {
+            deleted.add(topicName);
+        } else {
+            removeMetrics(topicName);
+        }
+    }
+
+    /** Guarded by {@code this}. */
+    private void removeMetrics(TopicName topicName) {
+        LOGGER.debug("Removing the metrics of deleted topic {}", topicName);
+        queueLengthGauges.remove(topicName);
+        if (metrics != null) {
+            MeterRegistry registry = metrics.meterRegistry();
+            for (String name : asList(TopicOperator.METRICS_PREFIX + "reconciliations.queue.length",
+                    TopicOperator.METRICS_PREFIX + "reconciliations.queue.wait")) {
+                registry.find(name).tags(topicTags(topicName)).meters().forEach(registry::remove);
+            }
+        }
+    }
+
+    /**
+     * @param topicName The topic.
+     * @return The number of actions running or waiting for the given topic.
+     */
+    synchronized int queueLength(TopicName topicName) {
+        TopicQueue queue = queues.get(topicName);
+        if (queue == null) {
+            return 0;
+        }
+        return queue.waiting.size() + (queue.running != null ? 1 : 0);
+    }
+
+    /**
+     * @return Whether there are any actions running or waiting.
+     */
+    synchronized boolean isEmpty() {
+        return queues.isEmpty();
+    }
+
+    @Override
+    public synchronized String toString() {
+        StringBuilder sb = new StringBuilder("TopicActionQueue(");
+        queues.forEach((topicName, queue) -> sb.append(topicName).append("=").append(queue.waiting.size() + 1).append(","));
+        return sb.append(")").toString();
+    }
+}
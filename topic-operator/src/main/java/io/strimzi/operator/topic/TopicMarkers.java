@@ -0,0 +1,100 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.topic;
+
+import io.strimzi.api.kafka.model.KafkaTopic;
+import io.strimzi.operator.topic.zk.Zk;
+import io.vertx.core.CompositeFuture;
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import org.apache.zookeeper.data.Stat;
+
+import java.util.Objects;
+
+/**
+ * The change markers of a topic: the versions of the KafkaTopic, of the topic's znodes in Kafka's
+ * ZooKeeper tree and of the topic's private state.
+ * If the markers of a topic are the same as when it was last successfully reconciled then
+ * none of the three versions of the topic can have changed, so there's nothing to reconcile.
+ *
+ * The ZooKeeper markers are the modification zxids of the znodes (or -1 if the znode doesn't exist),
+ * which, unlike the znode versions, also change when a topic is deleted and recreated.
+ */
+class TopicMarkers {
+
+    /**
+     * Reads the current markers of a topic.
+     */
+    interface Reader {
+        /**
+         * @param topicName The name of the topic.
+         * @param kafkaTopic The KafkaTopic for the topic, or null if there isn't one.
+         * @return A future which completes with the current markers of the topic.
+         */
+        Future<TopicMarkers> read(TopicName topicName, KafkaTopic kafkaTopic);
+    }
+
+    private final String resourceUid;
+    private final Long resourceGeneration;
+    private final long brokersZxid;
+    private final long configZxid;
+    private final long storeZxid;
+
+    TopicMarkers(KafkaTopic kafkaTopic, long brokersZxid, long configZxid, long storeZxid) {
+        this.resourceUid = kafkaTopic != null ? kafkaTopic.getMetadata().getUid() : null;
+        // The generation only changes when the spec changes, so our own status updates don't change the markers
+        this.resourceGeneration = kafkaTopic != null ? kafkaTopic.getMetadata().getGeneration() : null;
+        this.brokersZxid = brokersZxid;
+        this.configZxid = configZxid;
+        this.storeZxid = storeZxid;
+    }
+
+    /**
+     * @param zk The ZooKeeper client.
+     * @param topicsPath The path of the topic store's znode.
+     * @return A Reader which reads the ZooKeeper markers from the given ZooKeeper.
+     */
+    static Reader zkReader(Zk zk, String topicsPath) {
+        return (topicName, kafkaTopic) -> CompositeFuture.all(
+                    zxid(zk, "/brokers/topics/" + topicName),
+                    zxid(zk, "/config/topics/" + topicName),
+                    zxid(zk, topicsPath + "/" + topicName))
+                .map(stats -> new TopicMarkers(kafkaTopic, stats.resultAt(0), stats.resultAt(1), stats.resultAt(2)));
+    }
+
+    private static Future<Long> zxid(Zk zk, String path) {
+        Promise<Stat> result = Promise.promise();
+        zk.getStat(path, result);
+        return result.future().map(stat -> stat != null ? stat.getMzxid() : -1L);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        TopicMarkers that = (TopicMarkers) o;
+        return brokersZxid == that.brokersZxid
+                && configZxid == that.configZxid
+                && storeZxid == that.storeZxid
+                && Objects.equals(resourceUid, that.resourceUid)
+                && Objects.equals(resourceGeneration, that.resourceGeneration);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(resourceUid, resourceGeneration, brokersZxid, configZxid, storeZxid);
+    }
+
+    @Override
+    public String toString() {
+        return "TopicMarkers(" +
+                "resourceUid=" + resourceUid +
+                ",resourceGeneration=" + resourceGeneration +
+                ",brokersZxid=" + brokersZxid +
+                ",configZxid=" + configZxid +
+                ",storeZxid=" + storeZxid +
+                ")";
+    }
+}
@@ -13,12 +13,13 @@ import io.micrometer.core.instrument.Tag;
 import io.micrometer.core.instrument.Tags;
 import io.micrometer.core.instrument.Timer;
 import io.strimzi.api.kafka.model.KafkaTopic;
-import io.strimzi.api.kafka.model.KafkaTopicBuilder;
+import io.strimzi.api.kafka.model.status.ConditionBuilder;
 import io.strimzi.api.kafka.model.status.KafkaTopicStatus;
-import io.strimzi.operator.cluster.model.StatusDiff;
 import io.strimzi.operator.common.BackOff;
+import io.strimzi.operator.common.ConcurrencyLimiter;
 import io.strimzi.operator.common.MaxAttemptsExceededException;
 import io.strimzi.operator.common.MetricsProvider;
+import io.strimzi.operator.common.Tracing;
 import io.strimzi.operator.common.operator.resource.StatusUtils;
 import io.vertx.core.AsyncResult;
 import io.vertx.core.CompositeFuture;
@@ -41,7 +42,7 @@ import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicInteger;
-import java.util.function.BiFunction;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 import static java.util.Collections.disjoint;
@@ -59,7 +60,11 @@ class TopicOperator {
     private final String namespace;
     private TopicStore topicStore;
     private final Config config;
-    private final ConcurrentHashMap<TopicName, Integer> inflight = new ConcurrentHashMap<>();
+    private final TopicActionQueue actionQueue;
+    private final TopicMarkers.Reader markersReader;
+    private final PartitionReassigner reassigner;
+    private final KafkaTopicStatusUpdater statusUpdater;
+    private final ConcurrentHashMap<TopicName, TopicMarkers> reconciledMarkers = new ConcurrentHashMap<>();
 
     protected final MetricsProvider metrics;
     private Counter periodicReconciliationsCounter;
@@ -67,7 +72,11 @@ class TopicOperator {
     private Counter failedReconciliationsCounter;
     private Counter successfulReconciliationsCounter;
     private Counter lockedReconciliationsCounter;
+    private Counter mergedReconciliationsCounter;
+    private Counter unchangedReconciliationsCounter;
     private AtomicInteger topicCounter;
+    private AtomicInteger reconciliationProgressTotal = new AtomicInteger();
+    private AtomicInteger reconciliationProgressDone = new AtomicInteger();
     private Timer reconciliationsTimer;
 
     enum EventType {
@@ -375,6 +384,39 @@ class TopicOperator {
                          String namespace,
                          Config config,
                          MetricsProvider metrics) {
+        this(vertx, kafka, k8s, topicStore, labels, namespace, config, metrics, null);
+    }
+
+    /**
+     * @param markersReader If not null, used to read the change markers of topics, so that the periodic
+     *                      reconciliation only reconciles topics which changed since they were last reconciled.
+     */
+    public TopicOperator(Vertx vertx, Kafka kafka,
+                         K8s k8s,
+                         TopicStore topicStore,
+                         Labels labels,
+                         String namespace,
+                         Config config,
+                         MetricsProvider metrics,
+                         TopicMarkers.Reader markersReader) {
+        this(vertx, kafka, k8s, topicStore, labels, namespace, config, metrics, markersReader, ThrottleStore.inMemory());
+    }
+
+    /**
+     * @param markersReader If not null, used to read the change markers of topics, so that the periodic
+     *                      reconciliation only reconciles topics which changed since they were last reconciled.
+     * @param throttleStore Stores the replication throttles set by the operator, so that those left behind by a
+     *                      restart can be removed.
+     */
+    public TopicOperator(Vertx vertx, Kafka kafka,
+                         K8s k8s,
+                         TopicStore topicStore,
+                         Labels labels,
+                         String namespace,
+                         Config config,
+                         MetricsProvider metrics,
+                         TopicMarkers.Reader markersReader,
+                         ThrottleStore throttleStore) {
         this.kafka = kafka;
         this.k8s = k8s;
         this.vertx = vertx;
@@ -383,8 +425,16 @@ class TopicOperator {
         this.namespace = namespace;
         this.config = config;
         this.metrics = metrics;
+        this.markersReader = markersReader;
 
         initMetrics();
+        this.actionQueue = new TopicActionQueue(vertx, metrics, mergedReconciliationsCounter);
+        this.reassigner = new PartitionReassigner(vertx, kafka, throttleStore,
+                config.get(Config.REASSIGN_THROTTLE),
+                config.get(Config.REASSIGN_VERIFY_INTERVAL_MS),
+                config.get(Config.REASSIGN_BATCH_SIZE),
+                this::onReassignmentProgress);
+        this.statusUpdater = new KafkaTopicStatusUpdater(k8s, config.get(Config.STATUS_UPDATE_PARALLELISM));
     }
 
     public void initMetrics() {
@@ -415,9 +465,26 @@ class TopicOperator {
                     "The time the reconciliation takes to complete",
                     metricTags);
 
+            // Reconciliations now wait in the per-topic queue rather than being skipped, so this stays at zero
             lockedReconciliationsCounter = metrics.counter(METRICS_PREFIX + "reconciliations.locked",
                     "Number of reconciliations skipped because another reconciliation for the same topic was still running",
                     metricTags);
+
+            mergedReconciliationsCounter = metrics.counter(METRICS_PREFIX + "reconciliations.merged",
+                    "Number of reconciliations merged into an equivalent reconciliation already queued for the same topic",
+                    metricTags);
+
+            reconciliationProgressTotal = metrics.gauge(METRICS_PREFIX + "reconciliations.full.topics.total",
+                    "Number of topics to be reconciled by the current (or last) full reconciliation",
+                    metricTags);
+
+            reconciliationProgressDone = metrics.gauge(METRICS_PREFIX + "reconciliations.full.topics.done",
+                    "Number of topics already reconciled by the current (or last) full reconciliation",
+                    metricTags);
+
+            unchangedReconciliationsCounter = metrics.counter(METRICS_PREFIX + "reconciliations.unchanged",
+                    "Number of periodical reconciliations of individual topics skipped because the topic had not changed since it was last reconciled",
+                    metricTags);
         }
     }
 
@@ -429,79 +496,46 @@ class TopicOperator {
         this.topicCounter.set(topics);
     }
 
+    /**
+     * @return The number of topics already reconciled by the current (or last) full reconciliation.
+     */
+    public int getReconciliationProgressDone() {
+        return reconciliationProgressDone.get();
+    }
+
+    /**
+     * @return The number of topics to be reconciled by the current (or last) full reconciliation.
+     */
+    public int getReconciliationProgressTotal() {
+        return reconciliationProgressTotal.get();
+    }
+
     /**
      * Run the given {@code action} on the context thread,
      * immediately if there are currently no other actions with the given {@code key},
      * or when the other actions with the given {@code key} have completed.
+     * If an equivalent action (one with an equal {@link Reconciliation#mergeKey()}) is already
+     * waiting to run then the given {@code action} is merged into it, rather than being run again.
      * When the given {@code action} is complete it must complete its argument future,
      * which will complete the returned future
      */
     public Future<Void> executeWithTopicLockHeld(LogContext logContext, TopicName key, Reconciliation action) {
-        String lockName = key.toString();
-        int timeoutMs = 30 * 1_000;
-        Promise<Void> result = Promise.promise();
-        BiFunction<TopicName, Integer, Integer> decrement = (topicName, waiters) -> {
-            if (waiters != null) {
-                if (waiters == 1) {
-                    LOGGER.debug("{}: Removing last waiter {}", logContext, action);
-                    return null;
-                } else {
-                    LOGGER.debug("{}: Removing waiter {}, {} waiters left", logContext, action, waiters - 1);
-                    return waiters - 1;
-                }
-            } else {
-                LOGGER.error("{}: Assertion failure. topic {}, action {}", logContext, lockName, action);
-                return null;
-            }
-        };
-        LOGGER.debug("{}: Queuing action {} on topic {}", logContext, action, lockName);
-        inflight.compute(key, (topicName, waiters) -> {
-            if (waiters == null) {
-                LOGGER.debug("{}: Adding first waiter {}", logContext, action);
-                return 1;
-            } else {
-                LOGGER.debug("{}: Adding waiter {}: {}", logContext, action, waiters + 1);
-                return waiters + 1;
-            }
-        });
-        vertx.sharedData().getLockWithTimeout(lockName, timeoutMs, lockResult -> {
-            if (lockResult.succeeded()) {
-                LOGGER.debug("{}: Lock acquired", logContext);
-                LOGGER.debug("{}: Executing action {} on topic {}", logContext, action, lockName);
-                action.execute().setHandler(actionResult -> {
-                    LOGGER.debug("{}: Executing handler for action {} on topic {}", logContext, action, lockName);
-                    action.result = actionResult;
-                    // Update status with lock held so that event is ignored via statusUpdateGeneration
-                    action.updateStatus(logContext).setHandler(statusResult -> {
-                        if (statusResult.failed()) {
-                            LOGGER.error("{}: Error updating KafkaTopic.status for action {}", logContext, action,
-                                    statusResult.cause());
-                        }
-                        try {
-                            if (actionResult.failed() && statusResult.failed()) {
-                                actionResult.cause().addSuppressed(statusResult.cause());
-                            }
-                            result.handle(actionResult.failed() ? actionResult : statusResult);
-                        } catch (Throwable t) {
-                            result.fail(t);
-                        } finally {
-                            lockResult.result().release();
-                            LOGGER.debug("{}: Lock released", logContext);
-                            inflight.compute(key, decrement);
-                        }
-                    });
+        return actionQueue.submit(logContext, key, action.mergeKey(), action.toString(), () -> {
+            Promise<Void> result = Promise.promise();
+            Tracing.traced("reconcile", KafkaTopic.RESOURCE_KIND, namespace, key.toString(), action::execute).setHandler(actionResult -> {
+                LOGGER.debug("{}: Executing handler for action {} on topic {}", logContext, action, key);
+                action.result = actionResult;
+                // The status is written asynchronously, so the next action for this topic doesn't wait for it
+                action.updateStatus(logContext).setHandler(statusResult -> {
+                    if (statusResult.failed()) {
+                        LOGGER.error("{}: Error updating KafkaTopic.status for action {}", logContext, action,
+                                statusResult.cause());
+                    }
                 });
-            } else {
-                lockedReconciliationsCounter.increment();
-                LOGGER.warn("{}: Lock not acquired within {}ms: action {} will not be run", logContext, timeoutMs, action);
-                try {
-                    result.handle(Future.failedFuture("Failed to acquire lock for topic " + lockName + " after " + timeoutMs + "ms. Not executing action " + action));
-                } finally {
-                    inflight.compute(key, decrement);
-                }
-            }
+                result.handle(actionResult);
+            });
+            return result.future();
         });
-        return result.future();
     }
 
     /**
@@ -666,7 +700,7 @@ class TopicOperator {
             return Future.failedFuture(new OperatorException(involvedObject,
                     "Topic '" + kafkaTopic.getTopicName() + "' is already managed via KafkaTopic '" + privateTopic.getResourceName() + "' it cannot also be managed via the KafkaTopic '" + k8sTopic.getResourceName() + "'"));
         }
-        TopicDiff oursKafka = TopicDiff.diff(privateTopic, kafkaTopic);
+        TopicDiff oursKafka = TopicDiff.diff(privateTopic, reassigner.withoutThrottles(kafkaTopic));
         LOGGER.debug("{}: topicStore->kafkaTopic: {}", logContext, oursKafka);
         TopicDiff oursK8s = TopicDiff.diff(privateTopic, k8sTopic);
         LOGGER.debug("{}: topicStore->k8sTopic: {}", logContext, oursK8s);
@@ -691,13 +725,6 @@ class TopicOperator {
                     enqueue(new Event(involvedObject, message, EventType.INFO, eventResult -> {
                     }));
                     reconciliationResultHandler = Future.failedFuture(new PartitionDecreaseException(involvedObject, message));
-                } else if (oursK8s.changesReplicationFactor()
-                            && !oursKafka.changesReplicationFactor()) {
-                    reconciliationResultHandler = Future.failedFuture(new ReplicationFactorChangeException(involvedObject,
-                                    "Changing 'spec.replicas' is not supported. " +
-                                            "This KafkaTopic's 'spec.replicas' should be reverted to " +
-                                            kafkaTopic.getNumReplicas() +
-                                            " and then the replication should be changed directly in Kafka."));
                 } else {
                     // TODO What if we increase min.in.sync.replicas and the number of replicas,
                     // such that the old number of replicas < the new min isr? But likewise
@@ -705,7 +732,7 @@ class TopicOperator {
                     // depending on what the diffs are.
                     LOGGER.debug("{}: Updating KafkaTopic, kafka topic and topicStore", logContext);
                     TopicDiff kubeDiff = TopicDiff.diff(k8sTopic, result);
-                    reconciliationResultHandler = Future.succeededFuture()
+                    reconciliationResultHandler = changeReplicationFactor(reconciliation, logContext, involvedObject, oursK8s, result)
                         .compose(updatedKafkaTopic -> {
                             Future<Void> configFuture;
                             TopicDiff kafkaDiff = TopicDiff.diff(kafkaTopic, result);
@@ -745,8 +772,13 @@ class TopicOperator {
                                 return Future.succeededFuture();
                             }
                         }).compose(ignored -> {
+                            // While partitions are being reassigned the topic store keeps the old replication factor,
+                            // so that the reassignment is resumed if the operator restarts
+                            Topic storeTopic = reconciliation.reassignment != null
+                                    ? new Topic.Builder(result).withNumReplicas(privateTopic.getNumReplicas()).build()
+                                    : result;
                             Promise<Void> topicStorePromise = Promise.promise();
-                            enqueue(new UpdateInTopicStore(logContext, result, involvedObject, topicStorePromise));
+                            enqueue(new UpdateInTopicStore(logContext, storeTopic, involvedObject, topicStorePromise));
                             return topicStorePromise.future();
                         });
                 }
@@ -755,6 +787,47 @@ class TopicOperator {
         return reconciliationResultHandler;
     }
 
+    /**
+     * If the KafkaTopic changed the replication factor, ensure all the partitions of the topic
+     * have the new number of replicas, reassigning them if necessary.
+     */
+    private Future<Void> changeReplicationFactor(Reconciliation reconciliation, LogContext logContext, HasMetadata involvedObject,
+                                                 TopicDiff oursK8s, Topic result) {
+        if (!oursK8s.changesReplicationFactor()) {
+            return Future.succeededFuture();
+        }
+        return reassigner.ensureReplicationFactor(logContext, result.getTopicName(), result.getNumReplicas())
+            .recover(error -> Future.failedFuture(new ReplicationFactorChangeException(involvedObject,
+                    "Changing 'spec.replicas' to " + result.getNumReplicas() + " failed: " + error.getMessage())))
+            .map(reassignment -> {
+                reconciliation.reassignment = reassignment;
+                return null;
+            });
+    }
+
+    /**
+     * Called by the {@link PartitionReassigner} when the reassignment of a topic has progressed,
+     * so that the KafkaTopic's status reflects the progress.
+     */
+    Future<Void> onReassignmentProgress(TopicName topicName) {
+        return executeWithTopicLockHeld(LogContext.periodic("reassignment " + topicName), topicName,
+                new Reconciliation("onReassignmentProgress") {
+                    @Override
+                    protected Object mergeKey() {
+                        return toString();
+                    }
+
+                    @Override
+                    public Future<Void> execute() {
+                        return kafka.topicMetadata(topicName)
+                                .compose(metadata -> {
+                                    Topic topic = TopicSerialization.fromTopicMetadata(metadata);
+                                    return reconcileOnTopicChange(LogContext.periodic("reassignment " + topicName), topicName, topic, this);
+                                });
+                    }
+                });
+    }
+
     void enqueue(Handler<Void> event) {
         LOGGER.debug("Enqueuing event {}", event);
         vertx.runOnContext(event);
@@ -772,7 +845,7 @@ class TopicOperator {
             });
     }
 
-    private Map<String, Long> statusUpdateGeneration = new HashMap<>();
+    private final Map<String, Long> statusUpdateGeneration = new ConcurrentHashMap<>();
 
     /**
      * Called when ZK watch notifies of change to topic's config
@@ -780,6 +853,11 @@ class TopicOperator {
     Future<Void> onTopicConfigChanged(LogContext logContext, TopicName topicName) {
         return executeWithTopicLockHeld(logContext, topicName,
                 new Reconciliation("onTopicConfigChanged") {
+                    @Override
+                    protected Object mergeKey() {
+                        return toString();
+                    }
+
                     @Override
                     public Future<Void> execute() {
                         return kafka.topicMetadata(topicName)
@@ -796,6 +874,11 @@ class TopicOperator {
      */
     Future<Void> onTopicPartitionsChanged(LogContext logContext, TopicName topicName) {
         Reconciliation action = new Reconciliation("onTopicPartitionsChanged") {
+            @Override
+            protected Object mergeKey() {
+                return toString();
+            }
+
             @Override
             public Future<Void> execute() {
                 Reconciliation self = this;
@@ -909,6 +992,7 @@ class TopicOperator {
         private final String name;
         public AsyncResult<Void> result;
         public volatile KafkaTopic topic;
+        volatile PartitionReassigner.Reassignment reassignment;
         Timer.Sample reconciliationTimerSample;
 
         public Reconciliation(String name) {
@@ -934,6 +1018,15 @@ class TopicOperator {
 
         public abstract Future<Void> execute();
 
+        /**
+         * @return A key identifying reconciliations which read all the state they need when they execute,
+         * so that a queued reconciliation with an equal key can be merged with this one. Null if this reconciliation
+         * cannot be merged with others.
+         */
+        protected Object mergeKey() {
+            return null;
+        }
+
         protected void observedTopicFuture(KafkaTopic observedTopic) {
             topic = observedTopic;
         }
@@ -950,30 +1043,30 @@ class TopicOperator {
                             topic.getMetadata().getGeneration());
                     KafkaTopicStatus kts = new KafkaTopicStatus();
                     StatusUtils.setStatusConditionAndObservedGeneration(topic, kts, result);
-
-                    StatusDiff ksDiff = new StatusDiff(topic.getStatus(), kts);
-                    if (!ksDiff.isEmpty()) {
-                        Promise<Void> promise = Promise.promise();
-                        statusFuture = promise.future();
-                        k8s.updateResourceStatus(new KafkaTopicBuilder(topic).withStatus(kts).build()).setHandler(ar -> {
-                            if (ar.succeeded() && ar.result() != null) {
-                                ObjectMeta metadata = ar.result().getMetadata();
-                                LOGGER.debug("{}: status was set rv={}, generation={}, observedGeneration={}",
-                                        logContext,
-                                        metadata.getResourceVersion(),
-                                        metadata.getGeneration(),
-                                        ar.result().getStatus().getObservedGeneration());
-                                statusUpdateGeneration.put(
-                                        metadata.getName(),
-                                        metadata.getGeneration());
-                            } else {
-                                LOGGER.error("{}: Error setting resource status", logContext, ar.cause());
-                            }
-                            statusFuture.handle(ar.map((Void) null));
-                        });
-                    } else {
-                        statusFuture = Future.succeededFuture();
+                    PartitionReassigner.Reassignment reassignment = this.reassignment;
+                    if (reassignment != null && result.succeeded()) {
+                        kts.addCondition(new ConditionBuilder()
+                                .withLastTransitionTime(StatusUtils.iso8601Now())
+                                .withType("ReassignmentInProgress")
+                                .withStatus("True")
+                                .withMessage(reassignment.toString())
+                                .build());
                     }
+
+                    statusFuture = statusUpdater.update(logContext, topic, kts).map(updated -> {
+                        if (updated != null) {
+                            ObjectMeta metadata = updated.getMetadata();
+                            LOGGER.debug("{}: status was set rv={}, generation={}, observedGeneration={}",
+                                    logContext,
+                                    metadata.getResourceVersion(),
+                                    metadata.getGeneration(),
+                                    updated.getStatus().getObservedGeneration());
+                            statusUpdateGeneration.put(
+                                    metadata.getName(),
+                                    metadata.getGeneration());
+                        }
+                        return null;
+                    });
                 } else {
                     LOGGER.debug("{}: No KafkaTopic to set status", logContext);
                     statusFuture = Future.succeededFuture();
@@ -990,6 +1083,12 @@ class TopicOperator {
     Future<Void> onResourceEvent(LogContext logContext, KafkaTopic modifiedTopic, Watcher.Action action) {
         return executeWithTopicLockHeld(logContext, new TopicName(modifiedTopic),
                 new Reconciliation("onResourceEvent") {
+                    @Override
+                    protected Object mergeKey() {
+                        // The resource is re-read when executing, but the action determines how it's reconciled
+                        return toString() + " " + action + " " + new ResourceName(modifiedTopic);
+                    }
+
                     @Override
                     public Future<Void> execute() {
                         return k8s.getFromName(new ResourceName(modifiedTopic))
@@ -1160,6 +1259,10 @@ class TopicOperator {
             topicStore.delete(topicName).setHandler(ar -> {
                 if (ar.failed()) {
                     enqueue(new Event(involvedObject, ar.cause().toString(), EventType.WARNING, eventResult -> { }));
+                } else {
+                    actionQueue.topicDeleted(topicName);
+                    // A topic recreated with the same name must not be mistaken for the deleted one
+                    reconciledMarkers.remove(topicName);
                 }
                 handler.handle(ar);
             });
@@ -1172,8 +1275,8 @@ class TopicOperator {
     }
 
     public boolean isWorkInflight() {
-        LOGGER.debug("Outstanding: {}", inflight);
-        return inflight.size() > 0;
+        LOGGER.debug("Outstanding: {}", actionQueue);
+        return !actionQueue.isEmpty();
     }
 
     /**
@@ -1196,12 +1299,15 @@ class TopicOperator {
         private final Set<TopicName> succeeded;
         private final Set<TopicName> undetermined;
         private final Map<TopicName, Throwable> failed;
+        private final ConcurrencyLimiter limiter;
         private List<KafkaTopic> ktList;
 
-        public ReconcileState(Set<TopicName> succeeded, Set<TopicName> undetermined, Map<TopicName, Throwable> failed) {
+        public ReconcileState(Set<TopicName> succeeded, Set<TopicName> undetermined, Map<TopicName, Throwable> failed,
+                              ConcurrencyLimiter limiter) {
             this.succeeded = succeeded;
             this.undetermined = undetermined;
             this.failed = failed;
+            this.limiter = limiter;
         }
 
         public void addKafkaTopics(List<KafkaTopic> ktList) {
@@ -1209,25 +1315,32 @@ class TopicOperator {
         }
     }
 
+    /**
+     * Remove the replication throttles set by the operator which are no longer used by a reassignment, such as those
+     * left behind by a reassignment which was interrupted by a restart.
+     * @return A future which completes once the stale throttles have been removed. It never fails.
+     */
+    Future<Void> removeStaleReplicationThrottles() {
+        return reassigner.removeStaleThrottles(LogContext.periodic("stale throttles"));
+    }
+
     Future<?> reconcileAllTopics(String reconciliationType) {
         LOGGER.info("Starting {} reconciliation", reconciliationType);
         return kafka.listTopics().recover(ex -> Future.failedFuture(
                 new OperatorException("Error listing existing topics during " + reconciliationType + " reconciliation", ex)
-        )).compose(topicNamesFromKafka ->
-                // Reconcile the topic found in Kafka
-                reconcileFromKafka(reconciliationType, topicNamesFromKafka.stream().map(TopicName::new).collect(Collectors.toList()))
-        ).compose(reconcileState -> {
+        )).compose(topicNamesFromKafka -> {
+            // List the KafkaTopics up front, so their versions can be compared with the change markers
             Future<List<KafkaTopic>> ktFut = k8s.listResources();
             return ktFut.recover(ex -> Future.failedFuture(
                     new OperatorException("Error listing existing KafkaTopics during " + reconciliationType + " reconciliation", ex)
-            )).map(ktList -> {
-                reconcileState.addKafkaTopics(ktList);
-                return reconcileState;
-            });
+            )).compose(ktList ->
+                // Reconcile the topic found in Kafka
+                reconcileFromKafka(reconciliationType, topicNamesFromKafka.stream().map(TopicName::new).collect(Collectors.toList()), ktList)
+            );
         }).compose(reconcileState -> {
             List<Future> futs = new ArrayList<>();
             topicCounter.set(reconcileState.ktList.size());
-            for (KafkaTopic kt : reconcileState.ktList) {
+            for (KafkaTopic kt : pendingChangesFirst(reconcileState.ktList, kt -> kt)) {
                 LogContext logContext = LogContext.periodic(reconciliationType + "kube " + kt.getMetadata().getName()).withKubeTopic(kt);
                 Topic topic = TopicSerialization.fromTopicResource(kt);
                 TopicName topicName = topic.getTopicName();
@@ -1240,7 +1353,7 @@ class TopicOperator {
                     LOGGER.trace("{}: Already successfully reconciled {}", logContext, topicName);
                 } else if (reconcileState.undetermined.contains(topicName)) {
                     // The topic didn't exist in topicStore, but now we know which KT it corresponds to
-                    futs.add(reconcileWithKubeTopic(logContext, kt, reconciliationType, new ResourceName(kt), topic.getTopicName()).compose(r -> {
+                    futs.add(reconcileState.limiter.submit(() -> reconcileWithKubeTopic(logContext, kt, reconciliationType, new ResourceName(kt), topic.getTopicName())).compose(r -> {
                         // if success then remove from undetermined add to success
                         reconcileState.undetermined.remove(topicName);
                         reconcileState.succeeded.add(topicName);
@@ -1249,11 +1362,11 @@ class TopicOperator {
                 } else {
                     // Topic exists in kube, but not in Kafka
                     LOGGER.debug("{}: Topic {} exists in Kafka, but not Kubernetes", logContext, topicName, logTopic(kt));
-                    futs.add(reconcileWithKubeTopic(logContext, kt, reconciliationType, new ResourceName(kt), topic.getTopicName()).compose(r -> {
+                    futs.add(reconcileState.limiter.submit(() -> reconcileWithKubeTopic(logContext, kt, reconciliationType, new ResourceName(kt), topic.getTopicName())).compose(r -> {
                         // if success then add to success
                         reconcileState.succeeded.add(topicName);
                         return Future.succeededFuture(Boolean.TRUE);
-                    }));
+                    }).setHandler(ar -> reconciliationProgressDone.incrementAndGet()));
                 }
             }
             return CompositeFuture.join(futs).compose(joined -> {
@@ -1264,13 +1377,13 @@ class TopicOperator {
                 // anything left in undetermined doesn't exist in topic store nor kube
                 for (TopicName tn : reconcileState.undetermined) {
                     LogContext logContext = LogContext.periodic(reconciliationType + "-" + tn);
-                    futs2.add(executeWithTopicLockHeld(logContext, tn, new Reconciliation("delete-remaining") {
+                    futs2.add(reconcileState.limiter.submit(() -> executeWithTopicLockHeld(logContext, tn, new Reconciliation("delete-remaining") {
                         @Override
                         public Future<Void> execute() {
                             observedTopicFuture(null);
                             return getKafkaAndReconcile(this, logContext, tn, null, null);
                         }
-                    }));
+                    })));
                 }
                 return CompositeFuture.join(futs2);
             });
@@ -1281,21 +1394,48 @@ class TopicOperator {
     /**
      * Reconcile all the topics in {@code foundFromKafka}, returning a ReconciliationState.
      */
-    private Future<ReconcileState> reconcileFromKafka(String reconciliationType, List<TopicName> topicsFromKafka) {
+    private Future<ReconcileState> reconcileFromKafka(String reconciliationType, List<TopicName> topicsFromKafka, List<KafkaTopic> ktList) {
         Set<TopicName> succeeded = new HashSet<>();
         Set<TopicName> undetermined = new HashSet<>();
         Map<TopicName, Throwable> failed = new HashMap<>();
 
         LOGGER.debug("Reconciling kafka topics {}", topicsFromKafka);
 
-        final ReconcileState state = new ReconcileState(succeeded, undetermined, failed);
+        final ReconcileState state = new ReconcileState(succeeded, undetermined, failed,
+                new ConcurrencyLimiter(config.get(Config.FULL_RECONCILIATION_PARALLELISM)));
+        state.addKafkaTopics(ktList);
+        Map<TopicName, KafkaTopic> ktsByTopicName = new HashMap<>(ktList.size());
+        for (KafkaTopic kt : ktList) {
+            try {
+                ktsByTopicName.put(new TopicName(kt), kt);
+            } catch (IllegalArgumentException | org.apache.kafka.common.errors.InvalidTopicException e) {
+                // Reported when the KafkaTopic itself gets reconciled
+                LOGGER.trace("Ignoring KafkaTopic {} with invalid topic name", logTopic(kt));
+            }
+        }
+        Set<TopicName> kubeOnly = new HashSet<>(ktsByTopicName.keySet());
+        kubeOnly.removeAll(topicsFromKafka);
+        reconciliationProgressDone.set(0);
+        reconciliationProgressTotal.set(topicsFromKafka.size() + kubeOnly.size());
         if (topicsFromKafka.size() > 0) {
             List<Future<Void>> futures = new ArrayList<>();
-            for (TopicName topicName : topicsFromKafka) {
+            for (TopicName topicName : pendingChangesFirst(topicsFromKafka, ktsByTopicName::get)) {
                 LogContext logContext = LogContext.periodic(reconciliationType + "kafka " + topicName);
-                futures.add(executeWithTopicLockHeld(logContext, topicName, new Reconciliation("reconcile-from-kafka") {
+                futures.add(state.limiter.submit(() -> executeWithTopicLockHeld(logContext, topicName, new Reconciliation("reconcile-from-kafka") {
                     @Override
                     public Future<Void> execute() {
+                        return readMarkers(logContext, topicName, ktsByTopicName.get(topicName)).compose(markers -> {
+                            if (markers != null && markers.equals(reconciledMarkers.get(topicName))) {
+                                LOGGER.debug("{}: Topic {} unchanged since last reconciliation {}", logContext, topicName, markers);
+                                unchangedReconciliationsCounter.increment();
+                                succeeded.add(topicName);
+                                return Future.succeededFuture();
+                            }
+                            return reconcileChangedTopic(logContext, topicName, markers);
+                        });
+                    }
+
+                    private Future<Void> reconcileChangedTopic(LogContext logContext, TopicName topicName, TopicMarkers markers) {
                         return getFromTopicStore(topicName).recover(error -> {
                             failed.put(topicName,
                                     new OperatorException("Error getting topic " + topicName + " from topic store during "
@@ -1312,9 +1452,15 @@ class TopicOperator {
                                         .<Void>map(ignored -> {
                                             LOGGER.debug("{} reconcile success -> succeeded", topicName);
                                             succeeded.add(topicName);
+                                            if (markers != null) {
+                                                // The markers were read before reconciling, so any change made
+                                                // since then will be seen by the next periodic reconciliation
+                                                reconciledMarkers.put(topicName, markers);
+                                            }
                                             return null;
                                         }).recover(error -> {
                                             LOGGER.debug("{} reconcile error -> failed", topicName);
+                                            reconciledMarkers.remove(topicName);
                                             failed.put(topicName, error);
                                             return Future.failedFuture(error);
                                         });
@@ -1322,7 +1468,7 @@ class TopicOperator {
                         });
 
                     }
-                }));
+                })).setHandler(ar -> reconciliationProgressDone.incrementAndGet()));
             }
             return join(futures).map(state);
         } else {
@@ -1332,6 +1478,44 @@ class TopicOperator {
 
     }
 
+    /**
+     * Order the given items so that those whose KafkaTopic has a spec change which has not yet been reconciled
+     * (that is, whose generation differs from its status.observedGeneration) come first.
+     * The order is otherwise preserved.
+     */
+    static <T> List<T> pendingChangesFirst(List<T> items, Function<T, KafkaTopic> kafkaTopic) {
+        List<T> result = new ArrayList<>(items.size());
+        List<T> others = new ArrayList<>(items.size());
+        for (T item : items) {
+            KafkaTopic kt = kafkaTopic.apply(item);
+            if (kt != null
+                    && kt.getMetadata().getGeneration() != null
+                    && (kt.getStatus() == null
+                        || kt.getMetadata().getGeneration() != kt.getStatus().getObservedGeneration())) {
+                result.add(item);
+            } else {
+                others.add(item);
+            }
+        }
+        result.addAll(others);
+        return result;
+    }
+
+    /**
+     * Read the current change markers of the given topic,
+     * completing with null if there is no markers reader, or the markers could not be read.
+     */
+    private Future<TopicMarkers> readMarkers(LogContext logContext, TopicName topicName, KafkaTopic kafkaTopic) {
+        if (markersReader == null) {
+            return Future.succeededFuture();
+        }
+        return markersReader.read(topicName, kafkaTopic).recover(error -> {
+            LOGGER.warn("{}: Error reading change markers of topic {}, it will be fully reconciled", logContext, topicName, error);
+            reconciledMarkers.remove(topicName);
+            return Future.succeededFuture();
+        });
+    }
+
     @SuppressWarnings("unchecked")
     private static <T> CompositeFuture join(List<T> futures) {
         return CompositeFuture.join((List) futures);
@@ -1401,6 +1585,11 @@ class TopicOperator {
     private Future<Void> reconcileWithKubeTopic(LogContext logContext, HasMetadata involvedObject,
                                                 String reconciliationType, ResourceName kubeName, TopicName topicName) {
         return executeWithTopicLockHeld(logContext, topicName, new Reconciliation("reconcile-with-kube") {
+            @Override
+            protected Object mergeKey() {
+                return toString() + " " + kubeName;
+            }
+
             @Override
             public Future<Void> execute() {
                 Reconciliation self = this;
@@ -4,6 +4,8 @@
  */
 package io.strimzi.operator.topic;
 
+import io.strimzi.api.kafka.model.KafkaTopic;
+import io.strimzi.operator.common.Tracing;
 import io.strimzi.operator.topic.zk.AclBuilder;
 import io.strimzi.operator.topic.zk.Zk;
 import io.vertx.core.AsyncResult;
@@ -17,9 +19,11 @@ import org.apache.zookeeper.CreateMode;
 import org.apache.zookeeper.data.ACL;
 
 import java.util.List;
+import java.util.function.Supplier;
 
 /**
  * Implementation of {@link TopicStore} that stores the topic state in ZooKeeper.
+ * Each operation on the state of a topic is traced with a {@code zookeeper.*} span, which is a child of the active span.
  */
 public class ZkTopicStore implements TopicStore {
 
@@ -62,8 +66,16 @@ public class ZkTopicStore implements TopicStore {
         return topicsPath + "/" + name;
     }
 
+    private static <T> Future<T> traced(String operationName, TopicName topicName, Supplier<Future<T>> work) {
+        return Tracing.traced("zookeeper." + operationName, KafkaTopic.RESOURCE_KIND, null, topicName.toString(), work);
+    }
+
     @Override
     public Future<Topic> read(TopicName topicName) {
+        return traced("readTopic", topicName, () -> doRead(topicName));
+    }
+
+    private Future<Topic> doRead(TopicName topicName) {
         Promise<Topic> handler = Promise.promise();
         String topicPath = getTopicPath(topicName);
         zk.getData(topicPath, result -> {
@@ -84,6 +96,10 @@ public class ZkTopicStore implements TopicStore {
 
     @Override
     public Future<Void> create(Topic topic) {
+        return traced("createTopic", topic.getTopicName(), () -> doCreate(topic));
+    }
+
+    private Future<Void> doCreate(Topic topic) {
         Promise<Void> handler = Promise.promise();
         byte[] data = TopicSerialization.toJson(topic);
         String topicPath = getTopicPath(topic.getTopicName());
@@ -100,6 +116,10 @@ public class ZkTopicStore implements TopicStore {
 
     @Override
     public Future<Void> update(Topic topic) {
+        return traced("updateTopic", topic.getTopicName(), () -> doUpdate(topic));
+    }
+
+    private Future<Void> doUpdate(Topic topic) {
         Promise<Void> handler = Promise.promise();
         byte[] data = TopicSerialization.toJson(topic);
         // TODO pass a non-zero version
@@ -111,6 +131,10 @@ public class ZkTopicStore implements TopicStore {
 
     @Override
     public Future<Void> delete(TopicName topicName) {
+        return traced("deleteTopic", topicName, () -> doDelete(topicName));
+    }
+
+    private Future<Void> doDelete(TopicName topicName) {
         Promise<Void> handler = Promise.promise();
         // TODO pass a non-zero version
         String topicPath = getTopicPath(topicName);
@@ -12,6 +12,7 @@ import org.I0Itec.zkclient.ZkClient;
 import org.I0Itec.zkclient.serialize.BytesPushThroughSerializer;
 import org.apache.zookeeper.CreateMode;
 import org.apache.zookeeper.data.ACL;
+import org.apache.zookeeper.data.Stat;
 
 import java.util.List;
 
@@ -116,6 +117,16 @@ public interface Zk {
      */
     Zk getData(String path, Handler<AsyncResult<byte[]>> handler);
 
+    /**
+     * Asynchronously fetch the stat of the znode at the given path, without fetching its data,
+     * calling the given handler with the result.
+     * If the znode does not exist the handler will be called with a null result.
+     * @param path The path.
+     * @param handler The result handler.
+     * @return This instance.
+     */
+    Zk getStat(String path, Handler<AsyncResult<Stat>> handler);
+
     /**
      * Asynchronously set given the data {@code watcher} on the given {@code path},
      * returning a future which completes when the watcher is subscribed.
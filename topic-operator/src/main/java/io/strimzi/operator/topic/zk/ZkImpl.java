@@ -18,6 +18,7 @@ import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.apache.zookeeper.CreateMode;
 import org.apache.zookeeper.data.ACL;
+import org.apache.zookeeper.data.Stat;
 
 import java.util.List;
 import java.util.concurrent.ConcurrentHashMap;
@@ -107,6 +108,23 @@ public class ZkImpl implements Zk {
         return this;
     }
 
+    @Override
+    public Zk getStat(String path, Handler<AsyncResult<Stat>> handler) {
+        workerPool().executeBlocking(
+            future -> {
+                try {
+                    // ZkClient has no exists() returning the Stat, but getAcl() returns it without reading the data
+                    future.complete(zookeeper.getAcl(path).getValue());
+                } catch (ZkNoNodeException e) {
+                    future.complete(null);
+                } catch (Throwable t) {
+                    future.fail(t);
+                }
+            },
+            handler);
+        return this;
+    }
+
     static class DataWatchAdapter implements IZkDataListener {
 
         private final Handler<AsyncResult<byte[]>> watcher;
@@ -0,0 +1,94 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.topic;
+
+import io.strimzi.api.kafka.model.KafkaTopic;
+import io.strimzi.api.kafka.model.KafkaTopicBuilder;
+import io.strimzi.api.kafka.model.status.KafkaTopicStatus;
+import io.strimzi.api.kafka.model.status.KafkaTopicStatusBuilder;
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+public class KafkaTopicStatusUpdaterTest {
+
+    private final List<Promise<KafkaTopic>> writes = new ArrayList<>();
+    private final MockK8s k8s = new MockK8s().setUpdateStatusResponse(topic -> {
+        Promise<KafkaTopic> promise = Promise.promise();
+        writes.add(promise);
+        return promise.future();
+    });
+
+    private static KafkaTopic topic(String name) {
+        return new KafkaTopicBuilder()
+                .withNewMetadata()
+                    .withName(name)
+                    .withUid(name + "-uid")
+                    .withGeneration(1L)
+                .endMetadata()
+                .build();
+    }
+
+    private static KafkaTopicStatus status(long observedGeneration) {
+        return new KafkaTopicStatusBuilder().withObservedGeneration(observedGeneration).build();
+    }
+
+    @Test
+    public void testUpdatesOfSameResourceAreCoalesced() {
+        KafkaTopicStatusUpdater updater = new KafkaTopicStatusUpdater(k8s, 10);
+        KafkaTopic topic = topic("my-topic");
+        Future<KafkaTopic> first = updater.update(LogContext.periodic("test"), topic, status(1));
+        Future<KafkaTopic> second = updater.update(LogContext.periodic("test"), topic, status(2));
+        Future<KafkaTopic> third = updater.update(LogContext.periodic("test"), topic, status(3));
+        assertThat(writes.size(), is(1));
+        assertThat(second, is(third));
+
+        writes.get(0).complete(topic);
+        assertThat(first.succeeded(), is(true));
+        // Only the last of the waiting statuses is written
+        assertThat(writes.size(), is(2));
+        assertThat(k8s.getStatuses().get(1).getObservedGeneration(), is(3L));
+        writes.get(1).complete(topic);
+        assertThat(third.succeeded(), is(true));
+    }
+
+    @Test
+    public void testUnchangedStatusIsNotWritten() {
+        KafkaTopicStatusUpdater updater = new KafkaTopicStatusUpdater(k8s, 10);
+        KafkaTopic topic = new KafkaTopicBuilder(topic("my-topic")).withStatus(status(1)).build();
+        Future<KafkaTopic> result = updater.update(LogContext.periodic("test"), topic, status(1));
+        assertThat(writes.size(), is(0));
+        assertThat(result.succeeded(), is(true));
+        assertThat(result.result(), is(nullValue()));
+
+        // A status which was last written is written again if the resource has a different status,
+        // since the status might have been changed by someone else since
+        updater.update(LogContext.periodic("test"), topic, status(2));
+        writes.get(0).complete(topic);
+        updater.update(LogContext.periodic("test"), topic, status(2));
+        assertThat(writes.size(), is(2));
+    }
+
+    @Test
+    public void testWritesInFlightAreBounded() {
+        KafkaTopicStatusUpdater updater = new KafkaTopicStatusUpdater(k8s, 2);
+        for (int i = 0; i < 4; i++) {
+            updater.update(LogContext.periodic("test"), topic("topic-" + i), status(1));
+        }
+        assertThat(writes.size(), is(2));
+        writes.get(0).fail("boom");
+        assertThat(writes.size(), is(3));
+        writes.get(1).complete();
+        writes.get(2).complete();
+        assertThat(writes.size(), is(4));
+    }
+}
@@ -129,15 +129,24 @@ public class MockK8s implements K8s {
         return Collections.unmodifiableList(statuses);
     }
 
-    @Override
-    public Future<KafkaTopic> updateResourceStatus(KafkaTopic topicResource) {
-        statuses.add(new KafkaTopicStatusBuilder(topicResource.getStatus()).build());
+    private Function<KafkaTopic, Future<KafkaTopic>> updateStatusResponse = topicResource -> {
         Long generation = topicResource.getMetadata().getGeneration();
         return Future.succeededFuture(new KafkaTopicBuilder(topicResource)
                 .editMetadata()
                     .withGeneration(generation == null ? 1 : generation + 1)
                 .endMetadata()
             .build());
+    };
+
+    public MockK8s setUpdateStatusResponse(Function<KafkaTopic, Future<KafkaTopic>> updateStatusResponse) {
+        this.updateStatusResponse = updateStatusResponse;
+        return this;
+    }
+
+    @Override
+    public Future<KafkaTopic> updateResourceStatus(KafkaTopic topicResource) {
+        statuses.add(new KafkaTopicStatusBuilder(topicResource.getStatus()).build());
+        return updateStatusResponse.apply(topicResource);
     }
 
     @Override
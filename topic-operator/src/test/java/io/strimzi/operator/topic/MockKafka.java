@@ -7,10 +7,14 @@ package io.strimzi.operator.topic;
 import io.vertx.core.Future;
 import io.vertx.junit5.VertxTestContext;
 import org.apache.kafka.clients.admin.NewTopic;
+import org.apache.kafka.common.Node;
 
 import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -42,6 +46,13 @@ public class MockKafka implements Kafka {
     private Function<TopicName, Future<Void>> updateTopicResponse =
         t -> failedFuture("Unexpected. Your test probably need to configure the MockKafka with a updateTopicResponse.");
 
+    private Collection<Node> brokers = asList(new Node(0, "localhost", 9092), new Node(1, "localhost", 9093), new Node(2, "localhost", 9094));
+    private final List<Map<Integer, List<Integer>>> reassignments = new ArrayList<>();
+    private Set<Integer> partitionsBeingReassigned = new HashSet<>();
+    private Set<TopicName> topicsBeingReassigned = new HashSet<>();
+    private final Map<TopicName, Map<Integer, List<Integer>>> followerThrottles = new HashMap<>();
+    private final Set<Integer> throttledBrokers = new HashSet<>();
+
     public MockKafka setTopicsListResponse(Future<Set<String>> topicsListResponse) {
         this.topicsListResponse = topicsListResponse;
         return this;
@@ -223,4 +234,82 @@ public class MockKafka implements Kafka {
     public Topic getTopicState(TopicName topicName) {
         return topics.get(topicName);
     }
+
+    public MockKafka setBrokers(Collection<Node> brokers) {
+        this.brokers = brokers;
+        return this;
+    }
+
+    public MockKafka setPartitionsBeingReassigned(Set<Integer> partitionsBeingReassigned) {
+        this.partitionsBeingReassigned = partitionsBeingReassigned;
+        return this;
+    }
+
+    public MockKafka setTopicsBeingReassigned(Set<TopicName> topicsBeingReassigned) {
+        this.topicsBeingReassigned = topicsBeingReassigned;
+        return this;
+    }
+
+    public MockKafka setThrottles(TopicName topicName, Map<Integer, List<Integer>> followerReplicas, Set<Integer> brokers) {
+        followerThrottles.put(topicName, followerReplicas);
+        throttledBrokers.addAll(brokers);
+        return this;
+    }
+
+    public List<Map<Integer, List<Integer>>> getReassignments() {
+        return reassignments;
+    }
+
+    public Map<Integer, List<Integer>> getFollowerThrottles(TopicName topicName) {
+        return followerThrottles.get(topicName);
+    }
+
+    public Set<Integer> getThrottledBrokers() {
+        return throttledBrokers;
+    }
+
+    @Override
+    public Future<Collection<Node>> describeBrokers() {
+        return succeededFuture(brokers);
+    }
+
+    @Override
+    public Future<Void> reassignPartitions(TopicName topicName, Map<Integer, List<Integer>> assignment) {
+        reassignments.add(assignment);
+        return succeededFuture();
+    }
+
+    @Override
+    public Future<Set<Integer>> partitionsBeingReassigned(TopicName topicName) {
+        return succeededFuture(partitionsBeingReassigned);
+    }
+
+    @Override
+    public Future<Set<TopicName>> topicsBeingReassigned() {
+        return succeededFuture(topicsBeingReassigned);
+    }
+
+    @Override
+    public Future<Set<Integer>> brokersWithReplicationThrottles(Set<Integer> brokers) {
+        Set<Integer> result = new HashSet<>(brokers);
+        result.retainAll(throttledBrokers);
+        return succeededFuture(result);
+    }
+
+    @Override
+    public Future<Void> setReplicationThrottles(TopicName topicName, Map<Integer, List<Integer>> leaderReplicas,
+                                                Map<Integer, List<Integer>> followerReplicas, Set<Integer> brokers, long rate) {
+        followerThrottles.put(topicName, followerReplicas);
+        throttledBrokers.addAll(brokers);
+        return succeededFuture();
+    }
+
+    @Override
+    public Future<Void> removeReplicationThrottles(TopicName topicName, Set<Integer> brokers) {
+        if (topicName != null) {
+            followerThrottles.remove(topicName);
+        }
+        throttledBrokers.removeAll(brokers);
+        return succeededFuture();
+    }
 }
@@ -9,12 +9,22 @@ import io.strimzi.api.kafka.model.KafkaTopic;
 import io.vertx.core.Future;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 class MockTopicOperator extends TopicOperator {
 
+    private static final Map<String, String> MANDATORY_CONFIG = new HashMap<>();
+
+    static {
+        MANDATORY_CONFIG.put(Config.ZOOKEEPER_CONNECT.key, "localhost:2181");
+        MANDATORY_CONFIG.put(Config.KAFKA_BOOTSTRAP_SERVERS.key, "localhost:9092");
+        MANDATORY_CONFIG.put(Config.NAMESPACE.key, "default");
+    }
+
     public MockTopicOperator() {
-        super(null, null, null, null, null, null, null, null);
+        super(null, null, null, null, null, null, new Config(MANDATORY_CONFIG), null);
     }
 
     static class MockOperatorEvent {
@@ -0,0 +1,270 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.topic;
+
+import io.vertx.core.Future;
+import io.vertx.core.Vertx;
+import io.vertx.junit5.Checkpoint;
+import io.vertx.junit5.VertxExtension;
+import io.vertx.junit5.VertxTestContext;
+import org.apache.kafka.clients.admin.Config;
+import org.apache.kafka.clients.admin.ConfigEntry;
+import org.apache.kafka.clients.admin.TopicDescription;
+import org.apache.kafka.common.Node;
+import org.apache.kafka.common.TopicPartitionInfo;
+import org.apache.kafka.common.errors.InvalidReplicationFactorException;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static java.util.Arrays.asList;
+import static java.util.Collections.singleton;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.notNullValue;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@ExtendWith(VertxExtension.class)
+public class PartitionReassignerTest {
+
+    private static Vertx vertx;
+
+    private final TopicName topicName = new TopicName("my-topic");
+
+    private final ThrottleStore store = ThrottleStore.inMemory();
+
+    @BeforeAll
+    public static void before() {
+        vertx = Vertx.vertx();
+    }
+
+    @AfterAll
+    public static void after() {
+        vertx.close();
+    }
+
+    private static List<Node> brokers(String... racks) {
+        List<Node> brokers = new ArrayList<>();
+        for (int id = 0; id < racks.length; id++) {
+            brokers.add(new Node(id, "host" + id, 9092, racks[id]));
+        }
+        return brokers;
+    }
+
+    private static Map<Integer, List<Integer>> assignment(List<Integer>... replicas) {
+        Map<Integer, List<Integer>> result = new TreeMap<>();
+        for (int partition = 0; partition < replicas.length; partition++) {
+            result.put(partition, replicas[partition]);
+        }
+        return result;
+    }
+
+    private MockKafka kafkaWithTopic(ConfigEntry... config) {
+        List<TopicPartitionInfo> partitions = new ArrayList<>();
+        Node node0 = new Node(0, "host0", 9092);
+        for (int partition = 0; partition < 3; partition++) {
+            partitions.add(new TopicPartitionInfo(partition, node0, asList(node0), asList(node0)));
+        }
+        return new MockKafka()
+                .setBrokers(brokers(null, null))
+                .setTopicMetadataResponse(topicName,
+                        new TopicMetadata(new TopicDescription(topicName.toString(), false, partitions), new Config(asList(config))),
+                        null);
+    }
+
+    private ThrottleStore.Throttles storedThrottles() {
+        return store.read().result();
+    }
+
+    @Test
+    public void testIncreaseIsRackAware() {
+        Map<Integer, List<Integer>> result = PartitionReassigner.assignment(
+                assignment(asList(0), asList(1)), 2,
+                brokers("a", "a", "b", "b"));
+        // The new replicas go in the other rack, spread over its brokers
+        assertThat(result, is(assignment(asList(0, 2), asList(1, 3))));
+    }
+
+    @Test
+    public void testIncreaseWithoutRacksIsBalanced() {
+        Map<Integer, List<Integer>> result = PartitionReassigner.assignment(
+                assignment(asList(0, 1), asList(1, 2), asList(2, 0)), 3,
+                brokers(null, null, null, null));
+        assertThat(result, is(assignment(asList(0, 1, 3), asList(1, 2, 3), asList(2, 0, 1))));
+    }
+
+    @Test
+    public void testDecreaseKeepsPreferredLeaderAndRackDiversity() {
+        Map<Integer, List<Integer>> result = PartitionReassigner.assignment(
+                assignment(asList(0, 2, 1), asList(2, 3, 0)), 2,
+                brokers("a", "a", "b", "b"));
+        assertThat(result, is(assignment(asList(0, 2), asList(2, 0))));
+    }
+
+    @Test
+    public void testUnchangedPartitionsAreOmitted() {
+        Map<Integer, List<Integer>> result = PartitionReassigner.assignment(
+                assignment(asList(0, 1), asList(1)), 2,
+                brokers(null, null, null));
+        assertThat(result, is(Collections.singletonMap(1, asList(1, 2))));
+    }
+
+    @Test
+    public void testNotEnoughBrokers() {
+        assertThrows(InvalidReplicationFactorException.class, () -> PartitionReassigner.assignment(
+                assignment(asList(0)), 3, brokers(null, null)));
+    }
+
+    @Test
+    public void testReassignmentInBatchesWithThrottles(VertxTestContext context) {
+        MockKafka kafka = kafkaWithTopic();
+        Checkpoint finished = context.checkpoint();
+        List<TopicName> progress = new ArrayList<>();
+        AtomicReference<PartitionReassigner> reassignerRef = new AtomicReference<>();
+        PartitionReassigner reassigner = new PartitionReassigner(vertx, kafka, store, 1000L, 10L, 2, name -> {
+            progress.add(name);
+            if (progress.size() == 1) {
+                context.verify(() -> {
+                    assertThat(kafka.getReassignments().size(), is(1));
+                    assertThat(kafka.getThrottledBrokers(), is(new HashSet<>(asList(0, 1))));
+                    assertThat(storedThrottles(), is(new ThrottleStore.Throttles(singleton(topicName), new HashSet<>(asList(0, 1)))));
+                });
+            } else {
+                context.verify(() -> {
+                    assertThat(kafka.getReassignments(), is(asList(
+                            assignment(asList(0, 1), asList(0, 1)),
+                            Collections.singletonMap(2, asList(0, 1)))));
+                    assertThat(kafka.getThrottledBrokers().isEmpty(), is(true));
+                    assertThat(kafka.getFollowerThrottles(topicName), is(nullValue()));
+                    assertThat(storedThrottles(), is(ThrottleStore.Throttles.NONE));
+                    // Once finished, there's nothing more to reassign
+                    kafka.setTopicMetadataResponse(topicName, null, null);
+                    reassignerRef.get().ensureReplicationFactor(LogContext.periodic("test"), topicName, 2).setHandler(context.succeeding(reassignment -> {
+                        context.verify(() -> assertThat(reassignment, is(nullValue())));
+                        finished.flag();
+                    }));
+                });
+            }
+        });
+        reassignerRef.set(reassigner);
+
+        reassigner.ensureReplicationFactor(LogContext.periodic("test"), topicName, 2).setHandler(context.succeeding(reassignment -> context.verify(() -> {
+            assertThat(reassignment, is(notNullValue()));
+            assertThat(reassignment.totalPartitions(), is(3));
+            // Asking again returns the reassignment in progress
+            Future<PartitionReassigner.Reassignment> again = reassigner.ensureReplicationFactor(LogContext.periodic("test"), topicName, 2);
+            assertThat(again.result(), is(reassignment));
+            // A different replication factor can't be applied until it's finished
+            assertThat(reassigner.ensureReplicationFactor(LogContext.periodic("test"), topicName, 1).failed(), is(true));
+        })));
+    }
+
+    @Test
+    public void testThrottlesNotSetByTheOperatorAreKept(VertxTestContext context) {
+        // Broker 1 and the topic were throttled by an administrator
+        MockKafka kafka = kafkaWithTopic(new ConfigEntry(PartitionReassigner.FOLLOWER_THROTTLED_REPLICAS, "0:1"))
+                .setThrottles(topicName, assignment(asList(1)), singleton(1));
+        Checkpoint finished = context.checkpoint();
+        PartitionReassigner reassigner = new PartitionReassigner(vertx, kafka, store, 1000L, 10L, 2, name -> {
+            if (kafka.getReassignments().size() == 2) {
+                context.verify(() -> {
+                    assertThat(kafka.getFollowerThrottles(topicName), is(assignment(asList(1))));
+                    assertThat(kafka.getThrottledBrokers(), is(singleton(1)));
+                    assertThat(storedThrottles(), is(ThrottleStore.Throttles.NONE));
+                    finished.flag();
+                });
+            }
+        });
+        Topic kafkaTopic = new Topic.Builder(topicName, 1,
+                Collections.singletonMap(PartitionReassigner.FOLLOWER_THROTTLED_REPLICAS, "0:1")).build();
+
+        assertThat(reassigner.withoutThrottles(kafkaTopic), is(kafkaTopic));
+        reassigner.removeStaleThrottles(LogContext.periodic("test"))
+            .compose(ignored -> reassigner.ensureReplicationFactor(LogContext.periodic("test"), topicName, 2))
+            .setHandler(context.succeeding(reassignment -> context.verify(() -> assertThat(reassignment, is(notNullValue())))));
+    }
+
+    @Test
+    public void testBrokerRatesNotSetByTheOperatorAreKept(VertxTestContext context) {
+        // Broker 1 was throttled by an administrator
+        MockKafka kafka = kafkaWithTopic()
+                .setThrottles(new TopicName("other-topic"), assignment(asList(1)), singleton(1));
+        Checkpoint finished = context.checkpoint();
+        List<TopicName> progress = new ArrayList<>();
+        PartitionReassigner reassigner = new PartitionReassigner(vertx, kafka, store, 1000L, 10L, 2, name -> {
+            progress.add(name);
+            if (progress.size() == 1) {
+                context.verify(() -> {
+                    assertThat(kafka.getThrottledBrokers(), is(new HashSet<>(asList(0, 1))));
+                    assertThat(storedThrottles(), is(new ThrottleStore.Throttles(singleton(topicName), singleton(0))));
+                });
+            } else {
+                context.verify(() -> {
+                    assertThat(kafka.getFollowerThrottles(topicName), is(nullValue()));
+                    assertThat(kafka.getThrottledBrokers(), is(singleton(1)));
+                    finished.flag();
+                });
+            }
+        });
+
+        reassigner.ensureReplicationFactor(LogContext.periodic("test"), topicName, 2).setHandler(context.succeeding());
+    }
+
+    @Test
+    public void testOnlyStaleThrottlesSetByTheOperatorAreHiddenAndRemoved(VertxTestContext context) {
+        TopicName otherTopic = new TopicName("other-topic");
+        // The operator was restarted while throttling my-topic, other-topic and broker 1 were throttled by an administrator
+        store.write(new ThrottleStore.Throttles(singleton(topicName), singleton(0)));
+        MockKafka kafka = new MockKafka()
+                .setBrokers(brokers(null, null))
+                .setThrottles(topicName, assignment(asList(1)), new HashSet<>(asList(0, 1)))
+                .setThrottles(otherTopic, assignment(asList(1)), Collections.emptySet())
+                .setTopicsBeingReassigned(singleton(topicName));
+        PartitionReassigner reassigner = new PartitionReassigner(vertx, kafka, store, 1000L, 10L, 2, name -> { });
+        Map<String, String> config = new HashMap<>();
+        config.put("retention.ms", "1000");
+        config.put(PartitionReassigner.LEADER_THROTTLED_REPLICAS, "0:0");
+        config.put(PartitionReassigner.FOLLOWER_THROTTLED_REPLICAS, "0:1");
+        Topic kafkaTopic = new Topic.Builder(topicName, 1, config).build();
+        Topic otherKafkaTopic = new Topic.Builder(otherTopic, 1, config).build();
+        Checkpoint removed = context.checkpoint();
+
+        reassigner.removeStaleThrottles(LogContext.periodic("test")).compose(ignored -> {
+            context.verify(() -> {
+                // Kafka is still reassigning the topic, so its throttles are kept, but hidden
+                assertThat(reassigner.withoutThrottles(kafkaTopic).getConfig(), is(Collections.singletonMap("retention.ms", "1000")));
+                assertThat(reassigner.withoutThrottles(otherKafkaTopic), is(otherKafkaTopic));
+                assertThat(kafka.getFollowerThrottles(topicName), is(notNullValue()));
+                assertThat(kafka.getThrottledBrokers(), is(new HashSet<>(asList(0, 1))));
+            });
+            kafka.setTopicsBeingReassigned(Collections.emptySet());
+            return reassigner.removeStaleThrottles(LogContext.periodic("test"));
+        }).setHandler(context.succeeding(ignored -> context.verify(() -> {
+            assertThat(kafka.getFollowerThrottles(topicName), is(nullValue()));
+            assertThat(kafka.getFollowerThrottles(otherTopic), is(notNullValue()));
+            assertThat(kafka.getThrottledBrokers(), is(singleton(1)));
+            assertThat(reassigner.withoutThrottles(kafkaTopic), is(kafkaTopic));
+            assertThat(storedThrottles(), is(ThrottleStore.Throttles.NONE));
+            removed.flag();
+        })));
+    }
+
+    @Test
+    public void testThrottlesJson() {
+        ThrottleStore.Throttles throttles = new ThrottleStore.Throttles(singleton(topicName), new HashSet<>(asList(0, 1)));
+        assertThat(ThrottleStore.Throttles.fromJson(throttles.toJson()), is(throttles));
+    }
+}
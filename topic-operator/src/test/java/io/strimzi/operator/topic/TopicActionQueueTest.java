@@ -0,0 +1,181 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.topic;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.strimzi.operator.common.MetricsProvider;
+import io.vertx.core.CompositeFuture;
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import io.vertx.core.Vertx;
+import io.vertx.junit5.VertxExtension;
+import io.vertx.junit5.VertxTestContext;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static java.util.Arrays.asList;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.notNullValue;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+@ExtendWith(VertxExtension.class)
+public class TopicActionQueueTest {
+
+    private static Vertx vertx;
+    private MetricsProvider metrics;
+    private Counter merged;
+    private TopicActionQueue queue;
+
+    @BeforeAll
+    public static void before() {
+        vertx = Vertx.vertx();
+    }
+
+    @AfterAll
+    public static void after() {
+        vertx.close();
+    }
+
+    @BeforeEach
+    public void setup() {
+        MeterRegistry registry = new SimpleMeterRegistry();
+        metrics = new MetricsProvider() {
+            @Override
+            public MeterRegistry meterRegistry() {
+                return registry;
+            }
+
+            @Override
+            public Counter counter(String name, String description, Tags tags) {
+                return Counter.builder(name).tags(tags).register(registry);
+            }
+
+            @Override
+            public Timer timer(String name, String description, Tags tags) {
+                return Timer.builder(name).tags(tags).register(registry);
+            }
+
+            @Override
+            public AtomicInteger gauge(String name, String description, Tags tags) {
+                AtomicInteger gauge = new AtomicInteger(0);
+                Gauge.builder(name, () -> gauge).tags(tags).register(registry);
+                return gauge;
+            }
+        };
+        merged = metrics.counter("merged", "", Tags.empty());
+        queue = new TopicActionQueue(vertx, metrics, merged);
+    }
+
+    @Test
+    public void testActionsForSameTopicRunInOrder(VertxTestContext context) {
+        TopicName topic = new TopicName("my-topic");
+        List<String> executions = new ArrayList<>();
+        Promise<Void> first = Promise.promise();
+        Future<Void> f1 = queue.submit(LogContext.periodic("1"), topic, null, "first", () -> {
+            executions.add("first");
+            return first.future();
+        });
+        Future<Void> f2 = queue.submit(LogContext.periodic("2"), topic, null, "second", () -> {
+            executions.add("second");
+            return Future.succeededFuture();
+        });
+        context.verify(() -> assertThat(queue.queueLength(topic), is(2)));
+        vertx.setTimer(100, id -> {
+            context.verify(() -> assertThat(executions, is(asList("first"))));
+            first.complete();
+        });
+        CompositeFuture.all(f1, f2).setHandler(context.succeeding(v -> context.verify(() -> {
+            assertThat(executions, is(asList("first", "second")));
+            assertThat(queue.isEmpty(), is(true));
+            assertThat(metrics.meterRegistry().get(TopicOperator.METRICS_PREFIX + "reconciliations.queue.length")
+                    .tag("topic", "my-topic").gauge().value(), is(0.0));
+            assertThat(metrics.meterRegistry().get(TopicOperator.METRICS_PREFIX + "reconciliations.queue.wait")
+                    .tag("topic", "my-topic").timer().count(), is(2L));
+            context.completeNow();
+        })));
+    }
+
+    @Test
+    public void testActionsForDifferentTopicsRunIndependently(VertxTestContext context) {
+        Promise<Void> neverCompleted = Promise.promise();
+        queue.submit(LogContext.periodic("1"), new TopicName("blocked"), null, "blocked", () -> neverCompleted.future());
+        queue.submit(LogContext.periodic("2"), new TopicName("other"), null, "other", () -> Future.succeededFuture())
+            .setHandler(context.succeeding(v -> context.verify(() -> {
+                assertThat(queue.queueLength(new TopicName("blocked")), is(1));
+                assertThat(queue.queueLength(new TopicName("other")), is(0));
+                context.completeNow();
+            })));
+    }
+
+    @Test
+    public void testWaitingActionsWithEqualMergeKeyAreMerged(VertxTestContext context) {
+        TopicName topic = new TopicName("my-topic");
+        AtomicInteger executions = new AtomicInteger();
+        Promise<Void> running = Promise.promise();
+        queue.submit(LogContext.periodic("1"), topic, "key", "running", () -> running.future());
+        List<Future> futures = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            futures.add(queue.submit(LogContext.periodic("w" + i), topic, "key", "waiting", () -> {
+                executions.incrementAndGet();
+                return Future.failedFuture("boom");
+            }));
+        }
+        context.verify(() -> assertThat(queue.queueLength(topic), is(2)));
+        running.complete();
+        CompositeFuture.join(futures).setHandler(context.failing(e -> context.verify(() -> {
+            assertThat(executions.get(), is(1));
+            for (Future f : futures) {
+                assertThat(f.failed(), is(true));
+            }
+            assertThat(merged.count(), is(4.0));
+            context.completeNow();
+        })));
+    }
+
+    @Test
+    public void testMetricsOfDeletedTopicAreRemovedWhenItsQueueDrains(VertxTestContext context) {
+        TopicName deleted = new TopicName("deleted");
+        TopicName other = new TopicName("other");
+        MeterRegistry registry = metrics.meterRegistry();
+        queue.submit(LogContext.periodic("1"), other, null, "other", () -> Future.succeededFuture());
+        queue.submit(LogContext.periodic("2"), deleted, null, "delete", () -> {
+            queue.topicDeleted(deleted);
+            context.verify(() -> assertThat(registry.find(TopicOperator.METRICS_PREFIX + "reconciliations.queue.length")
+                    .tag("topic", "deleted").gauge(), is(notNullValue())));
+            return Future.succeededFuture();
+        }).setHandler(context.succeeding(v -> context.verify(() -> {
+            assertThat(registry.find(TopicOperator.METRICS_PREFIX + "reconciliations.queue.length")
+                    .tag("topic", "deleted").gauge(), is(nullValue()));
+            assertThat(registry.find(TopicOperator.METRICS_PREFIX + "reconciliations.queue.wait")
+                    .tag("topic", "deleted").timer(), is(nullValue()));
+            assertThat(registry.find(TopicOperator.METRICS_PREFIX + "reconciliations.queue.length")
+                    .tag("topic", "other").gauge(), is(notNullValue()));
+            context.completeNow();
+        })));
+    }
+
+    @Test
+    public void testFailingActionDoesNotBlockQueue(VertxTestContext context) {
+        TopicName topic = new TopicName("my-topic");
+        queue.submit(LogContext.periodic("1"), topic, null, "throws", () -> {
+            throw new RuntimeException("boom");
+        });
+        queue.submit(LogContext.periodic("2"), topic, null, "succeeds", () -> Future.succeededFuture())
+            .setHandler(context.succeeding(v -> context.completeNow()));
+    }
+}
@@ -19,6 +19,7 @@ import io.vertx.core.AsyncResult;
 import io.vertx.core.Future;
 import io.vertx.core.Vertx;
 import io.vertx.core.VertxOptions;
+import io.vertx.core.json.JsonObject;
 import io.vertx.junit5.Checkpoint;
 import io.vertx.junit5.VertxExtension;
 import io.vertx.junit5.VertxTestContext;
@@ -37,6 +38,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -47,8 +49,10 @@ import java.util.concurrent.atomic.AtomicInteger;
 import static io.fabric8.kubernetes.client.Watcher.Action.ADDED;
 import static io.fabric8.kubernetes.client.Watcher.Action.DELETED;
 import static io.fabric8.kubernetes.client.Watcher.Action.MODIFIED;
+import static java.util.Arrays.asList;
 import static java.util.Collections.emptySet;
 import static java.util.Collections.singleton;
+import static java.util.Collections.singletonList;
 import static java.util.Collections.singletonMap;
 import static org.hamcrest.CoreMatchers.instanceOf;
 import static org.hamcrest.CoreMatchers.is;
@@ -577,6 +581,7 @@ public class TopicOperatorTest {
                 assertThat(registry.get(TopicOperator.METRICS_PREFIX + "reconciliations.successful").tag("kind", "KafkaTopic").counter().count(), is(0.0));
                 assertThat(registry.get(TopicOperator.METRICS_PREFIX + "reconciliations.failed").tag("kind", "KafkaTopic").counter().count(), is(0.0));
                 assertThat(registry.get(TopicOperator.METRICS_PREFIX + "reconciliations.locked").tag("kind", "KafkaTopic").counter().count(), is(0.0));
+                assertThat(registry.get(TopicOperator.METRICS_PREFIX + "reconciliations.merged").tag("kind", "KafkaTopic").counter().count(), is(0.0));
 
                 assertThat(registry.get(TopicOperator.METRICS_PREFIX + "reconciliations.duration").tag("kind", "KafkaTopic").timer().count(), is(0L));
                 assertThat(registry.get(TopicOperator.METRICS_PREFIX + "reconciliations.duration").tag("kind", "KafkaTopic").timer().totalTime(TimeUnit.MILLISECONDS), is(0.0));
@@ -831,6 +836,42 @@ public class TopicOperatorTest {
         });
     }
 
+    /**
+     * Test reconciliation when the replicas have been changed in k8s, so the partitions need to be reassigned.
+     */
+    @Test
+    public void testReconcile_withResource_withKafka_withPrivate_replicasChanged(VertxTestContext context) throws InterruptedException {
+        Topic kubeTopic = new Topic.Builder(topicName, resourceName, 2, (short) 3, map("cleanup.policy", "bar"), metadata).build();
+        Topic kafkaTopic = new Topic.Builder(topicName, resourceName, 2, (short) 2, map("cleanup.policy", "bar"), metadata).build();
+        Topic privateTopic = kafkaTopic;
+
+        CountDownLatch async0 = new CountDownLatch(2);
+        mockKafka.setCreateTopicResponse(topicName -> Future.succeededFuture());
+        mockKafka.createTopic(kafkaTopic).setHandler(ar -> async0.countDown());
+        mockKafka.setTopicMetadataResponse(topicName, Utils.getTopicMetadata(kafkaTopic), null);
+
+        KafkaTopic resource = TopicSerialization.toTopicResource(kubeTopic, labels);
+        LogContext logContext = LogContext.periodic(topicName.toString());
+        mockTopicStore.setCreateTopicResponse(topicName, null);
+        mockTopicStore.create(privateTopic).setHandler(ar -> async0.countDown());
+        async0.await();
+
+        Checkpoint async = context.checkpoint();
+        topicOperator.reconcile(reconciliation(), logContext, resource, kubeTopic, kafkaTopic, privateTopic).setHandler(reconcileResult -> {
+            assertSucceeded(context, reconcileResult);
+            Map<Integer, List<Integer>> expectedAssignment = new HashMap<>();
+            expectedAssignment.put(0, asList(0, 1, 2));
+            expectedAssignment.put(1, asList(0, 1, 2));
+            context.verify(() -> assertThat(mockKafka.getReassignments(), is(singletonList(expectedAssignment))));
+            // The topic store keeps the old replicas until the reassignment has finished
+            mockTopicStore.read(topicName).setHandler(readResult -> {
+                assertSucceeded(context, readResult);
+                context.verify(() -> assertThat(readResult.result().getNumReplicas(), is((short) 2)));
+                async.flag();
+            });
+        });
+    }
+
     // TODO 3way reconcilation where kafka and kube agree
     // TODO 3way reconcilation where all three agree
     // TODO 3way reconcilation with conflict
@@ -1147,6 +1188,158 @@ public class TopicOperatorTest {
         })));
     }
 
+    @Test
+    public void testReconcileAllTopics_skipsUnchangedTopics(VertxTestContext context) throws InterruptedException {
+        Topic topic = new Topic.Builder(topicName, resourceName, 10, (short) 2, map("cleanup.policy", "bar"), metadata).build();
+        KafkaTopic resource = TopicSerialization.toTopicResource(topic, labels);
+
+        CountDownLatch async0 = new CountDownLatch(2);
+        mockK8s.setCreateResponse(resourceName, null);
+        mockK8s.createResource(resource).setHandler(ar -> async0.countDown());
+        mockTopicStore.setCreateTopicResponse(topicName, null);
+        mockTopicStore.create(topic).setHandler(ar -> async0.countDown());
+        async0.await();
+        mockKafka.setTopicsListResponse(Future.succeededFuture(singleton(topicName.toString())));
+        AtomicInteger metadataCalls = new AtomicInteger();
+        mockKafka.setTopicMetadataResponse(t -> {
+            metadataCalls.incrementAndGet();
+            return Future.succeededFuture(Utils.getTopicMetadata(topic));
+        });
+
+        AtomicInteger zxid = new AtomicInteger(1);
+        topicOperator = new TopicOperator(vertx, mockKafka, mockK8s, mockTopicStore, labels, "default-namespace", config, metrics,
+            (name, kt) -> Future.succeededFuture(new TopicMarkers(kt, zxid.get(), 1, 1)));
+
+        Checkpoint async = context.checkpoint();
+        topicOperator.reconcileAllTopics("initial")
+            .compose(ignored -> topicOperator.reconcileAllTopics("periodic"))
+            .compose(ignored -> {
+                context.verify(() -> {
+                    assertThat(metadataCalls.get(), is(1));
+                    assertThat(metrics.meterRegistry().get(TopicOperator.METRICS_PREFIX + "reconciliations.unchanged").tag("kind", "KafkaTopic").counter().count(), is(1.0));
+                });
+                // A change in Kafka moves the marker
+                zxid.incrementAndGet();
+                return topicOperator.reconcileAllTopics("periodic");
+            })
+            .setHandler(context.succeeding(ignored -> context.verify(() -> {
+                assertThat(metadataCalls.get(), is(2));
+                assertThat(metrics.meterRegistry().get(TopicOperator.METRICS_PREFIX + "reconciliations.unchanged").tag("kind", "KafkaTopic").counter().count(), is(1.0));
+                async.flag();
+            })));
+    }
+
+    @Test
+    public void testReconcileAllTopics_doesNotSkipRecreatedTopics(VertxTestContext context) throws InterruptedException {
+        Topic topic = createTopicInKubeAndStore(topicName.toString());
+        mockKafka.setTopicsListResponse(Future.succeededFuture(singleton(topicName.toString())));
+        AtomicInteger metadataCalls = new AtomicInteger();
+        mockKafka.setTopicMetadataResponse(t -> {
+            metadataCalls.incrementAndGet();
+            return Future.succeededFuture(Utils.getTopicMetadata(topic));
+        });
+        mockK8s.setDeleteResponse(topic.getResourceName(), null);
+        mockTopicStore.setDeleteTopicResponse(topicName, null);
+
+        topicOperator = new TopicOperator(vertx, mockKafka, mockK8s, mockTopicStore, labels, "default-namespace", config, metrics,
+            (name, kt) -> Future.succeededFuture(new TopicMarkers(kt, 1, 1, 1)));
+
+        Checkpoint async = context.checkpoint();
+        topicOperator.reconcileAllTopics("initial")
+            .compose(ignored -> topicOperator.onTopicDeleted(LogContext.zkWatch("///", topicName.toString()), topicName))
+            .compose(ignored -> {
+                // Recreated with the same name, so that only the reconciled markers could tell it apart
+                try {
+                    createTopicInKubeAndStore(topicName.toString());
+                } catch (InterruptedException e) {
+                    return Future.failedFuture(e);
+                }
+                return topicOperator.reconcileAllTopics("periodic");
+            })
+            .setHandler(context.succeeding(ignored -> context.verify(() -> {
+                assertThat(metadataCalls.get(), is(2));
+                assertThat(metrics.meterRegistry().get(TopicOperator.METRICS_PREFIX + "reconciliations.unchanged").tag("kind", "KafkaTopic").counter().count(), is(0.0));
+                async.flag();
+            })));
+    }
+
+    private Topic createTopicInKubeAndStore(String name) throws InterruptedException {
+        TopicName topicName = new TopicName(name);
+        ResourceName resourceName = topicName.asKubeName();
+        Topic topic = new Topic.Builder(topicName, resourceName, 10, (short) 2, map("cleanup.policy", "bar"),
+                new ObjectMetaBuilder().withName(name).withLabels(singletonMap("app", "strimzi")).build()).build();
+        CountDownLatch created = new CountDownLatch(2);
+        mockK8s.setCreateResponse(resourceName, null);
+        mockK8s.createResource(TopicSerialization.toTopicResource(topic, labels)).setHandler(ar -> created.countDown());
+        mockTopicStore.setCreateTopicResponse(topicName, null);
+        mockTopicStore.create(topic).setHandler(ar -> created.countDown());
+        created.await();
+        return topic;
+    }
+
+    @Test
+    public void testReconcileAllTopics_reportsProgress(VertxTestContext context) throws InterruptedException {
+        Map<TopicName, Topic> topics = new HashMap<>();
+        for (String name : asList("progress-1", "progress-2", "progress-3")) {
+            Topic topic = createTopicInKubeAndStore(name);
+            topics.put(topic.getTopicName(), topic);
+        }
+        mockKafka.setTopicsListResponse(Future.succeededFuture(new HashSet<>(asList("progress-1", "progress-2", "progress-3"))));
+        mockKafka.setTopicMetadataResponse(t -> Future.succeededFuture(Utils.getTopicMetadata(topics.get(t))));
+
+        Checkpoint async = context.checkpoint();
+        topicOperator.reconcileAllTopics("periodic").setHandler(context.succeeding(ignored -> context.verify(() -> {
+            MeterRegistry registry = metrics.meterRegistry();
+            assertThat(registry.get(TopicOperator.METRICS_PREFIX + "reconciliations.full.topics.total").tag("kind", "KafkaTopic").gauge().value(), is(3.0));
+            assertThat(registry.get(TopicOperator.METRICS_PREFIX + "reconciliations.full.topics.done").tag("kind", "KafkaTopic").gauge().value(), is(3.0));
+            assertThat(topicOperator.getReconciliationProgressTotal(), is(3));
+            assertThat(topicOperator.getReconciliationProgressDone(), is(3));
+            async.flag();
+        })));
+    }
+
+    @Test
+    public void testReadinessReportsPhaseAndProgress(VertxTestContext context) throws InterruptedException {
+        assertThat(Session.readiness(Session.Phase.STARTING, null), is(new JsonObject().put("phase", "STARTING")));
+
+        Topic topic = createTopicInKubeAndStore("ready");
+        mockKafka.setTopicsListResponse(Future.succeededFuture(singleton("ready")));
+        mockKafka.setTopicMetadataResponse(t -> Future.succeededFuture(Utils.getTopicMetadata(topic)));
+
+        Checkpoint async = context.checkpoint();
+        topicOperator.reconcileAllTopics("initial").setHandler(context.succeeding(ignored -> context.verify(() -> {
+            assertThat(Session.readiness(Session.Phase.RUNNING, topicOperator), is(new JsonObject()
+                    .put("phase", "RUNNING")
+                    .put("reconciledTopics", 1)
+                    .put("totalTopics", 1)));
+            async.flag();
+        })));
+    }
+
+    @Test
+    public void testPendingChangesFirst() {
+        KafkaTopic noGeneration = new KafkaTopicBuilder().withNewMetadata().withName("no-generation").endMetadata().build();
+        KafkaTopic reconciled = new KafkaTopicBuilder()
+                .withNewMetadata().withName("reconciled").withGeneration(2L).endMetadata()
+                .withNewStatus().withObservedGeneration(2L).endStatus()
+                .build();
+        KafkaTopic changed = new KafkaTopicBuilder()
+                .withNewMetadata().withName("changed").withGeneration(3L).endMetadata()
+                .withNewStatus().withObservedGeneration(2L).endStatus()
+                .build();
+        KafkaTopic neverReconciled = new KafkaTopicBuilder().withNewMetadata().withName("never-reconciled").withGeneration(1L).endMetadata().build();
+
+        assertThat(TopicOperator.pendingChangesFirst(asList(noGeneration, reconciled, changed, neverReconciled), kt -> kt),
+                is(asList(changed, neverReconciled, noGeneration, reconciled)));
+
+        // Items without a KafkaTopic (e.g. topics which exist only in Kafka) keep their place among the others
+        Map<String, KafkaTopic> kts = new HashMap<>();
+        kts.put("reconciled", reconciled);
+        kts.put("changed", changed);
+        assertThat(TopicOperator.pendingChangesFirst(asList("kafka-only", "reconciled", "changed"), kts::get),
+                is(asList("changed", "kafka-only", "reconciled")));
+    }
+
     /**
      * Created new MetricsProvider and makes sure it doesn't contain any metrics from previous tests.
      *
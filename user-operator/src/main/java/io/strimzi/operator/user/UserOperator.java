@@ -6,7 +6,9 @@ package io.strimzi.operator.user;
 
 import io.fabric8.kubernetes.client.KubernetesClient;
 import io.fabric8.kubernetes.client.Watch;
+import io.strimzi.operator.common.WorkerPools;
 import io.strimzi.operator.user.operator.KafkaUserOperator;
+import io.strimzi.operator.user.operator.UserConfigWriter;
 import io.vertx.core.AbstractVerticle;
 import io.vertx.core.Future;
 import io.vertx.core.Promise;
@@ -14,7 +16,6 @@ import io.vertx.core.http.HttpServer;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
-import java.util.concurrent.TimeUnit;
 import io.micrometer.prometheus.PrometheusMeterRegistry;
 import io.vertx.micrometer.backends.BackendRegistries;
 import io.micrometer.core.instrument.binder.jvm.ClassLoaderMetrics;
@@ -36,6 +37,7 @@ public class UserOperator extends AbstractVerticle {
     private final String namespace;
     private final long reconciliationInterval;
     private final KafkaUserOperator kafkaUserOperator;
+    private final UserConfigWriter userConfigWriter;
 
     private final PrometheusMeterRegistry metrics;
 
@@ -45,12 +47,14 @@ public class UserOperator extends AbstractVerticle {
     public UserOperator(String namespace,
                         UserOperatorConfig config,
                         KubernetesClient client,
-                        KafkaUserOperator kafkaUserOperator) {
+                        KafkaUserOperator kafkaUserOperator,
+                        UserConfigWriter userConfigWriter) {
         log.info("Creating UserOperator for namespace {}", namespace);
         this.namespace = namespace;
         this.reconciliationInterval = config.getReconciliationIntervalMs();
         this.client = client;
         this.kafkaUserOperator = kafkaUserOperator;
+        this.userConfigWriter = userConfigWriter;
         metrics = (PrometheusMeterRegistry) BackendRegistries.getDefaultNow();
         setupMetrics();
     }
@@ -59,10 +63,11 @@ public class UserOperator extends AbstractVerticle {
     public void start(Promise<Void> start) {
         log.info("Starting UserOperator for namespace {}", namespace);
 
-        // Configure the executor here, but it is used only in other places
-        getVertx().createSharedWorkerExecutor("kubernetes-ops-pool", 10, TimeUnit.SECONDS.toNanos(120));
+        // Create the worker pools here, but they are used only in other places
+        WorkerPools.get(getVertx());
 
-        kafkaUserOperator.createWatch(namespace, kafkaUserOperator.recreateWatch(namespace))
+        kafkaUserOperator.watchClientsCa()
+            .compose(ignored -> kafkaUserOperator.createWatch(namespace, kafkaUserOperator.recreateWatch(namespace)))
             .compose(w -> {
                 log.info("Started operator for {} kind", "KafkaUser");
                 watch = w;
@@ -86,7 +91,9 @@ public class UserOperator extends AbstractVerticle {
         if (watch != null) {
             watch.close();
         }
+        kafkaUserOperator.stopWatchingClientsCa();
 
+        userConfigWriter.close();
         client.close();
         stop.complete();
     }
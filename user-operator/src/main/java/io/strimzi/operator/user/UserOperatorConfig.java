@@ -5,9 +5,12 @@
 package io.strimzi.operator.user;
 
 import io.strimzi.api.kafka.model.CertificateAuthority;
+import io.strimzi.certs.CertManagerFactory;
+import io.strimzi.certs.KeyPairPool;
 import io.strimzi.operator.common.InvalidConfigurationException;
 import io.strimzi.operator.common.model.Labels;
 
+import java.util.Locale;
 import java.util.Map;
 
 /**
@@ -28,11 +31,18 @@ public class UserOperatorConfig {
     public static final String STRIMZI_ZOOKEEPER_SESSION_TIMEOUT_MS = "STRIMZI_ZOOKEEPER_SESSION_TIMEOUT_MS";
     public static final String STRIMZI_CLIENTS_CA_VALIDITY = "STRIMZI_CA_VALIDITY";
     public static final String STRIMZI_CLIENTS_CA_RENEWAL = "STRIMZI_CA_RENEWAL";
+    public static final String STRIMZI_CERT_MANAGER = "STRIMZI_CERT_MANAGER";
+    public static final String STRIMZI_KEY_POOL_SIZE = "STRIMZI_KEY_POOL_SIZE";
+    public static final String STRIMZI_KEY_ALGORITHM = "STRIMZI_KEY_ALGORITHM";
+    public static final String STRIMZI_KEY_SIZE = "STRIMZI_KEY_SIZE";
 
     public static final long DEFAULT_FULL_RECONCILIATION_INTERVAL_MS = 120_000;
     public static final String DEFAULT_KAFKA_BOOTSTRAP_SERVERS = "localhost:9091";
     public static final String DEFAULT_ZOOKEEPER_CONNECT = "localhost:2181";
     public static final long DEFAULT_ZOOKEEPER_SESSION_TIMEOUT_MS = 6_000;
+    public static final CertManagerFactory.Type DEFAULT_CERT_MANAGER = CertManagerFactory.Type.OPENSSL;
+    public static final int DEFAULT_KEY_POOL_SIZE = 0;
+    public static final String DEFAULT_KEY_ALGORITHM = KeyPairPool.DEFAULT_ALGORITHM;
 
     private final String namespace;
     private final long reconciliationIntervalMs;
@@ -45,6 +55,10 @@ public class UserOperatorConfig {
     private final String clusterCaCertSecretName;
     private final String eoKeySecretName;
     private final String caNamespace;
+    private final CertManagerFactory.Type certManager;
+    private final int keyPoolSize;
+    private final String keyAlgorithm;
+    private final int keySize;
 
     /**
      * Constructor
@@ -72,6 +86,45 @@ public class UserOperatorConfig {
                               String clusterCaCertSecretName,
                               String eoKeySecretName,
                               String caNamespace) {
+        this(namespace, reconciliationIntervalMs, kafkaBootstrapServers, zookeperConnect, zookeeperSessionTimeoutMs, labels,
+                caCertSecretName, caKeySecretName, clusterCaCertSecretName, eoKeySecretName, caNamespace,
+                DEFAULT_CERT_MANAGER, DEFAULT_KEY_POOL_SIZE, DEFAULT_KEY_ALGORITHM, KeyPairPool.defaultKeySize(DEFAULT_KEY_ALGORITHM));
+    }
+
+    /**
+     * Constructor
+     *
+     * @param namespace namespace in which the operator will run and create resources.
+     * @param reconciliationIntervalMs How many milliseconds between reconciliation runs.
+     * @param kafkaBootstrapServers Kafka bootstrap servers list
+     * @param zookeperConnect Connecton URL for Zookeeper.
+     * @param zookeeperSessionTimeoutMs Session timeout for Zookeeper connections.
+     * @param labels Map with labels which should be used to find the KafkaUser resources.
+     * @param caCertSecretName Name of the secret containing the clients Certification Authority certificate.
+     * @param caKeySecretName The name of the secret containing the clients Certification Authority key.
+     * @param clusterCaCertSecretName Name of the secret containing the cluster Certification Authority certificate.
+     * @param eoKeySecretName The name of the secret containing the Entity Operator key and certificate
+     * @param caNamespace Namespace with the CA secret.
+     * @param certManager The implementation of the certificates manager.
+     * @param keyPoolSize The number of keys generated in advance, or 0 if they are generated when they are needed.
+     * @param keyAlgorithm The algorithm of the keys generated in advance.
+     * @param keySize The size in bits of the keys generated in advance.
+     */
+    @SuppressWarnings({"checkstyle:ParameterNumber"}) //TODO: to remove when removing the zookeeper related parameters
+    public UserOperatorConfig(String namespace,
+                              long reconciliationIntervalMs,
+                              String kafkaBootstrapServers,
+                              String zookeperConnect,
+                              long zookeeperSessionTimeoutMs,
+                              Labels labels, String caCertSecretName,
+                              String caKeySecretName,
+                              String clusterCaCertSecretName,
+                              String eoKeySecretName,
+                              String caNamespace,
+                              CertManagerFactory.Type certManager,
+                              int keyPoolSize,
+                              String keyAlgorithm,
+                              int keySize) {
         this.namespace = namespace;
         this.reconciliationIntervalMs = reconciliationIntervalMs;
         this.kafkaBootstrapServers = kafkaBootstrapServers;
@@ -83,6 +136,10 @@ public class UserOperatorConfig {
         this.clusterCaCertSecretName = clusterCaCertSecretName;
         this.eoKeySecretName = eoKeySecretName;
         this.caNamespace = caNamespace;
+        this.certManager = certManager;
+        this.keyPoolSize = keyPoolSize;
+        this.keyAlgorithm = keyAlgorithm;
+        this.keySize = keySize;
     }
 
     /**
@@ -150,8 +207,74 @@ public class UserOperatorConfig {
             caNamespace = namespace;
         }
 
+        CertManagerFactory.Type certManager = parseCertManager(map.get(UserOperatorConfig.STRIMZI_CERT_MANAGER));
+        int keyPoolSize = parseKeyPoolSize(map.get(UserOperatorConfig.STRIMZI_KEY_POOL_SIZE));
+        String keyAlgorithm = parseKeyAlgorithm(map.get(UserOperatorConfig.STRIMZI_KEY_ALGORITHM));
+        int keySize = parseKeySize(map.get(UserOperatorConfig.STRIMZI_KEY_SIZE), keyAlgorithm);
+
         return new UserOperatorConfig(namespace, reconciliationInterval, kafkaBootstrapServers, zookeeperConnect, zookeeperSessionTimeoutMs, labels,
-                caCertSecretName, caKeySecretName, clusterCaCertSecretName, eoKeySecretName, caNamespace);
+                caCertSecretName, caKeySecretName, clusterCaCertSecretName, eoKeySecretName, caNamespace, certManager, keyPoolSize, keyAlgorithm, keySize);
+    }
+
+    private static CertManagerFactory.Type parseCertManager(String certManagerEnvVar) {
+        CertManagerFactory.Type certManager = DEFAULT_CERT_MANAGER;
+
+        if (certManagerEnvVar != null) {
+            switch (certManagerEnvVar.trim().toLowerCase(Locale.ENGLISH)) {
+                case "openssl":
+                    certManager = CertManagerFactory.Type.OPENSSL;
+                    break;
+                case "java":
+                    certManager = CertManagerFactory.Type.JAVA;
+                    break;
+                default:
+                    throw new InvalidConfigurationException(certManagerEnvVar
+                            + " is not a valid " + UserOperatorConfig.STRIMZI_CERT_MANAGER + " value. " +
+                            UserOperatorConfig.STRIMZI_CERT_MANAGER + " can have one of the following values: openssl, java.");
+            }
+        }
+
+        return certManager;
+    }
+
+    private static int parseKeyPoolSize(String keyPoolSizeEnvVar) {
+        int keyPoolSize = DEFAULT_KEY_POOL_SIZE;
+
+        if (keyPoolSizeEnvVar != null) {
+            keyPoolSize = Integer.parseInt(keyPoolSizeEnvVar);
+            if (keyPoolSize < 0) {
+                throw new InvalidConfigurationException(UserOperatorConfig.STRIMZI_KEY_POOL_SIZE + " cannot be negative");
+            }
+        }
+
+        return keyPoolSize;
+    }
+
+    private static String parseKeyAlgorithm(String keyAlgorithmEnvVar) {
+        String keyAlgorithm = DEFAULT_KEY_ALGORITHM;
+
+        if (keyAlgorithmEnvVar != null) {
+            keyAlgorithm = keyAlgorithmEnvVar.trim().toUpperCase(Locale.ENGLISH);
+        }
+
+        return keyAlgorithm;
+    }
+
+    private static int parseKeySize(String keySizeEnvVar, String keyAlgorithm) {
+        int keySize = KeyPairPool.defaultKeySize(keyAlgorithm);
+
+        if (keySizeEnvVar != null) {
+            keySize = Integer.parseInt(keySizeEnvVar);
+        }
+
+        try {
+            KeyPairPool.validate(keyAlgorithm, keySize);
+        } catch (IllegalArgumentException e) {
+            throw new InvalidConfigurationException(e.getMessage() + ", check " + UserOperatorConfig.STRIMZI_KEY_ALGORITHM
+                    + " and " + UserOperatorConfig.STRIMZI_KEY_SIZE, e);
+        }
+
+        return keySize;
     }
 
     public static int getClientsCaValidityDays() {
@@ -248,6 +371,34 @@ public class UserOperatorConfig {
         return zookeeperSessionTimeoutMs;
     }
 
+    /**
+     * @return  The implementation of the certificates manager
+     */
+    public CertManagerFactory.Type getCertManager() {
+        return certManager;
+    }
+
+    /**
+     * @return  The number of keys generated in advance. 0 if the keys are generated when they are needed.
+     */
+    public int getKeyPoolSize() {
+        return keyPoolSize;
+    }
+
+    /**
+     * @return  The algorithm of the keys generated in advance
+     */
+    public String getKeyAlgorithm() {
+        return keyAlgorithm;
+    }
+
+    /**
+     * @return  The size in bits of the keys generated in advance
+     */
+    public int getKeySize() {
+        return keySize;
+    }
+
     @Override
     public String toString() {
         return "ClusterOperatorConfig(" +
@@ -261,6 +412,10 @@ public class UserOperatorConfig {
                 ",clusterCaCertSecretName=" + clusterCaCertSecretName +
                 ",eoKeySecretName=" + eoKeySecretName +
                 ",caNamespace=" + caNamespace +
+                ",certManager=" + certManager +
+                ",keyPoolSize=" + keyPoolSize +
+                ",keyAlgorithm=" + keyAlgorithm +
+                ",keySize=" + keySize +
                 ")";
     }
 }
@@ -38,6 +38,7 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 public class KafkaUserModel {
@@ -100,6 +101,23 @@ public class KafkaUserModel {
                                          Secret clientsCaCert,
                                          Secret clientsCaKey,
                                          Secret userSecret) {
+        return fromCrd(passwordGenerator, kafkaUser,
+            () -> clientsCa(certManager, passwordGenerator, clientsCaCert, clientsCaKey), userSecret);
+    }
+
+    /**
+     * Creates instance of KafkaUserModel from CRD definition.
+     *
+     * @param passwordGenerator A password generator.
+     * @param kafkaUser The Custom Resource based on which the model should be created.
+     * @param clientsCa Supplies the clients CA. It's used only for users with TLS client authentication.
+     * @param userSecret Kubernetes secret with existing user certificate.
+     * @return The user model.
+     */
+    public static KafkaUserModel fromCrd(PasswordGenerator passwordGenerator,
+                                         KafkaUser kafkaUser,
+                                         Supplier<ClientsCa> clientsCa,
+                                         Secret userSecret) {
         KafkaUserModel result = new KafkaUserModel(kafkaUser.getMetadata().getNamespace(),
                 kafkaUser.getMetadata().getName(),
                 Labels.fromResource(kafkaUser).withStrimziKind(kafkaUser.getKind()));
@@ -111,8 +129,7 @@ public class KafkaUserModel {
                 throw new InvalidResourceException("Users with TLS client authentication can have a username (name of the KafkaUser custom resource) only up to 64 characters long.");
             }
 
-            result.maybeGenerateCertificates(certManager, passwordGenerator, clientsCaCert, clientsCaKey, userSecret,
-                    UserOperatorConfig.getClientsCaValidityDays(), UserOperatorConfig.getClientsCaRenewalDays());
+            result.maybeGenerateCertificates(clientsCa.get(), userSecret);
         } else if (kafkaUser.getSpec().getAuthentication() instanceof KafkaUserScramSha512ClientAuthentication) {
             result.maybeGeneratePassword(passwordGenerator, userSecret);
         }
@@ -161,16 +178,36 @@ public class KafkaUserModel {
      * @param validityDays The number of days the certificate should be valid for.
      * @param renewalDays The renewal days.
      */
-    @SuppressWarnings("checkstyle:BooleanExpressionComplexity")
     public void maybeGenerateCertificates(CertManager certManager, PasswordGenerator passwordGenerator,
                                           Secret clientsCaCertSecret, Secret clientsCaKeySecret,
                                           Secret userSecret, int validityDays, int renewalDays) {
+        maybeGenerateCertificates(clientsCa(certManager, passwordGenerator, clientsCaCertSecret, clientsCaKeySecret, validityDays, renewalDays), userSecret);
+    }
+
+    /**
+     * Creates the clients CA from its Secrets.
+     *
+     * @param certManager CertManager instance for handling certificates creation
+     * @param passwordGenerator PasswordGenerator instance for generating passwords
+     * @param clientsCaCertSecret The clients CA certificate Secret.
+     * @param clientsCaKeySecret The clients CA key Secret.
+     * @return The clients CA.
+     */
+    public static ClientsCa clientsCa(CertManager certManager, PasswordGenerator passwordGenerator,
+                                      Secret clientsCaCertSecret, Secret clientsCaKeySecret) {
+        return clientsCa(certManager, passwordGenerator, clientsCaCertSecret, clientsCaKeySecret,
+                UserOperatorConfig.getClientsCaValidityDays(), UserOperatorConfig.getClientsCaRenewalDays());
+    }
+
+    private static ClientsCa clientsCa(CertManager certManager, PasswordGenerator passwordGenerator,
+                                       Secret clientsCaCertSecret, Secret clientsCaKeySecret,
+                                       int validityDays, int renewalDays) {
         if (clientsCaCertSecret == null) {
             throw new NoCertificateSecretException("The Clients CA Cert Secret is missing");
         } else if (clientsCaKeySecret == null) {
             throw new NoCertificateSecretException("The Clients CA Key Secret is missing");
         } else {
-            ClientsCa clientsCa = new ClientsCa(certManager, passwordGenerator,
+            return new ClientsCa(certManager, passwordGenerator,
                     clientsCaCertSecret.getMetadata().getName(),
                     clientsCaCertSecret,
                     clientsCaCertSecret.getMetadata().getName(),
@@ -179,54 +216,63 @@ public class KafkaUserModel {
                     renewalDays,
                     false,
                     null);
-            this.caCert = clientsCa.currentCaCertBase64();
-            if (userSecret != null) {
-                // Secret already exists -> lets verify if it has keys from the same CA
-                String originalCaCrt = clientsCaCertSecret.getData().get("ca.crt");
-                String caCrt = userSecret.getData().get("ca.crt");
-                String userCrt = userSecret.getData().get("user.crt");
-                String userKey = userSecret.getData().get("user.key");
-                String userKeyStore = userSecret.getData().get("user.p12");
-                String userKeyStorePassword = userSecret.getData().get("user.password");
-                if (originalCaCrt != null
-                        && originalCaCrt.equals(caCrt)
-                        && userCrt != null
-                        && !userCrt.isEmpty()
-                        && userKey != null
-                        && !userKey.isEmpty()) {
-
-                    if (userKeyStore != null
-                            && !userKeyStore.isEmpty()
-                            && userKeyStorePassword != null
-                            && !userKeyStorePassword.isEmpty()) {
-
-                        this.userCertAndKey = new CertAndKey(
+        }
+    }
+
+    /**
+     * Manage certificates generation based on those already present in the user Secret
+     *
+     * @param clientsCa The clients CA.
+     * @param userSecret Secret with the user certificate
+     */
+    @SuppressWarnings("checkstyle:BooleanExpressionComplexity")
+    public void maybeGenerateCertificates(ClientsCa clientsCa, Secret userSecret) {
+        this.caCert = clientsCa.currentCaCertBase64();
+        if (userSecret != null) {
+            // Secret already exists -> lets verify if it has keys from the same CA
+            String originalCaCrt = clientsCa.caCertSecret().getData().get("ca.crt");
+            String caCrt = userSecret.getData().get("ca.crt");
+            String userCrt = userSecret.getData().get("user.crt");
+            String userKey = userSecret.getData().get("user.key");
+            String userKeyStore = userSecret.getData().get("user.p12");
+            String userKeyStorePassword = userSecret.getData().get("user.password");
+            if (originalCaCrt != null
+                    && originalCaCrt.equals(caCrt)
+                    && userCrt != null
+                    && !userCrt.isEmpty()
+                    && userKey != null
+                    && !userKey.isEmpty()) {
+
+                if (userKeyStore != null
+                        && !userKeyStore.isEmpty()
+                        && userKeyStorePassword != null
+                        && !userKeyStorePassword.isEmpty()) {
+
+                    this.userCertAndKey = new CertAndKey(
+                            decodeFromSecret(userSecret, "user.key"),
+                            decodeFromSecret(userSecret, "user.crt"),
+                            null,
+                            decodeFromSecret(userSecret, "user.p12"),
+                            new String(decodeFromSecret(userSecret, "user.password"), StandardCharsets.US_ASCII));
+                } else {
+
+                    // coming from an older operator version, the user secret exists but without keystore and password
+                    try {
+                        this.userCertAndKey = clientsCa.addKeyAndCertToKeyStore(name,
                                 decodeFromSecret(userSecret, "user.key"),
-                                decodeFromSecret(userSecret, "user.crt"),
-                                null,
-                                decodeFromSecret(userSecret, "user.p12"),
-                                new String(decodeFromSecret(userSecret, "user.password"), StandardCharsets.US_ASCII));
-                    } else {
-
-                        // coming from an older operator version, the user secret exists but without keystore and password
-                        try {
-                            this.userCertAndKey = clientsCa.addKeyAndCertToKeyStore(name,
-                                    decodeFromSecret(userSecret, "user.key"),
-                                    decodeFromSecret(userSecret, "user.crt"));
-                        } catch (IOException e) {
-                            log.error("Error generating the keystore for user {}", name, e);
-                        }
+                                decodeFromSecret(userSecret, "user.crt"));
+                    } catch (IOException e) {
+                        log.error("Error generating the keystore for user {}", name, e);
                     }
-                    return;
                 }
+                return;
             }
+        }
 
-            try {
-                this.userCertAndKey = clientsCa.generateSignedCert(name);
-            } catch (IOException e) {
-                log.error("Error generating signed certificate for user {}", name, e);
-            }
-
+        try {
+            this.userCertAndKey = clientsCa.generateSignedCert(name);
+        } catch (IOException e) {
+            log.error("Error generating signed certificate for user {}", name, e);
         }
     }
 
@@ -413,6 +459,15 @@ public class KafkaUserModel {
         return quotas;
     }
 
+    /**
+     * Gets the clients CA certificate, for TLS users.
+     *
+     * @return The Base64 encoded clients CA certificate.
+     */
+    public String getCaCert()    {
+        return caCert;
+    }
+
     /**
      * Get the list of ACL rules for Simple Authorization which should apply to this user.
      *
@@ -0,0 +1,117 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.user.operator;
+
+import io.vertx.core.CompositeFuture;
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import org.apache.kafka.common.KafkaFuture;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.function.Function;
+
+/**
+ * <p>Batches the items of an Admin API request which accepts many items (e.g. {@code createAcls}) and
+ * returns a result per item.</p>
+ *
+ * <p>If no request is in flight the submitted items are sent straight away. Otherwise, they're added to the
+ * next request, which is sent with all the items submitted in the meantime once the request in flight has
+ * completed. So under load many callers share a few requests, without adding latency when idle.</p>
+ *
+ * @param <K> The type of the items.
+ * @param <V> The type of the per-item results.
+ */
+class AdminRequestBatcher<K, V> {
+
+    private final Function<Set<K>, Map<K, KafkaFuture<V>>> request;
+
+    /** Guarded by {@code this}. */
+    private Map<K, List<Promise<V>>> pending = new HashMap<>();
+    /** Guarded by {@code this}. */
+    private boolean inFlight = false;
+
+    /**
+     * @param request Sends a request for the given items, returning the result of each item.
+     */
+    AdminRequestBatcher(Function<Set<K>, Map<K, KafkaFuture<V>>> request) {
+        this.request = request;
+    }
+
+    /**
+     * Submit the given items, to be sent in the next request.
+     * @param items The items.
+     * @return A future which completes when all the given items have succeeded, or fails with the error of one
+     * of them which failed.
+     */
+    Future<List<V>> submit(Collection<K> items) {
+        List<Future> futures = new ArrayList<>(items.size());
+        boolean send;
+        synchronized (this) {
+            for (K item : items) {
+                Promise<V> promise = Promise.promise();
+                pending.computeIfAbsent(item, k -> new ArrayList<>()).add(promise);
+                futures.add(promise.future());
+            }
+            send = !inFlight && !pending.isEmpty();
+            if (send) {
+                inFlight = true;
+            }
+        }
+        if (send) {
+            sendPending();
+        }
+        return CompositeFuture.all(futures).map(CompositeFuture::list);
+    }
+
+    private void sendPending() {
+        Map<K, List<Promise<V>>> batch;
+        synchronized (this) {
+            if (pending.isEmpty()) {
+                inFlight = false;
+                return;
+            }
+            batch = pending;
+            pending = new HashMap<>();
+        }
+        Map<K, KafkaFuture<V>> results;
+        try {
+            results = request.apply(batch.keySet());
+        } catch (Throwable t) {
+            batch.values().forEach(promises -> promises.forEach(promise -> promise.fail(t)));
+            sendPending();
+            return;
+        }
+        KafkaFuture.allOf(results.values().toArray(new KafkaFuture[0])).whenComplete((ignored, error) -> {
+            for (Map.Entry<K, List<Promise<V>>> entry : batch.entrySet()) {
+                KafkaFuture<V> result = results.get(entry.getKey());
+                for (Promise<V> promise : entry.getValue()) {
+                    complete(promise, result);
+                }
+            }
+            sendPending();
+        });
+    }
+
+    private static <V> void complete(Promise<V> promise, KafkaFuture<V> result) {
+        if (result == null) {
+            promise.fail(new IllegalStateException("The request returned no result for an item"));
+            return;
+        }
+        try {
+            promise.complete(result.get());
+        } catch (ExecutionException e) {
+            promise.fail(e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            promise.fail(e);
+        }
+    }
+}
@@ -0,0 +1,180 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.user.operator;
+
+import io.fabric8.kubernetes.api.model.Secret;
+import io.fabric8.kubernetes.client.KubernetesClientException;
+import io.fabric8.kubernetes.client.Watch;
+import io.fabric8.kubernetes.client.Watcher;
+import io.strimzi.certs.CertManager;
+import io.strimzi.operator.cluster.model.ClientsCa;
+import io.strimzi.operator.common.PasswordGenerator;
+import io.strimzi.operator.common.Util;
+import io.strimzi.operator.common.operator.resource.SecretOperator;
+import io.strimzi.operator.user.model.KafkaUserModel;
+import io.vertx.core.CompositeFuture;
+import io.vertx.core.Future;
+import io.vertx.core.Vertx;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.util.Objects;
+
+/**
+ * <p>Holds the clients CA certificate and key Secrets, kept up to date by watching them, so that reconciliations
+ * don't need to get them from the Kubernetes API. The {@link ClientsCa} built from the Secrets is memoised until
+ * either of them changes.</p>
+ *
+ * <p>Until the Secrets are {@linkplain #start(Vertx) watched} (or when a watch has been closed) they're read
+ * again on each {@link #refresh()}.</p>
+ */
+class ClientsCaCache {
+    private static final Logger log = LogManager.getLogger(ClientsCaCache.class.getName());
+
+    private final SecretOperator secretOperations;
+    private final String caNamespace;
+    private final String caCertName;
+    private final String caKeyName;
+
+    private final CachedSecret cert = new CachedSecret();
+    private final CachedSecret key = new CachedSecret();
+    private volatile Memo memo;
+
+    private static class CachedSecret {
+        private volatile Secret secret;
+        private volatile Watch watch;
+    }
+
+    private static class Memo {
+        private final Secret cert;
+        private final Secret key;
+        private final ClientsCa clientsCa;
+
+        Memo(Secret cert, Secret key, ClientsCa clientsCa) {
+            this.cert = cert;
+            this.key = key;
+            this.clientsCa = clientsCa;
+        }
+
+        boolean isFor(Secret cert, Secret key) {
+            return isSame(this.cert, cert) && isSame(this.key, key);
+        }
+
+        private static boolean isSame(Secret a, Secret b) {
+            String versionA = a.getMetadata().getResourceVersion();
+            String versionB = b.getMetadata().getResourceVersion();
+            return a == b || versionA != null && versionA.equals(versionB)
+                    && Objects.equals(a.getMetadata().getUid(), b.getMetadata().getUid());
+        }
+    }
+
+    ClientsCaCache(SecretOperator secretOperations, String caNamespace, String caCertName, String caKeyName) {
+        this.secretOperations = secretOperations;
+        this.caNamespace = caNamespace;
+        this.caCertName = caCertName;
+        this.caKeyName = caKeyName;
+    }
+
+    /**
+     * Starts watching the Secrets.
+     *
+     * @param vertx The Vertx instance.
+     * @return A future which completes when the Secrets are watched and have been read.
+     */
+    Future<Void> start(Vertx vertx) {
+        return CompositeFuture.all(watch(vertx, caCertName, cert), watch(vertx, caKeyName, key)).mapEmpty();
+    }
+
+    private Future<Void> watch(Vertx vertx, String name, CachedSecret cached) {
+        return Util.async(vertx, () -> secretOperations.watch(caNamespace, name, new Watcher<Secret>() {
+            @Override
+            public void eventReceived(Action action, Secret secret) {
+                log.debug("Clients CA Secret {}/{} {}", caNamespace, name, action);
+                switch (action) {
+                    case ADDED:
+                    case MODIFIED:
+                        cached.secret = secret;
+                        break;
+                    case DELETED:
+                        cached.secret = null;
+                        break;
+                    default:
+                        break;
+                }
+            }
+
+            @Override
+            public void onClose(KubernetesClientException e) {
+                cached.watch = null;
+                if (e != null) {
+                    log.warn("Watch of clients CA Secret {}/{} closed, recreating it", caNamespace, name, e);
+                    watch(vertx, name, cached).setHandler(res -> {
+                        if (res.failed()) {
+                            log.error("Failed to recreate the watch of clients CA Secret {}/{}", caNamespace, name, res.cause());
+                        }
+                    });
+                }
+            }
+        })).compose(watch -> secretOperations.getAsync(caNamespace, name).map(secret -> {
+            // Events received since the watch was created are at least as recent as what was read
+            if (cached.secret == null) {
+                cached.secret = secret;
+            }
+            cached.watch = watch;
+            return null;
+        }));
+    }
+
+    /**
+     * Stops watching the Secrets.
+     */
+    void stop() {
+        for (CachedSecret cached : new CachedSecret[] {cert, key}) {
+            Watch watch = cached.watch;
+            if (watch != null) {
+                watch.close();
+            }
+        }
+    }
+
+    /**
+     * Ensures the cached Secrets are up to date, reading them if they're not being watched.
+     *
+     * @return A future which completes when the cached Secrets are up to date.
+     */
+    Future<Void> refresh() {
+        return CompositeFuture.all(refresh(caCertName, cert), refresh(caKeyName, key)).mapEmpty();
+    }
+
+    private Future<Void> refresh(String name, CachedSecret cached) {
+        if (cached.watch != null) {
+            return Future.succeededFuture();
+        }
+        return secretOperations.getAsync(caNamespace, name).map(secret -> {
+            cached.secret = secret;
+            return null;
+        });
+    }
+
+    /**
+     * Returns the clients CA built from the cached Secrets.
+     *
+     * @param certManager CertManager instance for handling certificates creation.
+     * @param passwordGenerator PasswordGenerator instance for generating passwords.
+     * @return The clients CA.
+     * @throws io.strimzi.operator.user.model.NoCertificateSecretException If either of the Secrets is missing.
+     */
+    ClientsCa clientsCa(CertManager certManager, PasswordGenerator passwordGenerator) {
+        Secret certSecret = cert.secret;
+        Secret keySecret = key.secret;
+        Memo memo = this.memo;
+        if (memo != null && certSecret != null && keySecret != null && memo.isFor(certSecret, keySecret)) {
+            return memo.clientsCa;
+        }
+        ClientsCa clientsCa = KafkaUserModel.clientsCa(certManager, passwordGenerator, certSecret, keySecret);
+        this.memo = new Memo(certSecret, keySecret, clientsCa);
+        return clientsCa;
+    }
+}
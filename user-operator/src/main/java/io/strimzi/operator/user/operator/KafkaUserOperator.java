@@ -7,6 +7,10 @@ package io.strimzi.operator.user.operator;
 import io.fabric8.kubernetes.api.model.LabelSelector;
 import io.fabric8.kubernetes.api.model.Secret;
 import io.fabric8.kubernetes.client.KubernetesClient;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.Tags;
+import io.opentracing.Span;
 import io.strimzi.api.kafka.KafkaUserList;
 import io.strimzi.api.kafka.model.DoneableKafkaUser;
 import io.strimzi.api.kafka.model.KafkaUser;
@@ -19,6 +23,8 @@ import io.strimzi.operator.common.AbstractOperator;
 import io.strimzi.operator.common.MicrometerMetricsProvider;
 import io.strimzi.operator.common.PasswordGenerator;
 import io.strimzi.operator.common.Reconciliation;
+import io.strimzi.operator.common.Tracing;
+import io.strimzi.operator.common.WorkerPools;
 import io.strimzi.operator.common.model.Labels;
 import io.strimzi.operator.common.model.NamespaceAndName;
 import io.strimzi.operator.common.operator.resource.CrdOperator;
@@ -35,10 +41,13 @@ import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
 import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.util.Base64;
 import java.util.Collection;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
 import java.util.function.Supplier;
@@ -54,12 +63,12 @@ public class KafkaUserOperator extends AbstractOperator<KafkaUser,
     private final SecretOperator secretOperations;
     private final SimpleAclOperator aclOperations;
     private final CertManager certManager;
-    private final String caCertName;
-    private final String caKeyName;
-    private final String caNamespace;
     private final ScramShaCredentialsOperator scramShaCredentialOperator;
     private final Optional<LabelSelector> selector;
     private final KafkaUserQuotasOperator kafkaUserQuotasOperator;
+    private final ClientsCaCache clientsCaCache;
+    private final Counter skippedReconciliationsCounter;
+    private final Counter fullReconciliationsCounter;
     private PasswordGenerator passwordGenerator = new PasswordGenerator(12);
 
     /**
@@ -91,9 +100,31 @@ public class KafkaUserOperator extends AbstractOperator<KafkaUser,
         this.scramShaCredentialOperator = scramShaCredentialOperator;
         this.kafkaUserQuotasOperator = kafkaUserQuotasOperator;
         this.aclOperations = aclOperations;
-        this.caCertName = caCertName;
-        this.caKeyName = caKeyName;
-        this.caNamespace = caNamespace;
+        this.clientsCaCache = new ClientsCaCache(secretOperations, caNamespace, caCertName, caKeyName);
+
+        Tags metricTags = Tags.of(Tag.of("kind", kind()));
+        this.skippedReconciliationsCounter = metrics.counter(METRICS_PREFIX + "reconciliations.skipped",
+                "Number of reconciliations of users which were skipped because nothing changed since their last reconciliation",
+                metricTags);
+        this.fullReconciliationsCounter = metrics.counter(METRICS_PREFIX + "reconciliations.full",
+                "Number of reconciliations of users which updated the Secret, ACLs, credentials and quotas of the user",
+                metricTags);
+    }
+
+    /**
+     * Starts watching the clients CA Secrets, so that reconciliations don't need to read them.
+     *
+     * @return A future which completes when the Secrets are watched.
+     */
+    public Future<Void> watchClientsCa() {
+        return clientsCaCache.start(vertx);
+    }
+
+    /**
+     * Stops watching the clients CA Secrets.
+     */
+    public void stopWatchingClientsCa() {
+        clientsCaCache.stop();
     }
 
     @Override
@@ -104,8 +135,8 @@ public class KafkaUserOperator extends AbstractOperator<KafkaUser,
     @Override
     public Future<Set<NamespaceAndName>> allResourceNames(String namespace) {
         return CompositeFuture.join(super.allResourceNames(namespace),
-                invokeAsync(aclOperations::getUsersWithAcls),
-                invokeAsync(scramShaCredentialOperator::list)).map(compositeFuture -> {
+                invokeAsync("kafka.admin.listUsersWithAcls", aclOperations::getUsersWithAcls),
+                Tracing.finishOnComplete(Tracing.startSpan("zookeeper.listScramShaUsers", null, null, null), scramShaCredentialOperator.list())).map(compositeFuture -> {
                     Set<NamespaceAndName> names = compositeFuture.resultAt(0);
                     names.addAll(toResourceRef(namespace, compositeFuture.resultAt(1)));
                     names.addAll(toResourceRef(namespace, compositeFuture.resultAt(2)));
@@ -119,18 +150,19 @@ public class KafkaUserOperator extends AbstractOperator<KafkaUser,
                 .collect(Collectors.toList());
     }
 
-    private <T> Future<T> invokeAsync(Supplier<T> getter) {
+    private <T> Future<T> invokeAsync(String operationName, Supplier<T> getter) {
+        Span span = Tracing.startSpan(operationName, null, null, null);
         Promise<T> result = Promise.promise();
-        vertx.createSharedWorkerExecutor("zookeeper-ops-pool").executeBlocking(future -> {
+        WorkerPools.get(vertx).executeBlocking(WorkerPools.Kind.ZOOKEEPER, future -> {
             try {
                 future.complete(getter.get());
             } catch (Throwable t) {
                 future.fail(t);
             }
         },
-            true,
+            false,
             result);
-        return result.future();
+        return Tracing.finishOnComplete(span, result.future());
     }
 
     /**
@@ -143,18 +175,24 @@ public class KafkaUserOperator extends AbstractOperator<KafkaUser,
      */
     @Override
     protected Future<Void> createOrUpdate(Reconciliation reconciliation, KafkaUser resource) {
-        Promise<Void> handler = Promise.promise();
-        Secret clientsCaCert = secretOperations.get(caNamespace, caCertName);
-        Secret clientsCaKey = secretOperations.get(caNamespace, caKeyName);
-        Secret userSecret = secretOperations.get(reconciliation.namespace(), KafkaUserModel.getSecretName(reconciliation.name()));
+        return CompositeFuture.join(clientsCaCache.refresh(),
+                secretOperations.getAsync(reconciliation.namespace(), KafkaUserModel.getSecretName(reconciliation.name())))
+            .recover(error -> {
+                log.error("{}: Failed to get the clients CA or the user Secret", reconciliation, error);
+                return Future.failedFuture(error);
+            })
+            .compose(Tracing.withParent(reconciliation.span(), secrets -> createOrUpdate(reconciliation, resource, secrets.resultAt(1))));
+    }
 
-        Promise<Void> createOrUpdatePromise = Promise.promise();
+    private Future<Void> createOrUpdate(Reconciliation reconciliation, KafkaUser resource, Secret userSecret) {
+        Promise<Void> handler = Promise.promise();
         String namespace = reconciliation.namespace();
         String userName = reconciliation.name();
         KafkaUserModel user;
         KafkaUserStatus userStatus = new KafkaUserStatus();
         try {
-            user = KafkaUserModel.fromCrd(certManager, passwordGenerator, resource, clientsCaCert, clientsCaKey, userSecret);
+            user = KafkaUserModel.fromCrd(passwordGenerator, resource,
+                () -> clientsCaCache.clientsCa(certManager, passwordGenerator), userSecret);
         } catch (Exception e) {
             StatusUtils.setStatusConditionAndObservedGeneration(resource, userStatus, Future.failedFuture(e));
             updateStatus(resource, reconciliation, userStatus)
@@ -164,41 +202,68 @@ public class KafkaUserOperator extends AbstractOperator<KafkaUser,
 
         log.debug("{}: Updating User {} in namespace {}", reconciliation, userName, namespace);
         Secret desired = user.generateSecret();
-        String password = null;
+        String password = desired != null && desired.getData().get("password") != null
+                ? new String(Base64.getDecoder().decode(desired.getData().get("password")), StandardCharsets.US_ASCII)
+                : null;
 
-        if (desired != null && desired.getData().get("password") != null)   {
-            password = new String(Base64.getDecoder().decode(desired.getData().get("password")), StandardCharsets.US_ASCII);
-        }
+        boolean scramOrNoneUser = !user.isTlsUser() && (user.isScramUser() || user.isNoneUser());
+        Set<SimpleAclRule> tlsAcls = user.isTlsUser() ? user.getSimpleAclRules() : null;
+        Set<SimpleAclRule> scramOrNoneAcls = scramOrNoneUser ? user.getSimpleAclRules() : null;
+        KafkaUserQuotas tlsQuotas = user.isTlsUser() ? user.getQuotas() : null;
+        KafkaUserQuotas scramOrNoneQuotas = scramOrNoneUser ? user.getQuotas() : null;
 
-        Set<SimpleAclRule> tlsAcls = null;
-        Set<SimpleAclRule> scramOrNoneAcls = null;
-        KafkaUserQuotas tlsQuotas = null;
-        KafkaUserQuotas scramOrNoneQuotas = null;
-
-        if (user.isTlsUser())   {
-            tlsAcls = user.getSimpleAclRules();
-            tlsQuotas = user.getQuotas();
-        } else if (user.isScramUser() || user.isNoneUser())  {
-            scramOrNoneAcls = user.getSimpleAclRules();
-            scramOrNoneQuotas = user.getQuotas();
+        // The reconciliation is skipped only if its inputs didn't change since the last one and the SCRAM-SHA
+        // credentials, quotas and ACLs of the user, which are cheap to check, are still as it left them.
+        // So changes made to them by someone else are repaired.
+        Future<Boolean> upToDate;
+        if (isUpToDate(resource, user, userSecret)
+                && aclOperations.matchesSnapshot(KafkaUserModel.getTlsUserName(userName), tlsAcls)
+                && aclOperations.matchesSnapshot(KafkaUserModel.getScramUserName(userName), scramOrNoneAcls)) {
+            upToDate = CompositeFuture.all(
+                    scramShaCredentialOperator.isUpToDate(user.getName(), password),
+                    kafkaUserQuotasOperator.isUpToDate(KafkaUserModel.getTlsUserName(userName), tlsQuotas),
+                    kafkaUserQuotasOperator.isUpToDate(KafkaUserModel.getScramUserName(userName), scramOrNoneQuotas))
+                .map(results -> results.<Boolean>list().stream().allMatch(Boolean::booleanValue))
+                .otherwise(false);
+        } else {
+            upToDate = Future.succeededFuture(false);
         }
+        return upToDate.compose(Tracing.withParent(reconciliation.span(), skip -> {
+            if (skip) {
+                log.debug("{}: User {} in namespace {} did not change since its last reconciliation", reconciliation, userName, namespace);
+                skippedReconciliationsCounter.increment();
+                return Future.succeededFuture();
+            }
+            return reconcileUser(reconciliation, resource, user, desired, password, tlsAcls, scramOrNoneAcls, tlsQuotas, scramOrNoneQuotas, userStatus);
+        }));
+    }
 
-        // Create the effectively final variables to use in lambda
-        KafkaUserQuotas finalScramOrNoneQuotas = scramOrNoneQuotas;
-        KafkaUserQuotas finalTlsQuotas = tlsQuotas;
+    private Future<Void> reconcileUser(Reconciliation reconciliation, KafkaUser resource, KafkaUserModel user, Secret desired, String password,
+                                       Set<SimpleAclRule> tlsAcls, Set<SimpleAclRule> scramOrNoneAcls,
+                                       KafkaUserQuotas tlsQuotas, KafkaUserQuotas scramOrNoneQuotas, KafkaUserStatus userStatus) {
+        Promise<Void> handler = Promise.promise();
+        Promise<Void> createOrUpdatePromise = Promise.promise();
+        String namespace = reconciliation.namespace();
+        String userName = reconciliation.name();
+        fullReconciliationsCounter.increment();
 
-        // Reconciliation of Quotas and of SCRAM-SHA credentials changes the same fields and cannot be done in parallel
-        // because they would overwrite each other's data!
+        // Reconciliation of Quotas and of SCRAM-SHA credentials changes the same znode. Both go through the same
+        // UserConfigWriter, which merges them into a single write of the znode.
         CompositeFuture.join(
-                scramShaCredentialOperator.reconcile(user.getName(), password)
-                        .compose(ignore -> CompositeFuture.join(kafkaUserQuotasOperator.reconcile(KafkaUserModel.getTlsUserName(userName), finalTlsQuotas),
-                                kafkaUserQuotasOperator.reconcile(KafkaUserModel.getScramUserName(userName), finalScramOrNoneQuotas))),
+                scramShaCredentialOperator.reconcile(user.getName(), password),
+                kafkaUserQuotasOperator.reconcile(KafkaUserModel.getTlsUserName(userName), tlsQuotas),
+                kafkaUserQuotasOperator.reconcile(KafkaUserModel.getScramUserName(userName), scramOrNoneQuotas),
                 reconcileSecretAndSetStatus(namespace, user, desired, userStatus),
                 aclOperations.reconcile(KafkaUserModel.getTlsUserName(userName), tlsAcls),
                 aclOperations.reconcile(KafkaUserModel.getScramUserName(userName), scramOrNoneAcls))
                 .setHandler(reconciliationResult -> {
                     StatusUtils.setStatusConditionAndObservedGeneration(resource, userStatus, reconciliationResult.mapEmpty());
                     userStatus.setUsername(user.getUserName());
+                    if (reconciliationResult.succeeded()) {
+                        ReconcileResult<Secret> secretResult = reconciliationResult.result().resultAt(3);
+                        Secret secret = secretResult != null ? secretResult.resourceOpt().orElse(null) : null;
+                        userStatus.setFingerprint(fingerprint(resource, user, secret));
+                    }
 
                     updateStatus(resource, reconciliation, userStatus).setHandler(statusResult -> {
                         // If both features succeeded, createOrUpdate succeeded as well
@@ -216,6 +281,62 @@ public class KafkaUserOperator extends AbstractOperator<KafkaUser,
         return handler.future();
     }
 
+    /**
+     * Checks whether the last reconciliation of the user succeeded with the same inputs (as recorded by the
+     * fingerprint in its status) and the user Secret hasn't been modified since.
+     */
+    private static boolean isUpToDate(KafkaUser resource, KafkaUserModel user, Secret userSecret) {
+        KafkaUserStatus status = resource.getStatus();
+        if (status == null || status.getFingerprint() == null
+                || !Objects.equals(status.getObservedGeneration(), resource.getMetadata().getGeneration())
+                || status.getConditions() == null
+                || status.getConditions().stream().noneMatch(condition -> "Ready".equals(condition.getType()) && "True".equals(condition.getStatus()))) {
+            return false;
+        }
+        return status.getFingerprint().equals(fingerprint(resource, user, userSecret));
+    }
+
+    /**
+     * Computes the fingerprint of a reconciliation of the user: a digest of the generation of its spec, of the
+     * clients CA certificate, of the version of its Secret and of its ACLs and quotas.
+     *
+     * @param resource The KafkaUser resource.
+     * @param user The model of the user.
+     * @param userSecret The user Secret as read or written by the reconciliation, or null if there isn't one.
+     * @return The fingerprint.
+     */
+    static String fingerprint(KafkaUser resource, KafkaUserModel user, Secret userSecret) {
+        StringBuilder inputs = new StringBuilder()
+                .append("generation=").append(resource.getMetadata().getGeneration())
+                .append("\ntls=").append(user.isTlsUser())
+                .append("\nscram=").append(user.isScramUser())
+                .append("\nca=").append(user.isTlsUser() ? user.getCaCert() : null)
+                .append("\nsecret=").append(userSecret != null ? userSecret.getMetadata().getUid() + "/" + userSecret.getMetadata().getResourceVersion() : null);
+        if (user.getSimpleAclRules() != null) {
+            user.getSimpleAclRules().stream()
+                    .map(SimpleAclRule::toString)
+                    .sorted()
+                    .forEach(rule -> inputs.append("\nacl=").append(rule));
+        }
+        KafkaUserQuotas quotas = user.getQuotas();
+        if (quotas != null) {
+            inputs.append("\nquotas=").append(quotas.getProducerByteRate())
+                    .append("/").append(quotas.getConsumerByteRate())
+                    .append("/").append(quotas.getRequestPercentage());
+        }
+
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(inputs.toString().getBytes(StandardCharsets.UTF_8));
+            StringBuilder fingerprint = new StringBuilder();
+            for (byte b : hash) {
+                fingerprint.append(String.format("%02x", b));
+            }
+            return fingerprint.toString();
+        } catch (NoSuchAlgorithmException e) {
+            throw new RuntimeException("Failed to create SHA-256 MessageDigest instance", e);
+        }
+    }
+
     protected Future<ReconcileResult<Secret>> reconcileSecretAndSetStatus(String namespace, KafkaUserModel user, Secret desired, KafkaUserStatus userStatus) {
         return secretOperations.reconcile(namespace, user.getSecretName(), desired).compose(ar -> {
             if (desired != null) {
@@ -294,9 +415,9 @@ public class KafkaUserOperator extends AbstractOperator<KafkaUser,
         return CompositeFuture.join(secretOperations.reconcile(namespace, KafkaUserModel.getSecretName(user), null),
                 aclOperations.reconcile(KafkaUserModel.getTlsUserName(user), null),
                 aclOperations.reconcile(KafkaUserModel.getScramUserName(user), null),
-                scramShaCredentialOperator.reconcile(KafkaUserModel.getScramUserName(user), null)
-                        .compose(ignore -> kafkaUserQuotasOperator.reconcile(KafkaUserModel.getTlsUserName(user), null))
-                        .compose(ignore -> kafkaUserQuotasOperator.reconcile(KafkaUserModel.getScramUserName(user), null)))
+                scramShaCredentialOperator.reconcile(KafkaUserModel.getScramUserName(user), null),
+                kafkaUserQuotasOperator.reconcile(KafkaUserModel.getTlsUserName(user), null),
+                kafkaUserQuotasOperator.reconcile(KafkaUserModel.getScramUserName(user), null))
             .map(Boolean.TRUE);
     }
 
@@ -4,46 +4,84 @@
  */
 package io.strimzi.operator.user.operator;
 
+import io.strimzi.operator.common.WorkerPools;
 import io.vertx.core.Future;
 import io.vertx.core.Promise;
 import io.vertx.core.Vertx;
 
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
 
 public class ScramShaCredentialsOperator {
 
+    private Vertx vertx;
+
     private ScramShaCredentials credsManager;
 
-    private Vertx vertx;
+    private UserConfigWriter configWriter;
 
-    public ScramShaCredentialsOperator(Vertx vertx, ScramShaCredentials credsManager) {
-        this.credsManager = credsManager;
+    /** The credentials last reconciled for each user, which are known to match its password. */
+    private final Map<String, String> reconciled = new ConcurrentHashMap<>();
+
+    public ScramShaCredentialsOperator(Vertx vertx, ScramShaCredentials credsManager, UserConfigWriter configWriter) {
         this.vertx = vertx;
+        this.credsManager = credsManager;
+        this.configWriter = configWriter;
     }
 
+    /**
+     * The credentials are computed from the current ones on a worker thread, so that the update of the configuration
+     * is cheap. If the configuration is concurrently modified in between, the computed credentials are still valid
+     * for the password.
+     */
     Future<Void> reconcile(String username, String password) {
-        Promise<Void> promise = Promise.promise();
-        vertx.createSharedWorkerExecutor("kubernetes-ops-pool").executeBlocking(
-            future -> {
-                boolean exists = credsManager.exists(username);
-                if (password != null) {
-                    credsManager.createOrUpdate(username, password);
-                    future.complete(null);
-                } else  {
-                    if (exists) {
-                        credsManager.delete(username);
-                        future.complete(null);
-                    } else {
-                        future.complete(null);
-                    }
-                }
-            },
-            false,
-            promise);
-        return promise.future();
+        if (password == null) {
+            return configWriter.update(username, config -> credsManager.updateConfig(config, null))
+                .map(ignored -> {
+                    reconciled.remove(username);
+                    return null;
+                });
+        }
+        return configWriter.config(username)
+            .compose(config -> {
+                Promise<String> credentials = Promise.promise();
+                WorkerPools.get(vertx).executeBlocking(WorkerPools.Kind.LONG_RUNNING,
+                    future -> future.complete(credsManager.credentials(username, credsManager.currentCredentials(config), password)),
+                    false,
+                    credentials);
+                return credentials.future();
+            })
+            .compose(credentials -> configWriter.update(username, config -> credsManager.updateConfig(config, credentials))
+                .map(ignored -> {
+                    reconciled.put(username, credentials);
+                    return null;
+                }));
+    }
+
+    /**
+     * Checks cheaply, without salting the password, whether the credentials of the given user are still those
+     * set by its last reconciliation (e.g. they weren't changed or deleted by someone else since).
+     *
+     * @param username Name of the user
+     * @param password The password of the user, or null if the user should not have SCRAM-SHA credentials
+     * @return A future which completes with whether the credentials of the user are up to date
+     */
+    Future<Boolean> isUpToDate(String username, String password) {
+        return configWriter.config(username).map(config -> {
+            String current = credsManager.currentCredentials(config);
+            return password == null ? current == null : current != null && current.equals(reconciled.get(username));
+        });
     }
 
-    public List<String> list() {
-        return credsManager.list();
+    /**
+     * @return A future which completes with the encoded names of the users with SCRAM-SHA credentials
+     */
+    public Future<List<String>> list() {
+        return configWriter.configs().map(configs -> configs.entrySet().stream()
+                .filter(entry -> credsManager.exists(entry.getKey(), entry.getValue()))
+                .map(entry -> entry.getKey())
+                .collect(Collectors.toList()));
     }
 }
@@ -4,7 +4,11 @@
  */
 package io.strimzi.operator.user.operator;
 
+import io.opentracing.Span;
+import io.strimzi.api.kafka.model.KafkaUser;
 import io.strimzi.operator.cluster.model.InvalidResourceException;
+import io.strimzi.operator.common.Tracing;
+import io.strimzi.operator.common.WorkerPools;
 import io.strimzi.operator.common.operator.resource.ReconcileResult;
 import io.strimzi.operator.user.model.KafkaUserModel;
 import io.strimzi.operator.user.model.acl.SimpleAclRule;
@@ -13,6 +17,7 @@ import io.vertx.core.Future;
 import io.vertx.core.Promise;
 import io.vertx.core.Vertx;
 import org.apache.kafka.clients.admin.Admin;
+import org.apache.kafka.clients.admin.DeleteAclsResult;
 import org.apache.kafka.common.acl.AccessControlEntryFilter;
 import org.apache.kafka.common.acl.AclBinding;
 import org.apache.kafka.common.acl.AclBindingFilter;
@@ -29,9 +34,12 @@ import org.apache.logging.log4j.Logger;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutionException;
 
 /**
@@ -49,6 +57,21 @@ public class SimpleAclOperator {
 
     private final Vertx vertx;
     private final Admin adminClient;
+    private final AdminRequestBatcher<AclBinding, Void> createAclsBatcher;
+    private final AdminRequestBatcher<AclBindingFilter, DeleteAclsResult.FilterResults> deleteAclsBatcher;
+
+    /**
+     * The ACL rules of each user (keyed by the principal name) as of the last snapshot taken by
+     * {@link #getUsersWithAcls()}, updated with the changes made by this operator since.
+     * Null if no snapshot could be taken, in which case the ACLs of each user are described individually.
+     */
+    private volatile AclSnapshot snapshot;
+
+    private static class AclSnapshot {
+        private final Map<String, Set<SimpleAclRule>> rules = new ConcurrentHashMap<>();
+        /** The users with ACLs which can't be represented as SimpleAclRules, which are described individually. */
+        private final Set<String> unindexed = new HashSet<>();
+    }
 
     /**
      * Constructor
@@ -59,6 +82,8 @@ public class SimpleAclOperator {
     public SimpleAclOperator(Vertx vertx, Admin adminClient)  {
         this.vertx = vertx;
         this.adminClient = adminClient;
+        this.createAclsBatcher = new AdminRequestBatcher<>(aclBindings -> adminClient.createAcls(aclBindings).values());
+        this.deleteAclsBatcher = new AdminRequestBatcher<>(aclBindingFilters -> adminClient.deleteAcls(aclBindingFilters).values());
     }
 
     /**
@@ -69,13 +94,14 @@ public class SimpleAclOperator {
      * @return the Future with reconcile result
      */
     public Future<ReconcileResult<Set<SimpleAclRule>>> reconcile(String username, Set<SimpleAclRule> desired) {
+        Span span = Tracing.startSpan("kafka.admin.reconcileAcls", KafkaUser.RESOURCE_KIND, null, username);
         Promise<ReconcileResult<Set<SimpleAclRule>>> promise = Promise.promise();
-        vertx.createSharedWorkerExecutor("kubernetes-ops-pool").executeBlocking(
+        WorkerPools.get(vertx).executeBlocking(WorkerPools.Kind.ADMIN,
             future -> {
                 Set<SimpleAclRule> current;
 
                 try {
-                    current = getAcls(username);
+                    current = getCurrentAcls(username);
                 } catch (Exception e)   {
                     // if authorization is not enabled in the Kafka resource, but the KafkaUser resource doesn't
                     // have ACLs, the UO can just ignore the corresponding exception
@@ -110,22 +136,22 @@ public class SimpleAclOperator {
             false,
             promise
         );
-        return promise.future();
+        return Tracing.finishOnComplete(span, promise.future());
     }
 
     /**
      * Create all ACLs for given user
      */
     protected Future<ReconcileResult<Set<SimpleAclRule>>> internalCreate(String username, Set<SimpleAclRule> desired) {
-        try {
-            Collection<AclBinding> aclBindings = getAclBindings(username, desired);
-            adminClient.createAcls(aclBindings).all().get();
-        } catch (Exception e) {
-            log.error("Adding Acl rules for user {} failed", username, e);
-            return Future.failedFuture(e);
-        }
-
-        return Future.succeededFuture(ReconcileResult.created(desired));
+        return createAclsBatcher.submit(getAclBindings(username, desired))
+            .recover(e -> {
+                log.error("Adding Acl rules for user {} failed", username, e);
+                return Future.failedFuture(e);
+            })
+            .map(ignored -> {
+                updateSnapshot(username, desired, Collections.emptySet());
+                return ReconcileResult.created(desired);
+            });
     }
 
     /**
@@ -181,15 +207,59 @@ public class SimpleAclOperator {
      * Deletes all ACLs for given user
      */
     protected Future<ReconcileResult<Set<SimpleAclRule>>> internalDelete(String username, Set<SimpleAclRule> current) {
+        return deleteAclsBatcher.submit(getAclBindingFilters(username, current))
+            .recover(e -> {
+                log.error("Deleting Acl rules for user {} failed", username, e);
+                return Future.failedFuture(e);
+            })
+            .map(ignored -> {
+                updateSnapshot(username, Collections.emptySet(), current);
+                return ReconcileResult.deleted();
+            });
+    }
 
-        try {
-            Collection<AclBindingFilter> aclBindingFilters = getAclBindingFilters(username, current);
-            adminClient.deleteAcls(aclBindingFilters).all().get();
-        } catch (Exception e) {
-            log.error("Deleting Acl rules for user {} failed", username, e);
-            return Future.failedFuture(e);
+    /**
+     * Apply the changes made by this operator to the snapshot, so it doesn't need to be taken again.
+     */
+    private void updateSnapshot(String username, Set<SimpleAclRule> added, Set<SimpleAclRule> removed) {
+        AclSnapshot snapshot = this.snapshot;
+        if (snapshot != null) {
+            snapshot.rules.compute(username, (name, rules) -> {
+                Set<SimpleAclRule> result = rules == null ? new HashSet<>() : new HashSet<>(rules);
+                result.addAll(added);
+                result.removeAll(removed);
+                return result.isEmpty() ? null : result;
+            });
+        }
+    }
+
+    /**
+     * Returns the ACLs of the given user from the snapshot, or by describing them if there's no snapshot.
+     */
+    private Set<SimpleAclRule> getCurrentAcls(String username) {
+        AclSnapshot snapshot = this.snapshot;
+        if (snapshot != null && !snapshot.unindexed.contains(username)) {
+            return new HashSet<>(snapshot.rules.getOrDefault(username, Collections.emptySet()));
+        } else {
+            return getAcls(username);
         }
-        return Future.succeededFuture(ReconcileResult.deleted());
+    }
+
+    /**
+     * Checks the ACLs of the given user against the snapshot, without making any request to Kafka.
+     *
+     * @param username  User name of the user.
+     * @param desired   The desired Acl rules, null meaning none.
+     * @return True if there's a snapshot and the ACLs of the user in it are the desired ones,
+     * false if they're different or it's not known.
+     */
+    public boolean matchesSnapshot(String username, Set<SimpleAclRule> desired) {
+        AclSnapshot snapshot = this.snapshot;
+        if (snapshot == null || snapshot.unindexed.contains(username)) {
+            return false;
+        }
+        Set<SimpleAclRule> current = snapshot.rules.getOrDefault(username, Collections.emptySet());
+        return current.equals(desired == null ? Collections.emptySet() : desired);
     }
 
     /**
@@ -231,6 +301,8 @@ public class SimpleAclOperator {
 
     /**
      * Returns set with all usernames which have some ACLs.
+     * This also takes the snapshot of all the ACLs which is used by the following reconciliations,
+     * so it's taken once per periodic reconciliation.
      *
      * @return The set with all usernames which have some ACLs.
      */
@@ -244,13 +316,17 @@ public class SimpleAclOperator {
         try {
             aclBindings = adminClient.describeAcls(AclBindingFilter.ANY).values().get();
         } catch (InterruptedException | ExecutionException e) {
+            snapshot = null;
             return result;
         }
 
+        AclSnapshot newSnapshot = new AclSnapshot();
         for (AclBinding aclBinding : aclBindings) {
             KafkaPrincipal principal = SecurityUtils.parseKafkaPrincipal(aclBinding.entry().principal());
 
             if (KafkaPrincipal.USER_TYPE.equals(principal.getPrincipalType()))  {
+                addToSnapshot(newSnapshot, principal.getName(), aclBinding);
+
                 // Username in ACL might keep different format (for example based on user's subject) and need to be decoded
                 String username = KafkaUserModel.decodeUsername(principal.getName());
 
@@ -269,7 +345,21 @@ public class SimpleAclOperator {
                 }
             }
         }
+        snapshot = newSnapshot;
 
         return result;
     }
+
+    private static void addToSnapshot(AclSnapshot snapshot, String username, AclBinding aclBinding) {
+        if (snapshot.unindexed.contains(username)) {
+            return;
+        }
+        try {
+            snapshot.rules.computeIfAbsent(username, name -> new HashSet<>()).add(SimpleAclRule.fromAclBinding(aclBinding));
+        } catch (IllegalArgumentException e) {
+            log.debug("ACL rule {} of user {} cannot be indexed, the ACLs of the user will be described individually", aclBinding, username);
+            snapshot.rules.remove(username);
+            snapshot.unindexed.add(username);
+        }
+    }
 }
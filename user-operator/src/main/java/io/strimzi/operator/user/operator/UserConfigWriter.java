@@ -0,0 +1,401 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.user.operator;
+
+import io.opentracing.Span;
+import io.strimzi.api.kafka.model.KafkaUser;
+import io.strimzi.operator.common.Tracing;
+import io.vertx.core.CompositeFuture;
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import io.vertx.core.Vertx;
+import io.vertx.core.json.JsonObject;
+import org.I0Itec.zkclient.ZkClient;
+import org.I0Itec.zkclient.ZkConnection;
+import org.I0Itec.zkclient.serialize.BytesPushThroughSerializer;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.apache.zookeeper.CreateMode;
+import org.apache.zookeeper.KeeperException;
+import org.apache.zookeeper.Op;
+import org.apache.zookeeper.ZooDefs;
+import org.apache.zookeeper.ZooKeeper;
+
+import java.io.UnsupportedEncodingException;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * <p>Writes the configuration of users (their SCRAM-SHA credentials and quotas) to the
+ * {@code /config/users/<user>} znodes using the asynchronous ZooKeeper API.</p>
+ *
+ * <p>Updates aren't written straight away. Those submitted in the same event loop turn, or while a write is in
+ * flight, are written together: all the updates of the same user are applied to a single read of its znode,
+ * resulting in a single write and a single change notification for the user, and the writes of up to
+ * {@link #MAX_BATCH_SIZE} users are made in a single {@code multi()} transaction.</p>
+ */
+public class UserConfigWriter {
+    private static final Logger log = LogManager.getLogger(UserConfigWriter.class.getName());
+
+    private final static int CONNECTION_TIMEOUT = 30_000;
+
+    static final String USERS_PATH = "/config/users";
+    static final String CHANGES_PATH = "/config/changes";
+    private static final String CHANGE_PREFIX = CHANGES_PATH + "/config_change_";
+
+    /** The maximum number of users written in a single transaction, which keeps it well under ZooKeeper's request size limit. */
+    static final int MAX_BATCH_SIZE = 100;
+    /** The number of times a transaction is attempted when it fails because a znode was concurrently modified. */
+    private static final int MAX_ATTEMPTS = 3;
+
+    private static class Update {
+        private final List<Promise<Void>> promises = new ArrayList<>(2);
+        private Consumer<JsonObject> updater = config -> { };
+    }
+
+    private final Vertx vertx;
+    private final ZkClient zkClient;
+    private final Supplier<ZooKeeper> zookeeper;
+
+    /** The updates waiting to be written, keyed by the encoded username. Guarded by {@code this}. */
+    private Map<String, Update> pending = new LinkedHashMap<>();
+    /** Whether a write is scheduled or in flight. Guarded by {@code this}. */
+    private boolean writing = false;
+    private volatile boolean pathsExist = false;
+
+    public UserConfigWriter(Vertx vertx, String zookeeperUrl, int zookeeperSessionTimeout) {
+        this(vertx, new ZkConnection(zookeeperUrl, zookeeperSessionTimeout));
+    }
+
+    /**
+     * The ZkClient only manages the session (e.g. reconnecting when it expires),
+     * all the operations are done directly with the ZooKeeper instance of its current connection.
+     */
+    private UserConfigWriter(Vertx vertx, ZkConnection connection) {
+        this.vertx = vertx;
+        this.zkClient = new ZkClient(connection, CONNECTION_TIMEOUT, new BytesPushThroughSerializer());
+        this.zookeeper = connection::getZookeeper;
+    }
+
+    UserConfigWriter(Vertx vertx, Supplier<ZooKeeper> zookeeper) {
+        this.vertx = vertx;
+        this.zkClient = null;
+        this.zookeeper = zookeeper;
+    }
+
+    /**
+     * Closes the ZooKeeper session.
+     */
+    public void close() {
+        if (zkClient != null) {
+            zkClient.close();
+        }
+    }
+
+    /**
+     * Read the configuration of the given user.
+     *
+     * @param username  Name of the user
+     *
+     * @return A future which completes with the {@code config} object of the user, which is empty if the user has no configuration
+     */
+    public Future<JsonObject> config(String username) {
+        return read(USERS_PATH + "/" + encodeUsername(username)).map(UserConfigWriter::config);
+    }
+
+    /**
+     * Read the configuration of all the users.
+     *
+     * @return A future which completes with the {@code config} object of each user, keyed by the encoded username
+     */
+    public Future<Map<String, JsonObject>> configs() {
+        Promise<List<String>> children = Promise.promise();
+        zookeeper.get().getChildren(USERS_PATH, false, (rc, path, ctx, names) -> {
+            KeeperException.Code code = KeeperException.Code.get(rc);
+            if (code == KeeperException.Code.OK) {
+                children.complete(names);
+            } else if (code == KeeperException.Code.NONODE) {
+                children.complete(new ArrayList<>());
+            } else {
+                children.fail(KeeperException.create(code, path));
+            }
+        }, null);
+        return children.future().compose(names -> {
+            Map<String, Future<UserNode>> reads = new LinkedHashMap<>();
+            for (String name : names) {
+                reads.put(name, read(USERS_PATH + "/" + name));
+            }
+            return CompositeFuture.all(new ArrayList<>(reads.values())).map(ignored -> {
+                Map<String, JsonObject> configs = new LinkedHashMap<>();
+                reads.forEach((name, read) -> configs.put(name, config(read.result())));
+                return configs;
+            });
+        });
+    }
+
+    private static JsonObject config(UserNode node) {
+        if (node.data == null) {
+            return new JsonObject();
+        }
+        JsonObject json = new JsonObject(new String(node.data, StandardCharsets.UTF_8));
+        validateJsonVersion(json);
+        return json.getJsonObject("config", new JsonObject());
+    }
+
+    /**
+     * Update the configuration of the given user.
+     *
+     * @param username  Name of the user
+     * @param updater   Updates the {@code config} object of the user in place. It has to be a function of the current
+     *                  configuration only, because it can be applied more than once if the znode is modified concurrently.
+     *                  It's run on the ZooKeeper event thread, so it has to be cheap: expensive values such as SCRAM-SHA
+     *                  credentials have to be computed before the update is submitted.
+     *                  If the configuration ends up empty, the znode of the user is deleted.
+     *
+     * @return A future which completes when the update has been written
+     */
+    public Future<Void> update(String username, Consumer<JsonObject> updater) {
+        Span span = Tracing.startSpan("zookeeper.updateUserConfig", KafkaUser.RESOURCE_KIND, null, username);
+        Promise<Void> promise = Promise.promise();
+        String encodedUsername = encodeUsername(username);
+        boolean schedule;
+        synchronized (this) {
+            Update update = pending.computeIfAbsent(encodedUsername, u -> new Update());
+            update.updater = update.updater.andThen(updater);
+            update.promises.add(promise);
+            schedule = !writing;
+            writing = true;
+        }
+        if (schedule) {
+            // Let the other updates of this event loop turn (e.g. the quotas of the same user) join the batch
+            vertx.runOnContext(ignored -> writeNext());
+        }
+        return Tracing.finishOnComplete(span, promise.future());
+    }
+
+    private void writeNext() {
+        Map<String, Update> batch = new LinkedHashMap<>();
+        synchronized (this) {
+            Iterator<Map.Entry<String, Update>> it = pending.entrySet().iterator();
+            while (it.hasNext() && batch.size() < MAX_BATCH_SIZE) {
+                Map.Entry<String, Update> entry = it.next();
+                batch.put(entry.getKey(), entry.getValue());
+                it.remove();
+            }
+            if (batch.isEmpty()) {
+                writing = false;
+                return;
+            }
+        }
+        log.debug("Writing the configuration of {} users", batch.size());
+        ensurePaths()
+            .compose(ignored -> write(batch, 1))
+            .setHandler(result -> {
+                if (result.failed()) {
+                    log.error("Failed to write the configuration of users {}", batch.keySet(), result.cause());
+                    batch.values().forEach(update -> update.promises.forEach(promise -> promise.tryFail(result.cause())));
+                } else {
+                    batch.values().forEach(update -> update.promises.forEach(Promise::tryComplete));
+                }
+                writeNext();
+            });
+    }
+
+    /**
+     * Reads the znodes of the users in the batch, applies their updates and writes the changed ones in a single transaction.
+     * Updates which fail (e.g. because of invalid existing configuration) fail just their own promises.
+     * If the transaction fails for another reason than a concurrent modification, or keeps failing because of those,
+     * the users are written again one by one, so that a single znode which can't be written fails just its own user.
+     */
+    private Future<Void> write(Map<String, Update> batch, int attempt) {
+        Map<String, Future<UserNode>> reads = new LinkedHashMap<>();
+        for (String username : batch.keySet()) {
+            reads.put(username, read(USERS_PATH + "/" + username));
+        }
+        return CompositeFuture.all(new ArrayList<>(reads.values())).compose(ignored -> {
+            Map<String, List<Op>> opsByUser = new LinkedHashMap<>();
+            for (Map.Entry<String, Update> entry : batch.entrySet()) {
+                String username = entry.getKey();
+                try {
+                    List<Op> userOps = ops(username, reads.get(username).result(), entry.getValue().updater);
+                    if (!userOps.isEmpty()) {
+                        opsByUser.put(username, userOps);
+                    }
+                } catch (RuntimeException e) {
+                    log.error("Failed to update the configuration of user {}", username, e);
+                    entry.getValue().promises.forEach(promise -> promise.tryFail(e));
+                }
+            }
+            if (opsByUser.isEmpty()) {
+                return Future.succeededFuture();
+            }
+            List<Op> ops = new ArrayList<>();
+            opsByUser.values().forEach(ops::addAll);
+            return multi(ops).recover(error -> {
+                if (attempt < MAX_ATTEMPTS && error instanceof KeeperException
+                        && (((KeeperException) error).code() == KeeperException.Code.BADVERSION
+                            || ((KeeperException) error).code() == KeeperException.Code.NODEEXISTS
+                            || ((KeeperException) error).code() == KeeperException.Code.NONODE)) {
+                    log.debug("The configuration of some of the users {} was modified concurrently, retrying", batch.keySet());
+                    return write(batch, attempt + 1);
+                } else if (opsByUser.size() > 1) {
+                    log.warn("Failed to write the configuration of users {} together, writing them one by one", opsByUser.keySet(), error);
+                    return writeEach(opsByUser.keySet(), batch);
+                }
+                return Future.failedFuture(error);
+            });
+        });
+    }
+
+    /**
+     * Writes each of the given users of the batch in its own transaction, failing just the promises of those which
+     * can't be written.
+     */
+    private Future<Void> writeEach(Collection<String> usernames, Map<String, Update> batch) {
+        List<Future> writes = new ArrayList<>(usernames.size());
+        for (String username : usernames) {
+            Update update = batch.get(username);
+            writes.add(write(Collections.singletonMap(username, update), 1).otherwise(error -> {
+                log.error("Failed to write the configuration of user {}", username, error);
+                update.promises.forEach(promise -> promise.tryFail(error));
+                return null;
+            }));
+        }
+        return CompositeFuture.all(writes).mapEmpty();
+    }
+
+    private List<Op> ops(String username, UserNode current, Consumer<JsonObject> updater) {
+        List<Op> ops = new ArrayList<>(2);
+        String path = USERS_PATH + "/" + username;
+        JsonObject json;
+        if (current.data != null) {
+            json = new JsonObject(new String(current.data, StandardCharsets.UTF_8));
+            validateJsonVersion(json);
+        } else {
+            json = new JsonObject().put("version", 1);
+        }
+        JsonObject config = json.getJsonObject("config", new JsonObject());
+        JsonObject original = config.copy();
+        updater.accept(config);
+        json.put("config", config);
+
+        if (config.equals(original) && (current.data != null || config.isEmpty())) {
+            log.debug("Nothing to update in the configuration of user {}", username);
+            return ops;
+        }
+
+        if (config.isEmpty()) {
+            log.debug("Deleting the configuration of user {}", username);
+            ops.add(Op.delete(path, current.version));
+        } else if (current.data == null) {
+            log.debug("Creating the configuration of user {}", username);
+            ops.add(Op.create(path, json.encode().getBytes(StandardCharsets.UTF_8), ZooDefs.Ids.OPEN_ACL_UNSAFE, CreateMode.PERSISTENT));
+        } else {
+            log.debug("Updating the configuration of user {}", username);
+            ops.add(Op.setData(path, json.encode().getBytes(StandardCharsets.UTF_8), current.version));
+        }
+
+        // Notifies Kafka about the change
+        JsonObject notification = new JsonObject().put("version", 2).put("entity_path", "users/" + username);
+        ops.add(Op.create(CHANGE_PREFIX, notification.encode().getBytes(StandardCharsets.UTF_8), ZooDefs.Ids.OPEN_ACL_UNSAFE, CreateMode.PERSISTENT_SEQUENTIAL));
+        return ops;
+    }
+
+    private static class UserNode {
+        private final byte[] data;
+        private final int version;
+
+        UserNode(byte[] data, int version) {
+            this.data = data;
+            this.version = version;
+        }
+    }
+
+    private Future<UserNode> read(String path) {
+        Promise<UserNode> promise = Promise.promise();
+        zookeeper.get().getData(path, false, (rc, p, ctx, data, stat) -> {
+            KeeperException.Code code = KeeperException.Code.get(rc);
+            if (code == KeeperException.Code.OK) {
+                promise.complete(new UserNode(data, stat.getVersion()));
+            } else if (code == KeeperException.Code.NONODE) {
+                promise.complete(new UserNode(null, -1));
+            } else {
+                promise.fail(KeeperException.create(code, p));
+            }
+        }, null);
+        return promise.future();
+    }
+
+    private Future<Void> multi(List<Op> ops) {
+        Promise<Void> promise = Promise.promise();
+        zookeeper.get().multi(ops, (rc, path, ctx, results) -> {
+            KeeperException.Code code = KeeperException.Code.get(rc);
+            if (code == KeeperException.Code.OK) {
+                promise.complete();
+            } else {
+                promise.fail(KeeperException.create(code));
+            }
+        }, null);
+        return promise.future();
+    }
+
+    /**
+     * Ensures that the parent paths of the user configurations and change notifications exist.
+     */
+    private Future<Void> ensurePaths() {
+        if (pathsExist) {
+            return Future.succeededFuture();
+        }
+        return ensurePath("/config")
+            .compose(ignored -> ensurePath(USERS_PATH))
+            .compose(ignored -> ensurePath(CHANGES_PATH))
+            .map(ignored -> {
+                pathsExist = true;
+                return null;
+            });
+    }
+
+    private Future<Void> ensurePath(String path) {
+        Promise<Void> promise = Promise.promise();
+        zookeeper.get().create(path, null, ZooDefs.Ids.OPEN_ACL_UNSAFE, CreateMode.PERSISTENT, (rc, p, ctx, name) -> {
+            KeeperException.Code code = KeeperException.Code.get(rc);
+            if (code == KeeperException.Code.OK || code == KeeperException.Code.NODEEXISTS) {
+                promise.complete();
+            } else {
+                promise.fail(KeeperException.create(code, p));
+            }
+        }, null);
+        return promise.future();
+    }
+
+    static void validateJsonVersion(JsonObject json) {
+        if (json.getInteger("version") == null || json.getInteger("version") != 1) {
+            throw new RuntimeException("Failed to validate the user JSON. The version is missing or has an invalid value.");
+        }
+    }
+
+    /**
+     * Encodes the username with URL Encoder
+     *
+     * @param username  Username which should be encoded
+     * @return          Encoded username
+     */
+    static String encodeUsername(String username) {
+        try {
+            return URLEncoder.encode(username, "UTF-8");
+        } catch (UnsupportedEncodingException e) {
+            throw new RuntimeException("Failed to encode username", e);
+        }
+    }
+}
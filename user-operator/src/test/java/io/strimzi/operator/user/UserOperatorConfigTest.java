@@ -4,6 +4,7 @@
  */
 package io.strimzi.operator.user;
 
+import io.strimzi.certs.CertManagerFactory;
 import io.strimzi.operator.common.InvalidConfigurationException;
 import io.strimzi.operator.common.model.Labels;
 import org.junit.jupiter.api.Test;
@@ -107,4 +108,56 @@ public class UserOperatorConfigTest {
 
         assertThrows(InvalidConfigurationException.class, () -> UserOperatorConfig.fromMap(envVars));
     }
+
+    @Test
+    public void testFromMapCertManager()  {
+        Map<String, String> envVars = new HashMap<>(UserOperatorConfigTest.envVars);
+        assertThat(UserOperatorConfig.fromMap(envVars).getCertManager(), is(UserOperatorConfig.DEFAULT_CERT_MANAGER));
+
+        envVars.put(UserOperatorConfig.STRIMZI_CERT_MANAGER, "java");
+        assertThat(UserOperatorConfig.fromMap(envVars).getCertManager(), is(CertManagerFactory.Type.JAVA));
+
+        envVars.put(UserOperatorConfig.STRIMZI_CERT_MANAGER, "openssl");
+        assertThat(UserOperatorConfig.fromMap(envVars).getCertManager(), is(CertManagerFactory.Type.OPENSSL));
+    }
+
+    @Test
+    public void testFromMapInvalidCertManagerThrows()  {
+        Map<String, String> envVars = new HashMap<>(UserOperatorConfigTest.envVars);
+        envVars.put(UserOperatorConfig.STRIMZI_CERT_MANAGER, "bouncycastle");
+
+        assertThrows(InvalidConfigurationException.class, () -> UserOperatorConfig.fromMap(envVars));
+    }
+
+    @Test
+    public void testFromMapKeyPool()  {
+        Map<String, String> envVars = new HashMap<>(UserOperatorConfigTest.envVars);
+        UserOperatorConfig config = UserOperatorConfig.fromMap(envVars);
+        assertThat(config.getKeyPoolSize(), is(UserOperatorConfig.DEFAULT_KEY_POOL_SIZE));
+        assertThat(config.getKeyAlgorithm(), is("RSA"));
+        assertThat(config.getKeySize(), is(2048));
+
+        envVars.put(UserOperatorConfig.STRIMZI_KEY_POOL_SIZE, "5");
+        envVars.put(UserOperatorConfig.STRIMZI_KEY_ALGORITHM, "EC");
+        envVars.put(UserOperatorConfig.STRIMZI_KEY_SIZE, "384");
+        config = UserOperatorConfig.fromMap(envVars);
+        assertThat(config.getKeyPoolSize(), is(5));
+        assertThat(config.getKeyAlgorithm(), is("EC"));
+        assertThat(config.getKeySize(), is(384));
+    }
+
+    @Test
+    public void testFromMapInvalidKeyPoolThrows()  {
+        Map<String, String> negativeSize = new HashMap<>(UserOperatorConfigTest.envVars);
+        negativeSize.put(UserOperatorConfig.STRIMZI_KEY_POOL_SIZE, "-1");
+        assertThrows(InvalidConfigurationException.class, () -> UserOperatorConfig.fromMap(negativeSize));
+
+        Map<String, String> invalidAlgorithm = new HashMap<>(UserOperatorConfigTest.envVars);
+        invalidAlgorithm.put(UserOperatorConfig.STRIMZI_KEY_ALGORITHM, "DSA");
+        assertThrows(InvalidConfigurationException.class, () -> UserOperatorConfig.fromMap(invalidAlgorithm));
+
+        Map<String, String> invalidKeySize = new HashMap<>(UserOperatorConfigTest.envVars);
+        invalidKeySize.put(UserOperatorConfig.STRIMZI_KEY_SIZE, "512x");
+        assertThrows(NumberFormatException.class, () -> UserOperatorConfig.fromMap(invalidKeySize));
+    }
 }
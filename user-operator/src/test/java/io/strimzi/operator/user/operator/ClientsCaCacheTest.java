@@ -0,0 +1,117 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.user.operator;
+
+import io.fabric8.kubernetes.api.model.Secret;
+import io.fabric8.kubernetes.api.model.SecretBuilder;
+import io.fabric8.kubernetes.client.Watch;
+import io.fabric8.kubernetes.client.Watcher;
+import io.strimzi.certs.CertManager;
+import io.strimzi.operator.cluster.model.ClientsCa;
+import io.strimzi.operator.common.PasswordGenerator;
+import io.strimzi.operator.common.operator.resource.SecretOperator;
+import io.strimzi.operator.user.ResourceUtils;
+import io.strimzi.operator.user.model.NoCertificateSecretException;
+import io.vertx.core.Future;
+import io.vertx.core.Vertx;
+import io.vertx.junit5.Checkpoint;
+import io.vertx.junit5.VertxExtension;
+import io.vertx.junit5.VertxTestContext;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(VertxExtension.class)
+public class ClientsCaCacheTest {
+    private static Vertx vertx;
+
+    private final CertManager certManager = mock(CertManager.class);
+    private final PasswordGenerator passwordGenerator = new PasswordGenerator(12);
+
+    @BeforeAll
+    public static void before() {
+        vertx = Vertx.vertx();
+    }
+
+    @AfterAll
+    public static void after() {
+        vertx.close();
+    }
+
+    private static Secret withResourceVersion(Secret secret, String resourceVersion) {
+        return new SecretBuilder(secret).editMetadata().withResourceVersion(resourceVersion).endMetadata().build();
+    }
+
+    @Test
+    public void testSecretsAreReadOnRefreshUntilWatched(VertxTestContext context) {
+        SecretOperator mockSecretOps = mock(SecretOperator.class);
+        when(mockSecretOps.getAsync(ResourceUtils.NAMESPACE, ResourceUtils.CA_CERT_NAME))
+                .thenReturn(Future.succeededFuture(withResourceVersion(ResourceUtils.createClientsCaCertSecret(), "1")));
+        when(mockSecretOps.getAsync(ResourceUtils.NAMESPACE, ResourceUtils.CA_KEY_NAME))
+                .thenReturn(Future.succeededFuture(null));
+        ClientsCaCache cache = new ClientsCaCache(mockSecretOps, ResourceUtils.NAMESPACE, ResourceUtils.CA_CERT_NAME, ResourceUtils.CA_KEY_NAME);
+
+        Checkpoint async = context.checkpoint();
+        cache.refresh()
+            .compose(ignored -> {
+                context.verify(() -> assertThrows(NoCertificateSecretException.class, () -> cache.clientsCa(certManager, passwordGenerator)));
+                when(mockSecretOps.getAsync(ResourceUtils.NAMESPACE, ResourceUtils.CA_KEY_NAME))
+                        .thenReturn(Future.succeededFuture(withResourceVersion(ResourceUtils.createClientsCaKeySecret(), "2")));
+                return cache.refresh();
+            })
+            .setHandler(context.succeeding(ignored -> context.verify(() -> {
+                ClientsCa clientsCa = cache.clientsCa(certManager, passwordGenerator);
+                // Memoised while the Secrets don't change
+                assertThat(cache.clientsCa(certManager, passwordGenerator), is(sameInstance(clientsCa)));
+                verify(mockSecretOps, times(2)).getAsync(ResourceUtils.NAMESPACE, ResourceUtils.CA_CERT_NAME);
+                async.flag();
+            })));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testWatchedSecretsAreUpdatedByEvents(VertxTestContext context) {
+        SecretOperator mockSecretOps = mock(SecretOperator.class);
+        ArgumentCaptor<Watcher<Secret>> certWatcher = ArgumentCaptor.forClass(Watcher.class);
+        when(mockSecretOps.watch(eq(ResourceUtils.NAMESPACE), eq(ResourceUtils.CA_CERT_NAME), certWatcher.capture())).thenReturn(mock(Watch.class));
+        when(mockSecretOps.watch(eq(ResourceUtils.NAMESPACE), eq(ResourceUtils.CA_KEY_NAME), any())).thenReturn(mock(Watch.class));
+        when(mockSecretOps.getAsync(ResourceUtils.NAMESPACE, ResourceUtils.CA_CERT_NAME))
+                .thenReturn(Future.succeededFuture(withResourceVersion(ResourceUtils.createClientsCaCertSecret(), "1")));
+        when(mockSecretOps.getAsync(ResourceUtils.NAMESPACE, ResourceUtils.CA_KEY_NAME))
+                .thenReturn(Future.succeededFuture(withResourceVersion(ResourceUtils.createClientsCaKeySecret(), "2")));
+        ClientsCaCache cache = new ClientsCaCache(mockSecretOps, ResourceUtils.NAMESPACE, ResourceUtils.CA_CERT_NAME, ResourceUtils.CA_KEY_NAME);
+
+        Checkpoint async = context.checkpoint();
+        cache.start(vertx)
+            .compose(ignored -> cache.refresh())
+            .setHandler(context.succeeding(ignored -> context.verify(() -> {
+                // Once watched, refreshing doesn't read the Secrets again
+                verify(mockSecretOps, times(1)).getAsync(ResourceUtils.NAMESPACE, ResourceUtils.CA_CERT_NAME);
+
+                ClientsCa clientsCa = cache.clientsCa(certManager, passwordGenerator);
+                certWatcher.getValue().eventReceived(Watcher.Action.MODIFIED,
+                        withResourceVersion(ResourceUtils.createClientsCaCertSecret(), "3"));
+                assertThat(cache.clientsCa(certManager, passwordGenerator), is(not(sameInstance(clientsCa))));
+
+                certWatcher.getValue().eventReceived(Watcher.Action.DELETED, ResourceUtils.createClientsCaCertSecret());
+                assertThrows(NoCertificateSecretException.class, () -> cache.clientsCa(certManager, passwordGenerator));
+                async.flag();
+            })));
+    }
+}
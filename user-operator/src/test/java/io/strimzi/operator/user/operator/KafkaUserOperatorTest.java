@@ -6,12 +6,16 @@ package io.strimzi.operator.user.operator;
 
 import io.fabric8.kubernetes.api.model.LabelSelector;
 import io.fabric8.kubernetes.api.model.Secret;
+import io.fabric8.kubernetes.api.model.SecretBuilder;
 import io.strimzi.api.kafka.model.KafkaUser;
+import io.strimzi.api.kafka.model.KafkaUserBuilder;
+import io.strimzi.api.kafka.model.status.KafkaUserStatus;
 import io.strimzi.certs.CertManager;
 import io.strimzi.operator.common.Reconciliation;
 import io.strimzi.operator.common.model.Labels;
 import io.strimzi.operator.common.operator.MockCertManager;
 import io.strimzi.operator.common.operator.resource.CrdOperator;
+import io.strimzi.operator.common.operator.resource.ReconcileResult;
 import io.strimzi.operator.common.operator.resource.SecretOperator;
 import io.strimzi.operator.user.ResourceUtils;
 import io.strimzi.operator.user.model.KafkaUserModel;
@@ -42,6 +46,7 @@ import java.util.concurrent.CopyOnWriteArraySet;
 import static java.util.Arrays.asList;
 import static java.util.Collections.singletonList;
 import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.notNullValue;
 import static org.hamcrest.CoreMatchers.nullValue;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.hasSize;
@@ -50,6 +55,8 @@ import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(VertxExtension.class)
@@ -75,7 +82,7 @@ public class KafkaUserOperatorTest {
     @Test
     public void testCreateTlsUser(VertxTestContext context)    {
         CrdOperator mockCrdOps = mock(CrdOperator.class);
-        SecretOperator mockSecretOps = mock(SecretOperator.class);
+        SecretOperator mockSecretOps = mockSecretOperator();
         SimpleAclOperator aclOps = mock(SimpleAclOperator.class);
         ScramShaCredentialsOperator scramOps = mock(ScramShaCredentialsOperator.class);
         KafkaUserQuotasOperator quotasOps = mock(KafkaUserQuotasOperator.class);
@@ -151,7 +158,7 @@ public class KafkaUserOperatorTest {
     @Test
     public void testUpdateUserNoChange(VertxTestContext context)    {
         CrdOperator mockCrdOps = mock(CrdOperator.class);
-        SecretOperator mockSecretOps = mock(SecretOperator.class);
+        SecretOperator mockSecretOps = mockSecretOperator();
         SimpleAclOperator aclOps = mock(SimpleAclOperator.class);
         ScramShaCredentialsOperator scramOps = mock(ScramShaCredentialsOperator.class);
         KafkaUserQuotasOperator quotasOps = mock(KafkaUserQuotasOperator.class);
@@ -223,6 +230,75 @@ public class KafkaUserOperatorTest {
             })));
     }
 
+    @Test
+    public void testUpdateUserSkippedWhenFingerprintMatches(VertxTestContext context)    {
+        CrdOperator mockCrdOps = mock(CrdOperator.class);
+        SecretOperator mockSecretOps = mockSecretOperator();
+        SimpleAclOperator aclOps = mock(SimpleAclOperator.class);
+        ScramShaCredentialsOperator scramOps = mock(ScramShaCredentialsOperator.class);
+        KafkaUserQuotasOperator quotasOps = mock(KafkaUserQuotasOperator.class);
+
+        Secret userCert = new SecretBuilder(ResourceUtils.createUserSecretTls())
+                .editMetadata().withResourceVersion("1").endMetadata().build();
+        when(mockSecretOps.reconcile(anyString(), anyString(), any())).thenReturn(Future.succeededFuture(ReconcileResult.noop(userCert)));
+        when(aclOps.reconcile(any(), any())).thenReturn(Future.succeededFuture());
+        when(aclOps.matchesSnapshot(any(), any())).thenReturn(true);
+        when(scramOps.reconcile(any(), any())).thenReturn(Future.succeededFuture());
+        when(scramOps.isUpToDate(any(), any())).thenReturn(Future.succeededFuture(true));
+        when(quotasOps.reconcile(any(), any())).thenReturn(Future.succeededFuture());
+        when(quotasOps.isUpToDate(any(), any())).thenReturn(Future.succeededFuture(true));
+
+        KafkaUser user = new KafkaUserBuilder(ResourceUtils.createKafkaUserTls())
+                .editMetadata().withGeneration(1L).endMetadata().build();
+        ArgumentCaptor<KafkaUser> statusCaptor = ArgumentCaptor.forClass(KafkaUser.class);
+        when(mockCrdOps.getAsync(anyString(), anyString())).thenReturn(Future.succeededFuture(user));
+        when(mockCrdOps.updateStatusAsync(statusCaptor.capture())).thenReturn(Future.succeededFuture());
+
+        KafkaUserOperator op = new KafkaUserOperator(vertx, mockCertManager, mockCrdOps, Labels.EMPTY, mockSecretOps, scramOps, quotasOps, aclOps, ResourceUtils.CA_CERT_NAME, ResourceUtils.CA_KEY_NAME, ResourceUtils.NAMESPACE);
+        when(mockSecretOps.get(anyString(), eq("user-cert"))).thenReturn(ResourceUtils.createClientsCaCertSecret());
+        when(mockSecretOps.get(anyString(), eq("user-key"))).thenReturn(ResourceUtils.createClientsCaKeySecret());
+        when(mockSecretOps.get(anyString(), eq(KafkaUserModel.getSecretName(user.getMetadata().getName())))).thenReturn(userCert);
+
+        Reconciliation reconciliation = new Reconciliation("test-trigger", KafkaUser.RESOURCE_KIND, ResourceUtils.NAMESPACE, ResourceUtils.NAME);
+        Checkpoint async = context.checkpoint();
+        op.createOrUpdate(reconciliation, user)
+            .compose(ignored -> {
+                KafkaUserStatus status = statusCaptor.getValue().getStatus();
+                context.verify(() -> assertThat(status.getFingerprint(), is(notNullValue())));
+                KafkaUser reconciled = new KafkaUserBuilder(user).withStatus(status).build();
+
+                // Nothing changed, so the second reconciliation is skipped
+                return op.createOrUpdate(reconciliation, reconciled)
+                    .compose(ignored2 -> {
+                        context.verify(() -> {
+                            verify(mockSecretOps, times(1)).reconcile(anyString(), anyString(), any());
+                            verify(aclOps, times(2)).reconcile(any(), any());
+                            verify(scramOps, times(1)).reconcile(any(), any());
+                            verify(mockCrdOps, times(1)).updateStatusAsync(any());
+                        });
+
+                        // The quotas were changed by someone else, so the user is reconciled again
+                        when(quotasOps.isUpToDate(any(), any())).thenReturn(Future.succeededFuture(false));
+                        return op.createOrUpdate(reconciliation, reconciled);
+                    })
+                    .compose(ignored2 -> {
+                        context.verify(() -> verify(quotasOps, times(4)).reconcile(any(), any()));
+                        when(quotasOps.isUpToDate(any(), any())).thenReturn(Future.succeededFuture(true));
+
+                        // The user Secret was modified, so the user is reconciled again
+                        Secret modifiedUserCert = new SecretBuilder(userCert)
+                                .editMetadata().withResourceVersion("2").endMetadata().build();
+                        when(mockSecretOps.get(anyString(), eq(KafkaUserModel.getSecretName(user.getMetadata().getName())))).thenReturn(modifiedUserCert);
+                        return op.createOrUpdate(reconciliation, reconciled);
+                    });
+            })
+            .setHandler(context.succeeding(v -> context.verify(() -> {
+                verify(mockSecretOps, times(3)).reconcile(anyString(), anyString(), any());
+                verify(aclOps, times(6)).reconcile(any(), any());
+                async.flag();
+            })));
+    }
+
     /**
      * Tests what happens when the TlsClientAuthentication and SimpleAuthorization are disabled for the user
      * (delete entries from the spec of the KafkaUser resource)
@@ -230,7 +306,7 @@ public class KafkaUserOperatorTest {
     @Test
     public void testUpdateUserNoAuthenticationAndNoAuthorization(VertxTestContext context) {
         CrdOperator mockCrdOps = mock(CrdOperator.class);
-        SecretOperator mockSecretOps = mock(SecretOperator.class);
+        SecretOperator mockSecretOps = mockSecretOperator();
         SimpleAclOperator aclOps = mock(SimpleAclOperator.class);
         ScramShaCredentialsOperator scramOps = mock(ScramShaCredentialsOperator.class);
         KafkaUserQuotasOperator quotasOps = mock(KafkaUserQuotasOperator.class);
@@ -293,7 +369,7 @@ public class KafkaUserOperatorTest {
     @Test
     public void testUpdateUserNewCert(VertxTestContext context) {
         CrdOperator mockCrdOps = mock(CrdOperator.class);
-        SecretOperator mockSecretOps = mock(SecretOperator.class);
+        SecretOperator mockSecretOps = mockSecretOperator();
         SimpleAclOperator aclOps = mock(SimpleAclOperator.class);
         ScramShaCredentialsOperator scramOps = mock(ScramShaCredentialsOperator.class);
         KafkaUserQuotasOperator quotasOps = mock(KafkaUserQuotasOperator.class);
@@ -358,7 +434,7 @@ public class KafkaUserOperatorTest {
     @Test
     public void testDeleteTlsUser(VertxTestContext context)    {
         CrdOperator mockCrdOps = mock(CrdOperator.class);
-        SecretOperator mockSecretOps = mock(SecretOperator.class);
+        SecretOperator mockSecretOps = mockSecretOperator();
         SimpleAclOperator aclOps = mock(SimpleAclOperator.class);
         ScramShaCredentialsOperator scramOps = mock(ScramShaCredentialsOperator.class);
         KafkaUserQuotasOperator quotasOps = mock(KafkaUserQuotasOperator.class);
@@ -400,7 +476,7 @@ public class KafkaUserOperatorTest {
     @Test
     public void testReconcileNewTlsUser(VertxTestContext context)    {
         CrdOperator mockCrdOps = mock(CrdOperator.class);
-        SecretOperator mockSecretOps = mock(SecretOperator.class);
+        SecretOperator mockSecretOps = mockSecretOperator();
         SimpleAclOperator aclOps = mock(SimpleAclOperator.class);
         ScramShaCredentialsOperator scramOps = mock(ScramShaCredentialsOperator.class);
         KafkaUserQuotasOperator quotasOps = mock(KafkaUserQuotasOperator.class);
@@ -426,7 +502,7 @@ public class KafkaUserOperatorTest {
         when(mockSecretOps.get(eq(clientsCa.getMetadata().getNamespace()), eq(ResourceUtils.CA_KEY_NAME))).thenReturn(clientsCaKey);
         when(mockSecretOps.get(eq(user.getMetadata().getNamespace()), eq(user.getMetadata().getName()))).thenReturn(null);
 
-        when(mockCrdOps.get(eq(user.getMetadata().getNamespace()), eq(user.getMetadata().getName()))).thenReturn(user);
+        when(mockCrdOps.getAsync(eq(user.getMetadata().getNamespace()), eq(user.getMetadata().getName()))).thenReturn(Future.succeededFuture(user));
         when(mockCrdOps.getAsync(anyString(), anyString())).thenReturn(Future.succeededFuture(user));
         when(mockCrdOps.updateStatusAsync(any(KafkaUser.class))).thenReturn(Future.succeededFuture());
         when(quotasOps.reconcile(any(), any())).thenReturn(Future.succeededFuture());
@@ -484,7 +560,7 @@ public class KafkaUserOperatorTest {
     @Test
     public void testReconcileExistingTlsUser(VertxTestContext context)    {
         CrdOperator mockCrdOps = mock(CrdOperator.class);
-        SecretOperator mockSecretOps = mock(SecretOperator.class);
+        SecretOperator mockSecretOps = mockSecretOperator();
         SimpleAclOperator aclOps = mock(SimpleAclOperator.class);
         ScramShaCredentialsOperator scramOps = mock(ScramShaCredentialsOperator.class);
         KafkaUserQuotasOperator quotasOps = mock(KafkaUserQuotasOperator.class);
@@ -510,7 +586,7 @@ public class KafkaUserOperatorTest {
         when(mockSecretOps.get(eq(clientsCa.getMetadata().getNamespace()), eq(clientsCaKey.getMetadata().getName()))).thenReturn(clientsCaKey);
         when(mockSecretOps.get(eq(user.getMetadata().getNamespace()), eq(user.getMetadata().getName()))).thenReturn(userCert);
 
-        when(mockCrdOps.get(eq(user.getMetadata().getNamespace()), eq(user.getMetadata().getName()))).thenReturn(user);
+        when(mockCrdOps.getAsync(eq(user.getMetadata().getNamespace()), eq(user.getMetadata().getName()))).thenReturn(Future.succeededFuture(user));
         when(mockCrdOps.getAsync(anyString(), anyString())).thenReturn(Future.succeededFuture(user));
         when(mockCrdOps.updateStatusAsync(any(KafkaUser.class))).thenReturn(Future.succeededFuture());
         when(quotasOps.reconcile(any(), any())).thenReturn(Future.succeededFuture());
@@ -568,7 +644,7 @@ public class KafkaUserOperatorTest {
     @Test
     public void testReconcileDeleteTlsUser(VertxTestContext context)    {
         CrdOperator mockCrdOps = mock(CrdOperator.class);
-        SecretOperator mockSecretOps = mock(SecretOperator.class);
+        SecretOperator mockSecretOps = mockSecretOperator();
         SimpleAclOperator aclOps = mock(SimpleAclOperator.class);
         ScramShaCredentialsOperator scramOps = mock(ScramShaCredentialsOperator.class);
         KafkaUserQuotasOperator quotasOps = mock(KafkaUserQuotasOperator.class);
@@ -590,7 +666,7 @@ public class KafkaUserOperatorTest {
         when(mockSecretOps.get(eq(clientsCa.getMetadata().getNamespace()), eq(clientsCa.getMetadata().getName()))).thenReturn(clientsCa);
         when(mockSecretOps.get(eq(user.getMetadata().getNamespace()), eq(user.getMetadata().getName()))).thenReturn(userCert);
 
-        when(mockCrdOps.get(eq(user.getMetadata().getNamespace()), eq(user.getMetadata().getName()))).thenReturn(null);
+        when(mockCrdOps.getAsync(eq(user.getMetadata().getNamespace()), eq(user.getMetadata().getName()))).thenReturn(Future.succeededFuture(null));
 
         when(quotasOps.reconcile(anyString(), eq(null))).thenReturn(Future.succeededFuture());
 
@@ -618,7 +694,7 @@ public class KafkaUserOperatorTest {
     @Test
     public void testReconcileAll(VertxTestContext context) throws InterruptedException {
         CrdOperator mockCrdOps = mock(CrdOperator.class);
-        SecretOperator mockSecretOps = mock(SecretOperator.class);
+        SecretOperator mockSecretOps = mockSecretOperator();
         SimpleAclOperator aclOps = mock(SimpleAclOperator.class);
         ScramShaCredentialsOperator scramOps = mock(ScramShaCredentialsOperator.class);
         KafkaUserQuotasOperator quotasOps = mock(KafkaUserQuotasOperator.class);
@@ -641,12 +717,14 @@ public class KafkaUserOperatorTest {
                 Future.succeededFuture(Arrays.asList(newTlsUser, newScramShaUser, existingTlsUser, existingScramShaUser)));
         when(mockSecretOps.list(eq(ResourceUtils.NAMESPACE), eq(Labels.fromMap(ResourceUtils.LABELS).withStrimziKind(KafkaUser.RESOURCE_KIND)))).thenReturn(Arrays.asList(existingTlsUserSecret, existingScramShaUserSecret));
         when(aclOps.getUsersWithAcls()).thenReturn(new HashSet<String>(Arrays.asList("existing-tls-user", "second-deleted-user")));
-        when(scramOps.list()).thenReturn(asList("existing-tls-user", "deleted-scram-sha-user"));
+        when(scramOps.list()).thenReturn(Future.succeededFuture(asList("existing-tls-user", "deleted-scram-sha-user")));
 
-        when(mockCrdOps.get(eq(newTlsUser.getMetadata().getNamespace()), eq(newTlsUser.getMetadata().getName()))).thenReturn(newTlsUser);
-        when(mockCrdOps.get(eq(newScramShaUser.getMetadata().getNamespace()), eq(newScramShaUser.getMetadata().getName()))).thenReturn(newScramShaUser);
-        when(mockCrdOps.get(eq(existingTlsUser.getMetadata().getNamespace()), eq(existingTlsUser.getMetadata().getName()))).thenReturn(existingTlsUser);
-        when(mockCrdOps.get(eq(existingTlsUser.getMetadata().getNamespace()), eq(existingScramShaUser.getMetadata().getName()))).thenReturn(existingScramShaUser);
+        // The deleted users no longer exist
+        when(mockCrdOps.getAsync(anyString(), anyString())).thenReturn(Future.succeededFuture());
+        when(mockCrdOps.getAsync(eq(newTlsUser.getMetadata().getNamespace()), eq(newTlsUser.getMetadata().getName()))).thenReturn(Future.succeededFuture(newTlsUser));
+        when(mockCrdOps.getAsync(eq(newScramShaUser.getMetadata().getNamespace()), eq(newScramShaUser.getMetadata().getName()))).thenReturn(Future.succeededFuture(newScramShaUser));
+        when(mockCrdOps.getAsync(eq(existingTlsUser.getMetadata().getNamespace()), eq(existingTlsUser.getMetadata().getName()))).thenReturn(Future.succeededFuture(existingTlsUser));
+        when(mockCrdOps.getAsync(eq(existingTlsUser.getMetadata().getNamespace()), eq(existingScramShaUser.getMetadata().getName()))).thenReturn(Future.succeededFuture(existingScramShaUser));
         when(mockSecretOps.get(eq(clientsCa.getMetadata().getNamespace()), eq(clientsCa.getMetadata().getName()))).thenReturn(clientsCa);
         when(mockSecretOps.get(eq(newTlsUser.getMetadata().getNamespace()), eq(newTlsUser.getMetadata().getName()))).thenReturn(null);
         when(mockSecretOps.get(eq(newScramShaUser.getMetadata().getNamespace()), eq(newScramShaUser.getMetadata().getName()))).thenReturn(null);
@@ -693,7 +771,7 @@ public class KafkaUserOperatorTest {
     @Test
     public void testReconcileNewScramShaUser(VertxTestContext context)    {
         CrdOperator mockCrdOps = mock(CrdOperator.class);
-        SecretOperator mockSecretOps = mock(SecretOperator.class);
+        SecretOperator mockSecretOps = mockSecretOperator();
         SimpleAclOperator aclOps = mock(SimpleAclOperator.class);
         ScramShaCredentialsOperator scramOps = mock(ScramShaCredentialsOperator.class);
         KafkaUserQuotasOperator quotasOps = mock(KafkaUserQuotasOperator.class);
@@ -716,7 +794,7 @@ public class KafkaUserOperatorTest {
 
         when(mockSecretOps.get(eq(user.getMetadata().getNamespace()), eq(user.getMetadata().getName()))).thenReturn(null);
 
-        when(mockCrdOps.get(eq(user.getMetadata().getNamespace()), eq(user.getMetadata().getName()))).thenReturn(user);
+        when(mockCrdOps.getAsync(eq(user.getMetadata().getNamespace()), eq(user.getMetadata().getName()))).thenReturn(Future.succeededFuture(user));
         when(mockCrdOps.getAsync(anyString(), anyString())).thenReturn(Future.succeededFuture(user));
         when(mockCrdOps.updateStatusAsync(any(KafkaUser.class))).thenReturn(Future.succeededFuture());
         when(quotasOps.reconcile(any(), any())).thenReturn(Future.succeededFuture());
@@ -773,7 +851,7 @@ public class KafkaUserOperatorTest {
     @Test
     public void testReconcileExistingScramShaUser(VertxTestContext context)    {
         CrdOperator mockCrdOps = mock(CrdOperator.class);
-        SecretOperator mockSecretOps = mock(SecretOperator.class);
+        SecretOperator mockSecretOps = mockSecretOperator();
         SimpleAclOperator aclOps = mock(SimpleAclOperator.class);
         ScramShaCredentialsOperator scramOps = mock(ScramShaCredentialsOperator.class);
         KafkaUserQuotasOperator quotasOps = mock(KafkaUserQuotasOperator.class);
@@ -800,7 +878,7 @@ public class KafkaUserOperatorTest {
 
         when(mockSecretOps.get(eq(user.getMetadata().getNamespace()), eq(user.getMetadata().getName()))).thenReturn(userCert);
 
-        when(mockCrdOps.get(eq(user.getMetadata().getNamespace()), eq(user.getMetadata().getName()))).thenReturn(user);
+        when(mockCrdOps.getAsync(eq(user.getMetadata().getNamespace()), eq(user.getMetadata().getName()))).thenReturn(Future.succeededFuture(user));
         when(mockCrdOps.getAsync(anyString(), anyString())).thenReturn(Future.succeededFuture(user));
         when(mockCrdOps.updateStatusAsync(any(KafkaUser.class))).thenReturn(Future.succeededFuture());
         when(quotasOps.reconcile(any(), any())).thenReturn(Future.succeededFuture());
@@ -857,7 +935,7 @@ public class KafkaUserOperatorTest {
     @Test
     public void testReconcileDeleteScramShaUser(VertxTestContext context)    {
         CrdOperator mockCrdOps = mock(CrdOperator.class);
-        SecretOperator mockSecretOps = mock(SecretOperator.class);
+        SecretOperator mockSecretOps = mockSecretOperator();
         SimpleAclOperator aclOps = mock(SimpleAclOperator.class);
         ScramShaCredentialsOperator scramOps = mock(ScramShaCredentialsOperator.class);
         KafkaUserQuotasOperator quotasOps = mock(KafkaUserQuotasOperator.class);
@@ -881,7 +959,7 @@ public class KafkaUserOperatorTest {
 
         when(mockSecretOps.get(eq(user.getMetadata().getNamespace()), eq(user.getMetadata().getName()))).thenReturn(userCert);
 
-        when(mockCrdOps.get(eq(user.getMetadata().getNamespace()), eq(user.getMetadata().getName()))).thenReturn(null);
+        when(mockCrdOps.getAsync(eq(user.getMetadata().getNamespace()), eq(user.getMetadata().getName()))).thenReturn(Future.succeededFuture(null));
 
         when(quotasOps.reconcile(anyString(), eq(null))).thenReturn(Future.succeededFuture());
 
@@ -913,7 +991,7 @@ public class KafkaUserOperatorTest {
     public void testUserStatusNotReadyIfSecretFailedReconcile(VertxTestContext context) {
         String failureMsg = "failure";
         CrdOperator mockCrdOps = mock(CrdOperator.class);
-        SecretOperator mockSecretOps = mock(SecretOperator.class);
+        SecretOperator mockSecretOps = mockSecretOperator();
         SimpleAclOperator aclOps = mock(SimpleAclOperator.class);
         ScramShaCredentialsOperator scramOps = mock(ScramShaCredentialsOperator.class);
         KafkaUserQuotasOperator quotasOps = mock(KafkaUserQuotasOperator.class);
@@ -952,7 +1030,7 @@ public class KafkaUserOperatorTest {
     @Test
     public void testUserStatusReady(VertxTestContext context) {
         CrdOperator mockCrdOps = mock(CrdOperator.class);
-        SecretOperator mockSecretOps = mock(SecretOperator.class);
+        SecretOperator mockSecretOps = mockSecretOperator();
         SimpleAclOperator aclOps = mock(SimpleAclOperator.class);
         ScramShaCredentialsOperator scramOps = mock(ScramShaCredentialsOperator.class);
         KafkaUserQuotasOperator quotasOps = mock(KafkaUserQuotasOperator.class);
@@ -985,4 +1063,14 @@ public class KafkaUserOperatorTest {
                 async.flag();
             })));
     }
+
+    /**
+     * Mocks a SecretOperator whose asynchronous gets return what its synchronous ones are stubbed with.
+     */
+    private static SecretOperator mockSecretOperator() {
+        SecretOperator mockSecretOps = mock(SecretOperator.class);
+        when(mockSecretOps.getAsync(anyString(), anyString())).thenAnswer(invocation ->
+                Future.succeededFuture(mockSecretOps.get(invocation.getArgument(0), invocation.getArgument(1))));
+        return mockSecretOps;
+    }
 }
@@ -5,23 +5,26 @@
 package io.strimzi.operator.user.operator;
 
 import io.strimzi.api.kafka.model.KafkaUserQuotas;
+import io.strimzi.operator.common.operator.resource.ReconcileResult;
 import io.strimzi.test.EmbeddedZooKeeper;
+import io.vertx.core.CompositeFuture;
 import io.vertx.core.Vertx;
 import io.vertx.core.json.JsonObject;
 import io.vertx.junit5.Checkpoint;
 import io.vertx.junit5.VertxExtension;
 import io.vertx.junit5.VertxTestContext;
+import org.I0Itec.zkclient.ZkClient;
+import org.I0Itec.zkclient.serialize.BytesPushThroughSerializer;
 import org.junit.jupiter.api.AfterAll;
 import org.junit.jupiter.api.BeforeAll;
-import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 
 import java.io.IOException;
 import java.nio.charset.StandardCharsets;
 
+import static org.hamcrest.CoreMatchers.instanceOf;
 import static org.hamcrest.CoreMatchers.is;
-import static org.hamcrest.CoreMatchers.notNullValue;
 import static org.hamcrest.CoreMatchers.nullValue;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
@@ -33,7 +36,9 @@ public class KafkaUserQuotasIT {
 
     private static KafkaUserQuotasOperator kuq;
 
-    private KafkaUserQuotas defaultQuotas;
+    private static ZkClient zkClient;
+
+    private static UserConfigWriter writer;
 
     private static Vertx vertx;
 
@@ -43,280 +48,221 @@ public class KafkaUserQuotasIT {
         vertx = Vertx.vertx();
         // Start ZookKeeper Server
         zkServer = new EmbeddedZooKeeper();
-        kuq = new KafkaUserQuotasOperator(vertx, zkServer.getZkConnectString(), 6_000);
+        zkClient = new ZkClient(zkServer.getZkConnectString(), 6_000, 30_000, new BytesPushThroughSerializer());
+        writer = new UserConfigWriter(vertx, zkServer.getZkConnectString(), 6_000);
+        kuq = new KafkaUserQuotasOperator(writer);
     }
 
     @AfterAll
     public static void after() {
+        writer.close();
+        zkClient.close();
         vertx.close();
         // Teardown ZooKeeper Server
         zkServer.close();
     }
 
-    @BeforeEach
-    public void beforeEach() {
-        defaultQuotas = new KafkaUserQuotas();
-        defaultQuotas.setConsumerByteRate(1000);
-        defaultQuotas.setProducerByteRate(2000);
+    private static boolean isPathExist(String username) {
+        return zkClient.exists("/config/users/" + KafkaUserQuotasOperator.encodeUsername(username));
     }
 
-    @Test
-    public void testTlsUserExistsAfterCreate() {
-        testUserExistsAfterCreate("CN=userExists");
+    private static JsonObject getQuotas(String username) {
+        byte[] data = zkClient.readData("/config/users/" + KafkaUserQuotasOperator.encodeUsername(username), true);
+        return data == null ? null : new JsonObject(new String(data, StandardCharsets.UTF_8));
     }
 
-    @Test
-    public void testRegularUserExistsAfterCreate() {
-        testUserExistsAfterCreate("userExists");
+    private static boolean exists(String username) {
+        JsonObject json = getQuotas(username);
+        return json != null && json.getJsonObject("config").getString("producer_byte_rate") != null;
     }
 
-    public void testUserExistsAfterCreate(String username) {
-        assertThat(kuq.exists(username), is(false));
-        kuq.createOrUpdate(username, defaultQuotas);
-        assertThat(kuq.exists(username), is(true));
+    private static KafkaUserQuotas defaultQuotas() {
+        KafkaUserQuotas quotas = new KafkaUserQuotas();
+        quotas.setConsumerByteRate(1000);
+        quotas.setProducerByteRate(2000);
+        return quotas;
     }
 
     @Test
-    public void testTlsUserDoesNotExistPriorToCreate() {
-        testUserDoesNotExistPriorToCreate("CN=userNotExists");
+    public void testTlsUserDoesNotExistPriorToCreate(VertxTestContext testContext) {
+        testUserDoesNotExistPriorToCreate("CN=userNotExists", testContext);
     }
 
     @Test
-    public void testRegularUserDoesNotExistPriorToCreate() {
-        testUserDoesNotExistPriorToCreate("userNotExists");
+    public void testRegularUserDoesNotExistPriorToCreate(VertxTestContext testContext) {
+        testUserDoesNotExistPriorToCreate("userNotExists", testContext);
     }
 
-    public void testUserDoesNotExistPriorToCreate(String username) {
-        assertThat(kuq.exists(username), is(false));
+    public void testUserDoesNotExistPriorToCreate(String username, VertxTestContext testContext) {
+        Checkpoint async = testContext.checkpoint();
+        kuq.isUpToDate(username, null)
+            .setHandler(testContext.succeeding(upToDate -> testContext.verify(() -> {
+                assertThat(upToDate, is(true));
+                assertThat(exists(username), is(false));
+                assertThat(isPathExist(username), is(false));
+                async.flag();
+            })));
     }
 
     @Test
-    public void testCreateOrUpdateTlsUser() {
-        testCreateOrUpdate("CN=tlsUser");
+    public void testCreateOrUpdateTlsUser(VertxTestContext testContext) {
+        testCreateOrUpdate("CN=tlsUser", testContext);
     }
 
     @Test
-    public void testCreateOrUpdateRegularUser() {
-        testCreateOrUpdate("user");
+    public void testCreateOrUpdateRegularUser(VertxTestContext testContext) {
+        testCreateOrUpdate("user", testContext);
     }
 
-    public void testCreateOrUpdate(String username) {
-        assertThat(kuq.exists(username), is(false));
-        assertThat(kuq.getQuotas(username), is(nullValue()));
-        assertThat(kuq.isPathExist("/config/users/" + kuq.encodeUsername(username)), is(false));
+    public void testCreateOrUpdate(String username, VertxTestContext testContext) {
+        assertThat(exists(username), is(false));
+        assertThat(isPathExist(username), is(false));
 
-        KafkaUserQuotas newQuotas = new KafkaUserQuotas();
-        newQuotas.setConsumerByteRate(1000);
-        newQuotas.setProducerByteRate(2000);
-        kuq.createOrUpdate(username, newQuotas);
-        assertThat(kuq.exists(username), is(true));
-        assertThat(kuq.getQuotas(username).getJsonObject("config").getString("consumer_byte_rate"), is("1000"));
-        assertThat(kuq.getQuotas(username).getJsonObject("config").getString("producer_byte_rate"), is("2000"));
-        assertThat(kuq.isPathExist("/config/users/" + kuq.encodeUsername(username)), is(true));
+        Checkpoint async = testContext.checkpoint();
+        kuq.reconcile(username, defaultQuotas())
+            .setHandler(testContext.succeeding(rr -> testContext.verify(() -> {
+                assertThat(rr, instanceOf(ReconcileResult.Created.class));
+                assertThat(exists(username), is(true));
+                assertThat(getQuotas(username).getJsonObject("config").getString("consumer_byte_rate"), is("1000"));
+                assertThat(getQuotas(username).getJsonObject("config").getString("producer_byte_rate"), is("2000"));
+                assertThat(isPathExist(username), is(true));
+                async.flag();
+            })));
     }
 
     @Test
-    public void testCreateOrUpdateTwiceTlsUser() {
-        testCreateOrUpdateTwice("CN=doubleCreate");
+    public void testCreateOrUpdateTwiceTlsUser(VertxTestContext testContext) {
+        testCreateOrUpdateTwice("CN=doubleCreate", testContext);
     }
 
     @Test
-    public void testCreateOrUpdateTwiceRegularUSer() {
-        testCreateOrUpdateTwice("doubleCreate");
+    public void testCreateOrUpdateTwiceRegularUser(VertxTestContext testContext) {
+        testCreateOrUpdateTwice("doubleCreate", testContext);
     }
 
-    public void testCreateOrUpdateTwice(String username) {
-        assertThat(kuq.isPathExist("/config/users/" + kuq.encodeUsername(username)), is(false));
-        assertThat(kuq.exists(username), is(false));
-        assertThat(kuq.getQuotas(username), is(nullValue()));
+    public void testCreateOrUpdateTwice(String username, VertxTestContext testContext) {
+        assertThat(exists(username), is(false));
+        assertThat(isPathExist(username), is(false));
 
-        kuq.createOrUpdate(username, defaultQuotas);
-        kuq.createOrUpdate(username, defaultQuotas);
-        assertThat(kuq.exists(username), is(true));
-        assertThat(kuq.getQuotas(username).getJsonObject("config").getString("consumer_byte_rate"), is("1000"));
-        assertThat(kuq.getQuotas(username).getJsonObject("config").getString("producer_byte_rate"), is("2000"));
-        assertThat(kuq.isPathExist("/config/users/" + kuq.encodeUsername(username)), is(true));
+        Checkpoint async = testContext.checkpoint();
+        kuq.reconcile(username, defaultQuotas())
+            .compose(ignored -> kuq.reconcile(username, defaultQuotas()))
+            .setHandler(testContext.succeeding(rr -> testContext.verify(() -> {
+                assertThat(rr, instanceOf(ReconcileResult.Patched.class));
+                assertThat(exists(username), is(true));
+                assertThat(getQuotas(username).getJsonObject("config").getString("consumer_byte_rate"), is("1000"));
+                assertThat(getQuotas(username).getJsonObject("config").getString("producer_byte_rate"), is("2000"));
+                assertThat(isPathExist(username), is(true));
+                async.flag();
+            })));
     }
 
     @Test
-    public void testDeleteTlsUser() {
-        testDelete("CN=normalDelete");
+    public void testDeleteTlsUser(VertxTestContext testContext) {
+        testDelete("CN=normalDelete", testContext);
     }
 
     @Test
-    public void testDeleteRegularUser() {
-        testDelete("normalDelete");
-    }
-
-    public void testDelete(String username) {
-        kuq.createOrUpdate(username, defaultQuotas);
-        assertThat(kuq.isPathExist("/config/users/" + kuq.encodeUsername(username)), is(true));
-        assertThat(kuq.exists(username), is(true));
-
-        kuq.delete(username);
-        assertThat(kuq.exists(username), is(false));
-        assertThat(kuq.isPathExist("/config/users/" + kuq.encodeUsername(username)), is(false));
+    public void testDeleteRegularUser(VertxTestContext testContext) {
+        testDelete("normalDelete", testContext);
     }
 
-    @Test
-    public void testDeleteTwiceTlsUser() {
-        testDeleteTwice("CN=doubleDelete");
+    public void testDelete(String username, VertxTestContext testContext) {
+        Checkpoint async = testContext.checkpoint();
+        kuq.reconcile(username, defaultQuotas())
+            .compose(ignored -> {
+                testContext.verify(() -> assertThat(isPathExist(username), is(true)));
+                return kuq.reconcile(username, null);
+            })
+            .setHandler(testContext.succeeding(rr -> testContext.verify(() -> {
+                assertThat(rr, is(ReconcileResult.deleted()));
+                assertThat(exists(username), is(false));
+                assertThat(isPathExist(username), is(false));
+                async.flag();
+            })));
     }
 
     @Test
-    public void testDeleteTwiceRegularUser() {
-        testDeleteTwice("doubleDelete");
-    }
-
-    public void testDeleteTwice(String username) {
-        kuq.createOrUpdate(username, defaultQuotas);
-        assertThat(kuq.isPathExist("/config/users/" + kuq.encodeUsername(username)), is(true));
-        assertThat(kuq.exists(username), is(true));
-
-        kuq.delete(username);
-        kuq.delete(username);
-        assertThat(kuq.exists(username), is(false));
-        assertThat(kuq.isPathExist("/config/users/" + kuq.encodeUsername(username)), is(false));
+    public void testDeleteTwiceTlsUser(VertxTestContext testContext) {
+        testDeleteTwice("CN=doubleDelete", testContext);
     }
 
     @Test
-    public void testUpdateConsumerByteRate() {
-        kuq.createOrUpdate("changeProducerByteRate", defaultQuotas);
-        defaultQuotas.setConsumerByteRate(4000);
-        kuq.createOrUpdate("changeProducerByteRate", defaultQuotas);
-        assertThat(kuq.getQuotas("changeProducerByteRate").getJsonObject("config").getString("consumer_byte_rate"),
-                is("4000"));
+    public void testDeleteTwiceRegularUser(VertxTestContext testContext) {
+        testDeleteTwice("doubleDelete", testContext);
     }
 
-    @Test
-    public void testUpdateProducerByteRate() {
-        kuq.createOrUpdate("changeProducerByteRate", defaultQuotas);
-        defaultQuotas.setProducerByteRate(8000);
-        kuq.createOrUpdate("changeProducerByteRate", defaultQuotas);
-        assertThat(kuq.getQuotas("changeProducerByteRate").getJsonObject("config").getString("producer_byte_rate"),
-                is("8000"));
+    public void testDeleteTwice(String username, VertxTestContext testContext) {
+        Checkpoint async = testContext.checkpoint();
+        kuq.reconcile(username, defaultQuotas())
+            .compose(ignored -> kuq.reconcile(username, null))
+            .compose(ignored -> kuq.reconcile(username, null))
+            .setHandler(testContext.succeeding(rr -> testContext.verify(() -> {
+                assertThat(rr, instanceOf(ReconcileResult.Noop.class));
+                assertThat(exists(username), is(false));
+                assertThat(isPathExist(username), is(false));
+                async.flag();
+            })));
     }
 
-
     @Test
     public void testValidation()    {
         JsonObject valid = new JsonObject().put("version", 1);
         JsonObject invalidEmptyJsonObject = new JsonObject();
         JsonObject invalidVersion = new JsonObject().put("version", 2);
 
-        kuq.validateJsonVersion(valid);
+        UserConfigWriter.validateJsonVersion(valid);
 
-        assertThrows(RuntimeException.class, () -> kuq.validateJsonVersion(invalidEmptyJsonObject),
+        assertThrows(RuntimeException.class, () -> UserConfigWriter.validateJsonVersion(invalidEmptyJsonObject),
                 "Empty JsonObject should cause validate to throw Exception");
 
-        assertThrows(RuntimeException.class, () -> kuq.validateJsonVersion(invalidVersion),
+        assertThrows(RuntimeException.class, () -> UserConfigWriter.validateJsonVersion(invalidVersion),
                 "Invalid version (!=1) should cause validate to throw Exception");
     }
 
     @Test
-    public void testRemoveQuotasFromJsonUserWorksForVariousJonObjectInitialisations()  {
-        JsonObject original = new JsonObject(new String(kuq.createUserJson(defaultQuotas), StandardCharsets.UTF_8));
-        JsonObject updated = kuq.removeQuotasFromJsonUser(original.encode().getBytes(StandardCharsets.UTF_8));
-        assertThat(updated.getJsonObject("config").getString("producer_byte_rate"), is(nullValue()));
-        assertThat(updated.getJsonObject("config").getString("consumer_byte_rate"), is(nullValue()));
-
-        original = new JsonObject().put("version", 1).put("config", new JsonObject().put("producer_byte_rate", "1000").put("consumer_byte_rate", "2000"));
-        updated = kuq.removeQuotasFromJsonUser(original.encode().getBytes(StandardCharsets.UTF_8));
-        assertThat(updated.getJsonObject("config").getString("producer_byte_rate"), is(nullValue()));
-        assertThat(updated.getJsonObject("config").getString("consumer_byte_rate"), is(nullValue()));
-
-        original = new JsonObject().put("version", 1).put("config", new JsonObject());
-        updated = kuq.removeQuotasFromJsonUser(original.encode().getBytes(StandardCharsets.UTF_8));
-        assertThat(updated.getJsonObject("config").getString("producer_byte_rate"), is(nullValue()));
-        assertThat(updated.getJsonObject("config").getString("consumer_byte_rate"), is(nullValue()));
-
-        original = new JsonObject().put("version", 1).put("config", new JsonObject().put("consumer_byte_rate", "1000"));
-        updated = kuq.removeQuotasFromJsonUser(original.encode().getBytes(StandardCharsets.UTF_8));
-        assertThat(updated.getJsonObject("config").getString("producer_byte_rate"), is(nullValue()));
-        assertThat(updated.getJsonObject("config").getString("consumer_byte_rate"), is(nullValue()));
-    }
-
-    @Test
-    public void testRemoveQuotasFromJsonUserPersistsNonQuotaKeys()  {
-        JsonObject original = new JsonObject(new String(kuq.createUserJson(defaultQuotas), StandardCharsets.UTF_8));
-        String keyThatShouldPersist = "persist";
-        int valueThatShouldPersist = 42;
-        original.getJsonObject("config").put(keyThatShouldPersist, valueThatShouldPersist);
+    public void testUpdateConfigPersistsNonQuotaKeys()  {
+        JsonObject config = new JsonObject().put("producer_byte_rate", "1000").put("consumer_byte_rate", "2000").put("persist", 42);
 
-        JsonObject updated = kuq.removeQuotasFromJsonUser(original.encode().getBytes(StandardCharsets.UTF_8));
-        assertThat(updated.getJsonObject("config").getString("producer_byte_rate"), is(nullValue()));
-        assertThat(updated.getJsonObject("config").getString("consumer_byte_rate"), is(nullValue()));
-        assertThat(updated.getJsonObject("config").getInteger(keyThatShouldPersist), is(valueThatShouldPersist));
+        KafkaUserQuotasOperator.updateConfig(config, null);
+        assertThat(config.getString("producer_byte_rate"), is(nullValue()));
+        assertThat(config.getString("consumer_byte_rate"), is(nullValue()));
+        assertThat(config.getInteger("persist"), is(42));
     }
 
     @Test
-    public void testCreateOrUpdateUserJsonByUpdatingAndRemovingFields()  {
-        // test creation
+    public void testUpdateConfigByUpdatingAndRemovingFields()  {
         KafkaUserQuotas quotas = new KafkaUserQuotas();
         quotas.setConsumerByteRate(2000);
         quotas.setProducerByteRate(4000);
         quotas.setRequestPercentage(40);
 
-        JsonObject createdUserJson = new JsonObject(new String(kuq.createUserJson(quotas), StandardCharsets.UTF_8));
-        assertThat(createdUserJson.getJsonObject("config").getString("consumer_byte_rate"), is(notNullValue()));
-        assertThat(createdUserJson.getJsonObject("config").getString("producer_byte_rate"), is(notNullValue()));
-        assertThat(createdUserJson.getJsonObject("config").getString("request_percentage"), is(notNullValue()));
-        assertThat(createdUserJson.getJsonObject("config").getString("consumer_byte_rate"), is("2000"));
-        assertThat(createdUserJson.getJsonObject("config").getString("producer_byte_rate"), is("4000"));
-        assertThat(createdUserJson.getJsonObject("config").getString("request_percentage"), is("40"));
-
-
-        byte[] createdUserJsonInBytes = createdUserJson.encode().getBytes(StandardCharsets.UTF_8);
+        JsonObject config = new JsonObject();
+        KafkaUserQuotasOperator.updateConfig(config, quotas);
+        assertThat(config.getString("consumer_byte_rate"), is("2000"));
+        assertThat(config.getString("producer_byte_rate"), is("4000"));
+        assertThat(config.getString("request_percentage"), is("40"));
 
         // test update by removing request_percentage field
         KafkaUserQuotas quotas2 = new KafkaUserQuotas();
         quotas2.setConsumerByteRate(2000);
         quotas2.setProducerByteRate(4000);
 
-        JsonObject updated = new JsonObject(new String(kuq.createOrUpdateUserJson(createdUserJsonInBytes, quotas2), StandardCharsets.UTF_8));
-        assertThat(updated.getJsonObject("config").getString("consumer_byte_rate"), is(notNullValue()));
-        assertThat(updated.getJsonObject("config").getString("producer_byte_rate"), is(notNullValue()));
-        assertThat(updated.getJsonObject("config").getString("request_percentage"), is(nullValue()));
-        assertThat(updated.getJsonObject("config").getString("consumer_byte_rate"), is("2000"));
-        assertThat(updated.getJsonObject("config").getString("producer_byte_rate"), is("4000"));
-
-        // test update by removing producer_byte_rate field
-        KafkaUserQuotas quotas3 = new KafkaUserQuotas();
-        quotas3.setConsumerByteRate(2000);
-        quotas3.setRequestPercentage(40);
-
-        updated = new JsonObject(new String(kuq.createOrUpdateUserJson(createdUserJsonInBytes, quotas3), StandardCharsets.UTF_8));
-        assertThat(updated.getJsonObject("config").getString("consumer_byte_rate"), is(notNullValue()));
-        assertThat(updated.getJsonObject("config").getString("producer_byte_rate"), is(nullValue()));
-        assertThat(updated.getJsonObject("config").getString("request_percentage"), is(notNullValue()));
-        assertThat(updated.getJsonObject("config").getString("consumer_byte_rate"), is("2000"));
-        assertThat(updated.getJsonObject("config").getString("request_percentage"), is("40"));
-
-        // test update by removing consumer_byte_rate field
-        KafkaUserQuotas quotas4 = new KafkaUserQuotas();
-        quotas4.setProducerByteRate(4000);
-        quotas4.setRequestPercentage(40);
-
-        updated = new JsonObject(new String(kuq.createOrUpdateUserJson(createdUserJsonInBytes, quotas4), StandardCharsets.UTF_8));
-        assertThat(updated.getJsonObject("config").getString("consumer_byte_rate"), is(nullValue()));
-        assertThat(updated.getJsonObject("config").getString("producer_byte_rate"), is(notNullValue()));
-        assertThat(updated.getJsonObject("config").getString("request_percentage"), is(notNullValue()));
-        assertThat(updated.getJsonObject("config").getString("producer_byte_rate"), is("4000"));
-        assertThat(updated.getJsonObject("config").getString("request_percentage"), is("40"));
+        KafkaUserQuotasOperator.updateConfig(config, quotas2);
+        assertThat(config.getString("consumer_byte_rate"), is("2000"));
+        assertThat(config.getString("producer_byte_rate"), is("4000"));
+        assertThat(config.getString("request_percentage"), is(nullValue()));
 
         // test update by modifying all fields
-        KafkaUserQuotas quotas5 = new KafkaUserQuotas();
-        quotas5.setConsumerByteRate(20000);
-        quotas5.setProducerByteRate(40000);
-        quotas5.setRequestPercentage(50);
+        KafkaUserQuotas quotas3 = new KafkaUserQuotas();
+        quotas3.setConsumerByteRate(20000);
+        quotas3.setProducerByteRate(40000);
+        quotas3.setRequestPercentage(50);
 
-        updated = new JsonObject(new String(kuq.createOrUpdateUserJson(createdUserJsonInBytes, quotas5), StandardCharsets.UTF_8));
-        assertThat(updated.getJsonObject("config").getString("consumer_byte_rate"), is(notNullValue()));
-        assertThat(updated.getJsonObject("config").getString("producer_byte_rate"), is(notNullValue()));
-        assertThat(updated.getJsonObject("config").getString("request_percentage"), is(notNullValue()));
-        assertThat(updated.getJsonObject("config").getString("consumer_byte_rate"), is("20000"));
-        assertThat(updated.getJsonObject("config").getString("producer_byte_rate"), is("40000"));
-        assertThat(updated.getJsonObject("config").getString("request_percentage"), is("50"));
+        KafkaUserQuotasOperator.updateConfig(config, quotas3);
+        assertThat(config.getString("consumer_byte_rate"), is("20000"));
+        assertThat(config.getString("producer_byte_rate"), is("40000"));
+        assertThat(config.getString("request_percentage"), is("50"));
     }
 
     @Test
@@ -335,16 +281,16 @@ public class KafkaUserQuotasIT {
         quotas.setProducerByteRate(1_000_000);
         quotas.setRequestPercentage(50);
 
-        assertThat(kuq.exists(username), is(false));
+        assertThat(exists(username), is(false));
 
         Checkpoint async = testContext.checkpoint();
         kuq.reconcile(username, quotas)
             .setHandler(testContext.succeeding(rr -> testContext.verify(() -> {
-                assertThat(kuq.exists(username), is(true));
-                assertThat(kuq.getQuotas(username).getJsonObject("config").getString("consumer_byte_rate"), is("2000000"));
-                assertThat(kuq.getQuotas(username).getJsonObject("config").getString("producer_byte_rate"), is("1000000"));
-                assertThat(kuq.getQuotas(username).getJsonObject("config").getString("request_percentage"), is("50"));
-                assertThat(kuq.isPathExist("/config/users/" + kuq.encodeUsername(username)), is(true));
+                assertThat(exists(username), is(true));
+                assertThat(getQuotas(username).getJsonObject("config").getString("consumer_byte_rate"), is("2000000"));
+                assertThat(getQuotas(username).getJsonObject("config").getString("producer_byte_rate"), is("1000000"));
+                assertThat(getQuotas(username).getJsonObject("config").getString("request_percentage"), is("50"));
+                assertThat(isPathExist(username), is(true));
                 async.flag();
             })));
     }
@@ -365,22 +311,20 @@ public class KafkaUserQuotasIT {
         initialQuotas.setProducerByteRate(1_000_000);
         initialQuotas.setRequestPercentage(50);
 
-        kuq.createOrUpdate(username, initialQuotas);
-        assertThat(kuq.exists(username), is(true));
-
         KafkaUserQuotas updatedQuotas = new KafkaUserQuotas();
         updatedQuotas.setConsumerByteRate(4_000_000);
         updatedQuotas.setProducerByteRate(3_000_000);
         updatedQuotas.setRequestPercentage(75);
 
         Checkpoint async = testContext.checkpoint();
-        kuq.reconcile(username, updatedQuotas)
+        kuq.reconcile(username, initialQuotas)
+            .compose(ignored -> kuq.reconcile(username, updatedQuotas))
             .setHandler(testContext.succeeding(rr -> testContext.verify(() -> {
-                assertThat(kuq.exists(username), is(true));
-                assertThat(kuq.getQuotas(username).getJsonObject("config").getString("consumer_byte_rate"), is("4000000"));
-                assertThat(kuq.getQuotas(username).getJsonObject("config").getString("producer_byte_rate"), is("3000000"));
-                assertThat(kuq.getQuotas(username).getJsonObject("config").getString("request_percentage"), is("75"));
-                assertThat(kuq.isPathExist("/config/users/" + kuq.encodeUsername(username)), is(true));
+                assertThat(exists(username), is(true));
+                assertThat(getQuotas(username).getJsonObject("config").getString("consumer_byte_rate"), is("4000000"));
+                assertThat(getQuotas(username).getJsonObject("config").getString("producer_byte_rate"), is("3000000"));
+                assertThat(getQuotas(username).getJsonObject("config").getString("request_percentage"), is("75"));
+                assertThat(isPathExist(username), is(true));
                 async.flag();
             })));
     }
@@ -401,21 +345,19 @@ public class KafkaUserQuotasIT {
         initialQuotas.setProducerByteRate(1_000_000);
         initialQuotas.setRequestPercentage(50);
 
-        kuq.createOrUpdate(username, initialQuotas);
-        assertThat(kuq.exists(username), is(true));
-
         KafkaUserQuotas updatedQuotas = new KafkaUserQuotas();
         updatedQuotas.setConsumerByteRate(4_000_000);
         updatedQuotas.setProducerByteRate(3_000_000);
 
         Checkpoint async = testContext.checkpoint();
-        kuq.reconcile(username, updatedQuotas)
+        kuq.reconcile(username, initialQuotas)
+            .compose(ignored -> kuq.reconcile(username, updatedQuotas))
             .setHandler(testContext.succeeding(rr -> testContext.verify(() -> {
-                assertThat(kuq.exists(username), is(true));
-                assertThat(kuq.getQuotas(username).getJsonObject("config").getString("consumer_byte_rate"), is("4000000"));
-                assertThat(kuq.getQuotas(username).getJsonObject("config").getString("producer_byte_rate"), is("3000000"));
-                assertThat(kuq.getQuotas(username).getJsonObject("config").getString("request_percentage"), is(nullValue()));
-                assertThat(kuq.isPathExist("/config/users/" + kuq.encodeUsername(username)), is(true));
+                assertThat(exists(username), is(true));
+                assertThat(getQuotas(username).getJsonObject("config").getString("consumer_byte_rate"), is("4000000"));
+                assertThat(getQuotas(username).getJsonObject("config").getString("producer_byte_rate"), is("3000000"));
+                assertThat(getQuotas(username).getJsonObject("config").getString("request_percentage"), is(nullValue()));
+                assertThat(isPathExist(username), is(true));
                 async.flag();
             })));
 
@@ -437,13 +379,32 @@ public class KafkaUserQuotasIT {
         initialQuotas.setProducerByteRate(1_000_000);
         initialQuotas.setRequestPercentage(50);
 
-        kuq.createOrUpdate(username, initialQuotas);
-        assertThat(kuq.exists(username), is(true));
-
         Checkpoint async = testContext.checkpoint();
-        kuq.reconcile(username, null)
+        kuq.reconcile(username, initialQuotas)
+            .compose(ignored -> kuq.reconcile(username, null))
             .setHandler(testContext.succeeding(rr -> testContext.verify(() -> {
-                assertThat(kuq.exists(username), is(false));
+                assertThat(exists(username), is(false));
+                async.flag();
+            })));
+    }
+
+    @Test
+    public void testIsUpToDate(VertxTestContext testContext)  {
+        KafkaUserQuotas quotas = new KafkaUserQuotas();
+        quotas.setProducerByteRate(1_000_000);
+        KafkaUserQuotas otherQuotas = new KafkaUserQuotas();
+        otherQuotas.setProducerByteRate(2_000_000);
+
+        Checkpoint async = testContext.checkpoint();
+        kuq.reconcile("upToDateTestUser", quotas)
+            .compose(ignored -> CompositeFuture.all(
+                    kuq.isUpToDate("upToDateTestUser", quotas),
+                    kuq.isUpToDate("upToDateTestUser", otherQuotas),
+                    kuq.isUpToDate("upToDateTestUser", null)))
+            .setHandler(testContext.succeeding(results -> testContext.verify(() -> {
+                assertThat(results.resultAt(0), is(true));
+                assertThat(results.resultAt(1), is(false));
+                assertThat(results.resultAt(2), is(false));
                 async.flag();
             })));
     }
@@ -5,182 +5,233 @@
 package io.strimzi.operator.user.operator;
 
 import io.strimzi.test.EmbeddedZooKeeper;
+import io.vertx.core.CompositeFuture;
+import io.vertx.core.Future;
+import io.vertx.core.Vertx;
 import io.vertx.core.json.JsonObject;
+import io.vertx.junit5.Checkpoint;
+import io.vertx.junit5.VertxExtension;
+import io.vertx.junit5.VertxTestContext;
+import org.I0Itec.zkclient.ZkClient;
+import org.I0Itec.zkclient.serialize.BytesPushThroughSerializer;
 import org.junit.jupiter.api.AfterAll;
 import org.junit.jupiter.api.BeforeAll;
-import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
 
 import java.io.IOException;
 import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
 
 import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
 import static org.hamcrest.CoreMatchers.notNullValue;
 import static org.hamcrest.CoreMatchers.nullValue;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.empty;
 import static org.hamcrest.Matchers.hasItem;
-import static org.junit.jupiter.api.Assertions.assertThrows;
-
+import static org.hamcrest.Matchers.hasItems;
 
+@ExtendWith(VertxExtension.class)
 public class ScramShaCredentialsIT {
 
     private static EmbeddedZooKeeper zkServer;
+    private static Vertx vertx;
+    private static ZkClient zkClient;
+    private static UserConfigWriter writer;
+
+    private final ScramShaCredentials scramShaCred = new ScramShaCredentials();
 
-    private ScramShaCredentials scramShaCred;
+    private final ScramShaCredentialsOperator scramShaCredOperator = new ScramShaCredentialsOperator(vertx, scramShaCred, writer);
 
     @BeforeAll
     public static void startZk() throws IOException, InterruptedException {
+        vertx = Vertx.vertx();
         zkServer = new EmbeddedZooKeeper();
+        zkClient = new ZkClient(zkServer.getZkConnectString(), 6_000, 30_000, new BytesPushThroughSerializer());
+        writer = new UserConfigWriter(vertx, zkServer.getZkConnectString(), 6_000);
     }
 
     @AfterAll
     public static void stopZk() {
+        writer.close();
+        zkClient.close();
+        vertx.close();
         zkServer.close();
     }
 
-    @BeforeEach
-    public void createSTS() {
-        scramShaCred = new ScramShaCredentials(zkServer.getZkConnectString(), 6_000);
+    private static String credentials(String username) {
+        byte[] data = zkClient.readData(UserConfigWriter.USERS_PATH + "/" + username, true);
+        return data == null ? null : new JsonObject(new String(data, StandardCharsets.UTF_8)).getJsonObject("config").getString("SCRAM-SHA-512");
     }
 
     @Test
-    public void testUserExistsAfterCreate() {
-        assertThat(scramShaCred.exists("userExists"), is(false));
-        scramShaCred.createOrUpdate("userExists", "foo-password");
-        assertThat(scramShaCred.exists("userExists"), is(true));
+    public void testCreateOrUpdate(VertxTestContext context) {
+        Checkpoint async = context.checkpoint();
+        scramShaCredOperator.reconcile("normalCreate", "foo-password")
+            .compose(ignored -> scramShaCredOperator.list())
+            .setHandler(context.succeeding(users -> context.verify(() -> {
+                assertThat(credentials("normalCreate"), is(notNullValue()));
+                assertThat(users, hasItem("normalCreate"));
+                async.flag();
+            })));
     }
 
     @Test
-    public void testUserDoeNotExistPriorToCreate() {
-        assertThat(scramShaCred.exists("userNotExists"), is(false));
+    public void testCreateOrUpdateTwiceKeepsTheCredentials(VertxTestContext context) {
+        Checkpoint async = context.checkpoint();
+        scramShaCredOperator.reconcile("doubleCreate", "foo-password")
+            .compose(ignored -> {
+                String created = credentials("doubleCreate");
+                return scramShaCredOperator.reconcile("doubleCreate", "foo-password").map(created);
+            })
+            .setHandler(context.succeeding(created -> context.verify(() -> {
+                assertThat(credentials("doubleCreate"), is(created));
+                async.flag();
+            })));
     }
 
     @Test
-    public void testCreateOrUpdate() {
-        scramShaCred.createOrUpdate("normalCreate", "foo-password");
-        assertThat(scramShaCred.exists("normalCreate"), is(true));
-        assertThat(scramShaCred.isPathExist("/config/users/normalCreate"), is(true));
+    public void testCreateOrUpdatePasswordUpdate(VertxTestContext context) {
+        Checkpoint async = context.checkpoint();
+        scramShaCredOperator.reconcile("changePassword", "changePassword-password")
+            .compose(ignored -> {
+                String created = credentials("changePassword");
+                return scramShaCredOperator.reconcile("changePassword", "changePassword-password2").map(created);
+            })
+            .setHandler(context.succeeding(created -> context.verify(() -> {
+                assertThat(credentials("changePassword"), is(notNullValue()));
+                assertThat(credentials("changePassword"), is(not(created)));
+                async.flag();
+            })));
     }
 
     @Test
-    public void testCreateOrUpdateTwice() {
-        scramShaCred.createOrUpdate("doubleCreate", "foo-password");
-        scramShaCred.createOrUpdate("doubleCreate", "foo-password");
-        assertThat(scramShaCred.exists("doubleCreate"), is(true));
-        assertThat(scramShaCred.isPathExist("/config/users/doubleCreate"), is(true));
+    public void testCredentialsChangedBySomeoneElseAreNotUpToDate(VertxTestContext context) {
+        Checkpoint async = context.checkpoint();
+        scramShaCredOperator.reconcile("changedElsewhere", "foo-password")
+            .compose(ignored -> scramShaCredOperator.isUpToDate("changedElsewhere", "foo-password"))
+            .compose(upToDate -> {
+                context.verify(() -> assertThat(upToDate, is(true)));
+                String credentials = scramShaCred.credentials("changedElsewhere", null, "other-password");
+                return writer.update("changedElsewhere", config -> scramShaCred.updateConfig(config, credentials));
+            })
+            .compose(ignored -> scramShaCredOperator.isUpToDate("changedElsewhere", "foo-password"))
+            .setHandler(context.succeeding(upToDate -> context.verify(() -> {
+                assertThat(upToDate, is(false));
+                async.flag();
+            })));
     }
 
     @Test
-    public void testDelete() {
-        scramShaCred.createOrUpdate("normalDelete", "foo-password");
-        assertThat(scramShaCred.exists("normalDelete"), is(true));
-        assertThat(scramShaCred.isPathExist("/config/users/normalDelete"), is(true));
-        scramShaCred.delete("normalDelete");
-        assertThat(scramShaCred.exists("normalDelete"), is(false));
-        assertThat(scramShaCred.isPathExist("/config/users/normalDelete"), is(false));
+    public void testUserDoesNotExistPriorToCreate(VertxTestContext context) {
+        Checkpoint async = context.checkpoint();
+        scramShaCredOperator.list()
+            .setHandler(context.succeeding(users -> context.verify(() -> {
+                assertThat(credentials("notExists"), is(nullValue()));
+                assertThat(users.contains("notExists"), is(false));
+                async.flag();
+            })));
     }
 
     @Test
-    public void testDeleteTwice() {
-        scramShaCred.createOrUpdate("doubleDelete", "foo-password");
-        assertThat(scramShaCred.exists("doubleDelete"), is(true));
-        assertThat(scramShaCred.isPathExist("/config/users/doubleDelete"), is(true));
-
-        scramShaCred.delete("doubleDelete");
-        scramShaCred.delete("doubleDelete");
-        assertThat(scramShaCred.exists("doubleDelete"), is(false));
-        assertThat(scramShaCred.isPathExist("/config/users/doubleDelete"), is(false));
+    public void testDelete(VertxTestContext context) {
+        Checkpoint async = context.checkpoint();
+        scramShaCredOperator.reconcile("normalDelete", "foo-password")
+            .compose(ignored -> scramShaCredOperator.reconcile("normalDelete", null))
+            .compose(ignored -> scramShaCredOperator.list())
+            .setHandler(context.succeeding(users -> context.verify(() -> {
+                assertThat(zkClient.exists(UserConfigWriter.USERS_PATH + "/normalDelete"), is(false));
+                assertThat(users.contains("normalDelete"), is(false));
+                async.flag();
+            })));
     }
 
     @Test
-    public void testCreateOrUpdatePasswordUpdate() {
-        scramShaCred.createOrUpdate("changePassword", "changePassword-password");
-        scramShaCred.createOrUpdate("changePassword", "changePassword-password2");
-        assertThat(scramShaCred.exists("changePassword"), is(true));
-        assertThat(scramShaCred.isPathExist("/config/users/changePassword"), is(true));
+    public void testDeleteTwice(VertxTestContext context) {
+        Checkpoint async = context.checkpoint();
+        scramShaCredOperator.reconcile("doubleDelete", "foo-password")
+            .compose(ignored -> scramShaCredOperator.reconcile("doubleDelete", null))
+            .compose(ignored -> scramShaCredOperator.reconcile("doubleDelete", null))
+            .compose(ignored -> scramShaCredOperator.list())
+            .setHandler(context.succeeding(users -> context.verify(() -> {
+                assertThat(zkClient.exists(UserConfigWriter.USERS_PATH + "/doubleDelete"), is(false));
+                assertThat(users.contains("doubleDelete"), is(false));
+                async.flag();
+            })));
     }
 
     @Test
-    public void testListListsCreatedUsers() {
-        scramShaCred.createOrUpdate("listSome", "foo-password");
-        assertThat(scramShaCred.list(), hasItem("listSome"));
+    public void testListListsCreatedUsers(VertxTestContext context) {
+        Checkpoint async = context.checkpoint();
+        CompositeFuture.all(
+                scramShaCredOperator.reconcile("listed1", "foo-password"),
+                scramShaCredOperator.reconcile("listed2", "foo-password"))
+            .compose(ignored -> scramShaCredOperator.list())
+            .setHandler(context.succeeding(users -> context.verify(() -> {
+                assertThat(users, hasItems("listed1", "listed2"));
+                async.flag();
+            })));
     }
 
     @Test
-    public void testListWithNoUsersReturnsEmptyList() {
-        // Ensure all users deleted from other tests
-        for (String user : scramShaCred.list()) {
-            scramShaCred.delete(user);
-        }
-        assertThat(scramShaCred.list(), is(empty()));
+    public void testListWithNoUsersReturnsEmptyList(VertxTestContext context) {
+        Checkpoint async = context.checkpoint();
+        scramShaCredOperator.list()
+            .compose(users -> {
+                List<Future> deletes = new ArrayList<>();
+                for (String user : users) {
+                    deletes.add(writer.update(user, config -> scramShaCred.updateConfig(config, null)));
+                }
+                return CompositeFuture.all(deletes);
+            })
+            .compose(ignored -> scramShaCredOperator.list())
+            .setHandler(context.succeeding(users -> context.verify(() -> {
+                assertThat(users, is(empty()));
+                async.flag();
+            })));
     }
 
     @Test
-    public void testValidation()    {
-        JsonObject valid = new JsonObject().put("version", 1);
-        JsonObject invalidEmptyJsonObject = new JsonObject();
-        JsonObject invalidVersion = new JsonObject().put("version", 2);
-
-        scramShaCred.validateJsonVersion(valid);
-
-        assertThrows(RuntimeException.class, () -> scramShaCred.validateJsonVersion(invalidEmptyJsonObject),
-                "Empty JsonObject should cause validate to throw Exception");
-
-        assertThrows(RuntimeException.class, () -> scramShaCred.validateJsonVersion(invalidVersion),
-                "Invalid version (!=1) should cause validate to throw Exception");
+    public void testUserWithInvalidConfigVersionIsNotUpdated(VertxTestContext context) {
+        String path = UserConfigWriter.USERS_PATH + "/invalidVersion";
+        byte[] invalid = new JsonObject().put("version", 2).encode().getBytes(StandardCharsets.UTF_8);
+        zkClient.createPersistent(path, true);
+        zkClient.writeData(path, invalid);
+        Checkpoint async = context.checkpoint();
+        scramShaCredOperator.reconcile("invalidVersion", "foo-password")
+            .setHandler(context.failing(error -> context.verify(() -> {
+                assertThat(zkClient.readData(path), is(invalid));
+                zkClient.delete(path);
+                async.flag();
+            })));
     }
 
     @Test
-    public void testRemoveScramCredentialsFromUserJsonUser()  {
-        JsonObject original = new JsonObject().put("version", 1).put("config", new JsonObject().put("SCRAM-SHA-512", "somecredentials"));
-        JsonObject updated = scramShaCred.removeScramCredentialsFromUserJson(original.encode().getBytes(StandardCharsets.UTF_8));
-        assertThat(updated.getJsonObject("config").getString("SCRAM-SHA-512"), is(nullValue()));
-
-        original = new JsonObject().put("version", 1).put("config", new JsonObject().put("SCRAM-SHA-512", "somecredentials").put("SCRAM-SHA-256", "somecredentials"));
-        updated = scramShaCred.removeScramCredentialsFromUserJson(original.encode().getBytes(StandardCharsets.UTF_8));
-        assertThat(updated.getJsonObject("config").getString("SCRAM-SHA-512"), is(nullValue()));
-        assertThat(updated.getJsonObject("config").getString("SCRAM-SHA-256"), is("somecredentials"));
-
-        original = new JsonObject().put("version", 1).put("config", new JsonObject());
-        updated = scramShaCred.removeScramCredentialsFromUserJson(original.encode().getBytes(StandardCharsets.UTF_8));
-        assertThat(updated.getJsonObject("config").getString("SCRAM-SHA-512"), is(nullValue()));
-
-        original = new JsonObject().put("version", 1).put("config", new JsonObject().put("SCRAM-SHA-256", "somecredentials"));
-        updated = scramShaCred.removeScramCredentialsFromUserJson(original.encode().getBytes(StandardCharsets.UTF_8));
-        assertThat(updated.getJsonObject("config").getString("SCRAM-SHA-512"), is(nullValue()));
-        assertThat(updated.getJsonObject("config").getString("SCRAM-SHA-256"), is("somecredentials"));
+    public void testCredentialsMatchingThePasswordAreKept() {
+        String credentials = scramShaCred.credentials("user", null, "password");
+        assertThat(scramShaCred.credentials("user", credentials, "password"), is(credentials));
+        assertThat(scramShaCred.credentials("user", credentials, "password2"), is(not(credentials)));
+        assertThat(scramShaCred.credentials("user", "invalid", "password"), is(not("invalid")));
     }
 
     @Test
-    public void testRemoveScramCredentialsFromJsonUserPersistsNonScramCredentialKeys()  {
-        JsonObject original = new JsonObject().put("version", 1).put("config", new JsonObject().put("SCRAM-SHA-512", "somecredentials"));
-        String keyThatShouldPersist = "persist";
-        int valueThatShouldPersist = 42;
-        original.getJsonObject("config").put(keyThatShouldPersist, valueThatShouldPersist);
-        JsonObject updated = scramShaCred.removeScramCredentialsFromUserJson(original.encode().getBytes(StandardCharsets.UTF_8));
-        assertThat(updated.getJsonObject("config").getString("SCRAM-SHA-512"), is(nullValue()));
-        assertThat(updated.getJsonObject("config").getInteger(keyThatShouldPersist), is(valueThatShouldPersist));
+    public void testUpdateConfigPersistsNonScramCredentialKeys()  {
+        JsonObject config = new JsonObject().put("SCRAM-SHA-512", "somecredentials").put("SCRAM-SHA-256", "somecredentials");
+        scramShaCred.updateConfig(config, "newcredentials");
+        assertThat(config.getString("SCRAM-SHA-512"), is("newcredentials"));
+        assertThat(config.getString("SCRAM-SHA-256"), is("somecredentials"));
+
+        scramShaCred.updateConfig(config, null);
+        assertThat(config.getString("SCRAM-SHA-512"), is(nullValue()));
+        assertThat(config.getString("SCRAM-SHA-256"), is("somecredentials"));
     }
 
     @Test
-    public void testUpdateUserJson()  {
-        JsonObject original = new JsonObject().put("version", 1).put("config", new JsonObject().put("SCRAM-SHA-512", "somecredentials"));
-        JsonObject updated = new JsonObject(new String(scramShaCred.updateUserJson(original.encode().getBytes(StandardCharsets.UTF_8), "password"), StandardCharsets.UTF_8));
-        assertThat(updated.getJsonObject("config").getString("SCRAM-SHA-512"), is(notNullValue()));
-
-        original = new JsonObject().put("version", 1).put("config", new JsonObject().put("SCRAM-SHA-512", "somecredentials").put("SCRAM-SHA-256", "somecredentials"));
-        updated = new JsonObject(new String(scramShaCred.updateUserJson(original.encode().getBytes(StandardCharsets.UTF_8), "password"), StandardCharsets.UTF_8));
-        assertThat(updated.getJsonObject("config").getString("SCRAM-SHA-512"), is(notNullValue()));
-        assertThat(updated.getJsonObject("config").getString("SCRAM-SHA-256"), is("somecredentials"));
-
-        original = new JsonObject().put("version", 1).put("config", new JsonObject());
-        updated = new JsonObject(new String(scramShaCred.updateUserJson(original.encode().getBytes(StandardCharsets.UTF_8), "password"), StandardCharsets.UTF_8));
-        assertThat(updated.getJsonObject("config").getString("SCRAM-SHA-512"), is(notNullValue()));
-
-        original = new JsonObject().put("version", 1).put("config", new JsonObject().put("SCRAM-SHA-256", "somecredentials"));
-        updated = new JsonObject(new String(scramShaCred.updateUserJson(original.encode().getBytes(StandardCharsets.UTF_8), "password"), StandardCharsets.UTF_8));
-        assertThat(updated.getJsonObject("config").getString("SCRAM-SHA-512"), is(notNullValue()));
-        assertThat(updated.getJsonObject("config").getString("SCRAM-SHA-256"), is("somecredentials"));
+    public void testExists()  {
+        assertThat(scramShaCred.exists("user", new JsonObject()), is(false));
+        assertThat(scramShaCred.exists("user", new JsonObject().put("SCRAM-SHA-512", "invalid")), is(false));
+        assertThat(scramShaCred.exists("user", new JsonObject().put("SCRAM-SHA-512", scramShaCred.credentials("user", null, "password"))), is(true));
     }
 }
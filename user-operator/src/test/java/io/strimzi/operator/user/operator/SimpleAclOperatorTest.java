@@ -24,6 +24,7 @@ import org.apache.kafka.common.acl.AccessControlEntry;
 import org.apache.kafka.common.acl.AclBinding;
 import org.apache.kafka.common.acl.AclBindingFilter;
 import org.apache.kafka.common.acl.AclPermissionType;
+import org.apache.kafka.common.internals.KafkaFutureImpl;
 import org.apache.kafka.common.resource.PatternType;
 import org.apache.kafka.common.resource.ResourcePattern;
 import org.apache.kafka.common.resource.ResourcePatternFilter;
@@ -37,8 +38,10 @@ import org.mockito.ArgumentCaptor;
 
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.LinkedHashSet;
+import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.ExecutionException;
 import java.util.stream.Collectors;
@@ -53,6 +56,8 @@ import static org.hamcrest.Matchers.hasSize;
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(VertxExtension.class)
@@ -165,7 +170,7 @@ public class SimpleAclOperatorTest {
         assertDoesNotThrow(() -> {
             mockDescribeAcls(mockAdminClient, null, Collections.singleton(readAclBinding));
             mockCreateAcls(mockAdminClient, aclBindingsCaptor);
-            mockDeleteAcls(mockAdminClient, Collections.singleton(readAclBinding), aclBindingFiltersCaptor);
+            mockDeleteAcls(mockAdminClient, aclBindingFiltersCaptor);
         });
 
         Checkpoint async = context.checkpoint();
@@ -208,7 +213,7 @@ public class SimpleAclOperatorTest {
         ArgumentCaptor<Collection<AclBindingFilter>> aclBindingFiltersCaptor = ArgumentCaptor.forClass(Collection.class);
         assertDoesNotThrow(() -> {
             mockDescribeAcls(mockAdminClient, null, Collections.singleton(readAclBinding));
-            mockDeleteAcls(mockAdminClient, Collections.singleton(readAclBinding), aclBindingFiltersCaptor);
+            mockDeleteAcls(mockAdminClient, aclBindingFiltersCaptor);
         });
 
         Checkpoint async = context.checkpoint();
@@ -228,6 +233,49 @@ public class SimpleAclOperatorTest {
                 })));
     }
 
+    @Test
+    public void testReconcileUsesSnapshotOfAcls(VertxTestContext context) {
+        Admin mockAdminClient = mock(AdminClient.class);
+        SimpleAclOperator aclOp = new SimpleAclOperator(vertx, mockAdminClient);
+
+        ResourcePattern resource1 = new ResourcePattern(ResourceType.TOPIC, "my-topic", PatternType.LITERAL);
+        ResourcePattern resource2 = new ResourcePattern(ResourceType.TOPIC, "my-topic2", PatternType.LITERAL);
+
+        KafkaPrincipal foo = new KafkaPrincipal(KafkaPrincipal.USER_TYPE, "CN=foo");
+        AclBinding readAclBinding = new AclBinding(resource1, new AccessControlEntry(foo.toString(), "*", org.apache.kafka.common.acl.AclOperation.READ, AclPermissionType.ALLOW));
+        AclBinding writeAclBinding = new AclBinding(resource2, new AccessControlEntry(foo.toString(), "*", org.apache.kafka.common.acl.AclOperation.WRITE, AclPermissionType.ALLOW));
+
+        SimpleAclRuleResource resource = new SimpleAclRuleResource("my-topic2", SimpleAclRuleResourceType.TOPIC, AclResourcePatternType.LITERAL);
+        SimpleAclRule rule1 = new SimpleAclRule(AclRuleType.ALLOW, resource, "*", AclOperation.WRITE);
+
+        ArgumentCaptor<Collection<AclBinding>> aclBindingsCaptor = ArgumentCaptor.forClass(Collection.class);
+        ArgumentCaptor<Collection<AclBindingFilter>> aclBindingFiltersCaptor = ArgumentCaptor.forClass(Collection.class);
+        assertDoesNotThrow(() -> {
+            mockDescribeAcls(mockAdminClient, AclBindingFilter.ANY, Collections.singleton(readAclBinding));
+            mockCreateAcls(mockAdminClient, aclBindingsCaptor);
+            mockDeleteAcls(mockAdminClient, aclBindingFiltersCaptor);
+        });
+        assertThat(aclOp.getUsersWithAcls(), is(Collections.singleton("foo")));
+
+        Checkpoint async = context.checkpoint();
+        aclOp.reconcile("CN=foo", new LinkedHashSet<>(asList(rule1)))
+                .compose(rr -> {
+                    context.verify(() -> {
+                        assertThat(aclBindingsCaptor.getValue(), is(Collections.singleton(writeAclBinding)));
+                        assertThat(aclBindingFiltersCaptor.getValue(), is(Collections.singleton(readAclBinding.toFilter())));
+                    });
+                    // The snapshot has been updated with the changes, so reconciling again changes nothing
+                    return aclOp.reconcile("CN=foo", new LinkedHashSet<>(asList(rule1)));
+                })
+                .setHandler(context.succeeding(rr -> context.verify(() -> {
+                    // Only the snapshot was described
+                    verify(mockAdminClient, times(1)).describeAcls(any());
+                    verify(mockAdminClient, times(1)).createAcls(any());
+                    verify(mockAdminClient, times(1)).deleteAcls(any());
+                    async.flag();
+                })));
+    }
+
     private void mockDescribeAcls(Admin mockAdminClient, AclBindingFilter aclBindingFilter, Collection<AclBinding> aclBindings)
             throws InterruptedException, ExecutionException {
         DescribeAclsResult result = mock(DescribeAclsResult.class);
@@ -237,21 +285,31 @@ public class SimpleAclOperatorTest {
         when(mockAdminClient.describeAcls(aclBindingFilter != null ? aclBindingFilter : any())).thenReturn(result);
     }
 
-    private void mockCreateAcls(Admin mockAdminClient, ArgumentCaptor<Collection<AclBinding>> aclBindingsCaptor)
-            throws InterruptedException, ExecutionException {
-        CreateAclsResult result = mock(CreateAclsResult.class);
-        KafkaFuture<Void> future = mock(KafkaFuture.class);
-        when(future.get()).thenReturn(null);
-        when(result.all()).thenReturn(future);
-        when(mockAdminClient.createAcls(aclBindingsCaptor.capture())).thenReturn(result);
+    private void mockCreateAcls(Admin mockAdminClient, ArgumentCaptor<Collection<AclBinding>> aclBindingsCaptor) {
+        when(mockAdminClient.createAcls(aclBindingsCaptor.capture())).thenAnswer(invocation -> {
+            Map<AclBinding, KafkaFuture<Void>> values = new HashMap<>();
+            for (AclBinding aclBinding : invocation.<Collection<AclBinding>>getArgument(0)) {
+                KafkaFutureImpl<Void> future = new KafkaFutureImpl<>();
+                future.complete(null);
+                values.put(aclBinding, future);
+            }
+            CreateAclsResult result = mock(CreateAclsResult.class);
+            when(result.values()).thenReturn(values);
+            return result;
+        });
     }
 
-    private void mockDeleteAcls(Admin mockAdminClient, Collection<AclBinding> aclBindings, ArgumentCaptor<Collection<AclBindingFilter>> aclBindingFiltersCaptor)
-            throws InterruptedException, ExecutionException {
-        DeleteAclsResult result = mock(DeleteAclsResult.class);
-        KafkaFuture<Collection<AclBinding>> future = mock(KafkaFuture.class);
-        when(future.get()).thenReturn(aclBindings);
-        when(result.all()).thenReturn(future);
-        when(mockAdminClient.deleteAcls(aclBindingFiltersCaptor.capture())).thenReturn(result);
+    private void mockDeleteAcls(Admin mockAdminClient, ArgumentCaptor<Collection<AclBindingFilter>> aclBindingFiltersCaptor) {
+        when(mockAdminClient.deleteAcls(aclBindingFiltersCaptor.capture())).thenAnswer(invocation -> {
+            Map<AclBindingFilter, KafkaFuture<DeleteAclsResult.FilterResults>> values = new HashMap<>();
+            for (AclBindingFilter aclBindingFilter : invocation.<Collection<AclBindingFilter>>getArgument(0)) {
+                KafkaFutureImpl<DeleteAclsResult.FilterResults> future = new KafkaFutureImpl<>();
+                future.complete(mock(DeleteAclsResult.FilterResults.class));
+                values.put(aclBindingFilter, future);
+            }
+            DeleteAclsResult result = mock(DeleteAclsResult.class);
+            when(result.values()).thenReturn(values);
+            return result;
+        });
     }
 }
@@ -0,0 +1,187 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.user.operator;
+
+import io.strimzi.api.kafka.model.KafkaUserQuotas;
+import io.strimzi.test.EmbeddedZooKeeper;
+import io.vertx.core.CompositeFuture;
+import io.vertx.core.Future;
+import io.vertx.core.Vertx;
+import io.vertx.core.json.JsonObject;
+import io.vertx.junit5.Checkpoint;
+import io.vertx.junit5.VertxExtension;
+import io.vertx.junit5.VertxTestContext;
+import org.I0Itec.zkclient.ZkClient;
+import org.I0Itec.zkclient.serialize.BytesPushThroughSerializer;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.notNullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+@ExtendWith(VertxExtension.class)
+public class UserConfigWriterIT {
+
+    private static EmbeddedZooKeeper zkServer;
+    private static Vertx vertx;
+    private static ZkClient zkClient;
+    private static UserConfigWriter writer;
+    private static ScramShaCredentials scramShaCred;
+
+    @BeforeAll
+    public static void before() throws IOException, InterruptedException {
+        vertx = Vertx.vertx();
+        zkServer = new EmbeddedZooKeeper();
+        zkClient = new ZkClient(zkServer.getZkConnectString(), 6_000, 30_000, new BytesPushThroughSerializer());
+        writer = new UserConfigWriter(vertx, zkServer.getZkConnectString(), 6_000);
+        scramShaCred = new ScramShaCredentials();
+    }
+
+    @AfterAll
+    public static void after() {
+        writer.close();
+        zkClient.close();
+        vertx.close();
+        zkServer.close();
+    }
+
+    private static int changes() {
+        return zkClient.exists(UserConfigWriter.CHANGES_PATH) ? zkClient.countChildren(UserConfigWriter.CHANGES_PATH) : 0;
+    }
+
+    private static JsonObject config(String username) {
+        byte[] data = zkClient.readData(UserConfigWriter.USERS_PATH + "/" + UserConfigWriter.encodeUsername(username), true);
+        return data == null ? null : new JsonObject(new String(data, StandardCharsets.UTF_8)).getJsonObject("config");
+    }
+
+    private static KafkaUserQuotas quotas(int producerByteRate) {
+        KafkaUserQuotas quotas = new KafkaUserQuotas();
+        quotas.setProducerByteRate(producerByteRate);
+        return quotas;
+    }
+
+    @Test
+    public void testCredentialsAndQuotasAreWrittenTogether(VertxTestContext context) {
+        int changesBefore = changes();
+        String credentials = scramShaCred.credentials("together", null, "foo-password");
+        Checkpoint async = context.checkpoint();
+        // Submitted in the same event loop turn, so that they're written in the same batch
+        vertx.runOnContext(v -> CompositeFuture.all(
+                writer.update("together", config -> scramShaCred.updateConfig(config, credentials)),
+                writer.update("together", config -> KafkaUserQuotasOperator.updateConfig(config, quotas(1000))))
+            .setHandler(context.succeeding(ignored -> context.verify(() -> {
+                assertThat(config("together").getString("SCRAM-SHA-512"), is(notNullValue()));
+                assertThat(config("together").getString("producer_byte_rate"), is("1000"));
+                assertThat(scramShaCred.exists("together", config("together")), is(true));
+                // A single notification for both changes
+                assertThat(changes(), is(changesBefore + 1));
+                async.flag();
+            }))));
+    }
+
+    @Test
+    public void testManyUsersAreWritten(VertxTestContext context) {
+        int users = UserConfigWriter.MAX_BATCH_SIZE * 2 + 10;
+        int changesBefore = changes();
+        List<Future> updates = new ArrayList<>();
+        for (int i = 0; i < users; i++) {
+            updates.add(writer.update("CN=user-" + i, config -> KafkaUserQuotasOperator.updateConfig(config, quotas(2000))));
+        }
+        Checkpoint async = context.checkpoint();
+        CompositeFuture.all(updates).setHandler(context.succeeding(ignored -> context.verify(() -> {
+            for (int i = 0; i < users; i++) {
+                assertThat(config("CN=user-" + i).getString("producer_byte_rate"), is("2000"));
+            }
+            assertThat(changes(), is(changesBefore + users));
+            async.flag();
+        })));
+    }
+
+    @Test
+    public void testUnchangedConfigIsNotWritten(VertxTestContext context) {
+        ScramShaCredentialsOperator scramShaCredOperator = new ScramShaCredentialsOperator(vertx, scramShaCred, writer);
+        Checkpoint async = context.checkpoint();
+        scramShaCredOperator.reconcile("unchanged", "foo-password")
+            .compose(ignored -> {
+                int changesBefore = changes();
+                String credentials = config("unchanged").getString("SCRAM-SHA-512");
+                return scramShaCredOperator.reconcile("unchanged", "foo-password")
+                    .setHandler(context.succeeding(ignored2 -> context.verify(() -> {
+                        // The existing credentials match the password, so they're kept
+                        assertThat(config("unchanged").getString("SCRAM-SHA-512"), is(credentials));
+                        assertThat(changes(), is(changesBefore));
+                        async.flag();
+                    })));
+            });
+    }
+
+    @Test
+    public void testEmptyConfigIsDeleted(VertxTestContext context) {
+        Checkpoint async = context.checkpoint();
+        writer.update("deleted", config -> KafkaUserQuotasOperator.updateConfig(config, quotas(3000)))
+            .compose(ignored -> writer.update("deleted", config -> KafkaUserQuotasOperator.updateConfig(config, null)))
+            .setHandler(context.succeeding(ignored -> context.verify(() -> {
+                assertThat(zkClient.exists(UserConfigWriter.USERS_PATH + "/deleted"), is(false));
+                async.flag();
+            })));
+    }
+
+    @Test
+    public void testUserWhichCantBeWrittenDoesNotFailTheOthers(VertxTestContext context) {
+        // A znode with children can't be deleted, so deleting the configuration of this user fails
+        String path = UserConfigWriter.USERS_PATH + "/undeletable";
+        zkClient.createPersistent(path + "/child", true);
+        zkClient.writeData(path, new JsonObject().put("version", 1).put("config", new JsonObject().put("producer_byte_rate", "1000"))
+                .encode().getBytes(StandardCharsets.UTF_8));
+        Checkpoint async = context.checkpoint();
+        // Submitted in the same event loop turn, so that they're written in the same batch
+        vertx.runOnContext(v -> {
+            Future<Void> undeletable = writer.update("undeletable", config -> KafkaUserQuotasOperator.updateConfig(config, null));
+            Future<Void> writable = writer.update("writable", config -> KafkaUserQuotasOperator.updateConfig(config, quotas(4000)));
+            CompositeFuture.join(undeletable, writable).setHandler(ignored -> context.verify(() -> {
+                assertThat(undeletable.failed(), is(true));
+                assertThat(writable.succeeded(), is(true));
+                assertThat(config("writable").getString("producer_byte_rate"), is("4000"));
+                assertThat(config("undeletable").getString("producer_byte_rate"), is("1000"));
+                async.flag();
+            }));
+        });
+    }
+
+    @Test
+    public void testConfigsListsAllUsers(VertxTestContext context) {
+        Checkpoint async = context.checkpoint();
+        CompositeFuture.all(
+                writer.update("listed1", config -> KafkaUserQuotasOperator.updateConfig(config, quotas(5000))),
+                writer.update("CN=listed2", config -> KafkaUserQuotasOperator.updateConfig(config, quotas(6000))))
+            .compose(ignored -> writer.configs())
+            .setHandler(context.succeeding(configs -> context.verify(() -> {
+                assertThat(configs.get("listed1").getString("producer_byte_rate"), is("5000"));
+                assertThat(configs.get(UserConfigWriter.encodeUsername("CN=listed2")).getString("producer_byte_rate"), is("6000"));
+                async.flag();
+            })));
+    }
+
+    @Test
+    public void testConfigWithInvalidVersionFails(VertxTestContext context) {
+        zkClient.createPersistent(UserConfigWriter.USERS_PATH + "/invalidVersion", true);
+        zkClient.writeData(UserConfigWriter.USERS_PATH + "/invalidVersion", new JsonObject().put("version", 2).encode().getBytes(StandardCharsets.UTF_8));
+        Checkpoint async = context.checkpoint();
+        writer.config("invalidVersion").setHandler(context.failing(error -> context.verify(() -> {
+            assertThat(error, instanceOf(RuntimeException.class));
+            zkClient.delete(UserConfigWriter.USERS_PATH + "/invalidVersion");
+            async.flag();
+        })));
+    }
+}